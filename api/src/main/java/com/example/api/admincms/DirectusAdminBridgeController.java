@@ -334,6 +334,8 @@ public class DirectusAdminBridgeController {
             );
             case "site_settings", "site-settings" -> cacheService.invalidateSiteSettings();
             case "navigation" -> cacheService.invalidateNavigation(requestBody != null ? requestBody.placement() : null);
+            case "product_overlay", "product-overlay" -> cacheService.invalidateProductOverlay(requestBody != null ? requestBody.key() : null);
+            case "category_overlay", "category-overlay" -> cacheService.invalidateCategoryOverlay(requestBody != null ? requestBody.key() : null);
             case "all" -> cacheService.invalidateAll();
             default -> throw new IllegalArgumentException("Unsupported content cache scope: " + scope);
         };
@@ -40,6 +40,7 @@ import com.example.catalog.domain.ProductVariant;
 import com.example.catalog.repository.ProductRepository;
 import com.example.catalog.repository.ProductVariantRepository;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogVersionService;
 import com.example.catalog.service.InventoryService;
 import com.example.common.domain.Money;
 import com.example.order.domain.Order;
@@ -135,6 +136,7 @@ public class DirectusAdminService {
     private final ShipmentRepository shipmentRepository;
     private final PaymentService paymentService;
     private MetrikaOutboxService metrikaOutboxService;
+    private CatalogVersionService catalogVersionService;
 
     public DirectusAdminService(
             OrderRepository orderRepository,
@@ -273,6 +275,11 @@ public class DirectusAdminService {
         this.metrikaOutboxService = metrikaOutboxService;
     }
 
+    @Autowired(required = false)
+    public void setCatalogVersionService(CatalogVersionService catalogVersionService) {
+        this.catalogVersionService = catalogVersionService;
+    }
+
     public OrderSearchResponse searchOrders(String status,
                                             String manager,
                                             OffsetDateTime from,
@@ -1010,11 +1017,20 @@ public class DirectusAdminService {
                     .map(this::toPromotionTarget)
                     .forEach(promotion::addTarget);
         }
-        return toPromotionView(promotionRepository.save(promotion));
+        PromotionView saved = toPromotionView(promotionRepository.save(promotion));
+        promotionsChanged();
+        return saved;
     }
 
     public void deletePromotion(UUID id) {
         promotionRepository.deleteById(id);
+        promotionsChanged();
+    }
+
+    private void promotionsChanged() {
+        if (catalogVersionService != null) {
+            catalogVersionService.changed();
+        }
     }
 
     public List<PromoCodeView> listPromoCodes() {
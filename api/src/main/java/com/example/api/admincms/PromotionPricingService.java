@@ -22,7 +22,9 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class PromotionPricingService implements CartPricingService {
@@ -199,6 +201,15 @@ public class PromotionPricingService implements CartPricingService {
         return result;
     }
 
+    /**
+     * Ids of the promotions in effect right now; changes whenever a promotion window opens or closes.
+     */
+    public Set<UUID> activePromotionIds() {
+        return activePromotions().stream()
+                .map(Promotion::getId)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
     private List<Promotion> activePromotions() {
         return promotionRepository.findByStatusIgnoreCase("ACTIVE").stream()
                 .filter(this::isActiveNow)
@@ -6,6 +6,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 
@@ -17,30 +18,44 @@ import java.util.UUID;
 public class BrandController {
 
     private final CatalogService catalogService;
+    private final CatalogueEtagService etagService;
 
     @Autowired
-    public BrandController(CatalogService catalogService) {
+    public BrandController(CatalogService catalogService, CatalogueEtagService etagService) {
         this.catalogService = catalogService;
+        this.etagService = etagService;
     }
 
     @GetMapping
-    public ResponseEntity<List<Brand>> listBrands() {
+    public ResponseEntity<List<Brand>> listBrands(WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         List<Brand> brands = catalogService.listAllInBrand();
-        return ResponseEntity.ok(brands);
+        return CatalogueEtagService.ok(etag).body(brands);
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<Brand> getBrandBySlug(@PathVariable String slug) {
+    public ResponseEntity<Brand> getBrandBySlug(@PathVariable String slug, WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         Brand brand = catalogService.getByBrandSlug(slug).orElseThrow(() ->
                 new IllegalArgumentException("Brand not found: " + slug));
-        return ResponseEntity.ok(brand);
+        return CatalogueEtagService.ok(etag).body(brand);
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<Brand> getBrandById(@PathVariable UUID id) {
+    public ResponseEntity<Brand> getBrandById(@PathVariable UUID id, WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         Brand brand = catalogService.getById(id).orElseThrow(() ->
                 new IllegalArgumentException("Brand not found: " + id));
-        return ResponseEntity.ok(brand);
+        return CatalogueEtagService.ok(etag).body(brand);
     }
 
     @PostMapping
@@ -4,24 +4,38 @@ import com.example.api.content.CatalogueContentModels;
 import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.ProductCursor;
+import com.example.catalog.service.ProductFacetService;
+import com.example.catalog.service.ProductSearchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -33,23 +47,43 @@ public class CatalogController {
 
     private static final int DEFAULT_PAGE_SIZE = 48;
     private static final int MAX_PAGE_SIZE = 96;
+    private static final CacheControl PREVIEW_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final String SENDFILE_SUPPORT_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
 
     private final CatalogService catalogService;
     private final ProductImageStorageService imageStorageService;
     private final CatalogueResponseFactory responseFactory;
     private final CataloguePresentationService presentationService;
+    private final ProductSearchService searchService;
+    private final ProductFacetService facetService;
+    private final CatalogueEtagService etagService;
+    private final ProductResponseCache responseCache;
+    private final ProductImageDiskCache imageDiskCache;
 
     @Autowired
     public CatalogController(
             CatalogService catalogService,
             ProductImageStorageService imageStorageService,
             CatalogueResponseFactory responseFactory,
-            CataloguePresentationService presentationService
+            CataloguePresentationService presentationService,
+            ProductSearchService searchService,
+            ProductFacetService facetService,
+            CatalogueEtagService etagService,
+            ProductResponseCache responseCache,
+            ProductImageDiskCache imageDiskCache
     ) {
         this.catalogService = catalogService;
         this.imageStorageService = imageStorageService;
         this.responseFactory = responseFactory;
         this.presentationService = presentationService;
+        this.searchService = searchService;
+        this.facetService = facetService;
+        this.etagService = etagService;
+        this.responseCache = responseCache;
+        this.imageDiskCache = imageDiskCache;
     }
 
     @PostMapping
@@ -134,7 +168,7 @@ public class CatalogController {
             throw new IllegalArgumentException("Не переданы файлы изображений");
         }
         catalogService.getProduct(productId).orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
-        int startPosition = position != null ? position : catalogService.getProductImages(productId).size();
+        int startPosition = position != null ? position : catalogService.nextProductImagePosition(productId);
         List<ImageResponse> responses = new ArrayList<>();
         int offset = 0;
         for (MultipartFile file : files) {
@@ -147,24 +181,80 @@ public class CatalogController {
     }
 
     @GetMapping("/{productId}/images")
-    public ResponseEntity<List<ImageResponse>> listProductImages(@PathVariable UUID productId) {
+    public ResponseEntity<List<ImageResponse>> listProductImages(@PathVariable UUID productId, WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         var images = catalogService.getProductImages(productId).stream()
                 .map(responseFactory::toImageResponse)
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(images);
+        return CatalogueEtagService.ok(etag).body(images);
     }
 
+    /**
+     * Serves the original from the local disk cache: through Tomcat sendfile for whole-file requests when
+     * the connector supports it, otherwise as a file resource so Spring answers {@code Range} requests.
+     * Falls back to streaming from object storage when the disk cache is unavailable.
+     */
     @GetMapping("/images/{imageId}/preview")
-    public ResponseEntity<byte[]> previewProductImage(@PathVariable UUID imageId) {
+    public ResponseEntity<Resource> previewProductImage(@PathVariable UUID imageId,
+                                                        WebRequest webRequest,
+                                                        HttpServletRequest request,
+                                                        HttpServletResponse response) throws IOException {
         var image = catalogService.getProductImage(imageId);
-        var content = imageStorageService.download(image.getObjectKey());
-        MediaType contentType = content.contentType() != null && !content.contentType().isBlank()
-                ? MediaType.parseMediaType(content.contentType())
-                : MediaType.APPLICATION_OCTET_STREAM;
+        String objectKey = image.getObjectKey();
+        String etag = "\"" + DigestUtils.md5DigestAsHex(objectKey.getBytes(StandardCharsets.UTF_8)) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        var cached = imageDiskCache.get(objectKey, target -> imageStorageService.downloadTo(objectKey, target));
+        if (cached.isEmpty()) {
+            var stored = imageStorageService.openStream(objectKey);
+            try (InputStream stream = stored.stream()) {
+                writePreviewHeaders(response, etag, stored.contentType(), stored.contentLength(), false);
+                stream.transferTo(response.getOutputStream());
+            }
+            return null;
+        }
+        var file = cached.get();
+        if (request.getHeader(HttpHeaders.RANGE) == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTRIBUTE))) {
+            writePreviewHeaders(response, etag, file.contentType(), file.size(), true);
+            request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.path().toString());
+            request.setAttribute(SENDFILE_START_ATTRIBUTE, 0L);
+            request.setAttribute(SENDFILE_END_ATTRIBUTE, file.size());
+            return null;
+        }
         return ResponseEntity.ok()
-                .cacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
-                .contentType(contentType)
-                .body(content.bytes());
+                .cacheControl(PREVIEW_CACHE_CONTROL)
+                .eTag(etag)
+                .contentType(previewContentType(file.contentType()))
+                .body(new FileSystemResource(file.path()));
+    }
+
+    /**
+     * Headers for a preview written straight to the response. {@code acceptRanges} is only set when the
+     * image is served from the disk cache, whose file resource path answers Range requests; the storage
+     * stream fallback always sends the whole object.
+     */
+    private void writePreviewHeaders(HttpServletResponse response, String etag, String contentType, Long contentLength,
+                                     boolean acceptRanges) {
+        response.setStatus(HttpStatus.OK.value());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, PREVIEW_CACHE_CONTROL.getHeaderValue());
+        response.setHeader(HttpHeaders.ETAG, etag);
+        if (acceptRanges) {
+            response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        }
+        response.setContentType(previewContentType(contentType).toString());
+        if (contentLength != null && contentLength >= 0) {
+            response.setContentLengthLong(contentLength);
+        }
+    }
+
+    private MediaType previewContentType(String contentType) {
+        return contentType != null && !contentType.isBlank()
+                ? MediaType.parseMediaType(contentType)
+                : MediaType.APPLICATION_OCTET_STREAM;
     }
 
     @DeleteMapping("/{productId}/images/{imageId}")
@@ -183,15 +273,26 @@ public class CatalogController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ProductResponse> getProductById(@PathVariable UUID id,
-                                                          @RequestParam(defaultValue = "false") boolean includeInactive) {
-        var product = catalogService.getProduct(id).orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
-        if (!includeInactive && !product.isIsActive()) {
+    public ResponseEntity<byte[]> getProductById(@PathVariable UUID id,
+                                                 @RequestParam(defaultValue = "false") boolean includeInactive,
+                                                 WebRequest webRequest) {
+        boolean gzip = ProductResponseCache.acceptsGzip(webRequest != null ? webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING) : null);
+        String etag = ProductResponseCache.encodingEtag(etagService.currentEtag(), gzip);
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
+        ProductResponseCache.EncodedResponse encoded = responseCache.getOrRender(id, () -> {
+            var product = catalogService.getProduct(id).orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
+            return new ProductResponseCache.Rendered(
+                    responseFactory.toProductResponse(product, presentationService.buildPublishedProductPresentation(product).presentation()),
+                    product.isIsActive(),
+                    product.getSlug()
+            );
+        });
+        if (!includeInactive && !encoded.active()) {
             throw new IllegalArgumentException("Product not found: " + id);
         }
-        return ResponseEntity.ok(
-                responseFactory.toProductResponse(product, presentationService.buildPublishedProductPresentation(product).presentation())
-        );
+        return ProductResponseCache.toResponse(CatalogueEtagService.ok(etag), encoded, gzip);
     }
 
     @GetMapping
@@ -199,21 +300,37 @@ public class CatalogController {
                                                              @RequestParam(required = false) String brand,
                                                              @RequestParam(defaultValue = "false") boolean includeInactive,
                                                              @RequestParam(defaultValue = "0") int page,
-                                                             @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size) {
+                                                             @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+                                                             @RequestParam(required = false) String after,
+                                                             @RequestParam(defaultValue = "false") boolean includeTotal,
+                                                             @RequestParam(defaultValue = "name") String sort,
+                                                             @RequestParam(required = false) List<String> colorCode,
+                                                             @RequestParam(required = false) List<String> sizeCode,
+                                                             @RequestParam(required = false) Long minPrice,
+                                                             @RequestParam(required = false) Long maxPrice,
+                                                             @RequestParam(defaultValue = "false") boolean inStock,
+                                                             WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         int safePage = Math.max(0, page);
         int safeSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
-        PageRequest pageable = PageRequest.of(safePage, safeSize, Sort.by(Sort.Direction.ASC, "name"));
-        Page<Product> source = catalogService.getProducts(category, brand, includeInactive, pageable);
+        var facetQuery = facetQuery(category, brand, colorCode, sizeCode, minPrice, maxPrice, inStock, includeInactive);
+        if (after != null) {
+            if (facetQuery.hasFacetFilters()) {
+                throw new IllegalArgumentException("Cursor paging does not support facet filters");
+            }
+            return getProductsAfter(category, brand, includeInactive, ProductCursor.decode(after), safeSize, includeTotal, etag);
+        }
+        PageRequest pageable = PageRequest.of(safePage, safeSize, listingSort(sort));
+        Page<Product> source = facetQuery.hasFacetFilters()
+                ? facetService.getProducts(facetQuery, pageable)
+                : catalogService.getProducts(category, brand, includeInactive, pageable);
         List<Product> products = source.getContent();
         var presentations = presentationService.buildPublishedProductPresentationResults(products);
-        var response = products.stream()
-                .map(product -> responseFactory.toProductResponse(
-                        product,
-                        presentationFor(product, presentations).presentation()
-                ))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+        var response = responseFactory.toProductResponses(products, product -> presentationFor(product, presentations).presentation());
+        return CatalogueEtagService.ok(etag)
                 .header("X-Page", String.valueOf(source.getNumber()))
                 .header("X-Page-Size", String.valueOf(source.getSize()))
                 .header("X-Total-Count", String.valueOf(source.getTotalElements()))
@@ -221,6 +338,95 @@ public class CatalogController {
                 .body(response);
     }
 
+    @GetMapping("/facets")
+    public ResponseEntity<ProductFacetService.Facets> getProductFacets(@RequestParam(required = false) String category,
+                                                                       @RequestParam(required = false) String brand,
+                                                                       @RequestParam(defaultValue = "false") boolean includeInactive,
+                                                                       @RequestParam(required = false) List<String> colorCode,
+                                                                       @RequestParam(required = false) List<String> sizeCode,
+                                                                       @RequestParam(required = false) Long minPrice,
+                                                                       @RequestParam(required = false) Long maxPrice,
+                                                                       @RequestParam(defaultValue = "false") boolean inStock,
+                                                                       WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
+        var facetQuery = facetQuery(category, brand, colorCode, sizeCode, minPrice, maxPrice, inStock, includeInactive);
+        return CatalogueEtagService.ok(etag)
+                .body(facetService.getFacets(facetQuery));
+    }
+
+    private ProductFacetService.FacetQuery facetQuery(String category,
+                                                      String brand,
+                                                      List<String> colors,
+                                                      List<String> sizes,
+                                                      Long minPrice,
+                                                      Long maxPrice,
+                                                      boolean inStock,
+                                                      boolean includeInactive) {
+        Set<String> brands = brand == null ? Set.of() : Arrays.stream(brand.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .collect(Collectors.toSet());
+        return new ProductFacetService.FacetQuery(category, brands, Set.copyOf(colors != null ? colors : List.of()),
+                Set.copyOf(sizes != null ? sizes : List.of()), minPrice, maxPrice, inStock, includeInactive);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<ProductResponse>> searchProducts(@RequestParam(name = "q", defaultValue = "") String query,
+                                                                @RequestParam(defaultValue = "false") boolean includeInactive,
+                                                                @RequestParam(defaultValue = "0") int page,
+                                                                @RequestParam(defaultValue = "" + DEFAULT_PAGE_SIZE) int size,
+                                                                WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
+        int safePage = Math.max(0, page);
+        int safeSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Page<Product> source = searchService.search(query, includeInactive, PageRequest.of(safePage, safeSize));
+        List<Product> products = source.getContent();
+        var presentations = presentationService.buildPublishedProductPresentationResults(products);
+        var response = responseFactory.toProductResponses(products, product -> presentationFor(product, presentations).presentation());
+        return CatalogueEtagService.ok(etag)
+                .header("X-Page", String.valueOf(source.getNumber()))
+                .header("X-Page-Size", String.valueOf(source.getSize()))
+                .header("X-Total-Count", String.valueOf(source.getTotalElements()))
+                .header("X-Total-Pages", String.valueOf(source.getTotalPages()))
+                .body(response);
+    }
+
+    private Sort listingSort(String sort) {
+        return switch (sort == null ? "name" : sort.trim().toLowerCase()) {
+            case "price_asc" -> Sort.by(Sort.Direction.ASC, "minPrice");
+            case "price_desc" -> Sort.by(Sort.Direction.DESC, "minPrice");
+            default -> Sort.by(Sort.Direction.ASC, "name");
+        };
+    }
+
+    private ResponseEntity<List<ProductResponse>> getProductsAfter(String category,
+                                                                   String brand,
+                                                                   boolean includeInactive,
+                                                                   ProductCursor after,
+                                                                   int size,
+                                                                   boolean includeTotal,
+                                                                   String etag) {
+        Slice<Product> source = catalogService.getProductsAfter(category, brand, includeInactive, after, size);
+        List<Product> products = source.getContent();
+        var presentations = presentationService.buildPublishedProductPresentationResults(products);
+        var response = responseFactory.toProductResponses(products, product -> presentationFor(product, presentations).presentation());
+        var builder = CatalogueEtagService.ok(etag)
+                .header("X-Page-Size", String.valueOf(size));
+        if (source.hasNext() && !products.isEmpty()) {
+            builder.header("X-Next-Cursor", ProductCursor.of(products.get(products.size() - 1)).encode());
+        }
+        if (includeTotal) {
+            builder.header("X-Total-Count", String.valueOf(catalogService.countProducts(category, brand, includeInactive)));
+        }
+        return builder.body(response);
+    }
+
     private CataloguePresentationModels.OverlayMergeResult presentationFor(
             Product product,
             java.util.Map<String, CataloguePresentationModels.OverlayMergeResult> presentations
@@ -254,8 +460,7 @@ public class CatalogController {
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable UUID id) {
-        var images = catalogService.getProductImages(id);
-        images.forEach(img -> imageStorageService.delete(img.getObjectKey()));
+        catalogService.getProductImageObjectKeys(id).forEach(imageStorageService::delete);
         catalogService.deleteProduct(id);
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,183 @@
+package com.example.api.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable compressed trie over normalized names and slugs. Every word start of a name is a key, so
+ * {@code "пух"} finds "Подушка пуховая". Each node keeps the best entries of its subtree per kind, so a
+ * lookup is one walk down the prefix and never visits the subtree.
+ */
+final class CatalogSuggestIndex {
+
+    static final int MAX_PER_KIND = 10;
+    private static final int MAX_WORD_STARTS = 6;
+    private static final Comparator<Entry> RANK = Comparator
+            .comparingLong(Entry::weight).reversed()
+            .thenComparingInt(entry -> entry.name().length())
+            .thenComparing(Entry::name);
+
+    private static final CatalogSuggestIndex EMPTY = new CatalogSuggestIndex(null);
+
+    private final Node root;
+
+    private CatalogSuggestIndex(Node root) {
+        this.root = root;
+    }
+
+    static CatalogSuggestIndex build(Collection<Entry> entries) {
+        List<Key> keys = new ArrayList<>();
+        for (Entry entry : entries) {
+            entry.keys().forEach(key -> keys.add(new Key(key, entry)));
+        }
+        if (keys.isEmpty()) {
+            return EMPTY;
+        }
+        keys.sort(Comparator.comparing(Key::text));
+        return new CatalogSuggestIndex(node(keys, 0, keys.size(), 0));
+    }
+
+    /**
+     * The best entries of {@code kind} whose keys start with the normalized {@code prefix}.
+     */
+    List<Entry> lookup(String prefix, Kind kind, int limit) {
+        String normalized = normalize(prefix);
+        if (root == null || normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Node node = root;
+        int position = 0;
+        while (true) {
+            String label = node.label;
+            int matched = 0;
+            while (matched < label.length() && position < normalized.length()) {
+                if (label.charAt(matched) != normalized.charAt(position)) {
+                    return List.of();
+                }
+                matched++;
+                position++;
+            }
+            if (position == normalized.length()) {
+                Entry[] top = node.top[kind.ordinal()];
+                return List.of(top.length <= limit ? top : Arrays.copyOf(top, limit));
+            }
+            int child = Arrays.binarySearch(node.firsts, normalized.charAt(position));
+            if (child < 0) {
+                return List.of();
+            }
+            node = node.children[child];
+        }
+    }
+
+    /**
+     * Lower case, {@code ё} folded to {@code е}, every run of other characters collapsed to one space.
+     */
+    static String normalize(String text) {
+        if (text == null || text.isBlank()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+        StringBuilder normalized = new StringBuilder(lower.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                pendingSpace = false;
+                normalized.append(c);
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * The normalized texts and each of their first word starts, without duplicates.
+     */
+    static List<String> keys(String... texts) {
+        Set<String> keys = new LinkedHashSet<>();
+        for (String text : texts) {
+            String normalized = normalize(text);
+            int start = 0;
+            for (int word = 0; word < MAX_WORD_STARTS && start >= 0 && start < normalized.length(); word++) {
+                keys.add(normalized.substring(start));
+                int space = normalized.indexOf(' ', start);
+                start = space < 0 ? -1 : space + 1;
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private static Node node(List<Key> keys, int from, int to, int depth) {
+        String first = keys.get(from).text();
+        String last = keys.get(to - 1).text();
+        int end = depth;
+        while (end < first.length() && end < last.length() && first.charAt(end) == last.charAt(end)) {
+            end++;
+        }
+        List<List<Entry>> candidates = new ArrayList<>();
+        for (int kind = 0; kind < Kind.values().length; kind++) {
+            candidates.add(new ArrayList<>());
+        }
+        int index = from;
+        while (index < to && keys.get(index).text().length() == end) {
+            Entry entry = keys.get(index).entry();
+            candidates.get(entry.kind().ordinal()).add(entry);
+            index++;
+        }
+        List<Character> firsts = new ArrayList<>();
+        List<Node> children = new ArrayList<>();
+        while (index < to) {
+            char next = keys.get(index).text().charAt(end);
+            int groupEnd = index + 1;
+            while (groupEnd < to && keys.get(groupEnd).text().charAt(end) == next) {
+                groupEnd++;
+            }
+            Node child = node(keys, index, groupEnd, end);
+            firsts.add(next);
+            children.add(child);
+            for (int kind = 0; kind < child.top.length; kind++) {
+                candidates.get(kind).addAll(Arrays.asList(child.top[kind]));
+            }
+            index = groupEnd;
+        }
+        Entry[][] top = new Entry[candidates.size()][];
+        for (int kind = 0; kind < top.length; kind++) {
+            top[kind] = candidates.get(kind).stream()
+                    .distinct()
+                    .sorted(RANK)
+                    .limit(MAX_PER_KIND)
+                    .toArray(Entry[]::new);
+        }
+        char[] firstChars = new char[firsts.size()];
+        for (int i = 0; i < firstChars.length; i++) {
+            firstChars[i] = firsts.get(i);
+        }
+        return new Node(first.substring(depth, end), firstChars, children.toArray(Node[]::new), top);
+    }
+
+    enum Kind {
+        PRODUCT,
+        CATEGORY,
+        BRAND
+    }
+
+    record Entry(Kind kind, UUID id, String name, String slug, long weight, List<String> keys) {
+    }
+
+    private record Key(String text, Entry entry) {
+    }
+
+    private record Node(String label, char[] firsts, Node[] children, Entry[][] top) {
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.service.CatalogChangeListener;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.order.service.ProductSalesService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Search-as-you-type over product, category and brand names and slugs, answered from an in-memory
+ * {@link CatalogSuggestIndex}. Products are weighted by recent units sold, categories and brands by the
+ * sales of their active products. Commits arrive on the snapshot refresher thread, never the committing
+ * one. Product commits re-analyze only the changed products and skip the repack when none of them changed
+ * a name, slug or active flag; category or brand writes and the periodic sales refresh rebuild every
+ * entry. Without a snapshot a full commit only marks the index stale, so it is reloaded once on the next
+ * lookup instead of on every commit.
+ */
+@Service
+public class CatalogSuggestService implements CatalogChangeListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSuggestService.class);
+    private static final int SALES_LIMIT = 5000;
+
+    private final CatalogService catalogService;
+    private final ProductSalesService productSalesService;
+    private final ProductSalesService.SalesWindow salesWindow;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile State state;
+    private volatile boolean stale;
+
+    public CatalogSuggestService(CatalogService catalogService,
+                                 ProductSalesService productSalesService,
+                                 @Value("${catalogue.suggest.sales-window:30d}") String salesWindow) {
+        this.catalogService = catalogService;
+        this.productSalesService = productSalesService;
+        ProductSalesService.SalesWindow parsed = ProductSalesService.SalesWindow.parse(salesWindow);
+        this.salesWindow = parsed != null ? parsed : ProductSalesService.SalesWindow.LAST_30_DAYS;
+    }
+
+    public Suggestions suggest(String query, int limit) {
+        CatalogSuggestIndex index = index();
+        return new Suggestions(
+                suggestions(index, query, CatalogSuggestIndex.Kind.PRODUCT, limit),
+                suggestions(index, query, CatalogSuggestIndex.Kind.CATEGORY, limit),
+                suggestions(index, query, CatalogSuggestIndex.Kind.BRAND, limit)
+        );
+    }
+
+    /**
+     * Reloads the sales weights and rebuilds the index; the first run also warms it at startup.
+     */
+    @Scheduled(fixedDelayString = "${catalogue.suggest.sales-refresh-fixed-delay-ms:600000}")
+    public void refreshSales() {
+        Map<UUID, Long> sales;
+        try {
+            sales = productSalesService.unitsSold(salesWindow, SALES_LIMIT);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh suggestion sales weights", ex);
+            if (state != null) {
+                return;
+            }
+            sales = Map.of();
+        }
+        lock.lock();
+        try {
+            state = build(catalogService.getAllProducts(), catalogService.listAllInCategory(), catalogService.listAllInBrand(), sales);
+            stale = false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        lock.lock();
+        try {
+            State current = state;
+            if (current == null || stale) {
+                return;
+            }
+            if (full) {
+                if (snapshot != null) {
+                    state = build(snapshot.products(), snapshot.categories(), snapshot.brands(), current.sales());
+                } else {
+                    stale = true;
+                }
+                return;
+            }
+            Map<UUID, Product> changed = new HashMap<>();
+            if (snapshot != null) {
+                productIds.forEach(productId -> snapshot.product(productId).ifPresent(product -> changed.put(productId, product)));
+            } else {
+                catalogService.getProductsByIds(List.copyOf(productIds)).forEach(product -> changed.put(product.getId(), product));
+            }
+            Map<UUID, CatalogSuggestIndex.Entry> products = new HashMap<>(current.products());
+            boolean modified = false;
+            for (UUID productId : productIds) {
+                Product product = changed.get(productId);
+                CatalogSuggestIndex.Entry next = product != null && product.isIsActive() ? productEntry(product, current.sales()) : null;
+                CatalogSuggestIndex.Entry previous = next != null ? products.put(productId, next) : products.remove(productId);
+                modified |= !sameKeys(previous, next);
+            }
+            if (modified) {
+                state = new State(products, current.others(), current.sales(), index(products.values(), current.others()));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CatalogSuggestIndex index() {
+        return state().index();
+    }
+
+    private State state() {
+        State current = state;
+        if (current != null && !stale) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (state == null || stale) {
+                Map<UUID, Long> sales = state != null ? state.sales() : Map.of();
+                state = build(catalogService.getAllProducts(), catalogService.listAllInCategory(), catalogService.listAllInBrand(), sales);
+                stale = false;
+            }
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean sameKeys(CatalogSuggestIndex.Entry previous, CatalogSuggestIndex.Entry next) {
+        if (previous == null || next == null) {
+            return previous == next;
+        }
+        return Objects.equals(previous.name(), next.name()) && Objects.equals(previous.slug(), next.slug());
+    }
+
+    private static State build(Collection<Product> products,
+                               Collection<Category> categories,
+                               Collection<Brand> brands,
+                               Map<UUID, Long> sales) {
+        Map<UUID, CatalogSuggestIndex.Entry> productEntries = new HashMap<>();
+        Map<UUID, Long> categoryWeights = new HashMap<>();
+        Map<UUID, Long> brandWeights = new HashMap<>();
+        for (Product product : products) {
+            if (product == null || !product.isIsActive()) {
+                continue;
+            }
+            productEntries.put(product.getId(), productEntry(product, sales));
+            long weight = sales.getOrDefault(product.getId(), 0L) + 1;
+            if (product.getBrand() != null) {
+                brandWeights.merge(product.getBrand().getId(), weight, Long::sum);
+            }
+            if (product.getCategories() != null) {
+                Set<Category> visited = new HashSet<>();
+                for (Category category : product.getCategories()) {
+                    for (Category current = category; current != null && visited.add(current); current = current.getParent()) {
+                        categoryWeights.merge(current.getId(), weight, Long::sum);
+                    }
+                }
+            }
+        }
+        List<CatalogSuggestIndex.Entry> others = new ArrayList<>();
+        for (Category category : categories) {
+            if (category != null && category.isIsActive()) {
+                others.add(new CatalogSuggestIndex.Entry(
+                        CatalogSuggestIndex.Kind.CATEGORY, category.getId(), category.getName(), category.getSlug(),
+                        categoryWeights.getOrDefault(category.getId(), 0L),
+                        CatalogSuggestIndex.keys(category.getName(), category.getSlug())));
+            }
+        }
+        for (Brand brand : brands) {
+            if (brand != null) {
+                others.add(new CatalogSuggestIndex.Entry(
+                        CatalogSuggestIndex.Kind.BRAND, brand.getId(), brand.getName(), brand.getSlug(),
+                        brandWeights.getOrDefault(brand.getId(), 0L),
+                        CatalogSuggestIndex.keys(brand.getName(), brand.getSlug())));
+            }
+        }
+        return new State(productEntries, List.copyOf(others), sales, index(productEntries.values(), others));
+    }
+
+    private static CatalogSuggestIndex.Entry productEntry(Product product, Map<UUID, Long> sales) {
+        return new CatalogSuggestIndex.Entry(
+                CatalogSuggestIndex.Kind.PRODUCT, product.getId(), product.getName(), product.getSlug(),
+                sales.getOrDefault(product.getId(), 0L),
+                CatalogSuggestIndex.keys(product.getName(), product.getSlug()));
+    }
+
+    private static CatalogSuggestIndex index(Collection<CatalogSuggestIndex.Entry> products,
+                                             Collection<CatalogSuggestIndex.Entry> others) {
+        List<CatalogSuggestIndex.Entry> entries = new ArrayList<>(products.size() + others.size());
+        entries.addAll(products);
+        entries.addAll(others);
+        return CatalogSuggestIndex.build(entries);
+    }
+
+    private static List<Suggestion> suggestions(CatalogSuggestIndex index, String query, CatalogSuggestIndex.Kind kind, int limit) {
+        return index.lookup(query, kind, limit).stream()
+                .map(entry -> new Suggestion(entry.id(), entry.name(), entry.slug()))
+                .toList();
+    }
+
+    public record Suggestions(List<Suggestion> products, List<Suggestion> categories, List<Suggestion> brands) {
+    }
+
+    public record Suggestion(UUID id, String name, String slug) {
+    }
+
+    private record State(Map<UUID, CatalogSuggestIndex.Entry> products,
+                         List<CatalogSuggestIndex.Entry> others,
+                         Map<UUID, Long> sales,
+                         CatalogSuggestIndex index) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.api.catalog;
+
+import com.example.api.admincms.PromotionPricingService;
+import com.example.api.content.DirectusContentCacheService;
+import com.example.catalog.service.CatalogVersionService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Strong validators for the public catalogue endpoints. The tag combines the {@link CatalogVersionService}
+ * version with the Directus content generation, so it is known before any database or Directus work and a
+ * matching {@code If-None-Match} can be answered with {@code 304} straight away.
+ */
+@Service
+public class CatalogueEtagService {
+
+    private final CatalogVersionService catalogVersion;
+    private final DirectusContentCacheService contentCacheService;
+    private final PromotionPricingService promotionPricingService;
+    private volatile Set<UUID> activePromotionIds;
+
+    public CatalogueEtagService(CatalogVersionService catalogVersion,
+                                DirectusContentCacheService contentCacheService,
+                                PromotionPricingService promotionPricingService) {
+        this.catalogVersion = catalogVersion;
+        this.contentCacheService = contentCacheService;
+        this.promotionPricingService = promotionPricingService;
+    }
+
+    /**
+     * Current tag, or {@code null} when the Directus cache is disabled and content can change on any read.
+     */
+    public String currentEtag() {
+        String contentGeneration = contentCacheService.contentGeneration();
+        if (contentGeneration == null) {
+            return null;
+        }
+        return "\"" + catalogVersion.tag() + "." + contentGeneration + "\"";
+    }
+
+    /**
+     * Promotions start and end without a write, so their windows are polled and a change in the active
+     * set bumps the catalog version like a promotion edit would.
+     */
+    @Scheduled(fixedDelayString = "${catalogue.etag.promotion-check-fixed-delay-ms:60000}")
+    public void checkPromotionWindows() {
+        Set<UUID> active = promotionPricingService.activePromotionIds();
+        Set<UUID> previous = activePromotionIds;
+        activePromotionIds = active;
+        if (previous != null && !previous.equals(active)) {
+            catalogVersion.changed();
+        }
+    }
+
+    /**
+     * Whether the request already holds {@code etag}; when it does the {@code 304} status and headers are
+     * set and the handler should return {@code null}.
+     */
+    static boolean notModified(WebRequest request, String etag) {
+        return etag != null && request != null && request.checkNotModified(etag);
+    }
+
+    static ResponseEntity.BodyBuilder ok(String etag) {
+        if (etag == null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore());
+        }
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(etag);
+    }
+}
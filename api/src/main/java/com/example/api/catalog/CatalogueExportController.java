@@ -0,0 +1,57 @@
+package com.example.api.catalog;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.OffsetDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/catalogue/export")
+public class CatalogueExportController {
+
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final CatalogueExportService exportService;
+    private final CatalogueEtagService etagService;
+
+    public CatalogueExportController(CatalogueExportService exportService, CatalogueEtagService etagService) {
+        this.exportService = exportService;
+        this.etagService = etagService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime since,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest
+    ) {
+        String etag = etagService.currentEtag();
+        boolean compress = ProductResponseCache.acceptsGzip(acceptEncoding);
+        String encodingEtag = ProductResponseCache.encodingEtag(etag, compress);
+        if (CatalogueEtagService.notModified(webRequest, encodingEtag)) {
+            return null;
+        }
+        var builder = CatalogueEtagService.ok(encodingEtag)
+                .contentType(NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (!compress) {
+            return builder.body(out -> exportService.write(out, since, etag));
+        }
+        return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true)) {
+                exportService.write(gzip, since, etag);
+            }
+        });
+    }
+}
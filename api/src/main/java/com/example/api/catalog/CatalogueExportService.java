@@ -0,0 +1,194 @@
+package com.example.api.catalog;
+
+import com.example.api.content.DirectusContentCacheService;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogVersionService;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Newline-delimited JSON dump of the storefront catalogue for static site builds: a header line, every
+ * active category, then products with variants, images, pricing and their published overlay. Products are
+ * read in batches through a database cursor and written as they are rendered.
+ * <p>
+ * An incremental export ({@code since}) cannot express every change as product lines: promotion and CMS
+ * overlay changes touch no product row, and a deleted category or brand silently unlinks products. When
+ * any of those happened after {@code since}, or {@code since} predates the kept tombstones, the export
+ * writes a {@code full_required} line after the header and then the full catalogue.
+ */
+@Service
+public class CatalogueExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogueExportService.class);
+
+    private final CatalogService catalogService;
+    private final CatalogueResponseFactory responseFactory;
+    private final CataloguePresentationService presentationService;
+    private final CatalogVersionService catalogVersion;
+    private final DirectusContentCacheService contentCacheService;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final Duration tombstoneRetention;
+    private final Duration sinceOverlap;
+
+    public CatalogueExportService(CatalogService catalogService,
+                                  CatalogueResponseFactory responseFactory,
+                                  CataloguePresentationService presentationService,
+                                  CatalogVersionService catalogVersion,
+                                  DirectusContentCacheService contentCacheService,
+                                  ObjectMapper objectMapper,
+                                  @Value("${catalogue.export.batch-size:200}") int batchSize,
+                                  @Value("${catalogue.export.tombstone-retention-days:90}") int tombstoneRetentionDays,
+                                  @Value("${catalogue.export.since-overlap:PT1M}") Duration sinceOverlap) {
+        this.catalogService = catalogService;
+        this.responseFactory = responseFactory;
+        this.presentationService = presentationService;
+        this.catalogVersion = catalogVersion;
+        this.contentCacheService = contentCacheService;
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.batchSize = batchSize;
+        this.tombstoneRetention = Duration.ofDays(Math.max(1, tombstoneRetentionDays));
+        this.sinceOverlap = sinceOverlap.isNegative() ? Duration.ZERO : sinceOverlap;
+    }
+
+    /**
+     * Writes the export to {@code out}. With {@code since} only products changed after it are written, and
+     * products deactivated or deleted since then appear as {@code removed} lines; the header's
+     * {@code generatedAt} is the value to pass as {@code since} on the next incremental run. A
+     * {@code full_required} line means the rest of the stream is a full export that replaces earlier ones.
+     * <p>
+     * {@code generatedAt} is the database watermark, not the export's start: a product transaction that
+     * stamped {@code updated_at} before the export but committed after its cursor opened is still open at
+     * the watermark, so the next run picks it up. Changes are read from {@code since} minus
+     * {@code catalogue.export.since-overlap} to absorb clock skew between the nodes stamping
+     * {@code updated_at}; products in the overlap are written again.
+     */
+    public void write(OutputStream out, OffsetDateTime since, String etag) {
+        OffsetDateTime generatedAt = catalogService.exportWatermark().withOffsetSameInstant(ZoneOffset.UTC);
+        writeLine(out, new ExportLine("header", null, null, new ExportHeader(etag, generatedAt, since)));
+
+        List<ProductRepository.Tombstone> removedProducts = List.of();
+        OffsetDateTime productsSince = since != null ? since.minus(sinceOverlap) : null;
+        if (since != null) {
+            List<ProductRepository.Tombstone> tombstones = catalogService.getTombstonesSince(productsSince);
+            List<String> reasons = fullRequiredReasons(since, generatedAt, tombstones);
+            if (reasons.isEmpty()) {
+                removedProducts = tombstones.stream()
+                        .filter(tombstone -> CatalogService.TOMBSTONE_PRODUCT.equals(tombstone.getEntityType()))
+                        .toList();
+            } else {
+                writeLine(out, new ExportLine("full_required", null, null, new FullRequired(reasons)));
+                productsSince = null;
+            }
+        }
+
+        List<Category> categories = catalogService.listAllInCategory().stream().filter(Category::isIsActive).toList();
+        var categoryPresentations = presentationService.buildPublishedCategoryPresentationResults(categories);
+        for (Category category : categories) {
+            var presentation = presentationService.publishedCategoryPresentation(categoryPresentations, category).presentation();
+            writeLine(out, new ExportLine("category", category.getId(), null, responseFactory.toCategoryResponse(category, presentation)));
+        }
+
+        for (ProductRepository.Tombstone tombstone : removedProducts) {
+            writeLine(out, new ExportLine("removed", tombstone.getEntityId(), tombstone.getSlug(), null));
+        }
+        catalogService.forEachExportBatch(productsSince, batchSize, products -> {
+            List<Product> active = products.stream().filter(Product::isIsActive).toList();
+            var presentations = presentationService.buildPublishedProductPresentationResults(active);
+            var responses = responseFactory.toProductResponses(
+                    active,
+                    product -> presentationService.publishedProductPresentation(presentations, product).presentation()
+            );
+            for (Product product : products) {
+                if (!product.isIsActive()) {
+                    writeLine(out, new ExportLine("removed", product.getId(), product.getSlug(), null));
+                }
+            }
+            for (int i = 0; i < active.size(); i++) {
+                writeLine(out, new ExportLine("product", active.get(i).getId(), null, responses.get(i)));
+            }
+            flush(out);
+        });
+        flush(out);
+    }
+
+    @Scheduled(fixedDelayString = "${catalogue.export.tombstone-purge-fixed-delay-ms:86400000}")
+    public void purgeTombstones() {
+        int purged = catalogService.purgeTombstonesBefore(OffsetDateTime.now(ZoneOffset.UTC).minus(tombstoneRetention));
+        if (purged > 0) {
+            log.info("Purged {} catalogue export tombstones older than {}", purged, tombstoneRetention);
+        }
+    }
+
+    /**
+     * Why {@code since} cannot be served incrementally. Pricing and content change times are kept per
+     * process and start at process start, so the first incremental export after a restart is a full one.
+     */
+    private List<String> fullRequiredReasons(OffsetDateTime since,
+                                             OffsetDateTime generatedAt,
+                                             List<ProductRepository.Tombstone> tombstones) {
+        Instant from = since.toInstant();
+        List<String> reasons = new ArrayList<>();
+        if (since.isBefore(generatedAt.minus(tombstoneRetention))) {
+            reasons.add("tombstones_expired");
+        }
+        if (from.isBefore(catalogVersion.sharedChangedAt())) {
+            reasons.add("pricing_changed");
+        }
+        if (from.isBefore(contentCacheService.contentChangedAt())) {
+            reasons.add("content_changed");
+        }
+        if (tombstones.stream().anyMatch(tombstone -> !CatalogService.TOMBSTONE_PRODUCT.equals(tombstone.getEntityType()))) {
+            reasons.add("taxonomy_deleted");
+        }
+        return reasons;
+    }
+
+    private void writeLine(OutputStream out, ExportLine line) {
+        try {
+            objectMapper.writeValue(out, line);
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static void flush(OutputStream out) {
+        try {
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ExportLine(String type, UUID id, String slug, Object data) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record ExportHeader(String etag, OffsetDateTime generatedAt, OffsetDateTime since) {
+    }
+
+    public record FullRequired(List<String> reasons) {
+    }
+}
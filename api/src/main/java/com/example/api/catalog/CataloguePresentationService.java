@@ -8,11 +8,11 @@ import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
 import com.example.catalog.domain.ProductImage;
 import com.example.catalog.domain.ProductVariant;
-import com.example.catalog.repository.ProductVariantRepository;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.ProductCardService;
 import com.example.common.domain.Money;
-import com.example.order.repository.OrderItemRepository;
-import org.springframework.data.domain.PageRequest;
+import com.example.order.service.ProductSalesService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -27,6 +27,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -35,22 +36,30 @@ public class CataloguePresentationService {
 
     private final CatalogueContentService catalogueContentService;
     private final CatalogService catalogService;
-    private final OrderItemRepository orderItemRepository;
-    private final ProductVariantRepository productVariantRepository;
+    private final ProductSalesService productSalesService;
     private final StorefrontMediaService mediaService;
+    private final ProductSalesService.SalesWindow defaultBestsellerWindow;
+    private final CatalogueEtagService etagService;
+    private final long bestsellersMaxAgeMs;
+    private final Map<String, ResolvedCollection> resolvedCollections = new ConcurrentHashMap<>();
 
     public CataloguePresentationService(
             CatalogueContentService catalogueContentService,
             CatalogService catalogService,
-            OrderItemRepository orderItemRepository,
-            ProductVariantRepository productVariantRepository,
-            StorefrontMediaService mediaService
+            ProductSalesService productSalesService,
+            StorefrontMediaService mediaService,
+            CatalogueEtagService etagService,
+            @Value("${catalogue.bestsellers.default-window:30d}") String defaultBestsellerWindow,
+            @Value("${catalogue.collections.bestsellers-max-age-ms:300000}") long bestsellersMaxAgeMs
     ) {
         this.catalogueContentService = catalogueContentService;
         this.catalogService = catalogService;
-        this.orderItemRepository = orderItemRepository;
-        this.productVariantRepository = productVariantRepository;
+        this.productSalesService = productSalesService;
         this.mediaService = mediaService;
+        this.etagService = etagService;
+        ProductSalesService.SalesWindow window = ProductSalesService.SalesWindow.parse(defaultBestsellerWindow);
+        this.defaultBestsellerWindow = window != null ? window : ProductSalesService.SalesWindow.LAST_30_DAYS;
+        this.bestsellersMaxAgeMs = bestsellersMaxAgeMs;
     }
 
     public CataloguePresentationModels.OverlayMergeResult buildPublishedProductPresentation(Product product) {
@@ -89,6 +98,30 @@ public class CataloguePresentationService {
         return buildCategoryPresentationResults(categories, ContentAccessMode.PREVIEW);
     }
 
+    /**
+     * The entry for {@code product} in a published batch, building the overlay-free fallback only when the
+     * batch has none.
+     */
+    public CataloguePresentationModels.OverlayMergeResult publishedProductPresentation(
+            Map<String, CataloguePresentationModels.OverlayMergeResult> results,
+            Product product
+    ) {
+        CataloguePresentationModels.OverlayMergeResult result = results.get(normalizeKey(product != null ? product.getSlug() : null));
+        return result != null ? result : fallbackProductResult(product, false, false);
+    }
+
+    /**
+     * The entry for {@code category} in a published batch, building the overlay-free fallback only when the
+     * batch has none.
+     */
+    public CataloguePresentationModels.OverlayMergeResult publishedCategoryPresentation(
+            Map<String, CataloguePresentationModels.OverlayMergeResult> results,
+            Category category
+    ) {
+        CataloguePresentationModels.OverlayMergeResult result = results.get(normalizeKey(category != null ? category.getSlug() : null));
+        return result != null ? result : fallbackCategoryResult(category, false, false);
+    }
+
     public CatalogueContentModels.StorefrontCollection getPublishedStorefrontCollection(String key) {
         return buildStorefrontCollection(key, ContentAccessMode.PUBLISHED);
     }
@@ -284,10 +317,31 @@ public class CataloguePresentationService {
     }
 
     private CatalogueContentModels.StorefrontCollection buildStorefrontCollection(String key, ContentAccessMode accessMode) {
-        CatalogueContentModels.StorefrontCollectionDefinition definition = accessMode.isPreview()
-                ? catalogueContentService.getPreviewStorefrontCollection(key)
-                : catalogueContentService.getStorefrontCollection(key);
+        if (accessMode.isPreview()) {
+            return resolveStorefrontCollection(catalogueContentService.getPreviewStorefrontCollection(key), accessMode);
+        }
+        CatalogueContentModels.StorefrontCollectionDefinition definition = catalogueContentService.getStorefrontCollection(key);
+        String version = etagService.currentEtag();
+        if (version == null || definition == null || !StringUtils.hasText(definition.key())) {
+            return resolveStorefrontCollection(definition, accessMode);
+        }
+        String cacheKey = normalizeKey(definition.key());
+        ResolvedCollection cached = resolvedCollections.get(cacheKey);
+        if (cached != null && cached.matches(definition, version, System.currentTimeMillis())) {
+            return cached.collection();
+        }
+        CatalogueContentModels.StorefrontCollection collection = resolveStorefrontCollection(definition, accessMode);
+        long expiresAt = "bestsellers".equals(normalizeKey(definition.ruleType()))
+                ? System.currentTimeMillis() + bestsellersMaxAgeMs
+                : Long.MAX_VALUE;
+        resolvedCollections.put(cacheKey, new ResolvedCollection(definition, version, expiresAt, collection));
+        return collection;
+    }
 
+    private CatalogueContentModels.StorefrontCollection resolveStorefrontCollection(
+            CatalogueContentModels.StorefrontCollectionDefinition definition,
+            ContentAccessMode accessMode
+    ) {
         List<CollectionEntityRef> resolvedRefs = resolveStorefrontCollectionRefs(definition);
 
         List<String> productKeys = resolvedRefs.stream()
@@ -401,85 +455,51 @@ public class CataloguePresentationService {
 
     private List<CollectionEntityRef> resolveBackendRule(CatalogueContentModels.StorefrontCollectionDefinition definition) {
         String ruleType = normalizeKey(definition.ruleType());
-        return switch (ruleType) {
-            case "category" -> catalogService.getProducts(definition.categoryKey(), definition.brandKey()).stream()
-                    .filter(Product::isIsActive)
-                    .map(product -> new CollectionEntityRef("product", normalizeKey(product.getSlug()), "backend_rule"))
-                    .toList();
-            case "brand" -> catalogService.getProducts(null, definition.brandKey()).stream()
-                    .filter(Product::isIsActive)
-                    .map(product -> new CollectionEntityRef("product", normalizeKey(product.getSlug()), "backend_rule"))
-                    .toList();
-            case "new" -> sortProducts(catalogService.getAllProducts(), definition.sortMode()).stream()
-                    .filter(Product::isIsActive)
-                    .map(product -> new CollectionEntityRef("product", normalizeKey(product.getSlug()), "backend_rule"))
-                    .toList();
-            case "bestsellers" -> resolveBestsellerProducts(definition.limit() != null ? definition.limit() : 12).stream()
-                    .filter(Product::isIsActive)
-                    .map(product -> new CollectionEntityRef("product", normalizeKey(product.getSlug()), "backend_rule"))
-                    .toList();
+        int fetchLimit = backendRuleFetchLimit(definition);
+        List<Product> products = switch (ruleType) {
+            case "category" -> catalogService.getTopProducts(definition.categoryKey(), definition.brandKey(), cardOrder(definition.sortMode()), fetchLimit);
+            case "brand" -> catalogService.getTopProducts(null, definition.brandKey(), cardOrder(definition.sortMode()), fetchLimit);
+            case "new" -> catalogService.getTopProducts(null, null, cardOrder(definition.sortMode()), fetchLimit);
+            case "bestsellers" -> resolveBestsellerProducts(fetchLimit, definition.sortMode());
             case "sale" -> List.of();
             default -> List.of();
         };
-    }
-
-    private List<Product> resolveBestsellerProducts(int limit) {
-        List<OrderItemRepository.VariantSalesView> variantSales = orderItemRepository.findTopVariantSales(PageRequest.of(0, Math.max(1, limit * 4)));
-        if (variantSales.isEmpty()) {
-            return List.of();
-        }
-
-        List<UUID> variantIds = variantSales.stream()
-                .map(OrderItemRepository.VariantSalesView::getVariantId)
-                .filter(Objects::nonNull)
+        return products.stream()
+                .filter(Product::isIsActive)
+                .map(product -> new CollectionEntityRef("product", normalizeKey(product.getSlug()), "backend_rule"))
                 .toList();
+    }
 
-        Map<UUID, ProductVariant> variantsById = productVariantRepository.findByIdIn(variantIds).stream()
-                .collect(Collectors.toMap(ProductVariant::getId, Function.identity(), (left, right) -> left));
-
-        LinkedHashMap<String, Product> products = new LinkedHashMap<>();
-        for (OrderItemRepository.VariantSalesView salesView : variantSales) {
-            ProductVariant variant = variantsById.get(salesView.getVariantId());
-            if (variant == null || variant.getProduct() == null) {
-                continue;
-            }
-            Product product = variant.getProduct();
-            products.putIfAbsent(normalizeKey(product.getSlug()), product);
-            if (products.size() >= limit) {
-                break;
-            }
-        }
-
-        return products.values().stream().toList();
+    /**
+     * The collection limit plus one row per exclusion, so excluded products never leave the collection short.
+     */
+    private int backendRuleFetchLimit(CatalogueContentModels.StorefrontCollectionDefinition definition) {
+        int limit = definition.limit() != null && definition.limit() > 0 ? definition.limit() : 12;
+        long exclusions = definition.rules() == null ? 0 : definition.rules().stream()
+                .filter(rule -> "exclude".equals(normalizeKey(rule.behavior())))
+                .count();
+        return limit + (int) exclusions;
     }
 
-    private List<Product> sortProducts(List<Product> products, String sortMode) {
+    private ProductCardService.CardOrder cardOrder(String sortMode) {
         String normalizedSortMode = normalizeKey(sortMode);
-        Comparator<Product> comparator = switch (normalizedSortMode == null ? "default" : normalizedSortMode) {
-            case "alphabetical" -> Comparator.comparing(Product::getName, Comparator.nullsLast(String::compareToIgnoreCase));
-            case "price_asc" -> Comparator.comparing(this::primaryPriceAmount, Comparator.nullsLast(Long::compareTo));
-            case "price_desc" -> Comparator.comparing(this::primaryPriceAmount, Comparator.nullsLast(Long::compareTo)).reversed();
-            case "oldest" -> Comparator.comparing(Product::getCreatedAt, Comparator.nullsLast(java.time.OffsetDateTime::compareTo));
-            case "newest", "default" -> Comparator.comparing(Product::getCreatedAt, Comparator.nullsLast(java.time.OffsetDateTime::compareTo)).reversed();
-            default -> Comparator.comparing(Product::getCreatedAt, Comparator.nullsLast(java.time.OffsetDateTime::compareTo)).reversed();
+        return switch (normalizedSortMode == null ? "default" : normalizedSortMode) {
+            case "alphabetical" -> ProductCardService.CardOrder.NAME;
+            case "price_asc" -> ProductCardService.CardOrder.PRICE_ASC;
+            case "price_desc" -> ProductCardService.CardOrder.PRICE_DESC;
+            case "oldest" -> ProductCardService.CardOrder.OLDEST;
+            default -> ProductCardService.CardOrder.NEWEST;
         };
-
-        return products.stream()
-                .sorted(comparator)
-                .toList();
     }
 
-    private Long primaryPriceAmount(Product product) {
-        if (product == null || product.getVariants() == null || product.getVariants().isEmpty()) {
-            return null;
-        }
-
-        return product.getVariants().stream()
-                .map(ProductVariant::getPrice)
-                .filter(Objects::nonNull)
-                .map(Money::getAmount)
-                .min(Long::compareTo)
-                .orElse(null);
+    /**
+     * Top sellers from the daily sales aggregate. The collection's sort mode may pick the window
+     * ({@code bestsellers_7d}, {@code bestsellers_30d}, {@code bestsellers_90d}).
+     */
+    private List<Product> resolveBestsellerProducts(int limit, String sortMode) {
+        ProductSalesService.SalesWindow window = ProductSalesService.SalesWindow.parse(sortMode);
+        List<UUID> productIds = productSalesService.topProductIds(window != null ? window : defaultBestsellerWindow, limit);
+        return catalogService.getProductsByIds(productIds);
     }
 
     private CatalogueContentModels.StorefrontCollectionEntry toCollectionEntry(
@@ -685,4 +705,20 @@ public class CataloguePresentationService {
             return entityKind + ":" + entityKey;
         }
     }
+
+    /**
+     * A published collection resolved against one definition and one catalogue version (catalog, pricing and
+     * Directus content). It is reused only while both are unchanged; bestseller collections also expire
+     * after a short age because sales move without a catalogue change.
+     */
+    private record ResolvedCollection(
+            CatalogueContentModels.StorefrontCollectionDefinition definition,
+            String version,
+            long expiresAtMillis,
+            CatalogueContentModels.StorefrontCollection collection
+    ) {
+        boolean matches(CatalogueContentModels.StorefrontCollectionDefinition currentDefinition, String currentVersion, long now) {
+            return now < expiresAtMillis && version.equals(currentVersion) && definition.equals(currentDefinition);
+        }
+    }
 }
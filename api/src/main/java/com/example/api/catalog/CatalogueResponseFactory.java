@@ -17,9 +17,11 @@ import org.springframework.stereotype.Component;
 import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -46,6 +48,22 @@ public class CatalogueResponseFactory {
     }
 
     public CatalogController.ProductResponse toProductResponse(Product product, CatalogueContentModels.CataloguePresentation presentation) {
+        return toProductResponse(product, presentation, catalogService.getProductImages(product.getId()));
+    }
+
+    public List<CatalogController.ProductResponse> toProductResponses(
+            List<Product> products,
+            Function<Product, CatalogueContentModels.CataloguePresentation> presentations
+    ) {
+        Map<UUID, List<ProductImage>> images = catalogService.getProductImages(products.stream().map(Product::getId).toList());
+        return products.stream()
+                .map(product -> toProductResponse(product, presentations.apply(product), images.getOrDefault(product.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    private CatalogController.ProductResponse toProductResponse(Product product,
+                                                                CatalogueContentModels.CataloguePresentation presentation,
+                                                                List<ProductImage> images) {
         CatalogController.ProductResponse response = new CatalogController.ProductResponse();
         response.setId(product.getId());
         response.setName(product.getName());
@@ -57,7 +75,6 @@ public class CatalogueResponseFactory {
         response.setCategory(categories.isEmpty() ? null : categories.getFirst().getSlug());
         response.setBrand(product.getBrand() != null ? product.getBrand().getSlug() : null);
         response.setIsActive(product.isIsActive());
-        List<ProductImage> images = catalogService.getProductImages(product.getId());
         response.setImages(images != null
                 ? images.stream().map(this::toImageResponse).collect(Collectors.toList())
                 : List.of());
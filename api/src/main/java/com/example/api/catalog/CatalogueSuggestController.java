@@ -0,0 +1,29 @@
+package com.example.api.catalog;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/catalogue/suggest")
+public class CatalogueSuggestController {
+
+    private static final int DEFAULT_LIMIT = 6;
+
+    private final CatalogSuggestService suggestService;
+
+    public CatalogueSuggestController(CatalogSuggestService suggestService) {
+        this.suggestService = suggestService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CatalogSuggestService.Suggestions> suggest(
+            @RequestParam(value = "q", required = false) String query,
+            @RequestParam(value = "limit", required = false, defaultValue = "" + DEFAULT_LIMIT) int limit
+    ) {
+        int effectiveLimit = Math.max(0, Math.min(limit, CatalogSuggestIndex.MAX_PER_KIND));
+        return ResponseEntity.ok(suggestService.suggest(query, effectiveLimit));
+    }
+}
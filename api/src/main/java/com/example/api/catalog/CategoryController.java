@@ -11,6 +11,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -24,49 +25,70 @@ public class CategoryController {
     private final CategoryImageStorageService categoryImageStorageService;
     private final CatalogueResponseFactory responseFactory;
     private final CataloguePresentationService presentationService;
+    private final CatalogueEtagService etagService;
+    private volatile CachedCategoryList cachedCategories;
 
     @Autowired
     public CategoryController(
             CatalogService catalogService,
             CategoryImageStorageService categoryImageStorageService,
             CatalogueResponseFactory responseFactory,
-            CataloguePresentationService presentationService
+            CataloguePresentationService presentationService,
+            CatalogueEtagService etagService
     ) {
         this.catalogService = catalogService;
         this.categoryImageStorageService = categoryImageStorageService;
         this.responseFactory = responseFactory;
         this.presentationService = presentationService;
+        this.etagService = etagService;
     }
 
     @GetMapping
-    public ResponseEntity<List<CategoryResponse>> listCategories() {
-        var presentations = presentationService.buildPublishedCategoryPresentationResults(catalogService.listAllInCategory());
-        List<CategoryResponse> categories = catalogService.listAllInCategory().stream()
+    public ResponseEntity<List<CategoryResponse>> listCategories(WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
+        CachedCategoryList cached = cachedCategories;
+        if (cached != null && etag != null && etag.equals(cached.etag())) {
+            return CatalogueEtagService.ok(etag).body(cached.categories());
+        }
+        List<Category> allCategories = catalogService.listAllInCategory();
+        var presentations = presentationService.buildPublishedCategoryPresentationResults(allCategories);
+        List<CategoryResponse> categories = allCategories.stream()
                 .map(category -> responseFactory.toCategoryResponse(
                         category,
-                        presentations.getOrDefault(
-                                category.getSlug() != null ? category.getSlug().trim().toLowerCase() : null,
-                                presentationService.buildPublishedCategoryPresentation(category)
-                        ).presentation()
+                        presentationService.publishedCategoryPresentation(presentations, category).presentation()
                 ))
                 .toList();
-        return ResponseEntity.ok(categories);
+        if (etag != null) {
+            cachedCategories = new CachedCategoryList(etag, categories);
+        }
+        return CatalogueEtagService.ok(etag).body(categories);
     }
 
     @GetMapping("/{slug}")
-    public ResponseEntity<CategoryResponse> getCategoryBySlug(@PathVariable String slug) {
+    public ResponseEntity<CategoryResponse> getCategoryBySlug(@PathVariable String slug, WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         Category category = catalogService.getBySlug(slug)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + slug));
-        return ResponseEntity.ok(
+        return CatalogueEtagService.ok(etag).body(
                 responseFactory.toCategoryResponse(category, presentationService.buildPublishedCategoryPresentation(category).presentation())
         );
     }
 
     @GetMapping("/id/{id}")
-    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable UUID id) {
+    public ResponseEntity<CategoryResponse> getCategoryById(@PathVariable UUID id, WebRequest webRequest) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         Category category = catalogService.getByCategoryId(id)
                 .orElseThrow(() -> new IllegalArgumentException("Category not found: " + id));
-        return ResponseEntity.ok(
+        return CatalogueEtagService.ok(etag).body(
                 responseFactory.toCategoryResponse(category, presentationService.buildPublishedCategoryPresentation(category).presentation())
         );
     }
@@ -292,4 +314,11 @@ public class CategoryController {
             this.isActive = isActive;
         }
     }
+
+    /**
+     * The navigation list rendered for one catalogue ETag, which moves on every category write and Directus
+     * overlay change.
+     */
+    private record CachedCategoryList(String etag, List<CategoryResponse> categories) {
+    }
 }
@@ -93,12 +93,10 @@ public class DirectusBridgeController {
         details.put("includeInactive", includeInactive);
         details.put("count", products.size());
         audit(principal, "catalogue.products.list", details);
-        return ResponseEntity.ok(products.stream()
-                .map(product -> responseFactory.toProductResponse(
-                        product,
-                        presentations.getOrDefault(normalize(product.getSlug()), presentationService.buildPublishedProductPresentation(product)).presentation()
-                ))
-                .toList());
+        return ResponseEntity.ok(responseFactory.toProductResponses(products, product -> {
+            var presentation = presentations.get(normalize(product.getSlug()));
+            return (presentation != null ? presentation : presentationService.buildPublishedProductPresentation(product)).presentation();
+        }));
     }
 
     @GetMapping("/products/{idOrSlug}")
@@ -167,7 +165,7 @@ public class DirectusBridgeController {
     @DeleteMapping("/products/{id}")
     public ResponseEntity<Void> deleteProduct(@PathVariable UUID id, HttpServletRequest request) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorizeCatalogue(request);
-        catalogService.getProductImages(id).forEach(image -> productImageStorageService.delete(image.getObjectKey()));
+        catalogService.getProductImageObjectKeys(id).forEach(productImageStorageService::delete);
         catalogService.deleteProduct(id);
         audit(principal, "catalogue.product.delete", Map.of("productId", id));
         return ResponseEntity.noContent().build();
@@ -272,7 +270,7 @@ public class DirectusBridgeController {
             throw new IllegalArgumentException("No image files were uploaded");
         }
         catalogService.getProduct(productId).orElseThrow(() -> new IllegalArgumentException("Product not found: " + productId));
-        int startPosition = position != null ? position : catalogService.getProductImages(productId).size();
+        int startPosition = position != null ? position : catalogService.nextProductImagePosition(productId);
         List<CatalogController.ImageResponse> responses = new ArrayList<>();
         int offset = 0;
         for (MultipartFile file : files) {
@@ -0,0 +1,187 @@
+package com.example.api.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Product image originals mirrored on local disk, so previews are served from a file instead of a fresh
+ * object storage read. Objects are immutable per key. Files live in a {@value #SUBDIRECTORY} directory
+ * the cache owns inside {@code catalogue.image-cache.directory}; the index lives in memory, so cache files
+ * left there by a previous run are deleted on startup. Once {@code max-bytes} is exceeded the least
+ * recently served files leave the index, but their files are only deleted after
+ * {@code eviction-grace-seconds}: a path already handed to a response (Tomcat opens sendfile paths after
+ * the controller returns) stays readable until the response has opened it.
+ */
+@Service
+public class ProductImageDiskCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductImageDiskCache.class);
+    static final String SUBDIRECTORY = "product-images";
+    private static final Pattern CACHE_FILE_NAME = Pattern.compile("[0-9a-f]{32}(\\.[0-9a-f-]{36}\\.part)?");
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long evictionGraceNanos;
+    private final LinkedHashMap<String, CachedImage> index = new LinkedHashMap<>(16, 0.75f, true);
+    private final ArrayDeque<EvictedFile> evicted = new ArrayDeque<>();
+    private final Map<String, CompletableFuture<Optional<CachedImage>>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+
+    public ProductImageDiskCache(@Value("${catalogue.image-cache.directory:}") String directory,
+                                 @Value("${catalogue.image-cache.max-bytes:536870912}") long maxBytes,
+                                 @Value("${catalogue.image-cache.eviction-grace-seconds:60}") long evictionGraceSeconds) {
+        this.maxBytes = maxBytes;
+        this.evictionGraceNanos = TimeUnit.SECONDS.toNanos(Math.max(0L, evictionGraceSeconds));
+        this.directory = maxBytes > 0 ? prepareDirectory(directory) : null;
+    }
+
+    /**
+     * The cached file for {@code objectKey}, downloading it with {@code loader} (which writes the object
+     * to the given path and returns its content type) on a miss. Concurrent misses for the same key wait
+     * for a single download. Empty when the cache is disabled or the disk is unusable; the caller then
+     * streams from storage.
+     */
+    public Optional<CachedImage> get(String objectKey, Function<Path, String> loader) {
+        if (directory == null) {
+            return Optional.empty();
+        }
+        deleteEvicted();
+        synchronized (index) {
+            CachedImage cached = index.get(objectKey);
+            if (cached != null && Files.exists(cached.path())) {
+                return Optional.of(cached);
+            }
+        }
+        CompletableFuture<Optional<CachedImage>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedImage>> leader = inFlight.putIfAbsent(objectKey, flight);
+        if (leader != null) {
+            return awaitLeader(leader);
+        }
+        try {
+            Optional<CachedImage> loaded = download(objectKey, loader);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(objectKey, flight);
+        }
+    }
+
+    private static Optional<CachedImage> awaitLeader(CompletableFuture<Optional<CachedImage>> leader) {
+        try {
+            return leader.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private Optional<CachedImage> download(String objectKey, Function<Path, String> loader) {
+        Path target = directory.resolve(DigestUtils.md5DigestAsHex(objectKey.getBytes(StandardCharsets.UTF_8)));
+        Path download = directory.resolve(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        try {
+            String contentType = loader.apply(download);
+            long size = Files.size(download);
+            Files.move(download, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            CachedImage cached = new CachedImage(target, size, contentType);
+            synchronized (index) {
+                evicted.removeIf(file -> file.path().equals(target));
+                CachedImage previous = index.put(objectKey, cached);
+                totalBytes += size - (previous != null ? previous.size() : 0);
+                evictOverBudget(objectKey);
+            }
+            return Optional.of(cached);
+        } catch (IOException | UncheckedIOException ex) {
+            log.warn("Skipping product image disk cache for {}", objectKey, ex);
+            deleteQuietly(download);
+            return Optional.empty();
+        } catch (RuntimeException ex) {
+            deleteQuietly(download);
+            throw ex;
+        }
+    }
+
+    private void evictOverBudget(String keep) {
+        Iterator<Map.Entry<String, CachedImage>> iterator = index.entrySet().iterator();
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedImage> eldest = iterator.next();
+            if (eldest.getKey().equals(keep)) {
+                continue;
+            }
+            iterator.remove();
+            totalBytes -= eldest.getValue().size();
+            evicted.add(new EvictedFile(eldest.getValue().path(), System.nanoTime() + evictionGraceNanos));
+        }
+    }
+
+    private void deleteEvicted() {
+        List<Path> due = new ArrayList<>();
+        synchronized (index) {
+            long now = System.nanoTime();
+            while (!evicted.isEmpty() && evicted.peekFirst().deleteAfterNanos() - now <= 0) {
+                due.add(evicted.pollFirst().path());
+            }
+        }
+        due.forEach(ProductImageDiskCache::deleteQuietly);
+    }
+
+    private static Path prepareDirectory(String configured) {
+        try {
+            Path root = configured == null || configured.isBlank()
+                    ? Files.createTempDirectory("product-image-cache")
+                    : Files.createDirectories(Path.of(configured.trim()));
+            Path path = Files.createDirectories(root.resolve(SUBDIRECTORY));
+            try (DirectoryStream<Path> files = Files.newDirectoryStream(path,
+                    file -> CACHE_FILE_NAME.matcher(file.getFileName().toString()).matches())) {
+                files.forEach(ProductImageDiskCache::deleteQuietly);
+            }
+            return path.toAbsolutePath();
+        } catch (IOException ex) {
+            log.warn("Product image disk cache disabled, directory {} is not usable", configured, ex);
+            return null;
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ex) {
+            log.debug("Failed to delete cached product image {}", path, ex);
+        }
+    }
+
+    public record CachedImage(Path path, long size, String contentType) {
+    }
+
+    private record EvictedFile(Path path, long deleteAfterNanos) {
+    }
+}
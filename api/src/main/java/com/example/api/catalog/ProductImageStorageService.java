@@ -4,8 +4,9 @@ import com.example.api.catalog.media.MediaObjectStorageService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
@@ -13,6 +14,8 @@ import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Locale;
 import java.util.UUID;
 
@@ -60,18 +63,33 @@ public class ProductImageStorageService {
         return new StoredImage(key, publicUrlFor(key), position);
     }
 
-    public StoredImageContent download(String objectKey) {
+    /**
+     * Streams the object into {@code target}, which must not exist yet, and returns its content type.
+     */
+    public String downloadTo(String objectKey, Path target) {
+        GetObjectResponse response = s3Client.getObject(getRequest(objectKey), ResponseTransformer.toFile(target));
+        return response.contentType();
+    }
+
+    /**
+     * Opens the object for streaming; the caller closes the stream.
+     */
+    public StoredImageStream openStream(String objectKey) {
+        ResponseInputStream<GetObjectResponse> stream = s3Client.getObject(getRequest(objectKey));
+        return new StoredImageStream(stream, stream.response().contentType(), stream.response().contentLength());
+    }
+
+    private GetObjectRequest getRequest(String objectKey) {
         if (objectKey == null || objectKey.isBlank()) {
             throw new IllegalArgumentException("Image object key is required");
         }
         if (bucketName == null || bucketName.isBlank()) {
             throw new IllegalStateException("Yandex Object Storage bucket is not configured");
         }
-        ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(GetObjectRequest.builder()
+        return GetObjectRequest.builder()
                 .bucket(bucketName)
                 .key(objectKey)
-                .build());
-        return new StoredImageContent(response.asByteArray(), response.response().contentType());
+                .build();
     }
 
     public void delete(String objectKey) {
@@ -111,6 +129,6 @@ public class ProductImageStorageService {
     public record StoredImage(String objectKey, String url, int position) {
     }
 
-    public record StoredImageContent(byte[] bytes, String contentType) {
+    public record StoredImageStream(InputStream stream, String contentType, Long contentLength) {
     }
 }
@@ -0,0 +1,60 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Product;
+import com.example.catalog.service.CatalogService;
+import com.example.order.service.ProductAffinityService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/products")
+public class ProductRecommendationController {
+
+    private static final int DEFAULT_LIMIT = 6;
+    private static final int MAX_LIMIT = 24;
+
+    private final ProductAffinityService affinityService;
+    private final CatalogService catalogService;
+    private final CatalogueResponseFactory responseFactory;
+    private final CataloguePresentationService presentationService;
+
+    public ProductRecommendationController(
+            ProductAffinityService affinityService,
+            CatalogService catalogService,
+            CatalogueResponseFactory responseFactory,
+            CataloguePresentationService presentationService
+    ) {
+        this.affinityService = affinityService;
+        this.catalogService = catalogService;
+        this.responseFactory = responseFactory;
+        this.presentationService = presentationService;
+    }
+
+    /**
+     * Active products most often bought in the same order as {@code id}. The counts are held in memory and
+     * the products come from the catalogue snapshot.
+     */
+    @GetMapping("/{id}/frequently-bought-together")
+    public ResponseEntity<List<CatalogController.ProductResponse>> getFrequentlyBoughtTogether(
+            @PathVariable UUID id,
+            @RequestParam(defaultValue = "" + DEFAULT_LIMIT) int limit
+    ) {
+        int safeLimit = Math.max(0, Math.min(limit, MAX_LIMIT));
+        List<Product> products = catalogService.getProductsByIds(affinityService.frequentlyBoughtWith(id, safeLimit * 2)).stream()
+                .filter(Product::isIsActive)
+                .limit(safeLimit)
+                .toList();
+        var presentations = presentationService.buildPublishedProductPresentationResults(products);
+        return ResponseEntity.ok(responseFactory.toProductResponses(
+                products,
+                product -> presentationService.publishedProductPresentation(presentations, product).presentation()
+        ));
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.api.catalog;
+
+import com.example.api.content.DirectusContentCacheService;
+import com.example.api.content.ProductOverlayInvalidationListener;
+import com.example.catalog.service.CatalogChangeListener;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.catalog.service.CatalogVersionService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized and gzip-compressed product detail responses, kept per product. An entry is dropped when a
+ * commit touches its product or its Directus overlay is invalidated, and ignored once promotions or other
+ * Directus content move on, so a cached body is always the one the current data would render.
+ */
+@Service
+public class ProductResponseCache implements CatalogChangeListener, ProductOverlayInvalidationListener {
+
+    private final ObjectMapper objectMapper;
+    private final CatalogVersionService catalogVersion;
+    private final DirectusContentCacheService contentCacheService;
+    private final Map<UUID, EncodedResponse> entries;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ProductResponseCache(ObjectMapper objectMapper,
+                                CatalogVersionService catalogVersion,
+                                DirectusContentCacheService contentCacheService,
+                                @Value("${catalogue.product-response-cache.max-entries:2000}") int maxEntries) {
+        this.objectMapper = objectMapper;
+        this.catalogVersion = catalogVersion;
+        this.contentCacheService = contentCacheService;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, EncodedResponse> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Cached encodings for {@code productId}, rendering and encoding them with {@code renderer} on a miss.
+     * A render that overlaps an invalidation is served but not stored.
+     */
+    public EncodedResponse getOrRender(UUID productId, Supplier<Rendered> renderer) {
+        String stamp = stamp();
+        if (stamp != null) {
+            EncodedResponse cached;
+            synchronized (entries) {
+                cached = entries.get(productId);
+            }
+            if (cached != null && cached.stamp().equals(stamp)) {
+                return cached;
+            }
+        }
+        long invalidationsBefore = invalidations.get();
+        Rendered rendered = renderer.get();
+        EncodedResponse encoded = encode(stamp, rendered);
+        if (stamp != null && invalidations.get() == invalidationsBefore) {
+            synchronized (entries) {
+                entries.put(productId, encoded);
+            }
+        }
+        return encoded;
+    }
+
+    @Override
+    public void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            if (full) {
+                entries.clear();
+            } else {
+                productIds.forEach(entries::remove);
+            }
+        }
+    }
+
+    @Override
+    public void productOverlaysInvalidated(Set<String> productKeys) {
+        invalidations.incrementAndGet();
+        synchronized (entries) {
+            entries.values().removeIf(entry -> entry.overlayKey() != null && productKeys.contains(entry.overlayKey()));
+        }
+    }
+
+    /**
+     * The gzip body when {@code gzip} is set, the plain JSON otherwise. Pair it with
+     * {@link #encodingEtag} so each encoding carries its own validator.
+     */
+    static ResponseEntity<byte[]> toResponse(ResponseEntity.BodyBuilder builder, EncodedResponse encoded, boolean gzip) {
+        builder.contentType(MediaType.APPLICATION_JSON).header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return builder.body(encoded.json());
+    }
+
+    /**
+     * The gzip body is a different byte sequence from the JSON one, so a strong ETag must differ between
+     * them; the gzip variant gets a {@code -gzip} suffix inside the quotes.
+     */
+    static String encodingEtag(String etag, boolean gzip) {
+        if (etag == null || !gzip) {
+            return etag;
+        }
+        return etag.endsWith("\"") ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag + "-gzip";
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (!"gzip".equals(coding) && !"*".equals(coding)) {
+                continue;
+            }
+            boolean zeroQuality = false;
+            for (int index = 1; index < tokens.length; index++) {
+                String parameter = tokens[index].trim().toLowerCase(Locale.ROOT);
+                if (parameter.startsWith("q=")) {
+                    try {
+                        zeroQuality = Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException ignored) {
+                        zeroQuality = true;
+                    }
+                }
+            }
+            if (!zeroQuality) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String stamp() {
+        String contentGeneration = contentCacheService.sharedContentGeneration();
+        if (contentGeneration == null) {
+            return null;
+        }
+        return catalogVersion.sharedVersion() + "." + contentGeneration;
+    }
+
+    private EncodedResponse encode(String stamp, Rendered rendered) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(rendered.body());
+            String overlayKey = rendered.slug() != null ? rendered.slug().trim().toLowerCase(Locale.ROOT) : null;
+            return new EncodedResponse(stamp != null ? stamp : "", json, gzip(json), rendered.active(), overlayKey);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize product response", ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    /**
+     * A rendered product body. {@code slug} keys the product's Directus overlay, so invalidating that
+     * overlay drops the entry.
+     */
+    public record Rendered(Object body, boolean active, String slug) {
+    }
+
+    public record EncodedResponse(String stamp, byte[] json, byte[] gzip, boolean active, String overlayKey) {
+    }
+}
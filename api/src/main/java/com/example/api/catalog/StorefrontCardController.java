@@ -6,13 +6,13 @@ import com.example.catalog.domain.ProductImage;
 import com.example.catalog.domain.ProductVariant;
 import com.example.catalog.service.CatalogService;
 import com.example.common.domain.Money;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -33,13 +33,16 @@ public class StorefrontCardController {
 
     private final CatalogService catalogService;
     private final CatalogueResponseFactory responseFactory;
+    private final CatalogueEtagService etagService;
 
     public StorefrontCardController(
             CatalogService catalogService,
-            CatalogueResponseFactory responseFactory
+            CatalogueResponseFactory responseFactory,
+            CatalogueEtagService etagService
     ) {
         this.catalogService = catalogService;
         this.responseFactory = responseFactory;
+        this.etagService = etagService;
     }
 
     @GetMapping
@@ -47,15 +50,20 @@ public class StorefrontCardController {
             @RequestParam(value = "productKeys", required = false) String productKeys,
             @RequestParam(value = "categoryKeys", required = false) String categoryKeys,
             @RequestParam(value = "productLimit", required = false, defaultValue = "" + DEFAULT_PRODUCT_LIMIT) int productLimit,
-            @RequestParam(value = "categoryLimit", required = false, defaultValue = "" + DEFAULT_CATEGORY_LIMIT) int categoryLimit
+            @RequestParam(value = "categoryLimit", required = false, defaultValue = "" + DEFAULT_CATEGORY_LIMIT) int categoryLimit,
+            WebRequest webRequest
     ) {
+        String etag = etagService.currentEtag();
+        if (CatalogueEtagService.notModified(webRequest, etag)) {
+            return null;
+        }
         List<Product> products = resolveProducts(parseKeys(productKeys), clampLimit(productLimit));
         List<Category> categories = resolveCategories(parseKeys(categoryKeys), clampLimit(categoryLimit));
+        Map<UUID, List<ProductImage>> images = catalogService.getProductImages(products.stream().map(Product::getId).toList());
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+        return CatalogueEtagService.ok(etag)
                 .body(new StorefrontCardsResponse(
-                        products.stream().map(this::toProductCard).toList(),
+                        products.stream().map(product -> toProductCard(product, images.getOrDefault(product.getId(), List.of()))).toList(),
                         categories.stream().map(this::toCategoryCard).toList(),
                         true
                 ));
@@ -63,11 +71,9 @@ public class StorefrontCardController {
 
     private List<Product> resolveProducts(List<String> keys, int limit) {
         LinkedHashMap<String, Product> ordered = new LinkedHashMap<>();
-        for (String key : keys) {
-            resolveProduct(key)
-                    .filter(Product::isIsActive)
-                    .ifPresent(product -> ordered.putIfAbsent(productKey(product), product));
-        }
+        catalogService.resolveProductKeys(keys).values().stream()
+                .filter(Product::isIsActive)
+                .forEach(product -> ordered.putIfAbsent(productKey(product), product));
 
         if (ordered.isEmpty() && limit > 0) {
             catalogService.getAllProducts().stream()
@@ -81,11 +87,9 @@ public class StorefrontCardController {
 
     private List<Category> resolveCategories(List<String> keys, int limit) {
         LinkedHashMap<String, Category> ordered = new LinkedHashMap<>();
-        for (String key : keys) {
-            resolveCategory(key)
-                    .filter(Category::isIsActive)
-                    .ifPresent(category -> ordered.putIfAbsent(categoryKey(category), category));
-        }
+        catalogService.resolveCategoryKeys(keys).values().stream()
+                .filter(Category::isIsActive)
+                .forEach(category -> ordered.putIfAbsent(categoryKey(category), category));
 
         if (ordered.isEmpty() && limit > 0) {
             catalogService.listAllInCategory().stream()
@@ -97,30 +101,7 @@ public class StorefrontCardController {
         return ordered.values().stream().limit(limit > 0 ? limit : MAX_LIMIT).toList();
     }
 
-    private Optional<Product> resolveProduct(String key) {
-        if (!StringUtils.hasText(key)) {
-            return Optional.empty();
-        }
-        try {
-            return catalogService.getProduct(UUID.fromString(key.trim()));
-        } catch (IllegalArgumentException ignored) {
-            return catalogService.getProductBySlug(key.trim());
-        }
-    }
-
-    private Optional<Category> resolveCategory(String key) {
-        if (!StringUtils.hasText(key)) {
-            return Optional.empty();
-        }
-        try {
-            return catalogService.getByCategoryId(UUID.fromString(key.trim()));
-        } catch (IllegalArgumentException ignored) {
-            return catalogService.getBySlug(key.trim());
-        }
-    }
-
-    private ProductCardResponse toProductCard(Product product) {
-        List<ProductImage> images = catalogService.getProductImages(product.getId());
+    private ProductCardResponse toProductCard(Product product, List<ProductImage> images) {
         ProductImage primaryImage = images.stream().findFirst().orElse(null);
         ProductVariant primaryVariant = primaryVariant(product);
         CatalogController.VariantResponse primaryVariantResponse = primaryVariant != null
@@ -150,10 +131,7 @@ public class StorefrontCardController {
     }
 
     private CategoryCardResponse toCategoryCard(Category category) {
-        int productCount = catalogService.getProducts(category.getSlug(), null).stream()
-                .filter(Product::isIsActive)
-                .toList()
-                .size();
+        int productCount = (int) catalogService.countProducts(category.getSlug(), null, false);
 
         return new CategoryCardResponse(
                 category.getId(),
@@ -6,8 +6,8 @@ import com.example.api.content.CatalogueContentService;
 import com.example.catalog.domain.Brand;
 import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
-import com.example.catalog.domain.ProductVariant;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogWorkspaceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.ResponseEntity;
@@ -25,7 +25,6 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,6 +34,7 @@ import java.util.stream.Collectors;
 public class StorefrontOpsWorkspaceController {
 
     private final CatalogService catalogService;
+    private final CatalogWorkspaceService workspaceService;
     private final CatalogueContentService catalogueContentService;
     private final StorefrontOpsWorkspaceFactory workspaceFactory;
     private final DirectusBridgeSecurity bridgeSecurity;
@@ -43,6 +43,7 @@ public class StorefrontOpsWorkspaceController {
 
     public StorefrontOpsWorkspaceController(
             CatalogService catalogService,
+            CatalogWorkspaceService workspaceService,
             CatalogueContentService catalogueContentService,
             StorefrontOpsWorkspaceFactory workspaceFactory,
             DirectusBridgeSecurity bridgeSecurity,
@@ -50,6 +51,7 @@ public class StorefrontOpsWorkspaceController {
             ObjectMapper objectMapper
     ) {
         this.catalogService = catalogService;
+        this.workspaceService = workspaceService;
         this.catalogueContentService = catalogueContentService;
         this.workspaceFactory = workspaceFactory;
         this.bridgeSecurity = bridgeSecurity;
@@ -62,35 +64,30 @@ public class StorefrontOpsWorkspaceController {
             @RequestParam(name = "q", required = false) String query,
             @RequestParam(name = "keys", required = false) String keys,
             @RequestParam(name = "limit", defaultValue = "120") int limit,
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
             @RequestParam(name = "includeInactive", defaultValue = "true") boolean includeInactive,
             HttpServletRequest request
     ) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorize(request);
         Set<String> selectedKeys = parseKeySet(keys);
-        List<Product> products = catalogService.getAllProducts().stream()
-                .filter(product -> includeInactive || product.isIsActive())
-                .filter(product -> selectedKeys.contains(normalize(product.getSlug())) || matchesQuery(query,
-                        product.getName(),
-                        product.getSlug(),
-                        product.getDescription(),
-                        product.getBrand() != null ? product.getBrand().getName() : null,
-                        product.getBrand() != null ? product.getBrand().getSlug() : null,
-                        joinCategoryValues(product.getCategories())
-                ))
-                .sorted(Comparator
-                        .comparing((Product product) -> !selectedKeys.contains(normalize(product.getSlug())))
-                        .thenComparing(Product::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
-                .limit(clampWorkspaceLimit(limit))
-                .toList();
+        CatalogWorkspaceService.WorkspacePage<Product> page = workspaceService.searchProducts(
+                query,
+                selectedKeys,
+                includeInactive,
+                clampWorkspaceLimit(limit),
+                Math.max(0, offset)
+        );
+        List<Product> products = page.items();
         OverlayLookupResult productOverlays = loadPreviewProductOverlays(products);
         audit(principal, "catalogue.workspace.products.list", detailMap(
                 "query", query,
                 "keys", selectedKeys,
                 "limit", clampWorkspaceLimit(limit),
+                "offset", Math.max(0, offset),
                 "includeInactive", includeInactive,
                 "count", products.size()
         ));
-        return ResponseEntity.ok(new StorefrontOpsWorkspaceModels.ProductWorkspaceList(
+        return ResponseEntity.ok().header("X-Total-Count", String.valueOf(page.total())).body(new StorefrontOpsWorkspaceModels.ProductWorkspaceList(
                 products.stream()
                         .map(product -> workspaceFactory.toProductSummary(product, productOverlays.overlays().get(normalize(product.getSlug()))))
                         .toList(),
@@ -173,15 +170,8 @@ public class StorefrontOpsWorkspaceController {
             HttpServletRequest request
     ) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorize(request);
-        List<Product> products = catalogService.getAllProducts();
-        Map<UUID, Long> productCountsByBrandId = products.stream()
-                .map(Product::getBrand)
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(Brand::getId, Collectors.counting()));
-        List<Brand> brands = catalogService.listAllInBrand().stream()
-                .filter(brand -> matchesQuery(query, brand.getName(), brand.getSlug(), brand.getDescription()))
-                .sorted((left, right) -> compareNullableStrings(left.getName(), right.getName()))
-                .toList();
+        Map<UUID, Long> productCountsByBrandId = workspaceService.countProductsByBrand();
+        List<Brand> brands = workspaceService.searchBrands(query);
         audit(principal, "catalogue.workspace.brands.list", detailMap("query", query, "count", brands.size()));
         return ResponseEntity.ok(new StorefrontOpsWorkspaceModels.BrandWorkspaceList(
                 brands.stream()
@@ -197,9 +187,7 @@ public class StorefrontOpsWorkspaceController {
     ) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorize(request);
         Brand brand = resolveBrand(idOrSlug);
-        long productCount = catalogService.getAllProducts().stream()
-                .filter(product -> product.getBrand() != null && brand.getId().equals(product.getBrand().getId()))
-                .count();
+        long productCount = workspaceService.countProductsOfBrand(brand.getId());
         audit(principal, "catalogue.workspace.brand.get", Map.of("brand", brand.getSlug()));
         return ResponseEntity.ok(new StorefrontOpsWorkspaceModels.BrandWorkspaceDetail(
                 workspaceFactory.toBrandDetail(brand, productCount)
@@ -209,46 +197,42 @@ public class StorefrontOpsWorkspaceController {
     @GetMapping("/inventory")
     public ResponseEntity<StorefrontOpsWorkspaceModels.InventoryWorkspaceList> listInventory(
             @RequestParam(name = "q", required = false) String query,
+            @RequestParam(name = "limit", defaultValue = "500") int limit,
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
             @RequestParam(name = "includeInactive", defaultValue = "true") boolean includeInactive,
             HttpServletRequest request
     ) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorize(request);
-        List<StorefrontOpsWorkspaceModels.InventoryRow> items = catalogService.getAllProducts().stream()
-                .filter(product -> includeInactive || product.isIsActive())
-                .flatMap(product -> product.getVariants().stream().map(variant -> workspaceFactory.toInventoryRow(product, variant)))
-                .filter(row -> matchesQuery(query,
-                        row.productName(),
-                        row.productSlug(),
-                        row.variantName(),
-                        row.sku(),
-                        row.brand() != null ? row.brand().name() : null,
-                        row.brand() != null ? row.brand().slug() : null,
-                        row.categories().stream().map(StorefrontOpsWorkspaceModels.CategoryOption::fullPath).collect(Collectors.joining(" "))
-                ))
-                .sorted((left, right) -> compareNullableStrings(left.productName(), right.productName()))
+        CatalogWorkspaceService.WorkspacePage<CatalogWorkspaceService.InventoryItem> page = workspaceService.searchInventory(
+                query,
+                includeInactive,
+                clampWorkspaceLimit(limit),
+                Math.max(0, offset)
+        );
+        List<StorefrontOpsWorkspaceModels.InventoryRow> items = page.items().stream()
+                .map(item -> workspaceFactory.toInventoryRow(item.product(), item.variant()))
                 .toList();
         audit(principal, "catalogue.workspace.inventory.list", detailMap(
                 "query", query,
+                "limit", clampWorkspaceLimit(limit),
+                "offset", Math.max(0, offset),
                 "includeInactive", includeInactive,
                 "count", items.size()
         ));
-        return ResponseEntity.ok(new StorefrontOpsWorkspaceModels.InventoryWorkspaceList(items));
+        return ResponseEntity.ok()
+                .header("X-Total-Count", String.valueOf(page.total()))
+                .body(new StorefrontOpsWorkspaceModels.InventoryWorkspaceList(items));
     }
 
     @GetMapping("/summary")
     public ResponseEntity<StorefrontOpsWorkspaceModels.NavigationSummary> summary(HttpServletRequest request) {
         DirectusBridgeSecurity.DirectusBridgePrincipal principal = authorize(request);
-        List<Product> products = catalogService.getAllProducts();
-        int inventoryCount = products.stream()
-                .map(Product::getVariants)
-                .filter(Objects::nonNull)
-                .mapToInt(variants -> variants.size())
-                .sum();
+        CatalogWorkspaceService.Summary counts = workspaceService.summary();
         StorefrontOpsWorkspaceModels.NavigationSummary summary = new StorefrontOpsWorkspaceModels.NavigationSummary(
-                products.size(),
-                catalogService.listAllInCategory().size(),
-                catalogService.listAllInBrand().size(),
-                inventoryCount
+                Math.toIntExact(counts.products()),
+                Math.toIntExact(counts.categories()),
+                Math.toIntExact(counts.brands()),
+                Math.toIntExact(counts.variants())
         );
         audit(principal, "catalogue.workspace.summary", detailMap(
                 "products", summary.productCount(),
@@ -355,29 +339,6 @@ public class StorefrontOpsWorkspaceController {
         return Math.max(1, Math.min(limit, 500));
     }
 
-    private String joinCategoryValues(Collection<Category> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return "";
-        }
-        return categories.stream()
-                .map(category -> category.getFullPath() != null ? category.getFullPath() : category.getName())
-                .filter(StringUtils::hasText)
-                .collect(Collectors.joining(" "));
-    }
-
-    private int compareNullableStrings(String left, String right) {
-        if (left == null && right == null) {
-            return 0;
-        }
-        if (left == null) {
-            return 1;
-        }
-        if (right == null) {
-            return -1;
-        }
-        return String.CASE_INSENSITIVE_ORDER.compare(left, right);
-    }
-
     private void audit(DirectusBridgeSecurity.DirectusBridgePrincipal principal, String action, Map<String, Object> details) {
         try {
             adminActivityService.record(principal.actor(), action, objectMapper.writeValueAsString(enrichDetails(principal, details)));
@@ -68,7 +68,7 @@ public class MediaUploadService {
         });
         UUID batchId = UUID.randomUUID();
         int defaultPosition = request.targetType() == MediaUploadModels.TargetType.PRODUCT
-                ? catalogService.getProductImages(request.entityId()).size()
+                ? catalogService.nextProductImagePosition(request.entityId())
                 : 0;
         List<MediaUploadModels.UploadItemResponse> responses = new ArrayList<>();
         int offset = 0;
@@ -18,6 +18,9 @@ import org.springframework.security.web.access.intercept.RequestAuthorizationCon
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.util.StringUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -31,6 +34,9 @@ public class SecurityConfig {
     @Value("${app.observability.prometheus-token:}")
     private String prometheusToken;
 
+    @Value("${app.security.catalogue-export-token:}")
+    private String catalogueExportToken;
+
     @Bean
     public JwtDecoder jwtDecoder(
             @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuer
@@ -64,6 +70,11 @@ public class SecurityConfig {
                 );
         AuthorizationManager<RequestAuthorizationContext> prometheusAccess =
                 (authentication, context) -> new AuthorizationDecision(hasPrometheusAccess(context));
+        AuthorizationManager<RequestAuthorizationContext> catalogueExportAccess =
+                AuthorizationManagers.anyOf(
+                        (authentication, context) -> new AuthorizationDecision(hasCatalogueExportToken(context)),
+                        adminAccess
+                );
 
         http.csrf().disable();
         // Allow CORS from configured origins (CORS config is handled separately)
@@ -98,6 +109,9 @@ public class SecurityConfig {
                 .requestMatchers(HttpMethod.GET, "/promotions/active").permitAll()
                 // Allow anyone to view products, categories and brands via GET
                 .requestMatchers(HttpMethod.GET, "/products/**", "/categories/**", "/brands/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/catalogue/suggest").permitAll()
+                // The full catalogue dump is for site builds only
+                .requestMatchers(HttpMethod.GET, "/catalogue/export").access(catalogueExportAccess)
                 // Inventory adjustments require admin privileges
                 .requestMatchers(HttpMethod.POST, "/inventory/**").access(adminAccess)
                 .requestMatchers(HttpMethod.POST, "/orders/admin-link").access(adminAccess)
@@ -136,4 +150,14 @@ public class SecurityConfig {
         String providedToken = context.getRequest().getHeader("X-Prometheus-Token");
         return prometheusToken.equals(providedToken);
     }
+
+    private boolean hasCatalogueExportToken(RequestAuthorizationContext context) {
+        String providedToken = context.getRequest().getHeader("X-Catalogue-Export-Token");
+        return StringUtils.hasText(catalogueExportToken)
+                && providedToken != null
+                && MessageDigest.isEqual(
+                        catalogueExportToken.getBytes(StandardCharsets.UTF_8),
+                        providedToken.getBytes(StandardCharsets.UTF_8)
+                );
+    }
 }
@@ -24,6 +24,7 @@ public class WebConfig implements WebMvcConfigurer {
             "Idempotency-Key"
     };
     private static final String[] EXPOSED_RESPONSE_HEADERS = {
+            "X-Next-Cursor",
             "X-Page",
             "X-Page-Size",
             "X-Total-Count",
@@ -32,6 +32,8 @@ public class ContentCacheAdminController {
             case "navigation" -> contentCacheService.invalidateNavigation(request != null ? request.placement() : null);
             case "page" -> contentCacheService.invalidatePage(requireSlug(request));
             case "collection", "storefront_collection", "storefront-collection" -> contentCacheService.invalidateCollection(requireKey(request));
+            case "product_overlay", "product-overlay" -> contentCacheService.invalidateProductOverlay(request != null ? request.key() : null);
+            case "category_overlay", "category-overlay" -> contentCacheService.invalidateCategoryOverlay(request != null ? request.key() : null);
             default -> throw new IllegalArgumentException("Unsupported content cache scope: " + scope);
         };
     }
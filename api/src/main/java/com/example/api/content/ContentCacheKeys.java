@@ -6,6 +6,8 @@ import java.util.Locale;
 
 public final class ContentCacheKeys {
 
+    static final String PRODUCT_OVERLAY_PREFIX = "catalogue:product:";
+
     private ContentCacheKeys() {
     }
 
@@ -30,7 +32,7 @@ public final class ContentCacheKeys {
     }
 
     public static String productOverlay(String productKey) {
-        return "catalogue:product:" + normalizeToken(productKey);
+        return PRODUCT_OVERLAY_PREFIX + normalizeToken(productKey);
     }
 
     public static String categoryOverlay(String categoryKey) {
@@ -8,6 +8,7 @@ import org.springframework.util.StringUtils;
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -25,21 +26,26 @@ public class DirectusCatalogueContentService implements CatalogueContentService
     private static final TypeReference<CatalogueContentModels.StorefrontCollectionDefinition> STOREFRONT_COLLECTION_DEFINITION_TYPE =
             new TypeReference<>() {
             };
+    private static final TypeReference<CachedOverlay> CACHED_OVERLAY_TYPE = new TypeReference<>() {
+    };
 
     private final DirectusCatalogueClient directusCatalogueClient;
     private final DirectusContentCacheService contentCacheService;
+    private final DirectusContentProperties properties;
 
     public DirectusCatalogueContentService(
             DirectusCatalogueClient directusCatalogueClient,
-            DirectusContentCacheService contentCacheService
+            DirectusContentCacheService contentCacheService,
+            DirectusContentProperties properties
     ) {
         this.directusCatalogueClient = directusCatalogueClient;
         this.contentCacheService = contentCacheService;
+        this.properties = properties;
     }
 
     @Override
     public Map<String, CatalogueContentModels.CatalogueOverlay> getPublishedProductOverlays(Collection<String> productKeys) {
-        return loadOverlays("product", normalizeKeys(productKeys), ContentAccessMode.PUBLISHED);
+        return loadCachedOverlays("product", normalizeKeys(productKeys));
     }
 
     @Override
@@ -49,7 +55,7 @@ public class DirectusCatalogueContentService implements CatalogueContentService
 
     @Override
     public Map<String, CatalogueContentModels.CatalogueOverlay> getPublishedCategoryOverlays(Collection<String> categoryKeys) {
-        return loadOverlays("category", normalizeKeys(categoryKeys), ContentAccessMode.PUBLISHED);
+        return loadCachedOverlays("category", normalizeKeys(categoryKeys));
     }
 
     @Override
@@ -75,6 +81,41 @@ public class DirectusCatalogueContentService implements CatalogueContentService
         );
     }
 
+    /**
+     * Published overlays cached one entry per entity key, so a listing only asks Directus for the keys
+     * missing from Redis. Entities without an overlay are cached as empty entries.
+     */
+    private Map<String, CatalogueContentModels.CatalogueOverlay> loadCachedOverlays(String entityKind, List<String> normalizedKeys) {
+        if (normalizedKeys.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, CachedOverlay> entries = contentCacheService.getOrLoadAll(
+                normalizedKeys,
+                key -> "category".equals(entityKind) ? ContentCacheKeys.categoryOverlay(key) : ContentCacheKeys.productOverlay(key),
+                CACHED_OVERLAY_TYPE,
+                missingKeys -> {
+                    Map<String, CatalogueContentModels.CatalogueOverlay> overlays = loadOverlays(entityKind, missingKeys, ContentAccessMode.PUBLISHED);
+                    Map<String, CachedOverlay> loaded = new LinkedHashMap<>();
+                    missingKeys.forEach(key -> loaded.put(key, new CachedOverlay(overlays.get(key))));
+                    return loaded;
+                }
+        );
+
+        Map<String, CatalogueContentModels.CatalogueOverlay> overlays = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> {
+            if (entry.overlay() != null) {
+                overlays.put(key, entry.overlay());
+            }
+        });
+        return overlays;
+    }
+
+    /**
+     * Overlays and their blocks are both keyed by entity and load together; block items need the block ids.
+     * File metadata for overlays and blocks is fetched while the block items load, and only item images not
+     * seen yet need a second files request.
+     */
     private Map<String, CatalogueContentModels.CatalogueOverlay> loadOverlays(
             String entityKind,
             List<String> normalizedKeys,
@@ -84,22 +125,35 @@ public class DirectusCatalogueContentService implements CatalogueContentService
             return Map.of();
         }
 
-        List<DirectusCatalogueClient.DirectusOverlayRecord> overlays = "category".equals(entityKind)
+        try (DirectusFanOut fanOut = new DirectusFanOut(entityKind + "_overlays", properties.getRequestDeadline())) {
+            return loadOverlays(entityKind, normalizedKeys, accessMode, fanOut);
+        }
+    }
+
+    private Map<String, CatalogueContentModels.CatalogueOverlay> loadOverlays(
+            String entityKind,
+            List<String> normalizedKeys,
+            ContentAccessMode accessMode,
+            DirectusFanOut fanOut
+    ) {
+        var overlaysRequest = fanOut.fork(() -> "category".equals(entityKind)
                 ? directusCatalogueClient.fetchCategoryOverlays(normalizedKeys, accessMode)
-                : directusCatalogueClient.fetchProductOverlays(normalizedKeys, accessMode);
+                : directusCatalogueClient.fetchProductOverlays(normalizedKeys, accessMode));
+        var blocksRequest = fanOut.fork(() -> directusCatalogueClient.fetchOverlayBlocks(entityKind, normalizedKeys, accessMode));
 
+        List<DirectusCatalogueClient.DirectusOverlayRecord> overlays = fanOut.join(overlaysRequest);
         if (overlays.isEmpty()) {
             return Map.of();
         }
 
-        List<DirectusCatalogueClient.DirectusOverlayBlock> blocks = directusCatalogueClient.fetchOverlayBlocks(entityKind, normalizedKeys, accessMode);
-        List<DirectusCatalogueClient.DirectusOverlayBlockItem> blockItems = directusCatalogueClient.fetchOverlayBlockItems(
+        List<DirectusCatalogueClient.DirectusOverlayBlock> blocks = fanOut.join(blocksRequest);
+        var blockItemsRequest = fanOut.fork(() -> directusCatalogueClient.fetchOverlayBlockItems(
                 blocks.stream()
                         .map(DirectusCatalogueClient.DirectusOverlayBlock::id)
                         .filter(id -> id != null && id > 0)
                         .toList(),
                 accessMode
-        );
+        ));
 
         Set<String> fileIds = new LinkedHashSet<>();
         overlays.forEach(overlay -> {
@@ -111,9 +165,17 @@ public class DirectusCatalogueContentService implements CatalogueContentService
             addFileId(fileIds, block.image());
             addFileId(fileIds, block.mobileImage());
         });
-        blockItems.forEach(item -> addFileId(fileIds, item.image()));
+        var fileAssetsRequest = fanOut.fork(() -> loadFileAssets(fileIds));
 
-        Map<String, DirectusCatalogueClient.DirectusFileAsset> fileAssetsById = loadFileAssets(fileIds);
+        List<DirectusCatalogueClient.DirectusOverlayBlockItem> blockItems = fanOut.join(blockItemsRequest);
+        Set<String> itemFileIds = new LinkedHashSet<>();
+        blockItems.forEach(item -> addFileId(itemFileIds, item.image()));
+        itemFileIds.removeAll(fileIds);
+
+        Map<String, DirectusCatalogueClient.DirectusFileAsset> fileAssetsById = new HashMap<>(fanOut.join(fileAssetsRequest));
+        if (!itemFileIds.isEmpty()) {
+            fileAssetsById.putAll(fanOut.call(() -> loadFileAssets(itemFileIds)));
+        }
         Map<Integer, List<ContentModels.PageSectionItem>> itemsByBlockId = mapBlockItems(blockItems, fileAssetsById);
         Map<String, List<ContentModels.PageSection>> blocksByOwnerKey = blocks.stream()
                 .collect(Collectors.groupingBy(
@@ -494,4 +556,7 @@ public class DirectusCatalogueContentService implements CatalogueContentService
 
         fileIds.add(rawFileId.trim());
     }
+
+    record CachedOverlay(CatalogueContentModels.CatalogueOverlay overlay) {
+    }
 }
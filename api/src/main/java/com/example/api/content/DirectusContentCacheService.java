@@ -2,44 +2,132 @@ package com.example.api.content;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+/**
+ * Directus content cached in Redis, with a small in-process layer of deserialized values in front of it.
+ * Local entries live for at most {@code directus.local-cache-ttl}; every {@code invalidate*} call also
+ * publishes its keys or patterns on a Redis channel, so the other runtime slots drop their local copies.
+ * Values handed out from the local layer are shared between requests and must not be mutated.
+ * Concurrent misses for one key share a single load; with {@code directus.cache-load-lease} set, a Redis
+ * lease extends that across nodes. Once the fresh copy has expired the stale copy is served straight away
+ * and the key reloads on a small background pool, and keys this node loaded may refresh a little before
+ * they expire, earlier the slower their loader was ({@code directus.cache-early-refresh-beta}).
+ */
 @Service
 public class DirectusContentCacheService {
 
     private static final Logger log = LoggerFactory.getLogger(DirectusContentCacheService.class);
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(50);
+    private static final int MAX_LOAD_TIMINGS = 10_000;
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
 
     private final StringRedisTemplate redisTemplate;
     private final ObjectMapper objectMapper;
     private final DirectusContentProperties properties;
     private final CmsObservabilityService observabilityService;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong sharedInvalidations = new AtomicLong();
+    private final ObjectProvider<ProductOverlayInvalidationListener> overlayListeners;
+    private volatile Instant contentChangedAt = Instant.now();
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, LocalEntry> localEntries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, LoadTiming> loadTimings = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, LoadTiming> eldest) {
+            return size() > MAX_LOAD_TIMINGS;
+        }
+    };
+    private final ThreadPoolExecutor refreshExecutor;
 
     public DirectusContentCacheService(
             StringRedisTemplate redisTemplate,
             ObjectMapper objectMapper,
             DirectusContentProperties properties,
             CmsObservabilityService observabilityService
+    ) {
+        this(redisTemplate, objectMapper, properties, observabilityService, null);
+    }
+
+    @Autowired
+    public DirectusContentCacheService(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            DirectusContentProperties properties,
+            CmsObservabilityService observabilityService,
+            ObjectProvider<ProductOverlayInvalidationListener> overlayListeners
     ) {
         this.redisTemplate = redisTemplate;
         this.objectMapper = objectMapper;
         this.properties = properties;
         this.observabilityService = observabilityService;
+        this.overlayListeners = overlayListeners;
+        this.refreshExecutor = newRefreshExecutor(properties);
+    }
+
+    @PreDestroy
+    void shutdownRefreshExecutor() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Subscribes to invalidations published by the other instances sharing this Redis and key prefix.
+     */
+    @Autowired(required = false)
+    public void setInvalidationListenerContainer(RedisMessageListenerContainer container) {
+        container.addMessageListener(
+                (message, pattern) -> onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(invalidationChannel())
+        );
     }
 
     public <T> T getOrLoad(String cacheKey, TypeReference<T> typeReference, Supplier<T> loader) {
@@ -48,32 +136,399 @@ public class DirectusContentCacheService {
             return loader.get();
         }
 
+        T local = readLocal(cacheKey, typeReference);
+        if (local != null) {
+            observabilityService.recordCacheLookup(cacheKey, "local_hit");
+            refreshIfExpiringSoon(cacheKey, typeReference, loader);
+            return local;
+        }
+
+        long invalidationsBefore = invalidations.get();
         String redisKey = namespaced(cacheKey);
         String staleRedisKey = staleKey(cacheKey);
         T value = deserialize(cacheKey, redisKey, typeReference, false);
         if (value != null) {
             observabilityService.recordCacheLookup(cacheKey, "hit");
+            writeLocal(cacheKey, typeReference, value, invalidationsBefore);
+            refreshIfExpiringSoon(cacheKey, typeReference, loader);
             return value;
         }
 
+        T stale = deserialize(cacheKey, staleRedisKey, typeReference, true);
+        if (stale != null) {
+            observabilityService.recordCacheLookup(cacheKey, "stale_revalidate");
+            refreshInBackground(cacheKey, typeReference, loader);
+            return stale;
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(cacheKey, flight);
+        if (leader != null) {
+            return awaitLeader(cacheKey, staleRedisKey, typeReference, leader);
+        }
+        try {
+            T loaded = loadOnce(cacheKey, redisKey, staleRedisKey, typeReference, loader, invalidationsBefore);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            return staleOrThrow(cacheKey, staleRedisKey, typeReference, ex);
+        } finally {
+            inFlight.remove(cacheKey, flight);
+        }
+    }
+
+    /**
+     * Batch form of {@link #getOrLoad} for per-entity entries such as catalogue overlays: local entries first,
+     * then a single {@code MGET} over the fresh and stale copies of the rest, and one {@code loader} call for
+     * the keys found in neither. Keys that only have a stale copy are served from it and reloaded together in
+     * the background. {@code loader} should return an entry for every key it is given, with an empty value
+     * for keys that have no content, so that misses are cached as well.
+     */
+    public <T> Map<String, T> getOrLoadAll(
+            Collection<String> keys,
+            Function<String, String> cacheKeyFor,
+            TypeReference<T> typeReference,
+            Function<List<String>, Map<String, T>> loader
+    ) {
+        List<String> distinctKeys = keys.stream().distinct().toList();
+        if (distinctKeys.isEmpty()) {
+            return Map.of();
+        }
+        if (!isCacheEnabled()) {
+            distinctKeys.forEach(key -> observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "bypass"));
+            return loader.apply(distinctKeys);
+        }
+
+        Map<String, T> values = new LinkedHashMap<>();
+        List<String> remoteKeys = new ArrayList<>();
+        for (String key : distinctKeys) {
+            T local = readLocal(cacheKeyFor.apply(key), typeReference);
+            if (local != null) {
+                observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "local_hit");
+                values.put(key, local);
+            } else {
+                remoteKeys.add(key);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return values;
+        }
+
+        long invalidationsBefore = invalidations.get();
+        List<String> redisKeys = new ArrayList<>(remoteKeys.size() * 2);
+        remoteKeys.forEach(key -> redisKeys.add(namespaced(cacheKeyFor.apply(key))));
+        remoteKeys.forEach(key -> redisKeys.add(staleKey(cacheKeyFor.apply(key))));
+        List<String> payloads = readAll(cacheKeyFor.apply(remoteKeys.get(0)), redisKeys);
+        List<String> staleKeys = new ArrayList<>();
+        List<String> missingKeys = new ArrayList<>();
+        for (int i = 0; i < remoteKeys.size(); i++) {
+            String key = remoteKeys.get(i);
+            String cacheKey = cacheKeyFor.apply(key);
+            T value = parse(cacheKey, redisKeys.get(i), payloads.get(i), typeReference, false);
+            if (value != null) {
+                observabilityService.recordCacheLookup(cacheKey, "hit");
+                writeLocal(cacheKey, typeReference, value, invalidationsBefore);
+                values.put(key, value);
+                continue;
+            }
+            int staleIndex = remoteKeys.size() + i;
+            T stale = parse(cacheKey, redisKeys.get(staleIndex), payloads.get(staleIndex), typeReference, true);
+            if (stale != null) {
+                observabilityService.recordCacheLookup(cacheKey, "stale_revalidate");
+                values.put(key, stale);
+                staleKeys.add(key);
+            } else {
+                missingKeys.add(key);
+            }
+        }
+
+        if (!staleKeys.isEmpty()) {
+            refreshAllInBackground(staleKeys, cacheKeyFor, typeReference, loader);
+        }
+        if (!missingKeys.isEmpty()) {
+            Map<String, T> loaded = loader.apply(missingKeys);
+            missingKeys.forEach(key -> observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "miss"));
+            writeAll(missingKeys, cacheKeyFor, typeReference, loaded, invalidationsBefore);
+            missingKeys.stream()
+                    .filter(key -> loaded.get(key) != null)
+                    .forEach(key -> values.put(key, loaded.get(key)));
+        }
+        return values;
+    }
+
+    /**
+     * Runs {@code loader} for a key this JVM is not loading yet. With a load lease configured, only the node
+     * holding the Redis lease calls Directus; the others serve the stale copy or wait for the fresh one.
+     */
+    private <T> T loadOnce(String cacheKey,
+                           String redisKey,
+                           String staleRedisKey,
+                           TypeReference<T> typeReference,
+                           Supplier<T> loader,
+                           long invalidationsBefore) {
+        Duration lease = properties.getCacheLoadLease();
+        String leaseKey = null;
+        String leaseToken = UUID.randomUUID().toString();
+        if (lease != null && !lease.isZero() && !lease.isNegative()) {
+            if (acquireLease(namespaced(cacheKey + ":lease"), leaseToken, lease)) {
+                leaseKey = namespaced(cacheKey + ":lease");
+            } else {
+                T remote = awaitRemoteLoad(cacheKey, redisKey, staleRedisKey, typeReference, lease);
+                if (remote != null) {
+                    return remote;
+                }
+            }
+        }
         try {
+            long startedAt = System.nanoTime();
             T loaded = loader.get();
             observabilityService.recordCacheLookup(cacheKey, "miss");
-            write(cacheKey, redisKey, staleRedisKey, loaded);
+            recordLoadTiming(cacheKey, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            write(cacheKey, redisKey, staleRedisKey, loaded, invalidationsBefore);
+            writeLocal(cacheKey, typeReference, loaded, invalidationsBefore);
             return loaded;
-        } catch (RuntimeException ex) {
-            T staleValue = deserialize(cacheKey, staleRedisKey, typeReference, true);
-            if (staleValue != null) {
-                observabilityService.recordCacheLookup(cacheKey, "stale_hit");
-                log.warn("Serving stale CMS cache entry {} after loader failure", staleRedisKey, ex);
-                return staleValue;
+        } finally {
+            if (leaseKey != null) {
+                releaseLease(leaseKey, leaseToken);
             }
+        }
+    }
 
-            observabilityService.recordCacheLookup(cacheKey, "stale_miss");
-            throw ex;
+    /**
+     * Reloads {@code cacheKey} on the refresh pool unless a load for it is already running. When the pool
+     * and its queue are full the refresh is dropped; the next read past expiry tries again.
+     */
+    private <T> void refreshInBackground(String cacheKey, TypeReference<T> typeReference, Supplier<T> loader) {
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(cacheKey, flight) != null) {
+            return;
+        }
+        long invalidationsBefore = invalidations.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    flight.complete(loadOnce(cacheKey, namespaced(cacheKey), staleKey(cacheKey), typeReference, loader, invalidationsBefore));
+                } catch (RuntimeException ex) {
+                    flight.completeExceptionally(ex);
+                    observabilityService.recordCacheLookup(cacheKey, "refresh_error");
+                    log.warn("Background refresh of CMS cache entry {} failed", cacheKey, ex);
+                } finally {
+                    inFlight.remove(cacheKey, flight);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            inFlight.remove(cacheKey, flight);
+            flight.completeExceptionally(ex);
+            observabilityService.recordCacheLookup(cacheKey, "refresh_rejected");
         }
     }
 
+    private <T> void refreshAllInBackground(
+            List<String> keys,
+            Function<String, String> cacheKeyFor,
+            TypeReference<T> typeReference,
+            Function<List<String>, Map<String, T>> loader
+    ) {
+        Map<String, CompletableFuture<Object>> claimed = new LinkedHashMap<>();
+        for (String key : keys) {
+            CompletableFuture<Object> flight = new CompletableFuture<>();
+            if (inFlight.putIfAbsent(cacheKeyFor.apply(key), flight) == null) {
+                claimed.put(key, flight);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return;
+        }
+        List<String> claimedKeys = List.copyOf(claimed.keySet());
+        long invalidationsBefore = invalidations.get();
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    Map<String, T> loaded = loader.apply(claimedKeys);
+                    claimedKeys.forEach(key -> observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "miss"));
+                    writeAll(claimedKeys, cacheKeyFor, typeReference, loaded, invalidationsBefore);
+                    claimed.forEach((key, flight) -> flight.complete(loaded.get(key)));
+                } catch (RuntimeException ex) {
+                    claimed.values().forEach(flight -> flight.completeExceptionally(ex));
+                    claimedKeys.forEach(key -> observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "refresh_error"));
+                    log.warn("Background refresh of {} CMS cache entries failed", claimedKeys.size(), ex);
+                } finally {
+                    claimed.forEach((key, flight) -> inFlight.remove(cacheKeyFor.apply(key), flight));
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            claimed.forEach((key, flight) -> {
+                inFlight.remove(cacheKeyFor.apply(key), flight);
+                flight.completeExceptionally(ex);
+            });
+            claimedKeys.forEach(key -> observabilityService.recordCacheLookup(cacheKeyFor.apply(key), "refresh_rejected"));
+        }
+    }
+
+    /**
+     * Probabilistic early expiration: the closer the fresh copy is to its TTL and the longer its last load
+     * took, the likelier a read triggers a background refresh. Only keys this node loaded carry a timing,
+     * and a timing triggers at most one early refresh.
+     */
+    private <T> void refreshIfExpiringSoon(String cacheKey, TypeReference<T> typeReference, Supplier<T> loader) {
+        double beta = properties.getCacheEarlyRefreshBeta();
+        if (beta <= 0) {
+            return;
+        }
+        synchronized (loadTimings) {
+            LoadTiming timing = loadTimings.get(cacheKey);
+            if (timing == null) {
+                return;
+            }
+            double headStartMillis = -timing.loadMillis() * beta * Math.log(ThreadLocalRandom.current().nextDouble());
+            if (System.currentTimeMillis() + headStartMillis < timing.expiresAtMillis()) {
+                return;
+            }
+            loadTimings.remove(cacheKey);
+        }
+        observabilityService.recordCacheLookup(cacheKey, "early_refresh");
+        refreshInBackground(cacheKey, typeReference, loader);
+    }
+
+    private void recordLoadTiming(String cacheKey, long loadMillis) {
+        synchronized (loadTimings) {
+            loadTimings.put(cacheKey, new LoadTiming(System.currentTimeMillis() + properties.getCacheTtl().toMillis(), loadMillis));
+        }
+    }
+
+    private static ThreadPoolExecutor newRefreshExecutor(DirectusContentProperties properties) {
+        int threads = Math.max(1, properties.getCacheRefreshThreads());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads,
+                threads,
+                30,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.getCacheRefreshQueueCapacity())),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cms-cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T awaitLeader(String cacheKey, String staleRedisKey, TypeReference<T> typeReference, CompletableFuture<Object> leader) {
+        try {
+            T value = (T) leader.get(properties.getCacheLoadWaitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            observabilityService.recordCacheLookup(cacheKey, "coalesced");
+            return value;
+        } catch (ExecutionException ex) {
+            RuntimeException cause = ex.getCause() instanceof RuntimeException runtime
+                    ? runtime
+                    : new IllegalStateException("CMS content load failed for " + cacheKey, ex.getCause());
+            return staleOrThrow(cacheKey, staleRedisKey, typeReference, cause);
+        } catch (TimeoutException ex) {
+            return staleOrThrow(cacheKey, staleRedisKey, typeReference,
+                    new IllegalStateException("Timed out waiting for CMS content " + cacheKey, ex));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for CMS content " + cacheKey, ex);
+        }
+    }
+
+    /**
+     * Another node holds the load lease: serve the stale copy when there is one, otherwise poll for the
+     * fresh entry until the lease would have expired. {@code null} means the caller should load itself.
+     */
+    private <T> T awaitRemoteLoad(String cacheKey, String redisKey, String staleRedisKey, TypeReference<T> typeReference, Duration lease) {
+        T stale = deserialize(cacheKey, staleRedisKey, typeReference, true);
+        if (stale != null) {
+            observabilityService.recordCacheLookup(cacheKey, "lease_stale_hit");
+            return stale;
+        }
+        long deadline = System.currentTimeMillis() + lease.toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(LEASE_POLL_INTERVAL.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for CMS content " + cacheKey, ex);
+            }
+            T value = deserialize(cacheKey, redisKey, typeReference, false);
+            if (value != null) {
+                observabilityService.recordCacheLookup(cacheKey, "lease_hit");
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private <T> T staleOrThrow(String cacheKey, String staleRedisKey, TypeReference<T> typeReference, RuntimeException ex) {
+        T staleValue = deserialize(cacheKey, staleRedisKey, typeReference, true);
+        if (staleValue != null) {
+            observabilityService.recordCacheLookup(cacheKey, "stale_hit");
+            log.warn("Serving stale CMS cache entry {} after loader failure", staleRedisKey, ex);
+            return staleValue;
+        }
+
+        observabilityService.recordCacheLookup(cacheKey, "stale_miss");
+        throw ex;
+    }
+
+    /**
+     * {@code true} when the lease was taken or Redis could not be asked, in which case loading locally is
+     * the only option.
+     */
+    private boolean acquireLease(String leaseKey, String token, Duration lease) {
+        try {
+            return !Boolean.FALSE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, lease));
+        } catch (DataAccessException ex) {
+            log.warn("Skipping CMS cache load lease for {} because Redis is unavailable", leaseKey, ex);
+            return true;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to release CMS cache load lease {}", leaseKey, ex);
+        }
+    }
+
+    /**
+     * Token that changes whenever cached content may have changed: on every invalidation and each time a
+     * cache TTL window elapses, since entries reloaded after expiry can carry newer Directus content.
+     * {@code null} when caching is disabled and every read goes straight to Directus.
+     */
+    public String contentGeneration() {
+        if (!isCacheEnabled()) {
+            return null;
+        }
+        return invalidations.get() + "." + System.currentTimeMillis() / Math.max(1L, properties.getCacheTtl().toMillis());
+    }
+
+    /**
+     * Counter of the invalidations that may change content shown for any product: everything except
+     * invalidating individual product overlays, which {@link ProductOverlayInvalidationListener}s receive
+     * instead. Unlike {@link #contentGeneration()} it does not roll over with the cache TTL. {@code null}
+     * when caching is disabled.
+     */
+    public String sharedContentGeneration() {
+        if (!isCacheEnabled()) {
+            return null;
+        }
+        return Long.toString(sharedInvalidations.get());
+    }
+
+    /**
+     * When this node last saw a CMS cache invalidation, local or broadcast by another node. Starts at
+     * process start, since invalidations before it are not known.
+     */
+    public Instant contentChangedAt() {
+        return contentChangedAt;
+    }
+
     public CacheInvalidationResult invalidateAll() {
         return invalidateByPatterns("all", List.of("*"));
     }
@@ -101,6 +556,22 @@ public class DirectusContentCacheService {
         return invalidateByKeys("collection", List.of(ContentCacheKeys.collection(key)));
     }
 
+    public CacheInvalidationResult invalidateProductOverlay(String productKey) {
+        if (StringUtils.hasText(productKey)) {
+            return invalidateByKeys("product_overlay", List.of(ContentCacheKeys.productOverlay(productKey)));
+        }
+
+        return invalidateByPatterns("product_overlay", List.of("catalogue:product:*"));
+    }
+
+    public CacheInvalidationResult invalidateCategoryOverlay(String categoryKey) {
+        if (StringUtils.hasText(categoryKey)) {
+            return invalidateByKeys("category_overlay", List.of(ContentCacheKeys.categoryOverlay(categoryKey)));
+        }
+
+        return invalidateByPatterns("category_overlay", List.of("catalogue:category:*"));
+    }
+
     public record CacheInvalidationResult(
             String scope,
             String keyPrefix,
@@ -111,6 +582,12 @@ public class DirectusContentCacheService {
     ) {
     }
 
+    private record LocalEntry(Object value, Type type, long expiresAtMillis) {
+    }
+
+    private record LoadTiming(long expiresAtMillis, long loadMillis) {
+    }
+
     private record DeleteOutcome(long deletedKeys, boolean successful, String error) {
     }
 
@@ -127,11 +604,38 @@ public class DirectusContentCacheService {
         }
     }
 
-    private void write(String cacheKey, String redisKey, String staleRedisKey, Object value) {
+    private List<String> readAll(String cacheKey, List<String> redisKeys) {
+        try {
+            List<String> payloads = redisTemplate.opsForValue().multiGet(redisKeys);
+            if (payloads != null && payloads.size() == redisKeys.size()) {
+                return payloads;
+            }
+        } catch (DataAccessException ex) {
+            observabilityService.recordCacheLookup(cacheKey, "read_error");
+            log.warn("Skipping CMS cache read for {} keys because Redis is unavailable", redisKeys.size(), ex);
+        }
+        return Collections.nCopies(redisKeys.size(), null);
+    }
+
+    /**
+     * Writes the fresh and stale copies unless an invalidation ran since the load started: the value may
+     * predate the edit, and written back it would outlive the invalidation for a full TTL on every node.
+     * An invalidation that lands while the write is in flight removes the copies again.
+     */
+    private void write(String cacheKey, String redisKey, String staleRedisKey, Object value, long invalidationsBefore) {
+        if (invalidations.get() != invalidationsBefore) {
+            observabilityService.recordCacheWrite(cacheKey, "skipped_invalidated");
+            return;
+        }
         try {
             String payload = objectMapper.writeValueAsString(value);
             redisTemplate.opsForValue().set(redisKey, payload, properties.getCacheTtl());
             writeStaleCopy(staleRedisKey, payload);
+            if (invalidations.get() != invalidationsBefore) {
+                safeDelete(List.of(redisKey, staleRedisKey));
+                observabilityService.recordCacheWrite(cacheKey, "skipped_invalidated");
+                return;
+            }
             observabilityService.recordCacheWrite(cacheKey, "success");
         } catch (DataAccessException | IOException ex) {
             observabilityService.recordCacheWrite(cacheKey, "error");
@@ -139,6 +643,71 @@ public class DirectusContentCacheService {
         }
     }
 
+    /**
+     * Writes the fresh and stale copies of every loaded value in one pipeline, with the same invalidation
+     * check as {@link #write}.
+     */
+    private <T> void writeAll(
+            List<String> keys,
+            Function<String, String> cacheKeyFor,
+            TypeReference<T> typeReference,
+            Map<String, T> values,
+            long invalidationsBefore
+    ) {
+        Map<String, String> payloads = new LinkedHashMap<>();
+        for (String key : keys) {
+            T value = values.get(key);
+            if (value == null) {
+                continue;
+            }
+            String cacheKey = cacheKeyFor.apply(key);
+            try {
+                payloads.put(cacheKey, objectMapper.writeValueAsString(value));
+            } catch (IOException ex) {
+                observabilityService.recordCacheWrite(cacheKey, "error");
+                log.warn("Skipping CMS cache write for {}", cacheKey, ex);
+            }
+            writeLocal(cacheKey, typeReference, value, invalidationsBefore);
+        }
+        if (payloads.isEmpty()) {
+            return;
+        }
+        if (invalidations.get() != invalidationsBefore) {
+            payloads.keySet().forEach(cacheKey -> observabilityService.recordCacheWrite(cacheKey, "skipped_invalidated"));
+            return;
+        }
+
+        Duration staleTtl = properties.getCacheStaleTtl();
+        boolean writeStale = staleTtl != null && !staleTtl.isZero() && !staleTtl.isNegative();
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    var valueOperations = ((RedisOperations<String, String>) operations).opsForValue();
+                    payloads.forEach((cacheKey, payload) -> {
+                        valueOperations.set(namespaced(cacheKey), payload, properties.getCacheTtl());
+                        if (writeStale) {
+                            valueOperations.set(staleKey(cacheKey), payload, staleTtl);
+                        }
+                    });
+                    return null;
+                }
+            });
+            if (invalidations.get() != invalidationsBefore) {
+                safeDelete(payloads.keySet().stream()
+                        .flatMap(cacheKey -> Stream.of(namespaced(cacheKey), staleKey(cacheKey)))
+                        .toList());
+                payloads.keySet().forEach(cacheKey -> observabilityService.recordCacheWrite(cacheKey, "skipped_invalidated"));
+                return;
+            }
+            payloads.keySet().forEach(cacheKey -> observabilityService.recordCacheWrite(cacheKey, "success"));
+        } catch (DataAccessException ex) {
+            payloads.keySet().forEach(cacheKey -> observabilityService.recordCacheWrite(cacheKey, "error"));
+            log.warn("Skipping CMS cache write for {} entries", payloads.size(), ex);
+        }
+    }
+
     private CacheInvalidationResult invalidateByKeys(String scope, List<String> rawKeys) {
         List<String> selectors = rawKeys.stream()
                 .flatMap(rawKey -> Stream.of(namespaced(rawKey), staleKey(rawKey)))
@@ -146,6 +715,9 @@ public class DirectusContentCacheService {
                 .toList();
 
         DeleteOutcome outcome = safeDelete(selectors);
+        rawKeys.forEach(rawKey -> evictLocal(rawKey, false));
+        contentChanged(rawKeys, false);
+        rawKeys.forEach(rawKey -> publishInvalidation("key", rawKey));
         observabilityService.recordCacheInvalidation(scope, outcome.deletedKeys());
         return new CacheInvalidationResult(
                 scope,
@@ -169,6 +741,9 @@ public class DirectusContentCacheService {
         }
 
         DeleteOutcome deleteOutcome = safeDelete(keysToDelete.stream().toList());
+        rawPatterns.forEach(rawPattern -> evictLocal(rawPattern, true));
+        contentChanged(rawPatterns, true);
+        rawPatterns.forEach(rawPattern -> publishInvalidation("pattern", rawPattern));
         boolean successful = scanError == null && deleteOutcome.successful();
         String error = scanError != null ? scanError : deleteOutcome.error();
         observabilityService.recordCacheInvalidation(scope, deleteOutcome.deletedKeys());
@@ -219,6 +794,117 @@ public class DirectusContentCacheService {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private <T> T readLocal(String cacheKey, TypeReference<T> typeReference) {
+        if (properties.getLocalCacheMaxEntries() <= 0) {
+            return null;
+        }
+        synchronized (localEntries) {
+            LocalEntry entry = localEntries.get(cacheKey);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtMillis() <= System.currentTimeMillis() || !entry.type().equals(typeReference.getType())) {
+                localEntries.remove(cacheKey);
+                return null;
+            }
+            return (T) entry.value();
+        }
+    }
+
+    /**
+     * Keeps {@code value} locally unless an invalidation ran since it was read, in which case it may
+     * already be outdated.
+     */
+    private void writeLocal(String cacheKey, TypeReference<?> typeReference, Object value, long invalidationsBefore) {
+        int maxEntries = properties.getLocalCacheMaxEntries();
+        Duration localTtl = properties.getLocalCacheTtl();
+        if (value == null || maxEntries <= 0 || localTtl == null || localTtl.isZero() || localTtl.isNegative()) {
+            return;
+        }
+        long ttlMillis = Math.min(localTtl.toMillis(), properties.getCacheTtl().toMillis());
+        synchronized (localEntries) {
+            if (invalidations.get() != invalidationsBefore) {
+                return;
+            }
+            localEntries.put(cacheKey, new LocalEntry(value, typeReference.getType(), System.currentTimeMillis() + ttlMillis));
+            var iterator = localEntries.entrySet().iterator();
+            while (localEntries.size() > maxEntries && iterator.hasNext()) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops local entries for {@code selector}, either a key or a pattern whose only wildcard is a
+     * trailing {@code *}.
+     */
+    private void evictLocal(String selector, boolean pattern) {
+        synchronized (localEntries) {
+            if (pattern && selector.endsWith("*")) {
+                String prefix = selector.substring(0, selector.length() - 1);
+                localEntries.keySet().removeIf(key -> key.startsWith(prefix));
+            } else {
+                localEntries.remove(selector);
+                localEntries.remove(selector + ":stale");
+            }
+        }
+        synchronized (loadTimings) {
+            if (pattern && selector.endsWith("*")) {
+                String prefix = selector.substring(0, selector.length() - 1);
+                loadTimings.keySet().removeIf(key -> key.startsWith(prefix));
+            } else {
+                loadTimings.remove(selector);
+            }
+        }
+    }
+
+    private void publishInvalidation(String kind, String selector) {
+        try {
+            redisTemplate.convertAndSend(invalidationChannel(), instanceId + " " + kind + " " + selector);
+        } catch (DataAccessException ex) {
+            log.warn("Failed to publish CMS cache invalidation for {}", selector, ex);
+        }
+    }
+
+    void onInvalidationMessage(String message) {
+        String[] parts = message.split(" ", 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        boolean pattern = "pattern".equals(parts[1]);
+        evictLocal(parts[2], pattern);
+        contentChanged(List.of(parts[2]), pattern);
+    }
+
+    private void contentChanged(List<String> selectors, boolean pattern) {
+        contentChangedAt = Instant.now();
+        invalidations.incrementAndGet();
+        Set<String> productKeys = new LinkedHashSet<>();
+        if (!pattern) {
+            selectors.stream()
+                    .filter(selector -> selector.startsWith(ContentCacheKeys.PRODUCT_OVERLAY_PREFIX))
+                    .forEach(selector -> productKeys.add(selector.substring(ContentCacheKeys.PRODUCT_OVERLAY_PREFIX.length())));
+        }
+        if (productKeys.isEmpty() || productKeys.size() < selectors.size()) {
+            sharedInvalidations.incrementAndGet();
+        }
+        if (!productKeys.isEmpty() && overlayListeners != null) {
+            overlayListeners.orderedStream().forEach(listener -> {
+                try {
+                    listener.productOverlaysInvalidated(productKeys);
+                } catch (RuntimeException ex) {
+                    log.warn("Product overlay invalidation listener {} failed", listener.getClass().getSimpleName(), ex);
+                }
+            });
+        }
+    }
+
+    private String invalidationChannel() {
+        return namespaced("invalidations");
+    }
+
     private boolean isCacheEnabled() {
         Duration ttl = properties.getCacheTtl();
         return ttl != null && !ttl.isZero() && !ttl.isNegative();
@@ -234,7 +920,10 @@ public class DirectusContentCacheService {
     }
 
     private <T> T deserialize(String cacheKey, String redisKey, TypeReference<T> typeReference, boolean staleEntry) {
-        String cachedPayload = read(cacheKey, redisKey);
+        return parse(cacheKey, redisKey, read(cacheKey, redisKey), typeReference, staleEntry);
+    }
+
+    private <T> T parse(String cacheKey, String redisKey, String cachedPayload, TypeReference<T> typeReference, boolean staleEntry) {
         if (!StringUtils.hasText(cachedPayload)) {
             return null;
         }
@@ -186,13 +186,17 @@ public class DirectusContentClient {
         });
     }
 
-    public List<DirectusPageSection> fetchPageSections(int pageId) {
-        return fetchPageSections(pageId, ContentAccessMode.PUBLISHED);
+    public List<DirectusPageSection> fetchPageSections(String pageSlug) {
+        return fetchPageSections(pageSlug, ContentAccessMode.PUBLISHED);
     }
 
-    public List<DirectusPageSection> fetchPageSections(int pageId, ContentAccessMode accessMode) {
+    /**
+     * Sections of the page with {@code pageSlug}, filtered through the page relation so the request does not
+     * have to wait for the page id.
+     */
+    public List<DirectusPageSection> fetchPageSections(String pageSlug, ContentAccessMode accessMode) {
         MultiValueMap<String, String> query = new LinkedMultiValueMap<>();
-        query.add("filter[page][_eq]", Integer.toString(pageId));
+        query.add("filter[page][slug][_eq]", pageSlug);
         applyStatusFilter(query, accessMode);
         query.add("sort", "sort,id");
         query.add("limit", "-1");
@@ -230,18 +234,19 @@ public class DirectusContentClient {
         });
     }
 
-    public List<DirectusPageSectionItem> fetchPageSectionItems(List<Integer> sectionIds) {
-        return fetchPageSectionItems(sectionIds, ContentAccessMode.PUBLISHED);
+    public List<DirectusPageSectionItem> fetchPageSectionItems(String pageSlug) {
+        return fetchPageSectionItems(pageSlug, ContentAccessMode.PUBLISHED);
     }
 
-    public List<DirectusPageSectionItem> fetchPageSectionItems(List<Integer> sectionIds, ContentAccessMode accessMode) {
-        if (sectionIds == null || sectionIds.isEmpty()) {
-            return List.of();
-        }
-
+    /**
+     * Items of every visible section on the page with {@code pageSlug}, filtered through the section and page
+     * relations so the request does not have to wait for the section ids.
+     */
+    public List<DirectusPageSectionItem> fetchPageSectionItems(String pageSlug, ContentAccessMode accessMode) {
         MultiValueMap<String, String> query = new LinkedMultiValueMap<>();
-        query.add("filter[page_section][_in]", joinIntegerIds(sectionIds));
+        query.add("filter[page_section][page][slug][_eq]", pageSlug);
         applyStatusFilter(query, accessMode);
+        applyStatusFilter(query, accessMode, "filter[page_section]");
         query.add("sort", "sort,id");
         query.add("limit", "-1");
         query.add("fields", "id,page_section,title,description,label,url,image,image_alt,reference_kind,reference_key,sort,published_at");
@@ -320,12 +325,16 @@ public class DirectusContentClient {
     }
 
     private void applyStatusFilter(MultiValueMap<String, String> query, ContentAccessMode accessMode) {
+        applyStatusFilter(query, accessMode, "filter");
+    }
+
+    private void applyStatusFilter(MultiValueMap<String, String> query, ContentAccessMode accessMode, String filterPath) {
         if (accessMode != null && accessMode.isPreview()) {
-            query.add("filter[status][_neq]", "archived");
+            query.add(filterPath + "[status][_neq]", "archived");
             return;
         }
 
-        query.add("filter[status][_eq]", "published");
+        query.add(filterPath + "[status][_eq]", "published");
     }
 
     private boolean statusMatches(String status, ContentAccessMode accessMode) {
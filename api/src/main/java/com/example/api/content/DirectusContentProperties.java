@@ -15,12 +15,20 @@ public class DirectusContentProperties {
     private Duration cacheTtl = Duration.ofMinutes(5);
     private Duration cacheStaleTtl = Duration.ofHours(1);
     private String cacheKeyPrefix = "cms:content";
+    private Duration localCacheTtl = Duration.ofSeconds(30);
+    private int localCacheMaxEntries = 500;
+    private Duration cacheLoadWaitTimeout = Duration.ofSeconds(15);
+    private Duration cacheLoadLease = Duration.ZERO;
+    private int cacheRefreshThreads = 2;
+    private int cacheRefreshQueueCapacity = 64;
+    private double cacheEarlyRefreshBeta = 1.0;
     private Duration responseCacheMaxAge = Duration.ofMinutes(1);
     private Duration responseCacheStaleWhileRevalidate = Duration.ofMinutes(5);
     private Duration responseCacheStaleIfError = Duration.ofHours(1);
     private Duration connectTimeout = Duration.ofSeconds(3);
     private Duration readTimeout = Duration.ofSeconds(5);
     private Duration slowRequestThreshold = Duration.ofSeconds(2);
+    private Duration requestDeadline = Duration.ofSeconds(8);
 
     public String getBaseUrl() {
         return baseUrl;
@@ -70,6 +78,62 @@ public class DirectusContentProperties {
         this.cacheKeyPrefix = cacheKeyPrefix;
     }
 
+    public Duration getLocalCacheTtl() {
+        return localCacheTtl;
+    }
+
+    public void setLocalCacheTtl(Duration localCacheTtl) {
+        this.localCacheTtl = localCacheTtl;
+    }
+
+    public int getLocalCacheMaxEntries() {
+        return localCacheMaxEntries;
+    }
+
+    public void setLocalCacheMaxEntries(int localCacheMaxEntries) {
+        this.localCacheMaxEntries = localCacheMaxEntries;
+    }
+
+    public Duration getCacheLoadWaitTimeout() {
+        return cacheLoadWaitTimeout;
+    }
+
+    public void setCacheLoadWaitTimeout(Duration cacheLoadWaitTimeout) {
+        this.cacheLoadWaitTimeout = cacheLoadWaitTimeout;
+    }
+
+    public Duration getCacheLoadLease() {
+        return cacheLoadLease;
+    }
+
+    public void setCacheLoadLease(Duration cacheLoadLease) {
+        this.cacheLoadLease = cacheLoadLease;
+    }
+
+    public int getCacheRefreshThreads() {
+        return cacheRefreshThreads;
+    }
+
+    public void setCacheRefreshThreads(int cacheRefreshThreads) {
+        this.cacheRefreshThreads = cacheRefreshThreads;
+    }
+
+    public int getCacheRefreshQueueCapacity() {
+        return cacheRefreshQueueCapacity;
+    }
+
+    public void setCacheRefreshQueueCapacity(int cacheRefreshQueueCapacity) {
+        this.cacheRefreshQueueCapacity = cacheRefreshQueueCapacity;
+    }
+
+    public double getCacheEarlyRefreshBeta() {
+        return cacheEarlyRefreshBeta;
+    }
+
+    public void setCacheEarlyRefreshBeta(double cacheEarlyRefreshBeta) {
+        this.cacheEarlyRefreshBeta = cacheEarlyRefreshBeta;
+    }
+
     public Duration getResponseCacheMaxAge() {
         return responseCacheMaxAge;
     }
@@ -117,4 +181,12 @@ public class DirectusContentProperties {
     public void setSlowRequestThreshold(Duration slowRequestThreshold) {
         this.slowRequestThreshold = slowRequestThreshold;
     }
+
+    public Duration getRequestDeadline() {
+        return requestDeadline;
+    }
+
+    public void setRequestDeadline(Duration requestDeadline) {
+        this.requestDeadline = requestDeadline;
+    }
 }
@@ -12,6 +12,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,13 +31,16 @@ public class DirectusContentService implements ContentService {
 
     private final DirectusContentClient directusContentClient;
     private final DirectusContentCacheService contentCacheService;
+    private final DirectusContentProperties properties;
 
     public DirectusContentService(
             DirectusContentClient directusContentClient,
-            DirectusContentCacheService contentCacheService
+            DirectusContentCacheService contentCacheService,
+            DirectusContentProperties properties
     ) {
         this.directusContentClient = directusContentClient;
         this.contentCacheService = contentCacheService;
+        this.properties = properties;
     }
 
     @Override
@@ -197,16 +201,31 @@ public class DirectusContentService implements ContentService {
                 .toList();
     }
 
+    /**
+     * Page, sections and section items are all filtered by the page slug and load together; file metadata for
+     * the page, its sections and their items then comes from one files request.
+     */
     private ContentModels.Page loadPage(String slug, ContentAccessMode accessMode) {
-        var page = directusContentClient.fetchPageBySlug(slug, accessMode);
-        var sections = directusContentClient.fetchPageSections(page.id(), accessMode);
-        var sectionItems = directusContentClient.fetchPageSectionItems(
-                        sections.stream()
-                                .map(DirectusContentClient.DirectusPageSection::id)
-                                .filter(id -> id != null && id > 0)
-                                .toList(),
-                        accessMode
-                );
+        try (DirectusFanOut fanOut = new DirectusFanOut("page", properties.getRequestDeadline())) {
+            return loadPage(slug, accessMode, fanOut);
+        }
+    }
+
+    private ContentModels.Page loadPage(String slug, ContentAccessMode accessMode, DirectusFanOut fanOut) {
+        var pageRequest = fanOut.fork(() -> directusContentClient.fetchPageBySlug(slug, accessMode));
+        var sectionsRequest = fanOut.fork(() -> directusContentClient.fetchPageSections(slug, accessMode));
+        var sectionItemsRequest = fanOut.fork(() -> directusContentClient.fetchPageSectionItems(slug, accessMode));
+
+        var page = fanOut.join(pageRequest);
+        var sections = fanOut.join(sectionsRequest).stream()
+                .filter(section -> Objects.equals(section.page(), page.id()))
+                .toList();
+        Set<Integer> sectionIds = sections.stream()
+                .map(DirectusContentClient.DirectusPageSection::id)
+                .collect(Collectors.toSet());
+        var sectionItems = fanOut.join(sectionItemsRequest).stream()
+                .filter(item -> sectionIds.contains(item.pageSection()))
+                .toList();
 
         Set<String> fileIds = new LinkedHashSet<>();
         addFileId(fileIds, page.seoImage());
@@ -215,8 +234,7 @@ public class DirectusContentService implements ContentService {
             addFileId(fileIds, section.mobileImage());
         });
         sectionItems.forEach(item -> addFileId(fileIds, item.image()));
-
-        Map<String, DirectusContentClient.DirectusFileAsset> fileAssetsById = loadFileAssets(fileIds);
+        Map<String, DirectusContentClient.DirectusFileAsset> fileAssetsById = fanOut.call(() -> loadFileAssets(fileIds));
 
         var itemsBySectionId = sectionItems.stream()
                 .collect(Collectors.groupingBy(
@@ -0,0 +1,66 @@
+package com.example.api.content;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Directus requests made for one content load. Each {@link #fork} runs on its own virtual thread, every
+ * {@link #join} waits against the deadline set when the fan-out was opened, and closing it interrupts
+ * whatever is still running.
+ */
+final class DirectusFanOut implements AutoCloseable {
+
+    private final String operation;
+    private final Duration deadline;
+    private final long deadlineNanos;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    DirectusFanOut(String operation, Duration deadline) {
+        this.operation = operation;
+        this.deadline = deadline;
+        this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+    }
+
+    <T> CompletableFuture<T> fork(Supplier<T> request) {
+        return CompletableFuture.supplyAsync(request, executor);
+    }
+
+    <T> T call(Supplier<T> request) {
+        return join(fork(request));
+    }
+
+    /**
+     * The result of {@code request}, rethrowing its own exception when it failed.
+     */
+    <T> T join(CompletableFuture<T> request) {
+        try {
+            return request.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Directus " + operation + " request failed", ex.getCause());
+        } catch (TimeoutException ex) {
+            throw new ResourceAccessException("Directus " + operation + " load exceeded its " + deadline + " deadline");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading Directus " + operation, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
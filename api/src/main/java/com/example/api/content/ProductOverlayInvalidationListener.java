@@ -0,0 +1,13 @@
+package com.example.api.content;
+
+import java.util.Set;
+
+/**
+ * Receives invalidations of individual product overlays, made on this node or broadcast by another one.
+ * {@code productKeys} are the normalized overlay keys, i.e. lower-cased product slugs. Invalidations that
+ * may affect every product move {@link DirectusContentCacheService#sharedContentGeneration()} instead.
+ */
+public interface ProductOverlayInvalidationListener {
+
+    void productOverlaysInvalidated(Set<String> productKeys);
+}
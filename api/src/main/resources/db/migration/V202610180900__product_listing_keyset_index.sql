@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_product_listing_keyset
+    ON product ((lower(name) COLLATE "C"), id);
@@ -0,0 +1,56 @@
+CREATE TABLE IF NOT EXISTS product_card (
+    product_id UUID PRIMARY KEY REFERENCES product(id) ON DELETE CASCADE,
+    slug TEXT NOT NULL,
+    name TEXT NOT NULL,
+    brand_slug TEXT,
+    brand_name TEXT,
+    min_price_amount BIGINT,
+    max_price_amount BIGINT,
+    price_currency CHAR(3),
+    primary_image_key TEXT,
+    in_stock BOOLEAN NOT NULL DEFAULT FALSE,
+    total_stock INT NOT NULL DEFAULT 0,
+    category_paths TEXT[] NOT NULL DEFAULT '{}',
+    is_active BOOLEAN NOT NULL DEFAULT TRUE,
+    product_created_at TIMESTAMPTZ,
+    updated_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE product_card IS 'Denormalized product card read model maintained by catalogue and inventory writes.';
+COMMENT ON COLUMN product_card.min_price_amount IS 'Lowest variant base price in smallest currency unit.';
+COMMENT ON COLUMN product_card.category_paths IS 'Full paths of assigned categories and all of their ancestors.';
+
+CREATE INDEX IF NOT EXISTS idx_product_card_price
+    ON product_card(min_price_amount, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_card_created
+    ON product_card(product_created_at DESC, product_id);
+CREATE INDEX IF NOT EXISTS idx_product_card_brand
+    ON product_card(brand_slug);
+CREATE INDEX IF NOT EXISTS idx_product_card_category_paths
+    ON product_card USING GIN (category_paths);
+
+INSERT INTO product_card (product_id, slug, name, brand_slug, brand_name, min_price_amount, max_price_amount,
+                          price_currency, primary_image_key, in_stock, total_stock, category_paths, is_active,
+                          product_created_at, updated_at)
+SELECT p.id,
+       p.slug,
+       p.name,
+       b.slug,
+       b.name,
+       (SELECT min(v.price_amount) FROM product_variant v WHERE v.product_id = p.id),
+       (SELECT max(v.price_amount) FROM product_variant v WHERE v.product_id = p.id),
+       (SELECT v.price_currency FROM product_variant v WHERE v.product_id = p.id ORDER BY v.price_amount LIMIT 1),
+       (SELECT i.object_key FROM product_image i WHERE i.product_id = p.id ORDER BY i.position, i.created_at DESC LIMIT 1),
+       EXISTS (SELECT 1 FROM product_variant v WHERE v.product_id = p.id AND v.stock_quantity > 0),
+       COALESCE((SELECT sum(v.stock_quantity) FROM product_variant v WHERE v.product_id = p.id), 0),
+       COALESCE((SELECT array_agg(DISTINCT array_to_string((string_to_array(c.full_path, '/'))[1:n], '/'))
+                 FROM product_category pc
+                 JOIN category c ON c.id = pc.category_id
+                 CROSS JOIN LATERAL generate_series(1, cardinality(string_to_array(c.full_path, '/'))) AS n
+                 WHERE pc.product_id = p.id), '{}'),
+       p.is_active,
+       p.created_at,
+       NOW()
+FROM product p
+LEFT JOIN brand b ON b.id = p.brand_id
+WHERE TRUE
+ON CONFLICT (product_id) DO NOTHING;
@@ -0,0 +1,16 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_product_name_trgm
+    ON product USING gin (name gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_slug_trgm
+    ON product USING gin (slug gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_description_trgm
+    ON product USING gin (description gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_variant_sku_trgm
+    ON product_variant USING gin (sku gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_product_variant_name_trgm
+    ON product_variant USING gin (name gin_trgm_ops);
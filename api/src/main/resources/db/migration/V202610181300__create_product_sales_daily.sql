@@ -0,0 +1,31 @@
+CREATE TABLE IF NOT EXISTS order_sales_ledger (
+    order_id UUID PRIMARY KEY REFERENCES "order"(id) ON DELETE CASCADE,
+    sales_date DATE NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT NOW()
+);
+COMMENT ON TABLE order_sales_ledger IS 'Orders whose items are currently counted in product_sales_daily, with the day they were counted under.';
+
+CREATE TABLE IF NOT EXISTS product_sales_daily (
+    sales_date DATE NOT NULL,
+    variant_id UUID NOT NULL,
+    product_id UUID NOT NULL,
+    quantity BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (sales_date, variant_id)
+);
+COMMENT ON TABLE product_sales_daily IS 'Paid units per variant and day, maintained incrementally on payment and refund.';
+CREATE INDEX IF NOT EXISTS idx_product_sales_daily_date_product
+    ON product_sales_daily(sales_date, product_id) INCLUDE (quantity);
+
+INSERT INTO order_sales_ledger (order_id, sales_date)
+SELECT o.id, (o.order_date AT TIME ZONE 'UTC')::date
+FROM "order" o
+WHERE upper(o.status) IN ('PAID', 'PROCESSING', 'READY_FOR_PICKUP', 'SHIPPED', 'DELIVERED', 'RECEIVED', 'COMPLETED')
+ON CONFLICT (order_id) DO NOTHING;
+
+INSERT INTO product_sales_daily (sales_date, variant_id, product_id, quantity)
+SELECT l.sales_date, oi.variant_id, v.product_id, sum(oi.quantity)
+FROM order_sales_ledger l
+JOIN order_item oi ON oi.order_id = l.order_id
+JOIN product_variant v ON v.id = oi.variant_id
+GROUP BY l.sales_date, oi.variant_id, v.product_id
+ON CONFLICT (sales_date, variant_id) DO UPDATE SET quantity = EXCLUDED.quantity;
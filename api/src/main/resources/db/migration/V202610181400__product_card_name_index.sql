@@ -0,0 +1,2 @@
+CREATE INDEX IF NOT EXISTS idx_product_card_name
+    ON product_card(lower(name), product_id);
@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS catalog_tombstone (
+    entity_type TEXT NOT NULL,
+    entity_id UUID NOT NULL,
+    slug TEXT,
+    deleted_at TIMESTAMPTZ NOT NULL DEFAULT NOW(),
+    PRIMARY KEY (entity_type, entity_id)
+);
+COMMENT ON TABLE catalog_tombstone IS 'Hard-deleted products, categories and brands, so incremental catalogue exports can report deletions.';
+COMMENT ON COLUMN catalog_tombstone.entity_type IS 'product, category or brand.';
+CREATE INDEX IF NOT EXISTS idx_catalog_tombstone_deleted_at ON catalog_tombstone(deleted_at);
@@ -3,17 +3,27 @@ package com.example.api.catalog;
 import com.example.catalog.domain.Product;
 import com.example.catalog.domain.ProductImage;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.ProductFacetService;
+import com.example.catalog.service.ProductSearchService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
@@ -23,6 +33,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(MockitoExtension.class)
 class CatalogControllerProductImagePreviewTest {
 
+    private static final UUID IMAGE_ID = UUID.fromString("22222222-2222-4222-8222-222222222222");
+    private static final byte[] BYTES = "jpeg-content".getBytes(StandardCharsets.UTF_8);
+
     @Mock
     private CatalogService catalogService;
 
@@ -35,37 +48,106 @@ class CatalogControllerProductImagePreviewTest {
     @Mock
     private CataloguePresentationService presentationService;
 
+    @Mock
+    private ProductSearchService searchService;
+
+    @Mock
+    private ProductFacetService facetService;
+
+    @Mock
+    private CatalogueEtagService etagService;
+
+    @Mock
+    private ProductResponseCache responseCache;
+
+    @TempDir
+    private Path cacheDirectory;
+
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new CatalogController(
-                catalogService,
-                imageStorageService,
-                responseFactory,
-                presentationService
-        )).build();
+        mockMvc = controller(new ProductImageDiskCache(cacheDirectory.toString(), 1024, 60));
     }
 
     @Test
     void previewProductImageStreamsCachedOriginalObject() throws Exception {
-        UUID imageId = UUID.fromString("22222222-2222-4222-8222-222222222222");
+        ProductImage image = stubImage();
+        when(imageStorageService.downloadTo(eq(image.getObjectKey()), any(Path.class))).thenAnswer(invocation -> {
+            Files.write(invocation.getArgument(1, Path.class), BYTES);
+            return "image/jpeg";
+        });
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(get("/products/images/{imageId}/preview", IMAGE_ID))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                    .andExpect(header().exists("ETag"))
+                    .andExpect(content().contentType("image/jpeg"))
+                    .andExpect(content().bytes(BYTES));
+        }
+        verify(imageStorageService, times(1)).downloadTo(eq(image.getObjectKey()), any(Path.class));
+    }
+
+    @Test
+    void previewProductImageAnswersRangesAndConditionalRequestsFromTheCachedFile() throws Exception {
+        ProductImage image = stubImage();
+        when(imageStorageService.downloadTo(eq(image.getObjectKey()), any(Path.class))).thenAnswer(invocation -> {
+            Files.write(invocation.getArgument(1, Path.class), BYTES);
+            return "image/jpeg";
+        });
+
+        String etag = mockMvc.perform(get("/products/images/{imageId}/preview", IMAGE_ID).header("Range", "bytes=0-3"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string("Content-Range", "bytes 0-3/" + BYTES.length))
+                .andExpect(content().bytes("jpeg".getBytes(StandardCharsets.UTF_8)))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/products/images/{imageId}/preview", IMAGE_ID).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        verify(imageStorageService, times(1)).downloadTo(eq(image.getObjectKey()), any(Path.class));
+    }
+
+    @Test
+    void previewProductImageStreamsFromStorageWhenTheDiskCacheIsDisabled() throws Exception {
+        mockMvc = controller(new ProductImageDiskCache(cacheDirectory.toString(), 0, 60));
+        ProductImage image = stubImage();
+        when(imageStorageService.openStream(image.getObjectKey())).thenReturn(new ProductImageStorageService.StoredImageStream(
+                new ByteArrayInputStream(BYTES),
+                "image/jpeg",
+                (long) BYTES.length
+        ));
+
+        mockMvc.perform(get("/products/images/{imageId}/preview", IMAGE_ID))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist("Accept-Ranges"))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(BYTES));
+    }
+
+    private ProductImage stubImage() {
         ProductImage image = new ProductImage(
                 new Product("Cloud Sofa", "Soft", "cloud-sofa"),
                 "https://storage.example.test/products/product-id/image-id.jpeg",
                 "products/product-id/image-id.jpeg",
                 0
         );
-        byte[] bytes = "jpeg-content".getBytes(StandardCharsets.UTF_8);
-
-        when(catalogService.getProductImage(imageId)).thenReturn(image);
-        when(imageStorageService.download(image.getObjectKey()))
-                .thenReturn(new ProductImageStorageService.StoredImageContent(bytes, "image/jpeg"));
+        when(catalogService.getProductImage(IMAGE_ID)).thenReturn(image);
+        return image;
+    }
 
-        mockMvc.perform(get("/products/images/{imageId}/preview", imageId))
-                .andExpect(status().isOk())
-                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
-                .andExpect(content().contentType("image/jpeg"))
-                .andExpect(content().bytes(bytes));
+    private MockMvc controller(ProductImageDiskCache imageDiskCache) {
+        return MockMvcBuilders.standaloneSetup(new CatalogController(
+                catalogService,
+                imageStorageService,
+                responseFactory,
+                presentationService,
+                searchService,
+                facetService,
+                etagService,
+                responseCache,
+                imageDiskCache
+        )).build();
     }
 }
@@ -0,0 +1,85 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogKeyResolutionTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new CatalogService(productRepository, variantRepository, brandRepository, categoryRepository, imageRepository);
+    }
+
+    @Test
+    void productKeysAreResolvedWithOneQueryPerKeyKind() {
+        Product duvet = product("linen-duvet");
+        Product pillow = product("Down-Pillow");
+        Product sheet = product("sheet");
+        when(productRepository.findAllById(Set.of(sheet.getId()))).thenReturn(List.of(sheet));
+        when(productRepository.findBySlugIn(Set.of("linen-duvet", "DOWN-PILLOW", "missing")))
+                .thenReturn(List.of(duvet));
+        when(productRepository.findByNormalizedSlugIn(Set.of("down-pillow", "missing"))).thenReturn(List.of(pillow));
+
+        var resolved = catalogService.resolveProductKeys(
+                List.of("DOWN-PILLOW ", sheet.getId().toString(), "linen-duvet", "missing", "linen-duvet"));
+
+        assertThat(resolved.keySet()).containsExactly("DOWN-PILLOW", sheet.getId().toString(), "linen-duvet");
+        assertThat(resolved.values()).containsExactly(pillow, sheet, duvet);
+        verify(productRepository, never()).findById(any());
+        verify(productRepository, never()).findBySlug(anyString());
+        verify(productRepository, never()).findByNormalizedSlug(anyString());
+    }
+
+    @Test
+    void categoryKeysSkipTheFallbackWhenEverySlugMatches() {
+        Category bedroom = new Category("Bedroom", null, "bedroom", null);
+        bedroom.setId(UUID.randomUUID());
+        when(categoryRepository.findBySlugIn(Set.of("bedroom"))).thenReturn(List.of(bedroom));
+
+        assertThat(catalogService.resolveCategoryKeys(List.of("bedroom"))).containsEntry("bedroom", bedroom);
+        verify(categoryRepository, never()).findAllById(any());
+        verify(categoryRepository, never()).findByNormalizedSlugIn(any());
+    }
+
+    private Product product(String slug) {
+        Product product = new Product(slug, "", slug);
+        product.setId(UUID.randomUUID());
+        return product;
+    }
+}
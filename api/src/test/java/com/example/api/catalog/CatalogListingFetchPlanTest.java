@@ -0,0 +1,106 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductImage;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogListingFetchPlanTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new CatalogService(
+                productRepository,
+                variantRepository,
+                brandRepository,
+                categoryRepository,
+                imageRepository
+        );
+    }
+
+    /**
+     * Counts repository calls, not SQL statements: lazy loads Hibernate would issue behind a mocked
+     * repository are invisible here, so this only guards against per-product repository lookups.
+     */
+    @Test
+    void listingPageMakesSameRepositoryCallsRegardlessOfPageSize() {
+        assertThat(repositoryCallsForListingPage(1)).isEqualTo(5);
+        assertThat(repositoryCallsForListingPage(24)).isEqualTo(5);
+        assertThat(repositoryCallsForListingPage(100)).isEqualTo(5);
+    }
+
+    @Test
+    void imagesAreGroupedPerProductInRepositoryOrder() {
+        List<Product> products = products(2);
+        ProductImage first = new ProductImage(products.get(1), "https://cdn/1.jpg", "products/1.jpg", 0);
+        ProductImage second = new ProductImage(products.get(1), "https://cdn/2.jpg", "products/2.jpg", 1);
+        when(imageRepository.findWithVariantByProductIdIn(anyCollection())).thenReturn(List.of(first, second));
+
+        Map<UUID, List<ProductImage>> images = catalogService.getProductImages(products.stream().map(Product::getId).toList());
+
+        assertThat(images.get(products.get(0).getId())).isEmpty();
+        assertThat(images.get(products.get(1).getId())).containsExactly(first, second);
+    }
+
+    private int repositoryCallsForListingPage(int size) {
+        clearInvocations(productRepository, imageRepository);
+        PageRequest pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.ASC, "name"));
+        List<Product> products = products(size);
+        when(productRepository.findListingPage(eq(true), anyCollection(), eq(""), eq(false), eq(0L), eq(size))).thenReturn(products);
+        when(productRepository.countListing(eq(true), anyCollection(), eq(""), eq(false))).thenReturn(500L);
+
+        Page<Product> result = catalogService.getProducts(null, null, false, pageable);
+        catalogService.getProductImages(result.getContent().stream().map(Product::getId).toList());
+
+        return mockingDetails(productRepository).getInvocations().size()
+                + mockingDetails(imageRepository).getInvocations().size();
+    }
+
+    private List<Product> products(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> {
+                    Product product = new Product("Product " + index, "", "product-" + index);
+                    product.setId(UUID.randomUUID());
+                    return product;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.catalog.service.CatalogSnapshotLoader;
+import com.example.catalog.service.CatalogSnapshotService;
+import com.example.catalog.service.ProductCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+    @Mock
+    private CatalogSnapshotLoader loader;
+
+    private CatalogSnapshotService snapshotService;
+    private CatalogService catalogService;
+
+    @BeforeEach
+    void setUp() {
+        snapshotService = new CatalogSnapshotService(loader, true);
+        catalogService = new CatalogService(
+                productRepository,
+                variantRepository,
+                brandRepository,
+                categoryRepository,
+                imageRepository,
+                snapshotService
+        );
+    }
+
+    @Test
+    void storefrontReadsAreServedFromSnapshotWithoutRepositoryAccess() {
+        Category bedroom = category("Спальня", "bedroom", "bedroom", null);
+        Category linen = category("Бельё", "linen", "bedroom/linen", bedroom);
+        Brand brand = new Brand("Aurora", "", "aurora");
+        brand.setId(UUID.randomUUID());
+        Product sheet = product("Простыня", "sheet", linen, brand);
+        Product pillow = product("Подушка", "pillow", bedroom, null);
+        when(loader.loadFull(anyLong())).thenReturn(new CatalogSnapshot(1L, List.of(sheet, pillow), Map.of(), List.of(linen, bedroom), List.of(brand)));
+
+        assertThat(catalogService.getProductBySlug(" SHEET")).contains(sheet);
+        assertThat(catalogService.getProducts("bedroom", null)).containsExactly(pillow, sheet);
+        assertThat(catalogService.getProducts("bedroom", "aurora")).containsExactly(sheet);
+        assertThat(catalogService.listAllInCategory()).containsExactly(bedroom, linen);
+
+        verifyNoInteractions(productRepository, categoryRepository, brandRepository, imageRepository);
+    }
+
+    @Test
+    void productWriteRefreshesOnlyTheChangedProduct() {
+        Product pillow = product("Подушка", "pillow", null, null);
+        CatalogSnapshot initial = new CatalogSnapshot(1L, List.of(pillow), Map.of(), List.of(), List.of());
+        CatalogSnapshot refreshed = new CatalogSnapshot(2L, List.of(), Map.of(), List.of(), List.of());
+        when(loader.loadFull(anyLong())).thenReturn(initial);
+        when(loader.refreshProducts(eq(initial), eq(Set.of(pillow.getId())), anyLong())).thenReturn(refreshed);
+        when(productRepository.findById(pillow.getId())).thenReturn(Optional.of(pillow));
+
+        assertThat(catalogService.getProduct(pillow.getId())).contains(pillow);
+
+        catalogService.deleteProduct(pillow.getId());
+
+        assertThat(catalogService.getProduct(pillow.getId())).isEmpty();
+        verify(productRepository).recordTombstone(CatalogService.TOMBSTONE_PRODUCT, pillow.getId(), "pillow");
+        verify(loader).refreshProducts(eq(initial), any(), anyLong());
+    }
+
+    @Test
+    void imageWriteLookupsReadTheDatabaseWhileTheSnapshotLags() {
+        Product pillow = product("Подушка", "pillow", null, null);
+        when(loader.loadFull(anyLong())).thenReturn(new CatalogSnapshot(1L, List.of(pillow), Map.of(), List.of(), List.of()));
+        when(imageRepository.countByProduct_Id(pillow.getId())).thenReturn(2L);
+        when(imageRepository.findObjectKeysByProductId(pillow.getId())).thenReturn(List.of("products/a.jpg", "products/b.jpg"));
+
+        assertThat(catalogService.getProductImages(pillow.getId())).isEmpty();
+        assertThat(catalogService.nextProductImagePosition(pillow.getId())).isEqualTo(2);
+        assertThat(catalogService.getProductImageObjectKeys(pillow.getId())).containsExactly("products/a.jpg", "products/b.jpg");
+    }
+
+    @Test
+    void committedChangesAreAppliedOnTheRefresherThread() {
+        Product pillow = product("Подушка", "pillow", null, null);
+        CatalogSnapshot initial = new CatalogSnapshot(1L, List.of(pillow), Map.of(), List.of(), List.of());
+        AtomicReference<String> refreshThread = new AtomicReference<>();
+        when(loader.loadFull(anyLong())).thenReturn(initial);
+        when(loader.refreshProducts(eq(initial), eq(Set.of(pillow.getId())), anyLong())).thenAnswer(invocation -> {
+            refreshThread.set(Thread.currentThread().getName());
+            return initial;
+        });
+        snapshotService.current();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            snapshotService.productChanged(pillow.getId());
+            snapshotService.productChanged(pillow.getId());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(loader, timeout(5000)).refreshProducts(eq(initial), eq(Set.of(pillow.getId())), anyLong());
+        assertThat(refreshThread.get()).isEqualTo("catalog-snapshot-refresh");
+    }
+
+    @Test
+    void keysetListingResumesAfterEncodedCursor() {
+        Product armchair = product("Кресло", "armchair", null, null);
+        Product bed = product("кровать", "bed", null, null);
+        Product sofa = product("Диван", "sofa", null, null);
+        when(loader.loadFull(anyLong())).thenReturn(new CatalogSnapshot(1L, List.of(sofa, bed, armchair), Map.of(), List.of(), List.of()));
+
+        Slice<Product> first = catalogService.getProductsAfter(null, null, false, null, 2);
+        ProductCursor cursor = ProductCursor.decode(ProductCursor.of(first.getContent().get(1)).encode());
+        Slice<Product> second = catalogService.getProductsAfter(null, null, false, cursor, 2);
+
+        assertThat(first.getContent()).containsExactly(sofa, armchair);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).containsExactly(bed);
+        assertThat(second.hasNext()).isFalse();
+        assertThat(catalogService.countProducts(null, null, false)).isEqualTo(3);
+        verifyNoInteractions(productRepository);
+    }
+
+    private Category category(String name, String slug, String fullPath, Category parent) {
+        Category category = new Category(name, "", slug, parent);
+        category.setId(UUID.randomUUID());
+        category.setFullPath(fullPath);
+        return category;
+    }
+
+    private Product product(String name, String slug, Category category, Brand brand) {
+        Product product = new Product(name, "", slug);
+        product.setId(UUID.randomUUID());
+        if (category != null) {
+            product.setCategories(Set.of(category));
+        }
+        product.setBrand(brand);
+        return product;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.order.service.ProductSalesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSuggestServiceTest {
+
+    @Mock
+    private CatalogService catalogService;
+    @Mock
+    private ProductSalesService productSalesService;
+
+    private CatalogSuggestService suggestService;
+    private Category bedroom;
+    private Brand brand;
+    private Product downPillow;
+    private Product featherPillow;
+
+    @BeforeEach
+    void setUp() {
+        bedroom = new Category("Спальня", null, "bedroom", null);
+        bedroom.setId(UUID.randomUUID());
+        brand = new Brand("Подушкин двор", null, "podushkin");
+        brand.setId(UUID.randomUUID());
+        downPillow = product("Подушка пуховая", "down-pillow");
+        featherPillow = product("Подушка перьевая", "feather-pillow");
+        when(catalogService.getAllProducts()).thenReturn(List.of(downPillow, featherPillow));
+        when(catalogService.listAllInCategory()).thenReturn(List.of(bedroom));
+        when(catalogService.listAllInBrand()).thenReturn(List.of(brand));
+        when(productSalesService.unitsSold(ProductSalesService.SalesWindow.LAST_30_DAYS, 5000))
+                .thenReturn(Map.of(featherPillow.getId(), 12L));
+        suggestService = new CatalogSuggestService(catalogService, productSalesService, "30d");
+        suggestService.refreshSales();
+    }
+
+    @Test
+    void prefixesMatchAnyWordAndRankBySales() {
+        var suggestions = suggestService.suggest("ПОДУ", 5);
+
+        assertThat(suggestions.products()).extracting(CatalogSuggestService.Suggestion::id)
+                .containsExactly(featherPillow.getId(), downPillow.getId());
+        assertThat(suggestions.brands()).extracting(CatalogSuggestService.Suggestion::slug).containsExactly("podushkin");
+        assertThat(suggestService.suggest("пух", 5).products()).extracting(CatalogSuggestService.Suggestion::id)
+                .containsExactly(downPillow.getId());
+        assertThat(suggestService.suggest("feather p", 5).products()).hasSize(1);
+        assertThat(suggestService.suggest("спа", 5).categories()).extracting(CatalogSuggestService.Suggestion::slug)
+                .containsExactly("bedroom");
+        assertThat(suggestService.suggest("одеяло", 5).products()).isEmpty();
+    }
+
+    @Test
+    void productCommitsPatchTheIndexFromTheSnapshot() {
+        Product blanket = product("Одеяло всесезонное", "blanket");
+        Product retired = product(downPillow.getName(), downPillow.getSlug());
+        retired.setId(downPillow.getId());
+        retired.setIsActive(false);
+        CatalogSnapshot snapshot = new CatalogSnapshot(2L, List.of(featherPillow, retired, blanket), Map.of(), List.of(bedroom), List.of(brand));
+
+        suggestService.afterCatalogCommit(snapshot, Set.of(blanket.getId(), retired.getId()), false);
+
+        assertThat(suggestService.suggest("одея", 5).products()).extracting(CatalogSuggestService.Suggestion::id)
+                .containsExactly(blanket.getId());
+        assertThat(suggestService.suggest("подушка", 5).products()).extracting(CatalogSuggestService.Suggestion::id)
+                .containsExactly(featherPillow.getId());
+        verify(catalogService, times(1)).getAllProducts();
+        verify(productSalesService, times(1)).unitsSold(ProductSalesService.SalesWindow.LAST_30_DAYS, 5000);
+    }
+
+    @Test
+    void productCommitsThatKeepNamesAndSlugsReuseTheIndex() {
+        CatalogSuggestIndex before = suggestService.index();
+        Product restocked = product(downPillow.getName(), downPillow.getSlug());
+        restocked.setId(downPillow.getId());
+        CatalogSnapshot snapshot = new CatalogSnapshot(2L, List.of(restocked, featherPillow), Map.of(), List.of(bedroom), List.of(brand));
+
+        suggestService.afterCatalogCommit(snapshot, Set.of(restocked.getId()), false);
+
+        assertThat(suggestService.index()).isSameAs(before);
+    }
+
+    @Test
+    void commitsWithoutASnapshotReloadOnlyWhatTheyNeed() {
+        Product renamed = product("Подушка лебяжий пух", downPillow.getSlug());
+        renamed.setId(downPillow.getId());
+        when(catalogService.getProductsByIds(List.of(renamed.getId()))).thenReturn(List.of(renamed));
+
+        suggestService.afterCatalogCommit(null, Set.of(renamed.getId()), false);
+        assertThat(suggestService.suggest("лебяж", 5).products()).extracting(CatalogSuggestService.Suggestion::id)
+                .containsExactly(renamed.getId());
+
+        suggestService.afterCatalogCommit(null, Set.of(), true);
+        suggestService.afterCatalogCommit(null, Set.of(), true);
+        verify(catalogService, times(1)).getAllProducts();
+        suggestService.suggest("пух", 5);
+        verify(catalogService, times(2)).getAllProducts();
+    }
+
+    @Test
+    void compressedTrieSplitsSharedPrefixes() {
+        var index = CatalogSuggestIndex.build(List.of(
+                entry("плед"), entry("платок"), entry("плед флисовый"), entry("пледик")));
+
+        assertThat(index.lookup("пле", CatalogSuggestIndex.Kind.PRODUCT, 10)).extracting(CatalogSuggestIndex.Entry::name)
+                .containsExactly("плед", "пледик", "плед флисовый");
+        assertThat(index.lookup("флис", CatalogSuggestIndex.Kind.PRODUCT, 10)).extracting(CatalogSuggestIndex.Entry::name)
+                .containsExactly("плед флисовый");
+        assertThat(index.lookup("плх", CatalogSuggestIndex.Kind.PRODUCT, 10)).isEmpty();
+        assertThat(index.lookup("пл", CatalogSuggestIndex.Kind.BRAND, 10)).isEmpty();
+        assertThat(index.lookup("п", CatalogSuggestIndex.Kind.PRODUCT, 2)).hasSize(2);
+    }
+
+    private CatalogSuggestIndex.Entry entry(String name) {
+        return new CatalogSuggestIndex.Entry(CatalogSuggestIndex.Kind.PRODUCT, UUID.randomUUID(), name, null, 0L,
+                CatalogSuggestIndex.keys(name));
+    }
+
+    private Product product(String name, String slug) {
+        Product product = new Product(name, "", slug);
+        product.setId(UUID.randomUUID());
+        product.setBrand(brand);
+        product.getCategories().add(bedroom);
+        return product;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.api.catalog;
+
+import com.example.api.admincms.PromotionPricingService;
+import com.example.api.content.DirectusContentCacheService;
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.catalog.service.CatalogSnapshotLoader;
+import com.example.catalog.service.CatalogSnapshotService;
+import com.example.catalog.service.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueEtagTest {
+
+    @Mock
+    private CatalogService catalogService;
+    @Mock
+    private DirectusContentCacheService contentCacheService;
+    @Mock
+    private PromotionPricingService promotionPricingService;
+    @Mock
+    private CatalogSnapshotLoader loader;
+    @Mock
+    private CataloguePresentationService presentationService;
+    @Mock
+    private CatalogueResponseFactory responseFactory;
+
+    private CatalogVersionService catalogVersion;
+    private CatalogueEtagService etagService;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersionService();
+        etagService = new CatalogueEtagService(catalogVersion, contentCacheService, promotionPricingService);
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredBeforeAnyCatalogWork() throws Exception {
+        when(contentCacheService.contentGeneration()).thenReturn("0.1");
+        when(catalogService.listAllInBrand()).thenReturn(List.of(new Brand("Aurora", "", "aurora")));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BrandController(catalogService, etagService)).build();
+
+        String etag = mockMvc.perform(get("/brands"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isEqualTo("\"" + catalogVersion.tag() + ".0.1\"");
+
+        mockMvc.perform(get("/brands").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        verify(catalogService, times(1)).listAllInBrand();
+
+        catalogVersion.changed();
+        mockMvc.perform(get("/brands").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+        verify(catalogService, times(2)).listAllInBrand();
+    }
+
+    @Test
+    void withoutContentCacheResponsesStayUncached() throws Exception {
+        when(catalogService.listAllInBrand()).thenReturn(List.of());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BrandController(catalogService, etagService)).build();
+
+        mockMvc.perform(get("/brands").header("If-None-Match", "*"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-store"))
+                .andExpect(header().doesNotExist("ETag"));
+    }
+
+    @Test
+    void categoryListIsRenderedOncePerEtag() throws Exception {
+        when(contentCacheService.contentGeneration()).thenReturn("0.1", "0.1", "0.2");
+        Category bedroom = new Category("Bedroom", null, "bedroom", null);
+        when(catalogService.listAllInCategory()).thenReturn(List.of(bedroom));
+        var result = new CataloguePresentationModels.OverlayMergeResult(null, false);
+        when(presentationService.buildPublishedCategoryPresentationResults(any())).thenReturn(Map.of("bedroom", result));
+        when(presentationService.publishedCategoryPresentation(anyMap(), any())).thenReturn(result);
+        when(responseFactory.toCategoryResponse(any(), any())).thenReturn(new CategoryController.CategoryResponse(
+                null, "Bedroom", "bedroom", null, null, null, 0, true, "bedroom", null, null));
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(
+                new CategoryController(catalogService, null, responseFactory, presentationService, etagService)).build();
+
+        mockMvc.perform(get("/categories")).andExpect(status().isOk());
+        mockMvc.perform(get("/categories")).andExpect(status().isOk());
+        verify(catalogService, times(1)).listAllInCategory();
+        verify(presentationService, never()).buildPublishedCategoryPresentation(any());
+
+        mockMvc.perform(get("/categories")).andExpect(status().isOk());
+        verify(catalogService, times(2)).listAllInCategory();
+    }
+
+    @Test
+    void versionMovesWithCommitsExternalChangesAndPromotionWindows() {
+        CatalogSnapshotService snapshotService = new CatalogSnapshotService(loader, null, catalogVersion, true);
+        Product sheet = product("sheet");
+        when(loader.loadFull(anyLong())).thenReturn(
+                snapshot(sheet),
+                snapshot(sheet),
+                snapshot(sheet, product("pillow"))
+        );
+
+        snapshotService.current();
+        long initial = catalogVersion.current();
+        snapshotService.rebuild();
+        assertThat(catalogVersion.current()).isEqualTo(initial);
+        snapshotService.rebuild();
+        assertThat(catalogVersion.current()).isEqualTo(initial + 1);
+
+        UUID promotionId = UUID.randomUUID();
+        when(promotionPricingService.activePromotionIds()).thenReturn(Set.of(), Set.of(), Set.of(promotionId));
+        etagService.checkPromotionWindows();
+        etagService.checkPromotionWindows();
+        assertThat(catalogVersion.current()).isEqualTo(initial + 1);
+        etagService.checkPromotionWindows();
+        assertThat(catalogVersion.current()).isEqualTo(initial + 2);
+    }
+
+    private CatalogSnapshot snapshot(Product... products) {
+        return new CatalogSnapshot(1L, List.of(products), Map.of(), List.of(), List.of());
+    }
+
+    private Product product(String slug) {
+        Product product = new Product(slug, "", slug);
+        product.setId(UUID.nameUUIDFromBytes(slug.getBytes()));
+        product.setUpdatedAt(OffsetDateTime.parse("2026-10-01T10:00:00Z"));
+        return product;
+    }
+}
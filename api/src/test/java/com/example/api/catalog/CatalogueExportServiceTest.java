@@ -0,0 +1,170 @@
+package com.example.api.catalog;
+
+import com.example.api.content.DirectusContentCacheService;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogVersionService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogueExportServiceTest {
+
+    @Mock
+    private CatalogService catalogService;
+    @Mock
+    private CatalogueResponseFactory responseFactory;
+    @Mock
+    private CataloguePresentationService presentationService;
+    @Mock
+    private CatalogVersionService catalogVersion;
+    @Mock
+    private DirectusContentCacheService contentCacheService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private CatalogueExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new CatalogueExportService(
+                catalogService, responseFactory, presentationService, catalogVersion, contentCacheService, objectMapper, 2, 90,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    void writesHeaderCategoriesAndProductBatchesAsNdjson() throws Exception {
+        OffsetDateTime since = OffsetDateTime.now().minusDays(1);
+        OffsetDateTime watermark = OffsetDateTime.now().minusSeconds(30).truncatedTo(ChronoUnit.SECONDS);
+        UUID deletedId = UUID.randomUUID();
+        when(catalogService.exportWatermark()).thenReturn(watermark);
+        when(catalogVersion.sharedChangedAt()).thenReturn(since.toInstant().minusSeconds(60));
+        when(contentCacheService.contentChangedAt()).thenReturn(since.toInstant().minusSeconds(60));
+        when(catalogService.getTombstonesSince(since.minusMinutes(1)))
+                .thenReturn(List.of(tombstone(CatalogService.TOMBSTONE_PRODUCT, deletedId, "duvet")));
+        Category bedroom = new Category("Bedroom", null, "bedroom", null);
+        bedroom.setId(UUID.randomUUID());
+        Product pillow = product("pillow", true);
+        Product sheet = product("sheet", true);
+        Product retired = product("retired", false);
+        var overlay = new CataloguePresentationModels.OverlayMergeResult(null, false);
+        when(catalogService.listAllInCategory()).thenReturn(List.of(bedroom));
+        when(presentationService.buildPublishedCategoryPresentationResults(any())).thenReturn(Map.of());
+        when(presentationService.publishedCategoryPresentation(anyMap(), eq(bedroom))).thenReturn(overlay);
+        when(responseFactory.toCategoryResponse(eq(bedroom), any())).thenReturn(new CategoryController.CategoryResponse(
+                bedroom.getId(), "Bedroom", "bedroom", null, null, null, 0, true, "bedroom", null, null));
+        when(presentationService.buildPublishedProductPresentationResults(any())).thenReturn(Map.of());
+        when(responseFactory.toProductResponses(any(), any())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return products.stream().map(product -> Map.of("slug", product.getSlug())).toList();
+        });
+        doAnswer(invocation -> {
+            Consumer<List<Product>> consumer = invocation.getArgument(2);
+            consumer.accept(List.of(pillow, retired));
+            consumer.accept(List.of(sheet));
+            return null;
+        }).when(catalogService).forEachExportBatch(eq(since.minusMinutes(1)), eq(2), any());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.write(out, since, "\"7.1\"");
+
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("header", "category", "removed", "removed", "product", "product");
+        assertThat(lines.get(0).at("/data/etag").asText()).isEqualTo("\"7.1\"");
+        assertThat(lines.get(0).at("/data/since").isMissingNode()).isFalse();
+        assertThat(lines.get(0).at("/data/generatedAt").asLong()).isEqualTo(watermark.toEpochSecond());
+        assertThat(lines.get(2).get("id").asText()).isEqualTo(deletedId.toString());
+        assertThat(lines.get(2).get("slug").asText()).isEqualTo("duvet");
+        assertThat(lines.get(3).get("id").asText()).isEqualTo(retired.getId().toString());
+        assertThat(lines.get(4).at("/data/slug").asText()).isEqualTo("pillow");
+        assertThat(lines.get(5).at("/data/slug").asText()).isEqualTo("sheet");
+        verify(catalogService, never()).getAllProducts();
+    }
+
+    @Test
+    void changesThatProductLinesCannotCarryTurnTheExportIntoAFullOne() throws Exception {
+        OffsetDateTime since = OffsetDateTime.now().minusDays(1);
+        when(catalogService.exportWatermark()).thenReturn(OffsetDateTime.now());
+        when(catalogVersion.sharedChangedAt()).thenReturn(Instant.now());
+        when(contentCacheService.contentChangedAt()).thenReturn(since.toInstant().minusSeconds(60));
+        when(catalogService.getTombstonesSince(since.minusMinutes(1))).thenReturn(List.of(
+                tombstone(CatalogService.TOMBSTONE_PRODUCT, UUID.randomUUID(), "duvet"),
+                tombstone(CatalogService.TOMBSTONE_BRAND, UUID.randomUUID(), "acme")
+        ));
+        when(catalogService.listAllInCategory()).thenReturn(List.of());
+        when(presentationService.buildPublishedCategoryPresentationResults(any())).thenReturn(Map.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.write(out, since, "\"7.2\"");
+
+        List<JsonNode> lines = lines(out);
+        assertThat(lines).extracting(line -> line.get("type").asText())
+                .containsExactly("header", "full_required");
+        assertThat(lines.get(1).at("/data/reasons")).extracting(JsonNode::asText)
+                .containsExactly("pricing_changed", "taxonomy_deleted");
+        verify(catalogService).forEachExportBatch(isNull(), eq(2), any());
+    }
+
+    private List<JsonNode> lines(ByteArrayOutputStream out) throws Exception {
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static ProductRepository.Tombstone tombstone(String entityType, UUID entityId, String slug) {
+        return new ProductRepository.Tombstone() {
+            @Override
+            public String getEntityType() {
+                return entityType;
+            }
+
+            @Override
+            public UUID getEntityId() {
+                return entityId;
+            }
+
+            @Override
+            public String getSlug() {
+                return slug;
+            }
+        };
+    }
+
+    private Product product(String slug, boolean active) {
+        Product product = new Product(slug, "", slug);
+        product.setId(UUID.randomUUID());
+        product.setIsActive(active);
+        return product;
+    }
+}
@@ -4,12 +4,13 @@ import com.example.api.content.CatalogueContentModels;
 import com.example.api.content.CatalogueContentService;
 import com.example.api.content.ContentModels;
 import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
 import com.example.catalog.domain.ProductVariant;
-import com.example.catalog.repository.ProductVariantRepository;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.ProductCardService;
 import com.example.common.domain.Money;
-import com.example.order.repository.OrderItemRepository;
+import com.example.order.service.ProductSalesService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +24,9 @@ import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,10 +39,10 @@ class CataloguePresentationServiceTest {
     private CatalogService catalogService;
 
     @Mock
-    private OrderItemRepository orderItemRepository;
+    private ProductSalesService productSalesService;
 
     @Mock
-    private ProductVariantRepository productVariantRepository;
+    private CatalogueEtagService etagService;
 
     private CataloguePresentationService service;
 
@@ -47,9 +51,11 @@ class CataloguePresentationServiceTest {
         service = new CataloguePresentationService(
                 catalogueContentService,
                 catalogService,
-                orderItemRepository,
-                productVariantRepository,
-                new StorefrontMediaService("https://img.example.test", "media")
+                productSalesService,
+                new StorefrontMediaService("https://img.example.test", "media"),
+                etagService,
+                "30d",
+                300_000L
         );
     }
 
@@ -133,6 +139,46 @@ class CataloguePresentationServiceTest {
         assertThat(result.presentation().linkedCollectionKeys()).containsExactly("spring-drop");
     }
 
+    @Test
+    void publishedCategoryPresentation_reusesTheBatchEntryAndBuildsTheFallbackOnlyOnAMiss() {
+        Category bedroom = new Category("Bedroom", "Beds and bedding", "bedroom", null);
+        Category kitchen = new Category("Kitchen", "Cookware", "kitchen", null);
+        CatalogueContentModels.CatalogueOverlay overlay = new CatalogueContentModels.CatalogueOverlay(
+                12,
+                "bedroom",
+                "category",
+                "published",
+                OffsetDateTime.parse("2026-04-15T08:30:00Z"),
+                null,
+                null,
+                null,
+                null,
+                null,
+                "Sleep Better",
+                null,
+                "Editor intro",
+                null,
+                List.of(),
+                List.of()
+        );
+        when(catalogueContentService.getPublishedCategoryOverlays(List.of("bedroom")))
+                .thenReturn(Map.of("bedroom", overlay));
+        Map<String, CataloguePresentationModels.OverlayMergeResult> results =
+                service.buildPublishedCategoryPresentationResults(List.of(bedroom));
+
+        CataloguePresentationModels.OverlayMergeResult hit = service.publishedCategoryPresentation(results, bedroom);
+        CataloguePresentationModels.OverlayMergeResult miss = service.publishedCategoryPresentation(results, kitchen);
+
+        assertThat(hit).isSameAs(results.get("bedroom"));
+        assertThat(hit.presentation().source().mode()).isEqualTo("published_overlay");
+        assertThat(hit.presentation().marketingTitle()).isEqualTo("Sleep Better");
+        assertThat(miss.overlayReadFailed()).isFalse();
+        assertThat(miss.presentation().source().mode()).isEqualTo("backend_only");
+        assertThat(miss.presentation().marketingTitle()).isEqualTo("Kitchen");
+        verify(catalogueContentService, times(1)).getPublishedCategoryOverlays(List.of("bedroom"));
+        verify(catalogueContentService, never()).getPublishedCategoryOverlays(List.of("kitchen"));
+    }
+
     @Test
     void getPublishedStorefrontCollection_appliesHybridPinsExclusionsAndLimit() {
         Product pinned = product("pinned-set", "Pinned Set", "Pinned product");
@@ -168,7 +214,7 @@ class CataloguePresentationServiceTest {
 
         when(catalogueContentService.getStorefrontCollection("spring-drop")).thenReturn(definition);
         when(catalogueContentService.getPublishedProductOverlays(List.of("pinned-set", "alpha-set"))).thenReturn(Map.of());
-        when(catalogService.getProducts("bedroom", null)).thenReturn(List.of(alpha, beta));
+        when(catalogService.getTopProducts("bedroom", null, ProductCardService.CardOrder.NEWEST, 3)).thenReturn(List.of(alpha, beta));
         when(catalogService.getProductsBySlugs(List.of("pinned-set", "alpha-set"))).thenReturn(List.of(pinned, alpha));
         when(catalogService.getBySlugs(List.of())).thenReturn(List.of());
         when(catalogService.getProductImages(pinned.getId())).thenReturn(List.of());
@@ -183,6 +229,134 @@ class CataloguePresentationServiceTest {
                 .containsExactly("manual_pin", "backend_rule");
     }
 
+    @Test
+    void getPublishedStorefrontCollection_readsBestsellersFromTheSalesWindow() {
+        Product top = product("top-set", "Top Set", "Top product");
+        Product runnerUp = product("runner-up", "Runner Up", "Second product");
+
+        CatalogueContentModels.StorefrontCollectionDefinition definition = new CatalogueContentModels.StorefrontCollectionDefinition(
+                "hits",
+                "Hits",
+                null,
+                "backend_rule",
+                "bestsellers",
+                null,
+                null,
+                2,
+                "bestsellers_7d",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "published",
+                OffsetDateTime.parse("2026-04-15T09:00:00Z"),
+                List.of()
+        );
+
+        when(catalogueContentService.getStorefrontCollection("hits")).thenReturn(definition);
+        when(productSalesService.topProductIds(ProductSalesService.SalesWindow.LAST_7_DAYS, 2))
+                .thenReturn(List.of(top.getId(), runnerUp.getId()));
+        when(catalogService.getProductsByIds(List.of(top.getId(), runnerUp.getId()))).thenReturn(List.of(top, runnerUp));
+        when(catalogueContentService.getPublishedProductOverlays(List.of("top-set", "runner-up"))).thenReturn(Map.of());
+        when(catalogService.getProductsBySlugs(List.of("top-set", "runner-up"))).thenReturn(List.of(top, runnerUp));
+        when(catalogService.getBySlugs(List.of())).thenReturn(List.of());
+        when(catalogService.getProductImages(top.getId())).thenReturn(List.of());
+        when(catalogService.getProductImages(runnerUp.getId())).thenReturn(List.of());
+
+        CatalogueContentModels.StorefrontCollection collection = service.getPublishedStorefrontCollection("hits");
+
+        assertThat(collection.items()).extracting(CatalogueContentModels.StorefrontCollectionEntry::entityKey)
+                .containsExactly("top-set", "runner-up");
+    }
+
+    @Test
+    void getPublishedStorefrontCollection_pushesNewArrivalsSortAndLimitIntoTheQuery() {
+        Product premium = product("premium-set", "Premium Set", "Premium product");
+
+        CatalogueContentModels.StorefrontCollectionDefinition definition = new CatalogueContentModels.StorefrontCollectionDefinition(
+                "new-arrivals",
+                "New arrivals",
+                null,
+                "backend_rule",
+                "new",
+                null,
+                null,
+                4,
+                "price_desc",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "published",
+                OffsetDateTime.parse("2026-04-15T09:00:00Z"),
+                null
+        );
+
+        when(catalogueContentService.getStorefrontCollection("new-arrivals")).thenReturn(definition);
+        when(catalogService.getTopProducts(null, null, ProductCardService.CardOrder.PRICE_DESC, 4)).thenReturn(List.of(premium));
+        when(catalogueContentService.getPublishedProductOverlays(List.of("premium-set"))).thenReturn(Map.of());
+        when(catalogService.getProductsBySlugs(List.of("premium-set"))).thenReturn(List.of(premium));
+        when(catalogService.getBySlugs(List.of())).thenReturn(List.of());
+        when(catalogService.getProductImages(premium.getId())).thenReturn(List.of());
+
+        CatalogueContentModels.StorefrontCollection collection = service.getPublishedStorefrontCollection("new-arrivals");
+
+        assertThat(collection.items()).extracting(CatalogueContentModels.StorefrontCollectionEntry::entityKey)
+                .containsExactly("premium-set");
+        verify(catalogService, never()).getAllProducts();
+    }
+
+    @Test
+    void getPublishedStorefrontCollection_reusesTheResolvedCollectionUntilTheVersionChanges() {
+        Product premium = product("premium-set", "Premium Set", "Premium product");
+        CatalogueContentModels.StorefrontCollectionDefinition definition = new CatalogueContentModels.StorefrontCollectionDefinition(
+                "new-arrivals",
+                "New arrivals",
+                null,
+                "backend_rule",
+                "new",
+                null,
+                null,
+                4,
+                "newest",
+                null,
+                null,
+                null,
+                null,
+                null,
+                null,
+                "published",
+                OffsetDateTime.parse("2026-04-15T09:00:00Z"),
+                null
+        );
+
+        when(etagService.currentEtag()).thenReturn("\"1-1.0.1\"", "\"1-1.0.1\"", "\"1-2.0.1\"");
+        when(catalogueContentService.getStorefrontCollection("new-arrivals")).thenReturn(definition);
+        when(catalogService.getTopProducts(null, null, ProductCardService.CardOrder.NEWEST, 4)).thenReturn(List.of(premium));
+        when(catalogueContentService.getPublishedProductOverlays(List.of("premium-set"))).thenReturn(Map.of());
+        when(catalogService.getProductsBySlugs(List.of("premium-set"))).thenReturn(List.of(premium));
+        when(catalogService.getBySlugs(List.of())).thenReturn(List.of());
+        when(catalogService.getProductImages(premium.getId())).thenReturn(List.of());
+
+        CatalogueContentModels.StorefrontCollection first = service.getPublishedStorefrontCollection("new-arrivals");
+        CatalogueContentModels.StorefrontCollection second = service.getPublishedStorefrontCollection("new-arrivals");
+        service.getPublishedStorefrontCollection("new-arrivals");
+
+        assertThat(second).isSameAs(first);
+        verify(catalogService, times(2)).getTopProducts(null, null, ProductCardService.CardOrder.NEWEST, 4);
+    }
+
+    @Test
+    void salesWindowParsesStorefrontSortModes() {
+        assertThat(ProductSalesService.SalesWindow.parse("bestsellers_90d")).isEqualTo(ProductSalesService.SalesWindow.LAST_90_DAYS);
+        assertThat(ProductSalesService.SalesWindow.parse("7d")).isEqualTo(ProductSalesService.SalesWindow.LAST_7_DAYS);
+        assertThat(ProductSalesService.SalesWindow.parse("newest")).isNull();
+    }
+
     private Product product(String slug, String name, String description) {
         Product product = new Product(name, description, slug);
         product.setId(UUID.randomUUID());
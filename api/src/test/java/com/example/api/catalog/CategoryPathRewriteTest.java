@@ -0,0 +1,89 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryPathRewriteTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+
+    private CatalogService catalogService;
+    private Category home;
+    private Category bedroom;
+
+    @BeforeEach
+    void setUp() {
+        catalogService = new CatalogService(productRepository, variantRepository, brandRepository, categoryRepository, imageRepository);
+        home = category("home", null);
+        bedroom = category("bedroom", null);
+        when(categoryRepository.findById(bedroom.getId())).thenReturn(Optional.of(bedroom));
+    }
+
+    @Test
+    void movingACategoryRewritesItsSubtreeInOneStatement() {
+        when(categoryRepository.isSelfOrAncestor(bedroom.getId(), home.getId())).thenReturn(false);
+        when(categoryRepository.save(bedroom)).thenReturn(bedroom);
+
+        Category moved = catalogService.update(bedroom.getId(), updates("bedroom", home));
+
+        assertThat(moved.getFullPath()).isEqualTo("home/bedroom");
+        verify(categoryRepository).rewriteDescendantPaths(bedroom.getId());
+        verify(categoryRepository, never()).findByParent_Id(any());
+    }
+
+    @Test
+    void movingACategoryUnderItsOwnDescendantIsRejected() {
+        when(categoryRepository.isSelfOrAncestor(bedroom.getId(), home.getId())).thenReturn(true);
+
+        assertThatThrownBy(() -> catalogService.update(bedroom.getId(), updates("bedroom", home)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("under itself or its descendants");
+        verify(categoryRepository).findById(bedroom.getId());
+        verify(categoryRepository).isSelfOrAncestor(bedroom.getId(), home.getId());
+        verifyNoMoreInteractions(categoryRepository);
+    }
+
+    private Category updates(String slug, Category parent) {
+        Category updates = new Category(slug, null, slug, parent);
+        updates.setIsActive(true);
+        return updates;
+    }
+
+    private Category category(String slug, Category parent) {
+        Category category = new Category(slug, null, slug, parent);
+        category.setId(UUID.randomUUID());
+        category.setFullPath(parent != null ? parent.getFullPath() + "/" + slug : slug);
+        return category;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CategoryTree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeTest {
+
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+
+    @Test
+    void ordersCategoriesInPreOrderWithDepthAndSubtrees() {
+        Category bath = category("Ванная", "bath", null, 2);
+        Category bedroom = category("Спальня", "bedroom", null, 1);
+        Category pillows = category("Подушки", "pillows", bedroom, 1);
+        Category linen = category("Бельё", "linen", bedroom, 0);
+        Category sets = category("Комплекты", "sets", linen, 0);
+
+        CategoryTree tree = CategoryTree.of(List.of(bath, pillows, sets, bedroom, linen));
+
+        assertThat(tree.categories()).containsExactly(bedroom, linen, sets, pillows, bath);
+        assertThat(tree.depth(sets.getId())).isEqualTo(2);
+        assertThat(tree.ordinal(bath.getId())).isEqualTo(4);
+        assertThat(tree.subtreeIds(bedroom.getId()))
+                .containsExactlyInAnyOrder(bedroom.getId(), linen.getId(), sets.getId(), pillows.getId());
+        assertThat(tree.isWithin(sets.getId(), bedroom.getId())).isTrue();
+        assertThat(tree.isWithin(bath.getId(), bedroom.getId())).isFalse();
+    }
+
+    @Test
+    void parentCyclesBecomeRootsInsteadOfLooping() {
+        Category first = category("A", "a", null, 0);
+        Category second = category("B", "b", first, 0);
+        first.setParent(second);
+
+        CategoryTree tree = CategoryTree.of(List.of(second, first));
+
+        assertThat(tree.categories()).containsExactly(first, second);
+        assertThat(tree.depth(second.getId())).isZero();
+    }
+
+    @Test
+    void subtreeListingFiltersByCategoryIdsAndReusesTheCachedTree() {
+        CatalogService catalogService = new CatalogService(
+                productRepository,
+                variantRepository,
+                brandRepository,
+                categoryRepository,
+                imageRepository
+        );
+        Category bedroom = category("Спальня", "bedroom", null, 0);
+        Category linen = category("Бельё", "linen", bedroom, 0);
+        when(categoryRepository.findAll()).thenReturn(List.of(linen, bedroom));
+        when(categoryRepository.findBySlug("bedroom")).thenReturn(Optional.of(bedroom));
+        when(productRepository.findDistinctByCategories_IdIn(Set.of(bedroom.getId(), linen.getId()))).thenReturn(List.of());
+
+        assertThat(catalogService.listAllInCategory()).containsExactly(bedroom, linen);
+        assertThat(catalogService.getProducts("bedroom", null)).isEmpty();
+
+        verify(categoryRepository, times(1)).findAll();
+    }
+
+    private Category category(String name, String slug, Category parent, int position) {
+        Category category = new Category(name, null, slug, parent);
+        category.setId(UUID.randomUUID());
+        category.setPosition(position);
+        category.setFullPath(parent != null ? parent.getFullPath() + "/" + slug : slug);
+        return category;
+    }
+}
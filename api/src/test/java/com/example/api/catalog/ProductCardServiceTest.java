@@ -0,0 +1,112 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductCard;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductCardRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.ProductCardService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductCardServiceTest {
+
+    @Mock
+    private ProductCardRepository cardRepository;
+    @Mock
+    private ProductRepository productRepository;
+    @Mock
+    private ProductVariantRepository variantRepository;
+    @Mock
+    private BrandRepository brandRepository;
+    @Mock
+    private CategoryRepository categoryRepository;
+    @Mock
+    private ProductImageRepository imageRepository;
+
+    private ProductCardService cardService;
+
+    @BeforeEach
+    void setUp() {
+        cardService = new ProductCardService(cardRepository);
+    }
+
+    @Test
+    void productChangesRefreshOnlyTheirCards() {
+        Set<UUID> productIds = Set.of(UUID.randomUUID());
+
+        cardService.beforeCatalogCommit(productIds, false);
+
+        verify(cardRepository).refreshCards(productIds);
+        verify(cardRepository).deleteOrphanedCards(productIds);
+        verifyNoMoreInteractions(cardRepository);
+    }
+
+    @Test
+    void categoryOrBrandChangesRebuildAllCards() {
+        cardService.beforeCatalogCommit(Set.of(), true);
+
+        verify(cardRepository).refreshAllCards();
+        verify(cardRepository).deleteAllOrphanedCards();
+        verifyNoMoreInteractions(cardRepository);
+    }
+
+    @Test
+    void priceSortedListingKeepsReadModelOrder() {
+        CatalogService catalogService = new CatalogService(
+                productRepository,
+                variantRepository,
+                brandRepository,
+                categoryRepository,
+                imageRepository,
+                null,
+                cardService
+        );
+        Product cheap = product("Наволочка");
+        Product expensive = product("Одеяло");
+        ProductCard cheapCard = card(cheap.getId());
+        ProductCard expensiveCard = card(expensive.getId());
+        PageRequest pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "minPrice"));
+        when(cardRepository.findListingByPriceDesc("", "", false, 2, 0L)).thenReturn(List.of(expensiveCard, cheapCard));
+        when(cardRepository.countListing("", "", false)).thenReturn(7L);
+        when(productRepository.findAllById(List.of(expensive.getId(), cheap.getId()))).thenReturn(List.of(cheap, expensive));
+
+        Page<Product> page = catalogService.getProducts(null, null, false, pageable);
+
+        assertThat(page.getContent()).containsExactly(expensive, cheap);
+        assertThat(page.getTotalElements()).isEqualTo(7L);
+    }
+
+    private Product product(String name) {
+        Product product = new Product(name, "", name.toLowerCase());
+        product.setId(UUID.randomUUID());
+        return product;
+    }
+
+    private ProductCard card(UUID productId) {
+        ProductCard card = mock(ProductCard.class);
+        when(card.getProductId()).thenReturn(productId);
+        return card;
+    }
+}
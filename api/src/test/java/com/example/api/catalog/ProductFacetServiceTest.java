@@ -0,0 +1,209 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductVariant;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.catalog.service.ProductFacetService;
+import com.example.catalog.service.ProductFacetService.FacetQuery;
+import com.example.catalog.service.ProductFacetService.FacetValue;
+import com.example.common.domain.Money;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductFacetServiceTest {
+
+    @Mock
+    private CatalogService catalogService;
+
+    private ProductFacetService facetService;
+    private Category bedroom;
+    private Product blanket;
+    private Product pillow;
+    private Product towel;
+
+    @BeforeEach
+    void setUp() {
+        bedroom = category("bedroom", null);
+        Category linen = category("linen", bedroom);
+        Category bath = category("bath", null);
+        Brand nordtex = brand("nordtex");
+        Brand ecotex = brand("ecotex");
+
+        blanket = product("Blanket", nordtex, linen,
+                variant("red", "s", 1_000, 3),
+                variant("blue", "m", 2_000, 0));
+        pillow = product("Pillow", ecotex, bedroom,
+                variant("red", "m", 1_500, 0));
+        towel = product("Towel", nordtex, bath);
+        when(catalogService.getAllProducts()).thenReturn(List.of(towel, pillow, blanket));
+        facetService = new ProductFacetService(catalogService);
+    }
+
+    @Test
+    void variantFiltersMustHoldForTheSameVariant() {
+        FacetQuery redInStock = query(null, Set.of(), Set.of("RED"), null, null, true);
+        FacetQuery blueInStock = query(null, Set.of(), Set.of("blue"), null, null, true);
+
+        assertThat(facetService.getProducts(redInStock, PageRequest.of(0, 10)).getContent()).containsExactly(blanket);
+        assertThat(facetService.getProducts(blueInStock, PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    void brandAndCategoryFiltersKeepProductsWithoutVariants() {
+        when(catalogService.resolveCategory("bedroom")).thenReturn(Optional.of(bedroom));
+
+        FacetQuery brands = query(null, Set.of("nordtex", "ecotex"), Set.of(), null, null, false);
+        FacetQuery category = query("bedroom", Set.of(), Set.of(), 1_200L, 1_600L, false);
+
+        assertThat(facetService.getProducts(brands, PageRequest.of(0, 10)).getContent())
+                .containsExactly(blanket, pillow, towel);
+        assertThat(facetService.getProducts(category, PageRequest.of(0, 10)).getContent()).containsExactly(pillow);
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnSelection() {
+        FacetQuery red = query(null, Set.of(), Set.of("red"), null, null, false);
+
+        ProductFacetService.Facets facets = facetService.getFacets(red);
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.colors()).containsExactly(new FacetValue("red", "red", 2), new FacetValue("blue", "blue", 1));
+        assertThat(facets.sizes()).containsExactly(new FacetValue("m", "M", 1), new FacetValue("s", "S", 1));
+        assertThat(facets.brands()).containsExactly(new FacetValue("ecotex", "ecotex", 1), new FacetValue("nordtex", "nordtex", 1));
+        assertThat(facets.inStock()).isEqualTo(1);
+        assertThat(facets.minPrice()).isEqualTo(1_000L);
+        assertThat(facets.maxPrice()).isEqualTo(1_500L);
+    }
+
+    @Test
+    void categoryFilterAcceptsCategoryIds() {
+        when(catalogService.resolveCategory(bedroom.getId().toString())).thenReturn(Optional.of(bedroom));
+
+        FacetQuery category = query(bedroom.getId().toString(), Set.of(), Set.of(), null, null, false);
+
+        assertThat(facetService.getProducts(category, PageRequest.of(0, 10)).getContent()).containsExactly(blanket, pillow);
+    }
+
+    @Test
+    void productScopedCommitsPatchTheIndexInPlace() {
+        FacetQuery redInStock = query(null, Set.of(), Set.of("red"), null, null, true);
+        assertThat(facetService.getProducts(redInStock, PageRequest.of(0, 10)).getContent()).containsExactly(blanket);
+
+        Product restocked = copy(pillow);
+        restocked.getVariants().forEach(variant -> variant.setStockQuantity(5));
+        CatalogSnapshot snapshot = snapshot(towel, restocked, blanket);
+        facetService.afterCatalogCommit(snapshot, Set.of(pillow.getId()), false);
+
+        assertThat(facetService.getProducts(redInStock, PageRequest.of(0, 10)).getContent()).containsExactly(blanket, restocked);
+        assertThat(facetService.getFacets(redInStock).inStock()).isEqualTo(2);
+        verify(catalogService, times(1)).getAllProducts();
+    }
+
+    @Test
+    void productScopedCommitsRebuildFromTheSnapshotWhenAProductMoves() {
+        FacetQuery all = query(null, Set.of(), Set.of(), null, null, false);
+        facetService.getFacets(all);
+
+        Product renamed = copy(towel);
+        renamed.setName("Apron");
+        facetService.afterCatalogCommit(snapshot(renamed, pillow, blanket), Set.of(towel.getId()), false);
+
+        assertThat(facetService.getProducts(all, PageRequest.of(0, 10)).getContent()).containsExactly(renamed, blanket, pillow);
+        verify(catalogService, times(1)).getAllProducts();
+    }
+
+    @Test
+    void catalogCommitsDropTheIndex() {
+        FacetQuery red = query(null, Set.of(), Set.of("red"), null, null, false);
+        facetService.getFacets(red);
+        facetService.getFacets(red);
+
+        facetService.afterCatalogCommit(null, Set.of(blanket.getId()), false);
+        facetService.getFacets(red);
+
+        verify(catalogService, times(2)).getAllProducts();
+    }
+
+    private CatalogSnapshot snapshot(Product... products) {
+        return new CatalogSnapshot(2L, List.of(products), Map.of(), List.of(), List.of());
+    }
+
+    private Product copy(Product source) {
+        Product product = new Product(source.getName(), "", source.getSlug());
+        product.setId(source.getId());
+        product.setBrand(source.getBrand());
+        product.setCategories(source.getCategories());
+        Set<ProductVariant> variants = new HashSet<>();
+        for (ProductVariant original : source.getVariants()) {
+            ProductVariant variant = new ProductVariant(original.getSku(), original.getName(), original.getPrice(), original.getStockQuantity());
+            variant.setId(original.getId());
+            variant.setColorCode(original.getColorCode());
+            variant.setColorLabel(original.getColorLabel());
+            variant.setSizeCode(original.getSizeCode());
+            variant.setSizeLabel(original.getSizeLabel());
+            variant.setProduct(product);
+            variants.add(variant);
+        }
+        product.setVariants(variants);
+        return product;
+    }
+
+    private FacetQuery query(String category, Set<String> brands, Set<String> colors, Long minPrice, Long maxPrice, boolean inStock) {
+        return new FacetQuery(category, brands, colors, Set.of(), minPrice, maxPrice, inStock, false);
+    }
+
+    private Category category(String slug, Category parent) {
+        Category category = new Category(slug, null, slug, parent);
+        category.setId(UUID.randomUUID());
+        category.setFullPath(parent != null ? parent.getFullPath() + "/" + slug : slug);
+        return category;
+    }
+
+    private Brand brand(String slug) {
+        Brand brand = new Brand(slug, null, slug);
+        brand.setId(UUID.randomUUID());
+        return brand;
+    }
+
+    private Product product(String name, Brand brand, Category category, ProductVariant... variants) {
+        Product product = new Product(name, "", name.toLowerCase());
+        product.setId(UUID.randomUUID());
+        product.setBrand(brand);
+        product.setCategories(Set.of(category));
+        product.setVariants(new HashSet<>(List.of(variants)));
+        for (ProductVariant variant : variants) {
+            variant.setProduct(product);
+        }
+        return product;
+    }
+
+    private ProductVariant variant(String color, String size, long amount, int stock) {
+        ProductVariant variant = new ProductVariant(color + "-" + size, color, Money.of(amount, "RUB"), stock);
+        variant.setId(UUID.randomUUID());
+        variant.setColorCode(color);
+        variant.setColorLabel(color);
+        variant.setSizeCode(size);
+        variant.setSizeLabel(size.toUpperCase());
+        return variant;
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.api.catalog;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductImageDiskCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void startupOnlyClearsFilesTheCacheOwns() throws IOException {
+        Path unrelated = Files.writeString(directory.resolve("notes.txt"), "keep");
+        Path owned = Files.createDirectories(directory.resolve(ProductImageDiskCache.SUBDIRECTORY));
+        Path leftover = Files.writeString(owned.resolve("0123456789abcdef0123456789abcdef"), "stale");
+        Path foreign = Files.writeString(owned.resolve("README"), "keep");
+
+        new ProductImageDiskCache(directory.toString(), 1024, 60);
+
+        assertThat(unrelated).exists();
+        assertThat(foreign).exists();
+        assertThat(leftover).doesNotExist();
+    }
+
+    @Test
+    void evictedFilesStayReadableUntilTheGracePeriodEnds() {
+        ProductImageDiskCache cache = new ProductImageDiskCache(directory.toString(), 8, 60);
+        Path first = cache.get("products/a.jpg", bytes(6)).orElseThrow().path();
+
+        cache.get("products/b.jpg", bytes(6));
+
+        assertThat(first).exists();
+    }
+
+    @Test
+    void evictedFilesAreDeletedOnceTheGracePeriodHasPassed() {
+        ProductImageDiskCache cache = new ProductImageDiskCache(directory.toString(), 8, 0);
+        Path first = cache.get("products/a.jpg", bytes(6)).orElseThrow().path();
+        cache.get("products/b.jpg", bytes(6));
+
+        cache.get("products/c.jpg", bytes(6));
+
+        assertThat(first).doesNotExist();
+    }
+
+    @Test
+    void concurrentMissesForOneKeyShareASingleDownload() throws Exception {
+        ProductImageDiskCache cache = new ProductImageDiskCache(directory.toString(), 1024, 60);
+        AtomicInteger downloads = new AtomicInteger();
+        CountDownLatch downloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Path, String> loader = target -> {
+            downloads.incrementAndGet();
+            downloading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return bytes(6).apply(target);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<Optional<ProductImageDiskCache.CachedImage>> first = executor.submit(() -> cache.get("products/a.jpg", loader));
+            assertThat(downloading.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<Optional<ProductImageDiskCache.CachedImage>>> waiting = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                waiting.add(executor.submit(() -> cache.get("products/a.jpg", loader)));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            Path path = first.get(5, TimeUnit.SECONDS).orElseThrow().path();
+            for (Future<Optional<ProductImageDiskCache.CachedImage>> future : waiting) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).map(ProductImageDiskCache.CachedImage::path).contains(path);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(downloads).hasValue(1);
+    }
+
+    private static Function<Path, String> bytes(int size) {
+        return target -> {
+            try {
+                Files.write(target, new byte[size]);
+                return "image/jpeg";
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        };
+    }
+}
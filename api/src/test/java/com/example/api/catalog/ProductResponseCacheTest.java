@@ -0,0 +1,128 @@
+package com.example.api.catalog;
+
+import com.example.api.content.DirectusContentCacheService;
+import com.example.catalog.service.CatalogVersionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductResponseCacheTest {
+
+    @Mock
+    private DirectusContentCacheService contentCacheService;
+
+    private CatalogVersionService catalogVersion;
+    private ProductResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersionService();
+        cache = new ProductResponseCache(new ObjectMapper(), catalogVersion, contentCacheService, 10);
+    }
+
+    @Test
+    void rendersOncePerProductUntilItIsWrittenOrPricingMoves() {
+        when(contentCacheService.sharedContentGeneration()).thenReturn("0");
+        UUID productId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+
+        cache.getOrRender(productId, () -> render(renders));
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(1);
+
+        cache.afterCatalogCommit(null, Set.of(UUID.randomUUID()), false);
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(1);
+
+        cache.afterCatalogCommit(null, Set.of(productId), false);
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(2);
+
+        catalogVersion.changed();
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(3);
+    }
+
+    @Test
+    void servesThePrecompressedBodyOnlyWhenGzipIsAccepted() throws IOException {
+        when(contentCacheService.sharedContentGeneration()).thenReturn("0");
+        ProductResponseCache.EncodedResponse encoded = cache.getOrRender(UUID.randomUUID(), () -> render(new AtomicInteger()));
+
+        ResponseEntity<byte[]> gzip = ProductResponseCache.toResponse(ResponseEntity.ok(), encoded, ProductResponseCache.acceptsGzip("br, gzip;q=0.8"));
+        assertThat(gzip.getHeaders().getFirst("Content-Encoding")).isEqualTo("gzip");
+        assertThat(new String(new GZIPInputStream(new ByteArrayInputStream(gzip.getBody())).readAllBytes(), StandardCharsets.UTF_8))
+                .isEqualTo("{\"slug\":\"cloud-sofa\"}");
+
+        ResponseEntity<byte[]> plain = ProductResponseCache.toResponse(ResponseEntity.ok(), encoded, ProductResponseCache.acceptsGzip("gzip;q=0, identity"));
+        assertThat(plain.getHeaders().getFirst("Content-Encoding")).isNull();
+        assertThat(new String(plain.getBody(), StandardCharsets.UTF_8)).isEqualTo("{\"slug\":\"cloud-sofa\"}");
+    }
+
+    @Test
+    void gzipBodiesCarryTheirOwnEtag() {
+        assertThat(ProductResponseCache.encodingEtag("\"7.0.1\"", true)).isEqualTo("\"7.0.1-gzip\"");
+        assertThat(ProductResponseCache.encodingEtag("\"7.0.1\"", false)).isEqualTo("\"7.0.1\"");
+        assertThat(ProductResponseCache.encodingEtag(null, true)).isNull();
+    }
+
+    @Test
+    void overlayInvalidationDropsOnlyTheProductsItNames() {
+        when(contentCacheService.sharedContentGeneration()).thenReturn("0");
+        UUID sofa = UUID.randomUUID();
+        UUID chair = UUID.randomUUID();
+        AtomicInteger sofaRenders = new AtomicInteger();
+        AtomicInteger chairRenders = new AtomicInteger();
+        cache.getOrRender(sofa, () -> render(sofaRenders, "Cloud-Sofa"));
+        cache.getOrRender(chair, () -> render(chairRenders, "oak-chair"));
+
+        cache.productOverlaysInvalidated(Set.of("cloud-sofa"));
+        cache.getOrRender(sofa, () -> render(sofaRenders, "Cloud-Sofa"));
+        cache.getOrRender(chair, () -> render(chairRenders, "oak-chair"));
+
+        assertThat(sofaRenders).hasValue(2);
+        assertThat(chairRenders).hasValue(1);
+    }
+
+    @Test
+    void entriesOutliveTheContentCacheTtlUntilSharedContentIsInvalidated() {
+        when(contentCacheService.sharedContentGeneration()).thenReturn("0", "0", "1");
+        UUID productId = UUID.randomUUID();
+        AtomicInteger renders = new AtomicInteger();
+
+        cache.getOrRender(productId, () -> render(renders));
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(1);
+
+        cache.getOrRender(productId, () -> render(renders));
+        assertThat(renders).hasValue(2);
+        verify(contentCacheService, never()).contentGeneration();
+    }
+
+    private ProductResponseCache.Rendered render(AtomicInteger renders) {
+        return render(renders, "cloud-sofa");
+    }
+
+    private ProductResponseCache.Rendered render(AtomicInteger renders, String slug) {
+        renders.incrementAndGet();
+        return new ProductResponseCache.Rendered(Map.of("slug", "cloud-sofa"), true, slug);
+    }
+}
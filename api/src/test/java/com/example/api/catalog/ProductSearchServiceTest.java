@@ -0,0 +1,101 @@
+package com.example.api.catalog;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogSnapshot;
+import com.example.catalog.service.ProductSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private CatalogService catalogService;
+
+    private ProductSearchService searchService;
+    private Product pillow;
+    private Product blanket;
+    private Product sheet;
+
+    @BeforeEach
+    void setUp() {
+        Category bedroom = new Category("Спальня", null, "bedroom", null);
+        bedroom.setId(UUID.randomUUID());
+        Category linen = new Category("Постельное бельё", null, "linen", bedroom);
+        linen.setId(UUID.randomUUID());
+        Brand brand = new Brand("Нордтекс", null, "nordtex");
+        brand.setId(UUID.randomUUID());
+
+        pillow = product("Подушка пуховая", "Мягкая подушка для сна", bedroom, brand);
+        blanket = product("Одеяло всесезонное", "Лёгкое одеяло, к нему подойдёт любая подушка", bedroom, null);
+        sheet = product("Простыня на резинке", "Хлопок", linen, null);
+        sheet.setSpecifications("[{\"title\":\"Материал\",\"items\":[{\"label\":\"Ткань\",\"value\":\"сатин\"}]}]");
+        when(catalogService.getAllProducts()).thenReturn(List.of(pillow, blanket, sheet));
+        searchService = new ProductSearchService(catalogService);
+    }
+
+    @Test
+    void inflectedQueryMatchesStemAndRanksNameHitsFirst() {
+        Page<Product> page = searchService.search("подушки", false, PageRequest.of(0, 10));
+
+        assertThat(page.getContent()).containsExactly(pillow, blanket);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void toleratesTyposAndCompletesTheLastWord() {
+        assertThat(searchService.search("адеяло", false, PageRequest.of(0, 10)).getContent()).containsExactly(blanket);
+        assertThat(searchService.search("простын", false, PageRequest.of(0, 10)).getContent()).containsExactly(sheet);
+    }
+
+    @Test
+    void indexesBrandAncestorCategoriesAndSpecificationValues() {
+        assertThat(searchService.search("нордтекс", false, PageRequest.of(0, 10)).getContent()).containsExactly(pillow);
+        assertThat(searchService.search("спальня", false, PageRequest.of(0, 10)).getContent())
+                .containsExactlyInAnyOrder(pillow, blanket, sheet);
+        assertThat(searchService.search("сатин", false, PageRequest.of(0, 10)).getContent()).containsExactly(sheet);
+        assertThat(searchService.search("label", false, PageRequest.of(0, 10)).getContent()).isEmpty();
+    }
+
+    @Test
+    void catalogCommitsPatchTheIndexWithoutReloading() {
+        searchService.search("подушка", false, PageRequest.of(0, 10));
+        Product renamed = product("Наволочка сатиновая", "", null, null);
+        renamed.setId(pillow.getId());
+        CatalogSnapshot snapshot = new CatalogSnapshot(2, List.of(renamed, blanket, sheet), Map.of(), List.of(), List.of());
+
+        searchService.afterCatalogCommit(snapshot, Set.of(pillow.getId()), false);
+
+        assertThat(searchService.search("наволочки", false, PageRequest.of(0, 10)).getContent()).containsExactly(renamed);
+        assertThat(searchService.search("пуховая", false, PageRequest.of(0, 10)).getContent()).isEmpty();
+        verify(catalogService, times(1)).getAllProducts();
+    }
+
+    private Product product(String name, String description, Category category, Brand brand) {
+        Product product = new Product(name, description, UUID.randomUUID().toString());
+        product.setId(UUID.randomUUID());
+        if (category != null) {
+            product.setCategories(Set.of(category));
+        }
+        product.setBrand(brand);
+        return product;
+    }
+}
@@ -16,7 +16,6 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.Mockito.when;
@@ -34,11 +33,14 @@ class StorefrontCardControllerTest {
     @Mock
     private CatalogueResponseFactory responseFactory;
 
+    @Mock
+    private CatalogueEtagService etagService;
+
     private MockMvc mockMvc;
 
     @BeforeEach
     void setUp() {
-        mockMvc = MockMvcBuilders.standaloneSetup(new StorefrontCardController(catalogService, responseFactory)).build();
+        mockMvc = MockMvcBuilders.standaloneSetup(new StorefrontCardController(catalogService, responseFactory, etagService)).build();
     }
 
     @Test
@@ -72,10 +74,10 @@ class StorefrontCardControllerTest {
         imageResponse.setUrl(image.getUrl());
         imageResponse.setMedia(media("https://img.example.test/media/products/product-id/image-id/w640.webp"));
 
-        when(catalogService.getProductBySlug("linen-duvet")).thenReturn(Optional.of(product));
-        when(catalogService.getProductImages(product.getId())).thenReturn(List.of(image));
-        when(catalogService.getBySlug("bedroom")).thenReturn(Optional.of(category));
-        when(catalogService.getProducts("bedroom", null)).thenReturn(List.of(product));
+        when(catalogService.resolveProductKeys(List.of("linen-duvet"))).thenReturn(Map.of("linen-duvet", product));
+        when(catalogService.getProductImages(List.of(product.getId()))).thenReturn(Map.of(product.getId(), List.of(image)));
+        when(catalogService.resolveCategoryKeys(List.of("bedroom"))).thenReturn(Map.of("bedroom", category));
+        when(catalogService.countProducts("bedroom", null, false)).thenReturn(1L);
         when(responseFactory.toVariantResponse(variant)).thenReturn(variantResponse);
         when(responseFactory.toImageResponse(image)).thenReturn(imageResponse);
         when(responseFactory.toMediaManifest(image, product.getName())).thenReturn(imageResponse.getMedia());
@@ -7,7 +7,10 @@ import com.example.api.content.CatalogueContentService;
 import com.example.catalog.domain.Brand;
 import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductVariant;
 import com.example.catalog.service.CatalogService;
+import com.example.catalog.service.CatalogWorkspaceService;
+import com.example.common.domain.Money;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,12 +23,16 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -35,6 +42,9 @@ class StorefrontOpsWorkspaceControllerTest {
     @Mock
     private CatalogService catalogService;
 
+    @Mock
+    private CatalogWorkspaceService workspaceService;
+
     @Mock
     private CatalogueContentService catalogueContentService;
 
@@ -53,6 +63,7 @@ class StorefrontOpsWorkspaceControllerTest {
     void setUp() {
         StorefrontOpsWorkspaceController controller = new StorefrontOpsWorkspaceController(
                 catalogService,
+                workspaceService,
                 catalogueContentService,
                 workspaceFactory,
                 bridgeSecurity,
@@ -101,7 +112,8 @@ class StorefrontOpsWorkspaceControllerTest {
                 List.of("spring-selection")
         );
 
-        when(catalogService.getAllProducts()).thenReturn(List.of(product));
+        when(workspaceService.searchProducts(null, Set.of(), true, 120, 0))
+                .thenReturn(new CatalogWorkspaceService.WorkspacePage<>(List.of(product), 1));
         when(catalogService.listAllInBrand()).thenReturn(List.of(brand));
         when(catalogService.listAllInCategory()).thenReturn(List.of(category));
         when(catalogueContentService.getPreviewProductOverlays(List.of("cloud-sofa"))).thenReturn(Map.of("cloud-sofa", overlay));
@@ -162,9 +174,9 @@ class StorefrontOpsWorkspaceControllerTest {
     @Test
     void listProducts_prioritizesSelectedKeysBeforeApplyingLimit() throws Exception {
         Product cloud = new Product("Cloud Sofa", "Soft", "cloud-sofa");
-        Product linen = new Product("Linen Set", "Fresh linen", "linen-set");
 
-        when(catalogService.getAllProducts()).thenReturn(List.of(linen, cloud));
+        when(workspaceService.searchProducts("linen", Set.of("cloud-sofa"), true, 1, 0))
+                .thenReturn(new CatalogWorkspaceService.WorkspacePage<>(List.of(cloud), 2));
         when(catalogService.listAllInBrand()).thenReturn(List.of());
         when(catalogService.listAllInCategory()).thenReturn(List.of());
         when(catalogueContentService.getPreviewProductOverlays(List.of("cloud-sofa"))).thenReturn(Map.of());
@@ -189,10 +201,46 @@ class StorefrontOpsWorkspaceControllerTest {
                         .param("keys", "cloud-sofa")
                         .param("limit", "1"))
                 .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "2"))
                 .andExpect(jsonPath("$.items[0].slug").value("cloud-sofa"))
                 .andExpect(jsonPath("$.items.length()").value(1));
     }
 
+    @Test
+    void listInventory_pagesVariantRowsFromTheDatabaseQuery() throws Exception {
+        Product product = new Product("Cloud Sofa", "Soft", "cloud-sofa");
+        ProductVariant variant = new ProductVariant("SOFA-1", "Grey", Money.of(99_000, "RUB"), 3);
+        StorefrontOpsWorkspaceModels.InventoryRow row = new StorefrontOpsWorkspaceModels.InventoryRow(
+                null, null, "Cloud Sofa", "cloud-sofa", true, null, List.of(), "Grey", "SOFA-1", null, 3, null);
+
+        when(workspaceService.searchInventory("sofa", false, 50, 100)).thenReturn(new CatalogWorkspaceService.WorkspacePage<>(
+                List.of(new CatalogWorkspaceService.InventoryItem(product, variant)),
+                101
+        ));
+        when(workspaceFactory.toInventoryRow(product, variant)).thenReturn(row);
+
+        mockMvc.perform(get("/internal/directus/catalogue/workspace/inventory")
+                        .param("q", "sofa")
+                        .param("includeInactive", "false")
+                        .param("limit", "50")
+                        .param("offset", "100"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Total-Count", "101"))
+                .andExpect(jsonPath("$.items.length()").value(1));
+        verify(catalogService, never()).getAllProducts();
+    }
+
+    @Test
+    void summary_usesDatabaseCounts() throws Exception {
+        when(workspaceService.summary()).thenReturn(new CatalogWorkspaceService.Summary(12, 4, 3, 40));
+
+        mockMvc.perform(get("/internal/directus/catalogue/workspace/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.productCount").value(12))
+                .andExpect(jsonPath("$.inventoryCount").value(40));
+        verify(catalogService, never()).getAllProducts();
+    }
+
     @Test
     void getCategory_returnsDetailPayloadWithOverlayState() throws Exception {
         Category category = new Category("Sofas", "Living room seating", "sofas", null);
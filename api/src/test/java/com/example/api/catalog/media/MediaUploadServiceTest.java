@@ -61,7 +61,7 @@ class MediaUploadServiceTest {
         productId = UUID.randomUUID();
         lenient().when(featureFlag.isEnabled()).thenReturn(true);
         lenient().when(catalogService.getProduct(productId)).thenReturn(Optional.of(new Product("Product", "", "product")));
-        lenient().when(catalogService.getProductImages(productId)).thenReturn(List.of());
+        lenient().when(catalogService.nextProductImagePosition(productId)).thenReturn(0);
     }
 
     @Test
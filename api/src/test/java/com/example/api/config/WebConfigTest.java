@@ -40,6 +40,7 @@ class WebConfigTest {
         assertThat(cors).isNotNull();
         assertThat(cors.getAllowedHeaders()).containsExactly("Authorization", "Content-Type", "Idempotency-Key");
         assertThat(cors.getExposedHeaders()).containsExactly(
+                "X-Next-Cursor",
                 "X-Page",
                 "X-Page-Size",
                 "X-Total-Count",
@@ -7,22 +7,40 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -43,11 +61,13 @@ class DirectusContentCacheServiceTest {
 
     private final Map<String, String> store = new LinkedHashMap<>();
 
+    private DirectusContentProperties properties;
+
     private DirectusContentCacheService service;
 
     @BeforeEach
     void setUp() {
-        DirectusContentProperties properties = new DirectusContentProperties();
+        properties = new DirectusContentProperties();
         properties.setCacheTtl(Duration.ofMinutes(5));
         properties.setCacheStaleTtl(Duration.ofHours(1));
         properties.setCacheKeyPrefix("cms:content");
@@ -87,7 +107,180 @@ class DirectusContentCacheServiceTest {
     }
 
     @Test
-    void getOrLoad_servesStaleCopyWhenLoaderFails() throws Exception {
+    void getOrLoad_servesRepeatReadsFromTheLocalLayer() {
+        service.getOrLoad("site_settings", STRING_MAP_TYPE, () -> Map.of("title", "Shop"));
+        store.put("cms:content:site_settings", "{\"title\":\"Changed in Redis\"}");
+
+        Map<String, String> payload = service.getOrLoad("site_settings", STRING_MAP_TYPE, () -> Map.of("title", "Reloaded"));
+
+        assertThat(payload).containsEntry("title", "Shop");
+        verify(valueOperations, times(1)).get("cms:content:site_settings");
+        verify(observabilityService).recordCacheLookup("site_settings", "local_hit");
+    }
+
+    @Test
+    void invalidation_dropsLocalEntriesAndNotifiesOtherSlots() {
+        service.getOrLoad("navigation:header", STRING_MAP_TYPE, () -> Map.of("title", "Header"));
+        service.getOrLoad("page:delivery", STRING_MAP_TYPE, () -> Map.of("title", "Delivery"));
+        String generation = service.contentGeneration();
+
+        store.put("cms:content:navigation:header", "{\"title\":\"New header\"}");
+
+        service.invalidateNavigation(null);
+
+        assertThat(service.getOrLoad("navigation:header", STRING_MAP_TYPE, () -> Map.of("title", "Reloaded")))
+                .containsEntry("title", "New header");
+        verify(redisTemplate).convertAndSend(eq("cms:content:invalidations"), anyString());
+        assertThat(service.contentGeneration()).isNotEqualTo(generation);
+
+        store.put("cms:content:page:delivery", "{\"title\":\"Edited elsewhere\"}");
+        service.onInvalidationMessage("other-slot key page:delivery");
+        assertThat(service.getOrLoad("page:delivery", STRING_MAP_TYPE, () -> Map.of("title", "Reloaded")))
+                .containsEntry("title", "Edited elsewhere");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void productOverlayInvalidation_notifiesListenersWithoutMovingTheSharedGeneration() {
+        ProductOverlayInvalidationListener listener = mock(ProductOverlayInvalidationListener.class);
+        ObjectProvider<ProductOverlayInvalidationListener> listeners = mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        service = new DirectusContentCacheService(redisTemplate, new ObjectMapper(), properties, observabilityService, listeners);
+        String shared = service.sharedContentGeneration();
+
+        service.invalidateProductOverlay("Cloud-Sofa");
+        service.onInvalidationMessage("other-slot key catalogue:product:oak-chair");
+
+        verify(listener).productOverlaysInvalidated(Set.of("cloud-sofa"));
+        verify(listener).productOverlaysInvalidated(Set.of("oak-chair"));
+        assertThat(service.sharedContentGeneration()).isEqualTo(shared);
+
+        service.invalidateProductOverlay(null);
+        assertThat(service.sharedContentGeneration()).isNotEqualTo(shared);
+        shared = service.sharedContentGeneration();
+        service.invalidateNavigation("header");
+        assertThat(service.sharedContentGeneration()).isNotEqualTo(shared);
+        verify(listener, times(2)).productOverlaysInvalidated(any());
+    }
+
+    @Test
+    void getOrLoad_coalescesConcurrentMissesIntoOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Map<String, String>> first = CompletableFuture.supplyAsync(() -> service.getOrLoad(
+                "page:delivery", STRING_MAP_TYPE, () -> {
+                    loads.incrementAndGet();
+                    loading.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Map.of("title", "Delivery");
+                }));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Map<String, String>> second = CompletableFuture.supplyAsync(() -> service.getOrLoad(
+                "page:delivery", STRING_MAP_TYPE, () -> {
+                    loads.incrementAndGet();
+                    return Map.of("title", "Second load");
+                }));
+        Thread.sleep(100);
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).containsEntry("title", "Delivery");
+        assertThat(second.get(5, TimeUnit.SECONDS)).containsEntry("title", "Delivery");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getOrLoad_leavesTheRefreshToTheNodeHoldingTheLoadLease() throws Exception {
+        properties.setCacheLoadLease(Duration.ofSeconds(5));
+        store.put("cms:content:page:delivery:stale", new ObjectMapper().writeValueAsString(Map.of("title", "Cached delivery")));
+        when(valueOperations.setIfAbsent(eq("cms:content:page:delivery:lease"), anyString(), any(Duration.class))).thenReturn(false);
+        AtomicInteger loads = new AtomicInteger();
+
+        Map<String, String> payload = service.getOrLoad("page:delivery", STRING_MAP_TYPE, () -> {
+            loads.incrementAndGet();
+            return Map.of("title", "Delivery");
+        });
+
+        assertThat(payload).containsEntry("title", "Cached delivery");
+        verify(observabilityService, timeout(5000)).recordCacheLookup("page:delivery", "lease_stale_hit");
+        assertThat(loads).hasValue(0);
+        verify(observabilityService, never()).recordCacheLookup("page:delivery", "miss");
+    }
+
+    @Test
+    void getOrLoad_servesStaleCopyAndRefreshesItInTheBackground() throws Exception {
+        store.put("cms:content:page:delivery:stale", new ObjectMapper().writeValueAsString(Map.of("title", "Cached delivery")));
+        CountDownLatch release = new CountDownLatch(1);
+
+        Map<String, String> payload = service.getOrLoad("page:delivery", STRING_MAP_TYPE, () -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("title", "Delivery");
+        });
+
+        assertThat(payload).containsEntry("title", "Cached delivery");
+        verify(observabilityService).recordCacheLookup("page:delivery", "stale_revalidate");
+        release.countDown();
+        verify(observabilityService, timeout(5000)).recordCacheWrite("page:delivery", "success");
+        assertThat(store).containsEntry("cms:content:page:delivery", "{\"title\":\"Delivery\"}");
+    }
+
+    @Test
+    void getOrLoad_dropsBackgroundRefreshesThatStartedBeforeAnInvalidation() throws Exception {
+        store.put("cms:content:page:delivery:stale", new ObjectMapper().writeValueAsString(Map.of("title", "Cached delivery")));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        service.getOrLoad("page:delivery", STRING_MAP_TYPE, () -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("title", "Before the edit");
+        });
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        service.invalidatePage("delivery");
+        release.countDown();
+
+        verify(observabilityService, timeout(5000)).recordCacheWrite("page:delivery", "skipped_invalidated");
+        assertThat(store).doesNotContainKeys("cms:content:page:delivery", "cms:content:page:delivery:stale");
+    }
+
+    @Test
+    void getOrLoadAll_dropsBatchRefreshesThatStartedBeforeAnInvalidation() throws Exception {
+        mockBatchOperations();
+        store.put("cms:content:catalogue:product:pillow:stale", "{\"title\":\"Old pillow\"}");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        service.getOrLoadAll(List.of("pillow"), ContentCacheKeys::productOverlay, STRING_MAP_TYPE, keys -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("pillow", Map.of("title", "Before the edit"));
+        });
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        service.invalidateProductOverlay("pillow");
+        release.countDown();
+
+        verify(observabilityService, timeout(5000)).recordCacheWrite(ContentCacheKeys.productOverlay("pillow"), "skipped_invalidated");
+        assertThat(store).doesNotContainKeys("cms:content:catalogue:product:pillow", "cms:content:catalogue:product:pillow:stale");
+    }
+
+    @Test
+    void getOrLoad_keepsServingStaleCopyWhenBackgroundRefreshFails() throws Exception {
         store.put(
                 "cms:content:page:delivery:stale",
                 new ObjectMapper().writeValueAsString(Map.of("title", "Cached delivery"))
@@ -102,7 +295,30 @@ class DirectusContentCacheServiceTest {
         );
 
         assertThat(payload).containsEntry("title", "Cached delivery");
-        verify(observabilityService).recordCacheLookup("page:delivery", "stale_hit");
+        verify(observabilityService, timeout(5000)).recordCacheLookup("page:delivery", "refresh_error");
+        assertThat(store).containsKey("cms:content:page:delivery:stale");
+    }
+
+    @Test
+    void getOrLoad_refreshesSlowKeysBeforeTheyExpire() {
+        properties.setCacheEarlyRefreshBeta(1e12);
+        AtomicInteger loads = new AtomicInteger();
+        Supplier<Map<String, String>> slowLoader = () -> {
+            loads.incrementAndGet();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return Map.of("title", "Delivery");
+        };
+        service.getOrLoad("page:delivery", STRING_MAP_TYPE, slowLoader);
+
+        assertThat(service.getOrLoad("page:delivery", STRING_MAP_TYPE, slowLoader)).containsEntry("title", "Delivery");
+
+        verify(observabilityService).recordCacheLookup("page:delivery", "early_refresh");
+        verify(observabilityService, timeout(5000).times(2)).recordCacheLookup("page:delivery", "miss");
+        assertThat(loads).hasValue(2);
     }
 
     @Test
@@ -120,6 +336,65 @@ class DirectusContentCacheServiceTest {
         verify(observabilityService).recordCacheLookup("page:delivery", "stale_miss");
     }
 
+    @Test
+    void getOrLoadAll_readsAllKeysInOneMgetAndLoadsOnlyTheMissingOnes() {
+        mockBatchOperations();
+        store.put("cms:content:catalogue:product:pillow", "{\"title\":\"Pillow\"}");
+        List<List<String>> loaderCalls = new ArrayList<>();
+
+        Map<String, Map<String, String>> values = service.getOrLoadAll(
+                List.of("pillow", "duvet", "towel"),
+                ContentCacheKeys::productOverlay,
+                STRING_MAP_TYPE,
+                keys -> {
+                    loaderCalls.add(keys);
+                    return Map.of("duvet", Map.of("title", "Duvet"), "towel", Map.of());
+                }
+        );
+
+        assertThat(values)
+                .containsEntry("pillow", Map.of("title", "Pillow"))
+                .containsEntry("duvet", Map.of("title", "Duvet"))
+                .containsEntry("towel", Map.of());
+        assertThat(loaderCalls).containsExactly(List.of("duvet", "towel"));
+        assertThat(store)
+                .containsEntry("cms:content:catalogue:product:towel", "{}")
+                .containsEntry("cms:content:catalogue:product:duvet:stale", "{\"title\":\"Duvet\"}");
+
+        store.clear();
+        service.getOrLoadAll(List.of("pillow", "duvet", "towel"), ContentCacheKeys::productOverlay, STRING_MAP_TYPE, keys -> {
+            loaderCalls.add(keys);
+            return Map.of();
+        });
+
+        assertThat(loaderCalls).hasSize(1);
+        verify(valueOperations, times(1)).multiGet(anyCollection());
+        verify(valueOperations, never()).get(anyString());
+    }
+
+    @Test
+    void getOrLoadAll_servesStaleEntriesAndRefreshesThemInOneBackgroundLoad() {
+        mockBatchOperations();
+        store.put("cms:content:catalogue:category:bedroom:stale", "{\"title\":\"Old bedroom\"}");
+        store.put("cms:content:catalogue:category:bath:stale", "{\"title\":\"Old bath\"}");
+        List<List<String>> loaderCalls = new ArrayList<>();
+
+        Map<String, Map<String, String>> values = service.getOrLoadAll(
+                List.of("bedroom", "bath"),
+                ContentCacheKeys::categoryOverlay,
+                STRING_MAP_TYPE,
+                keys -> {
+                    loaderCalls.add(keys);
+                    return Map.of("bedroom", Map.of("title", "Bedroom"), "bath", Map.of("title", "Bath"));
+                }
+        );
+
+        assertThat(values).containsEntry("bedroom", Map.of("title", "Old bedroom"));
+        verify(observabilityService, timeout(5000).times(2)).recordCacheWrite(anyString(), eq("success"));
+        assertThat(loaderCalls).containsExactly(List.of("bedroom", "bath"));
+        assertThat(store).containsEntry("cms:content:catalogue:category:bath", "{\"title\":\"Bath\"}");
+    }
+
     @Test
     void invalidatePage_deletesFreshAndStaleKeys() {
         store.put("cms:content:page:delivery", "{\"title\":\"Delivery\"}");
@@ -177,4 +452,16 @@ class DirectusContentCacheServiceTest {
         );
         verify(observabilityService).recordCacheInvalidation("page", 0);
     }
+
+    @SuppressWarnings("unchecked")
+    private void mockBatchOperations() {
+        when(valueOperations.multiGet(anyCollection())).thenAnswer(invocation -> ((Collection<String>) invocation.getArgument(0))
+                .stream()
+                .map(store::get)
+                .toList());
+        lenient().when(redisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+            ((SessionCallback<Object>) invocation.getArgument(0)).execute(redisTemplate);
+            return List.of();
+        });
+    }
 }
@@ -108,6 +108,31 @@ class DirectusContentClientHttpTest {
         assertThat(request.getRequestUrl().queryParameter("limit")).isEqualTo("1");
     }
 
+    @Test
+    void fetchPageSectionItems_filtersThroughSectionAndPageRelations() throws Exception {
+        enqueueJson("""
+                {
+                  "data": [
+                    {
+                      "id": 11,
+                      "page_section": 1,
+                      "title": "Card",
+                      "sort": 10
+                    }
+                  ]
+                }
+                """);
+
+        List<DirectusContentClient.DirectusPageSectionItem> items = client.fetchPageSectionItems("delivery", ContentAccessMode.PUBLISHED);
+        RecordedRequest request = takeRequest();
+
+        assertThat(items).extracting(DirectusContentClient.DirectusPageSectionItem::title).containsExactly("Card");
+        assertThat(request.getRequestUrl().encodedPath()).isEqualTo("/items/page_section_items");
+        assertThat(request.getRequestUrl().queryParameter("filter[page_section][page][slug][_eq]")).isEqualTo("delivery");
+        assertThat(request.getRequestUrl().queryParameter("filter[status][_eq]")).isEqualTo("published");
+        assertThat(request.getRequestUrl().queryParameter("filter[page_section][status][_eq]")).isEqualTo("published");
+    }
+
     @Test
     void fetchSiteSettings_previewRejectsArchivedSingleton() {
         enqueueJson("""
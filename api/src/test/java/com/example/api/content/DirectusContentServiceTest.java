@@ -8,14 +8,20 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -30,11 +36,13 @@ class DirectusContentServiceTest {
     @Mock
     private DirectusContentCacheService contentCacheService;
 
+    private final DirectusContentProperties properties = new DirectusContentProperties();
+
     private DirectusContentService service;
 
     @BeforeEach
     void setUp() {
-        service = new DirectusContentService(directusContentClient, contentCacheService);
+        service = new DirectusContentService(directusContentClient, contentCacheService, properties);
         lenient().when(contentCacheService.getOrLoad(
                         anyString(),
                         ArgumentMatchers.<TypeReference<Object>>any(),
@@ -114,7 +122,7 @@ class DirectusContentServiceTest {
                         publishedAt
                 )
         );
-        when(directusContentClient.fetchPageSections(101, ContentAccessMode.PUBLISHED)).thenReturn(List.of(
+        when(directusContentClient.fetchPageSections("delivery", ContentAccessMode.PUBLISHED)).thenReturn(List.of(
                 new DirectusContentClient.DirectusPageSection(
                         2, 101, "Body", "rich_text", 20, null, null, "Delivery body", null,
                         null, null, null, null, null, null, null, null, null, "default", "contained", publishedAt
@@ -125,7 +133,7 @@ class DirectusContentServiceTest {
                         "hero-mobile", null, "Shop now", "/catalog", null, null, "warm", "full", publishedAt
                 )
         ));
-        when(directusContentClient.fetchPageSectionItems(List.of(2, 1), ContentAccessMode.PUBLISHED)).thenReturn(List.of(
+        when(directusContentClient.fetchPageSectionItems("delivery", ContentAccessMode.PUBLISHED)).thenReturn(List.of(
                 new DirectusContentClient.DirectusPageSectionItem(22, 1, "Guarantee", "Ships protected", null, null, "card-image", null, null, null, 20, publishedAt),
                 new DirectusContentClient.DirectusPageSectionItem(21, 1, "Natural fabrics", "Premium cotton", null, null, "card-image-2", "Card alt override", null, null, 10, publishedAt)
         ));
@@ -146,8 +154,8 @@ class DirectusContentServiceTest {
                 ArgumentMatchers.<Supplier<Object>>any()
         );
         verify(directusContentClient).fetchPageBySlug("delivery", ContentAccessMode.PUBLISHED);
-        verify(directusContentClient).fetchPageSections(101, ContentAccessMode.PUBLISHED);
-        verify(directusContentClient).fetchPageSectionItems(List.of(2, 1), ContentAccessMode.PUBLISHED);
+        verify(directusContentClient).fetchPageSections("delivery", ContentAccessMode.PUBLISHED);
+        verify(directusContentClient).fetchPageSectionItems("delivery", ContentAccessMode.PUBLISHED);
 
         assertThat(cacheKeyCaptor.getValue()).isEqualTo("page:delivery");
         assertThat(page.slug()).isEqualTo("delivery");
@@ -222,4 +230,56 @@ class DirectusContentServiceTest {
         assertThat(settings.announcementBanner().shortText()).isEqualTo("Новые условия доставки опубликованы");
         assertThat(settings.publishedAt()).isEqualTo(publishedAt);
     }
+
+    @Test
+    void getPageBySlug_loadsPageSectionsAndItemsTogetherThenFilesOnce() {
+        OffsetDateTime publishedAt = OffsetDateTime.parse("2026-04-12T10:15:30Z");
+        CountDownLatch contentRequested = new CountDownLatch(3);
+        when(directusContentClient.fetchPageBySlug("delivery", ContentAccessMode.PUBLISHED)).thenAnswer(invocation -> {
+            contentRequested.countDown();
+            assertThat(contentRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            return new DirectusContentClient.DirectusPage(101, "delivery", "/info/delivery", "Delivery", "content", null, null, null, null, "seo-asset", publishedAt);
+        });
+        when(directusContentClient.fetchPageSections("delivery", ContentAccessMode.PUBLISHED)).thenAnswer(invocation -> {
+            contentRequested.countDown();
+            assertThat(contentRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(new DirectusContentClient.DirectusPageSection(
+                    1, 101, "Hero", "hero", 10, null, null, "Delivery", null, null, "hero-image", null,
+                    null, null, null, null, null, null, null, null, publishedAt
+            ));
+        });
+        when(directusContentClient.fetchPageSectionItems("delivery", ContentAccessMode.PUBLISHED)).thenAnswer(invocation -> {
+            contentRequested.countDown();
+            assertThat(contentRequested.await(5, TimeUnit.SECONDS)).isTrue();
+            return List.of(
+                    new DirectusContentClient.DirectusPageSectionItem(11, 1, "Card", null, null, null, "card-image", null, null, null, 10, publishedAt),
+                    new DirectusContentClient.DirectusPageSectionItem(12, 9, "Hidden section", null, null, null, "hidden-image", null, null, null, 10, publishedAt)
+            );
+        });
+        when(directusContentClient.fetchFiles(any())).thenReturn(List.of(
+                new DirectusContentClient.DirectusFileAsset("hero-image", "Hero", null, 1600, 900, "hero.jpg", "image/jpeg"),
+                new DirectusContentClient.DirectusFileAsset("card-image", "Card", null, 640, 480, "card.jpg", "image/jpeg")
+        ));
+        when(directusContentClient.assetUrl(anyString())).thenAnswer(invocation -> "http://cms.test/assets/" + invocation.getArgument(0));
+
+        ContentModels.Page page = service.getPageBySlug("delivery");
+
+        assertThat(page.sections().getFirst().items()).extracting(ContentModels.PageSectionItem::title)
+                .containsExactly("Card");
+        assertThat(page.sections().getFirst().items().getFirst().image().width()).isEqualTo(640);
+        verify(directusContentClient).fetchFiles(argThat(ids -> List.copyOf(ids).equals(List.of("seo-asset", "hero-image", "card-image"))));
+    }
+
+    @Test
+    void getPageBySlug_failsOnceTheRequestDeadlinePasses() {
+        properties.setRequestDeadline(Duration.ofMillis(200));
+        when(directusContentClient.fetchPageBySlug("delivery", ContentAccessMode.PUBLISHED)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return null;
+        });
+
+        assertThatThrownBy(() -> service.getPageBySlug("delivery"))
+                .isInstanceOf(ResourceAccessException.class)
+                .hasMessageContaining("deadline");
+    }
 }
@@ -47,7 +47,8 @@ class OrderServiceManualDeliveryTest {
                 cartService,
                 inventoryService,
                 variantRepository,
-                checkoutAttemptRepository
+                checkoutAttemptRepository,
+                mock(ProductSalesService.class)
         );
 
         UUID cartId = UUID.randomUUID();
@@ -140,7 +141,8 @@ class OrderServiceManualDeliveryTest {
                 cartService,
                 inventoryService,
                 variantRepository,
-                checkoutAttemptRepository
+                checkoutAttemptRepository,
+                mock(ProductSalesService.class)
         );
 
         UUID cartId = UUID.randomUUID();
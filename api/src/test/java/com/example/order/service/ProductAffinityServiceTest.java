@@ -0,0 +1,110 @@
+package com.example.order.service;
+
+import com.example.order.repository.OrderItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductAffinityServiceTest {
+
+    @Mock
+    private OrderItemRepository orderItemRepository;
+
+    private ProductAffinityService affinityService;
+    private final UUID duvet = UUID.randomUUID();
+    private final UUID cover = UUID.randomUUID();
+    private final UUID pillow = UUID.randomUUID();
+    private final UUID towel = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        affinityService = new ProductAffinityService(orderItemRepository, 50, 2);
+    }
+
+    @Test
+    void recountSplitsOrderHistoryAcrossForkJoinTasks() {
+        List<OrderItemRepository.OrderProductView> rows = new ArrayList<>();
+        for (int order = 0; order < 1500; order++) {
+            UUID orderId = new UUID(0, order);
+            rows.add(row(orderId, duvet));
+            rows.add(row(orderId, order % 3 == 0 ? pillow : cover));
+        }
+        UUID single = UUID.randomUUID();
+        rows.add(row(single, towel));
+        when(orderItemRepository.streamSoldOrderProducts()).thenReturn(rows.stream());
+
+        affinityService.recompute();
+
+        assertThat(affinityService.frequentlyBoughtWith(duvet, 5)).containsExactly(cover, pillow);
+        assertThat(affinityService.frequentlyBoughtWith(duvet, 1)).containsExactly(cover);
+        assertThat(affinityService.frequentlyBoughtWith(pillow, 5)).containsExactly(duvet);
+        assertThat(affinityService.frequentlyBoughtWith(towel, 5)).isEmpty();
+    }
+
+    @Test
+    void soldAndReversedOrdersAdjustCountsInPlace() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        when(orderItemRepository.findOrderProductIds(first)).thenReturn(List.of(towel, pillow));
+        when(orderItemRepository.findOrderProductIds(second)).thenReturn(List.of(towel, pillow, duvet));
+
+        affinityService.orderSold(first);
+        assertThat(affinityService.frequentlyBoughtWith(towel, 5)).isEmpty();
+
+        affinityService.orderSold(second);
+        assertThat(affinityService.frequentlyBoughtWith(towel, 5)).containsExactly(pillow);
+
+        affinityService.orderReversed(second);
+        assertThat(affinityService.frequentlyBoughtWith(towel, 5)).isEmpty();
+        assertThat(affinityService.frequentlyBoughtWith(duvet, 5)).isEmpty();
+    }
+
+    @Test
+    void changesCommittedDuringARecountAreReplayedOntoTheNewCounts() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        UUID fourth = UUID.randomUUID();
+        when(orderItemRepository.findOrderProductIds(first)).thenReturn(List.of(duvet, cover));
+        when(orderItemRepository.findOrderProductIds(second)).thenReturn(List.of(duvet, cover));
+        when(orderItemRepository.findOrderProductIds(third)).thenReturn(List.of(towel, pillow));
+        when(orderItemRepository.findOrderProductIds(fourth)).thenReturn(List.of(towel, pillow));
+        when(orderItemRepository.streamSoldOrderProducts()).thenAnswer(invocation -> {
+            affinityService.orderSold(second);
+            affinityService.orderSold(third);
+            affinityService.orderSold(fourth);
+            affinityService.orderReversed(first);
+            return Stream.of(row(first, duvet), row(first, cover), row(second, duvet), row(second, cover));
+        });
+
+        affinityService.recompute();
+
+        assertThat(affinityService.frequentlyBoughtWith(towel, 5)).containsExactly(pillow);
+        assertThat(affinityService.frequentlyBoughtWith(duvet, 5)).isEmpty();
+    }
+
+    private OrderItemRepository.OrderProductView row(UUID orderId, UUID productId) {
+        return new OrderItemRepository.OrderProductView() {
+            @Override
+            public UUID getOrderId() {
+                return orderId;
+            }
+
+            @Override
+            public UUID getProductId() {
+                return productId;
+            }
+        };
+    }
+}
@@ -137,6 +137,7 @@ class PaymentServiceDirectusTaxReceiptTest {
                 provider(yooKassaClient),
                 provider(null),
                 provider(new ActiveFiscalConfigurationProvider(taxConfigurationRepository)),
+                provider(null),
                 provider(null)
         );
     }
@@ -5,6 +5,7 @@ import com.example.order.domain.Order;
 import com.example.order.domain.OrderItem;
 import com.example.order.repository.OrderRepository;
 import com.example.order.service.OrderService;
+import com.example.order.service.ProductSalesService;
 import com.example.payment.domain.Payment;
 import com.example.payment.domain.PaymentStatus;
 import com.example.payment.repository.PaymentRefundRepository;
@@ -42,6 +43,7 @@ class PaymentServiceManualDeliveryTest {
         ObjectProvider<PaymentRefundItemRepository> paymentRefundItemRepositoryProvider = mock(ObjectProvider.class);
         ObjectProvider<FiscalConfigurationProvider> fiscalConfigurationProvider = mock(ObjectProvider.class);
         ObjectProvider<PromoCodeRedemptionRecorder> promoCodeRedemptionRecorderProvider = mock(ObjectProvider.class);
+        ObjectProvider<ProductSalesService> productSalesServiceProvider = mock(ObjectProvider.class);
         UUID orderId = UUID.randomUUID();
 
         when(customerRepositoryProvider.getIfAvailable()).thenReturn(null);
@@ -50,6 +52,7 @@ class PaymentServiceManualDeliveryTest {
         when(paymentRefundItemRepositoryProvider.getIfAvailable()).thenReturn(null);
         when(fiscalConfigurationProvider.getIfAvailable()).thenReturn(null);
         when(promoCodeRedemptionRecorderProvider.getIfAvailable()).thenReturn(null);
+        when(productSalesServiceProvider.getIfAvailable()).thenReturn(null);
         when(paymentRepository.findTopByOrderIdOrderByPaymentDateDesc(orderId)).thenReturn(Optional.empty());
 
         PaymentService service = new PaymentService(
@@ -62,7 +65,8 @@ class PaymentServiceManualDeliveryTest {
                 yooKassaClientProvider,
                 orderServiceProvider,
                 fiscalConfigurationProvider,
-                promoCodeRedemptionRecorderProvider
+                promoCodeRedemptionRecorderProvider,
+                productSalesServiceProvider
         );
 
         PaymentService.PaymentUpdateResult result = service.refreshLatestYooKassaPaymentForOrder(orderId);
@@ -87,6 +91,7 @@ class PaymentServiceManualDeliveryTest {
         ObjectProvider<FiscalConfigurationProvider> fiscalConfigurationProvider = mock(ObjectProvider.class);
         FiscalConfigurationProvider fiscalConfiguration = mock(FiscalConfigurationProvider.class);
         ObjectProvider<PromoCodeRedemptionRecorder> promoCodeRedemptionRecorderProvider = mock(ObjectProvider.class);
+        ObjectProvider<ProductSalesService> productSalesServiceProvider = mock(ObjectProvider.class);
         when(customerRepositoryProvider.getIfAvailable()).thenReturn(null);
         when(yooKassaClientProvider.getIfAvailable()).thenReturn(yooKassaClient);
         when(orderServiceProvider.getIfAvailable()).thenReturn(null);
@@ -95,6 +100,7 @@ class PaymentServiceManualDeliveryTest {
         when(fiscalConfiguration.getActiveFiscalConfiguration())
                 .thenReturn(new FiscalConfigurationProvider.FiscalConfiguration(6, 2));
         when(promoCodeRedemptionRecorderProvider.getIfAvailable()).thenReturn(null);
+        when(productSalesServiceProvider.getIfAvailable()).thenReturn(null);
 
         PaymentService service = new PaymentService(
                 paymentRepository,
@@ -106,7 +112,8 @@ class PaymentServiceManualDeliveryTest {
                 yooKassaClientProvider,
                 orderServiceProvider,
                 fiscalConfigurationProvider,
-                promoCodeRedemptionRecorderProvider
+                promoCodeRedemptionRecorderProvider,
+                productSalesServiceProvider
         );
 
         UUID orderId = UUID.randomUUID();
@@ -6,6 +6,7 @@ import com.example.order.domain.Order;
 import com.example.order.domain.OrderItem;
 import com.example.order.repository.OrderRepository;
 import com.example.order.service.OrderService;
+import com.example.order.service.ProductSalesService;
 import com.example.payment.domain.Payment;
 import com.example.payment.domain.PaymentRefund;
 import com.example.payment.domain.PaymentRefundItem;
@@ -60,12 +61,14 @@ class PaymentServiceRefundTest {
         ObjectProvider<OrderService> orderServiceProvider = org.mockito.Mockito.mock(ObjectProvider.class);
         ObjectProvider<FiscalConfigurationProvider> fiscalProvider = org.mockito.Mockito.mock(ObjectProvider.class);
         ObjectProvider<PromoCodeRedemptionRecorder> promoRecorderProvider = org.mockito.Mockito.mock(ObjectProvider.class);
+        ObjectProvider<ProductSalesService> productSalesProvider = org.mockito.Mockito.mock(ObjectProvider.class);
         when(refundItemProvider.getIfAvailable()).thenReturn(paymentRefundItemRepository);
         when(customerProvider.getIfAvailable()).thenReturn(null);
         when(yooKassaProvider.getIfAvailable()).thenReturn(yooKassaClient);
         when(orderServiceProvider.getIfAvailable()).thenReturn(null);
         when(fiscalProvider.getIfAvailable()).thenReturn(null);
         when(promoRecorderProvider.getIfAvailable()).thenReturn(null);
+        when(productSalesProvider.getIfAvailable()).thenReturn(null);
 
         service = new PaymentService(
                 paymentRepository,
@@ -77,7 +80,8 @@ class PaymentServiceRefundTest {
                 yooKassaProvider,
                 orderServiceProvider,
                 fiscalProvider,
-                promoRecorderProvider
+                promoRecorderProvider,
+                productSalesProvider
         );
     }
 
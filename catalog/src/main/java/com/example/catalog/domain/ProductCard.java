@@ -0,0 +1,128 @@
+package com.example.catalog.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Entity
+@Immutable
+@Table(name = "product_card")
+public class ProductCard {
+
+    @Id
+    @Column(name = "product_id", nullable = false, columnDefinition = "uuid")
+    private UUID productId;
+
+    @Column(name = "slug", nullable = false)
+    private String slug;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "brand_slug")
+    private String brandSlug;
+
+    @Column(name = "brand_name")
+    private String brandName;
+
+    @Column(name = "min_price_amount")
+    private Long minPriceAmount;
+
+    @Column(name = "max_price_amount")
+    private Long maxPriceAmount;
+
+    @Column(name = "price_currency", length = 3)
+    private String priceCurrency;
+
+    @Column(name = "primary_image_key")
+    private String primaryImageKey;
+
+    @Column(name = "in_stock", nullable = false)
+    private boolean inStock;
+
+    @Column(name = "total_stock", nullable = false)
+    private int totalStock;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "category_paths", nullable = false, columnDefinition = "text[]")
+    private String[] categoryPaths;
+
+    @Column(name = "is_active", nullable = false)
+    private boolean isActive;
+
+    @Column(name = "product_created_at", columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime productCreatedAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "TIMESTAMP WITH TIME ZONE")
+    private OffsetDateTime updatedAt;
+
+    public ProductCard() {
+    }
+
+    public UUID getProductId() {
+        return productId;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getBrandSlug() {
+        return brandSlug;
+    }
+
+    public String getBrandName() {
+        return brandName;
+    }
+
+    public Long getMinPriceAmount() {
+        return minPriceAmount;
+    }
+
+    public Long getMaxPriceAmount() {
+        return maxPriceAmount;
+    }
+
+    public String getPriceCurrency() {
+        return priceCurrency;
+    }
+
+    public String getPrimaryImageKey() {
+        return primaryImageKey;
+    }
+
+    public boolean isInStock() {
+        return inStock;
+    }
+
+    public int getTotalStock() {
+        return totalStock;
+    }
+
+    public String[] getCategoryPaths() {
+        return categoryPaths;
+    }
+
+    public boolean isIsActive() {
+        return isActive;
+    }
+
+    public OffsetDateTime getProductCreatedAt() {
+        return productCreatedAt;
+    }
+
+    public OffsetDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
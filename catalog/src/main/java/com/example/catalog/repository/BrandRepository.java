@@ -2,12 +2,25 @@ package com.example.catalog.repository;
 
 import com.example.catalog.domain.Brand;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BrandRepository extends JpaRepository<Brand, UUID> {
     Optional<Brand> findBySlug(String slug);
+
+    @Query(value = """
+            SELECT b.* FROM brand b
+            WHERE :pattern = ''
+               OR b.name ILIKE :pattern
+               OR b.slug ILIKE :pattern
+               OR b.description ILIKE :pattern
+            ORDER BY lower(b.name) NULLS LAST, b.id
+            """, nativeQuery = true)
+    List<Brand> findWorkspaceBrands(@Param("pattern") String pattern);
 }
@@ -2,6 +2,7 @@ package com.example.catalog.repository;
 
 import com.example.catalog.domain.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -17,5 +18,48 @@ public interface CategoryRepository extends JpaRepository<Category, UUID> {
     @Query("select c from Category c where lower(trim(c.slug)) = lower(trim(:slug))")
     List<Category> findByNormalizedSlug(@Param("slug") String slug);
     List<Category> findBySlugIn(Collection<String> slugs);
+    @Query("select c from Category c where lower(trim(c.slug)) in :slugs")
+    List<Category> findByNormalizedSlugIn(@Param("slugs") Collection<String> normalizedSlugs);
     List<Category> findByParent_Id(UUID parentId);
+
+    /**
+     * Rewrites {@code full_path} for every descendant of {@code rootId} from the root's stored path in one
+     * statement. The walk stops at ids it has already visited, so an existing parent cycle cannot make it loop.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            WITH RECURSIVE subtree (id, full_path, visited) AS (
+                SELECT c.id, c.full_path, ARRAY[c.id]
+                FROM category c
+                WHERE c.id = :rootId
+              UNION ALL
+                SELECT child.id, subtree.full_path || '/' || child.slug, subtree.visited || child.id
+                FROM category child
+                JOIN subtree ON child.parent_id = subtree.id
+                WHERE NOT child.id = ANY(subtree.visited)
+            )
+            UPDATE category c
+            SET full_path = subtree.full_path,
+                updated_at = NOW()
+            FROM subtree
+            WHERE c.id = subtree.id
+              AND c.id <> :rootId
+              AND c.full_path IS DISTINCT FROM subtree.full_path
+            """, nativeQuery = true)
+    int rewriteDescendantPaths(@Param("rootId") UUID rootId);
+
+    /**
+     * Whether {@code ancestorId} is {@code categoryId} itself or one of its ancestors.
+     */
+    @Query(value = """
+            WITH RECURSIVE ancestors (id, parent_id) AS (
+                SELECT c.id, c.parent_id FROM category c WHERE c.id = :categoryId
+              UNION
+                SELECT parent.id, parent.parent_id
+                FROM category parent
+                JOIN ancestors ON parent.id = ancestors.parent_id
+            )
+            SELECT EXISTS (SELECT 1 FROM ancestors WHERE id = :ancestorId)
+            """, nativeQuery = true)
+    boolean isSelfOrAncestor(@Param("ancestorId") UUID ancestorId, @Param("categoryId") UUID categoryId);
 }
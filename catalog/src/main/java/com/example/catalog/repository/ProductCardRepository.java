@@ -0,0 +1,160 @@
+package com.example.catalog.repository;
+
+import com.example.catalog.domain.ProductCard;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ProductCardRepository extends JpaRepository<ProductCard, UUID> {
+
+    String UPSERT_CARDS = """
+            INSERT INTO product_card (product_id, slug, name, brand_slug, brand_name, min_price_amount, max_price_amount,
+                                      price_currency, primary_image_key, in_stock, total_stock, category_paths, is_active,
+                                      product_created_at, updated_at)
+            SELECT p.id,
+                   p.slug,
+                   p.name,
+                   b.slug,
+                   b.name,
+                   (SELECT min(v.price_amount) FROM product_variant v WHERE v.product_id = p.id),
+                   (SELECT max(v.price_amount) FROM product_variant v WHERE v.product_id = p.id),
+                   (SELECT v.price_currency FROM product_variant v WHERE v.product_id = p.id ORDER BY v.price_amount LIMIT 1),
+                   (SELECT i.object_key FROM product_image i WHERE i.product_id = p.id ORDER BY i.position, i.created_at DESC LIMIT 1),
+                   EXISTS (SELECT 1 FROM product_variant v WHERE v.product_id = p.id AND v.stock_quantity > 0),
+                   COALESCE((SELECT sum(v.stock_quantity) FROM product_variant v WHERE v.product_id = p.id), 0),
+                   COALESCE((SELECT array_agg(DISTINCT array_to_string((string_to_array(c.full_path, '/'))[1:n], '/'))
+                             FROM product_category pc
+                             JOIN category c ON c.id = pc.category_id
+                             CROSS JOIN LATERAL generate_series(1, cardinality(string_to_array(c.full_path, '/'))) AS n
+                             WHERE pc.product_id = p.id), '{}'),
+                   p.is_active,
+                   p.created_at,
+                   NOW()
+            FROM product p
+            LEFT JOIN brand b ON b.id = p.brand_id
+            """;
+
+    String ON_CONFLICT_UPDATE = """
+            ON CONFLICT (product_id) DO UPDATE SET
+                slug = EXCLUDED.slug,
+                name = EXCLUDED.name,
+                brand_slug = EXCLUDED.brand_slug,
+                brand_name = EXCLUDED.brand_name,
+                min_price_amount = EXCLUDED.min_price_amount,
+                max_price_amount = EXCLUDED.max_price_amount,
+                price_currency = EXCLUDED.price_currency,
+                primary_image_key = EXCLUDED.primary_image_key,
+                in_stock = EXCLUDED.in_stock,
+                total_stock = EXCLUDED.total_stock,
+                category_paths = EXCLUDED.category_paths,
+                is_active = EXCLUDED.is_active,
+                product_created_at = EXCLUDED.product_created_at,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    String LISTING_FILTER = """
+            WHERE (:includeInactive OR pc.is_active)
+              AND (:brandSlug = '' OR pc.brand_slug = :brandSlug)
+              AND (:categoryPath = '' OR pc.category_paths @> ARRAY[CAST(:categoryPath AS TEXT)])
+            """;
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = UPSERT_CARDS + " WHERE p.id IN (:productIds) " + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int refreshCards(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = UPSERT_CARDS + " WHERE TRUE " + ON_CONFLICT_UPDATE, nativeQuery = true)
+    int refreshAllCards();
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM product_card pc
+            WHERE pc.product_id IN (:productIds)
+              AND NOT EXISTS (SELECT 1 FROM product p WHERE p.id = pc.product_id)
+            """, nativeQuery = true)
+    int deleteOrphanedCards(@Param("productIds") Collection<UUID> productIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            DELETE FROM product_card pc
+            WHERE NOT EXISTS (SELECT 1 FROM product p WHERE p.id = pc.product_id)
+            """, nativeQuery = true)
+    int deleteAllOrphanedCards();
+
+    @Query(value = "SELECT pc.* FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.min_price_amount ASC NULLS LAST, pc.product_id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<ProductCard> findListingByPriceAsc(@Param("categoryPath") String categoryPath,
+                                            @Param("brandSlug") String brandSlug,
+                                            @Param("includeInactive") boolean includeInactive,
+                                            @Param("limit") int limit,
+                                            @Param("offset") long offset);
+
+    @Query(value = "SELECT pc.* FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.min_price_amount DESC NULLS LAST, pc.product_id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<ProductCard> findListingByPriceDesc(@Param("categoryPath") String categoryPath,
+                                             @Param("brandSlug") String brandSlug,
+                                             @Param("includeInactive") boolean includeInactive,
+                                             @Param("limit") int limit,
+                                             @Param("offset") long offset);
+
+    @Query(value = "SELECT pc.product_id FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.product_created_at DESC, pc.product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findTopIdsByCreatedDesc(@Param("categoryPath") String categoryPath,
+                                       @Param("brandSlug") String brandSlug,
+                                       @Param("includeInactive") boolean includeInactive,
+                                       @Param("limit") int limit);
+
+    @Query(value = "SELECT pc.product_id FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.product_created_at ASC NULLS LAST, pc.product_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findTopIdsByCreatedAsc(@Param("categoryPath") String categoryPath,
+                                      @Param("brandSlug") String brandSlug,
+                                      @Param("includeInactive") boolean includeInactive,
+                                      @Param("limit") int limit);
+
+    @Query(value = "SELECT pc.product_id FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY lower(pc.name), pc.product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findTopIdsByName(@Param("categoryPath") String categoryPath,
+                                @Param("brandSlug") String brandSlug,
+                                @Param("includeInactive") boolean includeInactive,
+                                @Param("limit") int limit);
+
+    @Query(value = "SELECT pc.product_id FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.min_price_amount ASC NULLS LAST, pc.product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findTopIdsByPriceAsc(@Param("categoryPath") String categoryPath,
+                                    @Param("brandSlug") String brandSlug,
+                                    @Param("includeInactive") boolean includeInactive,
+                                    @Param("limit") int limit);
+
+    @Query(value = "SELECT pc.product_id FROM product_card pc " + LISTING_FILTER + """
+            ORDER BY pc.min_price_amount DESC NULLS LAST, pc.product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<UUID> findTopIdsByPriceDesc(@Param("categoryPath") String categoryPath,
+                                     @Param("brandSlug") String brandSlug,
+                                     @Param("includeInactive") boolean includeInactive,
+                                     @Param("limit") int limit);
+
+    @Query(value = "SELECT count(*) FROM product_card pc " + LISTING_FILTER, nativeQuery = true)
+    long countListing(@Param("categoryPath") String categoryPath,
+                      @Param("brandSlug") String brandSlug,
+                      @Param("includeInactive") boolean includeInactive);
+}
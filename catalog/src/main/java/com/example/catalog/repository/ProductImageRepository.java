@@ -2,8 +2,11 @@ package com.example.catalog.repository;
 
 import com.example.catalog.domain.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,4 +19,12 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, UUID
     List<ProductImage> findByProduct_IdOrderByPositionAscCreatedAtDesc(UUID productId);
 
     Optional<ProductImage> findByObjectKey(String objectKey);
+
+    long countByProduct_Id(UUID productId);
+
+    @Query("select i.objectKey from ProductImage i where i.product.id = :productId")
+    List<String> findObjectKeysByProductId(@Param("productId") UUID productId);
+
+    @Query("select i from ProductImage i left join fetch i.variant where i.product.id in :productIds order by i.position asc, i.createdAt desc")
+    List<ProductImage> findWithVariantByProductIdIn(@Param("productIds") Collection<UUID> productIds);
 }
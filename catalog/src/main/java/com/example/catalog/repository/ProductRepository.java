@@ -1,17 +1,23 @@
 package com.example.catalog.repository;
 
 import com.example.catalog.domain.Product;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, UUID> {
@@ -19,14 +25,188 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
     @Query("select p from Product p where lower(trim(p.slug)) = lower(trim(:slug))")
     List<Product> findByNormalizedSlug(@Param("slug") String slug);
     List<Product> findBySlugIn(Collection<String> slugs);
+    @Query("select p from Product p where lower(trim(p.slug)) in :slugs")
+    List<Product> findByNormalizedSlugIn(@Param("slugs") Collection<String> normalizedSlugs);
     List<Product> findByBrand_Slug(String brandSlug);
-    List<Product> findDistinctByCategories_FullPathStartingWith(String fullPathPrefix);
-    List<Product> findDistinctByCategories_FullPathStartingWithAndBrand_Slug(String fullPathPrefix, String brandSlug);
+    List<Product> findDistinctByCategories_IdIn(Collection<UUID> categoryIds);
+    List<Product> findDistinctByCategories_IdInAndBrand_Slug(Collection<UUID> categoryIds, String brandSlug);
     Page<Product> findByIsActiveTrue(Pageable pageable);
+
+    @Query("select distinct p from Product p left join fetch p.variants where p.id in :ids")
+    List<Product> findWithVariantsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct p from Product p left join fetch p.categories left join fetch p.brand where p.id in :ids")
+    List<Product> findWithCategoriesAndBrandByIdIn(@Param("ids") Collection<UUID> ids);
     Page<Product> findByBrand_Slug(String brandSlug, Pageable pageable);
     Page<Product> findByBrand_SlugAndIsActiveTrue(String brandSlug, Pageable pageable);
-    Page<Product> findDistinctByCategories_FullPathStartingWith(String fullPathPrefix, Pageable pageable);
-    Page<Product> findDistinctByCategories_FullPathStartingWithAndIsActiveTrue(String fullPathPrefix, Pageable pageable);
-    Page<Product> findDistinctByCategories_FullPathStartingWithAndBrand_Slug(String fullPathPrefix, String brandSlug, Pageable pageable);
-    Page<Product> findDistinctByCategories_FullPathStartingWithAndBrand_SlugAndIsActiveTrue(String fullPathPrefix, String brandSlug, Pageable pageable);
+    Page<Product> findDistinctByCategories_IdIn(Collection<UUID> categoryIds, Pageable pageable);
+    Page<Product> findDistinctByCategories_IdInAndIsActiveTrue(Collection<UUID> categoryIds, Pageable pageable);
+    Page<Product> findDistinctByCategories_IdInAndBrand_Slug(Collection<UUID> categoryIds, String brandSlug, Pageable pageable);
+    Page<Product> findDistinctByCategories_IdInAndBrand_SlugAndIsActiveTrue(Collection<UUID> categoryIds, String brandSlug, Pageable pageable);
+
+    @Query(value = """
+            SELECT p.* FROM product p
+            WHERE (:includeInactive OR p.is_active)
+              AND (:brandSlug = '' OR EXISTS (
+                    SELECT 1 FROM brand b WHERE b.id = p.brand_id AND b.slug = :brandSlug))
+              AND (:anyCategory OR EXISTS (
+                    SELECT 1 FROM product_category pc
+                    WHERE pc.product_id = p.id AND pc.category_id IN (:categoryIds)))
+              AND (lower(p.name) COLLATE "C", p.id) > (CAST(:afterName AS TEXT) COLLATE "C", CAST(:afterId AS UUID))
+            ORDER BY lower(p.name) COLLATE "C", p.id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Product> findListingAfter(@Param("anyCategory") boolean anyCategory,
+                                   @Param("categoryIds") Collection<UUID> categoryIds,
+                                   @Param("brandSlug") String brandSlug,
+                                   @Param("includeInactive") boolean includeInactive,
+                                   @Param("afterName") String afterName,
+                                   @Param("afterId") UUID afterId,
+                                   @Param("limit") int limit);
+
+    /**
+     * One offset page in the listing order shared with the snapshot and keyset paging.
+     */
+    @Query(value = """
+            SELECT p.* FROM product p
+            WHERE (:includeInactive OR p.is_active)
+              AND (:brandSlug = '' OR EXISTS (
+                    SELECT 1 FROM brand b WHERE b.id = p.brand_id AND b.slug = :brandSlug))
+              AND (:anyCategory OR EXISTS (
+                    SELECT 1 FROM product_category pc
+                    WHERE pc.product_id = p.id AND pc.category_id IN (:categoryIds)))
+            ORDER BY lower(p.name) COLLATE "C", p.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<Product> findListingPage(@Param("anyCategory") boolean anyCategory,
+                                  @Param("categoryIds") Collection<UUID> categoryIds,
+                                  @Param("brandSlug") String brandSlug,
+                                  @Param("includeInactive") boolean includeInactive,
+                                  @Param("offset") long offset,
+                                  @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT count(*) FROM product p
+            WHERE (:includeInactive OR p.is_active)
+              AND (:brandSlug = '' OR EXISTS (
+                    SELECT 1 FROM brand b WHERE b.id = p.brand_id AND b.slug = :brandSlug))
+              AND (:anyCategory OR EXISTS (
+                    SELECT 1 FROM product_category pc
+                    WHERE pc.product_id = p.id AND pc.category_id IN (:categoryIds)))
+            """, nativeQuery = true)
+    long countListing(@Param("anyCategory") boolean anyCategory,
+                      @Param("categoryIds") Collection<UUID> categoryIds,
+                      @Param("brandSlug") String brandSlug,
+                      @Param("includeInactive") boolean includeInactive);
+
+    /**
+     * Active product ids for a full export, or for an incremental one every product whose row, variants,
+     * images, brand, or one of its categories or their ancestors changed since {@code since}, so renames
+     * reach the products that render them. Read through a cursor, so callers must hold a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+            WITH RECURSIVE changed_category (id) AS (
+                SELECT c.id FROM category c WHERE NOT :full AND c.updated_at >= :since
+              UNION
+                SELECT child.id FROM category child JOIN changed_category ON child.parent_id = changed_category.id
+            )
+            SELECT p.id FROM product p
+            WHERE (:full AND p.is_active)
+               OR (NOT :full AND (
+                    p.updated_at >= :since
+                    OR EXISTS (SELECT 1 FROM product_variant v WHERE v.product_id = p.id AND v.updated_at >= :since)
+                    OR EXISTS (SELECT 1 FROM product_image i WHERE i.product_id = p.id AND i.updated_at >= :since)
+                    OR EXISTS (SELECT 1 FROM brand b WHERE b.id = p.brand_id AND b.updated_at >= :since)
+                    OR EXISTS (SELECT 1 FROM product_category pc JOIN changed_category cc ON cc.id = pc.category_id
+                               WHERE pc.product_id = p.id)))
+            ORDER BY p.id
+            """, nativeQuery = true)
+    Stream<UUID> streamExportProductIds(@Param("full") boolean full, @Param("since") OffsetDateTime since);
+
+    /**
+     * Start of the oldest transaction still open in this database, or the current time when none is: rows
+     * such a transaction stamps become visible only when it commits, so an export must not move past it.
+     */
+    @Query(value = """
+            SELECT LEAST(clock_timestamp(), COALESCE(MIN(a.xact_start), clock_timestamp()))
+            FROM pg_stat_activity a
+            WHERE a.datname = current_database() AND a.pid <> pg_backend_pid() AND a.xact_start IS NOT NULL
+            """, nativeQuery = true)
+    OffsetDateTime findExportWatermark();
+
+    /**
+     * Records a hard delete of a product, category or brand in {@code catalog_tombstone}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO catalog_tombstone (entity_type, entity_id, slug, deleted_at)
+            VALUES (:entityType, :entityId, :slug, NOW())
+            ON CONFLICT (entity_type, entity_id) DO UPDATE SET slug = EXCLUDED.slug, deleted_at = EXCLUDED.deleted_at
+            """, nativeQuery = true)
+    int recordTombstone(@Param("entityType") String entityType, @Param("entityId") UUID entityId, @Param("slug") String slug);
+
+    @Query(value = """
+            SELECT t.entity_type AS entityType, t.entity_id AS entityId, t.slug AS slug
+            FROM catalog_tombstone t
+            WHERE t.deleted_at >= :since
+            ORDER BY t.entity_type, t.entity_id
+            """, nativeQuery = true)
+    List<Tombstone> findTombstonesSince(@Param("since") OffsetDateTime since);
+
+    @Modifying
+    @Query(value = "DELETE FROM catalog_tombstone WHERE deleted_at < :before", nativeQuery = true)
+    int deleteTombstonesBefore(@Param("before") OffsetDateTime before);
+
+    interface Tombstone {
+        String getEntityType();
+
+        UUID getEntityId();
+
+        String getSlug();
+    }
+
+    String WORKSPACE_PRODUCT_FILTER = """
+            FROM product p
+            WHERE (:includeInactive OR p.is_active)
+              AND (lower(trim(p.slug)) IN (:keys)
+                   OR :pattern = ''
+                   OR p.id IN (
+                        SELECT m.id FROM product m
+                        WHERE m.name ILIKE :pattern OR m.slug ILIKE :pattern OR m.description ILIKE :pattern
+                        UNION
+                        SELECT m.id FROM product m
+                        JOIN brand b ON b.id = m.brand_id
+                        WHERE b.name ILIKE :pattern OR b.slug ILIKE :pattern
+                        UNION
+                        SELECT pc.product_id FROM product_category pc
+                        JOIN category c ON c.id = pc.category_id
+                        WHERE coalesce(c.full_path, c.name) ILIKE :pattern))
+            """;
+
+    @Query(value = "SELECT p.id " + WORKSPACE_PRODUCT_FILTER + """
+            ORDER BY (lower(trim(p.slug)) IN (:keys)) DESC, lower(p.name), p.id
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<UUID> findWorkspaceProductIds(@Param("pattern") String pattern,
+                                       @Param("keys") Collection<String> keys,
+                                       @Param("includeInactive") boolean includeInactive,
+                                       @Param("limit") int limit,
+                                       @Param("offset") int offset);
+
+    @Query(value = "SELECT count(*) " + WORKSPACE_PRODUCT_FILTER, nativeQuery = true)
+    long countWorkspaceProducts(@Param("pattern") String pattern,
+                                @Param("keys") Collection<String> keys,
+                                @Param("includeInactive") boolean includeInactive);
+
+    @Query("select p.brand.id as brandId, count(p) as productCount from Product p where p.brand is not null group by p.brand.id")
+    List<BrandProductCount> countByBrand();
+
+    long countByBrand_Id(UUID brandId);
+
+    interface BrandProductCount {
+        UUID getBrandId();
+
+        long getProductCount();
+    }
 }
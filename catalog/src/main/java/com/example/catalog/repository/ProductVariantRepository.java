@@ -3,6 +3,8 @@ package com.example.catalog.repository;
 import com.example.catalog.domain.ProductVariant;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -23,4 +25,44 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
 
     @EntityGraph(attributePaths = "product")
     List<ProductVariant> findAllByOrderBySkuAsc();
+
+    String WORKSPACE_INVENTORY_FILTER = """
+            FROM product_variant v
+            JOIN product p ON p.id = v.product_id
+            WHERE (:includeInactive OR p.is_active)
+              AND (:pattern = ''
+                   OR v.id IN (
+                        SELECT m.id FROM product_variant m
+                        WHERE m.name ILIKE :pattern OR m.sku ILIKE :pattern)
+                   OR p.id IN (
+                        SELECT m.id FROM product m
+                        WHERE m.name ILIKE :pattern OR m.slug ILIKE :pattern
+                        UNION
+                        SELECT m.id FROM product m
+                        JOIN brand b ON b.id = m.brand_id
+                        WHERE b.name ILIKE :pattern OR b.slug ILIKE :pattern
+                        UNION
+                        SELECT pc.product_id FROM product_category pc
+                        JOIN category c ON c.id = pc.category_id
+                        WHERE c.full_path ILIKE :pattern))
+            """;
+
+    @Query(value = "SELECT v.id AS \"variantId\", v.product_id AS \"productId\" " + WORKSPACE_INVENTORY_FILTER + """
+            ORDER BY lower(p.name), p.id, v.sku
+            LIMIT :limit OFFSET :offset
+            """, nativeQuery = true)
+    List<InventoryRef> findWorkspaceInventory(@Param("pattern") String pattern,
+                                         @Param("includeInactive") boolean includeInactive,
+                                         @Param("limit") int limit,
+                                         @Param("offset") int offset);
+
+    @Query(value = "SELECT count(*) " + WORKSPACE_INVENTORY_FILTER, nativeQuery = true)
+    long countWorkspaceInventory(@Param("pattern") String pattern,
+                                 @Param("includeInactive") boolean includeInactive);
+
+    interface InventoryRef {
+        UUID getVariantId();
+
+        UUID getProductId();
+    }
 }
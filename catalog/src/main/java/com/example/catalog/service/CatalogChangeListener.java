@@ -0,0 +1,27 @@
+package com.example.catalog.service;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Receives the catalogue changes collected for one transaction. {@code productIds} lists the products
+ * whose own data, variants, images or stock changed; {@code full} is set when a category or brand write
+ * may have affected any product.
+ */
+public interface CatalogChangeListener {
+
+    /**
+     * Runs inside the writing transaction, right before it commits.
+     */
+    default void beforeCatalogCommit(Set<UUID> productIds, boolean full) {
+    }
+
+    /**
+     * Runs after commit on the snapshot refresher thread, once the snapshot reflecting the change has been
+     * published; changes from several commits may arrive together. {@code snapshot}
+     * is {@code null} when the snapshot is disabled or could not be refreshed. A scheduled rebuild that
+     * finds data changed outside this process reports it as a {@code full} change.
+     */
+    default void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.catalog.service;
 import com.example.catalog.domain.Brand;
 import com.example.catalog.domain.Category;
 import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductCard;
 import com.example.catalog.domain.ProductImage;
 import com.example.catalog.domain.ProductVariant;
 import com.example.catalog.repository.BrandRepository;
@@ -11,46 +12,88 @@ import com.example.catalog.repository.ProductRepository;
 import com.example.catalog.repository.ProductImageRepository;
 import com.example.catalog.repository.ProductVariantRepository;
 import com.example.common.domain.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
-public class CatalogService {
+public class CatalogService implements CatalogChangeListener {
+    public static final String TOMBSTONE_PRODUCT = "product";
+    public static final String TOMBSTONE_CATEGORY = "category";
+    public static final String TOMBSTONE_BRAND = "brand";
+    private static final long PRODUCT_COUNT_TTL_MILLIS = 60_000L;
+    private static final Set<UUID> NO_CATEGORY_IDS = Set.of(new UUID(0L, 0L));
+
     private final ProductRepository productRepository;
     private final ProductVariantRepository variantRepository;
     private final BrandRepository brandRepository;
     private final CategoryRepository categoryRepository;
     private final ProductImageRepository imageRepository;
+    private final CatalogSnapshotService snapshotService;
+    private final ProductCardService productCardService;
+    private final Map<String, CachedCount> productCounts = new ConcurrentHashMap<>();
+    private volatile CategoryTree categoryTree;
+    private EntityManager entityManager;
 
-    @Autowired
     public CatalogService(ProductRepository productRepository, ProductVariantRepository variantRepository, BrandRepository brandRepository, CategoryRepository categoryRepository, ProductImageRepository imageRepository) {
+        this(productRepository, variantRepository, brandRepository, categoryRepository, imageRepository, null, null);
+    }
+
+    public CatalogService(ProductRepository productRepository, ProductVariantRepository variantRepository, BrandRepository brandRepository, CategoryRepository categoryRepository, ProductImageRepository imageRepository, CatalogSnapshotService snapshotService) {
+        this(productRepository, variantRepository, brandRepository, categoryRepository, imageRepository, snapshotService, null);
+    }
+
+    @Autowired
+    public CatalogService(ProductRepository productRepository, ProductVariantRepository variantRepository, BrandRepository brandRepository, CategoryRepository categoryRepository, ProductImageRepository imageRepository, CatalogSnapshotService snapshotService, ProductCardService productCardService) {
         this.productRepository = productRepository;
         this.variantRepository = variantRepository;
         this.brandRepository = brandRepository;
         this.categoryRepository = categoryRepository;
         this.imageRepository = imageRepository;
+        this.snapshotService = snapshotService;
+        this.productCardService = productCardService;
+    }
+
+    @PersistenceContext
+    public void setEntityManager(EntityManager entityManager) {
+        this.entityManager = entityManager;
     }
 
     public Product createProduct(String name, String description, String slug) {
         String normalizedSlug = ProductSlugNormalizer.normalize(slug);
         ensureProductSlugAvailable(normalizedSlug, null);
         Product product = new Product(name, description, normalizedSlug);
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        productChanged(saved.getId());
+        return saved;
     }
 
     public ProductVariant addVariant(UUID productId,
@@ -74,6 +117,7 @@ public class CatalogService {
         product.addVariant(variant);
         // saving the product will cascade to the variant
         productRepository.save(product);
+        productChanged(productId);
         return variant;
     }
 
@@ -121,6 +165,7 @@ public class CatalogService {
         }
         variant.setStockQuantity(stock);
         applyVariantMerchandising(variant, weightGrossG, lengthMm, widthMm, heightMm, colorCode, colorLabel, colorHex, sizeCode, sizeLabel, sortOrder);
+        productChanged(productId);
         return variantRepository.save(variant);
     }
 
@@ -198,6 +243,7 @@ public class CatalogService {
             throw new IllegalArgumentException("Variant does not belong to product: " + productId);
         }
         variantRepository.delete(variant);
+        productChanged(productId);
     }
 
     public ProductImage addProductImage(UUID productId, String url, String objectKey, int position, UUID variantId) {
@@ -214,10 +260,15 @@ public class CatalogService {
         ProductImage image = new ProductImage(product, url, objectKey, safePosition);
         image.setVariant(variant);
         product.addImage(image);
+        productChanged(productId);
         return imageRepository.save(image);
     }
 
     public List<ProductImage> getProductImages(UUID productId) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().images(productId);
+        }
         List<ProductImage> images = imageRepository.findByProduct_IdOrderByPositionAscCreatedAtDesc(productId);
         images.forEach(img -> {
             if (img.getVariant() != null) {
@@ -227,12 +278,57 @@ public class CatalogService {
         return images;
     }
 
+    /**
+     * Position after the product's last image, read from the database: the snapshot refreshes after commit,
+     * so it can lag behind images added moments ago.
+     */
+    public int nextProductImagePosition(UUID productId) {
+        return Math.toIntExact(imageRepository.countByProduct_Id(productId));
+    }
+
+    /**
+     * Storage keys of every image the product has in the database, including ones the snapshot has not
+     * picked up yet.
+     */
+    public List<String> getProductImageObjectKeys(UUID productId) {
+        return imageRepository.findObjectKeysByProductId(productId);
+    }
+
+    public Map<UUID, List<ProductImage>> getProductImages(Collection<UUID> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        Map<UUID, List<ProductImage>> imagesByProduct = new LinkedHashMap<>();
+        if (snapshot.isPresent()) {
+            productIds.forEach(id -> imagesByProduct.put(id, snapshot.get().images(id)));
+            return imagesByProduct;
+        }
+        productIds.forEach(id -> imagesByProduct.put(id, new ArrayList<>()));
+        List<UUID> ids = List.copyOf(imagesByProduct.keySet());
+        for (int from = 0; from < ids.size(); from += ProductGraph.BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + ProductGraph.BATCH_SIZE, ids.size()));
+            imageRepository.findWithVariantByProductIdIn(chunk)
+                    .forEach(image -> imagesByProduct.get(image.getProduct().getId()).add(image));
+        }
+        return imagesByProduct;
+    }
+
     public ProductImage getProductImage(UUID imageId) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().image(imageId)
+                    .orElseThrow(() -> new IllegalArgumentException("Image not found: " + imageId));
+        }
         return imageRepository.findById(imageId)
                 .orElseThrow(() -> new IllegalArgumentException("Image not found: " + imageId));
     }
 
     public Optional<ProductImage> findProductImageByObjectKey(String objectKey) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().imageByObjectKey(objectKey);
+        }
         return imageRepository.findByObjectKey(objectKey);
     }
 
@@ -245,6 +341,7 @@ public class CatalogService {
         String objectKey = image.getObjectKey();
         image.getProduct().removeImage(image);
         imageRepository.delete(image);
+        productChanged(productId);
         return objectKey;
     }
 
@@ -266,53 +363,72 @@ public class CatalogService {
         if (position != null) {
             image.setPosition(Math.max(0, position));
         }
+        productChanged(productId);
         return imageRepository.save(image);
     }
 
     public List<Product> getProducts(String categorySlug, String brandSlug) {
         boolean hasCategory = categorySlug != null && !categorySlug.isBlank();
         boolean hasBrand = brandSlug != null && !brandSlug.isBlank();
-        String categoryPath = null;
+        Category category = null;
         if (hasCategory) {
-            categoryPath = resolveCategory(categorySlug).map(Category::getFullPath).orElse(null);
-            if (categoryPath == null) {
+            category = resolveCategory(categorySlug).orElse(null);
+            if (category == null) {
                 return List.of();
             }
         }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().products(hasCategory ? category.getId() : null, hasBrand ? brandSlug : null, false);
+        }
         List<Product> products;
         if (hasCategory && hasBrand) {
-            products = productRepository.findDistinctByCategories_FullPathStartingWithAndBrand_Slug(categoryPath, brandSlug);
+            products = productRepository.findDistinctByCategories_IdInAndBrand_Slug(categorySubtree(category), brandSlug);
         } else if (hasCategory) {
-            products = productRepository.findDistinctByCategories_FullPathStartingWith(categoryPath);
+            products = productRepository.findDistinctByCategories_IdIn(categorySubtree(category));
         } else if (hasBrand) {
             products = productRepository.findByBrand_Slug(brandSlug);
         } else {
             products = productRepository.findAll();
         }
-        products.forEach(this::hydrateProduct);
+        hydrateProducts(products);
         return products;
     }
 
     public Page<Product> getProducts(String categorySlug, String brandSlug, boolean includeInactive, Pageable pageable) {
         boolean hasCategory = categorySlug != null && !categorySlug.isBlank();
         boolean hasBrand = brandSlug != null && !brandSlug.isBlank();
-        String categoryPath = null;
+        Category category = null;
         if (hasCategory) {
-            categoryPath = resolveCategory(categorySlug).map(Category::getFullPath).orElse(null);
-            if (categoryPath == null) {
+            category = resolveCategory(categorySlug).orElse(null);
+            if (category == null) {
                 return Page.empty(pageable);
             }
         }
 
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            CatalogSnapshot current = snapshot.get();
+            Page<Product> page = current.page(current.products(hasCategory ? category.getId() : null, hasBrand ? brandSlug : null, !includeInactive), pageable);
+            if (page != null) {
+                return page;
+            }
+        }
+        if (pageable.getSort().getOrderFor("minPrice") != null) {
+            return getProductsByPrice(hasCategory ? category.getFullPath() : null, hasBrand ? brandSlug : null, includeInactive, pageable);
+        }
+        if (pageable.isPaged() && CatalogSnapshot.isListingOrder(pageable.getSort())) {
+            return getListingPage(hasCategory ? category : null, hasBrand ? brandSlug : "", includeInactive, pageable);
+        }
         Page<Product> products;
         if (hasCategory && hasBrand) {
             products = includeInactive
-                    ? productRepository.findDistinctByCategories_FullPathStartingWithAndBrand_Slug(categoryPath, brandSlug, pageable)
-                    : productRepository.findDistinctByCategories_FullPathStartingWithAndBrand_SlugAndIsActiveTrue(categoryPath, brandSlug, pageable);
+                    ? productRepository.findDistinctByCategories_IdInAndBrand_Slug(categorySubtree(category), brandSlug, pageable)
+                    : productRepository.findDistinctByCategories_IdInAndBrand_SlugAndIsActiveTrue(categorySubtree(category), brandSlug, pageable);
         } else if (hasCategory) {
             products = includeInactive
-                    ? productRepository.findDistinctByCategories_FullPathStartingWith(categoryPath, pageable)
-                    : productRepository.findDistinctByCategories_FullPathStartingWithAndIsActiveTrue(categoryPath, pageable);
+                    ? productRepository.findDistinctByCategories_IdIn(categorySubtree(category), pageable)
+                    : productRepository.findDistinctByCategories_IdInAndIsActiveTrue(categorySubtree(category), pageable);
         } else if (hasBrand) {
             products = includeInactive
                     ? productRepository.findByBrand_Slug(brandSlug, pageable)
@@ -322,12 +438,182 @@ public class CatalogService {
                     ? productRepository.findAll(pageable)
                     : productRepository.findByIsActiveTrue(pageable);
         }
-        products.forEach(this::hydrateProduct);
+        hydrateProducts(products.getContent());
         return products;
     }
 
+    /**
+     * Name-ordered page from the database in the snapshot's code-point order rather than the column
+     * collation, so a page does not change order depending on which path serves it.
+     */
+    private Page<Product> getListingPage(Category category, String brandSlug, boolean includeInactive, Pageable pageable) {
+        Collection<UUID> categoryIds = category != null ? categorySubtree(category) : NO_CATEGORY_IDS;
+        List<Product> products = productRepository.findListingPage(
+                category == null,
+                categoryIds,
+                brandSlug,
+                includeInactive,
+                pageable.getOffset(),
+                pageable.getPageSize()
+        );
+        hydrateProducts(products);
+        long total = productRepository.countListing(category == null, categoryIds, brandSlug, includeInactive);
+        return new PageImpl<>(products, pageable, total);
+    }
+
+    private Page<Product> getProductsByPrice(String categoryPath, String brandSlug, boolean includeInactive, Pageable pageable) {
+        if (productCardService == null) {
+            throw new IllegalArgumentException("Price sorting is not available");
+        }
+        Sort.Order order = pageable.getSort().getOrderFor("minPrice");
+        Page<ProductCard> cards = productCardService.getCardsByPrice(categoryPath, brandSlug, includeInactive, order.isAscending(), pageable);
+        return new PageImpl<>(getProductsByIds(cards.map(ProductCard::getProductId).getContent()), pageable, cards.getTotalElements());
+    }
+
+    /**
+     * The first {@code limit} active products of a category and/or brand in card order. Sorting and the
+     * limit run in SQL, so only the returned products are hydrated.
+     */
+    public List<Product> getTopProducts(String categorySlug, String brandSlug, ProductCardService.CardOrder order, int limit) {
+        if (productCardService == null) {
+            throw new IllegalArgumentException("Collection rules are not available");
+        }
+        String categoryPath = null;
+        if (categorySlug != null && !categorySlug.isBlank()) {
+            Category category = resolveCategory(categorySlug).orElse(null);
+            if (category == null) {
+                return List.of();
+            }
+            categoryPath = category.getFullPath();
+        }
+        String brand = brandSlug != null && !brandSlug.isBlank() ? brandSlug : null;
+        return getProductsByIds(productCardService.getTopActiveProductIds(categoryPath, brand, order, limit));
+    }
+
+    /**
+     * Hands products to {@code consumer} in batches of {@code batchSize}, reading their ids through a
+     * database cursor: every active product when {@code since} is {@code null}, otherwise every product
+     * (inactive ones included) whose row, variants or images changed since then. Loaded entities are
+     * detached after each batch, so memory stays flat however large the catalogue is.
+     */
+    public void forEachExportBatch(OffsetDateTime since, int batchSize, Consumer<List<Product>> consumer) {
+        int size = Math.max(1, batchSize);
+        try (Stream<UUID> ids = productRepository.streamExportProductIds(since == null, since != null ? since : Instant.EPOCH.atOffset(ZoneOffset.UTC))) {
+            List<UUID> batch = new ArrayList<>(size);
+            var iterator = ids.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == size || !iterator.hasNext()) {
+                    consumer.accept(getProductsByIds(batch));
+                    batch.clear();
+                    if (entityManager != null && snapshot().isEmpty()) {
+                        entityManager.clear();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Point up to which an export run has seen every committed change; see
+     * {@link ProductRepository#findExportWatermark}.
+     */
+    public OffsetDateTime exportWatermark() {
+        return productRepository.findExportWatermark();
+    }
+
+    /**
+     * Products, categories and brands hard-deleted since {@code since}. Tombstones are kept until
+     * {@link #purgeTombstonesBefore} drops them.
+     */
+    public List<ProductRepository.Tombstone> getTombstonesSince(OffsetDateTime since) {
+        return productRepository.findTombstonesSince(since);
+    }
+
+    @Transactional
+    public int purgeTombstonesBefore(OffsetDateTime before) {
+        return productRepository.deleteTombstonesBefore(before);
+    }
+
+    public List<Product> getProductsByIds(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return ids.stream().map(id -> snapshot.get().product(id)).flatMap(Optional::stream).toList();
+        }
+        Map<UUID, Product> byId = new LinkedHashMap<>();
+        productRepository.findAllById(ids).forEach(product -> byId.put(product.getId(), product));
+        hydrateProducts(new ArrayList<>(byId.values()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public Slice<Product> getProductsAfter(String categorySlug, String brandSlug, boolean includeInactive, ProductCursor after, int size) {
+        boolean hasCategory = categorySlug != null && !categorySlug.isBlank();
+        boolean hasBrand = brandSlug != null && !brandSlug.isBlank();
+        Category category = null;
+        if (hasCategory) {
+            category = resolveCategory(categorySlug).orElse(null);
+            if (category == null) {
+                return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+            }
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            CatalogSnapshot current = snapshot.get();
+            return current.slice(current.products(hasCategory ? category.getId() : null, hasBrand ? brandSlug : null, !includeInactive), after, size);
+        }
+        ProductCursor start = after != null ? after : new ProductCursor("", new UUID(0L, 0L));
+        List<Product> products = new ArrayList<>(productRepository.findListingAfter(
+                !hasCategory,
+                hasCategory ? categorySubtree(category) : NO_CATEGORY_IDS,
+                hasBrand ? brandSlug : "",
+                includeInactive,
+                start.sortName(),
+                start.id(),
+                size + 1
+        ));
+        boolean hasNext = products.size() > size;
+        if (hasNext) {
+            products = products.subList(0, size);
+        }
+        hydrateProducts(products);
+        return new SliceImpl<>(products, PageRequest.of(0, size), hasNext);
+    }
+
+    public long countProducts(String categorySlug, String brandSlug, boolean includeInactive) {
+        boolean hasCategory = categorySlug != null && !categorySlug.isBlank();
+        boolean hasBrand = brandSlug != null && !brandSlug.isBlank();
+        Category category = null;
+        if (hasCategory) {
+            category = resolveCategory(categorySlug).orElse(null);
+            if (category == null) {
+                return 0L;
+            }
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().products(hasCategory ? category.getId() : null, hasBrand ? brandSlug : null, !includeInactive).size();
+        }
+        String brand = hasBrand ? brandSlug : "";
+        String key = (hasCategory ? category.getId().toString() : "") + '\n' + brand + '\n' + includeInactive;
+        long now = System.currentTimeMillis();
+        CachedCount cached = productCounts.get(key);
+        if (cached != null && cached.expiresAtMillis() > now) {
+            return cached.count();
+        }
+        long count = productRepository.countListing(!hasCategory, hasCategory ? categorySubtree(category) : NO_CATEGORY_IDS, brand, includeInactive);
+        productCounts.put(key, new CachedCount(count, now + PRODUCT_COUNT_TTL_MILLIS));
+        return count;
+    }
+
     @Transactional
     public Optional<Product> getProduct(UUID id) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().product(id);
+        }
         Optional<Product> product = productRepository.findById(id);
         product.ifPresent(this::hydrateProduct);
         return product;
@@ -335,6 +621,10 @@ public class CatalogService {
 
     @Transactional
     public Optional<Product> getProductBySlug(String slug) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().productBySlug(slug);
+        }
         Optional<Product> product = productRepository.findBySlug(slug);
         if (product.isEmpty() && slug != null && !slug.isBlank()) {
             product = productRepository.findByNormalizedSlug(slug).stream().findFirst();
@@ -352,14 +642,68 @@ public class CatalogService {
         if (slugs == null || slugs.isEmpty()) {
             return List.of();
         }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().productsBySlugs(slugs);
+        }
         List<Product> products = productRepository.findBySlugIn(slugs);
-        products.forEach(this::hydrateProduct);
+        hydrateProducts(products);
         return products;
     }
 
+    /**
+     * Resolves storefront keys, each either a product id or a slug, with one lookup per key kind instead
+     * of one per key. Slugs without an exact match fall back to a trimmed, case-insensitive match. The
+     * result maps each resolvable key to its product, in request order.
+     */
+    @Transactional
+    public Map<String, Product> resolveProductKeys(Collection<String> keys) {
+        KeyPartition partition = KeyPartition.of(keys);
+        if (partition.isEmpty()) {
+            return Map.of();
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return partition.resolve(snapshot.get()::product, snapshot.get()::productBySlug);
+        }
+        List<Product> loaded = new ArrayList<>();
+        Map<UUID, Product> byId = new HashMap<>();
+        if (!partition.ids().isEmpty()) {
+            productRepository.findAllById(partition.ids()).forEach(product -> {
+                byId.put(product.getId(), product);
+                loaded.add(product);
+            });
+        }
+        Map<String, Product> bySlug = new HashMap<>();
+        Map<String, Product> byNormalizedSlug = new HashMap<>();
+        if (!partition.slugs().isEmpty()) {
+            productRepository.findBySlugIn(partition.slugs()).forEach(product -> {
+                bySlug.putIfAbsent(product.getSlug(), product);
+                loaded.add(product);
+            });
+            Set<String> missing = partition.normalizedMisses(bySlug.keySet());
+            if (!missing.isEmpty()) {
+                productRepository.findByNormalizedSlugIn(missing).forEach(product -> {
+                    byNormalizedSlug.putIfAbsent(CatalogSnapshot.normalizeSlug(product.getSlug()), product);
+                    loaded.add(product);
+                });
+            }
+        }
+        hydrateProducts(loaded);
+        return partition.resolve(
+                id -> Optional.ofNullable(byId.get(id)),
+                slug -> Optional.ofNullable(bySlug.get(slug))
+                        .or(() -> Optional.ofNullable(byNormalizedSlug.get(CatalogSnapshot.normalizeSlug(slug))))
+        );
+    }
+
     public List<Product> getAllProducts() {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return new ArrayList<>(snapshot.get().products());
+        }
         List<Product> products = productRepository.findAll();
-        products.forEach(this::hydrateProduct);
+        hydrateProducts(products);
         return products;
     }
 
@@ -391,6 +735,7 @@ public class CatalogService {
             }
             Product saved = productRepository.save(p);
             hydrateProduct(saved);
+            productChanged(id);
             return saved;
         }).orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
     }
@@ -405,10 +750,16 @@ public class CatalogService {
 
     @Transactional
     public void deleteProduct(UUID id) {
-        if (!productRepository.existsById(id)) {
-            throw new IllegalArgumentException("Product not found: " + id);
-        }
-        productRepository.deleteById(id);
+        Product product = productRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
+        productRepository.recordTombstone(TOMBSTONE_PRODUCT, id, product.getSlug());
+        productRepository.delete(product);
+        productChanged(id);
+    }
+
+    private void hydrateProducts(List<Product> products) {
+        ProductGraph.preload(productRepository, products);
+        products.forEach(this::hydrateProduct);
     }
 
     private void hydrateProduct(Product product) {
@@ -437,91 +788,55 @@ public class CatalogService {
     //
 
     public List<Category> listAllInCategory() {
-        return sortCategoriesForCatalogue(categoryRepository.findAll());
-    }
-
-    private List<Category> sortCategoriesForCatalogue(Collection<Category> categories) {
-        if (categories == null || categories.isEmpty()) {
-            return List.of();
-        }
-        return categories.stream()
-                .filter(category -> category != null)
-                .sorted(this::compareCategoriesForCatalogue)
-                .toList();
+        return getCategoryTree().categories();
     }
 
-    private int compareCategoriesForCatalogue(Category left, Category right) {
-        if (left == right) {
-            return 0;
-        }
-        if (left == null) {
-            return 1;
+    /**
+     * The category hierarchy in catalogue order. Outside the snapshot it is cached until the next
+     * category or brand write; transactions that already wrote catalogue data get a fresh tree.
+     */
+    public CategoryTree getCategoryTree() {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().categoryTree();
         }
-        if (right == null) {
-            return -1;
-        }
-
-        List<Category> leftPath = categorySortPath(left);
-        List<Category> rightPath = categorySortPath(right);
-        int sharedLength = Math.min(leftPath.size(), rightPath.size());
-
-        for (int index = 0; index < sharedLength; index++) {
-            int compared = compareCategoryNode(leftPath.get(index), rightPath.get(index));
-            if (compared != 0) {
-                return compared;
+        boolean pendingWrites = snapshotService != null && snapshotService.hasPendingChanges();
+        CategoryTree tree = pendingWrites ? null : categoryTree;
+        if (tree == null) {
+            List<Category> categories = categoryRepository.findAll();
+            categories.forEach(this::hydrateCategory);
+            tree = CategoryTree.of(categories);
+            if (!pendingWrites) {
+                categoryTree = tree;
             }
         }
-
-        return Integer.compare(leftPath.size(), rightPath.size());
+        return tree;
     }
 
-    private List<Category> categorySortPath(Category category) {
-        List<Category> path = new ArrayList<>();
-        Set<UUID> visited = new HashSet<>();
-        Category current = category;
-        int guard = 0;
-
-        while (current != null && guard < 50) {
-            UUID id = current.getId();
-            if (id != null && !visited.add(id)) {
-                break;
-            }
-            path.add(current);
-            current = current.getParent();
-            guard++;
+    @Override
+    public void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        if (full) {
+            categoryTree = null;
         }
-
-        Collections.reverse(path);
-        return path;
     }
 
-    private int compareCategoryNode(Category left, Category right) {
-        int positionCompare = Integer.compare(Math.max(0, left.getPosition()), Math.max(0, right.getPosition()));
-        if (positionCompare != 0) {
-            return positionCompare;
-        }
-
-        int nameCompare = compareNullableStrings(left.getName(), right.getName());
-        if (nameCompare != 0) {
-            return nameCompare;
-        }
-
-        int slugCompare = compareNullableStrings(left.getSlug(), right.getSlug());
-        if (slugCompare != 0) {
-            return slugCompare;
-        }
-
-        return compareNullableStrings(
-                left.getId() != null ? left.getId().toString() : null,
-                right.getId() != null ? right.getId().toString() : null
-        );
+    private Set<UUID> categorySubtree(Category category) {
+        Set<UUID> ids = getCategoryTree().subtreeIds(category.getId());
+        return ids.isEmpty() ? Set.of(category.getId()) : ids;
     }
 
-    private int compareNullableStrings(String left, String right) {
-        return Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER).compare(left, right);
+    private void hydrateCategory(Category category) {
+        Set<UUID> visited = new HashSet<>();
+        for (Category current = category; current != null && visited.add(current.getId()); current = current.getParent()) {
+            current.getSlug();
+        }
     }
 
     public Optional<Category> getBySlug(String slug) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().categoryBySlug(slug);
+        }
         Optional<Category> category = categoryRepository.findBySlug(slug);
         if (category.isEmpty() && slug != null && !slug.isBlank()) {
             category = categoryRepository.findByNormalizedSlug(slug).stream().findFirst();
@@ -530,6 +845,10 @@ public class CatalogService {
     }
 
     public Optional<Category> getByCategoryId(UUID id) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().category(id);
+        }
         return categoryRepository.findById(id);
     }
 
@@ -537,9 +856,49 @@ public class CatalogService {
         if (slugs == null || slugs.isEmpty()) {
             return List.of();
         }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().categoriesBySlugs(slugs);
+        }
         return categoryRepository.findBySlugIn(slugs);
     }
 
+    /**
+     * Category counterpart of {@link #resolveProductKeys(Collection)}.
+     */
+    @Transactional
+    public Map<String, Category> resolveCategoryKeys(Collection<String> keys) {
+        KeyPartition partition = KeyPartition.of(keys);
+        if (partition.isEmpty()) {
+            return Map.of();
+        }
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return partition.resolve(snapshot.get()::category, snapshot.get()::categoryBySlug);
+        }
+        Map<UUID, Category> byId = new HashMap<>();
+        if (!partition.ids().isEmpty()) {
+            categoryRepository.findAllById(partition.ids()).forEach(category -> byId.put(category.getId(), category));
+        }
+        Map<String, Category> bySlug = new HashMap<>();
+        Map<String, Category> byNormalizedSlug = new HashMap<>();
+        if (!partition.slugs().isEmpty()) {
+            categoryRepository.findBySlugIn(partition.slugs()).forEach(category -> bySlug.putIfAbsent(category.getSlug(), category));
+            Set<String> missing = partition.normalizedMisses(bySlug.keySet());
+            if (!missing.isEmpty()) {
+                categoryRepository.findByNormalizedSlugIn(missing)
+                        .forEach(category -> byNormalizedSlug.putIfAbsent(CatalogSnapshot.normalizeSlug(category.getSlug()), category));
+            }
+        }
+        Map<String, Category> resolved = partition.resolve(
+                id -> Optional.ofNullable(byId.get(id)),
+                slug -> Optional.ofNullable(bySlug.get(slug))
+                        .or(() -> Optional.ofNullable(byNormalizedSlug.get(CatalogSnapshot.normalizeSlug(slug))))
+        );
+        resolved.values().forEach(this::hydrateCategory);
+        return resolved;
+    }
+
     public Category create(Category category) {
         // compute fullPath: if parent exists, prepend parent's fullPath
         if (category.getParent() != null) {
@@ -548,6 +907,7 @@ public class CatalogService {
         } else {
             category.setFullPath(category.getSlug());
         }
+        catalogChanged();
         return categoryRepository.save(category);
     }
 
@@ -559,6 +919,9 @@ public class CatalogService {
                 cat.setImageUrl(updates.getImageUrl());
             }
             cat.setSlug(updates.getSlug());
+            if (updates.getParent() != null && categoryRepository.isSelfOrAncestor(cat.getId(), updates.getParent().getId())) {
+                throw new IllegalArgumentException("Category cannot be moved under itself or its descendants: " + id);
+            }
             cat.setParent(updates.getParent());
             cat.setPosition(updates.getPosition());
             cat.setIsActive(updates.isIsActive());
@@ -569,7 +932,8 @@ public class CatalogService {
                 cat.setFullPath(cat.getSlug());
             }
             Category saved = categoryRepository.save(cat);
-            updateChildrenFullPaths(saved);
+            categoryRepository.rewriteDescendantPaths(saved.getId());
+            catalogChanged();
             return saved;
         }).orElseThrow(() -> new IllegalArgumentException("Category not found: " + id));
     }
@@ -577,34 +941,24 @@ public class CatalogService {
     public Category updateCategoryImage(UUID id, String imageUrl) {
         return categoryRepository.findById(id).map(cat -> {
             cat.setImageUrl(imageUrl);
+            catalogChanged();
             return categoryRepository.save(cat);
         }).orElseThrow(() -> new IllegalArgumentException("Category not found: " + id));
     }
 
     @Transactional
     public void deleteCategory(UUID id) {
-        if (!categoryRepository.existsById(id)) {
-            throw new IllegalArgumentException("Category not found: " + id);
-        }
-        categoryRepository.deleteById(id);
-    }
-
-    private void updateChildrenFullPaths(Category parent) {
-        if (parent == null) {
-            return;
-        }
-        List<Category> children = categoryRepository.findByParent_Id(parent.getId());
-        for (Category child : children) {
-            if (child == null) {
-                continue;
-            }
-            child.setFullPath(parent.getFullPath() + "/" + child.getSlug());
-            Category saved = categoryRepository.save(child);
-            updateChildrenFullPaths(saved);
-        }
+        Category category = categoryRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Category not found: " + id));
+        productRepository.recordTombstone(TOMBSTONE_CATEGORY, id, category.getSlug());
+        categoryRepository.delete(category);
+        catalogChanged();
     }
 
-    private Optional<Category> resolveCategory(String reference) {
+    /**
+     * Looks a category up by slug, falling back to its id.
+     */
+    public Optional<Category> resolveCategory(String reference) {
         if (reference == null || reference.isBlank()) {
             return Optional.empty();
         }
@@ -613,7 +967,7 @@ public class CatalogService {
             return bySlug;
         }
         try {
-            return categoryRepository.findById(UUID.fromString(reference));
+            return getByCategoryId(UUID.fromString(reference));
         } catch (IllegalArgumentException ignored) {
             return Optional.empty();
         }
@@ -624,18 +978,31 @@ public class CatalogService {
     //
 
     public List<Brand> listAllInBrand() {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return new ArrayList<>(snapshot.get().brands());
+        }
         return brandRepository.findAll();
     }
 
     public Optional<Brand> getByBrandSlug(String slug) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().brandBySlug(slug);
+        }
         return brandRepository.findBySlug(slug);
     }
 
     public Optional<Brand> getById(UUID id) {
+        Optional<CatalogSnapshot> snapshot = snapshot();
+        if (snapshot.isPresent()) {
+            return snapshot.get().brand(id);
+        }
         return brandRepository.findById(id);
     }
 
     public Brand create(Brand brand) {
+        catalogChanged();
         return brandRepository.save(brand);
     }
 
@@ -644,15 +1011,39 @@ public class CatalogService {
             b.setName(updates.getName());
             b.setDescription(updates.getDescription());
             b.setSlug(updates.getSlug());
+            catalogChanged();
             return brandRepository.save(b);
         }).orElseThrow(() -> new IllegalArgumentException("Brand not found: " + id));
     }
 
     @Transactional
     public void deleteBrand(UUID id) {
-        if (!brandRepository.existsById(id)) {
-            throw new IllegalArgumentException("Brand not found: " + id);
+        Brand brand = brandRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Brand not found: " + id));
+        productRepository.recordTombstone(TOMBSTONE_BRAND, id, brand.getSlug());
+        brandRepository.delete(brand);
+        catalogChanged();
+    }
+
+    private record CachedCount(long count, long expiresAtMillis) {
+    }
+
+    private Optional<CatalogSnapshot> snapshot() {
+        return snapshotService != null ? snapshotService.current() : Optional.empty();
+    }
+
+    private void productChanged(UUID productId) {
+        productCounts.clear();
+        if (snapshotService != null) {
+            snapshotService.productChanged(productId);
+        }
+    }
+
+    private void catalogChanged() {
+        productCounts.clear();
+        categoryTree = null;
+        if (snapshotService != null) {
+            snapshotService.catalogChanged();
         }
-        brandRepository.deleteById(id);
     }
 }
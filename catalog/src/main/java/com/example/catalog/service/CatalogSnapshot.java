@@ -0,0 +1,418 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductImage;
+import com.example.catalog.domain.ProductVariant;
+import com.example.common.domain.BaseEntity;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Immutable, fully hydrated view of the catalogue. Entities held here are detached and shared
+ * between readers, so they must be treated as read-only.
+ */
+public final class CatalogSnapshot {
+
+    static final Comparator<Product> PRODUCT_NAME_ORDER = Comparator
+            .comparing((Product product) -> ProductCursor.sortName(product.getName()))
+            .thenComparing(product -> product.getId() != null ? product.getId().toString() : "");
+
+    private static final Map<String, Function<Product, ? extends Comparable<?>>> SORTABLE_PRODUCT_PROPERTIES = Map.of(
+            "id", Product::getId,
+            "name", Product::getName,
+            "slug", Product::getSlug,
+            "createdAt", Product::getCreatedAt,
+            "updatedAt", Product::getUpdatedAt,
+            "minPrice", CatalogSnapshot::minPriceAmount
+    );
+
+    private final long version;
+    private final Map<UUID, Product> productsById;
+    private final List<Product> products;
+    private final Map<String, Product> productsBySlug;
+    private final Map<String, Product> productsByNormalizedSlug;
+    private final Map<UUID, List<ProductImage>> imagesByProductId;
+    private final Map<UUID, ProductImage> imagesById;
+    private final Map<String, ProductImage> imagesByObjectKey;
+    private final CategoryTree categoryTree;
+    private final List<Category> categories;
+    private final Map<UUID, Category> categoriesById;
+    private final Map<String, Category> categoriesBySlug;
+    private final Map<String, Category> categoriesByNormalizedSlug;
+    private final List<Brand> brands;
+    private final Map<UUID, Brand> brandsById;
+    private final Map<String, Brand> brandsBySlug;
+    private volatile Long fingerprint;
+
+    public CatalogSnapshot(long version,
+                           Collection<Product> products,
+                           Map<UUID, List<ProductImage>> imagesByProductId,
+                           Collection<Category> categories,
+                           Collection<Brand> brands) {
+        this(version, products, imagesByProductId, CategoryTree.of(categories), brands);
+    }
+
+    private CatalogSnapshot(long version,
+                            Collection<Product> products,
+                            Map<UUID, List<ProductImage>> imagesByProductId,
+                            CategoryTree categoryTree,
+                            Collection<Brand> brands) {
+        this.version = version;
+
+        Map<UUID, Product> productIndex = new HashMap<>();
+        products.stream().filter(Objects::nonNull).forEach(product -> productIndex.put(product.getId(), product));
+        this.productsById = Collections.unmodifiableMap(productIndex);
+        this.products = productIndex.values().stream().sorted(PRODUCT_NAME_ORDER).toList();
+        Map<String, Product> bySlug = new HashMap<>();
+        Map<String, Product> byNormalizedSlug = new HashMap<>();
+        for (Product product : this.products) {
+            if (product.getSlug() != null) {
+                bySlug.putIfAbsent(product.getSlug(), product);
+                byNormalizedSlug.putIfAbsent(normalizeSlug(product.getSlug()), product);
+            }
+        }
+        this.productsBySlug = Collections.unmodifiableMap(bySlug);
+        this.productsByNormalizedSlug = Collections.unmodifiableMap(byNormalizedSlug);
+
+        Map<UUID, List<ProductImage>> imageLists = new HashMap<>();
+        Map<UUID, ProductImage> imageIndex = new HashMap<>();
+        Map<String, ProductImage> objectKeyIndex = new HashMap<>();
+        imagesByProductId.forEach((productId, images) -> {
+            if (!productIndex.containsKey(productId) || images == null) {
+                return;
+            }
+            List<ProductImage> copy = List.copyOf(images);
+            imageLists.put(productId, copy);
+            for (ProductImage image : copy) {
+                imageIndex.put(image.getId(), image);
+                if (image.getObjectKey() != null) {
+                    objectKeyIndex.putIfAbsent(image.getObjectKey(), image);
+                }
+            }
+        });
+        this.imagesByProductId = Collections.unmodifiableMap(imageLists);
+        this.imagesById = Collections.unmodifiableMap(imageIndex);
+        this.imagesByObjectKey = Collections.unmodifiableMap(objectKeyIndex);
+
+        this.categoryTree = categoryTree;
+        this.categories = categoryTree.categories();
+        Map<UUID, Category> categoryIndex = new HashMap<>();
+        Map<String, Category> categorySlugs = new HashMap<>();
+        Map<String, Category> categoryNormalizedSlugs = new HashMap<>();
+        for (Category category : this.categories) {
+            categoryIndex.put(category.getId(), category);
+            if (category.getSlug() != null) {
+                categorySlugs.putIfAbsent(category.getSlug(), category);
+                categoryNormalizedSlugs.putIfAbsent(normalizeSlug(category.getSlug()), category);
+            }
+        }
+        this.categoriesById = Collections.unmodifiableMap(categoryIndex);
+        this.categoriesBySlug = Collections.unmodifiableMap(categorySlugs);
+        this.categoriesByNormalizedSlug = Collections.unmodifiableMap(categoryNormalizedSlugs);
+
+        this.brands = brands.stream().filter(Objects::nonNull).toList();
+        Map<UUID, Brand> brandIndex = new HashMap<>();
+        Map<String, Brand> brandSlugs = new HashMap<>();
+        for (Brand brand : this.brands) {
+            brandIndex.put(brand.getId(), brand);
+            if (brand.getSlug() != null) {
+                brandSlugs.putIfAbsent(brand.getSlug(), brand);
+            }
+        }
+        this.brandsById = Collections.unmodifiableMap(brandIndex);
+        this.brandsBySlug = Collections.unmodifiableMap(brandSlugs);
+    }
+
+    private CatalogSnapshot(long version, CatalogSnapshot base, Map<UUID, Product> products, Map<UUID, List<ProductImage>> images) {
+        this(version, products.values(), images, base.categoryTree, base.brands);
+    }
+
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0L, List.of(), Map.of(), List.of(), List.of());
+    }
+
+    CatalogSnapshot withProducts(long nextVersion, Set<UUID> changedIds, Collection<Product> reloaded, Map<UUID, List<ProductImage>> reloadedImages) {
+        Map<UUID, Product> nextProducts = new LinkedHashMap<>(productsById);
+        Map<UUID, List<ProductImage>> nextImages = new HashMap<>(imagesByProductId);
+        changedIds.forEach(id -> {
+            nextProducts.remove(id);
+            nextImages.remove(id);
+        });
+        for (Product product : reloaded) {
+            nextProducts.put(product.getId(), product);
+            nextImages.put(product.getId(), reloadedImages.getOrDefault(product.getId(), List.of()));
+        }
+        return new CatalogSnapshot(nextVersion, this, nextProducts, nextImages);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public List<Product> products() {
+        return products;
+    }
+
+    /**
+     * Order-independent hash of every entity's id, update time and the variant stock and prices, used
+     * to tell whether a full rebuild picked up changes made outside this process.
+     */
+    long fingerprint() {
+        Long cached = fingerprint;
+        if (cached != null) {
+            return cached;
+        }
+        long hash = 0;
+        for (Product product : products) {
+            hash += mix(entityHash(product));
+            if (product.getVariants() != null) {
+                for (ProductVariant variant : product.getVariants()) {
+                    hash += mix(31L * entityHash(variant) + Objects.hash(variant.getStockQuantity(),
+                            variant.getPrice() != null ? variant.getPrice().getAmount() : null));
+                }
+            }
+            if (product.getCategories() != null) {
+                for (Category category : product.getCategories()) {
+                    hash += mix(31L * product.getId().hashCode() + Objects.hashCode(category.getId()));
+                }
+            }
+        }
+        for (List<ProductImage> images : imagesByProductId.values()) {
+            for (ProductImage image : images) {
+                hash += mix(entityHash(image));
+            }
+        }
+        for (Category category : categories) {
+            hash += mix(entityHash(category));
+        }
+        for (Brand brand : brands) {
+            hash += mix(entityHash(brand));
+        }
+        fingerprint = hash;
+        return hash;
+    }
+
+    private static long entityHash(BaseEntity entity) {
+        return Objects.hash(entity.getId(), entity.getUpdatedAt());
+    }
+
+    private static long mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    public Optional<Product> product(UUID id) {
+        return Optional.ofNullable(id != null ? productsById.get(id) : null);
+    }
+
+    public Optional<Product> productBySlug(String slug) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        Product product = productsBySlug.get(slug);
+        if (product == null && !slug.isBlank()) {
+            product = productsByNormalizedSlug.get(normalizeSlug(slug));
+        }
+        return Optional.ofNullable(product);
+    }
+
+    public List<Product> productsBySlugs(Collection<String> slugs) {
+        return slugs.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(productsBySlug::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<Product> products(UUID categoryId, String brandSlug, boolean activeOnly) {
+        return products.stream()
+                .filter(product -> !activeOnly || product.isIsActive())
+                .filter(product -> brandSlug == null
+                        || (product.getBrand() != null && brandSlug.equals(product.getBrand().getSlug())))
+                .filter(product -> categoryId == null || inSubtree(product, categoryId))
+                .toList();
+    }
+
+    /**
+     * Returns {@code null} when the requested sort cannot be evaluated in memory, so callers can
+     * fall back to the database.
+     */
+    public Page<Product> page(List<Product> matches, Pageable pageable) {
+        return sortedPage(matches, pageable);
+    }
+
+    /**
+     * Whether {@code sort} asks for the listing order, {@link #PRODUCT_NAME_ORDER}.
+     */
+    static boolean isListingOrder(Sort sort) {
+        return comparatorFor(sort) == PRODUCT_NAME_ORDER;
+    }
+
+    /**
+     * Pages a list already in {@link #PRODUCT_NAME_ORDER}, re-sorting only for other orders.
+     */
+    static Page<Product> sortedPage(List<Product> matches, Pageable pageable) {
+        Comparator<Product> comparator = comparatorFor(pageable.getSort());
+        if (comparator == null) {
+            return null;
+        }
+        List<Product> ordered = matches;
+        if (comparator != PRODUCT_NAME_ORDER) {
+            ordered = new ArrayList<>(matches);
+            ordered.sort(comparator);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(ordered, pageable, ordered.size());
+        }
+        int from = (int) Math.min(pageable.getOffset(), ordered.size());
+        int to = Math.min(from + pageable.getPageSize(), ordered.size());
+        return new PageImpl<>(ordered.subList(from, to), pageable, ordered.size());
+    }
+
+    public Slice<Product> slice(List<Product> matches, ProductCursor after, int size) {
+        int from = 0;
+        if (after != null) {
+            int low = 0;
+            int high = matches.size();
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (ProductCursor.of(matches.get(middle)).compareTo(after) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            from = low;
+        }
+        int to = Math.min(from + size, matches.size());
+        return new SliceImpl<>(matches.subList(from, to), PageRequest.of(0, size), to < matches.size());
+    }
+
+    public List<ProductImage> images(UUID productId) {
+        return imagesByProductId.getOrDefault(productId, List.of());
+    }
+
+    public Optional<ProductImage> image(UUID imageId) {
+        return Optional.ofNullable(imageId != null ? imagesById.get(imageId) : null);
+    }
+
+    public Optional<ProductImage> imageByObjectKey(String objectKey) {
+        return Optional.ofNullable(objectKey != null ? imagesByObjectKey.get(objectKey) : null);
+    }
+
+    public List<Category> categories() {
+        return categories;
+    }
+
+    public CategoryTree categoryTree() {
+        return categoryTree;
+    }
+
+    public Optional<Category> category(UUID id) {
+        return Optional.ofNullable(id != null ? categoriesById.get(id) : null);
+    }
+
+    public Optional<Category> categoryBySlug(String slug) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        Category category = categoriesBySlug.get(slug);
+        if (category == null && !slug.isBlank()) {
+            category = categoriesByNormalizedSlug.get(normalizeSlug(slug));
+        }
+        return Optional.ofNullable(category);
+    }
+
+    public List<Category> categoriesBySlugs(Collection<String> slugs) {
+        return slugs.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(categoriesBySlug::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public List<Brand> brands() {
+        return brands;
+    }
+
+    public Optional<Brand> brand(UUID id) {
+        return Optional.ofNullable(id != null ? brandsById.get(id) : null);
+    }
+
+    public Optional<Brand> brandBySlug(String slug) {
+        return Optional.ofNullable(slug != null ? brandsBySlug.get(slug) : null);
+    }
+
+    private boolean inSubtree(Product product, UUID categoryId) {
+        return product.getCategories() != null && product.getCategories().stream()
+                .anyMatch(category -> category != null && categoryTree.isWithin(category.getId(), categoryId));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparator<Product> comparatorFor(Sort sort) {
+        if (sort.isUnsorted()) {
+            return PRODUCT_NAME_ORDER;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && orders.get(0).getProperty().equals("name") && orders.get(0).isAscending()) {
+            return PRODUCT_NAME_ORDER;
+        }
+        Comparator<Product> comparator = null;
+        for (Sort.Order order : orders) {
+            Function<Product, ? extends Comparable<?>> extractor = SORTABLE_PRODUCT_PROPERTIES.get(order.getProperty());
+            if (extractor == null) {
+                return null;
+            }
+            Comparator<Comparable> values = isTextual(order.getProperty())
+                    ? (Comparator) String.CASE_INSENSITIVE_ORDER
+                    : Comparator.naturalOrder();
+            Comparator<Product> next = Comparator.comparing(product -> (Comparable) extractor.apply(product),
+                    Comparator.nullsLast(order.isAscending() ? values : values.reversed()));
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator.thenComparing(product -> product.getId() != null ? product.getId().toString() : "");
+    }
+
+    private static boolean isTextual(String property) {
+        return property.equals("name") || property.equals("slug");
+    }
+
+    static Long minPriceAmount(Product product) {
+        if (product.getVariants() == null) {
+            return null;
+        }
+        return product.getVariants().stream()
+                .filter(variant -> variant != null && variant.getPrice() != null)
+                .map(variant -> variant.getPrice().getAmount())
+                .min(Long::compareTo)
+                .orElse(null);
+    }
+
+    static String normalizeSlug(String slug) {
+        return slug.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductImage;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductImageRepository;
+import com.example.catalog.repository.ProductRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(Transactional.TxType.REQUIRES_NEW)
+public class CatalogSnapshotLoader {
+
+    private static final Comparator<ProductImage> IMAGE_ORDER = Comparator
+            .comparingInt(ProductImage::getPosition)
+            .thenComparing(ProductImage::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository imageRepository;
+    private final CategoryRepository categoryRepository;
+    private final BrandRepository brandRepository;
+
+    public CatalogSnapshotLoader(ProductRepository productRepository,
+                                 ProductImageRepository imageRepository,
+                                 CategoryRepository categoryRepository,
+                                 BrandRepository brandRepository) {
+        this.productRepository = productRepository;
+        this.imageRepository = imageRepository;
+        this.categoryRepository = categoryRepository;
+        this.brandRepository = brandRepository;
+    }
+
+    public CatalogSnapshot loadFull(long version) {
+        List<Category> categories = categoryRepository.findAll();
+        categories.forEach(this::hydrateCategory);
+        List<Product> products = productRepository.findAll();
+        ProductGraph.preload(productRepository, products);
+        products.forEach(this::hydrateProduct);
+        Map<UUID, List<ProductImage>> images = groupImages(imageRepository.findAll());
+        return new CatalogSnapshot(version, products, images, categories, brandRepository.findAll());
+    }
+
+    public CatalogSnapshot refreshProducts(CatalogSnapshot base, Set<UUID> productIds, long version) {
+        List<Product> products = productRepository.findAllById(productIds);
+        ProductGraph.preload(productRepository, products);
+        products.forEach(this::hydrateProduct);
+        Map<UUID, List<ProductImage>> images = groupImages(products.isEmpty()
+                ? List.of()
+                : imageRepository.findWithVariantByProductIdIn(productIds));
+        return base.withProducts(version, productIds, products, images);
+    }
+
+    private Map<UUID, List<ProductImage>> groupImages(List<ProductImage> images) {
+        images.forEach(image -> {
+            if (image.getVariant() != null) {
+                image.getVariant().getSku();
+            }
+        });
+        return images.stream()
+                .filter(image -> image.getProduct() != null)
+                .collect(Collectors.groupingBy(
+                        image -> image.getProduct().getId(),
+                        Collectors.collectingAndThen(Collectors.toList(), list -> list.stream().sorted(IMAGE_ORDER).toList())
+                ));
+    }
+
+    private void hydrateProduct(Product product) {
+        if (product.getCategories() != null) {
+            product.getCategories().forEach(this::hydrateCategory);
+        }
+        if (product.getBrand() != null) {
+            product.getBrand().getSlug();
+        }
+        if (product.getVariants() != null) {
+            product.getVariants().size();
+        }
+    }
+
+    private void hydrateCategory(Category category) {
+        Set<UUID> visited = new HashSet<>();
+        Category current = category;
+        while (current != null && visited.add(current.getId())) {
+            current.getSlug();
+            current = current.getParent();
+        }
+    }
+}
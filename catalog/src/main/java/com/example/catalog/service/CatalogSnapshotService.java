@@ -0,0 +1,257 @@
+package com.example.catalog.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Holds the current {@link CatalogSnapshot}. Catalogue and inventory writes report the products they
+ * touched; {@link CatalogChangeListener}s see them before commit. Once the surrounding transaction commits
+ * the ids are handed to a single background refresher, which coalesces everything committed since its last
+ * run into one snapshot patch and then notifies the listeners, so a committing thread never waits for the
+ * refresh while it still holds its connection. Reads issued from a transaction that already wrote catalogue data
+ * are not served from the snapshot, so callers always see their own uncommitted changes. The
+ * {@link CatalogVersionService} is bumped once listeners have seen a commit, and when a scheduled rebuild
+ * finds data that changed outside this process.
+ */
+@Service
+public class CatalogSnapshotService {
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+    private static final long RETRY_BACKOFF_MILLIS = 30_000L;
+
+    private final CatalogSnapshotLoader loader;
+    private final ObjectProvider<CatalogChangeListener> listeners;
+    private final CatalogVersionService catalogVersion;
+    private final boolean enabled;
+    private final AtomicLong versions = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile CatalogSnapshot current;
+    private volatile long retryAfterMillis;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catalog-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Object queuedLock = new Object();
+    private Set<UUID> queuedProductIds = new HashSet<>();
+    private boolean queuedFull;
+    private boolean refreshQueued;
+
+    public CatalogSnapshotService(CatalogSnapshotLoader loader, boolean enabled) {
+        this(loader, null, null, enabled);
+    }
+
+    @Autowired
+    public CatalogSnapshotService(CatalogSnapshotLoader loader,
+                                  ObjectProvider<CatalogChangeListener> listeners,
+                                  CatalogVersionService catalogVersion,
+                                  @Value("${catalogue.snapshot.enabled:true}") boolean enabled) {
+        this.loader = loader;
+        this.listeners = listeners;
+        this.catalogVersion = catalogVersion;
+        this.enabled = enabled;
+    }
+
+    @PreDestroy
+    void shutdownRefresher() {
+        refresher.shutdownNow();
+    }
+
+    public Optional<CatalogSnapshot> current() {
+        if (!enabled || TransactionSynchronizationManager.hasResource(this)) {
+            return Optional.empty();
+        }
+        CatalogSnapshot snapshot = current;
+        if (snapshot == null) {
+            snapshot = rebuildIfMissing();
+        }
+        return Optional.ofNullable(snapshot);
+    }
+
+    /**
+     * Whether the current transaction has reported catalogue writes that are not committed yet.
+     */
+    public boolean hasPendingChanges() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    public void productChanged(UUID productId) {
+        if (productId != null) {
+            schedule(productId, false);
+        }
+    }
+
+    public void catalogChanged() {
+        schedule(null, true);
+    }
+
+    @Scheduled(fixedDelayString = "${catalogue.snapshot.rebuild-fixed-delay-ms:60000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        CatalogSnapshot previous;
+        CatalogSnapshot rebuilt;
+        refreshLock.lock();
+        try {
+            previous = current;
+            rebuilt = load(null, null);
+            current = rebuilt;
+        } finally {
+            refreshLock.unlock();
+        }
+        if (previous != null && rebuilt != null && previous.fingerprint() != rebuilt.fingerprint()) {
+            log.info("Scheduled catalog rebuild picked up external changes");
+            publish(rebuilt, Set.of(), true);
+        }
+    }
+
+    private CatalogSnapshot rebuildIfMissing() {
+        if (System.currentTimeMillis() < retryAfterMillis || !refreshLock.tryLock()) {
+            return null;
+        }
+        try {
+            if (current == null) {
+                current = load(null, null);
+            }
+            return current;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void schedule(UUID productId, boolean full) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            Set<UUID> productIds = productId != null ? Set.of(productId) : Set.of();
+            listeners().forEach(listener -> listener.beforeCatalogCommit(productIds, full));
+            apply(productIds, full);
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            PendingChanges registered = pending;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    listeners().forEach(listener -> listener.beforeCatalogCommit(registered.productIds, registered.full));
+                }
+
+                @Override
+                public void afterCommit() {
+                    enqueue(registered.productIds, registered.full);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CatalogSnapshotService.this);
+                }
+            });
+        }
+        if (full) {
+            pending.full = true;
+        } else {
+            pending.productIds.add(productId);
+        }
+    }
+
+    /**
+     * Records committed changes for the refresher; a refresh already queued picks them up too.
+     */
+    private void enqueue(Set<UUID> productIds, boolean full) {
+        synchronized (queuedLock) {
+            queuedProductIds.addAll(productIds);
+            queuedFull |= full;
+            if (refreshQueued) {
+                return;
+            }
+            refreshQueued = true;
+        }
+        refresher.execute(this::applyQueued);
+    }
+
+    private void applyQueued() {
+        Set<UUID> productIds;
+        boolean full;
+        synchronized (queuedLock) {
+            productIds = queuedProductIds;
+            full = queuedFull;
+            queuedProductIds = new HashSet<>();
+            queuedFull = false;
+            refreshQueued = false;
+        }
+        try {
+            apply(productIds, full);
+        } catch (RuntimeException ex) {
+            log.warn("Catalog snapshot refresh failed", ex);
+        }
+    }
+
+    private void apply(Set<UUID> productIds, boolean full) {
+        CatalogSnapshot published = null;
+        refreshLock.lock();
+        try {
+            CatalogSnapshot base = current;
+            if (enabled && base != null) {
+                current = full ? load(null, null) : load(base, productIds);
+                published = current;
+            }
+        } finally {
+            refreshLock.unlock();
+        }
+        publish(published, productIds, full);
+    }
+
+    private void publish(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        listeners().forEach(listener -> {
+            try {
+                listener.afterCatalogCommit(snapshot, productIds, full);
+            } catch (RuntimeException ex) {
+                log.warn("Catalog change listener {} failed", listener.getClass().getSimpleName(), ex);
+            }
+        });
+        if (catalogVersion != null) {
+            catalogVersion.published();
+        }
+    }
+
+    private Stream<CatalogChangeListener> listeners() {
+        return listeners != null ? listeners.orderedStream() : Stream.empty();
+    }
+
+    private CatalogSnapshot load(CatalogSnapshot base, Set<UUID> productIds) {
+        long version = versions.incrementAndGet();
+        try {
+            return base == null
+                    ? loader.loadFull(version)
+                    : loader.refreshProducts(base, productIds, version);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to refresh catalog snapshot, reads fall back to the database until the next rebuild", ex);
+            retryAfterMillis = System.currentTimeMillis() + RETRY_BACKOFF_MILLIS;
+            return null;
+        }
+    }
+
+    private static final class PendingChanges {
+        private final Set<UUID> productIds = new HashSet<>();
+        private boolean full;
+    }
+}
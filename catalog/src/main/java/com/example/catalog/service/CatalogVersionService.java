@@ -0,0 +1,74 @@
+package com.example.catalog.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version of the data behind the storefront catalogue endpoints. {@link CatalogSnapshotService}
+ * bumps it once a catalogue or inventory commit has been published; other write paths that change what
+ * those endpoints render (promotions) call {@link #changed()}. The counter is process-local, so
+ * {@link #tag()} prefixes it with the process start time and tags from an earlier run never match.
+ */
+@Service
+public class CatalogVersionService {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong version = new AtomicLong(1);
+    private final AtomicLong sharedVersion = new AtomicLong(1);
+    private volatile Instant sharedChangedAt = Instant.now();
+
+    public long current() {
+        return version.get();
+    }
+
+    public String tag() {
+        return epoch + "-" + version.get();
+    }
+
+    /**
+     * Counts only {@link #changed()} writes, which are not tied to particular products, so per-product
+     * caches can follow them without being flushed by every catalogue commit.
+     */
+    public long sharedVersion() {
+        return sharedVersion.get();
+    }
+
+    /**
+     * When {@link #sharedVersion()} last moved. Starts at process start, since changes made before it
+     * are not known.
+     */
+    public Instant sharedChangedAt() {
+        return sharedChangedAt;
+    }
+
+    /**
+     * Bumps the version, deferred until the surrounding transaction commits so a reader can never pair
+     * the new version with data read before the commit.
+     */
+    public void changed() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            sharedChanged();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                sharedChanged();
+            }
+        });
+    }
+
+    private void sharedChanged() {
+        sharedChangedAt = Instant.now();
+        sharedVersion.incrementAndGet();
+        version.incrementAndGet();
+    }
+
+    void published() {
+        version.incrementAndGet();
+    }
+}
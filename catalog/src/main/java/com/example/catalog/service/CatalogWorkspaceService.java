@@ -0,0 +1,133 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Brand;
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductVariant;
+import com.example.catalog.repository.BrandRepository;
+import com.example.catalog.repository.CategoryRepository;
+import com.example.catalog.repository.ProductRepository;
+import com.example.catalog.repository.ProductVariantRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Editor workspace queries. Text search, the active flag, key priority, paging and counts run in
+ * Postgres; only the requested page of products is hydrated.
+ */
+@Service
+public class CatalogWorkspaceService {
+
+    private static final Set<String> NO_KEYS = Set.of("");
+
+    private final ProductRepository productRepository;
+    private final ProductVariantRepository variantRepository;
+    private final BrandRepository brandRepository;
+    private final CategoryRepository categoryRepository;
+    private final CatalogService catalogService;
+
+    public CatalogWorkspaceService(ProductRepository productRepository,
+                                   ProductVariantRepository variantRepository,
+                                   BrandRepository brandRepository,
+                                   CategoryRepository categoryRepository,
+                                   CatalogService catalogService) {
+        this.productRepository = productRepository;
+        this.variantRepository = variantRepository;
+        this.brandRepository = brandRepository;
+        this.categoryRepository = categoryRepository;
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Products whose slug is one of {@code keys} come first and are returned even when they do not match
+     * {@code query}; the rest are ordered by name.
+     */
+    public WorkspacePage<Product> searchProducts(String query, Collection<String> keys, boolean includeInactive, int limit, int offset) {
+        String pattern = pattern(query);
+        Set<String> keySet = normalizeKeys(keys);
+        List<UUID> ids = productRepository.findWorkspaceProductIds(pattern, keySet, includeInactive, limit, offset);
+        long total = productRepository.countWorkspaceProducts(pattern, keySet, includeInactive);
+        return new WorkspacePage<>(catalogService.getProductsByIds(ids), total);
+    }
+
+    public List<Brand> searchBrands(String query) {
+        return brandRepository.findWorkspaceBrands(pattern(query));
+    }
+
+    public Map<UUID, Long> countProductsByBrand() {
+        Map<UUID, Long> counts = new HashMap<>();
+        productRepository.countByBrand().forEach(row -> counts.put(row.getBrandId(), row.getProductCount()));
+        return counts;
+    }
+
+    public long countProductsOfBrand(UUID brandId) {
+        return productRepository.countByBrand_Id(brandId);
+    }
+
+    public WorkspacePage<InventoryItem> searchInventory(String query, boolean includeInactive, int limit, int offset) {
+        String pattern = pattern(query);
+        List<ProductVariantRepository.InventoryRef> refs = variantRepository.findWorkspaceInventory(pattern, includeInactive, limit, offset);
+        long total = variantRepository.countWorkspaceInventory(pattern, includeInactive);
+        List<UUID> productIds = refs.stream().map(ProductVariantRepository.InventoryRef::getProductId).distinct().toList();
+        Map<UUID, InventoryItem> byVariantId = new HashMap<>();
+        for (Product product : catalogService.getProductsByIds(productIds)) {
+            for (ProductVariant variant : product.getVariants()) {
+                byVariantId.put(variant.getId(), new InventoryItem(product, variant));
+            }
+        }
+        List<InventoryItem> items = refs.stream()
+                .map(ref -> byVariantId.get(ref.getVariantId()))
+                .filter(Objects::nonNull)
+                .toList();
+        return new WorkspacePage<>(items, total);
+    }
+
+    public Summary summary() {
+        return new Summary(
+                productRepository.count(),
+                categoryRepository.count(),
+                brandRepository.count(),
+                variantRepository.count()
+        );
+    }
+
+    static String pattern(String query) {
+        if (query == null || query.isBlank()) {
+            return "";
+        }
+        String escaped = query.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static Set<String> normalizeKeys(Collection<String> keys) {
+        if (keys == null) {
+            return NO_KEYS;
+        }
+        Set<String> normalized = keys.stream()
+                .filter(Objects::nonNull)
+                .map(key -> key.trim().toLowerCase(Locale.ROOT))
+                .filter(key -> !key.isEmpty())
+                .collect(Collectors.toSet());
+        return normalized.isEmpty() ? NO_KEYS : normalized;
+    }
+
+    public record WorkspacePage<T>(List<T> items, long total) {
+    }
+
+    public record InventoryItem(Product product, ProductVariant variant) {
+    }
+
+    public record Summary(long products, long categories, long brands, long variants) {
+    }
+}
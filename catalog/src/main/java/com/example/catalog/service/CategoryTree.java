@@ -0,0 +1,150 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Category;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable category hierarchy in catalogue order. Every node carries its pre-order ordinal, depth and
+ * the ids of its subtree, so ordering is a list lookup and "is X under Y" is an ordinal range check.
+ * Siblings are ordered by position, then name, slug and id; a category whose parent chain loops back on
+ * itself is treated as a root.
+ */
+public final class CategoryTree {
+
+    private static final Comparator<Category> SIBLING_ORDER = Comparator
+            .comparingInt((Category category) -> Math.max(0, category.getPosition()))
+            .thenComparing(Category::getName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(Category::getSlug, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(category -> category.getId() != null ? category.getId().toString() : null,
+                    Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+    private static final CategoryTree EMPTY = new CategoryTree(List.of());
+
+    private final List<Category> categories;
+    private final Map<UUID, Node> nodes;
+
+    private CategoryTree(Collection<Category> source) {
+        Map<UUID, Category> byId = new LinkedHashMap<>();
+        for (Category category : source) {
+            if (category != null && category.getId() != null) {
+                byId.putIfAbsent(category.getId(), category);
+            }
+        }
+        Map<UUID, List<Category>> children = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category category : byId.values()) {
+            UUID parentId = category.getParent() != null ? category.getParent().getId() : null;
+            if (parentId == null || !byId.containsKey(parentId) || loopsBack(category, byId)) {
+                roots.add(category);
+            } else {
+                children.computeIfAbsent(parentId, ignored -> new ArrayList<>()).add(category);
+            }
+        }
+        roots.sort(SIBLING_ORDER);
+        children.values().forEach(list -> list.sort(SIBLING_ORDER));
+
+        List<Category> ordered = new ArrayList<>(byId.size());
+        Map<UUID, Node> indexed = new HashMap<>();
+        Deque<Frame> stack = new ArrayDeque<>();
+        for (int i = roots.size() - 1; i >= 0; i--) {
+            stack.push(new Frame(roots.get(i), 0, false));
+        }
+        Set<UUID> placed = new HashSet<>();
+        while (!stack.isEmpty()) {
+            Frame frame = stack.pop();
+            UUID id = frame.category().getId();
+            if (frame.exit()) {
+                Node node = indexed.get(id);
+                Set<UUID> subtree = new HashSet<>();
+                ordered.subList(node.ordinal(), ordered.size()).forEach(category -> subtree.add(category.getId()));
+                indexed.put(id, new Node(node.ordinal(), ordered.size(), node.depth(), Set.copyOf(subtree)));
+                continue;
+            }
+            if (!placed.add(id)) {
+                continue;
+            }
+            indexed.put(id, new Node(ordered.size(), ordered.size() + 1, frame.depth(), Set.of(id)));
+            ordered.add(frame.category());
+            stack.push(new Frame(frame.category(), frame.depth(), true));
+            List<Category> nested = children.getOrDefault(id, List.of());
+            for (int i = nested.size() - 1; i >= 0; i--) {
+                stack.push(new Frame(nested.get(i), frame.depth() + 1, false));
+            }
+        }
+        this.categories = List.copyOf(ordered);
+        this.nodes = Map.copyOf(indexed);
+    }
+
+    public static CategoryTree of(Collection<Category> categories) {
+        return categories == null || categories.isEmpty() ? EMPTY : new CategoryTree(categories);
+    }
+
+    /**
+     * All categories in pre-order: each parent directly followed by its subtree.
+     */
+    public List<Category> categories() {
+        return categories;
+    }
+
+    public Optional<Category> category(UUID id) {
+        Node node = id != null ? nodes.get(id) : null;
+        return node != null ? Optional.of(categories.get(node.ordinal())) : Optional.empty();
+    }
+
+    public int ordinal(UUID id) {
+        Node node = id != null ? nodes.get(id) : null;
+        return node != null ? node.ordinal() : -1;
+    }
+
+    public int depth(UUID id) {
+        Node node = id != null ? nodes.get(id) : null;
+        return node != null ? node.depth() : -1;
+    }
+
+    /**
+     * Ids of the category and all of its descendants; empty when the category is unknown.
+     */
+    public Set<UUID> subtreeIds(UUID id) {
+        Node node = id != null ? nodes.get(id) : null;
+        return node != null ? node.subtreeIds() : Set.of();
+    }
+
+    public boolean isWithin(UUID categoryId, UUID ancestorId) {
+        Node node = categoryId != null ? nodes.get(categoryId) : null;
+        Node ancestor = ancestorId != null ? nodes.get(ancestorId) : null;
+        return node != null && ancestor != null
+                && node.ordinal() >= ancestor.ordinal() && node.ordinal() < ancestor.subtreeEnd();
+    }
+
+    private static boolean loopsBack(Category category, Map<UUID, Category> byId) {
+        Set<UUID> visited = new HashSet<>();
+        Category current = category;
+        while (current != null && current.getId() != null) {
+            if (!visited.add(current.getId())) {
+                return current.getId().equals(category.getId());
+            }
+            Category parent = current.getParent();
+            current = parent != null ? byId.get(parent.getId()) : null;
+        }
+        return false;
+    }
+
+    private record Node(int ordinal, int subtreeEnd, int depth, Set<UUID> subtreeIds) {
+    }
+
+    private record Frame(Category category, int depth, boolean exit) {
+    }
+}
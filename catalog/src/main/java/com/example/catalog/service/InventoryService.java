@@ -18,11 +18,13 @@ public class InventoryService {
 
     private final ProductVariantRepository variantRepository;
     private final StockAdjustmentRepository adjustmentRepository;
+    private final CatalogSnapshotService snapshotService;
 
     @Autowired
-    public InventoryService(ProductVariantRepository variantRepository, StockAdjustmentRepository adjustmentRepository) {
+    public InventoryService(ProductVariantRepository variantRepository, StockAdjustmentRepository adjustmentRepository, CatalogSnapshotService snapshotService) {
         this.variantRepository = variantRepository;
         this.adjustmentRepository = adjustmentRepository;
+        this.snapshotService = snapshotService;
     }
 
     public AdjustmentResult adjustStock(UUID variantId, int delta, String idempotencyKey, String reason) {
@@ -50,6 +52,9 @@ public class InventoryService {
 
         StockAdjustment adjustment = new StockAdjustment(variant, delta, newStock, idempotencyKey, reason);
         adjustmentRepository.save(adjustment);
+        if (variant.getProduct() != null) {
+            snapshotService.productChanged(variant.getProduct().getId());
+        }
 
         return new AdjustmentResult(variant, true, adjustment);
     }
@@ -0,0 +1,81 @@
+package com.example.catalog.service;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Storefront lookup keys split into ids and slugs, so each kind can be fetched with a single {@code IN}
+ * query. A key that parses as a UUID is only ever looked up by id.
+ */
+final class KeyPartition {
+
+    private final List<String> keys;
+    private final Map<String, UUID> idsByKey;
+    private final Set<String> slugs;
+
+    private KeyPartition(List<String> keys, Map<String, UUID> idsByKey, Set<String> slugs) {
+        this.keys = keys;
+        this.idsByKey = idsByKey;
+        this.slugs = slugs;
+    }
+
+    static KeyPartition of(Collection<String> rawKeys) {
+        Map<String, UUID> idsByKey = new LinkedHashMap<>();
+        Set<String> slugs = new LinkedHashSet<>();
+        Set<String> keys = new LinkedHashSet<>();
+        if (rawKeys != null) {
+            for (String rawKey : rawKeys) {
+                String key = rawKey != null ? rawKey.trim() : "";
+                if (key.isEmpty() || !keys.add(key)) {
+                    continue;
+                }
+                try {
+                    idsByKey.put(key, UUID.fromString(key));
+                } catch (IllegalArgumentException ignored) {
+                    slugs.add(key);
+                }
+            }
+        }
+        return new KeyPartition(List.copyOf(keys), idsByKey, slugs);
+    }
+
+    boolean isEmpty() {
+        return keys.isEmpty();
+    }
+
+    Set<UUID> ids() {
+        return Set.copyOf(idsByKey.values());
+    }
+
+    Set<String> slugs() {
+        return slugs;
+    }
+
+    /**
+     * Normalized forms of the slugs that had no exact match, for the case-insensitive fallback query.
+     */
+    Set<String> normalizedMisses(Set<String> matchedSlugs) {
+        return slugs.stream()
+                .filter(slug -> !matchedSlugs.contains(slug))
+                .map(CatalogSnapshot::normalizeSlug)
+                .collect(Collectors.toSet());
+    }
+
+    <T> Map<String, T> resolve(Function<UUID, Optional<T>> byId, Function<String, Optional<T>> bySlug) {
+        Map<String, T> resolved = new LinkedHashMap<>();
+        for (String key : keys) {
+            UUID id = idsByKey.get(key);
+            Optional<T> match = id != null ? byId.apply(id) : bySlug.apply(key);
+            match.ifPresent(value -> resolved.put(key, value));
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.ProductCard;
+import com.example.catalog.repository.ProductCardRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@Transactional
+public class ProductCardService implements CatalogChangeListener {
+
+    private final ProductCardRepository cardRepository;
+
+    public ProductCardService(ProductCardRepository cardRepository) {
+        this.cardRepository = cardRepository;
+    }
+
+    @Override
+    public void beforeCatalogCommit(Set<UUID> productIds, boolean full) {
+        if (full) {
+            cardRepository.refreshAllCards();
+            cardRepository.deleteAllOrphanedCards();
+            return;
+        }
+        if (productIds.isEmpty()) {
+            return;
+        }
+        cardRepository.refreshCards(productIds);
+        cardRepository.deleteOrphanedCards(productIds);
+    }
+
+    public Page<ProductCard> getCardsByPrice(String categoryPath, String brandSlug, boolean includeInactive, boolean ascending, Pageable pageable) {
+        String path = categoryPath != null ? categoryPath : "";
+        String brand = brandSlug != null ? brandSlug : "";
+        List<ProductCard> cards = ascending
+                ? cardRepository.findListingByPriceAsc(path, brand, includeInactive, pageable.getPageSize(), pageable.getOffset())
+                : cardRepository.findListingByPriceDesc(path, brand, includeInactive, pageable.getPageSize(), pageable.getOffset());
+        return new PageImpl<>(cards, pageable, cardRepository.countListing(path, brand, includeInactive));
+    }
+
+    /**
+     * Ids of the first {@code limit} active products in {@code order}, read from the card table so the
+     * sort and limit run on its indexes.
+     */
+    public List<UUID> getTopActiveProductIds(String categoryPath, String brandSlug, CardOrder order, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        String path = categoryPath != null ? categoryPath : "";
+        String brand = brandSlug != null ? brandSlug : "";
+        return switch (order != null ? order : CardOrder.NEWEST) {
+            case NEWEST -> cardRepository.findTopIdsByCreatedDesc(path, brand, false, limit);
+            case OLDEST -> cardRepository.findTopIdsByCreatedAsc(path, brand, false, limit);
+            case NAME -> cardRepository.findTopIdsByName(path, brand, false, limit);
+            case PRICE_ASC -> cardRepository.findTopIdsByPriceAsc(path, brand, false, limit);
+            case PRICE_DESC -> cardRepository.findTopIdsByPriceDesc(path, brand, false, limit);
+        };
+    }
+
+    public enum CardOrder {
+        NEWEST,
+        OLDEST,
+        NAME,
+        PRICE_ASC,
+        PRICE_DESC
+    }
+}
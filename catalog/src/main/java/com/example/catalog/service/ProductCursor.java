@@ -0,0 +1,62 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Product;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * Keyset position in the catalogue listing order: lower-cased name, then id. Both parts compare by
+ * code point so the in-memory order matches {@code lower(name) COLLATE "C", id} in Postgres.
+ */
+public record ProductCursor(String sortName, UUID id) implements Comparable<ProductCursor> {
+
+    private static final char SEPARATOR = '\n';
+
+    public ProductCursor {
+        sortName = sortName != null ? sortName : "";
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id is required");
+        }
+    }
+
+    public static ProductCursor of(Product product) {
+        return new ProductCursor(sortName(product.getName()), product.getId());
+    }
+
+    public static ProductCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token.trim()), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new ProductCursor(decoded.substring(0, separator), UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException ex) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+
+    public String encode() {
+        String raw = sortName + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String sortName(String name) {
+        return name != null ? name.toLowerCase(Locale.ROOT) : "";
+    }
+
+    @Override
+    public int compareTo(ProductCursor other) {
+        int byName = sortName.compareTo(other.sortName);
+        if (byName != 0) {
+            return byName;
+        }
+        return id.toString().compareTo(other.id.toString());
+    }
+}
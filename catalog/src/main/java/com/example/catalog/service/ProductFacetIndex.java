@@ -0,0 +1,392 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import com.example.catalog.domain.ProductVariant;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bitmap index over the catalogue: one bitmap per brand and category path over product ordinals, and
+ * one per colour and size over variant ordinals. Variant-level filters must hold for the same variant,
+ * so a red, in-stock filter only matches products that have a red variant in stock.
+ */
+final class ProductFacetIndex {
+
+    private final List<Product> products;
+    private final Map<UUID, Integer> productOrdinals;
+    private final int[] firstVariant;
+    private final UUID[] variantIds;
+    private final int[] variantProduct;
+    private final long[] variantPrice;
+    private final BitSet activeProducts = new BitSet();
+    private final BitSet inStockVariants = new BitSet();
+    private final BitSet pricedVariants = new BitSet();
+    private final Map<String, BitSet> brandProducts = new HashMap<>();
+    private final Map<String, BitSet> categoryProducts = new HashMap<>();
+    private final Map<String, BitSet> colorVariants = new HashMap<>();
+    private final Map<String, BitSet> sizeVariants = new HashMap<>();
+    private final Map<String, String> brandLabels = new HashMap<>();
+    private final Map<String, String> colorLabels = new HashMap<>();
+    private final Map<String, String> sizeLabels = new HashMap<>();
+
+    ProductFacetIndex(Collection<Product> source) {
+        List<Product> ordered = new ArrayList<>(source);
+        ordered.sort(CatalogSnapshot.PRODUCT_NAME_ORDER);
+        this.products = List.copyOf(ordered);
+        Map<UUID, Integer> ordinals = new HashMap<>();
+        this.firstVariant = new int[products.size() + 1];
+        List<ProductVariant> variants = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        for (int ordinal = 0; ordinal < products.size(); ordinal++) {
+            Product product = products.get(ordinal);
+            ordinals.put(product.getId(), ordinal);
+            firstVariant[ordinal] = variants.size();
+            indexProduct(ordinal, product);
+            if (product.getVariants() != null) {
+                for (ProductVariant variant : product.getVariants()) {
+                    variants.add(variant);
+                    owners.add(ordinal);
+                }
+            }
+        }
+        firstVariant[products.size()] = variants.size();
+        this.productOrdinals = ordinals;
+        this.variantIds = new UUID[variants.size()];
+        this.variantProduct = new int[variants.size()];
+        this.variantPrice = new long[variants.size()];
+        for (int ordinal = 0; ordinal < variants.size(); ordinal++) {
+            variantIds[ordinal] = variants.get(ordinal).getId();
+            variantProduct[ordinal] = owners.get(ordinal);
+            indexVariant(ordinal, variants.get(ordinal));
+        }
+    }
+
+    private ProductFacetIndex(ProductFacetIndex base, List<Product> products) {
+        this.products = products;
+        this.productOrdinals = base.productOrdinals;
+        this.firstVariant = base.firstVariant;
+        this.variantIds = base.variantIds;
+        this.variantProduct = base.variantProduct;
+        this.variantPrice = base.variantPrice.clone();
+        activeProducts.or(base.activeProducts);
+        inStockVariants.or(base.inStockVariants);
+        pricedVariants.or(base.pricedVariants);
+        copy(base.brandProducts, brandProducts);
+        copy(base.categoryProducts, categoryProducts);
+        copy(base.colorVariants, colorVariants);
+        copy(base.sizeVariants, sizeVariants);
+        brandLabels.putAll(base.brandLabels);
+        colorLabels.putAll(base.colorLabels);
+        sizeLabels.putAll(base.sizeLabels);
+    }
+
+    /**
+     * Copy of this index with {@code changed} re-indexed at their current ordinals, or {@code null} when a
+     * change adds or removes a product or variant or moves a product in name order, which needs a rebuild.
+     */
+    ProductFacetIndex withProducts(Collection<Product> changed) {
+        List<Product> next = new ArrayList<>(products);
+        List<Integer> changedOrdinals = new ArrayList<>(changed.size());
+        for (Product product : changed) {
+            Integer ordinal = productOrdinals.get(product.getId());
+            if (ordinal == null || !hasSameVariants(ordinal, product)) {
+                return null;
+            }
+            next.set(ordinal, product);
+            changedOrdinals.add(ordinal);
+        }
+        for (int ordinal : changedOrdinals) {
+            if ((ordinal > 0 && CatalogSnapshot.PRODUCT_NAME_ORDER.compare(next.get(ordinal - 1), next.get(ordinal)) > 0)
+                    || (ordinal + 1 < next.size() && CatalogSnapshot.PRODUCT_NAME_ORDER.compare(next.get(ordinal), next.get(ordinal + 1)) > 0)) {
+                return null;
+            }
+        }
+        ProductFacetIndex patched = new ProductFacetIndex(this, List.copyOf(next));
+        for (int ordinal : changedOrdinals) {
+            patched.reindexProduct(ordinal, next.get(ordinal));
+        }
+        return patched;
+    }
+
+    private boolean hasSameVariants(int ordinal, Product product) {
+        int count = product.getVariants() != null ? product.getVariants().size() : 0;
+        if (count != firstVariant[ordinal + 1] - firstVariant[ordinal]) {
+            return false;
+        }
+        if (product.getVariants() != null) {
+            for (ProductVariant variant : product.getVariants()) {
+                if (variantOrdinal(ordinal, variant.getId()) < 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private int variantOrdinal(int productOrdinal, UUID variantId) {
+        if (variantId == null) {
+            return -1;
+        }
+        for (int ordinal = firstVariant[productOrdinal]; ordinal < firstVariant[productOrdinal + 1]; ordinal++) {
+            if (variantId.equals(variantIds[ordinal])) {
+                return ordinal;
+            }
+        }
+        return -1;
+    }
+
+    private void reindexProduct(int ordinal, Product product) {
+        clear(brandProducts, ordinal);
+        clear(categoryProducts, ordinal);
+        indexProduct(ordinal, product);
+        if (product.getVariants() != null) {
+            for (ProductVariant variant : product.getVariants()) {
+                int variantOrdinal = variantOrdinal(ordinal, variant.getId());
+                clear(colorVariants, variantOrdinal);
+                clear(sizeVariants, variantOrdinal);
+                indexVariant(variantOrdinal, variant);
+            }
+        }
+    }
+
+    private void indexProduct(int ordinal, Product product) {
+        activeProducts.set(ordinal, product.isIsActive());
+        if (product.getBrand() != null && product.getBrand().getSlug() != null) {
+            String brand = normalize(product.getBrand().getSlug());
+            bitmap(brandProducts, brand).set(ordinal);
+            brandLabels.putIfAbsent(brand, product.getBrand().getName());
+        }
+        for (String path : categoryPaths(product)) {
+            bitmap(categoryProducts, path).set(ordinal);
+        }
+    }
+
+    private void indexVariant(int ordinal, ProductVariant variant) {
+        variantPrice[ordinal] = variant.getPrice() != null ? variant.getPrice().getAmount() : 0L;
+        pricedVariants.set(ordinal, variant.getPrice() != null);
+        inStockVariants.set(ordinal, variant.getStockQuantity() > 0);
+        if (variant.getColorCode() != null && !variant.getColorCode().isBlank()) {
+            String color = normalize(variant.getColorCode());
+            bitmap(colorVariants, color).set(ordinal);
+            colorLabels.putIfAbsent(color, variant.getColorLabel());
+        }
+        if (variant.getSizeCode() != null && !variant.getSizeCode().isBlank()) {
+            String size = normalize(variant.getSizeCode());
+            bitmap(sizeVariants, size).set(ordinal);
+            sizeLabels.putIfAbsent(size, variant.getSizeLabel());
+        }
+    }
+
+    List<Product> products(ProductFacetService.FacetQuery query, String categoryPath) {
+        BitSet matches = toProducts(variantMask(query, true, true, true, true));
+        matches.and(productMask(query, categoryPath, true));
+        List<Product> result = new ArrayList<>(matches.cardinality());
+        matches.stream().forEach(ordinal -> result.add(products.get(ordinal)));
+        return result;
+    }
+
+    /**
+     * Counts per facet value ignore the facet's own selection, so selecting one colour still shows how
+     * many products the other colours would add.
+     */
+    ProductFacetService.Facets facets(ProductFacetService.FacetQuery query, String categoryPath) {
+        BitSet productsWithoutBrand = productMask(query, categoryPath, false);
+        BitSet allProducts = productMask(query, categoryPath, true);
+
+        BitSet variantMatches = toProducts(variantMask(query, true, true, true, true));
+        BitSet matching = (BitSet) variantMatches.clone();
+        matching.and(allProducts);
+        BitSet brandBase = (BitSet) variantMatches.clone();
+        brandBase.and(productsWithoutBrand);
+        List<ProductFacetService.FacetValue> brands = counts(brandProducts, brandLabels, bitmap -> {
+            BitSet candidate = (BitSet) bitmap.clone();
+            candidate.and(brandBase);
+            return candidate.cardinality();
+        });
+
+        BitSet colorBase = variantMask(query, false, true, true, true);
+        List<ProductFacetService.FacetValue> colors = counts(colorVariants, colorLabels,
+                bitmap -> countProducts(colorBase, bitmap, allProducts));
+
+        BitSet sizeBase = variantMask(query, true, false, true, true);
+        List<ProductFacetService.FacetValue> sizes = counts(sizeVariants, sizeLabels,
+                bitmap -> countProducts(sizeBase, bitmap, allProducts));
+
+        long inStock = countProducts(variantMask(query, true, true, true, false), inStockVariants, allProducts);
+
+        BitSet priceBase = (BitSet) pricedVariants.clone();
+        BitSet priceFilters = variantMask(query, true, true, false, true);
+        if (priceFilters != null) {
+            priceBase.and(priceFilters);
+        }
+        Long minPrice = null;
+        Long maxPrice = null;
+        for (int ordinal = priceBase.nextSetBit(0); ordinal >= 0; ordinal = priceBase.nextSetBit(ordinal + 1)) {
+            if (!allProducts.get(variantProduct[ordinal])) {
+                continue;
+            }
+            long price = variantPrice[ordinal];
+            minPrice = minPrice == null ? price : Math.min(minPrice, price);
+            maxPrice = maxPrice == null ? price : Math.max(maxPrice, price);
+        }
+        return new ProductFacetService.Facets(matching.cardinality(), brands, colors, sizes, inStock, minPrice, maxPrice);
+    }
+
+    private long countProducts(BitSet variantBase, BitSet valueVariants, BitSet productMask) {
+        BitSet variants = (BitSet) valueVariants.clone();
+        if (variantBase != null) {
+            variants.and(variantBase);
+        }
+        BitSet matches = toProducts(variants);
+        matches.and(productMask);
+        return matches.cardinality();
+    }
+
+    private BitSet productMask(ProductFacetService.FacetQuery query, String categoryPath, boolean withBrand) {
+        BitSet mask = new BitSet(products.size());
+        if (query.includeInactive()) {
+            mask.set(0, products.size());
+        } else {
+            mask.or(activeProducts);
+        }
+        if (categoryPath != null) {
+            mask.and(categoryProducts.getOrDefault(categoryPath, new BitSet()));
+        }
+        if (withBrand && !query.brands().isEmpty()) {
+            mask.and(union(brandProducts, query.brands()));
+        }
+        return mask;
+    }
+
+    /**
+     * Returns {@code null} when no variant-level filter applies, so products without variants still match.
+     */
+    private BitSet variantMask(ProductFacetService.FacetQuery query,
+                               boolean withColor,
+                               boolean withSize,
+                               boolean withPrice,
+                               boolean withStock) {
+        boolean filterColor = withColor && !query.colors().isEmpty();
+        boolean filterSize = withSize && !query.sizes().isEmpty();
+        boolean filterStock = withStock && query.inStock();
+        boolean filterPrice = withPrice && (query.minPrice() != null || query.maxPrice() != null);
+        if (!filterColor && !filterSize && !filterStock && !filterPrice) {
+            return null;
+        }
+        BitSet mask = new BitSet(variantProduct.length);
+        mask.set(0, variantProduct.length);
+        if (filterColor) {
+            mask.and(union(colorVariants, query.colors()));
+        }
+        if (filterSize) {
+            mask.and(union(sizeVariants, query.sizes()));
+        }
+        if (filterStock) {
+            mask.and(inStockVariants);
+        }
+        if (filterPrice) {
+            mask.and(pricedVariants);
+            for (int ordinal = mask.nextSetBit(0); ordinal >= 0; ordinal = mask.nextSetBit(ordinal + 1)) {
+                long price = variantPrice[ordinal];
+                if ((query.minPrice() != null && price < query.minPrice())
+                        || (query.maxPrice() != null && price > query.maxPrice())) {
+                    mask.clear(ordinal);
+                }
+            }
+        }
+        return mask;
+    }
+
+    private BitSet toProducts(BitSet variants) {
+        BitSet result = new BitSet(products.size());
+        if (variants == null) {
+            result.set(0, products.size());
+            return result;
+        }
+        for (int ordinal = variants.nextSetBit(0); ordinal >= 0; ordinal = variants.nextSetBit(ordinal + 1)) {
+            result.set(variantProduct[ordinal]);
+        }
+        return result;
+    }
+
+    private static BitSet union(Map<String, BitSet> bitmaps, Set<String> values) {
+        BitSet union = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = bitmaps.get(normalize(value));
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    private static List<ProductFacetService.FacetValue> counts(Map<String, BitSet> bitmaps,
+                                                                Map<String, String> labels,
+                                                                Function<BitSet, Number> counter) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        bitmaps.forEach((value, bitmap) -> counts.put(value, counter.apply(bitmap).longValue()));
+        return counts.entrySet().stream()
+                .map(entry -> new ProductFacetService.FacetValue(entry.getKey(), labels.get(entry.getKey()), entry.getValue()))
+                .sorted(Comparator.comparingLong(ProductFacetService.FacetValue::count).reversed()
+                        .thenComparing(ProductFacetService.FacetValue::value))
+                .toList();
+    }
+
+    private static Set<String> categoryPaths(Product product) {
+        Set<String> paths = new HashSet<>();
+        if (product.getCategories() == null) {
+            return paths;
+        }
+        for (Category category : product.getCategories()) {
+            if (category == null || category.getFullPath() == null) {
+                continue;
+            }
+            String[] segments = category.getFullPath().split("/");
+            StringBuilder path = new StringBuilder();
+            for (String segment : segments) {
+                if (!path.isEmpty()) {
+                    path.append('/');
+                }
+                path.append(segment);
+                paths.add(path.toString());
+            }
+        }
+        return paths;
+    }
+
+    private static void copy(Map<String, BitSet> source, Map<String, BitSet> target) {
+        source.forEach((value, bitmap) -> target.put(value, (BitSet) bitmap.clone()));
+    }
+
+    /**
+     * Clears {@code ordinal} from every bitmap and drops the ones left empty, so a value no product
+     * carries any more stops showing up as a zero-count facet.
+     */
+    private static void clear(Map<String, BitSet> bitmaps, int ordinal) {
+        bitmaps.values().removeIf(bitmap -> {
+            bitmap.clear(ordinal);
+            return bitmap.isEmpty();
+        });
+    }
+
+    private static BitSet bitmap(Map<String, BitSet> bitmaps, String value) {
+        return bitmaps.computeIfAbsent(value, ignored -> new BitSet());
+    }
+
+    static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * Faceted product filtering over an in-memory {@link ProductFacetIndex}. Product-scoped commits patch
+ * the changed products' bits in place; anything the patch cannot express is rebuilt from the committed
+ * snapshot, and full commits drop the index so the next request rebuilds it from
+ * {@link CatalogService#getAllProducts()}.
+ */
+@Service
+public class ProductFacetService implements CatalogChangeListener {
+
+    private final CatalogService catalogService;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile ProductFacetIndex index;
+
+    public ProductFacetService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public Page<Product> getProducts(FacetQuery query, Pageable pageable) {
+        String categoryPath = null;
+        if (query.category() != null) {
+            categoryPath = catalogService.resolveCategory(query.category()).map(Category::getFullPath).orElse(null);
+            if (categoryPath == null) {
+                return Page.empty(pageable);
+            }
+        }
+        Page<Product> page = CatalogSnapshot.sortedPage(index().products(query, categoryPath), pageable);
+        if (page == null) {
+            throw new IllegalArgumentException("Unsupported sort: " + pageable.getSort());
+        }
+        return page;
+    }
+
+    public Facets getFacets(FacetQuery query) {
+        String categoryPath = null;
+        if (query.category() != null) {
+            categoryPath = catalogService.resolveCategory(query.category()).map(Category::getFullPath).orElse(null);
+            if (categoryPath == null) {
+                return new Facets(0, List.of(), List.of(), List.of(), 0, null, null);
+            }
+        }
+        return index().facets(query, categoryPath);
+    }
+
+    @Override
+    public void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        lock.lock();
+        try {
+            ProductFacetIndex current = index;
+            index = current != null && snapshot != null && !full ? patched(current, snapshot, productIds) : null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static ProductFacetIndex patched(ProductFacetIndex current, CatalogSnapshot snapshot, Set<UUID> productIds) {
+        List<Product> changed = new ArrayList<>(productIds.size());
+        for (UUID productId : productIds) {
+            Optional<Product> product = snapshot.product(productId);
+            if (product.isEmpty()) {
+                return new ProductFacetIndex(snapshot.products());
+            }
+            changed.add(product.get());
+        }
+        ProductFacetIndex patched = current.withProducts(changed);
+        return patched != null ? patched : new ProductFacetIndex(snapshot.products());
+    }
+
+    private ProductFacetIndex index() {
+        ProductFacetIndex current = index;
+        if (current != null) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (index == null) {
+                index = new ProductFacetIndex(catalogService.getAllProducts());
+            }
+            return index;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record FacetQuery(String category,
+                             Set<String> brands,
+                             Set<String> colors,
+                             Set<String> sizes,
+                             Long minPrice,
+                             Long maxPrice,
+                             boolean inStock,
+                             boolean includeInactive) {
+
+        public FacetQuery {
+            category = category != null && !category.isBlank() ? category.trim() : null;
+            brands = values(brands);
+            colors = values(colors);
+            sizes = values(sizes);
+            if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+                throw new IllegalArgumentException("minPrice must not exceed maxPrice");
+            }
+        }
+
+        private static Set<String> values(Collection<String> values) {
+            if (values == null) {
+                return Set.of();
+            }
+            return values.stream()
+                    .filter(value -> value != null && !value.isBlank())
+                    .map(ProductFacetIndex::normalize)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+
+        public boolean hasFacetFilters() {
+            return !colors.isEmpty() || !sizes.isEmpty() || brands.size() > 1
+                    || minPrice != null || maxPrice != null || inStock;
+        }
+    }
+
+    public record FacetValue(String value, String label, long count) {
+    }
+
+    public record Facets(long total,
+                         List<FacetValue> brands,
+                         List<FacetValue> colors,
+                         List<FacetValue> sizes,
+                         long inStock,
+                         Long minPrice,
+                         Long maxPrice) {
+    }
+}
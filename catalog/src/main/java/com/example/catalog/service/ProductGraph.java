@@ -0,0 +1,34 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Product;
+import com.example.catalog.repository.ProductRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Initialises variants, categories and brand for a batch of managed products with a fixed number of
+ * {@code IN} queries per chunk, instead of one lazy load per product and association.
+ */
+final class ProductGraph {
+    static final int BATCH_SIZE = 500;
+
+    private ProductGraph() {
+    }
+
+    static void preload(ProductRepository productRepository, Collection<Product> products) {
+        List<UUID> ids = products.stream()
+                .filter(Objects::nonNull)
+                .map(Product::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            productRepository.findWithVariantsByIdIn(chunk);
+            productRepository.findWithCategoriesAndBrandByIdIn(chunk);
+        }
+    }
+}
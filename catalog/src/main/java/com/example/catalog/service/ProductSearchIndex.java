@@ -0,0 +1,329 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Category;
+import com.example.catalog.domain.Product;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Immutable inverted index over product name, brand, categories, specifications and description.
+ * Terms are Russian stems; each posting stores a field-weighted term frequency so ranking is a
+ * BM25 score over the weighted fields. Updates copy only the posting lists of the changed products.
+ */
+final class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final float NAME_WEIGHT = 3f;
+    private static final float BRAND_WEIGHT = 2f;
+    private static final float CATEGORY_WEIGHT = 1.5f;
+    private static final float TEXT_WEIGHT = 1f;
+    private static final double PREFIX_FACTOR = 0.6;
+    private static final double TYPO_FACTOR = 0.5;
+    private static final int MIN_TYPO_LENGTH = 4;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "и", "в", "во", "на", "с", "со", "для", "по", "из", "от", "до", "к", "ко", "о", "об", "а", "но", "или",
+            "у", "за", "при", "без", "не", "что", "это", "как", "же", "the", "and", "of", "for"
+    );
+
+    private static final ProductSearchIndex EMPTY = new ProductSearchIndex(Map.of(), Map.of(), new String[0], 0d);
+
+    private final Map<UUID, Document> documents;
+    private final Map<String, Posting[]> postings;
+    private final String[] vocabulary;
+    private final double totalLength;
+
+    private ProductSearchIndex(Map<UUID, Document> documents,
+                               Map<String, Posting[]> postings,
+                               String[] vocabulary,
+                               double totalLength) {
+        this.documents = documents;
+        this.postings = postings;
+        this.vocabulary = vocabulary;
+        this.totalLength = totalLength;
+    }
+
+    static ProductSearchIndex build(Collection<Product> products) {
+        return EMPTY.withProducts(Set.of(), products);
+    }
+
+    int size() {
+        return documents.size();
+    }
+
+    ProductSearchIndex withProducts(Set<UUID> changedIds, Collection<Product> reloaded) {
+        Map<UUID, Document> nextDocuments = new HashMap<>(documents);
+        Map<String, Map<UUID, Float>> touched = new HashMap<>();
+        double nextLength = totalLength;
+        for (UUID id : changedIds) {
+            Document removed = nextDocuments.remove(id);
+            if (removed != null) {
+                nextLength -= removed.length();
+                removed.weights().keySet().forEach(term -> touched.computeIfAbsent(term, ignored -> new HashMap<>()));
+            }
+        }
+        Set<UUID> replaced = new HashSet<>(changedIds);
+        for (Product product : reloaded) {
+            Document document = analyze(product);
+            Document previous = nextDocuments.put(document.product().getId(), document);
+            replaced.add(document.product().getId());
+            if (previous != null) {
+                nextLength -= previous.length();
+                previous.weights().keySet().forEach(term -> touched.computeIfAbsent(term, ignored -> new HashMap<>()));
+            }
+            nextLength += document.length();
+            document.weights().forEach((term, weight) ->
+                    touched.computeIfAbsent(term, ignored -> new HashMap<>()).put(document.product().getId(), weight));
+        }
+
+        Map<String, Posting[]> nextPostings = new HashMap<>(postings);
+        boolean vocabularyChanged = false;
+        for (Map.Entry<String, Map<UUID, Float>> entry : touched.entrySet()) {
+            List<Posting> merged = new ArrayList<>();
+            for (Posting posting : postings.getOrDefault(entry.getKey(), new Posting[0])) {
+                if (!replaced.contains(posting.productId())) {
+                    merged.add(posting);
+                }
+            }
+            entry.getValue().forEach((id, weight) -> merged.add(new Posting(id, weight)));
+            Posting[] previous = merged.isEmpty()
+                    ? nextPostings.remove(entry.getKey())
+                    : nextPostings.put(entry.getKey(), merged.toArray(Posting[]::new));
+            vocabularyChanged |= previous == null || merged.isEmpty();
+        }
+        String[] nextVocabulary = vocabulary;
+        if (vocabularyChanged) {
+            nextVocabulary = nextPostings.keySet().toArray(String[]::new);
+            Arrays.sort(nextVocabulary);
+        }
+        return new ProductSearchIndex(nextDocuments, nextPostings, nextVocabulary, Math.max(0d, nextLength));
+    }
+
+    /**
+     * Ranks products for a free-text query. A product matches a query word through its exact stem, a
+     * stem within one or two edits, or, for the last word, a stem it prefixes. Products matching more
+     * query words rank first; BM25 orders products within the same match count.
+     */
+    List<Product> search(String query, boolean includeInactive) {
+        List<String> terms = terms(query);
+        if (terms.isEmpty() || documents.isEmpty()) {
+            return List.of();
+        }
+        double averageLength = totalLength / documents.size();
+        Map<UUID, Score> scores = new HashMap<>();
+        for (int i = 0; i < terms.size(); i++) {
+            Map<UUID, Double> best = new HashMap<>();
+            for (Map.Entry<String, Double> candidate : expand(terms.get(i), i == terms.size() - 1).entrySet()) {
+                Posting[] list = postings.get(candidate.getKey());
+                double idf = Math.log(1 + (documents.size() - list.length + 0.5) / (list.length + 0.5));
+                for (Posting posting : list) {
+                    Document document = documents.get(posting.productId());
+                    double tf = posting.weight();
+                    double bm25 = idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * document.length() / averageLength));
+                    best.merge(posting.productId(), bm25 * candidate.getValue(), Math::max);
+                }
+            }
+            best.forEach((id, value) -> scores.computeIfAbsent(id, ignored -> new Score()).add(value));
+        }
+        return scores.entrySet().stream()
+                .filter(entry -> includeInactive || documents.get(entry.getKey()).product().isIsActive())
+                .sorted(Map.Entry.<UUID, Score>comparingByValue().thenComparing(entry -> entry.getKey().toString()))
+                .map(entry -> documents.get(entry.getKey()).product())
+                .toList();
+    }
+
+    private Map<String, Double> expand(String term, boolean last) {
+        Map<String, Double> candidates = new LinkedHashMap<>();
+        if (postings.containsKey(term)) {
+            candidates.put(term, 1d);
+        } else if (term.length() >= MIN_TYPO_LENGTH) {
+            int maxEdits = term.length() >= 8 ? 2 : 1;
+            for (String candidate : vocabulary) {
+                if (Math.abs(candidate.length() - term.length()) > maxEdits) {
+                    continue;
+                }
+                int distance = editDistance(term, candidate, maxEdits);
+                if (distance <= maxEdits) {
+                    candidates.put(candidate, Math.pow(TYPO_FACTOR, distance));
+                }
+            }
+        }
+        if (last && term.length() >= MIN_PREFIX_LENGTH) {
+            int from = Arrays.binarySearch(vocabulary, term);
+            for (int i = from >= 0 ? from + 1 : -from - 1; i < vocabulary.length && vocabulary[i].startsWith(term); i++) {
+                candidates.putIfAbsent(vocabulary[i], PREFIX_FACTOR);
+            }
+        }
+        return candidates;
+    }
+
+    private static Document analyze(Product product) {
+        Map<String, Float> weights = new HashMap<>();
+        float length = 0;
+        length += addField(weights, product.getName(), NAME_WEIGHT);
+        if (product.getBrand() != null) {
+            length += addField(weights, product.getBrand().getName(), BRAND_WEIGHT);
+        }
+        if (product.getCategories() != null) {
+            Set<String> categoryNames = new HashSet<>();
+            for (Category category : product.getCategories()) {
+                Set<Category> visited = new HashSet<>();
+                for (Category current = category; current != null && visited.add(current); current = current.getParent()) {
+                    if (current.getName() != null) {
+                        categoryNames.add(current.getName());
+                    }
+                }
+            }
+            length += addField(weights, String.join(" ", categoryNames), CATEGORY_WEIGHT);
+        }
+        length += addField(weights, specificationText(product.getSpecifications()), TEXT_WEIGHT);
+        length += addField(weights, product.getDescription(), TEXT_WEIGHT);
+        return new Document(product, Map.copyOf(weights), length);
+    }
+
+    private static float addField(Map<String, Float> weights, String text, float weight) {
+        List<String> terms = terms(text);
+        terms.forEach(term -> weights.merge(term, weight, Float::sum));
+        return terms.size() * weight;
+    }
+
+    static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        String normalized = text.toLowerCase(Locale.ROOT).replace('ё', 'е');
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String word = normalized.substring(start, i);
+                start = -1;
+                if (STOP_WORDS.contains(word) || (word.length() == 1 && !Character.isDigit(word.charAt(0)))) {
+                    continue;
+                }
+                terms.add(isCyrillic(word) ? RussianStemmer.stem(word) : word);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Specifications are stored as JSON; only string values are indexed, keys such as {@code "label"} or
+     * {@code "items"} are skipped.
+     */
+    static String specificationText(String raw) {
+        if (raw == null || raw.isBlank()) {
+            return "";
+        }
+        String trimmed = raw.trim();
+        if (!trimmed.startsWith("[") && !trimmed.startsWith("{")) {
+            return trimmed;
+        }
+        StringBuilder text = new StringBuilder();
+        int i = 0;
+        while (i < trimmed.length()) {
+            if (trimmed.charAt(i) != '"') {
+                i++;
+                continue;
+            }
+            StringBuilder value = new StringBuilder();
+            int j = i + 1;
+            while (j < trimmed.length() && trimmed.charAt(j) != '"') {
+                if (trimmed.charAt(j) == '\\' && j + 1 < trimmed.length()) {
+                    j++;
+                    value.append(trimmed.charAt(j) == 'n' || trimmed.charAt(j) == 't' ? ' ' : trimmed.charAt(j));
+                } else {
+                    value.append(trimmed.charAt(j));
+                }
+                j++;
+            }
+            int next = j + 1;
+            while (next < trimmed.length() && Character.isWhitespace(trimmed.charAt(next))) {
+                next++;
+            }
+            if (next >= trimmed.length() || trimmed.charAt(next) != ':') {
+                text.append(value).append(' ');
+            }
+            i = next;
+        }
+        return text.toString();
+    }
+
+    private static boolean isCyrillic(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.UnicodeBlock.of(word.charAt(i)) == Character.UnicodeBlock.CYRILLIC) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Optimal string alignment distance, abandoned as soon as every cell in a row exceeds {@code limit}.
+     */
+    static int editDistance(String left, String right, int limit) {
+        int[] previousPrevious = new int[right.length() + 1];
+        int[] previous = new int[right.length() + 1];
+        int[] current = new int[right.length() + 1];
+        for (int j = 0; j <= right.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= left.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= right.length(); j++) {
+                int cost = left.charAt(i - 1) == right.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+                if (i > 1 && j > 1 && left.charAt(i - 1) == right.charAt(j - 2) && left.charAt(i - 2) == right.charAt(j - 1)) {
+                    value = Math.min(value, previousPrevious[j - 2] + 1);
+                }
+                current[j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > limit) {
+                return limit + 1;
+            }
+            int[] recycled = previousPrevious;
+            previousPrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return previous[right.length()];
+    }
+
+    private record Posting(UUID productId, float weight) {
+    }
+
+    private record Document(Product product, Map<String, Float> weights, float length) {
+    }
+
+    private static final class Score implements Comparable<Score> {
+        private int matchedTerms;
+        private double value;
+
+        void add(double score) {
+            matchedTerms++;
+            value += score;
+        }
+
+        @Override
+        public int compareTo(Score other) {
+            int byMatches = Integer.compare(other.matchedTerms, matchedTerms);
+            return byMatches != 0 ? byMatches : Double.compare(other.value, value);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.catalog.service;
+
+import com.example.catalog.domain.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Full-text product search over an in-process {@link ProductSearchIndex}. The index is patched from the
+ * published snapshot after each catalogue commit; without a snapshot it is marked stale and rebuilt from
+ * {@link CatalogService#getAllProducts()} on the next query.
+ */
+@Service
+public class ProductSearchService implements CatalogChangeListener {
+
+    private final CatalogService catalogService;
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile ProductSearchIndex index;
+    private volatile boolean stale;
+
+    public ProductSearchService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    public Page<Product> search(String query, boolean includeInactive, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            return Page.empty(pageable);
+        }
+        List<Product> matches = index().search(query, includeInactive);
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+        return new PageImpl<>(matches.subList(from, to), pageable, matches.size());
+    }
+
+    @Override
+    public void afterCatalogCommit(CatalogSnapshot snapshot, Set<UUID> productIds, boolean full) {
+        lock.lock();
+        try {
+            ProductSearchIndex current = index;
+            if (current == null) {
+                return;
+            }
+            if (snapshot == null) {
+                stale = true;
+            } else if (full || stale) {
+                index = ProductSearchIndex.build(snapshot.products());
+                stale = false;
+            } else {
+                index = current.withProducts(productIds, productIds.stream()
+                        .map(snapshot::product)
+                        .flatMap(Optional::stream)
+                        .toList());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private ProductSearchIndex index() {
+        ProductSearchIndex current = index;
+        if (current != null && !stale) {
+            return current;
+        }
+        lock.lock();
+        try {
+            if (index == null || stale) {
+                index = ProductSearchIndex.build(catalogService.getAllProducts());
+                stale = false;
+            }
+            return index;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.catalog.service;
+
+/**
+ * Snowball Russian stemmer. Expects a lower-cased word with {@code ё} already folded to {@code е};
+ * words without Cyrillic vowels are returned unchanged.
+ */
+final class RussianStemmer {
+
+    private static final String VOWELS = "аеиоуыэюя";
+
+    private static final String[] PERFECTIVE_GERUND_1 = {"вшись", "вши", "в"};
+    private static final String[] PERFECTIVE_GERUND_2 = {"ившись", "ывшись", "ивши", "ывши", "ив", "ыв"};
+    private static final String[] ADJECTIVE = {
+            "ими", "ыми", "его", "ого", "ему", "ому",
+            "ее", "ие", "ые", "ое", "ей", "ий", "ый", "ой", "ем", "им", "ым", "ом",
+            "их", "ых", "ую", "юю", "ая", "яя", "ою", "ею"
+    };
+    private static final String[] PARTICIPLE_1 = {"ем", "нн", "вш", "ющ", "щ"};
+    private static final String[] PARTICIPLE_2 = {"ивш", "ывш", "ующ"};
+    private static final String[] REFLEXIVE = {"ся", "сь"};
+    private static final String[] VERB_1 = {"ете", "йте", "ешь", "нно", "ла", "на", "ли", "ем", "ло", "но", "ет", "ют", "ны", "ть", "й", "л", "н"};
+    private static final String[] VERB_2 = {
+            "ейте", "уйте", "ила", "ыла", "ена", "ите", "или", "ыли", "ило", "ыло", "ено", "ует", "уют", "ены", "ить", "ыть", "ишь",
+            "ей", "уй", "ил", "ыл", "им", "ым", "ен", "ят", "ит", "ыт", "ую", "ю"
+    };
+    private static final String[] NOUN = {
+            "иями", "ями", "ами", "ией", "иям", "ием", "иях",
+            "ев", "ов", "ие", "ье", "еи", "ии", "ей", "ой", "ий", "ям", "ем", "ам", "ом", "ах", "ях", "ию", "ью", "ия", "ья",
+            "а", "е", "и", "й", "о", "у", "ы", "ь", "ю", "я"
+    };
+    private static final String[] SUPERLATIVE = {"ейше", "ейш"};
+    private static final String[] DERIVATIONAL = {"ость", "ост"};
+
+    private RussianStemmer() {
+    }
+
+    static String stem(String word) {
+        int rv = regionAfterFirstVowel(word, 0);
+        if (rv >= word.length()) {
+            return word;
+        }
+        int r2 = regionAfterVowelConsonant(word, regionAfterVowelConsonant(word, 0));
+        String prefix = word.substring(0, rv);
+        StringBuilder region = new StringBuilder(word.substring(rv));
+
+        if (!removePreceded(region, PERFECTIVE_GERUND_1) && !remove(region, PERFECTIVE_GERUND_2)) {
+            remove(region, REFLEXIVE);
+            if (remove(region, ADJECTIVE)) {
+                if (!removePreceded(region, PARTICIPLE_1)) {
+                    remove(region, PARTICIPLE_2);
+                }
+            } else if (!removePreceded(region, VERB_1) && !remove(region, VERB_2)) {
+                remove(region, NOUN);
+            }
+        }
+
+        remove(region, new String[]{"и"});
+
+        int derivational = suffixLength(region, DERIVATIONAL);
+        if (derivational > 0 && rv + region.length() - derivational >= r2) {
+            region.setLength(region.length() - derivational);
+        }
+
+        if (endsWith(region, "нн")) {
+            region.setLength(region.length() - 1);
+        } else if (remove(region, SUPERLATIVE)) {
+            if (endsWith(region, "нн")) {
+                region.setLength(region.length() - 1);
+            }
+        } else if (endsWith(region, "ь")) {
+            region.setLength(region.length() - 1);
+        }
+        return prefix + region;
+    }
+
+    private static boolean remove(StringBuilder region, String[] suffixes) {
+        int length = suffixLength(region, suffixes);
+        if (length == 0) {
+            return false;
+        }
+        region.setLength(region.length() - length);
+        return true;
+    }
+
+    /**
+     * Group-one endings only count when preceded by {@code а} or {@code я}, which stays in the stem.
+     */
+    private static boolean removePreceded(StringBuilder region, String[] suffixes) {
+        for (String suffix : suffixes) {
+            int start = region.length() - suffix.length();
+            if (start > 0 && endsWith(region, suffix)) {
+                char preceding = region.charAt(start - 1);
+                if (preceding == 'а' || preceding == 'я') {
+                    region.setLength(start);
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int suffixLength(CharSequence region, String[] suffixes) {
+        for (String suffix : suffixes) {
+            if (endsWith(region, suffix)) {
+                return suffix.length();
+            }
+        }
+        return 0;
+    }
+
+    private static boolean endsWith(CharSequence text, String suffix) {
+        int offset = text.length() - suffix.length();
+        if (offset < 0) {
+            return false;
+        }
+        for (int i = 0; i < suffix.length(); i++) {
+            if (text.charAt(offset + i) != suffix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int regionAfterFirstVowel(String word, int from) {
+        for (int i = from; i < word.length(); i++) {
+            if (isVowel(word.charAt(i))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private static int regionAfterVowelConsonant(String word, int from) {
+        for (int i = Math.max(from, 1); i < word.length(); i++) {
+            if (!isVowel(word.charAt(i)) && isVowel(word.charAt(i - 1))) {
+                return i + 1;
+            }
+        }
+        return word.length();
+    }
+
+    private static boolean isVowel(char ch) {
+        return VOWELS.indexOf(ch) >= 0;
+    }
+}
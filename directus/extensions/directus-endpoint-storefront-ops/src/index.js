@@ -8,6 +8,7 @@ import {
 } from '../../storefront-ops-access-policy.js';
 
 const BODY_METHODS = new Set(['POST', 'PUT', 'PATCH', 'DELETE']);
+const FORWARDED_RESPONSE_HEADERS = ['X-Next-Cursor', 'X-Page', 'X-Page-Size', 'X-Total-Count', 'X-Total-Pages'];
 
 function normalizeBaseUrl(value) {
   return typeof value === 'string' ? value.replace(/\/+$/, '') : '';
@@ -180,6 +181,12 @@ async function forwardJson(req, res, context, targetPath, namespace = 'catalogue
   if (contentType) {
     res.setHeader('Content-Type', contentType);
   }
+  FORWARDED_RESPONSE_HEADERS.forEach((name) => {
+    const value = response.headers.get(name);
+    if (value !== null) {
+      res.setHeader(name, value);
+    }
+  });
   res.send(payload);
 }
 
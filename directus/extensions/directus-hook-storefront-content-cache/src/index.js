@@ -0,0 +1,29 @@
+import {
+  collectOverlayInvalidations,
+  isOverlayCollection,
+  sendInvalidation,
+  toInvalidationRequests,
+} from './overlay-invalidation.js';
+
+export default ({ action }, { env, logger, database }) => {
+  ['create', 'update', 'delete'].forEach((event) => {
+    action(`items.${event}`, async (meta, eventContext) => {
+      const collection = meta?.collection;
+      if (!isOverlayCollection(collection)) {
+        return;
+      }
+
+      try {
+        const keys = event === 'create' ? [meta.key] : meta.keys || [];
+        const targets = await collectOverlayInvalidations(
+          { event, collection, keys, payload: event === 'delete' ? {} : meta.payload },
+          eventContext?.database || database
+        );
+        const accountability = eventContext?.accountability;
+        await Promise.all(toInvalidationRequests(targets).map((request) => sendInvalidation(env, accountability, request)));
+      } catch (error) {
+        logger.warn(`Storefront overlay cache invalidation after ${collection} ${event} failed: ${error instanceof Error ? error.message : error}`);
+      }
+    });
+  });
+};
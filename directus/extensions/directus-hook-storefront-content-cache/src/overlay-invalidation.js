@@ -0,0 +1,145 @@
+const OVERLAY_COLLECTIONS = {
+  product_overlay: { scope: 'product_overlay', keyField: 'product_key' },
+  category_overlay: { scope: 'category_overlay', keyField: 'category_key' },
+};
+const OWNER_KIND_SCOPES = {
+  product: 'product_overlay',
+  category: 'category_overlay',
+};
+const BLOCK_COLLECTION = 'catalogue_overlay_block';
+const BLOCK_ITEM_COLLECTION = 'catalogue_overlay_block_item';
+const ALL_OVERLAY_SCOPES = [{ scope: 'product_overlay' }, { scope: 'category_overlay' }];
+
+// Bulk edits above this many keys clear the whole scope instead of sending one request per key.
+export const MAX_KEYED_INVALIDATIONS = 20;
+
+export function isOverlayCollection(collection) {
+  return Boolean(OVERLAY_COLLECTIONS[collection]) || collection === BLOCK_COLLECTION || collection === BLOCK_ITEM_COLLECTION;
+}
+
+function normalizeBaseUrl(value) {
+  return typeof value === 'string' ? value.replace(/\/+$/, '') : '';
+}
+
+function normalizeKey(value) {
+  return typeof value === 'string' ? value.trim().toLowerCase() : '';
+}
+
+function touches(payload, ...fields) {
+  return Boolean(payload) && fields.some((field) => Object.prototype.hasOwnProperty.call(payload, field));
+}
+
+function ownerTargets(blocks) {
+  return blocks
+    .map((block) => ({ scope: OWNER_KIND_SCOPES[normalizeKey(block?.owner_kind)], key: normalizeKey(block?.owner_key) }))
+    .filter((target) => target.scope && target.key);
+}
+
+async function loadBlocks(database, blockIds) {
+  const ids = blockIds.filter((id) => id !== null && id !== undefined && id !== '');
+  if (!ids.length) {
+    return [];
+  }
+  return database(BLOCK_COLLECTION).select('owner_kind', 'owner_key').whereIn('id', ids);
+}
+
+/**
+ * Cache entries a write to an overlay collection makes stale. Deletes and edits that move an item to another
+ * entity clear the whole scope, since the previous key is no longer readable once the action runs.
+ */
+export async function collectOverlayInvalidations({ event, collection, keys = [], payload = {} }, database) {
+  const overlay = OVERLAY_COLLECTIONS[collection];
+  if (overlay) {
+    if (event === 'create') {
+      const key = normalizeKey(payload?.[overlay.keyField]);
+      return key ? [{ scope: overlay.scope, key }] : [];
+    }
+    if (event === 'delete' || touches(payload, overlay.keyField)) {
+      return [{ scope: overlay.scope }];
+    }
+    const rows = await database(collection).select(overlay.keyField).whereIn('id', keys);
+    return rows
+      .map((row) => ({ scope: overlay.scope, key: normalizeKey(row?.[overlay.keyField]) }))
+      .filter((target) => target.key);
+  }
+
+  if (collection === BLOCK_COLLECTION) {
+    if (event === 'create') {
+      return ownerTargets([payload]);
+    }
+    if (event === 'delete' || touches(payload, 'owner_kind', 'owner_key')) {
+      return ALL_OVERLAY_SCOPES;
+    }
+    return ownerTargets(await loadBlocks(database, keys));
+  }
+
+  if (collection === BLOCK_ITEM_COLLECTION) {
+    if (event === 'create') {
+      return ownerTargets(await loadBlocks(database, [payload?.overlay_block]));
+    }
+    if (event === 'delete' || touches(payload, 'overlay_block')) {
+      return ALL_OVERLAY_SCOPES;
+    }
+    const items = await database(BLOCK_ITEM_COLLECTION).select('overlay_block').whereIn('id', keys);
+    return ownerTargets(await loadBlocks(database, [...new Set(items.map((item) => item?.overlay_block))]));
+  }
+
+  return [];
+}
+
+/**
+ * One request per scope and key; a scope with a key-less target or too many keys is cleared as a whole.
+ */
+export function toInvalidationRequests(targets) {
+  const keysByScope = new Map();
+  targets.forEach(({ scope, key }) => {
+    if (!keysByScope.has(scope)) {
+      keysByScope.set(scope, new Set());
+    }
+    const keys = keysByScope.get(scope);
+    if (keys === null) {
+      return;
+    }
+    if (!key) {
+      keysByScope.set(scope, null);
+      return;
+    }
+    keys.add(key);
+  });
+
+  const requests = [];
+  keysByScope.forEach((keys, scope) => {
+    if (keys === null || keys.size > MAX_KEYED_INVALIDATIONS) {
+      requests.push({ scope });
+      return;
+    }
+    keys.forEach((key) => requests.push({ scope, key }));
+  });
+  return requests;
+}
+
+export async function sendInvalidation(env, accountability, request, fetchImpl = fetch) {
+  const backendBaseUrl = normalizeBaseUrl(env.STOREFRONT_OPS_BACKEND_URL);
+  const backendToken = env.STOREFRONT_OPS_BACKEND_TOKEN || '';
+  if (!backendBaseUrl || !backendToken) {
+    throw new Error('STOREFRONT_OPS_BACKEND_URL and STOREFRONT_OPS_BACKEND_TOKEN are required to invalidate overlay caches.');
+  }
+
+  // Saves made by Directus itself (flows, imports, scheduled publishing) carry no user.
+  const user = accountability?.user ? String(accountability.user) : 'directus';
+  const role = !accountability?.user || accountability?.admin ? 'admin' : String(accountability.role || '');
+  const response = await fetchImpl(`${backendBaseUrl}/internal/directus/admin/content/cache/invalidate`, {
+    method: 'POST',
+    headers: {
+      'Content-Type': 'application/json',
+      'X-Directus-Bridge-Token': backendToken,
+      'X-Directus-User-Id': user,
+      'X-Directus-User-Role': role,
+      'X-Directus-User-Roles': role,
+    },
+    body: JSON.stringify(request),
+  });
+  if (!response.ok) {
+    throw new Error(`Backend answered ${response.status} for ${request.scope}${request.key ? ` ${request.key}` : ''}`);
+  }
+}
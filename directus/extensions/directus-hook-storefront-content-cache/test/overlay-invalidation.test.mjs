@@ -0,0 +1,121 @@
+import test from 'node:test';
+import assert from 'node:assert/strict';
+
+import {
+  MAX_KEYED_INVALIDATIONS,
+  collectOverlayInvalidations,
+  sendInvalidation,
+  toInvalidationRequests,
+} from '../src/overlay-invalidation.js';
+
+function fakeDatabase(tables) {
+  return (table) => {
+    let columns = [];
+    return {
+      select(...selected) {
+        columns = selected;
+        return this;
+      },
+      async whereIn(column, values) {
+        return (tables[table] || [])
+          .filter((row) => values.map(String).includes(String(row[column])))
+          .map((row) => Object.fromEntries(columns.map((name) => [name, row[name]])));
+      },
+    };
+  };
+}
+
+const database = fakeDatabase({
+  product_overlay: [{ id: 1, product_key: 'Linen-Sheet' }],
+  catalogue_overlay_block: [
+    { id: 10, owner_kind: 'category', owner_key: 'bedroom' },
+    { id: 11, owner_kind: 'product', owner_key: 'linen-sheet' },
+  ],
+  catalogue_overlay_block_item: [{ id: 100, overlay_block: 10 }],
+});
+
+test('overlay saves invalidate the edited entity key', async () => {
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'create', collection: 'category_overlay', payload: { category_key: ' Bedroom ' } }, database),
+    [{ scope: 'category_overlay', key: 'bedroom' }]
+  );
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'update', collection: 'product_overlay', keys: [1], payload: { status: 'published' } }, database),
+    [{ scope: 'product_overlay', key: 'linen-sheet' }]
+  );
+});
+
+test('re-keyed or deleted overlays clear the whole scope', async () => {
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'update', collection: 'product_overlay', keys: [1], payload: { product_key: 'duvet' } }, database),
+    [{ scope: 'product_overlay' }]
+  );
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'delete', collection: 'category_overlay', keys: [2] }, database),
+    [{ scope: 'category_overlay' }]
+  );
+});
+
+test('block and block item saves invalidate the owning overlay', async () => {
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'update', collection: 'catalogue_overlay_block', keys: [11], payload: { title: 'New' } }, database),
+    [{ scope: 'product_overlay', key: 'linen-sheet' }]
+  );
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'create', collection: 'catalogue_overlay_block_item', payload: { overlay_block: 10 } }, database),
+    [{ scope: 'category_overlay', key: 'bedroom' }]
+  );
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'update', collection: 'catalogue_overlay_block_item', keys: [100], payload: { title: 'x' } }, database),
+    [{ scope: 'category_overlay', key: 'bedroom' }]
+  );
+  assert.deepEqual(
+    await collectOverlayInvalidations({ event: 'delete', collection: 'catalogue_overlay_block', keys: [10] }, database),
+    [{ scope: 'product_overlay' }, { scope: 'category_overlay' }]
+  );
+});
+
+test('requests are deduplicated and bulk edits fall back to the whole scope', () => {
+  assert.deepEqual(
+    toInvalidationRequests([
+      { scope: 'product_overlay', key: 'a' },
+      { scope: 'product_overlay', key: 'a' },
+      { scope: 'category_overlay', key: 'b' },
+      { scope: 'category_overlay' },
+    ]),
+    [{ scope: 'product_overlay', key: 'a' }, { scope: 'category_overlay' }]
+  );
+
+  const bulk = Array.from({ length: MAX_KEYED_INVALIDATIONS + 1 }, (_, index) => ({ scope: 'product_overlay', key: `p${index}` }));
+  assert.deepEqual(toInvalidationRequests(bulk), [{ scope: 'product_overlay' }]);
+});
+
+test('invalidations go through the backend admin bridge', async () => {
+  const calls = [];
+  const fetchImpl = async (url, options) => {
+    calls.push({ url, options });
+    return { ok: true, status: 200 };
+  };
+
+  await sendInvalidation(
+    { STOREFRONT_OPS_BACKEND_URL: 'http://api:8080/', STOREFRONT_OPS_BACKEND_TOKEN: 'bridge-token' },
+    { user: 'user-1', role: 'content-role' },
+    { scope: 'product_overlay', key: 'linen-sheet' },
+    fetchImpl
+  );
+
+  assert.equal(calls[0].url, 'http://api:8080/internal/directus/admin/content/cache/invalidate');
+  assert.equal(calls[0].options.headers['X-Directus-Bridge-Token'], 'bridge-token');
+  assert.equal(calls[0].options.headers['X-Directus-User-Role'], 'content-role');
+  assert.deepEqual(JSON.parse(calls[0].options.body), { scope: 'product_overlay', key: 'linen-sheet' });
+
+  await assert.rejects(
+    sendInvalidation(
+      { STOREFRONT_OPS_BACKEND_URL: 'http://api:8080', STOREFRONT_OPS_BACKEND_TOKEN: 'bridge-token' },
+      null,
+      { scope: 'category_overlay' },
+      async () => ({ ok: false, status: 403 })
+    ),
+    /403 for category_overlay/
+  );
+});
@@ -1,15 +1,28 @@
 export function createStorefrontOpsApi(api) {
-  async function bridgeRequest(path, options = {}) {
-    const response = await api.request({
+  function sendBridgeRequest(path, options = {}) {
+    return api.request({
       url: `/storefront-ops-bridge${path}`,
       method: options.method || 'GET',
       params: options.params,
       data: options.data,
       headers: options.headers,
     });
+  }
+
+  async function bridgeRequest(path, options = {}) {
+    const response = await sendBridgeRequest(path, options);
     return response.data;
   }
 
+  async function bridgePage(path, options = {}) {
+    const response = await sendBridgeRequest(path, options);
+    const total = Number.parseInt(response.headers?.['x-total-count'] ?? '', 10);
+    return {
+      data: response.data,
+      total: Number.isFinite(total) ? total : null,
+    };
+  }
+
   async function directusRequest(path, options = {}) {
     const response = await api.request({
       url: path,
@@ -21,6 +34,7 @@ export function createStorefrontOpsApi(api) {
   }
 
   return {
+    bridgePage,
     bridgeRequest,
     directusRequest,
   };
@@ -38,10 +38,12 @@ import { buildStorefrontPreviewUrl } from '../../../storefront-ops-preview.js';
 
 const STOREFRONT_OPS_BODY_CLASS = 'storefront-ops-view';
 const STOREFRONT_OPS_ROOT_CLASS = 'storefront-ops-view-root';
+const INVENTORY_PAGE_SIZE = 500;
+const INVENTORY_SEARCH_DELAY_MS = 300;
 
 export function useStorefrontOpsWorkspace(tabComponents) {
   const api = useApi();
-  const { bridgeRequest, directusRequest } = createStorefrontOpsApi(api);
+  const { bridgePage, bridgeRequest, directusRequest } = createStorefrontOpsApi(api);
   const mediaUploadClient = createMediaUploadClient({ bridgeRequest });
 
   const tabs = STOREFRONT_OPS_TABS;
@@ -144,6 +146,9 @@ export function useStorefrontOpsWorkspace(tabComponents) {
     { value: 'alphabetical', label: 'По алфавиту' },
     { value: 'price_asc', label: 'Цена ↑' },
     { value: 'price_desc', label: 'Цена ↓' },
+    { value: 'bestsellers_7d', label: 'Хиты за 7 дней' },
+    { value: 'bestsellers_30d', label: 'Хиты за 30 дней' },
+    { value: 'bestsellers_90d', label: 'Хиты за 90 дней' },
   ];
   const HOME_SECTION_TYPE_LABELS = {
     hero: 'Первый экран',
@@ -298,6 +303,8 @@ export function useStorefrontOpsWorkspace(tabComponents) {
     busy: false,
   });
   let mediaPollTimer = null;
+  let inventorySearchTimer = null;
+  let inventoryLoadToken = 0;
 
   const categoryForm = reactive({
     id: '',
@@ -651,14 +658,8 @@ export function useStorefrontOpsWorkspace(tabComponents) {
     (item) => item.slug,
   ]));
 
-  const filteredInventory = computed(() => filterCollection(inventoryState.items, inventoryState.query, [
-    (item) => item.productName,
-    (item) => item.productSlug,
-    (item) => item.variantName,
-    (item) => item.sku,
-    (item) => item.brand?.name,
-    (item) => item.brand?.slug,
-  ]));
+  // The backend already applies inventoryState.query, see loadInventory().
+  const filteredInventory = computed(() => inventoryState.items);
 
   const filteredProductCategoryOptions = computed(() => {
     if (!productCategoryFilter.value) {
@@ -2581,25 +2582,58 @@ export function useStorefrontOpsWorkspace(tabComponents) {
   }
 
   async function loadInventory() {
+    const token = ++inventoryLoadToken;
+    const query = inventoryState.query;
     loading.inventory = true;
     try {
-      const response = await bridgeRequest('/workspace/inventory');
-      inventoryState.items = response.items || [];
+      // /workspace/inventory returns at most INVENTORY_PAGE_SIZE rows, so follow X-Total-Count.
+      const items = [];
+      let total = null;
+      do {
+        const page = await bridgePage('/workspace/inventory', {
+          params: {
+            q: query || undefined,
+            limit: INVENTORY_PAGE_SIZE,
+            offset: items.length,
+          },
+        });
+        const pageItems = page.data?.items || [];
+        items.push(...pageItems);
+        total = pageItems.length ? page.total : items.length;
+      } while (token === inventoryLoadToken && total !== null && items.length < total);
+      if (token !== inventoryLoadToken) {
+        return;
+      }
+      inventoryState.items = items;
       inventoryState.loaded = true;
-      if (inventoryState.selectedVariantId) {
-        const exists = inventoryState.items.some((item) => item.variantId === inventoryState.selectedVariantId);
+      if (inventoryState.selectedVariantId && !query) {
+        const exists = items.some((item) => item.variantId === inventoryState.selectedVariantId);
         if (!exists) {
           inventoryState.selectedVariantId = '';
           resetInventoryEditor({ silent: true });
         }
       }
     } catch (error) {
-      setError(error);
+      if (token === inventoryLoadToken) {
+        setError(error);
+      }
     } finally {
-      loading.inventory = false;
+      if (token === inventoryLoadToken) {
+        loading.inventory = false;
+      }
     }
   }
 
+  function scheduleInventorySearch() {
+    if (inventorySearchTimer) {
+      window.clearTimeout(inventorySearchTimer);
+    }
+    inventorySearchTimer = window.setTimeout(() => {
+      inventorySearchTimer = null;
+      loadInventory();
+    }, INVENTORY_SEARCH_DELAY_MS);
+  }
+
   async function loadNavigationSummary() {
     try {
       const summary = await bridgeRequest('/workspace/summary');
@@ -4861,6 +4895,15 @@ export function useStorefrontOpsWorkspace(tabComponents) {
     event.returnValue = '';
   }
 
+  watch(
+    () => inventoryState.query,
+    () => {
+      if (inventoryState.loaded || loading.inventory) {
+        scheduleInventorySearch();
+      }
+    }
+  );
+
   watch(
     () => [activeTab.value, productState.selectedId, categoryState.selectedId, brandState.selectedId, inventoryState.selectedVariantId, productState.panel],
     () => {
@@ -4886,6 +4929,10 @@ export function useStorefrontOpsWorkspace(tabComponents) {
       window.clearTimeout(mediaPollTimer);
       mediaPollTimer = null;
     }
+    if (inventorySearchTimer) {
+      window.clearTimeout(inventorySearchTimer);
+      inventorySearchTimer = null;
+    }
     navigationTarget.value = '';
     document.documentElement.classList.remove(STOREFRONT_OPS_ROOT_CLASS);
     document.body.classList.remove(STOREFRONT_OPS_BODY_CLASS);
@@ -1 +1 @@
-const e={admin:["admin","administrator","администратор","администратор cms","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001"],catalogue:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004"],inventory:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"],manager:["manager","менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10006"],picker:["picker","сборщик","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10007"],content:["content_manager","content-manager","контент-менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10008","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10002","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"]};function t(e){return String(e||"").trim().toLowerCase()}function n(t,n,r){const a=(i=t?.[n],String(i||"").split(",").map(e=>e.trim()).filter(Boolean));var i;return a.length?a:e[r]||[]}function r(e={}){return{admin:new Set(n(e,"STOREFRONT_OPS_ADMIN_ROLE_IDS","admin")),catalogue:new Set(n(e,"STOREFRONT_OPS_CATALOGUE_ROLE_IDS","catalogue")),inventory:new Set(n(e,"STOREFRONT_OPS_INVENTORY_ROLE_IDS","inventory")),manager:new Set(n(e,"STOREFRONT_OPS_MANAGER_ROLE_IDS","manager")),picker:new Set(n(e,"STOREFRONT_OPS_PICKER_ROLE_IDS","picker")),content:new Set(n(e,"STOREFRONT_OPS_CONTENT_ROLE_IDS","content"))}}function a(e,...n){if(!e||0===e.size)return!1;const r=new Set([...e].map(e=>t(e)));return n.map(e=>t(e)).filter(Boolean).some(e=>r.has(e))}function i(e,t){const n=Array.isArray(t)?t:[];return n.every(e=>!e||0===e.size)?Boolean(e?.user):n.some(t=>function(e,t){return e?.admin?Boolean(e?.user):t&&0!==t.size?Boolean(e?.role&&t.has(String(e.role))):Boolean(e?.user)}(e,t))}function s(e,t,n=""){return function(e={},t=null){if(["admin","manager","picker","content"].includes(e.roleKind))return e.roleKind;const n=t||r(),i=[e.roleId,e.roleName,e.primaryRole,e.roles];return e.roleAdminAccess||a(n.admin,...i)?"admin":a(n.manager,...i)?"manager":a(n.picker,...i)?"picker":a(n.content,...i)?"content":"unknown"}({roleId:e?.role?String(e.role):"",roleName:n,roleAdminAccess:Boolean(e?.admin)},t)}function o(e){return["POST","PUT","PATCH","DELETE"].includes(String(e||"").toUpperCase())}function c(e,t,n="GET"){return"/admin/promotions/active"===e||e.startsWith("/admin/promotions/active/")?[t.admin,t.manager,t.picker,t.content]:function(e,t){const n=String(e||""),r=String(t||"").toUpperCase();return!!n.startsWith("/admin/orders/")&&("DELETE"===r||/\/admin\/orders\/[^/]+\/(?:restore|unclaim|refunds)(?:\/|$)/.test(n))}(e,n)?[t.admin]:e.startsWith("/admin/orders")?[t.admin,t.manager,t.picker]:e.startsWith("/admin/rma-requests")||e.startsWith("/admin/analytics")?[t.admin,t.manager]:e.startsWith("/admin/tax-settings")?[t.admin]:e.startsWith("/admin/content/cache")||e.startsWith("/admin/content/publish-check")||e.startsWith("/admin/imports")||e.startsWith("/admin/promotions")||e.startsWith("/admin/promo-codes")||e.startsWith("/admin/alerts")?[t.admin,t.content]:[t.admin]}const d=new Set(["POST","PUT","PATCH","DELETE"]);function u(e){return"string"==typeof e?e.replace(/\/+$/,""):""}function l(e){const t=e?.user;return t?"object"==typeof t?t.id?String(t.id):"":String(t):""}async function m(e,t){const n=e?.user;if(n&&"object"==typeof n)return{email:n.email||"",externalId:n.external_identifier||n.externalIdentifier||""};if(!n||!t?.database)return{email:"",externalId:""};try{const e=await t.database("directus_users").select("email","external_identifier").where({id:String(n)}).first();return{email:e?.email||"",externalId:e?.external_identifier||""}}catch{return{email:"",externalId:""}}}async function f(e,t,n,r){if(!e.accountability?.user)return void t.status(401).json({error:"Требуется авторизация."});const a=await m(e.accountability,n),i=await async function(e,t){const n=e?.role?String(e.role):"";if(!n||!t?.database)return{id:n,name:""};try{const e=await t.database("directus_roles").select("id","name").where({id:n}).first();return{id:e?.id||n,name:e?.name||""}}catch{return{id:n,name:""}}}(e.accountability,n),o=s(e.accountability,r,i.name),c=u((d=n.env).STOREFRONT_OPS_PREVIEW_BASE_URL||d.STOREFRONT_PUBLIC_URL||"");var d;t.json({data:{id:l(e.accountability),email:a.email,external_identifier:a.externalId,roleKind:o,role:{id:i.id,name:i.name,admin_access:Boolean(e.accountability?.admin),kind:o},preview:{baseUrl:c}}})}async function S(e,t,n,r,a="catalogue"){const{env:i}=n,s=e.accountability,o=u(i.STOREFRONT_OPS_BACKEND_URL),c=i.STOREFRONT_OPS_BACKEND_TOKEN||"";if(!o||!c)return void t.status(500).json({error:"Bridge для управления витриной не настроен. Укажите STOREFRONT_OPS_BACKEND_URL и STOREFRONT_OPS_BACKEND_TOKEN."});const f=await m(s,n),S=new URL(`${o}/internal/directus/${a}${r}`);Object.entries(e.query||{}).forEach(([e,t])=>{Array.isArray(t)?t.forEach(t=>S.searchParams.append(e,t)):null!=t&&S.searchParams.set(e,t)});const y=new Headers({"X-Directus-Bridge-Token":c,"X-Directus-User-Id":l(s),"X-Directus-User-Email":f.email,"X-Directus-User-External-Id":f.externalId,"X-Directus-User-Role":s?.role?String(s.role):"","X-Directus-User-Roles":s?.role?String(s.role):""});s?.admin&&s?.user&&y.set("X-Directus-User-Role","admin"),e.accountability?.admin&&y.set("X-Directus-User-Roles","admin");const p=String(e.method||"").toUpperCase(),g=String(e.headers["content-type"]||""),O={method:e.method,headers:y};d.has(p)&&(g.includes("multipart/form-data")?(y.set("Content-Type",g),O.body=e,O.duplex="half"):g.includes("application/json")||!g?(y.set("Content-Type","application/json"),O.body=JSON.stringify(e.body??{})):void 0!==e.body&&null!==e.body&&(y.set("Content-Type",g),O.body=e.body));const _=await fetch(S,O),E=_.headers.get("content-type")||"",h=E.includes("application/json")?await _.json():Buffer.from(await _.arrayBuffer());t.status(_.status),E&&t.setHeader("Content-Type",E),t.send(h)}var y={id:"storefront-ops-bridge",handler:(e,t)=>{const n=r(t.env);e.get("/health",(e,t)=>{t.json({status:"ok"})}),e.get("/access-profile",async(e,r)=>{try{await f(e,r,t,n)}catch(e){r.status(500).json({error:e instanceof Error?e.message:"Не удалось определить профиль доступа Directus."})}}),e.all("/*",async(e,r)=>{if(!e.accountability?.user)return void r.status(401).json({error:"Требуется авторизация."});const a=String(e.path||""),s="/admin"===a||a.startsWith("/admin/"),d=s?a.replace(/^\/admin/,"")||"/":a,u=s?c(a,n,e.method):[];if(s&&!i(e.accountability,u))return void r.status(403).json({error:"У этой роли Directus нет доступа к административному разделу витрины."});if(s){try{await S(e,r,t,d,"admin")}catch(e){r.status(502).json({error:e instanceof Error?e.message:"Не удалось обратиться к административному bridge в бэкенде."})}return}const l=function(e){const t=String(e||"");return t.includes("/inventory/")||/\/products\/[^/]+\/variants(?:\/|$)/.test(t)}(a),m=l?[n.admin,n.inventory,n.content]:[n.admin,n.catalogue,n.content];if(!o(e.method)||i(e.accountability,m))if(o(e.method)||i(e.accountability,m))try{await S(e,r,t,a,"catalogue")}catch(e){r.status(502).json({error:e instanceof Error?e.message:"Не удалось обратиться к bridge каталога в бэкенде."})}else r.status(403).json({error:"У этой роли Directus нет доступа к операциям управления витриной."});else r.status(403).json({error:"У этой роли Directus нет прав на управление данным разделом каталога."})})}};export{y as default};
+const e={admin:["admin","administrator","администратор","администратор cms","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001"],catalogue:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004"],inventory:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"],manager:["manager","менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10006"],picker:["picker","сборщик","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10007"],content:["content_manager","content-manager","контент-менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10008","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10002","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"]};function t(e){return String(e||"").trim().toLowerCase()}function n(t,n,r){const a=(i=t?.[n],String(i||"").split(",").map(e=>e.trim()).filter(Boolean));var i;return a.length?a:e[r]||[]}function r(e={}){return{admin:new Set(n(e,"STOREFRONT_OPS_ADMIN_ROLE_IDS","admin")),catalogue:new Set(n(e,"STOREFRONT_OPS_CATALOGUE_ROLE_IDS","catalogue")),inventory:new Set(n(e,"STOREFRONT_OPS_INVENTORY_ROLE_IDS","inventory")),manager:new Set(n(e,"STOREFRONT_OPS_MANAGER_ROLE_IDS","manager")),picker:new Set(n(e,"STOREFRONT_OPS_PICKER_ROLE_IDS","picker")),content:new Set(n(e,"STOREFRONT_OPS_CONTENT_ROLE_IDS","content"))}}function a(e,...n){if(!e||0===e.size)return!1;const r=new Set([...e].map(e=>t(e)));return n.map(e=>t(e)).filter(Boolean).some(e=>r.has(e))}function i(e,t){const n=Array.isArray(t)?t:[];return n.every(e=>!e||0===e.size)?Boolean(e?.user):n.some(t=>function(e,t){return e?.admin?Boolean(e?.user):t&&0!==t.size?Boolean(e?.role&&t.has(String(e.role))):Boolean(e?.user)}(e,t))}function s(e,t,n=""){return function(e={},t=null){if(["admin","manager","picker","content"].includes(e.roleKind))return e.roleKind;const n=t||r(),i=[e.roleId,e.roleName,e.primaryRole,e.roles];return e.roleAdminAccess||a(n.admin,...i)?"admin":a(n.manager,...i)?"manager":a(n.picker,...i)?"picker":a(n.content,...i)?"content":"unknown"}({roleId:e?.role?String(e.role):"",roleName:n,roleAdminAccess:Boolean(e?.admin)},t)}function o(e){return["POST","PUT","PATCH","DELETE"].includes(String(e||"").toUpperCase())}function c(e,t,n="GET"){return"/admin/promotions/active"===e||e.startsWith("/admin/promotions/active/")?[t.admin,t.manager,t.picker,t.content]:function(e,t){const n=String(e||""),r=String(t||"").toUpperCase();return!!n.startsWith("/admin/orders/")&&("DELETE"===r||/\/admin\/orders\/[^/]+\/(?:restore|unclaim|refunds)(?:\/|$)/.test(n))}(e,n)?[t.admin]:e.startsWith("/admin/orders")?[t.admin,t.manager,t.picker]:e.startsWith("/admin/rma-requests")||e.startsWith("/admin/analytics")?[t.admin,t.manager]:e.startsWith("/admin/tax-settings")?[t.admin]:e.startsWith("/admin/content/cache")||e.startsWith("/admin/content/publish-check")||e.startsWith("/admin/imports")||e.startsWith("/admin/promotions")||e.startsWith("/admin/promo-codes")||e.startsWith("/admin/alerts")?[t.admin,t.content]:[t.admin]}const d=new Set(["POST","PUT","PATCH","DELETE"]),$h=["X-Next-Cursor","X-Page","X-Page-Size","X-Total-Count","X-Total-Pages"];function u(e){return"string"==typeof e?e.replace(/\/+$/,""):""}function l(e){const t=e?.user;return t?"object"==typeof t?t.id?String(t.id):"":String(t):""}async function m(e,t){const n=e?.user;if(n&&"object"==typeof n)return{email:n.email||"",externalId:n.external_identifier||n.externalIdentifier||""};if(!n||!t?.database)return{email:"",externalId:""};try{const e=await t.database("directus_users").select("email","external_identifier").where({id:String(n)}).first();return{email:e?.email||"",externalId:e?.external_identifier||""}}catch{return{email:"",externalId:""}}}async function f(e,t,n,r){if(!e.accountability?.user)return void t.status(401).json({error:"Требуется авторизация."});const a=await m(e.accountability,n),i=await async function(e,t){const n=e?.role?String(e.role):"";if(!n||!t?.database)return{id:n,name:""};try{const e=await t.database("directus_roles").select("id","name").where({id:n}).first();return{id:e?.id||n,name:e?.name||""}}catch{return{id:n,name:""}}}(e.accountability,n),o=s(e.accountability,r,i.name),c=u((d=n.env).STOREFRONT_OPS_PREVIEW_BASE_URL||d.STOREFRONT_PUBLIC_URL||"");var d;t.json({data:{id:l(e.accountability),email:a.email,external_identifier:a.externalId,roleKind:o,role:{id:i.id,name:i.name,admin_access:Boolean(e.accountability?.admin),kind:o},preview:{baseUrl:c}}})}async function S(e,t,n,r,a="catalogue"){const{env:i}=n,s=e.accountability,o=u(i.STOREFRONT_OPS_BACKEND_URL),c=i.STOREFRONT_OPS_BACKEND_TOKEN||"";if(!o||!c)return void t.status(500).json({error:"Bridge для управления витриной не настроен. Укажите STOREFRONT_OPS_BACKEND_URL и STOREFRONT_OPS_BACKEND_TOKEN."});const f=await m(s,n),S=new URL(`${o}/internal/directus/${a}${r}`);Object.entries(e.query||{}).forEach(([e,t])=>{Array.isArray(t)?t.forEach(t=>S.searchParams.append(e,t)):null!=t&&S.searchParams.set(e,t)});const y=new Headers({"X-Directus-Bridge-Token":c,"X-Directus-User-Id":l(s),"X-Directus-User-Email":f.email,"X-Directus-User-External-Id":f.externalId,"X-Directus-User-Role":s?.role?String(s.role):"","X-Directus-User-Roles":s?.role?String(s.role):""});s?.admin&&s?.user&&y.set("X-Directus-User-Role","admin"),e.accountability?.admin&&y.set("X-Directus-User-Roles","admin");const p=String(e.method||"").toUpperCase(),g=String(e.headers["content-type"]||""),O={method:e.method,headers:y};d.has(p)&&(g.includes("multipart/form-data")?(y.set("Content-Type",g),O.body=e,O.duplex="half"):g.includes("application/json")||!g?(y.set("Content-Type","application/json"),O.body=JSON.stringify(e.body??{})):void 0!==e.body&&null!==e.body&&(y.set("Content-Type",g),O.body=e.body));const _=await fetch(S,O),E=_.headers.get("content-type")||"",h=E.includes("application/json")?await _.json():Buffer.from(await _.arrayBuffer());t.status(_.status),E&&t.setHeader("Content-Type",E),$h.forEach(e=>{const n=_.headers.get(e);null!==n&&t.setHeader(e,n)}),t.send(h)}var y={id:"storefront-ops-bridge",handler:(e,t)=>{const n=r(t.env);e.get("/health",(e,t)=>{t.json({status:"ok"})}),e.get("/access-profile",async(e,r)=>{try{await f(e,r,t,n)}catch(e){r.status(500).json({error:e instanceof Error?e.message:"Не удалось определить профиль доступа Directus."})}}),e.all("/*",async(e,r)=>{if(!e.accountability?.user)return void r.status(401).json({error:"Требуется авторизация."});const a=String(e.path||""),s="/admin"===a||a.startsWith("/admin/"),d=s?a.replace(/^\/admin/,"")||"/":a,u=s?c(a,n,e.method):[];if(s&&!i(e.accountability,u))return void r.status(403).json({error:"У этой роли Directus нет доступа к административному разделу витрины."});if(s){try{await S(e,r,t,d,"admin")}catch(e){r.status(502).json({error:e instanceof Error?e.message:"Не удалось обратиться к административному bridge в бэкенде."})}return}const l=function(e){const t=String(e||"");return t.includes("/inventory/")||/\/products\/[^/]+\/variants(?:\/|$)/.test(t)}(a),m=l?[n.admin,n.inventory,n.content]:[n.admin,n.catalogue,n.content];if(!o(e.method)||i(e.accountability,m))if(o(e.method)||i(e.accountability,m))try{await S(e,r,t,a,"catalogue")}catch(e){r.status(502).json({error:e instanceof Error?e.message:"Не удалось обратиться к bridge каталога в бэкенде."})}else r.status(403).json({error:"У этой роли Directus нет доступа к операциям управления витриной."});else r.status(403).json({error:"У этой роли Directus нет прав на управление данным разделом каталога."})})}};export{y as default};
@@ -0,0 +1 @@
+const e={product_overlay:{scope:"product_overlay",keyField:"product_key"},category_overlay:{scope:"category_overlay",keyField:"category_key"}},t={product:"product_overlay",category:"category_overlay"},r="catalogue_overlay_block",a="catalogue_overlay_block_item",o=[{scope:"product_overlay"},{scope:"category_overlay"}];function n(e){return"string"==typeof e?e.trim().toLowerCase():""}function c(e,...t){return Boolean(e)&&t.some(t=>Object.prototype.hasOwnProperty.call(e,t))}function s(e){return e.map(e=>({scope:t[n(e?.owner_kind)],key:n(e?.owner_key)})).filter(e=>e.scope&&e.key)}async function i(e,t){const a=t.filter(e=>null!=e&&""!==e);return a.length?e(r).select("owner_kind","owner_key").whereIn("id",a):[]}async function l({event:t,collection:l,keys:u=[],payload:p={}},y){const d=e[l];if(d){if("create"===t){const e=n(p?.[d.keyField]);return e?[{scope:d.scope,key:e}]:[]}if("delete"===t||c(p,d.keyField))return[{scope:d.scope}];return(await y(l).select(d.keyField).whereIn("id",u)).map(e=>({scope:d.scope,key:n(e?.[d.keyField])})).filter(e=>e.key)}if(l===r)return"create"===t?s([p]):"delete"===t||c(p,"owner_kind","owner_key")?o:s(await i(y,u));if(l===a){if("create"===t)return s(await i(y,[p?.overlay_block]));if("delete"===t||c(p,"overlay_block"))return o;const e=await y(a).select("overlay_block").whereIn("id",u);return s(await i(y,[...new Set(e.map(e=>e?.overlay_block))]))}return[]}async function u(e,t,r,a=fetch){const o="string"==typeof(n=e.STOREFRONT_OPS_BACKEND_URL)?n.replace(/\/+$/,""):"";var n;const c=e.STOREFRONT_OPS_BACKEND_TOKEN||"";if(!o||!c)throw new Error("STOREFRONT_OPS_BACKEND_URL and STOREFRONT_OPS_BACKEND_TOKEN are required to invalidate overlay caches.");const s=t?.user?String(t.user):"directus",i=!t?.user||t?.admin?"admin":String(t.role||""),l=await a(`${o}/internal/directus/admin/content/cache/invalidate`,{method:"POST",headers:{"Content-Type":"application/json","X-Directus-Bridge-Token":c,"X-Directus-User-Id":s,"X-Directus-User-Role":i,"X-Directus-User-Roles":i},body:JSON.stringify(r)});if(!l.ok)throw new Error(`Backend answered ${l.status} for ${r.scope}${r.key?` ${r.key}`:""}`)}var p=({action:t},{env:o,logger:n,database:c})=>{["create","update","delete"].forEach(s=>{t(`items.${s}`,async(t,i)=>{const p=t?.collection;if(function(t){return Boolean(e[t])||t===r||t===a}(p))try{const e="create"===s?[t.key]:t.keys||[],r=await l({event:s,collection:p,keys:e,payload:"delete"===s?{}:t.payload},i?.database||c),a=i?.accountability;await Promise.all(function(e){const t=new Map;e.forEach(({scope:e,key:r})=>{t.has(e)||t.set(e,new Set);const a=t.get(e);null!==a&&(r?a.add(r):t.set(e,null))});const r=[];return t.forEach((e,t)=>{null===e||e.size>20?r.push({scope:t}):e.forEach(e=>r.push({scope:t,key:e}))}),r}(r).map(e=>u(o,a,e)))}catch(e){n.warn(`Storefront overlay cache invalidation after ${p} ${s} failed: ${e instanceof Error?e.message:e}`)}})})};export{p as default};
@@ -1 +1 @@
-import{useApi as e,defineModule as t}from"@directus/extensions-sdk";import{h as n,openBlock as a,createElementBlock as o,normalizeClass as l,createElementVNode as i,renderSlot as r,toDisplayString as s,createCommentVNode as d,createBlock as c,withCtx as u,Fragment as p,renderList as m,withDirectives as b,vModelText as f,withKeys as y,withModifiers as v,vModelSelect as g,vModelCheckbox as h,computed as k,ref as S,createVNode as w,nextTick as C,createTextVNode as x,reactive as I,watch as T,onMounted as O,onBeforeUnmount as P,resolveComponent as A,unref as U,Teleport as _}from"vue";var R=[],D=[];function E(e,t){if(e&&"undefined"!=typeof document){var n,a=!0===t.prepend?"prepend":"append",o=!0===t.singleTag,l="string"==typeof t.container?document.querySelector(t.container):document.getElementsByTagName("head")[0];if(o){var i=R.indexOf(l);-1===i&&(i=R.push(l)-1,D[i]={}),n=D[i]&&D[i][a]?D[i][a]:D[i][a]=r()}else n=r();65279===e.charCodeAt(0)&&(e=e.substring(1)),n.styleSheet?n.styleSheet.cssText+=e:n.appendChild(document.createTextNode(e))}function r(){var e=document.createElement("style");if(e.setAttribute("type","text/css"),t.attributes)for(var n=Object.keys(t.attributes),o=0;o<n.length;o++)e.setAttribute(n[o],t.attributes[n[o]]);var i="prepend"===a?"afterbegin":"beforeend";return l.insertAdjacentElement(i,e),e}}E(".storefront-ops,\n.storefront-ops *,\n.storefront-ops *::before,\n.storefront-ops *::after {\n  box-sizing: border-box;\n}\n\n.storefront-ops :where(\n  aside,\n  article,\n  button,\n  div,\n  fieldset,\n  form,\n  header,\n  input,\n  label,\n  main,\n  nav,\n  section,\n  select,\n  textarea,\n  dl,\n  dt,\n  dd,\n  p,\n  strong,\n  span\n) {\n  min-inline-size: 0;\n}\n\n.storefront-ops :where(input, select, textarea, button) {\n  max-inline-size: 100%;\n}\n\n.storefront-ops :where(img, video, svg) {\n  max-inline-size: 100%;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel,\nbody.storefront-ops-view .pane-tabs-carousel *,\nbody.storefront-ops-view .pane-tabs-carousel *::before,\nbody.storefront-ops-view .pane-tabs-carousel *::after {\n  box-sizing: border-box;\n}\n\n.storefront-ops.workspace {\n  block-size: 100%;\n  display: flex;\n  flex-direction: column;\n  gap: 14px;\n  inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n  overscroll-behavior: none;\n  padding: 0 12px;\n}\n\n.storefront-ops .status-banner {\n  align-items: flex-start;\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background-subdued));\n  border: 1px solid color-mix(in srgb, var(--theme--primary) 24%, var(--theme--border-color));\n  border-radius: 14px;\n  block-size: fit-content;\n  display: flex;\n  gap: 12px;\n  justify-content: space-between;\n  padding: 12px 14px;\n}\n\n.storefront-ops .status-banner-copy {\n  display: grid;\n  gap: 4px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .status-banner-close {\n  align-items: center;\n  appearance: none;\n  background: transparent;\n  border: 1px solid transparent;\n  border-radius: 10px;\n  color: inherit;\n  cursor: pointer;\n  display: inline-flex;\n  flex: 0 0 auto;\n  font-size: 22px;\n  font-weight: 700;\n  justify-content: center;\n  line-height: 1;\n  min-block-size: 32px;\n  min-inline-size: 32px;\n  opacity: 0.72;\n}\n\n.storefront-ops .status-banner-close:hover,\n.storefront-ops .status-banner-close:focus-visible {\n  background: color-mix(in srgb, currentColor 8%, transparent);\n  border-color: color-mix(in srgb, currentColor 16%, transparent);\n  opacity: 1;\n}\n\n.storefront-ops .status-banner-error {\n  background: color-mix(in srgb, var(--theme--danger) 9%, var(--theme--background-subdued));\n  border-color: color-mix(in srgb, var(--theme--danger) 30%, var(--theme--border-color));\n}\n\n.storefront-ops .status-banner-success {\n  background: color-mix(in srgb, var(--green) 12%, var(--theme--background-subdued));\n  border-color: color-mix(in srgb, var(--green) 28%, var(--theme--border-color));\n}\n\n.storefront-ops .surface-panel,\n.storefront-ops .detail-card,\n.storefront-ops .empty-detail {\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 16px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel,\n.storefront-ops .pane-tabs-carousel {\n  align-items: center;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: auto minmax(0, 1fr) auto;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 58px;\n  min-inline-size: 0;\n  overflow: hidden;\n  position: relative;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel-navigation,\n.storefront-ops .pane-tabs-carousel-navigation {\n  padding: 12px 10px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::before,\nbody.storefront-ops-view .pane-tabs-carousel::after,\n.storefront-ops .pane-tabs-carousel::before,\n.storefront-ops .pane-tabs-carousel::after {\n  block-size: calc(100% - 8px);\n  content: '';\n  inline-size: 24px;\n  opacity: 0;\n  pointer-events: none;\n  position: absolute;\n  inset-block-start: 4px;\n  transition: opacity 120ms ease;\n  z-index: 1;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::before,\n.storefront-ops .pane-tabs-carousel::before {\n  background: linear-gradient(90deg, var(--theme--background) 0%, transparent 100%);\n  inset-inline-start: 46px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::after,\n.storefront-ops .pane-tabs-carousel::after {\n  background: linear-gradient(270deg, var(--theme--background) 0%, transparent 100%);\n  inset-inline-end: 46px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel.can-scroll-left::before,\n.storefront-ops .pane-tabs-carousel.can-scroll-left::before,\nbody.storefront-ops-view .pane-tabs-carousel.can-scroll-right::after,\n.storefront-ops .pane-tabs-carousel.can-scroll-right::after {\n  opacity: 1;\n}\n\nbody.storefront-ops-view .pane-tabs,\n.storefront-ops .pane-tabs {\n  display: flex;\n  gap: 8px;\n  grid-column: 2;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 58px;\n  min-inline-size: 0;\n  overflow-x: auto;\n  overflow-y: hidden;\n  overscroll-behavior-x: contain;\n  padding-block: 4px;\n  scroll-padding-inline: 8px;\n  scroll-snap-type: x proximity;\n  scrollbar-width: thin;\n  touch-action: pan-x;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow,\n.storefront-ops .pane-tabs-arrow {\n  align-items: center;\n  appearance: none;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 14px;\n  color: var(--theme--foreground);\n  cursor: pointer;\n  display: inline-flex;\n  font-size: 28px;\n  font-weight: 700;\n  block-size: 50px;\n  inline-size: 38px;\n  justify-content: center;\n  line-height: 1;\n  padding: 0;\n  position: relative;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease,\n    opacity 120ms ease;\n  z-index: 2;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow-left,\n.storefront-ops .pane-tabs-arrow-left {\n  grid-column: 1;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow-right,\n.storefront-ops .pane-tabs-arrow-right {\n  grid-column: 3;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel:not(.is-scrollable) .pane-tabs-arrow,\n.storefront-ops .pane-tabs-carousel:not(.is-scrollable) .pane-tabs-arrow {\n  display: none;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow:not(:disabled):hover,\nbody.storefront-ops-view .pane-tabs-arrow:not(:disabled):focus-visible,\n.storefront-ops .pane-tabs-arrow:not(:disabled):hover,\n.storefront-ops .pane-tabs-arrow:not(:disabled):focus-visible {\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background));\n  border-color: color-mix(in srgb, var(--theme--primary) 44%, var(--theme--border-color));\n}\n\nbody.storefront-ops-view .pane-tabs-arrow:disabled,\n.storefront-ops .pane-tabs-arrow:disabled {\n  cursor: default;\n  opacity: 0.34;\n}\n\nbody.storefront-ops-view .pane-tab,\n.storefront-ops .pane-tab {\n  align-items: center;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 14px;\n  color: inherit;\n  display: flex;\n  flex: 0 0 clamp(132px, 9.5vw, 176px);\n  gap: 10px;\n  justify-content: space-between;\n  min-height: 50px;\n  min-inline-size: 132px;\n  padding: 10px 12px;\n  scroll-snap-align: start;\n  text-align: left;\n}\n\nbody.storefront-ops-view .pane-tab span,\n.storefront-ops .pane-tab span {\n  font-weight: 700;\n  overflow: hidden;\n  text-overflow: ellipsis;\n  white-space: nowrap;\n}\n\nbody.storefront-ops-view .pane-tab small,\n.storefront-ops .pane-tab small {\n  color: var(--theme--foreground-subdued);\n  flex: 0 0 auto;\n  font-size: 12px;\n}\n\nbody.storefront-ops-view .pane-tab.active,\n.storefront-ops .pane-tab.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .access-context {\n  align-items: center;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  color: var(--theme--foreground-subdued);\n  display: flex;\n  gap: 10px;\n  justify-content: space-between;\n  padding: 10px 12px;\n}\n\n.storefront-ops .access-context strong {\n  color: var(--theme--foreground);\n}\n\n.storefront-ops .home-add-section {\n  align-items: end;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: minmax(0, 1fr) auto;\n}\n\n.storefront-ops .home-outline .list-card {\n  cursor: pointer;\n}\n\n.storefront-ops .home-outline-actions {\n  margin-top: 4px;\n}\n\n.storefront-ops .workspace-shell {\n  align-items: start;\n  block-size: 100%;\n  display: grid;\n  flex: 1 1 auto;\n  gap: 14px;\n  inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n}\n\n.storefront-ops .workspace-list {\n  align-content: start;\n  block-size: 100%;\n  display: grid;\n  gap: 12px;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  padding: 14px;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .section-block-compact {\n  gap: 8px;\n}\n\n.storefront-ops .card-list-compact {\n  max-block-size: 220px;\n  overflow: auto;\n}\n\n.storefront-ops .workspace-detail {\n  align-content: start;\n  block-size: 100%;\n  display: grid;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n}\n\n.storefront-ops .mobile-detail-toolbar {\n  display: none;\n}\n\n.storefront-ops .detail-card {\n  inline-size: 100%;\n  max-inline-size: 100%;\n}\n\n.storefront-ops .pane-header,\n.storefront-ops .detail-header,\n.storefront-ops .section-head,\n.storefront-ops .selector-card-head,\n.storefront-ops .merch-card-head,\n.storefront-ops .spec-section-head,\n.storefront-ops .spec-items-head {\n  align-items: flex-start;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 12px;\n  justify-content: space-between;\n}\n\n.storefront-ops .pane-header > div,\n.storefront-ops .detail-header > div,\n.storefront-ops .section-head > div,\n.storefront-ops .selector-card-head > div,\n.storefront-ops .merch-card-head > div,\n.storefront-ops .spec-section-head > div,\n.storefront-ops .spec-items-head > div {\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .pane-header h2,\n.storefront-ops .detail-header h2,\n.storefront-ops .section-head h3,\n.storefront-ops .selector-card h3,\n.storefront-ops .merch-card h3 {\n  margin: 0;\n}\n\n.storefront-ops .pane-header p,\n.storefront-ops .detail-header p,\n.storefront-ops .section-head p,\n.storefront-ops .selector-card-head p,\n.storefront-ops .merch-card-head p,\n.storefront-ops .spec-section-head p,\n.storefront-ops .spec-items-head p {\n  color: var(--theme--foreground-subdued);\n  margin: 4px 0 0;\n}\n\n.storefront-ops .detail-header-actions {\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n}\n\n.storefront-ops .search-field,\n.storefront-ops .ops-field {\n  display: grid;\n  gap: 6px;\n}\n\n.storefront-ops .search-field span,\n.storefront-ops .ops-field > span {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.06em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .ops-field-required > span::after {\n  color: var(--theme--danger);\n  content: ' *';\n}\n\n.storefront-ops .search-field input,\n.storefront-ops .ops-field input,\n.storefront-ops .ops-field select,\n.storefront-ops .ops-field textarea {\n  appearance: none;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  color: inherit;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-height: 44px;\n  min-inline-size: 0;\n  padding: 10px 12px;\n}\n\n.storefront-ops .ops-field textarea {\n  min-height: 112px;\n  resize: vertical;\n}\n\n.storefront-ops .position-control {\n  align-items: center;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: auto minmax(92px, 1fr) auto;\n}\n\n.storefront-ops .position-control input {\n  min-width: 0;\n}\n\n.storefront-ops .field-help {\n  color: var(--theme--foreground-subdued);\n  font-size: 12px;\n  line-height: 1.4;\n}\n\n.storefront-ops .ops-field-boolean {\n  align-content: start;\n}\n\n.storefront-ops .ops-toggle {\n  align-items: center;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  cursor: pointer;\n  display: flex;\n  gap: 10px;\n  min-height: 44px;\n  padding: 10px 12px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease;\n}\n\n.storefront-ops .ops-toggle:has(input:checked) {\n  background: color-mix(in srgb, var(--green) 7%, var(--theme--background));\n  border-color: color-mix(in srgb, var(--green) 48%, var(--theme--border-color));\n}\n\n.storefront-ops .ops-toggle input[type='checkbox'] {\n  appearance: none;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 999px;\n  cursor: pointer;\n  flex: 0 0 auto;\n  inline-size: 38px;\n  min-block-size: 22px;\n  padding: 2px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease;\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']::before {\n  background: var(--theme--foreground-subdued);\n  border-radius: 50%;\n  content: '';\n  display: block;\n  block-size: 16px;\n  inline-size: 16px;\n  transition:\n    background-color 120ms ease,\n    transform 120ms ease;\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:checked {\n  background: var(--green);\n  border-color: var(--green);\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:checked::before {\n  background: var(--theme--background);\n  transform: translateX(16px);\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:focus-visible {\n  outline: 2px solid var(--theme--primary);\n  outline-offset: 2px;\n}\n\n.storefront-ops .ops-toggle span {\n  font-size: 14px;\n  font-weight: 500;\n  letter-spacing: 0;\n  text-transform: none;\n}\n\n.storefront-ops .card-list,\n.storefront-ops .variant-list,\n.storefront-ops .choice-list,\n.storefront-ops .media-grid {\n  display: grid;\n  gap: 8px;\n}\n\n.storefront-ops .list-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  color: inherit;\n  display: grid;\n  gap: 6px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 12px;\n  text-align: left;\n}\n\n.storefront-ops .list-card.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .list-card-head {\n  align-items: flex-start;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n  justify-content: space-between;\n}\n\n.storefront-ops .list-card-head strong {\n  line-height: 1.3;\n  min-inline-size: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .list-card-slug,\n.storefront-ops .detail-subtitle,\n.storefront-ops .media-card-url {\n  color: var(--theme--foreground-subdued);\n  font-family: ui-monospace, SFMono-Regular, Menlo, monospace;\n  font-size: 12px;\n  margin: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .media-upload-list {\n  display: grid;\n  gap: 10px;\n  margin-top: 12px;\n}\n\n.storefront-ops .media-upload-row {\n  align-items: center;\n  background: var(--theme--background-page);\n  border: var(--theme--border-width) solid var(--theme--border-color-subdued);\n  border-radius: var(--theme--border-radius);\n  display: flex;\n  gap: 10px;\n  padding: 12px;\n}\n\n.storefront-ops .media-upload-main {\n  display: grid;\n  flex: 1;\n  gap: 4px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .media-upload-main strong,\n.storefront-ops .media-upload-main span {\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .media-upload-main progress {\n  inline-size: 100%;\n}\n\n.storefront-ops .list-card-meta,\n.storefront-ops .list-card-footer,\n.storefront-ops .variant-card-meta,\n.storefront-ops .media-card-meta {\n  color: var(--theme--foreground-subdued);\n  display: flex;\n  flex-wrap: wrap;\n  gap: 6px 12px;\n  font-size: 12px;\n}\n\n.storefront-ops .pill,\n.storefront-ops .overlay-chip {\n  align-items: center;\n  border-radius: 999px;\n  display: inline-flex;\n  font-size: 11px;\n  font-weight: 700;\n  min-height: 24px;\n  padding: 3px 9px;\n}\n\n.storefront-ops .pill-positive {\n  background: color-mix(in srgb, var(--green) 15%, var(--theme--background));\n  color: var(--green);\n}\n\n.storefront-ops .pill-muted {\n  background: var(--theme--background-subdued);\n  color: var(--theme--foreground-subdued);\n}\n\n.storefront-ops .pill-neutral,\n.storefront-ops .overlay-chip {\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background));\n  color: var(--theme--primary);\n}\n\n.storefront-ops .detail-card,\n.storefront-ops .empty-detail {\n  block-size: 100%;\n  display: flex;\n  flex-direction: column;\n  gap: 14px;\n  inline-size: 100%;\n  max-block-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .detail-card {\n  overflow: hidden;\n}\n\n.storefront-ops .empty-detail {\n  overflow: auto;\n  overscroll-behavior: contain;\n}\n\n.storefront-ops .detail-card > .detail-content,\n.storefront-ops .detail-card > .editor-form {\n  flex: 1 1 auto;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n}\n\n.storefront-ops .detail-card > .detail-content {\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .detail-card > .editor-form {\n  display: flex;\n  flex-direction: column;\n  min-block-size: 0;\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .detail-content,\n.storefront-ops .editor-form,\n.storefront-ops .section-block,\n.storefront-ops .merch-card,\n.storefront-ops .selector-card,\n.storefront-ops .media-inline-panel,\n.storefront-ops .context-grid {\n  align-content: start;\n  display: grid;\n  gap: 14px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .detail-kicker {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.08em;\n  margin: 0 0 4px;\n  text-transform: uppercase;\n}\n\n.storefront-ops .subtabs {\n  display: grid;\n  gap: 8px;\n  grid-template-columns: repeat(auto-fit, minmax(140px, 1fr));\n  inline-size: 100%;\n  max-inline-size: min(100%, 980px);\n}\n\n.storefront-ops .subtab {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  min-height: 42px;\n  padding: 9px 12px;\n}\n\n.storefront-ops .subtab.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .form-grid {\n  display: grid;\n  gap: 12px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .form-grid-three {\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .form-grid-two {\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .full-span {\n  grid-column: 1 / -1;\n}\n\n.storefront-ops .selector-card,\n.storefront-ops .merch-card,\n.storefront-ops .media-inline-panel,\n.storefront-ops .section-block,\n.storefront-ops .variant-card,\n.storefront-ops .media-card,\n.storefront-ops .metric-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .section-block-active {\n  border-color: color-mix(in srgb, var(--theme--primary) 42%, var(--theme--border-color-subdued));\n}\n\n.storefront-ops .choice-item {\n  align-items: flex-start;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 12px;\n  display: flex;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-height: 48px;\n  min-inline-size: 0;\n  padding: 10px 12px;\n}\n\n.storefront-ops .choice-item > div {\n  min-inline-size: 0;\n}\n\n.storefront-ops .choice-item strong {\n  display: block;\n}\n\n.storefront-ops .choice-item small {\n  color: var(--theme--foreground-subdued);\n}\n\n.storefront-ops .metrics-row {\n  display: grid;\n  gap: 10px;\n  grid-template-columns: repeat(auto-fit, minmax(150px, 1fr));\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .compact-metrics .metric-card,\n.storefront-ops .metrics-row .metric-card {\n  gap: 4px;\n  min-height: auto;\n}\n\n.storefront-ops .metric-card span {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.05em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .metric-card strong {\n  font-size: 14px;\n  line-height: 1.35;\n  min-inline-size: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .metric-code {\n  font-family: ui-monospace, SFMono-Regular, Menlo, monospace;\n  font-size: 12px;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .ops-modal-backdrop {\n  align-items: center;\n  background: color-mix(in srgb, var(--theme--background) 70%, transparent);\n  display: flex;\n  inset: 0;\n  justify-content: center;\n  padding: 20px;\n  position: fixed;\n  z-index: 40;\n}\n\n.storefront-ops .ops-modal {\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 16px;\n  box-shadow: 0 18px 60px color-mix(in srgb, var(--theme--foreground) 16%, transparent);\n  display: grid;\n  gap: 14px;\n  inline-size: min(860px, 100%);\n  max-block-size: min(720px, calc(100vh - 40px));\n  overflow: hidden;\n  padding: 16px;\n}\n\n.storefront-ops .import-modal-list {\n  max-block-size: 480px;\n  overflow: auto;\n  overscroll-behavior: contain;\n}\n\n.storefront-ops .variant-card,\n.storefront-ops .media-card {\n  display: grid;\n  gap: 10px;\n}\n\n.storefront-ops .media-preview,\n.storefront-ops .home-reference-thumb,\n.storefront-ops .category-image-preview img {\n  background: var(--theme--background-subdued);\n  border-radius: 10px;\n  display: block;\n  height: auto;\n  object-fit: cover;\n  width: 100%;\n}\n\n.storefront-ops .media-preview {\n  aspect-ratio: 16 / 10;\n}\n\n.storefront-ops .home-reference-thumb {\n  aspect-ratio: 16 / 7;\n}\n\n.storefront-ops .media-card-body {\n  display: grid;\n  gap: 8px;\n}\n\n.storefront-ops .category-image-preview {\n  max-width: 320px;\n}\n\n.storefront-ops .definition-list {\n  display: grid;\n  gap: 10px;\n}\n\n.storefront-ops .definition-list-contact {\n  grid-template-columns: repeat(auto-fit, minmax(min(100%, 220px), 1fr));\n}\n\n.storefront-ops .definition-list div {\n  display: grid;\n  gap: 3px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .definition-list dt {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.04em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .definition-list dd {\n  margin: 0;\n  min-inline-size: 0;\n  overflow: visible;\n  overflow-wrap: anywhere;\n  text-overflow: clip;\n  white-space: normal;\n}\n\n.storefront-ops .definition-list-wide {\n  grid-column: 1 / -1;\n}\n\n.storefront-ops .rma-decision-form {\n  border-top: 1px solid var(--theme--border-color-subdued);\n  margin-top: 10px;\n  padding-top: 10px;\n}\n\n.storefront-ops .spec-section-list,\n.storefront-ops .spec-item-list,\n.storefront-ops .spec-items {\n  display: grid;\n  gap: 12px;\n}\n\n.storefront-ops .spec-section-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  display: grid;\n  gap: 12px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .spec-item-row {\n  align-items: end;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 12px;\n  display: grid;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 10px;\n}\n\n.storefront-ops .spec-item-remove {\n  width: 100%;\n}\n\n.storefront-ops .sticky-actions {\n  background: color-mix(in srgb, var(--theme--background-subdued) 88%, transparent);\n  border-top: 1px solid var(--theme--border-color-subdued);\n  bottom: 0;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 10px;\n  inline-size: 100%;\n  margin: 8px -14px -14px;\n  padding: 12px 14px 14px;\n  position: static;\n}\n\n.storefront-ops .editor-form > .sticky-actions:last-child {\n  margin-block-start: 8px;\n}\n\n.storefront-ops .detail-card > .detail-footer-actions {\n  flex: 0 0 auto;\n  margin: 0 -14px -14px;\n  position: static;\n  z-index: 2;\n}\n\n.storefront-ops .home-action-dock {\n  display: none;\n}\n\n.storefront-ops .sticky-actions-inline {\n  background: transparent;\n  border-top: 0;\n  margin: 0;\n  padding: 0;\n  position: static;\n}\n\n.storefront-ops .button {\n  appearance: none;\n  border-radius: 12px;\n  cursor: pointer;\n  font-weight: 700;\n  min-height: 42px;\n  padding: 9px 14px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease,\n    color 120ms ease,\n    opacity 120ms ease,\n    transform 120ms ease;\n}\n\n.storefront-ops .button:not(:disabled):active {\n  transform: translateY(1px);\n}\n\n.storefront-ops .button:disabled,\n.storefront-ops .button[aria-disabled='true'] {\n  cursor: not-allowed;\n  opacity: 0.55;\n}\n\n.storefront-ops .button[aria-busy='true'] {\n  cursor: progress;\n  opacity: 0.72;\n}\n\n.storefront-ops .button-primary {\n  background: var(--theme--primary);\n  border: 1px solid var(--theme--primary);\n  color: var(--theme--primary-inverse);\n}\n\n.storefront-ops .button-secondary {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  color: inherit;\n}\n\n.storefront-ops .button-danger {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--danger);\n  color: var(--theme--danger);\n}\n\n.storefront-ops .button-small {\n  min-height: 36px;\n  padding: 7px 12px;\n}\n\n.storefront-ops .empty-state,\n.storefront-ops .empty-detail,\n.storefront-ops .empty-inline,\n.storefront-ops .inline-note {\n  background: var(--theme--background);\n  border: 1px dashed var(--theme--border-color);\n  border-radius: 14px;\n  color: var(--theme--foreground-subdued);\n  display: grid;\n  gap: 6px;\n  padding: 14px;\n}\n\n.storefront-ops .panel-variants,\n.storefront-ops .panel-media,\n.storefront-ops .context-grid {\n  align-items: start;\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .panel-variants > .section-block,\n.storefront-ops .panel-variants > .editor-form,\n.storefront-ops .panel-media > .section-block,\n.storefront-ops .panel-media > .editor-form,\n.storefront-ops .context-grid > * {\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .inventory-editor {\n  max-width: none;\n}\n\n.storefront-ops .panel-main .editor-form,\n.storefront-ops .category-editor,\n.storefront-ops .brand-editor,\n.storefront-ops .inventory-editor,\n.storefront-ops .panel-variants .editor-form,\n  .storefront-ops .panel-media .editor-form {\n    inline-size: 100%;\n    max-inline-size: 100%;\n  }\n\n.storefront-ops .brand-editor .metrics-row {\n  grid-template-columns: minmax(0, 260px);\n}\n\n@media (min-width: 720px) {\n  .storefront-ops .subtabs {\n    grid-template-columns: repeat(auto-fit, minmax(150px, 1fr));\n  }\n\n  .storefront-ops .form-grid {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .form-grid-three {\n    grid-template-columns: repeat(3, minmax(0, 1fr));\n  }\n\n  .storefront-ops .form-grid-two {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .variant-list,\n  .storefront-ops .media-grid {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .spec-item-row {\n    grid-template-columns: minmax(0, 1fr) minmax(0, 1fr) auto;\n  }\n\n  .storefront-ops .spec-item-remove {\n    width: auto;\n  }\n}\n\n@media (min-width: 1080px) {\n  .storefront-ops.workspace {\n    block-size: 100%;\n    min-block-size: 0;\n    overflow: hidden;\n  }\n\n  .storefront-ops .workspace-shell {\n    align-items: stretch;\n    grid-template-columns: minmax(304px, 348px) minmax(0, 1fr);\n  }\n\n  .storefront-ops .workspace-list {\n    max-height: none;\n    position: static;\n  }\n}\n\n@media (max-width: 719px) {\n  .storefront-ops.workspace {\n    block-size: auto;\n    min-block-size: 100dvh;\n    overflow: visible;\n    padding-inline: 8px;\n  }\n\n  .storefront-ops .pane-tabs-carousel {\n    gap: 6px;\n    min-block-size: 52px;\n  }\n\n  .storefront-ops .pane-tabs-carousel-inline {\n    background: var(--theme--background);\n    border-bottom: 1px solid var(--theme--border-color-subdued);\n    position: sticky;\n    top: 0;\n    z-index: 4;\n  }\n\n  .storefront-ops .pane-tabs {\n    min-block-size: 52px;\n    padding-block: 6px;\n  }\n\n  .storefront-ops .pane-tabs-arrow {\n    block-size: 44px;\n    border-radius: 12px;\n    font-size: 24px;\n    inline-size: 34px;\n  }\n\n  .storefront-ops .pane-tabs-carousel::before {\n    inset-inline-start: 40px;\n  }\n\n  .storefront-ops .pane-tabs-carousel::after {\n    inset-inline-end: 40px;\n  }\n\n  .storefront-ops .pane-tab {\n    flex-basis: 132px;\n    min-height: 44px;\n  }\n\n  .storefront-ops .workspace-shell {\n    display: block;\n  }\n\n  .storefront-ops .workspace-list,\n  .storefront-ops .workspace-detail,\n  .storefront-ops .detail-card,\n  .storefront-ops .empty-detail {\n    block-size: auto;\n    max-block-size: none;\n    min-block-size: 0;\n    overflow: visible;\n  }\n\n  .storefront-ops .workspace-list {\n    padding: 12px;\n  }\n\n  .storefront-ops .workspace-shell.mobile-master-detail.detail-open .workspace-list {\n    display: none;\n  }\n\n  .storefront-ops .workspace-shell.mobile-master-detail:not(.detail-open) .workspace-detail {\n    display: none;\n  }\n\n  .storefront-ops .mobile-detail-toolbar {\n    align-items: center;\n    background: var(--theme--background);\n    border: 1px solid var(--theme--border-color);\n    border-radius: 14px;\n    display: flex;\n    gap: 10px;\n    justify-content: space-between;\n    margin-bottom: 10px;\n    padding: 8px;\n    position: sticky;\n    top: 0;\n    z-index: 5;\n  }\n\n  .storefront-ops .mobile-detail-toolbar .button {\n    min-height: 44px;\n  }\n\n  .storefront-ops .mobile-detail-toolbar span {\n    color: var(--theme--foreground-subdued);\n    font-size: 12px;\n    font-weight: 700;\n    overflow: hidden;\n    text-overflow: ellipsis;\n    white-space: nowrap;\n  }\n\n  .storefront-ops .pane-header,\n  .storefront-ops .detail-header,\n  .storefront-ops .section-head,\n  .storefront-ops .selector-card-head,\n  .storefront-ops .merch-card-head,\n  .storefront-ops .spec-section-head,\n  .storefront-ops .spec-items-head {\n    align-items: stretch;\n    flex-direction: column;\n  }\n\n  .storefront-ops .pane-header .button,\n  .storefront-ops .detail-header-actions,\n  .storefront-ops .detail-header-actions .button,\n  .storefront-ops .sticky-actions .button {\n    inline-size: 100%;\n  }\n\n  .storefront-ops .home-add-section {\n    grid-template-columns: 1fr;\n  }\n\n  .storefront-ops .home-action-dock {\n    inline-size: 100%;\n  }\n}\n\nbody.storefront-ops-view #sidebar,\nbody.storefront-ops-view #sidebar-desktop-outlet,\nbody.storefront-ops-view #sidebar-mobile-outlet,\nbody.storefront-ops-view #module-navigation,\nbody.storefront-ops-view .ai-sidebar-detail,\nbody.storefront-ops-view .sidebar-toggle {\n  display: none !important;\n}\n\nbody.storefront-ops-view {\n  --storefront-ops-private-view-header-size: 70px;\n\n  overflow: hidden !important;\n}\n\n@media (min-width: 720px) {\n  html.storefront-ops-view-root,\n  body.storefront-ops-view {\n    block-size: 100%;\n    inline-size: 100%;\n    max-block-size: 100dvh;\n    overflow: hidden !important;\n    overscroll-behavior: none;\n  }\n\n  html.storefront-ops-view-root #app,\n  body.storefront-ops-view #app {\n    block-size: 100dvh !important;\n    overflow: hidden !important;\n  }\n}\n\nbody.storefront-ops-view #main-content {\n  block-size: 100% !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view {\n  block-size: 100dvh !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view > .root-split {\n  block-size: 100% !important;\n  grid-template-columns: 0 0 minmax(0, 1fr) !important;\n  min-block-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view > .root-split > .sp-start,\nbody.storefront-ops-view .private-view.workspace-view > .root-split > .sp-divider {\n  inline-size: 0 !important;\n  max-inline-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n  pointer-events: none !important;\n  visibility: hidden !important;\n}\n\nbody.storefront-ops-view #main-content > .main-split {\n  block-size: 100% !important;\n  grid-template-columns: minmax(0, 1fr) 0px 0px !important;\n  min-block-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view #main-content .sp-start,\nbody.storefront-ops-view #main-content .main-content-container {\n  block-size: 100% !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .storefront-ops.workspace {\n  block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n}\n\nbody.storefront-ops-view #main-content .sp-end {\n  inline-size: 0 !important;\n  max-inline-size: 0 !important;\n}\n\nbody.storefront-ops-view #dialog-outlet > .container.left,\nbody.storefront-ops-view #dialog-outlet > .container.right {\n  display: none !important;\n  pointer-events: none !important;\n  visibility: hidden !important;\n}\n\n@media (max-width: 719px) {\n  body.storefront-ops-view .storefront-ops.workspace {\n    block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n    min-block-size: 0 !important;\n    overflow-x: hidden !important;\n    overflow-y: auto !important;\n    overscroll-behavior-y: contain;\n    -webkit-overflow-scrolling: touch;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel {\n    max-block-size: max-content;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs {\n    max-block-size: max-content;\n    overflow-x: auto;\n    overflow-y: hidden;\n    overscroll-behavior-x: contain;\n    overscroll-behavior-y: none;\n    touch-action: pan-x;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel-inline {\n    flex: 0 0 auto;\n    inset-block-start: 0;\n    position: sticky;\n    top: 0;\n    z-index: 4;\n  }\n}\n\n@media (max-width: 719px), (hover: none) and (pointer: coarse) {\n  body.storefront-ops-view .storefront-ops.workspace {\n    block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n    inline-size: 100% !important;\n    max-inline-size: 100% !important;\n    min-block-size: 0 !important;\n    min-inline-size: 0 !important;\n    overflow-x: hidden !important;\n    overflow-y: auto !important;\n    overscroll-behavior-x: none;\n    overscroll-behavior-y: contain;\n    -webkit-overflow-scrolling: touch;\n  }\n\n  body.storefront-ops-view #dialog-outlet > .container.left,\n  body.storefront-ops-view #dialog-outlet > .container.right {\n    display: none !important;\n    pointer-events: none !important;\n    visibility: hidden !important;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell {\n    display: block;\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n    overflow: visible;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-list,\n  body.storefront-ops-view .storefront-ops .workspace-detail,\n  body.storefront-ops-view .storefront-ops .detail-card,\n  body.storefront-ops-view .storefront-ops .empty-detail {\n    block-size: auto;\n    inline-size: 100%;\n    max-block-size: none;\n    max-inline-size: 100%;\n    min-block-size: 0;\n    min-inline-size: 0;\n    overflow: visible;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell.mobile-master-detail.detail-open .workspace-list {\n    display: none;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell.mobile-master-detail:not(.detail-open) .workspace-detail {\n    display: none;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-card > .detail-content,\n  body.storefront-ops-view .storefront-ops .detail-card > .editor-form {\n    block-size: auto;\n    max-block-size: none;\n    min-block-size: 0;\n    overflow: visible;\n    overscroll-behavior: auto;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-content,\n  body.storefront-ops-view .storefront-ops .editor-form,\n  body.storefront-ops-view .storefront-ops .section-block,\n  body.storefront-ops-view .storefront-ops .selector-card,\n  body.storefront-ops-view .storefront-ops .merch-card,\n  body.storefront-ops-view .storefront-ops .media-inline-panel,\n  body.storefront-ops-view .storefront-ops .context-grid,\n  body.storefront-ops-view .storefront-ops .variant-card,\n  body.storefront-ops-view .storefront-ops .media-card,\n  body.storefront-ops-view .storefront-ops .metric-card,\n  body.storefront-ops-view .storefront-ops .list-card,\n  body.storefront-ops-view .storefront-ops .choice-item,\n  body.storefront-ops-view .storefront-ops .spec-section-card,\n  body.storefront-ops-view .storefront-ops .spec-item-row,\n  body.storefront-ops-view .storefront-ops .ops-field,\n  body.storefront-ops-view .storefront-ops .ops-toggle,\n  body.storefront-ops-view .storefront-ops .search-field {\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n  }\n\n  body.storefront-ops-view .storefront-ops .form-grid,\n  body.storefront-ops-view .storefront-ops .form-grid-two,\n  body.storefront-ops-view .storefront-ops .form-grid-three,\n  body.storefront-ops-view .storefront-ops .panel-variants,\n  body.storefront-ops-view .storefront-ops .panel-media,\n  body.storefront-ops-view .storefront-ops .context-grid,\n  body.storefront-ops-view .storefront-ops .variant-list,\n  body.storefront-ops-view .storefront-ops .media-grid,\n  body.storefront-ops-view .storefront-ops .metrics-row,\n  body.storefront-ops-view .storefront-ops .spec-item-row {\n    grid-template-columns: minmax(0, 1fr) !important;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel {\n    max-block-size: max-content;\n    max-inline-size: 100%;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs {\n    max-block-size: max-content;\n    max-inline-size: 100%;\n    overflow-x: auto;\n    overflow-y: hidden;\n    overscroll-behavior-x: contain;\n    overscroll-behavior-y: none;\n    touch-action: pan-x;\n  }\n\n  body.storefront-ops-view .storefront-ops .subtabs {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n    max-inline-size: 100%;\n  }\n\n  body.storefront-ops-view .storefront-ops .search-field input,\n  body.storefront-ops-view .storefront-ops .ops-field input,\n  body.storefront-ops-view .storefront-ops .ops-field select,\n  body.storefront-ops-view .storefront-ops .ops-field textarea,\n  body.storefront-ops-view .storefront-ops .button {\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n  }\n\n  body.storefront-ops-view .storefront-ops .button {\n    white-space: normal;\n  }\n\n  body.storefront-ops-view .storefront-ops .ops-toggle input[type='checkbox'] {\n    inline-size: 38px;\n    max-inline-size: 38px;\n    min-inline-size: 38px;\n  }\n\n  body.storefront-ops-view .storefront-ops .list-card-head,\n  body.storefront-ops-view .storefront-ops .variant-card > div,\n  body.storefront-ops-view .storefront-ops .variant-card strong,\n  body.storefront-ops-view .storefront-ops .variant-card p,\n  body.storefront-ops-view .storefront-ops .ops-toggle span {\n    flex: 1 1 auto;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n    overflow-wrap: anywhere;\n  }\n\n  body.storefront-ops-view .storefront-ops .sticky-actions {\n    margin: 8px 0 0;\n    padding: 12px 0 0;\n    position: static;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-card > .detail-footer-actions {\n    margin: 8px 0 0;\n  }\n}\n",{});var F={name:"StorefrontOpsActiveTab",props:{component:{type:[Object,Function],required:!0},viewProps:{type:Object,required:!0}},setup:e=>()=>n(e.component,e.viewProps)};const V={class:"workspace-list surface-panel"},L={class:"workspace-detail"},N={key:0,class:"mobile-detail-toolbar"},z={__name:"StorefrontOpsTabShell",props:{activeDetailOpen:{type:Boolean,default:!1},activeTabHasMasterDetail:{type:Boolean,default:!1},activeTabLabel:{type:String,default:"Раздел"},closeActiveDetail:{type:Function,required:!0}},setup:e=>(t,n)=>(a(),o("section",{class:l(["workspace-shell",{"detail-open":e.activeDetailOpen,"mobile-master-detail":e.activeTabHasMasterDetail}])},[i("aside",V,[r(t.$slots,"list")]),i("main",L,[e.activeTabHasMasterDetail&&e.activeDetailOpen?(a(),o("div",N,[i("button",{class:"button button-secondary",type:"button",onClick:n[0]||(n[0]=(...t)=>e.closeActiveDetail&&e.closeActiveDetail(...t))}," ← К списку "),i("span",null,s(e.activeTabLabel),1)])):d("v-if",!0),r(t.$slots,"detail")])],2))},M=["HOME_SECTION_PRESETS","HOME_STATUS_OPTIONS","HOME_STYLE_OPTIONS","HOME_LAYOUT_OPTIONS","STOREFRONT_COLLECTION_MODES","STOREFRONT_COLLECTION_RULE_TYPES","STOREFRONT_COLLECTION_SORT_MODES","productDetailTabs","importMappingFields","orderStatusOptions","accessState","loading","homeState","homeForm","productState","categoryState","brandState","inventoryState","productForm","variantForm","productMediaForm","categoryForm","brandForm","inventoryForm","orderState","importState","promotionState","activePromotionState","promotionForm","promoCodeForm","taxState","taxForm","analyticsState","alertState","roleKind","isManagerRole","canViewActivePromotions","activeDetailOpen","activeTabHasMasterDetail","activeTabLabel","filteredProducts","filteredCategories","filteredBrands","filteredInventory","filteredProductCategoryOptions","productBrandOptions","productCategoryOptions","availableParentOptions","selectedInventoryRow","productOverlayInfo","categoryOverlayInfo","productDirty","variantDirty","categoryDirty","brandDirty","homeDirty","homeSaveLabel","selectedOrder","selectedOrderRmaRequests","canClaimSelectedOrder","canClearSelectedOrder","canArchiveSelectedOrder","canRestoreSelectedOrder","canSubmitSelectedOrderStatus","canManageSelectedOrderRma","canDecideSelectedOrderRma","canRefundSelectedOrder","selectedHomeSection","selectedHomeSectionList","selectedHomeSectionPosition","homeCategorySection","filteredHomeCategoryOptions","filteredHomeCollectionOptions","filteredCollectionProductOptions","filteredCollectionCategoryOptions","productCategoryFilter","productMediaFiles","categoryImageFile","mediaUploadState","isSubmitting","isTabLoading","homeStatusLabel","homeSectionLabel","homeSectionTypeLabel","saveHomeContent","openStorefrontPreview","addHomeSectionPreset","selectHomeSection","moveHomeSection","startCreateProduct","overlayStatusLabel","selectProduct","startCreateCategory","selectCategory","startCreateBrand","selectBrand","formatMoney","selectInventoryRow","loadOrders","loadActivePromotions","formatMinorMoney","orderManagerLabel","isOrderArchived","orderStatusLabel","formatDateTime","selectOrder","selectImportJob","startCreatePromotion","selectPromotion","startCreatePromoCode","selectPromoCode","formatPercent","loadAnalytics","saveLowStockThreshold","closeActiveDetail","saveHomeCollectionDraft","moveHomeItem","removeHomeItem","homeProductLabel","homeProductMeta","homeProductImage","searchHomeHeroProducts","filteredHomeFeaturedProductOptions","setHomeHeroFeaturedProduct","clearHomeHeroFeaturedProduct","homeCategoryLabel","homeCategoryMeta","homeCategoryImage","searchHomeCategories","addHomeCategory","filteredHomeProductOptions","ensureHomeProductOptions","searchHomeProducts","addHomeProduct","homeCollectionLabel","homeCollectionMeta","addHomeCollection","startCreateHomeCollection","editHomeCollection","cancelHomeCollectionDraft","searchHomeCollectionProducts","searchHomeCollectionCategories","addHomeCollectionProductRule","addHomeCollectionCategoryRule","removeHomeCollectionRule","moveHomeCollectionRule","removeHomeSection","archiveHomeSection","duplicateHomeSection","addHomeItem","resetProductEditor","submitProduct","deleteProduct","setProductPanel","addSpecificationSection","removeSpecificationSection","addSpecificationItem","removeSpecificationItem","loadVariantEditor","submitVariant","resetVariantEditor","deleteVariant","onProductFilesSelected","uploadProductImages","retryMediaUpload","abortMediaUpload","mediaUploadStatusLabel","mediaUploadProgressLabel","deleteProductImage","openOrCreateOverlay","formatCategoryLabel","adjustCategoryPosition","onCategoryFileSelected","uploadCategoryImage","submitCategory","resetCategoryEditor","deleteCategory","submitBrand","resetBrandEditor","deleteBrand","submitInventoryAdjustment","resetInventoryEditor","refundSelectedOrder","selectedRefundLines","createRmaRequest","rmaStatusLabel","decideRmaRequest","submitOrderStatus","claimOrder","clearOrderClaim","archiveOrder","restoreOrder","resetOrderFiltersForSelected","onImportFileSelected","dryRunImport","commitImport","openImportNotUpdatedModal","closeImportNotUpdatedModal","downloadImportNotUpdated","addPromotionTarget","removePromotionTarget","submitPromotion","deletePromotion","submitPromoCode","deletePromoCode","startCreateTax","selectTax","submitTax","deleteTax","setProductCategoryFilter"],K={class:"pane-header"},H={class:"ops-field"},B=["disabled"],$={key:0,class:"empty-state"},j={key:1,class:"empty-state"},q={key:2,class:"card-list"},G={class:"list-card-head"},Q={class:"pill pill-muted"},Y={class:"list-card-slug"},J={class:"detail-card"},X={class:"metrics-row"},W={class:"metric-card"},Z={class:"metric-card"},ee={key:0,class:"card-list"},te={class:"list-card-head"},ne={class:"pill pill-muted"},ae={class:"list-card-slug"},oe={key:1,class:"empty-inline"},le={__name:"AlertsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",K,[i("div",null,[t[2]||(t[2]=i("h2",null,"Алерты",-1)),i("p",null,s(e.alertState.rows.length)+" SKU ниже порога",1)])]),i("label",H,[t[3]||(t[3]=i("span",null,"Глобальный порог",-1)),b(i("input",{"onUpdate:modelValue":t[0]||(t[0]=t=>e.alertState.threshold=t),type:"number",min:"0",step:"1"},null,512),[[f,e.alertState.threshold,void 0,{number:!0}]])]),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[1]||(t[1]=(...t)=>e.saveLowStockThreshold&&e.saveLowStockThreshold(...t))}," Сохранить порог ",8,B),e.isTabLoading("alerts")?(a(),o("div",$,[...t[4]||(t[4]=[i("strong",null,"Проверяю остатки",-1)])])):e.alertState.rows.length?(a(),o("div",q,[(a(!0),o(p,null,m(e.alertState.rows,e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",G,[i("strong",null,s(e.productName),1),i("span",Q,s(e.stock)+" шт.",1)]),i("p",Y,s(e.variantName)+" · "+s(e.sku),1)]))),128))])):(a(),o("div",j,[...t[5]||(t[5]=[i("strong",null,"Алертов нет",-1),i("span",null,"Все SKU выше текущего порога.",-1)])]))]),detail:u(()=>[i("section",J,[t[8]||(t[8]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Алерты"),i("h2",null,"Низкие остатки"),i("p",{class:"detail-subtitle"},"Список виден администраторам и контент-менеджерам.")])],-1)),i("div",X,[i("article",W,[t[6]||(t[6]=i("span",null,"Порог",-1)),i("strong",null,s(e.alertState.threshold),1)]),i("article",Z,[t[7]||(t[7]=i("span",null,"SKU ниже порога",-1)),i("strong",null,s(e.alertState.rows.length),1)])]),e.alertState.rows.length?(a(),o("div",ee,[(a(!0),o(p,null,m(e.alertState.rows,e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",te,[i("strong",null,s(e.productName),1),i("span",ne,s(e.stock)+" шт.",1)]),i("p",ae,s(e.productSlug)+" · "+s(e.variantName)+" · "+s(e.sku),1)]))),128))])):(a(),o("div",oe,"Нет SKU ниже порога."))])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},ie={class:"pane-header"},re=["disabled"],se={key:0,class:"search-field"},de={key:1,class:"inline-note"},ce={key:2,class:"empty-state"},ue={key:3,class:"empty-state"},pe={key:4,class:"card-list"},me={class:"list-card-head"},be={class:"pill pill-neutral"},fe={class:"list-card-meta"},ye={class:"detail-card"},ve={class:"form-grid form-grid-three"},ge={class:"ops-field"},he={class:"ops-field"},ke={key:0,class:"ops-field"},Se={key:1,class:"ops-field ops-field-readonly"},we={class:"sticky-actions sticky-actions-inline"},Ce=["disabled"],xe={class:"metrics-row"},Ie={class:"metric-card"},Te={class:"metric-card"},Oe={class:"metric-card"},Pe={class:"section-block"},Ae={class:"section-head"},Ue={class:"metrics-row"},_e={class:"metric-card"},Re={class:"metric-card"},De={class:"metric-card"},Ee={class:"metric-card"},Fe={class:"metric-card"},Ve={class:"section-block"},Le={class:"section-head"},Ne={class:"card-list"},ze={class:"list-card-head"},Me={class:"pill pill-neutral"},Ke={class:"list-card-meta"},He={class:"section-block"},Be={class:"section-head"},$e={class:"card-list"},je={class:"list-card-head"},qe={class:"list-card-slug"},Ge={class:"list-card-meta"},Qe={__name:"AnalyticsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",ie,[i("div",null,[t[7]||(t[7]=i("h2",null,"Аналитика",-1)),i("p",null,s(e.analyticsState.managerRows.length)+" менеджеров",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isTabLoading("analytics"),onClick:t[0]||(t[0]=t=>e.loadAnalytics({notify:!0}))}," Рассчитать ",8,re)]),e.isManagerRole?(a(),o("p",de," Для роли менеджера показываются только ваши заказы, ссылки оплаты и комиссия. ")):(a(),o("label",se,[t[8]||(t[8]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.analyticsState.manager=t),type:"search",placeholder:"Фильтр",onKeyup:t[2]||(t[2]=y((...t)=>e.loadAnalytics&&e.loadAnalytics(...t),["enter"]))},null,544),[[f,e.analyticsState.manager,void 0,{trim:!0}]])])),e.isTabLoading("analytics")?(a(),o("div",ce,[...t[9]||(t[9]=[i("strong",null,"Считаю показатели",-1)])])):e.analyticsState.managerRows.length?(a(),o("div",pe,[(a(!0),o(p,null,m(e.analyticsState.managerRows,t=>(a(),o("article",{key:t.managerSubject,class:"list-card"},[i("div",me,[i("strong",null,s(t.managerSubject),1),i("span",be,s(t.paidOrders)+"/"+s(t.totalOrders),1)]),i("div",fe,[i("span",null,s(e.formatMoney(t.paidAmount)),1),i("span",null,"3% "+s(e.formatMoney(t.commission)),1)])]))),128))])):(a(),o("div",ue,[...t[10]||(t[10]=[i("strong",null,"Данных нет",-1),i("span",null,"За выбранный период не найдено заказов менеджера.",-1)])]))]),detail:u(()=>[i("section",ye,[t[26]||(t[26]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Аналитика"),i("h2",null,"Менеджеры и ссылки оплаты"),i("p",{class:"detail-subtitle"},"Комиссия менеджера фиксирована на уровне 3% от оплаченной суммы.")])],-1)),i("div",ve,[i("label",ge,[t[11]||(t[11]=i("span",null,"С",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.analyticsState.from=t),type:"datetime-local"},null,512),[[f,e.analyticsState.from]])]),i("label",he,[t[12]||(t[12]=i("span",null,"По",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.analyticsState.to=t),type:"datetime-local"},null,512),[[f,e.analyticsState.to]])]),e.isManagerRole?(a(),o("div",Se,[...t[14]||(t[14]=[i("span",null,"Менеджер",-1),i("strong",null,"Только ваши показатели",-1)])])):(a(),o("label",ke,[t[13]||(t[13]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.analyticsState.manager=t),type:"text"},null,512),[[f,e.analyticsState.manager,void 0,{trim:!0}]])]))]),i("div",we,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.isTabLoading("analytics"),onClick:t[6]||(t[6]=t=>e.loadAnalytics({notify:!0}))}," Обновить аналитику ",8,Ce)]),i("div",xe,[i("article",Ie,[t[15]||(t[15]=i("span",null,"Ссылок отправлено",-1)),i("strong",null,s(e.analyticsState.paymentLinks.sent||0),1)]),i("article",Te,[t[16]||(t[16]=i("span",null,"Оплачено",-1)),i("strong",null,s(e.analyticsState.paymentLinks.paid||0),1)]),i("article",Oe,[t[17]||(t[17]=i("span",null,"Конверсия",-1)),i("strong",null,s(e.formatPercent(e.analyticsState.paymentLinks.conversionRate)),1)])]),i("section",Pe,[i("div",Ae,[i("div",null,[t[18]||(t[18]=i("h3",null,"Yandex Metrica",-1)),i("p",null,s(e.analyticsState.metrika?.enabled?"Включена":"Выключена")+" · "+s(e.analyticsState.metrika?.offlineImportEnabled?"offline import on":"offline import off"),1)])]),i("div",Ue,[i("article",_e,[t[19]||(t[19]=i("span",null,"Counter",-1)),i("strong",null,s(e.analyticsState.metrika?.counterConfigured?"OK":"Нет"),1)]),i("article",Re,[t[20]||(t[20]=i("span",null,"Pending",-1)),i("strong",null,s(e.analyticsState.metrika?.pending||0),1)]),i("article",De,[t[21]||(t[21]=i("span",null,"Sent",-1)),i("strong",null,s(e.analyticsState.metrika?.sent||0),1)]),i("article",Ee,[t[22]||(t[22]=i("span",null,"Failed",-1)),i("strong",null,s(e.analyticsState.metrika?.failed||0),1)]),i("article",Fe,[t[23]||(t[23]=i("span",null,"Skipped",-1)),i("strong",null,s(e.analyticsState.metrika?.skipped||0),1)])])]),i("section",Ve,[i("div",Le,[i("div",null,[t[24]||(t[24]=i("h3",null,"Менеджеры",-1)),i("p",null,s(e.analyticsState.managerRows.length)+" строк",1)])]),i("div",Ne,[(a(!0),o(p,null,m(e.analyticsState.managerRows,t=>(a(),o("article",{key:t.managerSubject,class:"list-card"},[i("div",ze,[i("strong",null,s(t.managerSubject),1),i("span",Me,s(t.paidOrders)+" paid",1)]),i("div",Ke,[i("span",null,"Заказов "+s(t.totalOrders),1),i("span",null,s(e.formatMoney(t.paidAmount)),1),i("span",null,"Комиссия "+s(e.formatMoney(t.commission)),1)])]))),128))])]),i("section",He,[i("div",Be,[i("div",null,[t[25]||(t[25]=i("h3",null,"Ссылки оплаты",-1)),i("p",null,s(e.analyticsState.paymentLinks.rows?.length||0)+" строк",1)])]),i("div",$e,[(a(!0),o(p,null,m(e.analyticsState.paymentLinks.rows||[],t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",je,[i("strong",null,s(t.managerSubject||t.managerEmail||"Менеджер"),1),i("span",{class:l(["pill",t.paid?"pill-positive":"pill-muted"])},s(t.paid?"paid":t.status),3)]),i("p",qe,s(t.orderId),1),i("div",Ge,[i("span",null,s(e.formatDateTime(t.sentAt||t.createdAt)),1)])]))),128))])])])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Ye={class:"pane-header"},Je={class:"search-field"},Xe={key:0,class:"empty-state"},We={key:1,class:"empty-state"},Ze={key:2,class:"card-list"},et=["onClick"],tt={class:"list-card-head"},nt={class:"pill pill-neutral"},at={class:"list-card-slug"},ot={key:0,class:"empty-detail"},lt={key:1,class:"detail-card"},it={class:"detail-header"},rt={key:0,class:"detail-subtitle"},st={class:"detail-header-actions"},dt=["disabled"],ct={class:"metrics-row"},ut={class:"metric-card"},pt={class:"form-grid"},mt={class:"ops-field ops-field-required"},bt={class:"ops-field ops-field-required"},ft={class:"ops-field"},yt={class:"sticky-actions detail-footer-actions"},vt=["disabled"],gt=["disabled"],ht={__name:"BrandsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Ye,[i("div",null,[t[8]||(t[8]=i("h2",null,"Бренды",-1)),i("p",null,s(e.brandState.items.length)+" записей",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateBrand&&e.startCreateBrand(...t))}," Новый бренд ")]),i("label",Je,[t[9]||(t[9]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.brandState.query=t),type:"search",placeholder:"Название или слаг"},null,512),[[f,e.brandState.query,void 0,{trim:!0}]])]),e.isTabLoading("brands")?(a(),o("div",Xe,[...t[10]||(t[10]=[i("strong",null,"Загружаю бренды",-1)])])):e.filteredBrands.length?(a(),o("div",Ze,[(a(!0),o(p,null,m(e.filteredBrands,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.brandState.selectedId===t.id&&!e.brandState.isCreating}]),onClick:n=>e.selectBrand(t.id)},[i("div",tt,[i("strong",null,s(t.name),1),i("span",nt,s(t.productCount)+" товаров",1)]),i("p",at,s(t.slug),1)],10,et))),128))])):(a(),o("div",We,[...t[11]||(t[11]=[i("strong",null,"Бренды не найдены",-1),i("span",null,"Измените поиск или создайте новую запись.",-1)])]))]),detail:u(()=>[e.brandState.isCreating||e.brandState.detail?(a(),o("section",lt,[i("header",it,[i("div",null,[t[13]||(t[13]=i("p",{class:"detail-kicker"},"Бренды",-1)),i("h2",null,s(e.brandState.isCreating?"Новый бренд":e.brandState.detail?.item?.name),1),e.brandState.detail?.item?.slug?(a(),o("p",rt,s(e.brandState.detail.item.slug),1)):d("v-if",!0)]),i("div",st,[e.brandForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteBrand&&e.deleteBrand(...t))}," Удалить ",8,dt)):d("v-if",!0)])]),i("form",{id:"storefront-ops-brand-form",class:"editor-form brand-editor",onSubmit:t[6]||(t[6]=v((...t)=>e.submitBrand&&e.submitBrand(...t),["prevent"]))},[i("div",ct,[i("article",ut,[t[14]||(t[14]=i("span",null,"Товаров у бренда",-1)),i("strong",null,s(e.brandState.detail?.item?.productCount||0),1)])]),i("div",pt,[i("label",mt,[t[15]||(t[15]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.brandForm.name=t),type:"text"},null,512),[[f,e.brandForm.name,void 0,{trim:!0}]])]),i("label",bt,[t[16]||(t[16]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.brandForm.slug=t),type:"text"},null,512),[[f,e.brandForm.slug,void 0,{trim:!0}]])])]),i("label",ft,[t[17]||(t[17]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.brandForm.description=t),rows:"6"},null,512),[[f,e.brandForm.description]])])],32),i("div",yt,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-brand-form",disabled:e.isSubmitting},s(e.brandForm.id?"Сохранить бренд":"Создать бренд"),9,vt),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[7]||(t[7]=(...t)=>e.resetBrandEditor&&e.resetBrandEditor(...t))}," Сбросить ",8,gt)])])):(a(),o("div",ot,[...t[12]||(t[12]=[i("strong",null,"Выберите бренд",-1),i("span",null,"Откройте карточку слева или создайте новую запись.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},kt={class:"pane-header"},St={class:"search-field"},wt={key:0,class:"inline-note"},Ct={key:1,class:"empty-state"},xt={key:2,class:"empty-state"},It={key:3,class:"card-list"},Tt=["onClick"],Ot={class:"list-card-head"},Pt={class:"list-card-slug"},At={class:"list-card-meta"},Ut={key:0,class:"list-card-footer"},_t={class:"overlay-chip"},Rt={key:0,class:"empty-detail"},Dt={key:1,class:"detail-card"},Et={class:"detail-header"},Ft={key:0,class:"detail-subtitle"},Vt={class:"detail-header-actions"},Lt=["disabled"],Nt={key:0,class:"inline-note"},zt={key:0,class:"metrics-row compact-metrics"},Mt={class:"metric-card"},Kt={class:"metric-card"},Ht={class:"metric-card"},Bt={class:"form-grid"},$t={class:"ops-field ops-field-required"},jt={class:"ops-field ops-field-required"},qt={class:"form-grid"},Gt={class:"ops-field"},Qt=["value"],Yt={class:"ops-field"},Jt={class:"position-control"},Xt=["disabled"],Wt=["disabled"],Zt={class:"ops-field ops-field-boolean"},en={class:"ops-toggle"},tn={class:"ops-field"},nn={class:"context-grid"},an={class:"media-inline-panel"},on={key:0,class:"category-image-preview"},ln=["src","alt"],rn={class:"ops-field"},sn=["disabled"],dn={key:1,class:"media-upload-list"},cn={class:"media-upload-main"},un=["value"],pn={key:1,class:"field-error"},mn=["onClick"],bn=["onClick"],fn={class:"merch-card"},yn={class:"merch-card-head"},vn={class:"definition-list"},gn={class:"sticky-actions sticky-actions-inline"},hn=["disabled"],kn=["disabled"],Sn={class:"sticky-actions detail-footer-actions"},wn=["disabled"],Cn=["disabled"],xn={__name:"CategoriesTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",kt,[i("div",null,[t[17]||(t[17]=i("h2",null,"Категории",-1)),i("p",null,s(e.categoryState.items.length)+" узлов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateCategory&&e.startCreateCategory(...t))}," Новая категория ")]),i("label",St,[t[18]||(t[18]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.categoryState.query=t),type:"search",placeholder:"Название, слаг, путь"},null,512),[[f,e.categoryState.query,void 0,{trim:!0}]])]),e.categoryState.overlayReadFailed?(a(),o("p",wt," Оверлеи категорий сейчас не читаются, но дерево каталога можно править. ")):d("v-if",!0),e.isTabLoading("categories")?(a(),o("div",Ct,[...t[19]||(t[19]=[i("strong",null,"Загружаю категории",-1)])])):e.filteredCategories.length?(a(),o("div",It,[(a(!0),o(p,null,m(e.filteredCategories,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.categoryState.selectedId===t.id&&!e.categoryState.isCreating}]),onClick:n=>e.selectCategory(t.id)},[i("div",Ot,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.isActive?"pill-positive":"pill-muted"])},s(t.isActive?"Активна":"Скрыта"),3)]),i("p",Pt,s(t.fullPath||t.slug),1),i("div",At,[i("span",null,"Уровень "+s(t.depth+1),1),i("span",null,"Позиция "+s(t.position),1)]),t.overlay?(a(),o("div",Ut,[i("span",_t,s(e.overlayStatusLabel(t.overlay.status)),1)])):d("v-if",!0)],10,Tt))),128))])):(a(),o("div",xt,[...t[20]||(t[20]=[i("strong",null,"Категории не найдены",-1),i("span",null,"Попробуйте другой запрос или создайте новую категорию.",-1)])]))]),detail:u(()=>[e.categoryState.isCreating||e.categoryState.detail?(a(),o("section",Dt,[i("header",Et,[i("div",null,[t[22]||(t[22]=i("p",{class:"detail-kicker"},"Категории",-1)),i("h2",null,s(e.categoryState.isCreating?"Новая категория":e.categoryState.detail?.item?.name),1),e.categoryState.detail?.item?.fullPath?(a(),o("p",Ft,s(e.categoryState.detail.item.fullPath),1)):d("v-if",!0)]),i("div",Vt,[e.categoryForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteCategory&&e.deleteCategory(...t))}," Удалить ",8,Lt)):d("v-if",!0)])]),e.categoryState.overlayReadFailed?(a(),o("div",Nt," Оверлей категории сейчас не читается. Таксономию можно редактировать без ограничений. ")):d("v-if",!0),i("form",{id:"storefront-ops-category-form",class:"editor-form category-editor",onSubmit:t[15]||(t[15]=v((...t)=>e.submitCategory&&e.submitCategory(...t),["prevent"]))},[e.categoryForm.id||e.categoryState.detail?.item?.fullPath?(a(),o("div",zt,[i("article",Mt,[t[23]||(t[23]=i("span",null,"Путь",-1)),i("strong",null,s(e.categoryState.detail?.item?.fullPath||e.categoryForm.slug||"Не задан"),1)]),i("article",Kt,[t[24]||(t[24]=i("span",null,"Уровень",-1)),i("strong",null,s(Number(e.categoryState.detail?.item?.depth||0)+1),1)]),i("article",Ht,[t[25]||(t[25]=i("span",null,"Позиция",-1)),i("strong",null,s(e.categoryForm.position),1)])])):d("v-if",!0),i("div",Bt,[i("label",$t,[t[26]||(t[26]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.categoryForm.name=t),type:"text"},null,512),[[f,e.categoryForm.name,void 0,{trim:!0}]])]),i("label",jt,[t[27]||(t[27]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.categoryForm.slug=t),type:"text"},null,512),[[f,e.categoryForm.slug,void 0,{trim:!0}]])])]),i("div",qt,[i("label",Gt,[t[29]||(t[29]=i("span",null,"Родительская категория",-1)),b(i("select",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.categoryForm.parentId=t)},[t[28]||(t[28]=i("option",{value:""},"Без родителя",-1)),(a(!0),o(p,null,m(e.availableParentOptions,t=>(a(),o("option",{key:t.id,value:t.id},s(e.formatCategoryLabel(t)),9,Qt))),128))],512),[[g,e.categoryForm.parentId]])]),i("div",Yt,[t[30]||(t[30]=i("span",null,"Позиция",-1)),i("div",Jt,[i("button",{class:"button button-secondary button-small",type:"button",disabled:e.isSubmitting||Number(e.categoryForm.position||0)<=0,onClick:t[6]||(t[6]=t=>e.adjustCategoryPosition(-1))}," Раньше ",8,Xt),b(i("input",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.categoryForm.position=t),type:"number",min:"0",step:"1","aria-describedby":"category-position-help"},null,512),[[f,e.categoryForm.position,void 0,{number:!0}]]),i("button",{class:"button button-secondary button-small",type:"button",disabled:e.isSubmitting,onClick:t[8]||(t[8]=t=>e.adjustCategoryPosition(1))}," Позже ",8,Wt)]),t[31]||(t[31]=i("small",{id:"category-position-help",class:"field-help"}," Меньшее число поднимает категорию выше среди категорий того же родителя. ",-1))])]),i("label",Zt,[t[32]||(t[32]=i("span",null,"Витрина",-1)),i("label",en,[b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.categoryForm.isActive=t),type:"checkbox"},null,512),[[h,e.categoryForm.isActive]]),i("span",null,s(e.categoryForm.isActive?"Категория видна":"Категория скрыта"),1)])]),i("label",tn,[t[33]||(t[33]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.categoryForm.description=t),rows:"5"},null,512),[[f,e.categoryForm.description]])]),i("div",nn,[i("section",an,[t[35]||(t[35]=i("div",null,[i("h3",null,"Изображение категории"),i("p",null,"Файл хранится в каталожных медиа и не зависит от файловой библиотеки CMS.")],-1)),e.categoryState.detail?.item?.imageUrl?(a(),o("div",on,[i("img",{src:e.categoryState.detail.item.imageUrl,alt:e.categoryState.detail.item.name},null,8,ln)])):d("v-if",!0),i("label",rn,[t[34]||(t[34]=i("span",null,"Файл изображения",-1)),i("input",{type:"file",accept:"image/*",onChange:t[11]||(t[11]=(...t)=>e.onCategoryFileSelected&&e.onCategoryFileSelected(...t))},null,32)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting||!e.categoryImageFile,onClick:t[12]||(t[12]=(...t)=>e.uploadCategoryImage&&e.uploadCategoryImage(...t))}," Загрузить изображение ",8,sn),"CATEGORY"===e.mediaUploadState.targetType&&e.mediaUploadState.items.length?(a(),o("div",dn,[(a(!0),o(p,null,m(e.mediaUploadState.items,t=>(a(),o("article",{key:t.id,class:"media-upload-row"},[i("div",cn,[i("strong",null,s(t.filename),1),i("span",null,s(e.mediaUploadProgressLabel(t)),1),"UPLOADING"===t.status?(a(),o("progress",{key:0,value:Math.round(100*Number(t.progress||0)),max:"100"},null,8,un)):d("v-if",!0),t.error?(a(),o("small",pn,s(t.error),1)):d("v-if",!0)]),"FAILED"===t.status?(a(),o("button",{key:0,class:"button button-secondary button-small",type:"button",onClick:n=>e.retryMediaUpload(t.id)}," Повторить ",8,mn)):d("v-if",!0),["UPLOADING","QUEUED","FAILED"].includes(t.status)?(a(),o("button",{key:1,class:"button button-danger button-small",type:"button",onClick:n=>e.abortMediaUpload(t.id)}," Отменить ",8,bn)):d("v-if",!0)]))),128))])):d("v-if",!0)]),i("article",fn,[i("div",yn,[t[36]||(t[36]=i("div",null,[i("h3",null,"Витринный оверлей"),i("p",null,"Маркетинговый слой для hero, badge и редакционных блоков категории.")],-1)),e.categoryOverlayInfo?(a(),o("span",{key:0,class:l(["pill",e.categoryOverlayInfo.exists?"pill-positive":"pill-neutral"])},s(e.categoryOverlayInfo.exists?e.overlayStatusLabel(e.categoryOverlayInfo.status):"Не создан"),3)):d("v-if",!0)]),i("dl",vn,[i("div",null,[t[37]||(t[37]=i("dt",null,"Ключ",-1)),i("dd",null,s(e.categoryOverlayInfo?.key||e.categoryForm.slug||"Сначала сохраните слаг категории"),1)]),i("div",null,[t[38]||(t[38]=i("dt",null,"Маркетинговый заголовок",-1)),i("dd",null,s(e.categoryOverlayInfo?.marketingTitle||"Не задан"),1)]),i("div",null,[t[39]||(t[39]=i("dt",null,"Badge",-1)),i("dd",null,s(e.categoryOverlayInfo?.badgeText||"Не задан"),1)])]),i("div",gn,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[13]||(t[13]=t=>e.openOrCreateOverlay("category"))},s(e.categoryOverlayInfo?.exists?"Открыть оверлей":"Создать оверлей"),9,hn),i("button",{class:"button button-secondary",type:"button",disabled:!e.accessState.previewBaseUrl||!e.categoryForm.slug,onClick:t[14]||(t[14]=t=>e.openStorefrontPreview("category"))}," Предпросмотр витрины ",8,kn)])])])],32),i("div",Sn,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-category-form",disabled:e.isSubmitting},s(e.categoryForm.id?"Сохранить категорию":"Создать категорию"),9,wn),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[16]||(t[16]=(...t)=>e.resetCategoryEditor&&e.resetCategoryEditor(...t))}," Сбросить ",8,Cn)])])):(a(),o("div",Rt,[...t[21]||(t[21]=[i("strong",null,"Выберите категорию",-1),i("span",null,"Откройте узел дерева слева или создайте новую категорию.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))};E("\n.pane-header-actions[data-v-887be8ee] {\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n  justify-content: flex-end;\n}\n",{});var In=(e,t)=>{const n=e.__vccOpts||e;for(const[e,a]of t)n[e]=a;return n};const Tn={class:"pane-header"},On={class:"pane-header-actions"},Pn=["disabled"],An=["disabled"],Un={class:"home-add-section"},_n={class:"ops-field"},Rn=["value"],Dn={key:0,class:"empty-state"},En={key:1,class:"empty-state"},Fn={key:2,class:"card-list home-outline"},Vn=["onClick","onKeydown"],Ln={class:"list-card-head"},Nn={class:"pill pill-neutral"},zn={class:"list-card-slug"},Mn={class:"list-card-meta"},Kn={class:"detail-header-actions home-outline-actions"},Hn=["disabled","onClick"],Bn=["disabled","onClick"],$n={__name:"HomeSectionOutline",props:{sections:{type:Array,default:()=>[]},selectedIndex:{type:Number,default:0},preset:{type:String,default:""},presets:{type:Array,default:()=>[]},loading:{type:Boolean,default:!1},isSubmitting:{type:Boolean,default:!1},dirty:{type:Boolean,default:!1},saveLabel:{type:String,default:"Сохранить"},canPreview:{type:Boolean,default:!1},statusLabel:{type:Function,required:!0},sectionLabel:{type:Function,required:!0},sectionTypeLabel:{type:Function,required:!0}},emits:["update:preset","save","preview","add","select","move"],setup(e,{emit:t}){const n=e,r=t,d=k({get:()=>n.preset,set:e=>r("update:preset",e)});return(t,n)=>(a(),o(p,null,[i("div",Tn,[i("div",null,[n[4]||(n[4]=i("h2",null,"Главная",-1)),i("p",null,s(e.sections.length)+" секций · "+s(e.dirty?"есть несохранённые изменения":"всё сохранено"),1)]),i("div",On,[i("button",{class:"button button-secondary",type:"button",disabled:!e.canPreview,onClick:n[0]||(n[0]=e=>t.$emit("preview"))}," Предпросмотр ",8,Pn),i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.loading||!e.dirty,onClick:n[1]||(n[1]=e=>t.$emit("save"))},s(e.saveLabel),9,An)])]),i("div",Un,[i("label",_n,[n[5]||(n[5]=i("span",null,"Добавить секцию",-1)),b(i("select",{"onUpdate:modelValue":n[2]||(n[2]=e=>d.value=e)},[(a(!0),o(p,null,m(e.presets,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Rn))),128))],512),[[g,d.value]])]),i("button",{class:"button button-secondary",type:"button",onClick:n[3]||(n[3]=e=>t.$emit("add"))}," Добавить ")]),e.loading?(a(),o("div",Dn,[...n[6]||(n[6]=[i("strong",null,"Загружаю главную",-1)])])):e.sections.length?(a(),o("div",Fn,[(a(!0),o(p,null,m(e.sections,(n,r)=>(a(),o("article",{key:n.clientId||n.id||n.migrationKey||n.sort,role:"button",tabindex:"0",class:l(["list-card",{active:e.selectedIndex===r}]),onClick:e=>t.$emit("select",r),onKeydown:[y(v(e=>t.$emit("select",r),["prevent"]),["enter"]),y(v(e=>t.$emit("select",r),["prevent"]),["space"])]},[i("div",Ln,[i("strong",null,s(e.sectionLabel(n)),1),i("span",Nn,s(e.sectionTypeLabel(n.sectionType)),1)]),i("p",zn,s(n.title||n.anchorId||"Без заголовка"),1),i("div",Mn,[i("span",null,s(e.statusLabel(n.status)),1),i("span",null,s(n.items.length)+" элементов",1),i("span",null,"Позиция "+s(r+1),1)]),i("div",Kn,[i("button",{class:"button button-secondary button-small",type:"button",disabled:0===r,onClick:v(e=>t.$emit("move",r,-1),["stop"])}," ↑ ",8,Hn),i("button",{class:"button button-secondary button-small",type:"button",disabled:r===e.sections.length-1,onClick:v(e=>t.$emit("move",r,1),["stop"])}," ↓ ",8,Bn)])],42,Vn))),128))])):(a(),o("div",En,[...n[7]||(n[7]=[i("strong",null,"Секции не найдены",-1),i("span",null,"Проверьте, что начальный контент Directus импортирован.",-1)])]))],64))}};var jn=In($n,[["__scopeId","data-v-887be8ee"]]);const qn={class:"detail-header"},Gn={class:"detail-header-actions"},Qn=["disabled"],Yn={key:0,class:"empty-state"},Jn={class:"section-block"},Xn={class:"form-grid"},Wn={class:"ops-field"},Zn=["value"],ea={class:"ops-field"},ta={class:"ops-field"},na={class:"ops-field"},aa={class:"ops-field full-span"},oa={class:"section-block"},la={class:"form-grid"},ia={class:"ops-field"},ra=["value"],sa={class:"ops-field"},da={class:"ops-field full-span"},ca={key:0,class:"empty-inline"},ua=["data-home-section-index"],pa={class:"section-head"},ma={class:"detail-header-actions"},ba=["disabled","onClick"],fa=["disabled","onClick"],ya=["onClick"],va=["onClick"],ga=["onClick"],ha={class:"form-grid"},ka={class:"ops-field"},Sa=["onUpdate:modelValue"],wa=["value"],Ca={class:"ops-field"},xa=["onUpdate:modelValue"],Ia={class:"ops-field"},Ta=["onUpdate:modelValue"],Oa={class:"ops-field"},Pa=["onUpdate:modelValue"],Aa={class:"ops-field"},Ua=["onUpdate:modelValue"],_a={class:"ops-field"},Ra=["onUpdate:modelValue"],Da={class:"ops-field"},Ea=["onUpdate:modelValue"],Fa={class:"ops-field"},Va=["onUpdate:modelValue"],La={class:"ops-field"},Na=["onUpdate:modelValue"],za={class:"ops-field"},Ma=["onUpdate:modelValue"],Ka={class:"ops-field"},Ha=["onUpdate:modelValue"],Ba={class:"ops-field"},$a=["onUpdate:modelValue"],ja=["value"],qa={class:"ops-field"},Ga=["onUpdate:modelValue"],Qa=["value"],Ya={class:"ops-field full-span"},Ja=["onUpdate:modelValue"],Xa={key:0,class:"selector-card"},Wa={key:0,class:"list-card"},Za={class:"list-card-head"},eo=["src","alt"],to={class:"list-card-slug"},no={key:1,class:"empty-inline"},ao={class:"form-grid"},oo={class:"ops-field"},lo=["onUpdate:modelValue","onKeyup"],io={class:"ops-field"},ro=["onUpdate:modelValue"],so=["value"],co={class:"ops-field"},uo=["onClick"],po={class:"ops-field"},mo=["disabled","onClick"],bo={class:"ops-field"},fo=["disabled","onClick"],yo={key:1,class:"selector-card"},vo={key:0,class:"card-list"},go={class:"list-card-head"},ho=["src","alt"],ko={class:"list-card-slug"},So={class:"form-grid"},wo={class:"ops-field"},Co=["onUpdate:modelValue"],xo=["value"],Io={class:"ops-field"},To=["onUpdate:modelValue"],Oo={class:"ops-field"},Po=["onUpdate:modelValue"],Ao={class:"ops-field"},Uo=["onUpdate:modelValue"],_o={class:"detail-header-actions"},Ro=["disabled","onClick"],Do=["disabled","onClick"],Eo=["onClick"],Fo={key:1,class:"empty-inline"},Vo={class:"form-grid"},Lo={class:"ops-field"},No={class:"ops-field"},zo=["value"],Mo={class:"ops-field"},Ko={class:"ops-field"},Ho=["disabled","onClick"],Bo={key:2,class:"selector-card"},$o={class:"selector-card-head"},jo={key:0,class:"card-list"},qo={class:"list-card-head"},Go=["src","alt"],Qo={class:"list-card-slug"},Yo={class:"form-grid"},Jo={class:"ops-field"},Xo=["onUpdate:modelValue"],Wo=["value"],Zo={class:"ops-field"},el=["onUpdate:modelValue"],tl={class:"ops-field"},nl=["onUpdate:modelValue"],al={class:"ops-field"},ol=["onUpdate:modelValue"],ll={class:"detail-header-actions"},il=["disabled","onClick"],rl=["disabled","onClick"],sl=["onClick"],dl={key:1,class:"empty-inline"},cl={class:"form-grid"},ul={class:"ops-field"},pl=["onUpdate:modelValue","onKeyup"],ml={class:"ops-field"},bl=["onUpdate:modelValue","onFocus"],fl=["value"],yl={class:"ops-field"},vl=["onClick"],gl={class:"ops-field"},hl=["onClick"],kl={key:3,class:"selector-card"},Sl={class:"selector-card-head"},wl={key:0,class:"card-list"},Cl={class:"list-card-head"},xl={class:"list-card-slug"},Il={class:"form-grid"},Tl={class:"ops-field"},Ol=["onUpdate:modelValue"],Pl=["value"],Al={class:"ops-field"},Ul=["onUpdate:modelValue"],_l={class:"detail-header-actions"},Rl=["disabled","onClick"],Dl=["disabled","onClick"],El=["onClick"],Fl=["onClick"],Vl={key:1,class:"empty-inline"},Ll={class:"form-grid"},Nl={class:"ops-field"},zl=["value"],Ml={class:"ops-field"},Kl=["disabled","onClick"],Hl={key:2,class:"section-block section-block-compact"},Bl={class:"section-head"},$l={class:"detail-header-actions"},jl=["disabled"],ql={class:"form-grid"},Gl={class:"ops-field"},Ql=["value"],Yl={class:"ops-field"},Jl={class:"ops-field"},Xl={class:"ops-field"},Wl=["value"],Zl={class:"ops-field"},ei=["value"],ti={class:"ops-field"},ni={class:"ops-field"},ai=["value"],oi={class:"ops-field"},li={class:"ops-field"},ii={class:"ops-field full-span"},ri={class:"form-grid"},si={class:"ops-field"},di={class:"ops-field"},ci=["value"],ui={class:"ops-field"},pi={class:"ops-field"},mi=["disabled"],bi={class:"form-grid"},fi={class:"ops-field"},yi={class:"ops-field"},vi=["value"],gi={class:"ops-field"},hi={class:"ops-field"},ki=["disabled"],Si={key:0,class:"card-list"},wi={class:"list-card-head"},Ci={class:"pill pill-neutral"},xi={class:"list-card-slug"},Ii={class:"form-grid"},Ti={class:"ops-field"},Oi=["onUpdate:modelValue"],Pi={class:"ops-field"},Ai=["onUpdate:modelValue"],Ui=["value"],_i={class:"detail-header-actions"},Ri=["disabled","onClick"],Di=["disabled","onClick"],Ei=["onClick"],Fi={key:1,class:"empty-inline"},Vi={key:4,class:"selector-card"},Li={class:"selector-card-head"},Ni=["onClick"],zi={key:0,class:"card-list"},Mi={class:"list-card-head"},Ki={class:"pill pill-neutral"},Hi={class:"form-grid"},Bi={class:"ops-field"},$i=["onUpdate:modelValue"],ji=["value"],qi={class:"ops-field"},Gi=["onUpdate:modelValue"],Qi={class:"ops-field"},Yi=["onUpdate:modelValue"],Ji={class:"ops-field"},Xi=["onUpdate:modelValue"],Wi={class:"ops-field full-span"},Zi=["onUpdate:modelValue"],er={class:"detail-header-actions"},tr=["disabled","onClick"],nr=["disabled","onClick"],ar=["onClick"],or={key:1,class:"empty-inline"},lr={key:2,class:"sticky-actions detail-footer-actions"},ir=["disabled"],rr={__name:"HomeTab",props:M,setup(e){const t=e,n=S(null),r=S(null);async function h(e){t.selectHomeSection(e),await C();const a=r.value||n.value;if(!a)return;const o=n.value?.querySelector(`[data-home-section-index="${e}"]`);if(!o)return;const l=a.getBoundingClientRect(),i=o.getBoundingClientRect().top-l.top+a.scrollTop-12;a.scrollTo({top:Math.max(0,i),behavior:"smooth"})}return(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[w(jn,{preset:e.homeState.presetToAdd,"onUpdate:preset":t[0]||(t[0]=t=>e.homeState.presetToAdd=t),sections:e.homeForm.sections,"selected-index":e.homeState.selectedSectionIndex,presets:e.HOME_SECTION_PRESETS,loading:e.isTabLoading("home"),"is-submitting":e.isSubmitting,dirty:e.homeDirty,"save-label":e.homeSaveLabel,"status-label":e.homeStatusLabel,"section-label":e.homeSectionLabel,"section-type-label":e.homeSectionTypeLabel,"can-preview":Boolean(e.accessState.previewBaseUrl),onSave:e.saveHomeContent,onPreview:t[1]||(t[1]=t=>e.openStorefrontPreview("page")),onAdd:e.addHomeSectionPreset,onSelect:h,onMove:e.moveHomeSection},null,8,["preset","sections","selected-index","presets","loading","is-submitting","dirty","save-label","status-label","section-label","section-type-label","can-preview","onSave","onAdd","onMove"])]),detail:u(()=>[i("section",{ref_key:"homeDetailCard",ref:n,class:"detail-card"},[i("header",qn,[t[40]||(t[40]=i("div",null,[i("p",{class:"detail-kicker"},"Главная"),i("h2",null,"Контент главной страницы"),i("p",{class:"detail-subtitle"},"Hero, категории, подборки и повторяемые карточки редактируются здесь без сырых ключей Directus.")],-1)),i("div",Gn,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.loading.home||!e.homeDirty,onClick:t[2]||(t[2]=(...t)=>e.saveHomeContent&&e.saveHomeContent(...t))},s(e.homeSaveLabel),9,Qn)])]),e.isTabLoading("home")?(a(),o("div",Yn,[...t[41]||(t[41]=[i("strong",null,"Загружаю контент главной",-1)])])):(a(),o("form",{key:1,id:"storefront-ops-home-form",ref_key:"homeDetailScroller",ref:r,class:"editor-form",onSubmit:t[39]||(t[39]=v((...t)=>e.saveHomeContent&&e.saveHomeContent(...t),["prevent"]))},[i("section",Jn,[t[47]||(t[47]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Страница"),i("p",null,"Общие заголовки и SEO для маршрута /.")])],-1)),i("div",Xn,[i("label",Wn,[t[42]||(t[42]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.homeForm.page.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Zn))),128))],512),[[g,e.homeForm.page.status]])]),i("label",ea,[t[43]||(t[43]=i("span",null,"Заголовок страницы",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.homeForm.page.title=t),type:"text"},null,512),[[f,e.homeForm.page.title,void 0,{trim:!0}]])]),i("label",ta,[t[44]||(t[44]=i("span",null,"SEO title",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.homeForm.page.seoTitle=t),type:"text"},null,512),[[f,e.homeForm.page.seoTitle,void 0,{trim:!0}]])]),i("label",na,[t[45]||(t[45]=i("span",null,"SEO description",-1)),b(i("textarea",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.homeForm.page.seoDescription=t),rows:"3"},null,512),[[f,e.homeForm.page.seoDescription,void 0,{trim:!0}]])]),i("label",aa,[t[46]||(t[46]=i("span",null,"Краткое описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.homeForm.page.summary=t),rows:"3"},null,512),[[f,e.homeForm.page.summary,void 0,{trim:!0}]])])])]),i("section",oa,[t[51]||(t[51]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Баннер в шапке"),i("p",null,"Текст верхней плашки сайта. Если текст пустой или статус не опубликован, плашка не показывается.")])],-1)),i("div",la,[i("label",ia,[t[48]||(t[48]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[8]||(t[8]=t=>e.homeForm.announcementBanner.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ra))),128))],512),[[g,e.homeForm.announcementBanner.status]])]),i("label",sa,[t[49]||(t[49]=i("span",null,"Название для редактора",-1)),b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.homeForm.announcementBanner.internalName=t),type:"text"},null,512),[[f,e.homeForm.announcementBanner.internalName,void 0,{trim:!0}]])]),i("label",da,[t[50]||(t[50]=i("span",null,"Текст баннера",-1)),b(i("input",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.homeForm.announcementBanner.shortText=t),type:"text",placeholder:"Например: Новые условия доставки опубликованы"},null,512),[[f,e.homeForm.announcementBanner.shortText,void 0,{trim:!0}]])])])]),e.selectedHomeSection?d("v-if",!0):(a(),o("div",ca,"Выберите секцию или добавьте новый блок.")),(a(!0),o(p,null,m(e.selectedHomeSectionList,(n,r)=>(a(),o("section",{key:n.clientId||n.id||n.migrationKey||n.sort,class:l(["section-block",{"section-block-active":e.homeForm.sections[r]===e.selectedHomeSection}]),"data-home-section-index":r},[i("div",pa,[i("div",null,[i("h3",null,s(e.homeSectionLabel(n)),1),i("p",null,s(e.homeSectionTypeLabel(n.sectionType))+" · "+s(e.homeStatusLabel(n.status))+" · "+s(r+1)+" из "+s(e.homeForm.sections.length),1)]),i("div",ma,[i("button",{class:"button button-secondary button-small",type:"button",disabled:0===r,onClick:t=>e.moveHomeSection(r,-1)}," ↑ ",8,ba),i("button",{class:"button button-secondary button-small",type:"button",disabled:r===e.homeForm.sections.length-1,onClick:t=>e.moveHomeSection(r,1)}," ↓ ",8,fa),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>{e.selectHomeSection(r),e.duplicateHomeSection(n)}}," Дублировать ",8,ya),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>e.archiveHomeSection(n)},s("archived"===n.status?"Вернуть":"Архив"),9,va),n.id?d("v-if",!0):(a(),o("button",{key:0,class:"button button-danger button-small",type:"button",onClick:t=>e.removeHomeSection(r)}," Убрать ",8,ga))])]),i("div",ha,[i("label",ka,[t[52]||(t[52]=i("span",null,"Статус секции",-1)),b(i("select",{"onUpdate:modelValue":e=>n.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,wa))),128))],8,Sa),[[g,n.status]])]),i("label",Ca,[t[53]||(t[53]=i("span",null,"Название для редактора",-1)),b(i("input",{"onUpdate:modelValue":e=>n.internalName=e,type:"text"},null,8,xa),[[f,n.internalName,void 0,{trim:!0}]])]),i("label",Ia,[t[54]||(t[54]=i("span",null,"Малый заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.eyebrow=e,type:"text"},null,8,Ta),[[f,n.eyebrow,void 0,{trim:!0}]])]),i("label",Oa,[t[55]||(t[55]=i("span",null,"Заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.title=e,type:"text"},null,8,Pa),[[f,n.title,void 0,{trim:!0}]])]),i("label",Aa,[t[56]||(t[56]=i("span",null,"Акцент hero",-1)),b(i("input",{"onUpdate:modelValue":e=>n.accent=e,type:"text"},null,8,Ua),[[f,n.accent,void 0,{trim:!0}]])]),i("label",_a,[t[57]||(t[57]=i("span",null,"Порядок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.sort=e,type:"number",min:"1"},null,8,Ra),[[f,n.sort,void 0,{number:!0}]])]),i("label",Da,[t[58]||(t[58]=i("span",null,"Якорь",-1)),b(i("input",{"onUpdate:modelValue":e=>n.anchorId=e,type:"text",placeholder:"home-products"},null,8,Ea),[[f,n.anchorId,void 0,{trim:!0}]])]),i("label",Fa,[t[59]||(t[59]=i("span",null,"Основная кнопка",-1)),b(i("input",{"onUpdate:modelValue":e=>n.primaryCtaLabel=e,type:"text"},null,8,Va),[[f,n.primaryCtaLabel,void 0,{trim:!0}]])]),i("label",La,[t[60]||(t[60]=i("span",null,"Ссылка основной кнопки",-1)),b(i("input",{"onUpdate:modelValue":e=>n.primaryCtaUrl=e,type:"text",placeholder:"/catalog"},null,8,Na),[[f,n.primaryCtaUrl,void 0,{trim:!0}]])]),i("label",za,[t[61]||(t[61]=i("span",null,"Вторичная кнопка",-1)),b(i("input",{"onUpdate:modelValue":e=>n.secondaryCtaLabel=e,type:"text"},null,8,Ma),[[f,n.secondaryCtaLabel,void 0,{trim:!0}]])]),i("label",Ka,[t[62]||(t[62]=i("span",null,"Ссылка вторичной кнопки",-1)),b(i("input",{"onUpdate:modelValue":e=>n.secondaryCtaUrl=e,type:"text"},null,8,Ha),[[f,n.secondaryCtaUrl,void 0,{trim:!0}]])]),i("label",Ba,[t[63]||(t[63]=i("span",null,"Вариант стиля",-1)),b(i("select",{"onUpdate:modelValue":e=>n.styleVariant=e},[(a(!0),o(p,null,m(e.HOME_STYLE_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ja))),128))],8,$a),[[g,n.styleVariant]])]),i("label",qa,[t[64]||(t[64]=i("span",null,"Вариант макета",-1)),b(i("select",{"onUpdate:modelValue":e=>n.layoutVariant=e},[(a(!0),o(p,null,m(e.HOME_LAYOUT_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Qa))),128))],8,Ga),[[g,n.layoutVariant]])]),i("label",Ya,[t[65]||(t[65]=i("span",null,"Текст блока",-1)),b(i("textarea",{"onUpdate:modelValue":e=>n.body=e,rows:"4"},null,8,Ja),[[f,n.body,void 0,{trim:!0}]])])]),"hero"===n.sectionType?(a(),o("section",Xa,[t[73]||(t[73]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Товар под фото"),i("p",null,"Выберите товар для кнопки «Выбор недели» под hero-фотографией.")])],-1)),n.featuredProductKey?(a(),o("article",Wa,[i("div",Za,[i("strong",null,s(e.homeProductLabel(n.featuredProductKey)),1),t[66]||(t[66]=i("span",{class:"pill pill-neutral"},"Выбор недели",-1))]),e.homeProductImage(n.featuredProductKey)?(a(),o("img",{key:0,src:e.homeProductImage(n.featuredProductKey),alt:e.homeProductLabel(n.featuredProductKey),class:"home-reference-thumb"},null,8,eo)):d("v-if",!0),i("p",to,s(e.homeProductMeta(n.featuredProductKey)),1)])):(a(),o("div",no,"Товар для hero пока не выбран.")),i("div",ao,[i("label",oo,[t[67]||(t[67]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":e=>n.featuredProductQuery=e,type:"search",placeholder:"Название, бренд, категория",onKeyup:y(t=>e.searchHomeHeroProducts(n),["enter"])},null,40,lo),[[f,n.featuredProductQuery,void 0,{trim:!0}]])]),i("label",io,[t[69]||(t[69]=i("span",null,"Выбрать товар",-1)),b(i("select",{"onUpdate:modelValue":e=>n.featuredProductToAdd=e},[t[68]||(t[68]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredHomeFeaturedProductOptions(n),e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,so))),128))],8,ro),[[g,n.featuredProductToAdd]])]),i("div",co,[t[70]||(t[70]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.searchHomeHeroProducts(n)}," Найти ",8,uo)]),i("div",po,[t[71]||(t[71]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!n.featuredProductToAdd,onClick:t=>e.setHomeHeroFeaturedProduct(n)}," Выбрать ",8,mo)]),i("div",bo,[t[72]||(t[72]=i("span",null," ",-1)),i("button",{class:"button button-danger",type:"button",disabled:!n.featuredProductKey,onClick:t=>e.clearHomeHeroFeaturedProduct(n)}," Убрать ",8,fo)])])])):d("v-if",!0),"category_reference_list"===n.sectionType?(a(),o("section",yo,[t[83]||(t[83]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Категории на главной"),i("p",null,"Выберите реальные категории backend-каталога. Публичное название берётся из категории, если поле «Название на карточке» пустое.")])],-1)),n.items.length?(a(),o("div",vo,[(a(!0),o(p,null,m(n.items,(r,c)=>(a(),o("article",{key:r.id||r.referenceKey,class:"list-card"},[i("div",go,[i("strong",null,s(e.homeCategoryLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),e.homeCategoryImage(r.referenceKey)?(a(),o("img",{key:0,src:e.homeCategoryImage(r.referenceKey),alt:e.homeCategoryLabel(r.referenceKey),class:"home-reference-thumb"},null,8,ho)):d("v-if",!0),i("p",ko,s(e.homeCategoryMeta(r.referenceKey)),1),i("div",So,[i("label",wo,[t[74]||(t[74]=i("span",null,"Статус карточки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,xo))),128))],8,Co),[[g,r.status]])]),i("label",Io,[t[75]||(t[75]=i("span",null,"Название на карточке",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из категории"},null,8,To),[[f,r.title,void 0,{trim:!0}]])]),i("label",Oo,[t[76]||(t[76]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>r.label=e,type:"text"},null,8,Po),[[f,r.label,void 0,{trim:!0}]])]),i("label",Ao,[t[77]||(t[77]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>r.description=e,rows:"2"},null,8,Uo),[[f,r.description,void 0,{trim:!0}]])])]),i("div",_o,[i("button",{class:"button button-secondary",type:"button",disabled:0===c,onClick:t=>e.moveHomeItem(n,c,-1)}," ↑ ",8,Ro),i("button",{class:"button button-secondary",type:"button",disabled:c===n.items.length-1,onClick:t=>e.moveHomeItem(n,c,1)}," ↓ ",8,Do),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,c)}," Убрать ",8,Eo)])]))),128))])):(a(),o("div",Fo,"Категории пока не выбраны.")),i("div",Vo,[i("label",Lo,[t[78]||(t[78]=i("span",null,"Поиск категории",-1)),b(i("input",{"onUpdate:modelValue":t[11]||(t[11]=t=>e.homeState.categoryQuery=t),type:"search",placeholder:"Название, slug или путь",onKeyup:t[12]||(t[12]=y((...t)=>e.searchHomeCategories&&e.searchHomeCategories(...t),["enter"]))},null,544),[[f,e.homeState.categoryQuery,void 0,{trim:!0}]])]),i("label",No,[t[80]||(t[80]=i("span",null,"Добавить категорию",-1)),b(i("select",{"onUpdate:modelValue":t[13]||(t[13]=t=>e.homeState.categoryToAdd=t)},[t[79]||(t[79]=i("option",{value:""},"Выберите категорию",-1)),(a(!0),o(p,null,m(e.filteredHomeCategoryOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.fullPath||e.slug),9,zo))),128))],512),[[g,e.homeState.categoryToAdd]])]),i("div",Mo,[t[81]||(t[81]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[14]||(t[14]=(...t)=>e.searchHomeCategories&&e.searchHomeCategories(...t))}," Найти ")]),i("div",Ko,[t[82]||(t[82]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.categoryToAdd,onClick:t=>e.addHomeCategory(n)}," Добавить ",8,Ho)])])])):"product_reference_list"===n.sectionType?(a(),o("section",Bo,[i("div",$o,[i("div",null,[i("h3",null,s("shop_the_look"===n.layoutVariant?"Shop the look":"Товары в секции"),1),t[84]||(t[84]=i("p",null,"Выберите реальные товары backend-каталога. На сайте используются название, цена и фото товара.",-1))])]),n.items.length?(a(),o("div",jo,[(a(!0),o(p,null,m(n.items,(r,c)=>(a(),o("article",{key:r.id||r.referenceKey||c,class:"list-card"},[i("div",qo,[i("strong",null,s(e.homeProductLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),e.homeProductImage(r.referenceKey)?(a(),o("img",{key:0,src:e.homeProductImage(r.referenceKey),alt:e.homeProductLabel(r.referenceKey),class:"home-reference-thumb"},null,8,Go)):d("v-if",!0),i("p",Qo,s(e.homeProductMeta(r.referenceKey)),1),i("div",Yo,[i("label",Jo,[t[85]||(t[85]=i("span",null,"Статус карточки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Wo))),128))],8,Xo),[[g,r.status]])]),i("label",Zo,[t[86]||(t[86]=i("span",null,"Название на карточке",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из товара"},null,8,el),[[f,r.title,void 0,{trim:!0}]])]),i("label",tl,[t[87]||(t[87]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>r.label=e,type:"text"},null,8,nl),[[f,r.label,void 0,{trim:!0}]])]),i("label",al,[t[88]||(t[88]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>r.description=e,rows:"2"},null,8,ol),[[f,r.description,void 0,{trim:!0}]])])]),i("div",ll,[i("button",{class:"button button-secondary",type:"button",disabled:0===c,onClick:t=>e.moveHomeItem(n,c,-1)}," ↑ ",8,il),i("button",{class:"button button-secondary",type:"button",disabled:c===n.items.length-1,onClick:t=>e.moveHomeItem(n,c,1)}," ↓ ",8,rl),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,c)}," Убрать ",8,sl)])]))),128))])):(a(),o("div",dl,"Товары пока не выбраны.")),i("div",cl,[i("label",ul,[t[89]||(t[89]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":e=>n.productQuery=e,type:"search",placeholder:"Название, бренд, категория",onKeyup:y(t=>e.searchHomeProducts(n),["enter"])},null,40,pl),[[f,n.productQuery,void 0,{trim:!0}]])]),i("label",ml,[t[91]||(t[91]=i("span",null,"Добавить товар",-1)),b(i("select",{"onUpdate:modelValue":e=>n.productToAdd=e,onFocus:t=>e.ensureHomeProductOptions(n)},[t[90]||(t[90]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredHomeProductOptions(n),e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,fl))),128))],40,bl),[[g,n.productToAdd]])]),i("div",yl,[t[92]||(t[92]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.searchHomeProducts(n)}," Найти ",8,vl)]),i("div",gl,[t[93]||(t[93]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.addHomeProduct(n)}," Добавить ",8,hl)])])])):"collection_teaser"===n.sectionType?(a(),o("section",kl,[i("div",Sl,[t[94]||(t[94]=i("div",null,[i("h3",null,"Витринные подборки"),i("p",null,"Подключите reusable-подборки или создайте гибридную подборку с ручными товарами и backend-правилом.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[15]||(t[15]=(...t)=>e.startCreateHomeCollection&&e.startCreateHomeCollection(...t))}," Новая подборка ")]),n.items.length?(a(),o("div",wl,[(a(!0),o(p,null,m(n.items,(r,d)=>(a(),o("article",{key:r.clientId||r.id||r.referenceKey||d,class:"list-card"},[i("div",Cl,[i("strong",null,s(e.homeCollectionLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),i("p",xl,s(e.homeCollectionMeta(r.referenceKey)),1),i("div",Il,[i("label",Tl,[t[95]||(t[95]=i("span",null,"Статус ссылки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Pl))),128))],8,Ol),[[g,r.status]])]),i("label",Al,[t[96]||(t[96]=i("span",null,"Заголовок секции",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из подборки"},null,8,Ul),[[f,r.title,void 0,{trim:!0}]])])]),i("div",_l,[i("button",{class:"button button-secondary",type:"button",disabled:0===d,onClick:t=>e.moveHomeItem(n,d,-1)}," ↑ ",8,Rl),i("button",{class:"button button-secondary",type:"button",disabled:d===n.items.length-1,onClick:t=>e.moveHomeItem(n,d,1)}," ↓ ",8,Dl),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.editHomeCollection(r.referenceKey)}," Редактировать подборку ",8,El),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,d)}," Убрать ",8,Fl)])]))),128))])):(a(),o("div",Vl,"Подборки пока не выбраны.")),i("div",Ll,[i("label",Nl,[t[98]||(t[98]=i("span",null,"Добавить подборку",-1)),b(i("select",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.homeState.collectionToAdd=t)},[t[97]||(t[97]=i("option",{value:""},"Выберите подборку",-1)),(a(!0),o(p,null,m(e.filteredHomeCollectionOptions,e=>(a(),o("option",{key:e.id||e.key,value:e.key},s(e.title||e.key)+" · "+s(e.key),9,zl))),128))],512),[[g,e.homeState.collectionToAdd]])]),i("div",Ml,[t[99]||(t[99]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionToAdd,onClick:t=>e.addHomeCollection(n)}," Добавить ",8,Kl)])]),e.homeState.collectionDraft?(a(),o("section",Hl,[i("div",Bl,[i("div",null,[i("h3",null,s(e.homeState.collectionDraft.id?"Редактирование подборки":"Новая подборка"),1),i("p",null,s(e.homeState.collectionDraft.key),1)]),i("div",$l,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[17]||(t[17]=(...t)=>e.saveHomeCollectionDraft&&e.saveHomeCollectionDraft(...t))}," Сохранить подборку ",8,jl),i("button",{class:"button button-secondary",type:"button",onClick:t[18]||(t[18]=(...t)=>e.cancelHomeCollectionDraft&&e.cancelHomeCollectionDraft(...t))}," Закрыть ")])]),i("div",ql,[i("label",Gl,[t[100]||(t[100]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.homeState.collectionDraft.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Ql))),128))],512),[[g,e.homeState.collectionDraft.status]])]),i("label",Yl,[t[101]||(t[101]=i("span",null,"Ключ",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.homeState.collectionDraft.key=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.key,void 0,{trim:!0}]])]),i("label",Jl,[t[102]||(t[102]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.homeState.collectionDraft.title=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.title,void 0,{trim:!0}]])]),i("label",Xl,[t[103]||(t[103]=i("span",null,"Режим",-1)),b(i("select",{"onUpdate:modelValue":t[22]||(t[22]=t=>e.homeState.collectionDraft.mode=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_MODES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Wl))),128))],512),[[g,e.homeState.collectionDraft.mode]])]),i("label",Zl,[t[104]||(t[104]=i("span",null,"Правило",-1)),b(i("select",{"onUpdate:modelValue":t[23]||(t[23]=t=>e.homeState.collectionDraft.ruleType=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_RULE_TYPES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ei))),128))],512),[[g,e.homeState.collectionDraft.ruleType]])]),i("label",ti,[t[105]||(t[105]=i("span",null,"Лимит",-1)),b(i("input",{"onUpdate:modelValue":t[24]||(t[24]=t=>e.homeState.collectionDraft.limit=t),type:"number",min:"1",max:"48"},null,512),[[f,e.homeState.collectionDraft.limit,void 0,{number:!0}]])]),i("label",ni,[t[106]||(t[106]=i("span",null,"Сортировка",-1)),b(i("select",{"onUpdate:modelValue":t[25]||(t[25]=t=>e.homeState.collectionDraft.sortMode=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_SORT_MODES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ai))),128))],512),[[g,e.homeState.collectionDraft.sortMode]])]),i("label",oi,[t[107]||(t[107]=i("span",null,"CTA",-1)),b(i("input",{"onUpdate:modelValue":t[26]||(t[26]=t=>e.homeState.collectionDraft.primaryCtaLabel=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.primaryCtaLabel,void 0,{trim:!0}]])]),i("label",li,[t[108]||(t[108]=i("span",null,"CTA ссылка",-1)),b(i("input",{"onUpdate:modelValue":t[27]||(t[27]=t=>e.homeState.collectionDraft.primaryCtaUrl=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.primaryCtaUrl,void 0,{trim:!0}]])]),i("label",ii,[t[109]||(t[109]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[28]||(t[28]=t=>e.homeState.collectionDraft.description=t),rows:"3"},null,512),[[f,e.homeState.collectionDraft.description,void 0,{trim:!0}]])])]),i("div",ri,[i("label",si,[t[110]||(t[110]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":t[29]||(t[29]=t=>e.homeState.collectionProductQuery=t),type:"search",onKeyup:t[30]||(t[30]=y((...t)=>e.searchHomeCollectionProducts&&e.searchHomeCollectionProducts(...t),["enter"]))},null,544),[[f,e.homeState.collectionProductQuery,void 0,{trim:!0}]])]),i("label",di,[t[112]||(t[112]=i("span",null,"Добавить товар",-1)),b(i("select",{"onUpdate:modelValue":t[31]||(t[31]=t=>e.homeState.collectionProductToAdd=t)},[t[111]||(t[111]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredCollectionProductOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,ci))),128))],512),[[g,e.homeState.collectionProductToAdd]])]),i("div",ui,[t[113]||(t[113]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[32]||(t[32]=(...t)=>e.searchHomeCollectionProducts&&e.searchHomeCollectionProducts(...t))},"Найти")]),i("div",pi,[t[114]||(t[114]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionProductToAdd,onClick:t[33]||(t[33]=(...t)=>e.addHomeCollectionProductRule&&e.addHomeCollectionProductRule(...t))},"Добавить",8,mi)])]),i("div",bi,[i("label",fi,[t[115]||(t[115]=i("span",null,"Поиск категории",-1)),b(i("input",{"onUpdate:modelValue":t[34]||(t[34]=t=>e.homeState.collectionCategoryQuery=t),type:"search",onKeyup:t[35]||(t[35]=y((...t)=>e.searchHomeCollectionCategories&&e.searchHomeCollectionCategories(...t),["enter"]))},null,544),[[f,e.homeState.collectionCategoryQuery,void 0,{trim:!0}]])]),i("label",yi,[t[117]||(t[117]=i("span",null,"Добавить категорию",-1)),b(i("select",{"onUpdate:modelValue":t[36]||(t[36]=t=>e.homeState.collectionCategoryToAdd=t)},[t[116]||(t[116]=i("option",{value:""},"Выберите категорию",-1)),(a(!0),o(p,null,m(e.filteredCollectionCategoryOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.fullPath||e.slug),9,vi))),128))],512),[[g,e.homeState.collectionCategoryToAdd]])]),i("div",gi,[t[118]||(t[118]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[37]||(t[37]=(...t)=>e.searchHomeCollectionCategories&&e.searchHomeCollectionCategories(...t))},"Найти")]),i("div",hi,[t[119]||(t[119]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionCategoryToAdd,onClick:t[38]||(t[38]=(...t)=>e.addHomeCollectionCategoryRule&&e.addHomeCollectionCategoryRule(...t))},"Добавить",8,ki)])]),e.homeState.collectionDraft.rules.length?(a(),o("div",Si,[(a(!0),o(p,null,m(e.homeState.collectionDraft.rules,(n,l)=>(a(),o("article",{key:n.clientId||n.id||l,class:"list-card"},[i("div",wi,[i("strong",null,s("category"===n.entityKind?e.homeCategoryLabel(n.entityKey):e.homeProductLabel(n.entityKey)),1),i("span",Ci,s("exclude"===n.behavior?"Исключить":"Закрепить"),1)]),i("p",xi,s(n.entityKind)+" · "+s(n.entityKey),1),i("div",Ii,[i("label",Ti,[t[121]||(t[121]=i("span",null,"Поведение",-1)),b(i("select",{"onUpdate:modelValue":e=>n.behavior=e},[...t[120]||(t[120]=[i("option",{value:"pin"},"Закрепить",-1),i("option",{value:"exclude"},"Исключить",-1)])],8,Oi),[[g,n.behavior]])]),i("label",Pi,[t[122]||(t[122]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":e=>n.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Ui))),128))],8,Ai),[[g,n.status]])])]),i("div",_i,[i("button",{class:"button button-secondary",type:"button",disabled:0===l,onClick:t=>e.moveHomeCollectionRule(l,-1)},"↑",8,Ri),i("button",{class:"button button-secondary",type:"button",disabled:l===e.homeState.collectionDraft.rules.length-1,onClick:t=>e.moveHomeCollectionRule(l,1)},"↓",8,Di),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeCollectionRule(l)},"Убрать",8,Ei)])]))),128))])):(a(),o("div",Fi,"В подборке нет ручных правил."))])):d("v-if",!0)])):n.items.length||["hero","feature_list","collection_teaser","banner_group"].includes(n.sectionType)?(a(),o("section",Vi,[i("div",Li,[t[123]||(t[123]=i("div",null,[i("h3",null,"Элементы секции"),i("p",null,"Карточки, преимущества и ссылки для этого блока.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.addHomeItem(n)}," Добавить элемент ",8,Ni)]),n.items.length?(a(),o("div",zi,[(a(!0),o(p,null,m(n.items,(l,r)=>(a(),o("article",{key:l.id||l.migrationKey||r,class:"list-card"},[i("div",Mi,[i("strong",null,s(l.title||l.label||`Элемент ${r+1}`),1),i("span",Ki,s(e.homeStatusLabel(l.status)),1)]),i("div",Hi,[i("label",Bi,[t[124]||(t[124]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":e=>l.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ji))),128))],8,$i),[[g,l.status]])]),i("label",qi,[t[125]||(t[125]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>l.label=e,type:"text"},null,8,Gi),[[f,l.label,void 0,{trim:!0}]])]),i("label",Qi,[t[126]||(t[126]=i("span",null,"Заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>l.title=e,type:"text"},null,8,Yi),[[f,l.title,void 0,{trim:!0}]])]),i("label",Ji,[t[127]||(t[127]=i("span",null,"Ссылка",-1)),b(i("input",{"onUpdate:modelValue":e=>l.url=e,type:"text"},null,8,Xi),[[f,l.url,void 0,{trim:!0}]])]),i("label",Wi,[t[128]||(t[128]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>l.description=e,rows:"3"},null,8,Zi),[[f,l.description,void 0,{trim:!0}]])])]),i("div",er,[i("button",{class:"button button-secondary",type:"button",disabled:0===r,onClick:t=>e.moveHomeItem(n,r,-1)}," ↑ ",8,tr),i("button",{class:"button button-secondary",type:"button",disabled:r===n.items.length-1,onClick:t=>e.moveHomeItem(n,r,1)}," ↓ ",8,nr),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,r)}," Убрать ",8,ar)])]))),128))])):(a(),o("div",or,"Элементы пока не добавлены."))])):d("v-if",!0)],10,ua))),128))],544)),e.isTabLoading("home")?d("v-if",!0):(a(),o("div",lr,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-home-form",disabled:e.isSubmitting||!e.homeDirty},s(e.homeSaveLabel),9,ir)]))],512)]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))}},sr={class:"pane-header"},dr={key:0,class:"empty-state"},cr={key:1,class:"empty-state"},ur={key:2,class:"card-list"},pr=["onClick"],mr={class:"list-card-head"},br={class:"list-card-meta"},fr={class:"detail-card"},yr={class:"ops-field ops-field-required"},vr={class:"selector-card"},gr={class:"form-grid form-grid-two"},hr=["onUpdate:modelValue"],kr={class:"sticky-actions"},Sr=["disabled"],wr=["disabled"],Cr={key:0,class:"section-block"},xr={class:"section-head"},Ir=["disabled"],Tr={class:"metrics-row compact-metrics"},Or={class:"metric-card"},Pr={class:"metric-card"},Ar={class:"metric-card"},Ur={class:"metric-card"},_r={class:"metric-card"},Rr={class:"card-list"},Dr={class:"list-card-head"},Er={class:"list-card-slug"},Fr={key:0,class:"list-card-meta"},Vr={key:1,class:"list-card-meta"},Lr={class:"ops-modal"},Nr={class:"section-head"},zr={class:"sticky-actions"},Mr={class:"card-list card-list-compact import-modal-list"},Kr={class:"list-card-head"},Hr={class:"list-card-slug"},Br={class:"list-card-meta"},$r={__name:"ImportsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",sr,[i("div",null,[t[8]||(t[8]=i("h2",null,"Импорт",-1)),i("p",null,s(e.importState.jobs.length)+" запусков",1)])]),e.isTabLoading("imports")?(a(),o("div",dr,[...t[9]||(t[9]=[i("strong",null,"Загружаю историю",-1)])])):e.importState.jobs.length?(a(),o("div",ur,[(a(!0),o(p,null,m(e.importState.jobs,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.importState.selectedJobId===t.id}]),onClick:n=>e.selectImportJob(t.id)},[i("div",mr,[i("strong",null,s(t.fileName||t.id),1),i("span",{class:l(["pill",t.invalidRows?"pill-muted":"pill-positive"])},s(t.status),3)]),i("div",br,[i("span",null,s(t.validRows)+" валидных",1),i("span",null,s(t.invalidRows)+" ошибок",1),i("span",null,s(e.formatDateTime(t.createdAt)),1)])],10,pr))),128))])):(a(),o("div",cr,[...t[10]||(t[10]=[i("strong",null,"История пуста",-1),i("span",null,"Запустите dry-run для Excel или CSV файла.",-1)])]))]),detail:u(()=>[i("section",fr,[t[20]||(t[20]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Импорт"),i("h2",null,"Обновление остатков"),i("p",{class:"detail-subtitle"},"Файл сопоставляется по артикулу. Изменяется только остаток варианта.")])],-1)),i("form",{class:"editor-form",onSubmit:t[2]||(t[2]=v((...t)=>e.dryRunImport&&e.dryRunImport(...t),["prevent"]))},[i("label",yr,[t[11]||(t[11]=i("span",null,"Файл",-1)),i("input",{type:"file",accept:".xlsx,.xls,.csv",onChange:t[0]||(t[0]=(...t)=>e.onImportFileSelected&&e.onImportFileSelected(...t))},null,32)]),i("section",vr,[t[12]||(t[12]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Правила импорта"),i("p",null,"Артикул: Номенклатура.Артикул · остаток: Склад 21 Век АТРИУМ + Склад 21 Век ИП.")])],-1)),i("div",gr,[(a(!0),o(p,null,m(e.importMappingFields,t=>(a(),o("label",{key:t.key,class:"ops-field"},[i("span",null,s(t.label),1),b(i("input",{"onUpdate:modelValue":n=>e.importState.mapping[t.key]=n,type:"text"},null,8,hr),[[f,e.importState.mapping[t.key],void 0,{trim:!0}]])]))),128))])]),i("div",kr,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.importState.file}," Проверить файл ",8,Sr),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting||!e.importState.dryRun?.job||e.importState.dryRun.job.invalidRows,onClick:t[1]||(t[1]=(...t)=>e.commitImport&&e.commitImport(...t))}," Обновить остатки ",8,wr)])],32),e.importState.dryRun?(a(),o("section",Cr,[i("div",xr,[i("div",null,[t[13]||(t[13]=i("h3",null,"Результат проверки",-1)),i("p",null,s(e.importState.dryRun.job.validRows)+" валидных · "+s(e.importState.dryRun.job.invalidRows)+" ошибок",1)]),i("button",{class:"button button-secondary",type:"button",disabled:!e.importState.dryRun.report?.notUpdatedRows,onClick:t[3]||(t[3]=(...t)=>e.openImportNotUpdatedModal&&e.openImportNotUpdatedModal(...t))}," Не обновлены: "+s(e.importState.dryRun.report?.notUpdatedRows||0),9,Ir)]),i("div",Tr,[i("article",Or,[t[14]||(t[14]=i("span",null,"Найдены",-1)),i("strong",null,s(e.importState.dryRun.report?.matchedRows||0),1)]),i("article",Pr,[t[15]||(t[15]=i("span",null,"Изменятся",-1)),i("strong",null,s(e.importState.dryRun.report?.changedRows||0),1)]),i("article",Ar,[t[16]||(t[16]=i("span",null,"Без изменений",-1)),i("strong",null,s(e.importState.dryRun.report?.unchangedRows||0),1)]),i("article",Ur,[t[17]||(t[17]=i("span",null,"Пропущены",-1)),i("strong",null,s(e.importState.dryRun.report?.skippedRows||0),1)]),i("article",_r,[t[18]||(t[18]=i("span",null,"Ошибки",-1)),i("strong",null,s(e.importState.dryRun.report?.invalidRows||0),1)])]),i("div",Rr,[(a(!0),o(p,null,m(e.importState.dryRun.rows.slice(0,50),e=>(a(),o("article",{key:e.id,class:"list-card"},[i("div",Dr,[i("strong",null,"Строка "+s(e.rowNumber)+" · "+s(e.sku||"без SKU"),1),i("span",{class:l(["pill",e.valid?"pill-positive":"pill-muted"])},s(e.valid?"OK":"Ошибка"),3)]),i("p",Er,s(e.productName||e.errorMessage||`${e.stockQuantity??0} шт.`),1),e.errorMessage?(a(),o("div",Fr,[i("span",null,s(e.errorMessage),1)])):(a(),o("div",Vr,[i("span",null,s(e.stockQuantity??0)+" шт.",1)]))]))),128))])])):d("v-if",!0),e.importState.notUpdatedModalOpen?(a(),o("div",{key:1,class:"ops-modal-backdrop",onClick:t[7]||(t[7]=v((...t)=>e.closeImportNotUpdatedModal&&e.closeImportNotUpdatedModal(...t),["self"]))},[i("section",Lr,[i("header",Nr,[i("div",null,[t[19]||(t[19]=i("h3",null,"Не обновлены",-1)),i("p",null,s(e.importState.dryRun?.report?.notUpdatedRows||0)+" вариантов каталога не найдены в файле.",1)]),i("button",{class:"button button-secondary button-small",type:"button",onClick:t[4]||(t[4]=(...t)=>e.closeImportNotUpdatedModal&&e.closeImportNotUpdatedModal(...t))}," Закрыть ")]),i("div",zr,[i("button",{class:"button button-secondary",type:"button",onClick:t[5]||(t[5]=t=>e.downloadImportNotUpdated("txt"))}," Скачать TXT "),i("button",{class:"button button-primary",type:"button",onClick:t[6]||(t[6]=t=>e.downloadImportNotUpdated("xlsx"))}," Скачать Excel ")]),i("div",Mr,[(a(!0),o(p,null,m(e.importState.dryRun?.report?.notUpdatedVariants||[],e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",Kr,[i("strong",null,s(e.sku),1),i("span",{class:l(["pill",e.productActive?"pill-positive":"pill-muted"])},s(e.productActive?"Активен":"Неактивен"),3)]),i("p",Hr,s(e.productName||e.productSlug||e.variantName),1),i("div",Br,[i("span",null,s(e.variantName),1),i("span",null,s(e.currentStock)+" шт.",1)])]))),128))])])])):d("v-if",!0)])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},jr={class:"pane-header"},qr={class:"search-field"},Gr={key:0,class:"empty-state"},Qr={key:1,class:"empty-state"},Yr={key:2,class:"card-list"},Jr=["onClick"],Xr={class:"list-card-head"},Wr={class:"list-card-slug"},Zr={class:"list-card-meta"},es={key:0,class:"empty-detail"},ts={key:1,class:"detail-card"},ns={class:"detail-header"},as={class:"detail-subtitle"},os={class:"metrics-row"},ls={class:"metric-card"},is={class:"metric-card"},rs={class:"metric-card"},ss={class:"form-grid"},ds={class:"ops-field ops-field-required"},cs={class:"ops-field ops-field-required"},us={class:"ops-field"},ps={class:"sticky-actions detail-footer-actions"},ms=["disabled"],bs=["disabled"],fs={__name:"InventoryTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",jr,[i("div",null,[t[6]||(t[6]=i("h2",null,"Остатки",-1)),i("p",null,s(e.inventoryState.items.length)+" вариантов",1)])]),i("label",qr,[t[7]||(t[7]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[0]||(t[0]=t=>e.inventoryState.query=t),type:"search",placeholder:"SKU, товар, бренд"},null,512),[[f,e.inventoryState.query,void 0,{trim:!0}]])]),e.isTabLoading("inventory")?(a(),o("div",Gr,[...t[8]||(t[8]=[i("strong",null,"Загружаю остатки",-1)])])):e.filteredInventory.length?(a(),o("div",Yr,[(a(!0),o(p,null,m(e.filteredInventory,t=>(a(),o("button",{key:t.variantId,type:"button",class:l(["list-card",{active:e.inventoryState.selectedVariantId===t.variantId}]),onClick:n=>e.selectInventoryRow(t.variantId)},[i("div",Xr,[i("strong",null,s(t.variantName),1),i("span",{class:l(["pill",t.productIsActive?"pill-positive":"pill-muted"])},s(t.stock)+" шт. ",3)]),i("p",Wr,s(t.productName)+" · "+s(t.sku),1),i("div",Zr,[i("span",null,s(t.brand?.name||"Без бренда"),1),i("span",null,s(e.formatMoney(t.price)),1)])],10,Jr))),128))])):(a(),o("div",Qr,[...t[9]||(t[9]=[i("strong",null,"Ничего не найдено",-1),i("span",null,"Уточните SKU, товар или бренд.",-1)])]))]),detail:u(()=>[e.selectedInventoryRow?(a(),o("section",ts,[i("header",ns,[i("div",null,[t[11]||(t[11]=i("p",{class:"detail-kicker"},"Остатки",-1)),i("h2",null,s(e.selectedInventoryRow.variantName),1),i("p",as,s(e.selectedInventoryRow.productName)+" · "+s(e.selectedInventoryRow.sku),1)])]),i("div",os,[i("article",ls,[t[12]||(t[12]=i("span",null,"Текущий остаток",-1)),i("strong",null,s(e.selectedInventoryRow.stock),1)]),i("article",is,[t[13]||(t[13]=i("span",null,"Цена",-1)),i("strong",null,s(e.formatMoney(e.selectedInventoryRow.price)),1)]),i("article",rs,[t[14]||(t[14]=i("span",null,"Бренд",-1)),i("strong",null,s(e.selectedInventoryRow.brand?.name||"Без бренда"),1)])]),i("form",{id:"storefront-ops-inventory-form",class:"editor-form inventory-editor",onSubmit:t[4]||(t[4]=v((...t)=>e.submitInventoryAdjustment&&e.submitInventoryAdjustment(...t),["prevent"]))},[i("div",ss,[i("label",ds,[t[15]||(t[15]=i("span",null,"Изменение",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.inventoryForm.delta=t),type:"number",step:"1"},null,512),[[f,e.inventoryForm.delta,void 0,{number:!0}]])]),i("label",cs,[t[16]||(t[16]=i("span",null,"Ключ идемпотентности",-1)),b(i("input",{"onUpdate:modelValue":t[2]||(t[2]=t=>e.inventoryForm.idempotencyKey=t),type:"text"},null,512),[[f,e.inventoryForm.idempotencyKey,void 0,{trim:!0}]])])]),i("label",us,[t[17]||(t[17]=i("span",null,"Причина",-1)),b(i("textarea",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.inventoryForm.reason=t),rows:"4"},null,512),[[f,e.inventoryForm.reason]])])],32),i("div",ps,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-inventory-form",disabled:e.isSubmitting}," Применить корректировку ",8,ms),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[5]||(t[5]=(...t)=>e.resetInventoryEditor&&e.resetInventoryEditor(...t))}," Новый ключ ",8,bs)])])):(a(),o("div",es,[...t[10]||(t[10]=[i("strong",null,"Выберите вариант",-1),i("span",null,"Откройте SKU слева, чтобы скорректировать остаток.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},ys={class:"pane-header"},vs=["disabled"],gs={class:"search-field"},hs={class:"form-grid"},ks={class:"ops-field"},Ss={class:"ops-field"},ws={key:0,class:"ops-field"},Cs={class:"ops-field"},xs={class:"ops-field"},Is={key:0,class:"section-block section-block-compact"},Ts={class:"section-head"},Os=["disabled"],Ps={key:0,class:"empty-inline"},As={key:1,class:"empty-inline"},Us={key:2,class:"card-list card-list-compact"},_s={class:"list-card-head"},Rs={class:"pill pill-positive"},Ds={class:"list-card-meta"},Es={key:0},Fs={key:1},Vs={key:2},Ls={key:1,class:"empty-state"},Ns={key:2,class:"empty-state"},zs={key:3,class:"card-list"},Ms=["onClick"],Ks={class:"list-card-head"},Hs={class:"list-card-slug"},Bs={class:"list-card-meta"},$s={key:0},js={key:0,class:"empty-detail"},qs={key:1,class:"detail-card"},Gs={class:"detail-header"},Qs={class:"detail-subtitle"},Ys={class:"detail-header-actions"},Js=["disabled"],Xs=["disabled"],Ws=["disabled"],Zs=["disabled"],ed={class:"detail-content orders-detail-content"},td={key:0,class:"inline-note"},nd={key:1,class:"inline-note"},ad={class:"metrics-row"},od={class:"metric-card"},ld={class:"metric-card"},id={class:"metric-card"},rd={key:0,class:"metric-card"},sd={class:"section-block"},dd={class:"form-grid"},cd={class:"ops-field ops-field-required"},ud=["value"],pd={class:"ops-field"},md={class:"sticky-actions sticky-actions-inline"},bd=["disabled"],fd={key:0,class:"inline-note"},yd={class:"section-block"},vd={class:"section-head"},gd=["disabled"],hd={key:0,class:"definition-list"},kd={key:0},Sd=["href"],wd={key:1},Cd={key:1,class:"empty-inline"},xd={key:2,class:"card-list card-list-compact"},Id={class:"list-card-head"},Td={class:"pill pill-neutral"},Od={class:"list-card-slug"},Pd={class:"list-card-meta"},Ad={class:"card-list card-list-compact"},Ud={key:0,class:"list-card"},_d={class:"list-card-head"},Rd={class:"pill pill-neutral"},Dd={class:"form-grid"},Ed={class:"ops-field"},Fd=["onUpdate:modelValue","max"],Vd={class:"ops-field"},Ld=["onUpdate:modelValue"],Nd={class:"sticky-actions sticky-actions-inline"},zd=["disabled"],Md={class:"section-block"},Kd={class:"section-head"},Hd={class:"definition-list definition-list-contact"},Bd={class:"definition-list-wide"},$d={key:0},jd={key:1},qd={key:2,class:"section-block"},Gd={class:"section-head"},Qd={class:"form-grid"},Yd={class:"ops-field"},Jd={class:"ops-field"},Xd={class:"sticky-actions sticky-actions-inline"},Wd=["disabled"],Zd={key:0,class:"card-list card-list-compact"},ec={class:"list-card-head"},tc={class:"pill pill-neutral"},nc={class:"list-card-meta"},ac=["onSubmit"],oc={class:"form-grid"},lc={class:"ops-field ops-field-required"},ic=["onUpdate:modelValue"],rc={class:"ops-field"},sc=["onUpdate:modelValue"],dc={class:"sticky-actions sticky-actions-inline"},cc=["disabled"],uc={key:1,class:"empty-inline"},pc={class:"section-block"},mc={class:"section-head"},bc={key:0,class:"card-list"},fc={class:"list-card-head"},yc={class:"pill pill-neutral"},vc={class:"list-card-slug"},gc={class:"list-card-meta"},hc={class:"section-block"},kc={class:"section-head"},Sc={key:0,class:"card-list"},wc={class:"list-card-head"},Cc={class:"pill pill-neutral"},xc={class:"list-card-meta"},Ic={key:1,class:"empty-inline"},Tc={__name:"OrdersTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",ys,[i("div",null,[t[27]||(t[27]=i("h2",null,"Заказы",-1)),i("p",null,s(e.orderState.items.length)+" записей",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isTabLoading("orders"),onClick:t[0]||(t[0]=t=>e.loadOrders({notify:!0}))}," Найти ",8,vs)]),i("label",gs,[t[28]||(t[28]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.orderState.query=t),type:"search",placeholder:"ID, email, токен",onKeyup:t[2]||(t[2]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.query,void 0,{trim:!0}]])]),i("div",hs,[i("label",ks,[t[29]||(t[29]=i("span",null,"Статус",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.orderState.status=t),type:"text",placeholder:"PENDING, PAID",onKeyup:t[4]||(t[4]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.status,void 0,{trim:!0}]])]),i("label",Ss,[t[30]||(t[30]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.orderState.manager=t),type:"text",onKeyup:t[6]||(t[6]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.manager,void 0,{trim:!0}]])]),"admin"===e.roleKind?(a(),o("label",ws,[t[32]||(t[32]=i("span",null,"Архив",-1)),b(i("select",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.orderState.archived=t),onChange:t[8]||(t[8]=(...t)=>e.loadOrders&&e.loadOrders(...t))},[...t[31]||(t[31]=[i("option",{value:"all"},"Все заказы",-1),i("option",{value:"active"},"Только активные",-1),i("option",{value:"archived"},"Только архив",-1)])],544),[[g,e.orderState.archived]])])):d("v-if",!0),i("label",Cs,[t[33]||(t[33]=i("span",null,"С",-1)),b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.orderState.from=t),type:"datetime-local",onKeyup:t[10]||(t[10]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.from]])]),i("label",xs,[t[34]||(t[34]=i("span",null,"По",-1)),b(i("input",{"onUpdate:modelValue":t[11]||(t[11]=t=>e.orderState.to=t),type:"datetime-local",onKeyup:t[12]||(t[12]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.to]])])]),e.canViewActivePromotions?(a(),o("section",Is,[i("div",Ts,[i("div",null,[t[35]||(t[35]=i("h3",null,"Активные акции",-1)),i("p",null,s(e.activePromotionState.items.length)+" доступно для менеджера",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.loading.activePromotions,onClick:t[13]||(t[13]=t=>e.loadActivePromotions({notify:!0}))}," Обновить ",8,Os)]),e.loading.activePromotions?(a(),o("div",Ps,"Загружаю акции.")):e.activePromotionState.items.length?(a(),o("div",Us,[(a(!0),o(p,null,m(e.activePromotionState.items,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",_s,[i("strong",null,s(t.name),1),i("span",Rs,s(t.type),1)]),i("div",Ds,[t.salePriceAmount?(a(),o("span",Es,"Цена "+s(e.formatMinorMoney(t.salePriceAmount,t.currency)),1)):d("v-if",!0),t.discountPercent?(a(),o("span",Fs,s(t.discountPercent)+"%",1)):d("v-if",!0),t.thresholdAmount?(a(),o("span",Vs,"от "+s(e.formatMinorMoney(t.thresholdAmount,t.currency)),1)):d("v-if",!0)])]))),128))])):(a(),o("div",As,"Активных акций сейчас нет."))])):d("v-if",!0),e.isTabLoading("orders")?(a(),o("div",Ls,[...t[36]||(t[36]=[i("strong",null,"Загружаю заказы",-1)])])):e.orderState.items.length?(a(),o("div",zs,[(a(!0),o(p,null,m(e.orderState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.orderState.selectedId===t.id}]),onClick:n=>e.selectOrder(t.id)},[i("div",Ks,[i("strong",null,s(t.receiptEmail||t.id),1),i("span",{class:l(["pill",e.isOrderArchived(t)?"pill-muted":"pill-neutral"])},s(e.isOrderArchived(t)?"В архиве":e.orderStatusLabel(t.status)),3)]),i("p",Hs,s(t.id),1),i("div",Bs,[i("span",null,s(e.formatMoney(t.totalAmount)),1),i("span",null,s(e.orderManagerLabel(t)),1),i("span",null,s(e.formatDateTime(t.orderDate)),1),e.isOrderArchived(t)?(a(),o("span",$s,"Архив "+s(e.formatDateTime(t.archivedAt)),1)):d("v-if",!0)])],10,Ms))),128))])):(a(),o("div",Ns,[...t[37]||(t[37]=[i("strong",null,"Заказы не найдены",-1),i("span",null,"Измените фильтр или период.",-1)])]))]),detail:u(()=>[e.orderState.detail?(a(),o("section",qs,[i("header",Gs,[i("div",null,[t[39]||(t[39]=i("p",{class:"detail-kicker"},"Заказы",-1)),i("h2",null,s(e.orderState.detail.order.receiptEmail||e.orderState.detail.order.id),1),i("p",Qs,s(e.orderState.detail.order.id),1)]),i("div",Ys,[e.canClaimSelectedOrder?(a(),o("button",{key:0,class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[14]||(t[14]=(...t)=>e.claimOrder&&e.claimOrder(...t))}," Взять в работу ",8,Js)):d("v-if",!0),e.canClearSelectedOrder?(a(),o("button",{key:1,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[15]||(t[15]=(...t)=>e.clearOrderClaim&&e.clearOrderClaim(...t))}," Снять менеджера ",8,Xs)):d("v-if",!0),e.canArchiveSelectedOrder?(a(),o("button",{key:2,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[16]||(t[16]=(...t)=>e.archiveOrder&&e.archiveOrder(...t))}," Удалить заказ ",8,Ws)):d("v-if",!0),e.canRestoreSelectedOrder?(a(),o("button",{key:3,class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[17]||(t[17]=(...t)=>e.restoreOrder&&e.restoreOrder(...t))}," Восстановить ",8,Zs)):d("v-if",!0)])]),i("div",ed,[e.orderState.selectedFilteredOut?(a(),o("p",td,[t[40]||(t[40]=x(" Выбранный заказ не попадает в текущий список из-за фильтров. ",-1)),i("button",{class:"button button-secondary button-small",type:"button",onClick:t[18]||(t[18]=(...t)=>e.resetOrderFiltersForSelected&&e.resetOrderFiltersForSelected(...t))}," Сбросить фильтры ")])):d("v-if",!0),e.isOrderArchived(e.orderState.detail.order)?(a(),o("p",nd," Заказ в архиве: "+s(e.orderState.detail.order.archiveReason||"причина не указана")+". Операции по заказу доступны после восстановления. ",1)):d("v-if",!0),i("div",ad,[i("article",od,[t[41]||(t[41]=i("span",null,"Статус",-1)),i("strong",null,s(e.isOrderArchived(e.orderState.detail.order)?"В архиве":e.orderStatusLabel(e.orderState.detail.order.status)),1)]),i("article",ld,[t[42]||(t[42]=i("span",null,"Сумма",-1)),i("strong",null,s(e.formatMoney(e.orderState.detail.order.totalAmount)),1)]),i("article",id,[t[43]||(t[43]=i("span",null,"Менеджер",-1)),i("strong",null,s(e.orderManagerLabel(e.orderState.detail.order)),1)]),e.isOrderArchived(e.orderState.detail.order)?(a(),o("article",rd,[t[44]||(t[44]=i("span",null,"Архивировал",-1)),i("strong",null,s(e.orderState.detail.order.archivedBy||"Не указано"),1)])):d("v-if",!0)]),i("section",sd,[t[47]||(t[47]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Статус"),i("p",null,"Переход будет записан в аудит истории заказа.")])],-1)),i("form",{class:"editor-form",onSubmit:t[21]||(t[21]=v((...t)=>e.submitOrderStatus&&e.submitOrderStatus(...t),["prevent"]))},[i("div",dd,[i("label",cd,[t[45]||(t[45]=i("span",null,"Новый статус",-1)),b(i("select",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.orderState.nextStatus=t)},[(a(!0),o(p,null,m(e.orderStatusOptions,t=>(a(),o("option",{key:t,value:t},s(e.orderStatusLabel(t)),9,ud))),128))],512),[[g,e.orderState.nextStatus]])]),i("label",pd,[t[46]||(t[46]=i("span",null,"Комментарий",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.orderState.note=t),type:"text"},null,512),[[f,e.orderState.note,void 0,{trim:!0}]])])]),i("div",md,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.canSubmitSelectedOrderStatus}," Сохранить статус ",8,bd)]),e.canSubmitSelectedOrderStatus?d("v-if",!0):(a(),o("p",fd," Для текущей роли изменение статуса этого заказа недоступно. "))],32)]),i("section",yd,[i("div",vd,[i("div",null,[t[48]||(t[48]=i("h3",null,"Оплата и возвраты",-1)),i("p",null,s(e.orderState.detail.order.paymentSummary?"YooKassa · полная предоплата":"Платёж ещё не создан"),1)]),e.canRefundSelectedOrder?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[22]||(t[22]=t=>e.refundSelectedOrder({full:!0}))}," Вернуть остаток ",8,gd)):d("v-if",!0)]),e.orderState.detail.order.paymentSummary?(a(),o("dl",hd,[i("div",null,[t[49]||(t[49]=i("dt",null,"Статус",-1)),i("dd",null,s(e.orderState.detail.order.paymentSummary.status),1)]),i("div",null,[t[50]||(t[50]=i("dt",null,"ID платежа",-1)),i("dd",null,s(e.orderState.detail.order.paymentSummary.providerPaymentId||"Не указан"),1)]),i("div",null,[t[51]||(t[51]=i("dt",null,"Сумма платежа",-1)),i("dd",null,s(e.formatMinorMoney(e.orderState.detail.order.paymentSummary.amount?.amount,e.orderState.detail.order.paymentSummary.amount?.currency)),1)]),i("div",null,[t[52]||(t[52]=i("dt",null,"Доступно к возврату",-1)),i("dd",null,s(e.formatMinorMoney(e.orderState.detail.order.paymentSummary.refundableAmount?.amount,e.orderState.detail.order.paymentSummary.refundableAmount?.currency)),1)]),i("div",null,[t[53]||(t[53]=i("dt",null,"Чек 54-ФЗ",-1)),e.orderState.detail.order.paymentSummary.receiptUrl?(a(),o("dd",kd,[i("a",{href:e.orderState.detail.order.paymentSummary.receiptUrl,target:"_blank",rel:"noreferrer"},"Открыть чек",8,Sd)])):(a(),o("dd",wd,s(e.orderState.detail.order.paymentSummary.receiptRegistration||"Формируется в YooKassa"),1))])])):(a(),o("div",Cd,"Заказ ожидает создания платёжной сессии.")),e.orderState.detail.order.paymentSummary?.refunds?.length?(a(),o("div",xd,[(a(!0),o(p,null,m(e.orderState.detail.order.paymentSummary.refunds,t=>(a(),o("article",{key:t.id||t.refundId,class:"list-card"},[i("div",Id,[i("strong",null,s(e.formatMinorMoney(t.amount?.amount,t.amount?.currency)),1),i("span",Td,s(t.status),1)]),i("p",Od,s(t.refundId),1),i("div",Pd,[i("span",null,s(e.formatDateTime(t.refundDate)),1),i("span",null,s(t.items?.length||0)+" строк",1)])]))),128))])):d("v-if",!0),e.canRefundSelectedOrder?(a(),o("form",{key:3,class:"editor-form",onSubmit:t[23]||(t[23]=v(t=>e.refundSelectedOrder({full:!1}),["prevent"]))},[t[56]||(t[56]=i("div",{class:"section-head section-head-compact"},[i("div",null,[i("h3",null,"Частичный возврат"),i("p",null,"Укажите количество по строкам заказа. Сумма необязательна: если оставить пустой, API рассчитает её по оплаченной цене строки.")])],-1)),i("div",Ad,[(a(!0),o(p,null,m(e.orderState.detail.order.items||[],n=>(a(),o(p,{key:`refund-${n.id}`},[n.id&&e.orderState.refundForms[n.id]?(a(),o("article",Ud,[i("div",_d,[i("strong",null,s(n.productName||n.variantName||n.variantId),1),i("span",Rd,s(n.quantity)+" шт.",1)]),i("div",Dd,[i("label",Ed,[t[54]||(t[54]=i("span",null,"Количество к возврату",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.refundForms[n.id].quantity=t,type:"number",min:"0",max:n.quantity,step:"1"},null,8,Fd),[[f,e.orderState.refundForms[n.id].quantity,void 0,{number:!0}]])]),i("label",Vd,[t[55]||(t[55]=i("span",null,"Сумма, ₽",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.refundForms[n.id].amount=t,type:"number",min:"0",step:"0.01"},null,8,Ld),[[f,e.orderState.refundForms[n.id].amount,void 0,{number:!0}]])])])])):d("v-if",!0)],64))),128))]),i("div",Nd,[i("button",{class:"button button-danger",type:"submit",disabled:e.isSubmitting}," Создать частичный возврат ",8,zd)])],32)):d("v-if",!0)]),i("section",Md,[i("div",Kd,[i("div",null,[t[57]||(t[57]=i("h3",null,"Уведомления",-1)),i("p",null,s(e.orderState.detail.order.receiptEmail||"Email не указан"),1)])]),i("dl",Hd,[i("div",null,[t[58]||(t[58]=i("dt",null,"Имя",-1)),i("dd",null,s(e.orderState.detail.order.contactName||"Не указано"),1)]),i("div",null,[t[59]||(t[59]=i("dt",null,"Email",-1)),i("dd",null,s(e.orderState.detail.order.receiptEmail||"Не указан"),1)]),i("div",null,[t[60]||(t[60]=i("dt",null,"Телефон",-1)),i("dd",null,s(e.orderState.detail.order.contactPhone||"Не указан"),1)]),i("div",Bd,[t[61]||(t[61]=i("dt",null,"Адрес",-1)),i("dd",null,s(e.orderState.detail.order.homeAddress||e.orderState.detail.order.deliveryAddress||"Не указан"),1)]),i("div",null,[t[62]||(t[62]=i("dt",null,"Отправление",-1)),e.orderState.detail.shipment?(a(),o("dd",$d,s(e.orderState.detail.shipment.carrier)+" · "+s(e.orderState.detail.shipment.trackingNumber),1)):(a(),o("dd",jd,"Не создано"))])])]),e.canManageSelectedOrderRma?(a(),o("section",qd,[i("div",Gd,[i("div",null,[t[63]||(t[63]=i("h3",null,"RMA",-1)),i("p",null,s(e.selectedOrderRmaRequests.length)+" запросов",1)])]),i("form",{class:"editor-form",onSubmit:t[26]||(t[26]=v((...t)=>e.createRmaRequest&&e.createRmaRequest(...t),["prevent"]))},[i("div",Qd,[i("label",Yd,[t[64]||(t[64]=i("span",null,"Причина",-1)),b(i("input",{"onUpdate:modelValue":t[24]||(t[24]=t=>e.orderState.rmaReason=t),type:"text"},null,512),[[f,e.orderState.rmaReason,void 0,{trim:!0}]])]),i("label",Jd,[t[65]||(t[65]=i("span",null,"Решение клиента",-1)),b(i("input",{"onUpdate:modelValue":t[25]||(t[25]=t=>e.orderState.rmaDesiredResolution=t),type:"text"},null,512),[[f,e.orderState.rmaDesiredResolution,void 0,{trim:!0}]])])]),i("div",Xd,[i("button",{class:"button button-secondary",type:"submit",disabled:e.isSubmitting}," Создать RMA ",8,Wd)])],32),e.selectedOrderRmaRequests.length?(a(),o("div",Zd,[(a(!0),o(p,null,m(e.selectedOrderRmaRequests,n=>(a(),o("article",{key:n.id,class:"list-card"},[i("div",ec,[i("strong",null,s(n.rmaNumber),1),i("span",tc,s(e.rmaStatusLabel(n.status)),1)]),i("div",nc,[i("span",null,s(n.reason||"Причина не указана"),1),i("span",null,s(n.managerComment||"Комментарий менеджера не указан"),1)]),e.canDecideSelectedOrderRma?(a(),o("form",{key:0,class:"editor-form rma-decision-form",onSubmit:v(t=>e.decideRmaRequest(n),["prevent"])},[i("div",oc,[i("label",lc,[t[67]||(t[67]=i("span",null,"Решение",-1)),b(i("select",{"onUpdate:modelValue":t=>e.orderState.rmaDecisionForms[n.id].status=t},[...t[66]||(t[66]=[i("option",{value:"APPROVED"},"Одобрить",-1),i("option",{value:"REJECTED"},"Отклонить",-1)])],8,ic),[[g,e.orderState.rmaDecisionForms[n.id].status]])]),i("label",rc,[t[68]||(t[68]=i("span",null,"Комментарий",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.rmaDecisionForms[n.id].comment=t,type:"text"},null,8,sc),[[f,e.orderState.rmaDecisionForms[n.id].comment,void 0,{trim:!0}]])])]),i("div",dc,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting}," Записать решение ",8,cc)])],40,ac)):d("v-if",!0)]))),128))])):(a(),o("div",uc,"RMA запросов по заказу нет."))])):d("v-if",!0),i("section",pc,[i("div",mc,[i("div",null,[t[69]||(t[69]=i("h3",null,"Состав",-1)),i("p",null,s(e.orderState.detail.order.items?.length||0)+" строк",1)])]),e.orderState.detail.order.items?.length?(a(),o("div",bc,[(a(!0),o(p,null,m(e.orderState.detail.order.items,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",fc,[i("strong",null,s(t.productName||t.variantName||t.variantId),1),i("span",yc,s(t.quantity)+" шт.",1)]),i("p",vc,s(t.sku||t.variantId),1),i("div",gc,[i("span",null,s(e.formatMoney(t.unitPrice)),1)])]))),128))])):d("v-if",!0)]),i("section",hc,[i("div",kc,[i("div",null,[t[70]||(t[70]=i("h3",null,"История статусов",-1)),i("p",null,s(e.orderState.detail.history?.length||0)+" событий",1)])]),e.orderState.detail.history?.length?(a(),o("div",Sc,[(a(!0),o(p,null,m(e.orderState.detail.history,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",wc,[i("strong",null,s(e.orderStatusLabel(t.previousStatus)||"Создан")+" → "+s(e.orderStatusLabel(t.nextStatus)),1),i("span",Cc,s(e.formatDateTime(t.createdAt)),1)]),i("div",xc,[i("span",null,s(t.actor||"system"),1),i("span",null,s(t.note||"Без комментария"),1)])]))),128))])):(a(),o("div",Ic,"История пока пуста."))])])])):(a(),o("div",js,[...t[38]||(t[38]=[i("strong",null,"Выберите заказ",-1),i("span",null,"Откройте заказ из списка, чтобы увидеть состав, историю и действия.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Oc={class:"pane-header"},Pc={class:"search-field"},Ac={key:0,class:"inline-note"},Uc={key:1,class:"empty-state"},_c={key:2,class:"empty-state"},Rc={key:3,class:"card-list"},Dc=["onClick"],Ec={class:"list-card-head"},Fc={class:"list-card-slug"},Vc={class:"list-card-meta"},Lc={key:0,class:"list-card-footer"},Nc={class:"overlay-chip"},zc={key:0,class:"empty-detail"},Mc={key:1,class:"detail-card"},Kc={class:"detail-header"},Hc={key:0,class:"detail-subtitle"},Bc={class:"detail-header-actions"},$c=["disabled"],jc={class:"subtabs","aria-label":"Разделы товара"},qc=["onClick"],Gc={class:"detail-content panel-main"},Qc={key:0,class:"metrics-row"},Yc={class:"metric-card"},Jc={class:"metric-code"},Xc={class:"metric-card"},Wc={class:"metric-card"},Zc={class:"form-grid"},eu={class:"ops-field ops-field-required"},tu={class:"ops-field ops-field-required"},nu={class:"form-grid"},au={class:"ops-field"},ou=["value"],lu={class:"ops-field ops-field-boolean"},iu={class:"ops-toggle"},ru={class:"ops-field"},su={class:"selector-card"},du={class:"selector-card-head"},cu={key:0,class:"spec-section-list"},uu={class:"spec-section-head"},pu=["onClick"],mu={class:"form-grid"},bu={class:"ops-field"},fu=["onUpdate:modelValue"],yu={class:"ops-field"},vu=["onUpdate:modelValue"],gu={class:"spec-items"},hu={class:"spec-items-head"},ku=["onClick"],Su={key:0,class:"spec-item-list"},wu={class:"ops-field ops-field-required"},Cu=["onUpdate:modelValue"],xu={class:"ops-field ops-field-required"},Iu=["onUpdate:modelValue"],Tu=["onClick"],Ou={key:1,class:"empty-inline"},Pu={key:1,class:"empty-inline"},Au={class:"selector-card"},Uu={class:"selector-card-head"},_u={class:"pill pill-neutral"},Ru={class:"ops-field"},Du=["value"],Eu={key:0,class:"choice-list"},Fu=["value"],Vu={key:1,class:"empty-inline"},Lu={class:"sticky-actions detail-footer-actions"},Nu=["disabled"],zu=["disabled"],Mu={key:1,class:"detail-content panel-variants"},Ku={key:0,class:"empty-inline"},Hu={class:"section-block"},Bu={class:"section-head"},$u={key:0,class:"variant-list"},ju={class:"variant-card-meta"},qu=["onClick"],Gu=["disabled","onClick"],Qu={key:1,class:"empty-inline"},Yu={class:"form-grid"},Ju={class:"ops-field ops-field-required"},Xu=["disabled"],Wu={class:"ops-field ops-field-required"},Zu={class:"form-grid"},ep={class:"ops-field ops-field-required"},tp={class:"ops-field ops-field-required"},np={class:"form-grid"},ap={class:"ops-field ops-field-required"},op={class:"ops-field"},lp={class:"form-grid form-grid-three"},ip={class:"ops-field"},rp={class:"ops-field"},sp={class:"ops-field"},dp={class:"sticky-actions"},cp=["disabled"],up=["disabled"],pp={key:2,class:"detail-content panel-media"},mp={key:0,class:"empty-inline"},bp={class:"section-block"},fp={class:"section-head"},yp={key:0,class:"media-grid"},vp=["src","alt"],gp={class:"media-card-body"},hp={class:"media-card-meta"},kp={key:0},Sp={key:1},wp={class:"media-card-url"},Cp=["disabled","onClick"],xp={key:1,class:"empty-inline"},Ip={class:"form-grid"},Tp={class:"ops-field ops-field-required"},Op={class:"ops-field"},Pp=["value"],Ap={class:"sticky-actions"},Up=["disabled"],_p={key:0,class:"section-block"},Rp={class:"media-upload-list"},Dp={class:"media-upload-main"},Ep=["value"],Fp={key:1,class:"field-error"},Vp=["onClick"],Lp=["onClick"],Np={key:3,class:"detail-content panel-merch"},zp={key:0,class:"inline-note"},Mp={class:"merch-card"},Kp={class:"merch-card-head"},Hp={class:"definition-list"},Bp={class:"sticky-actions"},$p=["disabled"],jp=["disabled"],qp={__name:"ProductsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Oc,[i("div",null,[t[30]||(t[30]=i("h2",null,"Товары",-1)),i("p",null,s(e.productState.items.length)+" позиций",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateProduct&&e.startCreateProduct(...t))}," Новый товар ")]),i("label",Pc,[t[31]||(t[31]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.productState.query=t),type:"search",placeholder:"Название, слаг, бренд"},null,512),[[f,e.productState.query,void 0,{trim:!0}]])]),e.productState.overlayReadFailed?(a(),o("p",Ac," Статусы витринных оверлеев временно недоступны. Каталогом всё ещё можно управлять. ")):d("v-if",!0),e.isTabLoading("products")?(a(),o("div",Uc,[...t[32]||(t[32]=[i("strong",null,"Загружаю товары",-1)])])):e.filteredProducts.length?(a(),o("div",Rc,[(a(!0),o(p,null,m(e.filteredProducts,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.productState.selectedId===t.id&&!e.productState.isCreating}]),onClick:n=>e.selectProduct(t.id)},[i("div",Ec,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.isActive?"pill-positive":"pill-muted"])},s(t.isActive?"Активен":"Скрыт"),3)]),i("p",Fc,s(t.slug),1),i("div",Vc,[i("span",null,s(t.brand?.name||"Без бренда"),1),i("span",null,s(t.variantCount)+" вариантов",1),i("span",null,s(t.totalStock)+" шт.",1)]),t.overlay?(a(),o("div",Lc,[i("span",Nc,s(e.overlayStatusLabel(t.overlay.status)),1)])):d("v-if",!0)],10,Dc))),128))])):(a(),o("div",_c,[...t[33]||(t[33]=[i("strong",null,"Товары не найдены",-1),i("span",null,"Измените поиск или создайте новую позицию.",-1)])]))]),detail:u(()=>[e.productState.isCreating||e.productState.detail?(a(),o("section",Mc,[i("header",Kc,[i("div",null,[t[35]||(t[35]=i("p",{class:"detail-kicker"},"Товары",-1)),i("h2",null,s(e.productState.isCreating?"Новый товар":e.productState.detail?.item?.name),1),e.productState.detail?.item?.slug?(a(),o("p",Hc,s(e.productState.detail.item.slug),1)):d("v-if",!0)]),i("div",Bc,[e.productForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteProduct&&e.deleteProduct(...t))}," Удалить ",8,$c)):d("v-if",!0)])]),i("nav",jc,[(a(!0),o(p,null,m(e.productDetailTabs,t=>(a(),o("button",{key:t.id,type:"button",class:l(["subtab",{active:e.productState.panel===t.id}]),onClick:n=>e.setProductPanel(t.id)},s(t.label),11,qc))),128))]),"main"===e.productState.panel?(a(),o(p,{key:0},[i("div",Gc,[i("form",{id:"storefront-ops-product-form",class:"editor-form",onSubmit:t[11]||(t[11]=v((...t)=>e.submitProduct&&e.submitProduct(...t),["prevent"]))},[e.productForm.id?(a(),o("div",Qc,[i("article",Yc,[t[36]||(t[36]=i("span",null,"ID товара",-1)),i("strong",Jc,s(e.productForm.id),1)]),i("article",Xc,[t[37]||(t[37]=i("span",null,"Создан",-1)),i("strong",null,s(e.formatDateTime(e.productState.detail?.item?.createdAt)),1)]),i("article",Wc,[t[38]||(t[38]=i("span",null,"Обновлён",-1)),i("strong",null,s(e.formatDateTime(e.productState.detail?.item?.updatedAt)),1)])])):d("v-if",!0),i("div",Zc,[i("label",eu,[t[39]||(t[39]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.productForm.name=t),type:"text"},null,512),[[f,e.productForm.name,void 0,{trim:!0}]])]),i("label",tu,[t[40]||(t[40]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.productForm.slug=t),type:"text"},null,512),[[f,e.productForm.slug,void 0,{trim:!0}]])])]),i("div",nu,[i("label",au,[t[42]||(t[42]=i("span",null,"Бренд",-1)),b(i("select",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.productForm.brandId=t)},[t[41]||(t[41]=i("option",{value:""},"Без бренда",-1)),(a(!0),o(p,null,m(e.productBrandOptions,e=>(a(),o("option",{key:e.id,value:e.id},s(e.name),9,ou))),128))],512),[[g,e.productForm.brandId]])]),i("label",lu,[t[43]||(t[43]=i("span",null,"Витрина",-1)),i("label",iu,[b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.productForm.isActive=t),type:"checkbox"},null,512),[[h,e.productForm.isActive]]),i("span",null,s(e.productForm.isActive?"Товар виден на витрине":"Товар скрыт с витрины"),1)])])]),i("label",ru,[t[44]||(t[44]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.productForm.description=t),rows:"6"},null,512),[[f,e.productForm.description]])]),i("section",su,[i("div",du,[t[45]||(t[45]=i("div",null,[i("h3",null,"Технические характеристики"),i("p",null,"Секции и параметры товара, которые хранятся в backend product.specifications.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[8]||(t[8]=(...t)=>e.addSpecificationSection&&e.addSpecificationSection(...t))}," Добавить секцию ")]),e.productForm.specifications.length?(a(),o("div",cu,[(a(!0),o(p,null,m(e.productForm.specifications,(n,l)=>(a(),o("article",{key:`spec-section-${l}`,class:"spec-section-card"},[i("div",uu,[i("div",null,[i("strong",null,"Секция "+s(l+1),1),i("p",null,s(n.items.length)+" параметров",1)]),i("button",{class:"button button-danger button-small",type:"button",onClick:t=>e.removeSpecificationSection(l)}," Удалить секцию ",8,pu)]),i("div",mu,[i("label",bu,[t[46]||(t[46]=i("span",null,"Заголовок секции",-1)),b(i("input",{"onUpdate:modelValue":e=>n.title=e,type:"text"},null,8,fu),[[f,n.title,void 0,{trim:!0}]])]),i("label",yu,[t[47]||(t[47]=i("span",null,"Описание секции",-1)),b(i("input",{"onUpdate:modelValue":e=>n.description=e,type:"text"},null,8,vu),[[f,n.description,void 0,{trim:!0}]])])]),i("div",gu,[i("div",hu,[t[48]||(t[48]=i("strong",null,"Параметры",-1)),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>e.addSpecificationItem(l)}," Добавить параметр ",8,ku)]),n.items.length?(a(),o("div",Su,[(a(!0),o(p,null,m(n.items,(n,r)=>(a(),o("div",{key:`spec-item-${l}-${r}`,class:"spec-item-row"},[i("label",wu,[t[49]||(t[49]=i("span",null,"Параметр",-1)),b(i("input",{"onUpdate:modelValue":e=>n.label=e,type:"text"},null,8,Cu),[[f,n.label,void 0,{trim:!0}]])]),i("label",xu,[t[50]||(t[50]=i("span",null,"Значение",-1)),b(i("input",{"onUpdate:modelValue":e=>n.value=e,type:"text"},null,8,Iu),[[f,n.value,void 0,{trim:!0}]])]),i("button",{class:"button button-danger button-small spec-item-remove",type:"button",onClick:t=>e.removeSpecificationItem(l,r)}," Удалить ",8,Tu)]))),128))])):(a(),o("div",Ou,"В секции пока нет параметров."))])]))),128))])):(a(),o("div",Pu," Характеристики ещё не заданы. Добавьте секцию, если товару нужны технические параметры. "))]),i("section",Au,[i("div",Uu,[t[51]||(t[51]=i("div",null,[i("h3",null,"Категории"),i("p",null,"Выберите разделы, в которых товар должен отображаться.")],-1)),i("span",_u,s(e.productForm.categoryIds.length),1)]),i("label",Ru,[t[52]||(t[52]=i("span",null,"Фильтр категорий",-1)),i("input",{value:e.productCategoryFilter,onInput:t[9]||(t[9]=t=>e.setProductCategoryFilter(t.target.value.trim())),type:"search",placeholder:"Поиск по дереву"},null,40,Du)]),e.filteredProductCategoryOptions.length?(a(),o("div",Eu,[(a(!0),o(p,null,m(e.filteredProductCategoryOptions,n=>(a(),o("label",{key:n.id,class:"choice-item"},[b(i("input",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.productForm.categoryIds=t),type:"checkbox",value:n.id},null,8,Fu),[[h,e.productForm.categoryIds]]),i("div",null,[i("strong",null,s(e.formatCategoryLabel(n)),1),i("small",null,s(n.fullPath||n.slug),1)])]))),128))])):(a(),o("div",Vu,"Нет категорий под текущий фильтр."))])],32)]),i("div",Lu,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-product-form",disabled:e.isSubmitting},s(e.productForm.id?"Сохранить товар":"Создать товар"),9,Nu),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[12]||(t[12]=(...t)=>e.resetProductEditor&&e.resetProductEditor(...t))}," Сбросить ",8,zu)])],64)):"variants"===e.productState.panel?(a(),o("div",Mu,[e.productForm.id?(a(),o(p,{key:1},[i("div",Hu,[i("div",Bu,[i("div",null,[t[53]||(t[53]=i("h3",null,"Варианты",-1)),i("p",null,s(e.productState.detail?.item?.variants?.length||0)+" записей",1)]),i("button",{class:"button button-secondary",type:"button",onClick:t[13]||(t[13]=(...t)=>e.resetVariantEditor&&e.resetVariantEditor(...t))}," Новый вариант ")]),e.productState.detail?.item?.variants?.length?(a(),o("div",$u,[(a(!0),o(p,null,m(e.productState.detail.item.variants,t=>(a(),o("article",{key:t.id,class:"variant-card"},[i("div",null,[i("strong",null,s(t.name),1),i("p",null,s(t.sku),1)]),i("div",ju,[i("span",null,s(e.formatMoney(t.price)),1),i("span",null,s(t.stock)+" шт.",1)]),i("button",{class:"button button-secondary",type:"button",onClick:n=>e.loadVariantEditor(t)}," Изменить ",8,qu),i("button",{class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:n=>e.deleteVariant(t)}," Удалить ",8,Gu)]))),128))])):(a(),o("div",Qu,"У товара пока нет вариантов."))]),i("form",{class:"editor-form",onSubmit:t[24]||(t[24]=v((...t)=>e.submitVariant&&e.submitVariant(...t),["prevent"]))},[i("div",Yu,[i("label",Ju,[t[54]||(t[54]=i("span",null,"SKU",-1)),b(i("input",{"onUpdate:modelValue":t[14]||(t[14]=t=>e.variantForm.sku=t),type:"text",disabled:Boolean(e.variantForm.id)&&"admin"!==e.roleKind},null,8,Xu),[[f,e.variantForm.sku,void 0,{trim:!0}]])]),i("label",Wu,[t[55]||(t[55]=i("span",null,"Название варианта",-1)),b(i("input",{"onUpdate:modelValue":t[15]||(t[15]=t=>e.variantForm.name=t),type:"text"},null,512),[[f,e.variantForm.name,void 0,{trim:!0}]])])]),i("div",Zu,[i("label",ep,[t[56]||(t[56]=i("span",null,"Цена",-1)),b(i("input",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.variantForm.amount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.variantForm.amount,void 0,{number:!0}]])]),i("label",tp,[t[57]||(t[57]=i("span",null,"Валюта",-1)),b(i("input",{"onUpdate:modelValue":t[17]||(t[17]=t=>e.variantForm.currency=t),type:"text",maxlength:"3"},null,512),[[f,e.variantForm.currency,void 0,{trim:!0}]])])]),i("div",np,[i("label",ap,[t[58]||(t[58]=i("span",null,"Остаток",-1)),b(i("input",{"onUpdate:modelValue":t[18]||(t[18]=t=>e.variantForm.stock=t),type:"number",step:"1"},null,512),[[f,e.variantForm.stock,void 0,{number:!0}]])]),i("label",op,[t[59]||(t[59]=i("span",null,"Вес, г",-1)),b(i("input",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.variantForm.weightGrossG=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.weightGrossG,void 0,{number:!0}]])])]),i("div",lp,[i("label",ip,[t[60]||(t[60]=i("span",null,"Длина, мм",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.variantForm.lengthMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.lengthMm,void 0,{number:!0}]])]),i("label",rp,[t[61]||(t[61]=i("span",null,"Ширина, мм",-1)),b(i("input",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.variantForm.widthMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.widthMm,void 0,{number:!0}]])]),i("label",sp,[t[62]||(t[62]=i("span",null,"Высота, мм",-1)),b(i("input",{"onUpdate:modelValue":t[22]||(t[22]=t=>e.variantForm.heightMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.heightMm,void 0,{number:!0}]])])]),i("div",dp,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.variantForm.id?"Сохранить вариант":"Добавить вариант"),9,cp),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[23]||(t[23]=(...t)=>e.resetVariantEditor&&e.resetVariantEditor(...t))}," Сбросить ",8,up)])],32)],64)):(a(),o("div",Ku," Сначала сохраните товар, затем добавляйте варианты. "))])):"media"===e.productState.panel?(a(),o("div",pp,[e.productForm.id?(a(),o(p,{key:1},[i("div",bp,[i("div",fp,[i("div",null,[t[63]||(t[63]=i("h3",null,"Текущие изображения",-1)),i("p",null,s(e.productState.detail?.item?.images?.length||0)+" файлов",1)])]),e.productState.detail?.item?.images?.length?(a(),o("div",yp,[(a(!0),o(p,null,m(e.productState.detail.item.images,t=>(a(),o("article",{key:t.id,class:"media-card"},[i("img",{class:"media-preview",src:t.url,alt:`Изображение ${t.id}`},null,8,vp),i("div",gp,[i("div",hp,[i("span",null,"Позиция "+s(t.position),1),t.variantId?(a(),o("span",kp,"Вариант")):(a(),o("span",Sp,"Общий актив"))]),i("p",wp,s(t.url),1)]),i("button",{class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:n=>e.deleteProductImage(t.id)}," Удалить ",8,Cp)]))),128))])):(a(),o("div",xp,"Изображения ещё не загружены."))]),i("form",{class:"editor-form",onSubmit:t[27]||(t[27]=v((...t)=>e.uploadProductImages&&e.uploadProductImages(...t),["prevent"]))},[i("div",Ip,[i("label",Tp,[t[64]||(t[64]=i("span",null,"Файлы",-1)),i("input",{type:"file",multiple:"",accept:"image/*",onChange:t[25]||(t[25]=(...t)=>e.onProductFilesSelected&&e.onProductFilesSelected(...t))},null,32)]),i("label",Op,[t[66]||(t[66]=i("span",null,"Привязать к варианту",-1)),b(i("select",{"onUpdate:modelValue":t[26]||(t[26]=t=>e.productMediaForm.variantId=t)},[t[65]||(t[65]=i("option",{value:""},"Без привязки",-1)),(a(!0),o(p,null,m(e.productState.detail?.item?.variants||[],e=>(a(),o("option",{key:e.id,value:e.id},s(e.name)+" · "+s(e.sku),9,Pp))),128))],512),[[g,e.productMediaForm.variantId]])])]),i("div",Ap,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.productMediaFiles.length}," Загрузить изображения ",8,Up)])],32),"PRODUCT"===e.mediaUploadState.targetType&&e.mediaUploadState.items.length?(a(),o("div",_p,[t[67]||(t[67]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Загрузка и оптимизация"),i("p",null,"Изображение появится в товаре после подготовки всех форматов витрины.")])],-1)),i("div",Rp,[(a(!0),o(p,null,m(e.mediaUploadState.items,t=>(a(),o("article",{key:t.id,class:"media-upload-row"},[i("div",Dp,[i("strong",null,s(t.filename),1),i("span",null,s(e.mediaUploadProgressLabel(t)),1),"UPLOADING"===t.status?(a(),o("progress",{key:0,value:Math.round(100*Number(t.progress||0)),max:"100"},null,8,Ep)):d("v-if",!0),t.error?(a(),o("small",Fp,s(t.error),1)):d("v-if",!0)]),i("span",{class:l(["pill","FAILED"===t.status?"pill-muted":"pill-neutral"])},s(e.mediaUploadStatusLabel(t.status)),3),"FAILED"===t.status?(a(),o("button",{key:0,class:"button button-secondary button-small",type:"button",onClick:n=>e.retryMediaUpload(t.id)}," Повторить ",8,Vp)):d("v-if",!0),["UPLOADING","QUEUED","FAILED"].includes(t.status)?(a(),o("button",{key:1,class:"button button-danger button-small",type:"button",onClick:n=>e.abortMediaUpload(t.id)}," Отменить ",8,Lp)):d("v-if",!0)]))),128))])])):d("v-if",!0)],64)):(a(),o("div",mp," Сначала сохраните товар, затем загружайте медиа. "))])):(a(),o("div",Np,[e.productState.overlayReadFailed?(a(),o("div",zp," Статус оверлея сейчас не читается из CMS. Попробуйте обновить раздел позже. ")):d("v-if",!0),i("article",Mp,[i("div",Kp,[t[68]||(t[68]=i("div",null,[i("h3",null,"Витринный оверлей"),i("p",null,"Редакционный слой для маркетинговых заголовков, badge и контентных блоков.")],-1)),e.productOverlayInfo?(a(),o("span",{key:0,class:l(["pill",e.productOverlayInfo.exists?"pill-positive":"pill-neutral"])},s(e.productOverlayInfo.exists?e.overlayStatusLabel(e.productOverlayInfo.status):"Не создан"),3)):d("v-if",!0)]),i("dl",Hp,[i("div",null,[t[69]||(t[69]=i("dt",null,"Ключ",-1)),i("dd",null,s(e.productOverlayInfo?.key||e.productForm.slug||"Сначала сохраните слаг товара"),1)]),i("div",null,[t[70]||(t[70]=i("dt",null,"Маркетинговый заголовок",-1)),i("dd",null,s(e.productOverlayInfo?.marketingTitle||"Не задан"),1)]),i("div",null,[t[71]||(t[71]=i("dt",null,"Badge",-1)),i("dd",null,s(e.productOverlayInfo?.badgeText||"Не задан"),1)]),i("div",null,[t[72]||(t[72]=i("dt",null,"Подборки",-1)),i("dd",null,s(e.productOverlayInfo?.linkedCollectionKeys?.length?e.productOverlayInfo.linkedCollectionKeys.join(", "):"Нет связей"),1)])]),i("div",Bp,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[28]||(t[28]=t=>e.openOrCreateOverlay("product"))},s(e.productOverlayInfo?.exists?"Открыть оверлей":"Создать оверлей"),9,$p),i("button",{class:"button button-secondary",type:"button",disabled:!e.accessState.previewBaseUrl||!e.productForm.slug,onClick:t[29]||(t[29]=t=>e.openStorefrontPreview("product"))}," Предпросмотр витрины ",8,jp)])])]))])):(a(),o("div",zc,[...t[34]||(t[34]=[i("strong",null,"Выберите товар",-1),i("span",null,"Откройте карточку из списка или создайте новую позицию.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Gp={class:"pane-header"},Qp={key:0,class:"empty-state"},Yp={key:1,class:"card-list"},Jp=["onClick"],Xp={class:"list-card-head"},Wp={class:"list-card-slug"},Zp={class:"list-card-meta"},em=["onClick"],tm={class:"list-card-head"},nm={class:"list-card-meta"},am={class:"detail-card"},om={class:"detail-header"},lm={class:"detail-header-actions"},im={class:"form-grid"},rm={class:"ops-field ops-field-required"},sm={class:"form-grid form-grid-three"},dm={class:"ops-field"},cm={class:"ops-field"},um={class:"ops-field"},pm={class:"form-grid"},mm={class:"ops-field"},bm={class:"ops-field"},fm={class:"selector-card"},ym={class:"selector-card-head"},vm={key:0,class:"spec-item-list"},gm={class:"ops-field"},hm=["onUpdate:modelValue"],km={class:"ops-field"},Sm=["onUpdate:modelValue"],wm=["onClick"],Cm={key:1,class:"empty-inline"},xm={class:"ops-field"},Im={class:"sticky-actions"},Tm=["disabled"],Om=["disabled"],Pm={class:"form-grid"},Am={class:"ops-field ops-field-required"},Um={class:"ops-field"},_m={class:"form-grid form-grid-three"},Rm={class:"ops-field"},Dm={class:"ops-field"},Em={class:"ops-field"},Fm={class:"form-grid form-grid-three"},Vm={class:"ops-field"},Lm={class:"ops-field"},Nm={class:"ops-field"},zm={class:"ops-field"},Mm={class:"sticky-actions"},Km=["disabled"],Hm=["disabled"],Bm={__name:"PromotionsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Gp,[i("div",null,[t[24]||(t[24]=i("h2",null,"Акции",-1)),i("p",null,s(e.promotionState.items.length)+" акций · "+s(e.promotionState.promoCodes.length)+" кодов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreatePromotion&&e.startCreatePromotion(...t))}," Новая акция ")]),e.isTabLoading("promotions")?(a(),o("div",Qp,[...t[25]||(t[25]=[i("strong",null,"Загружаю акции",-1)])])):(a(),o("div",Yp,[(a(!0),o(p,null,m(e.promotionState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.promotionState.selectedId===t.id&&"promotion"===e.promotionState.mode}]),onClick:n=>e.selectPromotion(t)},[i("div",Xp,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.activeNow?"pill-positive":"pill-muted"])},s(t.status),3)]),i("p",Wp,s(t.type),1),i("div",Zp,[i("span",null,s(t.startsAt?e.formatDateTime(t.startsAt):"Без начала"),1),i("span",null,s(t.endsAt?e.formatDateTime(t.endsAt):"Без окончания"),1)])],10,Jp))),128)),(a(!0),o(p,null,m(e.promotionState.promoCodes,n=>(a(),o("button",{key:n.id,type:"button",class:l(["list-card",{active:e.promotionState.selectedPromoCodeId===n.id&&"promoCode"===e.promotionState.mode}]),onClick:t=>e.selectPromoCode(n)},[i("div",tm,[i("strong",null,s(n.code),1),i("span",{class:l(["pill",n.activeNow?"pill-positive":"pill-muted"])},s(n.status),3)]),t[26]||(t[26]=i("p",{class:"list-card-slug"},"Промокод",-1)),i("div",nm,[i("span",null,s(n.redemptionCount)+" использований",1),i("span",null,s(n.maxRedemptions||"Без лимита"),1)])],10,em))),128))]))]),detail:u(()=>[i("section",am,[i("header",om,[i("div",null,[t[27]||(t[27]=i("p",{class:"detail-kicker"},"Акции",-1)),i("h2",null,s("promoCode"===e.promotionState.mode?"Промокод":"Акция"),1),t[28]||(t[28]=i("p",{class:"detail-subtitle"},"Directus редактирует только backend-акции. Пороговые скидки DSC-01 фиксированы в API.",-1))]),i("div",lm,[i("button",{class:"button button-secondary",type:"button",onClick:t[1]||(t[1]=(...t)=>e.startCreatePromotion&&e.startCreatePromotion(...t))}," Акция "),i("button",{class:"button button-secondary",type:"button",onClick:t[2]||(t[2]=(...t)=>e.startCreatePromoCode&&e.startCreatePromoCode(...t))}," Промокод ")])]),"promoCode"!==e.promotionState.mode?(a(),o("form",{key:0,class:"editor-form",onSubmit:t[12]||(t[12]=v((...t)=>e.submitPromotion&&e.submitPromotion(...t),["prevent"]))},[i("div",im,[i("label",rm,[t[29]||(t[29]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.promotionForm.name=t),type:"text"},null,512),[[f,e.promotionForm.name,void 0,{trim:!0}]])]),t[30]||(t[30]=i("div",{class:"inline-note"}," Тип акции: PRODUCT_SALE. Скидки по сумме корзины: 50 000 ₽ → 5%, 65 000 ₽ → 7%, 100 000 ₽ → 10%. ",-1))]),i("div",sm,[i("label",dm,[t[32]||(t[32]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.promotionForm.status=t)},[...t[31]||(t[31]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"DRAFT"},"DRAFT",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.promotionForm.status]])]),i("label",cm,[t[33]||(t[33]=i("span",null,"Начало",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.promotionForm.startsAt=t),type:"datetime-local"},null,512),[[f,e.promotionForm.startsAt]])]),i("label",um,[t[34]||(t[34]=i("span",null,"Окончание",-1)),b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.promotionForm.endsAt=t),type:"datetime-local"},null,512),[[f,e.promotionForm.endsAt]])])]),i("div",pm,[i("label",mm,[t[35]||(t[35]=i("span",null,"Цена распродажи, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.promotionForm.salePriceAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promotionForm.salePriceAmount,void 0,{number:!0}]])]),i("label",bm,[t[36]||(t[36]=i("span",null,"Скидка, %",-1)),b(i("input",{"onUpdate:modelValue":t[8]||(t[8]=t=>e.promotionForm.discountPercent=t),type:"number",min:"0",max:"100",step:"1"},null,512),[[f,e.promotionForm.discountPercent,void 0,{number:!0}]])])]),i("section",fm,[i("div",ym,[t[37]||(t[37]=i("div",null,[i("h3",null,"Цели распродажи"),i("p",null,"Можно указать несколько товаров, вариантов, категорий или брендов.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[9]||(t[9]=(...t)=>e.addPromotionTarget&&e.addPromotionTarget(...t))}," Добавить цель ")]),e.promotionForm.targets.length?(a(),o("div",vm,[(a(!0),o(p,null,m(e.promotionForm.targets,(n,l)=>(a(),o("div",{key:`promotion-target-${l}`,class:"spec-item-row"},[i("label",gm,[t[39]||(t[39]=i("span",null,"Тип цели",-1)),b(i("select",{"onUpdate:modelValue":e=>n.targetKind=e},[...t[38]||(t[38]=[i("option",{value:"VARIANT"},"VARIANT",-1),i("option",{value:"PRODUCT"},"PRODUCT",-1),i("option",{value:"BRAND"},"BRAND",-1),i("option",{value:"CATEGORY"},"CATEGORY",-1)])],8,hm),[[g,n.targetKind]])]),i("label",km,[t[40]||(t[40]=i("span",null,"Ключ цели",-1)),b(i("input",{"onUpdate:modelValue":e=>n.targetKey=e,type:"text",placeholder:"sku, slug или UUID"},null,8,Sm),[[f,n.targetKey,void 0,{trim:!0}]])]),i("button",{class:"button button-danger button-small spec-item-remove",type:"button",onClick:t=>e.removePromotionTarget(l)}," Удалить ",8,wm)]))),128))])):(a(),o("div",Cm,"Без целей акция применяется ко всем товарам."))]),i("label",xm,[t[41]||(t[41]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.promotionForm.description=t),rows:"4"},null,512),[[f,e.promotionForm.description]])]),i("div",Im,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.promotionForm.id?"Сохранить акцию":"Создать акцию"),9,Tm),e.promotionForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[11]||(t[11]=(...t)=>e.deletePromotion&&e.deletePromotion(...t))}," Удалить ",8,Om)):d("v-if",!0)])],32)):(a(),o("form",{key:1,class:"editor-form",onSubmit:t[23]||(t[23]=v((...t)=>e.submitPromoCode&&e.submitPromoCode(...t),["prevent"]))},[i("div",Pm,[i("label",Am,[t[42]||(t[42]=i("span",null,"Код",-1)),b(i("input",{"onUpdate:modelValue":t[13]||(t[13]=t=>e.promoCodeForm.code=t),type:"text"},null,512),[[f,e.promoCodeForm.code,void 0,{trim:!0}]])]),i("label",Um,[t[44]||(t[44]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[14]||(t[14]=t=>e.promoCodeForm.status=t)},[...t[43]||(t[43]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.promoCodeForm.status]])])]),i("div",_m,[i("label",Rm,[t[45]||(t[45]=i("span",null,"Скидка, %",-1)),b(i("input",{"onUpdate:modelValue":t[15]||(t[15]=t=>e.promoCodeForm.discountPercent=t),type:"number",min:"0",max:"100",step:"1"},null,512),[[f,e.promoCodeForm.discountPercent,void 0,{number:!0}]])]),i("label",Dm,[t[46]||(t[46]=i("span",null,"Скидка суммой, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.promoCodeForm.discountAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promoCodeForm.discountAmount,void 0,{number:!0}]])]),i("label",Em,[t[47]||(t[47]=i("span",null,"Порог, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[17]||(t[17]=t=>e.promoCodeForm.thresholdAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promoCodeForm.thresholdAmount,void 0,{number:!0}]])])]),i("div",Fm,[i("label",Vm,[t[48]||(t[48]=i("span",null,"Начало",-1)),b(i("input",{"onUpdate:modelValue":t[18]||(t[18]=t=>e.promoCodeForm.startsAt=t),type:"datetime-local"},null,512),[[f,e.promoCodeForm.startsAt]])]),i("label",Lm,[t[49]||(t[49]=i("span",null,"Окончание",-1)),b(i("input",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.promoCodeForm.endsAt=t),type:"datetime-local"},null,512),[[f,e.promoCodeForm.endsAt]])]),i("label",Nm,[t[50]||(t[50]=i("span",null,"Лимит",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.promoCodeForm.maxRedemptions=t),type:"number",min:"0",step:"1"},null,512),[[f,e.promoCodeForm.maxRedemptions,void 0,{number:!0}]])])]),i("label",zm,[t[51]||(t[51]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.promoCodeForm.description=t),rows:"4"},null,512),[[f,e.promoCodeForm.description]])]),i("div",Mm,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.promoCodeForm.id?"Сохранить промокод":"Создать промокод"),9,Km),e.promoCodeForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[22]||(t[22]=(...t)=>e.deletePromoCode&&e.deletePromoCode(...t))}," Удалить ",8,Hm)):d("v-if",!0)])],32))])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},$m={class:"pane-header"},jm={key:0,class:"empty-state"},qm={key:1,class:"card-list"},Gm=["onClick"],Qm={class:"list-card-head"},Ym={class:"list-card-meta"},Jm={class:"detail-card"},Xm={class:"detail-header"},Wm={class:"form-grid"},Zm={class:"ops-field ops-field-required"},eb={class:"ops-field"},tb={class:"form-grid form-grid-three"},nb={class:"ops-field"},ab={class:"ops-field"},ob={class:"ops-field"},lb={class:"ops-field ops-field-boolean"},ib={class:"ops-toggle"},rb={class:"sticky-actions detail-footer-actions"},sb=["disabled"],db=["disabled"],cb={__name:"TaxTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",$m,[i("div",null,[t[9]||(t[9]=i("h2",null,"Налоги",-1)),i("p",null,s(e.taxState.items.length)+" режимов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateTax&&e.startCreateTax(...t))}," Новый режим ")]),e.isTabLoading("tax")?(a(),o("div",jm,[...t[10]||(t[10]=[i("strong",null,"Загружаю настройки",-1)])])):(a(),o("div",qm,[(a(!0),o(p,null,m(e.taxState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.taxState.selectedId===t.id}]),onClick:n=>e.selectTax(t)},[i("div",Qm,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.active?"pill-positive":"pill-muted"])},s(t.active?"Активен":t.status),3)]),i("div",Ym,[i("span",null,"СНО "+s(t.taxSystemCode),1),i("span",null,"НДС "+s(t.vatCode),1),i("span",null,s(t.vatRatePercent??0)+"%",1)])],10,Gm))),128))]))]),detail:u(()=>[i("section",Jm,[i("header",Xm,[i("div",null,[t[11]||(t[11]=i("p",{class:"detail-kicker"},"Налоги",-1)),i("h2",null,s(e.taxForm.id?e.taxForm.name:"Новый налоговый режим"),1),t[12]||(t[12]=i("p",{class:"detail-subtitle"},"Активный режим используется при создании чеков YooKassa.",-1))])]),i("form",{id:"storefront-ops-tax-form",class:"editor-form",onSubmit:t[7]||(t[7]=v((...t)=>e.submitTax&&e.submitTax(...t),["prevent"]))},[i("div",Wm,[i("label",Zm,[t[13]||(t[13]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.taxForm.name=t),type:"text"},null,512),[[f,e.taxForm.name,void 0,{trim:!0}]])]),i("label",eb,[t[15]||(t[15]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[2]||(t[2]=t=>e.taxForm.status=t)},[...t[14]||(t[14]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.taxForm.status]])])]),i("div",tb,[i("label",nb,[t[16]||(t[16]=i("span",null,"Код СНО YooKassa",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.taxForm.taxSystemCode=t),type:"number",min:"1",step:"1"},null,512),[[f,e.taxForm.taxSystemCode,void 0,{number:!0}]])]),i("label",ab,[t[17]||(t[17]=i("span",null,"Код НДС YooKassa",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.taxForm.vatCode=t),type:"number",min:"1",step:"1"},null,512),[[f,e.taxForm.vatCode,void 0,{number:!0}]])]),i("label",ob,[t[18]||(t[18]=i("span",null,"Ставка НДС, %",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.taxForm.vatRatePercent=t),type:"number",min:"0",step:"0.001"},null,512),[[f,e.taxForm.vatRatePercent,void 0,{number:!0}]])])]),i("label",lb,[t[19]||(t[19]=i("span",null,"Активность",-1)),i("label",ib,[b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.taxForm.active=t),type:"checkbox"},null,512),[[h,e.taxForm.active]]),i("span",null,s(e.taxForm.active?"Использовать в чеках":"Не использовать"),1)])])],32),i("div",rb,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-tax-form",disabled:e.isSubmitting},s(e.taxForm.id?"Сохранить режим":"Создать режим"),9,sb),e.taxForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[8]||(t[8]=(...t)=>e.deleteTax&&e.deleteTax(...t))}," Удалить ",8,db)):d("v-if",!0)])])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))};const ub=new Set(["READY","FAILED","ABORTED","EXPIRED"]),pb=new Set(["image/jpeg","image/png","image/webp"]);function mb({bridgeRequest:e,xhrFactory:t=()=>new XMLHttpRequest}){function n(e,n,a,o){return new Promise((l,i)=>{const r=t();r.open("PUT",e,!0),Object.entries(a||{}).forEach(([e,t])=>r.setRequestHeader(e,t)),r.upload.onprogress=e=>{e.lengthComputable&&o(e.loaded)},r.onerror=()=>i(new Error("Соединение с хранилищем прервано.")),r.onabort=()=>i(new Error("Загрузка отменена.")),r.onload=()=>{r.status<200||r.status>=300?i(new Error(`Хранилище вернуло HTTP ${r.status}.`)):l(r.getResponseHeader("ETag")||"")},r.send(n)})}return{uploadBatch:async function({targetType:t,entityId:a,files:o,onState:l=()=>{}}){const i=await async function(e){return Promise.all(e.map(async e=>({...e,contentType:await yb(e.file)})))}(o);fb(i);const r=await e("/media/uploads",{method:"POST",data:{targetType:t,entityId:a,files:i.map(({file:e,contentType:t,variantId:n,position:a})=>({filename:e.name,contentType:t,size:e.size,variantId:n||null,position:Number.isInteger(a)?a:null}))}}),s=new Map(r.items.map(e=>[e.id,0]));hb(r.items,s,l),await gb(r.items,2,async(t,a)=>{const o=i[a];try{"MULTIPART"===t.uploadMethod?await async function(t,a,o){const l=Array.from({length:t.totalParts},(e,n)=>{const o=n+1,l=n*t.partSize,i=Math.min(a.size,l+t.partSize);return{partNumber:o,blob:a.slice(l,i),size:i-l,loaded:0}}),i=[];await gb(l,3,async a=>{let r;for(let s=0;s<3;s+=1)try{const r=(await e(`/media/uploads/${t.id}/parts`,{method:"POST",data:{partNumbers:[a.partNumber]}})).parts[0],s=await n(r.url,a.blob,r.headers,e=>{a.loaded=e,o(l.reduce((e,t)=>e+t.loaded,0))});return void i.push({partNumber:a.partNumber,eTag:s})}catch(e){a.loaded=0,r=e}throw r}),i.sort((e,t)=>e.partNumber-t.partNumber),await e(`/media/uploads/${t.id}/complete`,{method:"POST",data:{parts:i}})}(t,o.file,e=>{s.set(t.id,e/o.file.size),hb(r.items,s,l)}):await async function(t,a,o){let l,i={url:t.putUrl,headers:t.putHeaders||{}};for(let r=0;r<3;r+=1){r>0&&(i=await e(`/media/uploads/${t.id}/url`,{method:"POST"}));try{return await n(i.url,a,i.headers,o),void await e(`/media/uploads/${t.id}/complete`,{method:"POST",data:{}})}catch(e){l=e}}throw l}(t,o.file,e=>{s.set(t.id,e/o.file.size),hb(r.items,s,l)}),s.set(t.id,1),t.status="QUEUED",hb(r.items,s,l)}catch(n){try{await e(`/media/uploads/${t.id}`,{method:"DELETE"})}catch{}t.status="ABORTED",t.error=n?.message||"Не удалось загрузить файл.",hb(r.items,s,l)}});let d=await e(`/media/uploads/batches/${r.batchId}`);for(hb(d.items,s,l);!d.items.every(e=>ub.has(e.status));)await kb(2e3),d=await e(`/media/uploads/batches/${r.batchId}`),hb(d.items,s,l);return d}}}function bb(e){fb(e.map(e=>({file:e})))}function fb(e){if(!e.length)throw new Error("Выберите хотя бы один файл.");for(const{file:t,contentType:n}of e){const e=n||vb(t.type,t.name);if(!pb.has(e))throw new Error(`${t.name}: поддерживаются только JPEG, PNG и WebP.`);if(t.size>104857600)throw new Error(`${t.name}: размер превышает 100 МБ.`)}}async function yb(e){const t=await async function(e){if(!e?.slice||"function"!=typeof e.slice(0,16).arrayBuffer)return"";const t=new Uint8Array(await e.slice(0,16).arrayBuffer());if(255===t[0]&&216===t[1]&&255===t[2])return"image/jpeg";if(137===t[0]&&80===t[1]&&78===t[2]&&71===t[3]&&13===t[4]&&10===t[5]&&26===t[6]&&10===t[7])return"image/png";if(82===t[0]&&73===t[1]&&70===t[2]&&70===t[3]&&87===t[8]&&69===t[9]&&66===t[10]&&80===t[11])return"image/webp";return""}(e);return t||vb(e.type,e.name)}function vb(e,t=""){const n=String(e||"").toLowerCase();if("image/jpg"===n)return"image/jpeg";if(n)return n;const a=String(t||"").split(".").pop()?.toLowerCase();return"jpg"===a||"jpeg"===a?"image/jpeg":"png"===a?"image/png":"webp"===a?"image/webp":""}async function gb(e,t,n){let a=0;const o=Array.from({length:Math.min(t,e.length)},async()=>{for(;a<e.length;){const t=a;a+=1,await n(e[t],t)}});await Promise.all(o)}function hb(e,t,n){n(e.map(e=>({...e,progress:Math.max(0,Math.min(1,t.get(e.id)||("READY"===e.status?1:0)))})))}function kb(e){return new Promise(t=>setTimeout(t,e))}const Sb=[{id:"home",label:"Главная"},{id:"products",label:"Товары"},{id:"categories",label:"Категории"},{id:"brands",label:"Бренды"},{id:"inventory",label:"Остатки"},{id:"orders",label:"Заказы"},{id:"imports",label:"Импорт"},{id:"promotions",label:"Акции"},{id:"tax",label:"Налоги"},{id:"analytics",label:"Аналитика"},{id:"alerts",label:"Алерты"}],wb=[{id:"main",label:"Основное"},{id:"variants",label:"Варианты"},{id:"media",label:"Медиа"},{id:"merch",label:"Мерчандайзинг"}],Cb=["products","categories","brands","inventory","orders","promotions","tax"],xb=["home","products","categories","brands","inventory","orders","imports","promotions","tax","analytics","alerts"],Ib=[...xb,"activePromotions"];function Tb(e,t,n){if(!t)return e||[];const a=t.toLowerCase();return(e||[]).filter(e=>n.some(t=>{const n=t(e);return n&&String(n).toLowerCase().includes(a)}))}function Ob(e){const t=Number(e.depth||0);return`${t>0?`${"· ".repeat(t)}`:""}${e.name}`}function Pb(e){const t=String(e||"").toLowerCase();return"published"===t?"Опубликован":"in_review"===t?"На проверке":"archived"===t?"В архиве":"draft"===t?"Черновик":"Без статуса"}function Ab(e){if(!e?.amount&&0!==e?.amount)return"Цена не задана";const t=e.currency||"RUB";return Ub(e.amount,t)}function Ub(e,t="RUB"){if(null==e||""===e)return"Не задано";const n=Number(e);return Number.isFinite(n)?`${(n/100).toLocaleString("ru-RU")} ${t}`:"Не задано"}function _b(e){if(!e)return"Не задано";const t=new Date(e);return Number.isNaN(t.getTime())?"Не задано":new Intl.DateTimeFormat("ru-RU",{dateStyle:"short",timeStyle:"short"}).format(t)}function Rb(e){if(!e)return null;const t=new Date(e);return Number.isNaN(t.getTime())?null:t.toISOString()}function Db(e){if(!e)return"";const t=new Date(e);if(Number.isNaN(t.getTime()))return"";const n=t.getTimezoneOffset();return new Date(t.getTime()-60*n*1e3).toISOString().slice(0,16)}function Eb(e){return Object.fromEntries(Object.entries(e||{}).filter(([,e])=>null!=e&&""!==String(e).trim()))}function Fb(e){return`${(100*Number(e||0)).toFixed(1)}%`}function Vb(e){return(Array.isArray(e)?e:[]).map(e=>({title:String(e?.title||""),description:String(e?.description||""),items:(Array.isArray(e?.items)?e.items:[]).map(e=>({label:String(e?.label||""),value:String(e?.value||"")}))}))}function Lb(e){return(Array.isArray(e)?e:[]).map(e=>({title:Kb(e?.title),description:Kb(e?.description),items:(Array.isArray(e?.items)?e.items:[]).map(e=>({label:Kb(e?.label),value:Kb(e?.value)})).filter(e=>e.label&&e.value)})).filter(e=>e.title||e.description||e.items.length)}function Nb(e){if(""===e||null==e)return null;const t=Number(e);return Number.isFinite(t)?t:null}function zb(e){const t=Nb(e);return null===t?null:t/100}function Mb(e){const t=Nb(e);return null===t?null:Math.round(100*t)}function Kb(e){const t=String(e||"").trim();return t||null}function Hb(){return crypto.randomUUID()}const Bb={admin:["admin","administrator","администратор","администратор cms","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001"],catalogue:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004"],inventory:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"],manager:["manager","менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10006"],picker:["picker","сборщик","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10007"],content:["content_manager","content-manager","контент-менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10008","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10002","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"]},$b={home:["admin","content"],products:["admin","content"],categories:["admin","content"],brands:["admin","content"],inventory:["admin","content"],orders:["admin","manager","picker"],imports:["admin","content"],promotions:["admin","content"],tax:["admin"],analytics:["admin","manager"],alerts:["admin","content"]};function jb(e){return String(e||"").trim().toLowerCase()}function qb(e,t,n){const a=(o=e?.[t],String(o||"").split(",").map(e=>e.trim()).filter(Boolean));var o;return a.length?a:Bb[n]||[]}function Gb(e,...t){if(!e||0===e.size)return!1;const n=new Set([...e].map(e=>jb(e)));return t.map(e=>jb(e)).filter(Boolean).some(e=>n.has(e))}function Qb(e={},t=null){if(["admin","manager","picker","content"].includes(e.roleKind))return e.roleKind;const n=t||function(e={}){return{admin:new Set(qb(e,"STOREFRONT_OPS_ADMIN_ROLE_IDS","admin")),catalogue:new Set(qb(e,"STOREFRONT_OPS_CATALOGUE_ROLE_IDS","catalogue")),inventory:new Set(qb(e,"STOREFRONT_OPS_INVENTORY_ROLE_IDS","inventory")),manager:new Set(qb(e,"STOREFRONT_OPS_MANAGER_ROLE_IDS","manager")),picker:new Set(qb(e,"STOREFRONT_OPS_PICKER_ROLE_IDS","picker")),content:new Set(qb(e,"STOREFRONT_OPS_CONTENT_ROLE_IDS","content"))}}(),a=[e.roleId,e.roleName,e.primaryRole,e.roles];return e.roleAdminAccess||Gb(n.admin,...a)?"admin":Gb(n.manager,...a)?"manager":Gb(n.picker,...a)?"picker":Gb(n.content,...a)?"content":"unknown"}const Yb={home:"/",about:"/about",delivery:"/info/delivery",payment:"/info/payment",production:"/info/production",legal:"/info/legal"};function Jb({baseUrl:e,kind:t,key:n,id:a}={}){const o=String(e||"").trim().replace(/\/+$/,"");const l=String(t||"").trim().toLowerCase(),i=String(n||"").trim(),r=String(a||"").trim();if(!o||!l)return"";let s="";if("page"===l)s=Yb[i]||`/info/${encodeURIComponent(i)}`;else if("product"===l){const e=encodeURIComponent(r||i);s=i?`/product/${e}/${encodeURIComponent(i)}`:`/product/${e}`}else"category"===l&&(s=`/category/${encodeURIComponent(i)}`);if(!s)return"";const d=new URL(s,`${o}/`);return d.searchParams.set("cmsPreview","1"),d.toString()}const Xb="storefront-ops-view",Wb="storefront-ops-view-root";function Zb(t){const n=e(),{bridgeRequest:a,directusRequest:o}=function(e){return{bridgeRequest:async function(t,n={}){return(await e.request({url:`/storefront-ops-bridge${t}`,method:n.method||"GET",params:n.params,data:n.data,headers:n.headers})).data},directusRequest:async function(t,n={}){const a=await e.request({url:t,method:n.method||"GET",params:n.params,data:n.data});return a?.data?.data??a?.data??null}}}(n),l=mb({bridgeRequest:a}),i=Sb,r=wb,s=["PENDING","PAID","PROCESSING","READY_FOR_PICKUP","SHIPPED","DELIVERED","RECEIVED","CANCELLED","REFUNDED"],d=["PROCESSING","READY_FOR_PICKUP","SHIPPED"],c="storefront-ops.workspace-state",u="home",p=new Set(["этот раздел уже открыт.","этот товар уже открыт.","эта категория уже открыта.","этот бренд уже открыт.","этот раздел товара уже открыт.","этот вариант уже выбран для корректировки.","этот заказ уже открыт.","этот импорт уже выбран.","эта акция уже открыта.","этот промокод уже открыт.","этот налоговый режим уже открыт.","раздел товара открыт.","вариант открыт для редактирования.","акция открыта для редактирования.","промокод открыт для редактирования.","налоговый режим открыт для редактирования.","открыта форма нового товара.","открыта форма новой категории.","открыта форма нового бренда.","открыта форма новой акции.","открыта форма нового промокода.","открыта форма нового налогового режима.","вариант выбран для корректировки остатков.","оверлей открыт в новой вкладке.","предпросмотр открыт в новой вкладке."]),m=[{value:"draft",label:"Черновик"},{value:"in_review",label:"На проверке"},{value:"published",label:"Опубликовано"},{value:"archived",label:"В архиве"}],b=[{value:"default",label:"Обычный"},{value:"warm",label:"Тёплый"},{value:"sage",label:"Шалфейный"},{value:"quiet",label:"Спокойный"},{value:"legal",label:"Юридический"},{value:"accent",label:"Акцентный"}],f=[{value:"contained",label:"Обычный блок"},{value:"full",label:"На всю ширину"},{value:"media_right",label:"Медиа справа"},{value:"media_left",label:"Медиа слева"},{value:"cards",label:"Карточки"},{value:"rail",label:"Горизонтальная лента"},{value:"shop_the_look",label:"Shop the look"}],y=[{value:"hero",label:"Первый экран"},{value:"category_reference_list",label:"Категории"},{value:"product_reference_list",label:"Товары"},{value:"collection_teaser",label:"Подборка"},{value:"feature_list",label:"Преимущества"},{value:"banner_group",label:"Баннер"},{value:"newsletter_cta",label:"Подписка"},{value:"rich_text",label:"Текст"}],v=[{value:"manual",label:"Ручная"},{value:"backend_rule",label:"Правило backend"},{value:"hybrid",label:"Гибрид"}],g=[{value:"",label:"Без правила"},{value:"new",label:"Новинки"},{value:"bestsellers",label:"Бестселлеры"},{value:"category",label:"Категория"},{value:"brand",label:"Бренд"},{value:"sale",label:"Распродажа"}],h=[{value:"default",label:"По умолчанию"},{value:"newest",label:"Сначала новые"},{value:"oldest",label:"Сначала старые"},{value:"alphabetical",label:"По алфавиту"},{value:"price_asc",label:"Цена ↑"},{value:"price_desc",label:"Цена ↓"}],w={hero:"Первый экран",category_reference_list:"Категории",collection_teaser:"Подборка",product_reference_list:"Товары",feature_list:"Список преимуществ",banner_group:"Баннеры",newsletter_cta:"Подписка",rich_text:"Текст"},x=S("home"),A=S(""),U=I({type:"",text:""}),_=S(!1),R=S(!1),D=S(!1),E=S(""),F=I({loaded:!1,userId:"",email:"",externalId:"",roleKind:"",roleId:"",roleName:"",roleAdminAccess:!1,previewBaseUrl:""}),V=I(Object.fromEntries(xb.map(e=>[e,0]))),L=I(Object.fromEntries(Ib.map(e=>[e,!1]))),N=I({loaded:!1,page:null,sections:[],selectedSectionIndex:0,presetToAdd:"product_reference_list",categoryOptions:[],productOptions:[],collectionOptions:[],collectionItemsById:{},categoryQuery:"",categoryToAdd:"",collectionToAdd:"",collectionDraft:null,collectionProductQuery:"",collectionProductToAdd:"",collectionCategoryQuery:"",collectionCategoryToAdd:"",originalItemIds:[],originalCollectionRuleIds:[]}),z=I({page:{id:"",status:"draft",title:"",summary:"",seoTitle:"",seoDescription:""},announcementBanner:{id:"",status:"draft",internalName:"Баннер в шапке",shortText:""},sections:[]}),M=S(""),K=S(""),H=I({loaded:!1,query:"",items:[],brandOptions:[],categoryOptions:[],overlayReadFailed:!1,selectedId:"",detail:null,isCreating:!1,panel:"main"}),B=I({loaded:!1,query:"",items:[],parentOptions:[],overlayReadFailed:!1,selectedId:"",detail:null,isCreating:!1}),$=I({loaded:!1,query:"",items:[],selectedId:"",detail:null,isCreating:!1}),j=I({loaded:!1,query:"",items:[],selectedVariantId:""}),q=I({id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G=S(""),Q=S(""),Y=I({id:"",sku:"",name:"",amount:0,currency:"RUB",stock:0,weightGrossG:null,lengthMm:null,widthMm:null,heightMm:null}),J=S(""),X=I({variantId:""}),W=S([]),Z=I({items:[],activeBatchId:"",targetType:"",entityId:"",busy:!1});let ee=null;const te=I({id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne=S(""),ae=S(null),oe=I({id:"",name:"",slug:"",description:""}),le=S(""),ie=I({variantId:"",delta:0,reason:"",idempotencyKey:Hb()}),re=I({loaded:!1,query:"",status:"",manager:"",archived:"all",from:"",to:"",items:[],selectedId:"",selectedFilteredOut:!1,detail:null,nextStatus:"",note:"",rmaReason:"",rmaDesiredResolution:"",rmaDecisionForms:{},refundForms:{}}),se=I({loaded:!1,jobs:[],selectedJobId:"",file:null,dryRun:null,notUpdatedModalOpen:!1,mapping:{sku:"Номенклатура.Артикул",productName:"Номенклатура",productSlug:"product_slug",variantName:"variant_name",brandSlug:"brand_slug",categorySlug:"category_slug",priceAmount:"price",stockQuantity:"stock",currency:"currency"}}),de=[{key:"sku",label:"Артикул"},{key:"productName",label:"Название"}],ce=I({loaded:!1,items:[],promoCodes:[],selectedId:"",selectedPromoCodeId:"",mode:"promotion",isCreating:!1,promoCodeCreating:!1}),ue=I({loaded:!1,items:[]}),pe=I({id:"",name:"",type:"PRODUCT_SALE",status:"ACTIVE",startsAt:"",endsAt:"",discountPercent:null,discountAmount:null,salePriceAmount:null,currency:"RUB",thresholdAmount:null,description:"",targets:[]}),me=I({id:"",code:"",status:"ACTIVE",discountPercent:null,discountAmount:null,thresholdAmount:null,startsAt:"",endsAt:"",maxRedemptions:null,description:""}),be=I({loaded:!1,items:[],selectedId:"",isCreating:!1}),fe=I({id:"",name:"",status:"ACTIVE",taxSystemCode:1,vatCode:1,vatRatePercent:0,active:!1}),ye=I({loaded:!1,from:"",to:"",manager:"",managerRows:[],paymentLinks:{sent:0,paid:0,conversionRate:0,rows:[]},metrika:{enabled:!1,offlineImportEnabled:!1,counterConfigured:!1,pending:0,sent:0,failed:0,skipped:0}}),ve=I({loaded:!1,threshold:5,rows:[]}),ge=k(()=>Qb(F)),he=k(()=>"manager"===ge.value),ke=k(()=>["admin","manager","picker","content"].includes(ge.value)),Se=k(()=>i.filter(e=>wt(e.id))),we=k(()=>Se.value[0]?.id||"products"),Ce=k(()=>Se.value.find(e=>e.id===x.value)?.label||"Раздел"),xe=k(()=>{return e=x.value,Cb.includes(e);var e}),Ie=k(()=>t[x.value]||t.home),Te=k(()=>re.detail?.order||null),Oe=k(()=>re.detail?.rmaRequests||[]),Pe=k(()=>"picker"===ge.value?d:s),Ae=k(()=>{const e=Te.value;return Boolean(e&&!vt(e)&&["admin","manager"].includes(ge.value)&&!kt(e))}),Ue=k(()=>Boolean(Te.value&&!vt(Te.value)&&"admin"===ge.value&&kt(Te.value))),_e=k(()=>Boolean(Te.value&&!vt(Te.value)&&"admin"===ge.value)),Re=k(()=>Boolean(Te.value&&vt(Te.value)&&"admin"===ge.value)),De=k(()=>{const e=Te.value;return!(!e||vt(e)||!re.nextStatus)&&("admin"===ge.value||("manager"===ge.value?St(e):"picker"===ge.value&&d.includes(re.nextStatus)))}),Ee=k(()=>{const e=Te.value;return!(!e||vt(e))&&("admin"===ge.value||"manager"===ge.value&&(!kt(e)||St(e)))}),Fe=k(()=>{const e=Te.value;return!(!e||vt(e))&&("admin"===ge.value||"manager"===ge.value&&St(e))}),Ve=k(()=>{const e=Te.value?.paymentSummary,t=!!Array.isArray(e?.refunds)&&e.refunds.some(e=>"PENDING"===e?.status);return Boolean("admin"===ge.value&&!vt(Te.value)&&e&&"COMPLETED"===e.status&&!t&&function(e){const t=Number(e?.amount??0);return Number.isFinite(t)?t:0}(e.refundableAmount)>0)}),Le=k(()=>F.roleName?F.roleName:"admin"===ge.value?"Администратор":"manager"===ge.value?"Менеджер":"picker"===ge.value?"Сборщик":"content"===ge.value?"Контент-менеджер":"Роль Directus"),Ne=k(()=>he.value?"Доступны заказы, активные акции и только собственная аналитика.":"Доступ разделов ограничен ролью пользователя."),ze=k(()=>Tb(H.items,H.query,[e=>e.name,e=>e.slug,e=>e.brand?.name,e=>e.brand?.slug])),Me=k(()=>Tb(B.items,B.query,[e=>e.name,e=>e.slug,e=>e.fullPath])),Ke=k(()=>{if(!z.sections.length)return null;const e=Math.max(0,Math.min(N.selectedSectionIndex,z.sections.length-1));return z.sections[e]||null}),He=k(()=>z.sections),Be=k(()=>Ke.value?`${N.selectedSectionIndex+1} из ${z.sections.length}`:""),$e=k(()=>z.sections.find(e=>"category_reference_list"===e.sectionType)||null),je=k(()=>new Set(z.sections.filter(e=>"category_reference_list"===e.sectionType).flatMap(e=>e.items||[]).filter(e=>"category_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)))),qe=k(()=>{const e=N.categoryQuery.trim().toLowerCase();return(N.categoryOptions||[]).filter(e=>!1!==e.isActive).filter(e=>!je.value.has(Ut(e.slug))).filter(t=>!e||[t.name,t.slug,t.fullPath].filter(Boolean).some(t=>String(t).toLowerCase().includes(e)))}),Ge=k(()=>{const e=new Set((Ke.value?.items||[]).filter(e=>"storefront_collection"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)));return(N.collectionOptions||[]).filter(e=>"published"!==z.page.status||"published"===e.status).filter(t=>!e.has(Ut(t.key)))}),Qe=k(()=>{const e=new Set((N.collectionDraft?.rules||[]).filter(e=>"product"===e.entityKind).map(e=>Ut(e.entityKey))),t=N.collectionProductQuery.trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(t=>!e.has(Ut(t.slug))).filter(e=>!t||[e.name,e.slug,e.brand?.name,e.brand?.slug].filter(Boolean).some(e=>String(e).toLowerCase().includes(t)))}),Ye=k(()=>{const e=new Set((N.collectionDraft?.rules||[]).filter(e=>"category"===e.entityKind).map(e=>Ut(e.entityKey))),t=N.collectionCategoryQuery.trim().toLowerCase();return(N.categoryOptions||[]).filter(e=>!1!==e.isActive).filter(t=>!e.has(Ut(t.slug))).filter(e=>!t||[e.name,e.slug,e.fullPath].filter(Boolean).some(e=>String(e).toLowerCase().includes(t)))}),Je=k(()=>Tb($.items,$.query,[e=>e.name,e=>e.slug])),Xe=k(()=>Tb(j.items,j.query,[e=>e.productName,e=>e.productSlug,e=>e.variantName,e=>e.sku,e=>e.brand?.name,e=>e.brand?.slug])),We=k(()=>{if(!Q.value)return et.value;const e=Q.value.toLowerCase();return et.value.filter(t=>[t.name,t.slug,t.fullPath].filter(Boolean).some(t=>String(t).toLowerCase().includes(e)))}),Ze=k(()=>H.brandOptions||[]),et=k(()=>H.categoryOptions||[]),tt=k(()=>{const e=te.id;return(B.parentOptions||[]).filter(t=>t.id!==e)});function nt(e){Q.value=String(e||"")}const at=k(()=>j.items.find(e=>e.variantId===j.selectedVariantId)||null),ot=k(()=>H.detail?.item?.overlay||null),lt=k(()=>B.detail?.item?.overlay||null),it=k(()=>G.value!==Ra()),rt=k(()=>J.value!==Fa()),st=k(()=>ne.value!==Va()),dt=k(()=>le.value!==La()),ct=k(()=>M.value!==Da()||K.value!==Ea()),ut=k(()=>"published"===z.page.status?"Сохранить и опубликовать":"Сохранить черновик"),pt=k(()=>"home"===x.value?ct.value:"products"===x.value?it.value||rt.value:"categories"===x.value?st.value:"brands"===x.value&&dt.value),mt=k(()=>"products"===x.value?H.isCreating||Boolean(H.detail):"categories"===x.value?B.isCreating||Boolean(B.detail):"brands"===x.value?$.isCreating||Boolean($.detail):"inventory"===x.value?Boolean(at.value):"orders"===x.value?Boolean(re.detail):"promotions"===x.value?Boolean(ce.selectedId||ce.selectedPromoCodeId||ce.isCreating||ce.promoCodeCreating):"tax"!==x.value||(be.isCreating||Boolean(be.selectedId))),bt=k(()=>({HOME_SECTION_PRESETS:y,HOME_STATUS_OPTIONS:m,HOME_STYLE_OPTIONS:b,HOME_LAYOUT_OPTIONS:f,STOREFRONT_COLLECTION_MODES:v,STOREFRONT_COLLECTION_RULE_TYPES:g,STOREFRONT_COLLECTION_SORT_MODES:h,productDetailTabs:r,importMappingFields:de,orderStatusOptions:Pe.value,accessState:F,loading:L,homeState:N,homeForm:z,productState:H,categoryState:B,brandState:$,inventoryState:j,productForm:q,variantForm:Y,productMediaForm:X,mediaUploadState:Z,categoryForm:te,brandForm:oe,inventoryForm:ie,orderState:re,importState:se,promotionState:ce,activePromotionState:ue,promotionForm:pe,promoCodeForm:me,taxState:be,taxForm:fe,analyticsState:ye,alertState:ve,roleKind:ge.value,isManagerRole:he.value,canViewActivePromotions:ke.value,activeDetailOpen:mt.value,activeTabHasMasterDetail:xe.value,activeTabLabel:Ce.value,filteredProducts:ze.value,filteredCategories:Me.value,filteredBrands:Je.value,filteredInventory:Xe.value,filteredProductCategoryOptions:We.value,productBrandOptions:Ze.value,productCategoryOptions:et.value,availableParentOptions:tt.value,selectedInventoryRow:at.value,productOverlayInfo:ot.value,categoryOverlayInfo:lt.value,productDirty:it.value,variantDirty:rt.value,categoryDirty:st.value,brandDirty:dt.value,homeDirty:ct.value,homeSaveLabel:ut.value,selectedOrder:Te.value,selectedOrderRmaRequests:Oe.value,canClaimSelectedOrder:Ae.value,canClearSelectedOrder:Ue.value,canArchiveSelectedOrder:_e.value,canRestoreSelectedOrder:Re.value,canSubmitSelectedOrderStatus:De.value,canManageSelectedOrderRma:Ee.value,canDecideSelectedOrderRma:Fe.value,canRefundSelectedOrder:Ve.value,selectedHomeSection:Ke.value,selectedHomeSectionList:He.value,selectedHomeSectionPosition:Be.value,homeCategorySection:$e.value,filteredHomeCategoryOptions:qe.value,filteredHomeCollectionOptions:Ge.value,filteredCollectionProductOptions:Qe.value,filteredCollectionCategoryOptions:Ye.value,productCategoryFilter:Q.value,productMediaFiles:W.value,categoryImageFile:ae.value,isSubmitting:_.value,isTabLoading:ft,homeStatusLabel:Lt,homeSectionLabel:Qt,homeSectionTypeLabel:Et,saveHomeContent:Gn,openStorefrontPreview:Ho,addHomeSectionPreset:Sn,selectHomeSection:fn,moveHomeSection:vn,startCreateProduct:wa,overlayStatusLabel:Pb,selectProduct:Ia,startCreateCategory:Ca,selectCategory:Ta,startCreateBrand:xa,selectBrand:Oa,formatMoney:Ab,selectInventoryRow:Pa,loadOrders:oa,loadActivePromotions:sa,formatMinorMoney:Ub,orderManagerLabel:yt,isOrderArchived:vt,orderStatusLabel:gt,formatDateTime:_b,selectOrder:Qa,selectImportJob:lo,startCreatePromotion:mo,selectPromotion:bo,startCreatePromoCode:fo,selectPromoCode:yo,formatPercent:Fb,loadAnalytics:ca,saveLowStockThreshold:Po,closeActiveDetail:Aa,saveHomeCollectionDraft:Ln,moveHomeItem:zn,removeHomeItem:Nn,homeProductLabel:Zt,homeProductMeta:en,homeProductImage:tn,searchHomeHeroProducts:un,filteredHomeFeaturedProductOptions:sn,setHomeHeroFeaturedProduct:mn,clearHomeHeroFeaturedProduct:bn,homeCategoryLabel:Yt,homeCategoryMeta:Jt,homeCategoryImage:Xt,searchHomeCategories:dn,addHomeCategory:wn,filteredHomeProductOptions:ln,ensureHomeProductOptions:rn,searchHomeProducts:cn,addHomeProduct:Cn,homeCollectionLabel:an,homeCollectionMeta:on,addHomeCollection:In,startCreateHomeCollection:Tn,editHomeCollection:On,cancelHomeCollectionDraft:Pn,searchHomeCollectionProducts:An,searchHomeCollectionCategories:Un,addHomeCollectionProductRule:_n,addHomeCollectionCategoryRule:Rn,removeHomeCollectionRule:Dn,moveHomeCollectionRule:En,removeHomeSection:gn,archiveHomeSection:hn,duplicateHomeSection:kn,addHomeItem:xn,resetProductEditor:ma,submitProduct:za,deleteProduct:Ma,setProductPanel:Ua,addSpecificationSection:Bo,removeSpecificationSection:$o,addSpecificationItem:jo,removeSpecificationItem:qo,loadVariantEditor:_a,submitVariant:Ka,resetVariantEditor:ba,deleteVariant:Ha,onProductFilesSelected:Ao,uploadProductImages:_o,retryMediaUpload:Lo,abortMediaUpload:No,mediaUploadStatusLabel:zo,mediaUploadProgressLabel:Mo,deleteProductImage:Ro,openOrCreateOverlay:Ko,formatCategoryLabel:Ob,adjustCategoryPosition:va,onCategoryFileSelected:Uo,uploadCategoryImage:Do,submitCategory:Ba,resetCategoryEditor:ya,deleteCategory:$a,submitBrand:ja,resetBrandEditor:ga,deleteBrand:qa,submitInventoryAdjustment:Ga,resetInventoryEditor:ha,refundSelectedOrder:Ya,selectedRefundLines:Ja,createRmaRequest:Xa,rmaStatusLabel:ht,decideRmaRequest:Wa,submitOrderStatus:Za,claimOrder:eo,clearOrderClaim:to,archiveOrder:no,restoreOrder:ao,resetOrderFiltersForSelected:oo,onImportFileSelected:io,dryRunImport:ro,commitImport:so,openImportNotUpdatedModal:co,closeImportNotUpdatedModal:uo,downloadImportNotUpdated:po,addPromotionTarget:go,removePromotionTarget:ho,submitPromotion:ko,deletePromotion:So,submitPromoCode:wo,deletePromoCode:Co,startCreateTax:xo,selectTax:Io,submitTax:To,deleteTax:Oo,setProductCategoryFilter:nt}));function ft(e){return L[e]}function yt(e){return e?.managerEmail||e?.managerSubject||"Не назначен"}function vt(e){return Boolean(e?.archivedAt)}function gt(e){const t=String(e||"").trim().toUpperCase();if(!t)return"";return{PENDING:"Ожидает оплаты",PAID:"Оплачен",PROCESSING:"В обработке",READY_FOR_PICKUP:"Готов к выдаче",SHIPPED:"Отгружен",DELIVERED:"Доставлен",RECEIVED:"Получен",COMPLETED:"Получен",CANCELLED:"Отменен",REFUNDED:"Возвращен"}[t]||t}function ht(e){const t=String(e||"").trim().toUpperCase();return"REQUESTED"===t?"Запрошен":"APPROVED"===t?"Одобрен":"REJECTED"===t?"Отклонен":t||"Не указан"}function kt(e){return Boolean(e?.managerEmail||e?.managerSubject||e?.managerDirectusUserId)}function St(e){if(!e)return!1;const t=jb(F.userId),n=jb(F.email),a=jb(e.managerDirectusUserId),o=jb(e.managerEmail),l=jb(e.managerSubject);return!(!t||!a||t!==a)||Boolean(n&&(n===o||n===l))}function wt(e){return function(e,t,n=[]){return!(Array.isArray(n)&&n.length&&!n.some(t=>t.id===e))&&($b[e]||["admin"]).includes(t)}(e,ge.value,i)}function Ct({notify:e=!1}={}){if(wt(x.value))return;const t=x.value;x.value=we.value,e&&t&&Tt("Раздел скрыт для вашей роли Directus. Открыт доступный раздел.")}function xt(){A.value="",U.type="",U.text=""}function It(e){A.value="",U.type="success",U.text=e}function Tt(e){if(function(e){return p.has(String(e||"").trim().toLowerCase())}(e))return A.value="",U.type="",void(U.text="");A.value="",U.type="info",U.text=e}function Ot(e="Изменено. Нажмите «Сохранить», чтобы применить."){Tt(e)}function Pt(e){U.type="",U.text="",A.value=e?.response?.data?.errors?.[0]?.message||e?.response?.data?.error||e?.response?.data?.message||e?.message||"Произошла непредвиденная ошибка."}function At(e){return String(e||"").trim().toLowerCase().replace(/[-\s]+/g,"_")}function Ut(e){return String(e||"").trim().toLowerCase()}function _t(e){const t=At(e);return"split_media"===t||"two_column"===t?"media_right":"grid"===t?"cards":f.some(e=>e.value===t)?t:"contained"}function Rt(e){const t=At(e);return"highlight"===t?"accent":b.some(e=>e.value===t)?t:"default"}function Dt(e="home"){return`${e}:${Date.now()}:${Math.random().toString(36).slice(2,8)}`}function Et(e){return w[e]||e||"Секция"}function Ft(e){return Array.isArray(e)?e:[]}function Vt(e){return e?.id||""}function Lt(e){return m.find(t=>t.value===e)?.label||Pb(e)}function Nt(e={},t=0){return{clientId:Dt("item"),id:Vt(e),migrationKey:e.migration_key||"",status:e.status||"draft",title:e.title||"",description:e.description||"",label:e.label||"",url:e.url||"",referenceKind:e.reference_kind||e.referenceKind||"none",referenceKey:e.reference_key||e.referenceKey||"",sort:Number(e.sort??t+1)}}function zt(e={}){return Boolean("product_slug"===At(e.reference_kind||e.referenceKind)&&(e.reference_key||e.referenceKey))}function Mt(e,t,n,a=null){Object.assign(z.page,{id:Vt(e),status:e?.status||"draft",title:e?.title||"",summary:e?.summary||"",seoTitle:e?.seo_title||e?.seoTitle||"",seoDescription:e?.seo_description||e?.seoDescription||""}),Object.assign(z.announcementBanner,function(e={}){const t=e?.announcement_banner||e?.announcementBanner||null,n=t&&"object"==typeof t?t:null;return{id:n?.id||("string"==typeof t?t:""),status:n?.status||"draft",internalName:n?.internal_name||n?.internalName||"Баннер в шапке",shortText:n?.short_text||n?.shortText||""}}(a)),z.sections.splice(0,z.sections.length,...Ft(t).map((e,t)=>function(e={},t=[],n=0){const a=function(e){return e?.section_type||e?.sectionType||""}(e),o="hero"===a?Ft(t).find(zt):null,l="category_reference_list"===a?Ft(t).filter(e=>"category_slug"===At(e.reference_kind||e.referenceKind)&&(e.reference_key||e.referenceKey)):"hero"===a?Ft(t).filter(e=>!zt(e)):Ft(t);return{clientId:Dt("section"),id:Vt(e),migrationKey:e.migration_key||"",status:e.status||"draft",internalName:e.internal_name||e.internalName||e.title||Et(a),sectionType:a,sort:Number(e.sort??n+1),anchorId:e.anchor_id||e.anchorId||"",eyebrow:e.eyebrow||"",title:e.title||"",accent:e.accent||"",body:e.body||"",primaryCtaLabel:e.primary_cta_label||e.primaryCtaLabel||"",primaryCtaUrl:e.primary_cta_url||e.primaryCtaUrl||"",secondaryCtaLabel:e.secondary_cta_label||e.secondaryCtaLabel||"",secondaryCtaUrl:e.secondary_cta_url||e.secondaryCtaUrl||"",styleVariant:Rt(e.style_variant||e.styleVariant||"default"),layoutVariant:_t(e.layout_variant||e.layoutVariant||"contained"),productQuery:"",productToAdd:"",featuredProductKey:o?.reference_key||o?.referenceKey||"",featuredProductToAdd:"",featuredProductQuery:"",featuredProductItemId:Vt(o),featuredProductMigrationKey:o?.migration_key||"",featuredProductStatus:o?.status||e.status||"draft",items:l.map(Nt)}}(e,n.get(e.id)||[],t))),N.originalItemIds=z.sections.flatMap(e=>[e.featuredProductItemId,...e.items.map(e=>e.id)].filter(Boolean)),N.selectedSectionIndex=Math.max(0,Math.min(N.selectedSectionIndex,z.sections.length-1))}function Kt(e){return encodeURIComponent(String(e))}function Ht(e,t){return Array.from(new Set(Ft(e).filter(e=>At(e.reference_kind||e.referenceKind)===t).map(e=>e.reference_key||e.referenceKey).filter(Boolean).map(e=>String(e).trim())))}function Bt(e={}){return{id:Vt(e),key:e.key||"",status:e.status||"draft",title:e.title||"",description:e.description||"",mode:e.mode||"hybrid",ruleType:e.rule_type||e.ruleType||"",categoryKey:e.category_key||e.categoryKey||"",brandKey:e.brand_key||e.brandKey||"",limit:Number(e.limit??12),sortMode:e.sort_mode||e.sortMode||"default",primaryCtaLabel:e.primary_cta_label||e.primaryCtaLabel||"",primaryCtaUrl:e.primary_cta_url||e.primaryCtaUrl||""}}function $t(e={},t=0){return{clientId:Dt("collection-rule"),id:Vt(e),status:e.status||"draft",storefrontCollection:e.storefront_collection||e.storefrontCollection||"",entityKind:e.entity_kind||e.entityKind||"product",entityKey:e.entity_key||e.entityKey||"",behavior:e.behavior||"pin",sort:Number(e.sort??t+1)}}async function jt({categoryKeys:e=[],productKeys:t=[],categoryQuery:n="",productQuery:o=""}={}){const[l,i]=await Promise.all([a("/workspace/categories",{params:{q:n||void 0,keys:e.join(",")||void 0,limit:120}}),a("/workspace/products",{params:{q:o||void 0,keys:t.join(",")||void 0,limit:120}})]);N.categoryOptions=l.items||[],N.productOptions=i.items||[]}async function qt(){const e=Ft(await o("/items/storefront_collection?sort=title,key&limit=-1&fields=*")),t=e.map(e=>e.id).filter(Boolean),n=t.length?Ft(await o(`/items/storefront_collection_item?filter[storefront_collection][_in]=${Kt(t.join(","))}&sort=sort,id&limit=-1&fields=*`)):[],a=n.reduce((e,t)=>{const n=t.storefront_collection;return e[n]||(e[n]=[]),e[n].push($t(t)),e},{});N.collectionOptions=e.map(Bt),N.collectionItemsById=a,N.originalCollectionRuleIds=n.map(e=>e.id).filter(Boolean)}async function Gt(){L.home=!0;try{const e=Ft(await o(`/items/page?filter[slug][_eq]=${Kt(u)}&limit=1&fields=*`))[0]||null;if(!e?.id)return N.loaded=!0,N.page=null,N.sections=[],z.sections.splice(0,z.sections.length),void(A.value="Страница home не найдена в Directus. Запустите импорт начального контента.");const t=Ft(await o(`/items/page_sections?filter[page][_eq]=${Kt(e.id)}&sort=sort,id&limit=-1&fields=*`)),n=t.map(e=>e.id).filter(Boolean),a=n.length?Ft(await o(`/items/page_section_items?filter[page_section][_in]=${Kt(n.join(","))}&sort=sort,id&limit=-1&fields=*`)):[],l=a.reduce((e,t)=>{const n=t.page_section;return e.has(n)||e.set(n,[]),e.get(n).push(t),e},new Map),i=Ht(a,"category_slug"),r=Ht(a,"product_slug");await Promise.all([jt({categoryKeys:i,productKeys:r}),qt()]);const s=await o("/items/site_settings?fields=*,announcement_banner.*");N.page=e,N.sections=t,N.loaded=!0,Mt(e,t,l,s),M.value=Da(),K.value=Ea(),V.home=z.sections.length}catch(e){Pt(e)}finally{L.home=!1}}function Qt(e){return e.internalName||e.title||Et(e.sectionType)}function Yt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?.name||e||"Категория"}function Jt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?n.fullPath||n.slug:"Категория не найдена в backend-каталоге"}function Xt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?.imageUrl||""}function Wt(e){const t=Ut(e);return(N.productOptions||[]).find(e=>Ut(e.slug)===t)||null}function Zt(e){const t=Wt(e);return t?.name||e||"Товар"}function en(e){const t=Wt(e);if(!t)return"Товар не найден в backend-каталоге";const n=t.categories?.[0]?.fullPath||t.categories?.[0]?.slug||"";return[t.slug,n,t.isActive?"активен":"скрыт"].filter(Boolean).join(" · ")}function tn(e){return Wt(e)?.primaryImageUrl||""}function nn(e){const t=Ut(e);return(N.collectionOptions||[]).find(e=>Ut(e.key)===t)||null}function an(e){const t=nn(e);return t?.title||e||"Подборка"}function on(e){const t=nn(e);return t?[t.key,t.mode,t.status].filter(Boolean).join(" · "):"Подборка не найдена в Directus"}function ln(e){const t=function(e){return new Set((e?.items||[]).filter(e=>"product_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)))}(e),n=String(e?.productQuery||"").trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(e=>!t.has(Ut(e.slug))).filter(e=>{if(!n)return!0;const t=(e.categories||[]).map(e=>e.fullPath||e.slug||e.name).filter(Boolean).join(" ");return[e.name,e.slug,e.brand?.name,e.brand?.slug,t].filter(Boolean).some(e=>String(e).toLowerCase().includes(n))})}async function rn(e){e&&!ln(e).length&&await cn(e)}function sn(e){const t=Ut(e?.featuredProductKey),n=String(e?.featuredProductQuery||"").trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(e=>Ut(e.slug)!==t).filter(e=>{if(!n)return!0;const t=(e.categories||[]).map(e=>e.fullPath||e.slug||e.name).filter(Boolean).join(" ");return[e.name,e.slug,e.brand?.name,e.brand?.slug,t].filter(Boolean).some(e=>String(e).toLowerCase().includes(n))})}async function dn(){Tt("Обновляю список категорий.");try{const e=Array.from(je.value);await jt({categoryKeys:e,productKeys:Array.from(pn()),categoryQuery:N.categoryQuery}),Tt("Список категорий обновлён.")}catch(e){Pt(e)}}async function cn(e){Tt("Обновляю список товаров.");try{const t=Array.from(pn(e));await jt({categoryKeys:Array.from(je.value),productKeys:t,productQuery:e?.productQuery||""}),Tt(ln(e).length?"Список товаров обновлён.":"Товары для добавления не найдены. Измените поиск или проверьте каталог.")}catch(e){Pt(e)}}async function un(e){Tt("Обновляю список товаров для hero.");try{const t=Array.from(pn(e));await jt({categoryKeys:Array.from(je.value),productKeys:t,productQuery:e?.featuredProductQuery||""}),Tt("Список товаров для hero обновлён.")}catch(e){Pt(e)}}function pn(e=null){const t=e?[...z.sections,e]:z.sections,n=new Set(t.flatMap(e=>e?.items||[]).filter(e=>"product_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)));return t.map(e=>Ut(e?.featuredProductKey)).filter(Boolean).forEach(e=>n.add(e)),n}function mn(e){e&&e.featuredProductToAdd?(e.featuredProductKey=e.featuredProductToAdd,e.featuredProductStatus=e.status||z.page.status||"draft",e.featuredProductToAdd="",e.featuredProductQuery="",Ot()):Tt("Выберите товар для hero.")}function bn(e){e?e.featuredProductKey?(e.featuredProductKey="",e.featuredProductToAdd="",e.featuredProductQuery="",Ot()):Tt("Товар для hero уже не выбран."):Tt("Секция не выбрана.")}function fn(e){if(!z.sections.length)return void Tt("Секции главной пока не загружены.");const t=Math.max(0,Math.min(e,z.sections.length-1));t!==N.selectedSectionIndex&&(N.selectedSectionIndex=t)}function yn(){z.sections.forEach((e,t)=>{e.sort=t+1})}function vn(e,t){const n=e+t;if(e<0||n<0||n>=z.sections.length)return void Tt("Секция уже находится на границе списка.");const[a]=z.sections.splice(e,1);z.sections.splice(n,0,a),N.selectedSectionIndex=n,yn(),Ot()}function gn(e){const t=z.sections[e];t&&!t.id?(z.sections.splice(e,1),N.selectedSectionIndex=Math.max(0,Math.min(e,z.sections.length-1)),yn(),Ot()):Tt(t?.id?"Сохранённую секцию можно архивировать, но нельзя удалить из формы.":"Секция не выбрана.")}function hn(e){e?(e.status="archived"===e.status?"draft":"archived",Ot("archived"===e.status?"Секция будет архивирована после сохранения.":"Секция будет возвращена после сохранения.")):Tt("Секция не выбрана.")}function kn(e){if(!e)return void Tt("Секция не выбрана.");const t=JSON.parse(JSON.stringify(e));t.clientId=Dt("section"),t.id="",t.migrationKey=`home:${e.sectionType||"section"}:${Date.now()}`,t.internalName=`${Qt(e)} — копия`,t.status=e.status||z.page.status||"draft",t.items=(t.items||[]).map((e,n)=>({...e,clientId:Dt("item"),id:"",migrationKey:`${t.migrationKey}:item:${n+1}`,status:e.status||t.status})),z.sections.splice(N.selectedSectionIndex+1,0,t),N.selectedSectionIndex+=1,yn(),Ot("Секция продублирована. Нажмите «Сохранить», чтобы применить.")}function Sn(){const e=function(e){const t=Et(e),n={clientId:Dt("section"),id:"",migrationKey:`home:${e}:${Date.now()}`,status:z.page.status||"draft",internalName:`Главная — ${t.toLowerCase()}`,sectionType:e,sort:z.sections.length+1,anchorId:"",eyebrow:"",title:"",accent:"",body:"",primaryCtaLabel:"",primaryCtaUrl:"",secondaryCtaLabel:"",secondaryCtaUrl:"",styleVariant:"default",layoutVariant:"contained",productQuery:"",productToAdd:"",featuredProductKey:"",featuredProductToAdd:"",featuredProductQuery:"",featuredProductItemId:"",featuredProductMigrationKey:"",featuredProductStatus:z.page.status||"draft",items:[]};return"hero"===e?{...n,styleVariant:"warm",layoutVariant:"media_right",title:"Новый первый экран"}:"product_reference_list"===e?{...n,layoutVariant:"cards",title:"Товарная секция"}:"collection_teaser"===e?{...n,layoutVariant:"rail",title:"Витринная подборка"}:"category_reference_list"===e||"feature_list"===e||"banner_group"===e?{...n,layoutVariant:"cards"}:n}(N.presetToAdd||"product_reference_list");z.sections.push(e),N.selectedSectionIndex=z.sections.length-1,yn(),Ot("Секция добавлена. Нажмите «Сохранить», чтобы применить.")}function wn(e){if(!e||!N.categoryToAdd)return void Tt("Выберите категорию для добавления.");const t=(N.categoryOptions||[]).find(e=>e.slug===N.categoryToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:category:${t.slug}`,status:e.status||z.page.status||"draft",title:"",description:t.description||"",label:"",url:"",referenceKind:"category_slug",referenceKey:t.slug,sort:e.items.length+1}),N.categoryToAdd="",N.categoryQuery="",Mn(e),Ot()):Tt("Выбранная категория недоступна. Обновите список категорий.")}function Cn(e){if(!e||!e.productToAdd)return void Tt("Выберите товар для добавления.");const t=Wt(e.productToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:product:${t.slug}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"product_slug",referenceKey:t.slug,sort:e.items.length+1}),e.productToAdd="",e.productQuery="",Mn(e),Ot()):Tt("Выбранный товар недоступен. Обновите список товаров.")}function xn(e){e?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:${e.sectionType||"section"}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"product_reference_list"===e.sectionType?"product_slug":"none",referenceKey:"",sort:e.items.length+1}),Ot()):Tt("Секция не выбрана.")}function In(e){if(!e||!N.collectionToAdd)return void Tt("Выберите подборку для добавления.");const t=nn(N.collectionToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:collection:${t.key}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"storefront_collection",referenceKey:t.key,sort:e.items.length+1}),N.collectionToAdd="",Mn(e),Ot()):Tt("Выбранная подборка недоступна. Обновите список подборок.")}function Tn(){N.collectionDraft={...Bt({key:`home-${Date.now()}`,title:"Новая подборка",status:z.page.status||"draft",mode:"hybrid",limit:12,sort_mode:"default"}),rules:[],originalRuleIds:[]},K.value="",Tt("Создан черновик подборки. Заполните поля и сохраните подборку.")}function On(e){const t=nn(e);if(!t)return void Tt("Подборка не найдена. Обновите список подборок.");const n=(N.collectionItemsById[t.id]||[]).map(e=>({...e}));N.collectionDraft={...t,rules:n,originalRuleIds:n.map(e=>e.id).filter(Boolean)},K.value=Ea(),Tt(`Открыта подборка «${t.title||t.key}».`)}function Pn(){N.collectionDraft?K.value===Ea()||window.confirm("Есть несохранённые изменения подборки. Закрыть без сохранения?")?(N.collectionDraft=null,K.value="",N.collectionProductToAdd="",N.collectionCategoryToAdd="",Tt("Редактирование подборки закрыто.")):Tt("Редактирование подборки продолжается."):Tt("Черновик подборки уже закрыт.")}async function An(){Tt("Обновляю список товаров для подборки.");try{await jt({categoryKeys:Array.from(je.value),productKeys:Array.from(pn()),productQuery:N.collectionProductQuery}),Tt("Список товаров для подборки обновлён.")}catch(e){Pt(e)}}async function Un(){Tt("Обновляю список категорий для подборки.");try{await jt({categoryKeys:Array.from(je.value),productKeys:Array.from(pn()),categoryQuery:N.collectionCategoryQuery}),Tt("Список категорий для подборки обновлён.")}catch(e){Pt(e)}}function _n(){N.collectionDraft&&N.collectionProductToAdd?(N.collectionDraft.rules.push($t({entity_kind:"product",entity_key:N.collectionProductToAdd,behavior:"pin",sort:N.collectionDraft.rules.length+1,status:N.collectionDraft.status||"draft"})),N.collectionProductToAdd="",Fn(),Ot("Правило подборки добавлено. Сохраните подборку, чтобы применить.")):Tt(N.collectionDraft?"Выберите товар для правила подборки.":"Откройте или создайте подборку.")}function Rn(){N.collectionDraft&&N.collectionCategoryToAdd?(N.collectionDraft.rules.push($t({entity_kind:"category",entity_key:N.collectionCategoryToAdd,behavior:"pin",sort:N.collectionDraft.rules.length+1,status:N.collectionDraft.status||"draft"})),N.collectionCategoryToAdd="",Fn(),Ot("Правило подборки добавлено. Сохраните подборку, чтобы применить.")):Tt(N.collectionDraft?"Выберите категорию для правила подборки.":"Откройте или создайте подборку.")}function Dn(e){!N.collectionDraft||e<0?Tt(N.collectionDraft?"Правило подборки не выбрано.":"Откройте или создайте подборку."):(N.collectionDraft.rules.splice(e,1),Fn(),Ot("Правило подборки убрано. Сохраните подборку, чтобы применить."))}function En(e,t){const n=N.collectionDraft?.rules||[],a=e+t;if(e<0||a<0||a>=n.length)return void Tt("Правило уже находится на границе списка.");const[o]=n.splice(e,1);n.splice(a,0,o),Fn(),Ot("Порядок правил изменён. Сохраните подборку, чтобы применить.")}function Fn(){(N.collectionDraft?.rules||[]).forEach((e,t)=>{e.sort=t+1})}function Vn(e,t){return{status:e.status||N.collectionDraft?.status||"draft",storefront_collection:t,entity_kind:e.entityKind||"product",entity_key:Kb(e.entityKey),behavior:e.behavior||"pin",sort:Number(e.sort||0)}}async function Ln(){const e=N.collectionDraft;if(e?.key){_.value=!0,xt();try{Fn();const t=function(e){return{status:e.status||"draft",key:Kb(e.key),title:Kb(e.title)||e.key,description:Kb(e.description),mode:e.mode||"hybrid",rule_type:Kb(e.ruleType),category_key:Kb(e.categoryKey),brand_key:Kb(e.brandKey),limit:Number(e.limit||12),sort_mode:e.sortMode||"default",primary_cta_label:Kb(e.primaryCtaLabel),primary_cta_url:Kb(e.primaryCtaUrl)}}(e),n=e.id?await o(`/items/storefront_collection/${e.id}`,{method:"PATCH",data:t}):await o("/items/storefront_collection",{method:"POST",data:{...t,migration_key:`home:collection:${e.key}`}});e.id=n?.id||e.id;const l=new Set;for(const t of e.rules||[]){if(!t.entityKey)continue;const n=Vn(t,e.id),a=t.id?await o(`/items/storefront_collection_item/${t.id}`,{method:"PATCH",data:n}):await o("/items/storefront_collection_item",{method:"POST",data:n});t.id=a?.id||t.id,t.id&&l.add(String(t.id))}const i=(e.originalRuleIds||[]).filter(e=>e&&!l.has(String(e)));for(const e of i)await o(`/items/storefront_collection_item/${e}`,{method:"PATCH",data:{status:"archived",sort:999}});jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"collection",key:e.key}}),`подборка ${e.key}`),await qt(),On(e.key),It("Подборка сохранена.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите ключ подборки."}function Nn(e,t){!e||t<0?Tt("Элемент секции не выбран."):(e.items.splice(t,1),Mn(e),Ot())}function zn(e,t,n){if(!e)return void Tt("Секция не выбрана.");const a=t+n;if(a<0||a>=e.items.length)return void Tt("Элемент уже находится на границе списка.");const[o]=e.items.splice(t,1);e.items.splice(a,0,o),Mn(e),Ot()}function Mn(e){(e?.items||[]).forEach((e,t)=>{e.sort=t+1})}function Kn(e){return{status:e.status||z.page.status||"draft",internal_name:e.internalName||Et(e.sectionType),section_type:e.sectionType,sort:Number(e.sort||0),anchor_id:Kb(e.anchorId),eyebrow:Kb(e.eyebrow),title:Kb(e.title),accent:Kb(e.accent),body:Kb(e.body),primary_cta_label:Kb(e.primaryCtaLabel),primary_cta_url:Kb(e.primaryCtaUrl),secondary_cta_label:Kb(e.secondaryCtaLabel),secondary_cta_url:Kb(e.secondaryCtaUrl),style_variant:Rt(e.styleVariant),layout_variant:_t(e.layoutVariant)}}function Hn(e,t,n){return{status:t.status||e.status||z.page.status||"draft",page_section:n,migration_key:Kb(t.migrationKey),title:Kb(t.title),description:Kb(t.description),label:Kb(t.label),url:Kb(t.url),reference_kind:t.referenceKind||"none",reference_key:Kb(t.referenceKey),sort:Number(t.sort||0)}}function Bn(e){const t=function(e){return"hero"===e.sectionType&&e.featuredProductKey?{id:e.featuredProductItemId||"",migrationKey:e.featuredProductMigrationKey||`home:hero:featured-product:${e.id||e.clientId}`,status:e.featuredProductStatus||e.status||z.page.status||"draft",title:"",description:"",label:"Выбор недели",url:"",referenceKind:"product_slug",referenceKey:e.featuredProductKey,sort:0}:null}(e);return t?[t,...e.items||[]]:e.items||[]}function $n(){if("published"!==z.page.status)return[];const e=new Map;for(const t of z.sections||[])if("published"===t.status)for(const n of Bn(t)){if("published"!==(n.status||t.status))continue;const a=At(n.referenceKind),o="product"===a?"product_slug":"category"===a?"category_slug":["collection","cms_collection","collection_key"].includes(a)?"storefront_collection":a;if(!["product_slug","product_id","category_slug","category_id","storefront_collection"].includes(o))continue;const l=String(n.referenceKey||"").trim();e.set(`${o}:${Ut(l)}`,{kind:o,key:l})}return Array.from(e.values())}function jn(e,t){if(!0!==e?.successful)throw new Error(e?.error||`Не удалось очистить кеш: ${t}.`)}async function qn(){const e={status:z.announcementBanner.status||"draft",banner_type:"announcement",internal_name:Kb(z.announcementBanner.internalName)||"Баннер в шапке",short_text:Kb(z.announcementBanner.shortText)};if(!Boolean(z.announcementBanner.id||e.short_text))return;const t=z.announcementBanner.id?await o(`/items/banner/${z.announcementBanner.id}`,{method:"PATCH",data:e}):await o("/items/banner",{method:"POST",data:{...e,migration_key:`site:announcement:${Date.now()}`,sort:1}});z.announcementBanner.id=t?.id||z.announcementBanner.id,z.announcementBanner.id&&await o("/items/site_settings",{method:"PATCH",data:{announcement_banner:z.announcementBanner.id}})}async function Gn(){if(!z.page.id)return void(A.value="Страница home не загружена.");const e=function(){if(K.value!==Ea())return"Сначала сохраните или закройте изменения подборки.";if("published"!==z.page.status)return null;for(const e of $n()){if(!e.key)return"В опубликованной секции есть карточка без выбранной ссылки.";if("product_slug"===e.kind){const t=Wt(e.key);if(!t)return`Товар «${e.key}» не найден в backend-каталоге.`;if(!1===t.isActive)return`Товар «${t.name||e.key}» скрыт с витрины.`}if("category_slug"===e.kind){const t=(N.categoryOptions||[]).find(t=>Ut(t.slug)===Ut(e.key));if(!t)return`Категория «${e.key}» не найдена в backend-каталоге.`;if(!1===t.isActive)return`Категория «${t.name||e.key}» скрыта с витрины.`}if("storefront_collection"===e.kind){const t=nn(e.key);if(!t)return`Подборка «${e.key}» не найдена в Directus.`;if("published"!==t.status)return`Подборка «${t.title||e.key}» не опубликована.`}}return null}();if(e)A.value=e;else{_.value=!0,xt();try{yn(),await o(`/items/page/${z.page.id}`,{method:"PATCH",data:{status:z.page.status||"draft",title:Kb(z.page.title),summary:Kb(z.page.summary),seo_title:Kb(z.page.seoTitle),seo_description:Kb(z.page.seoDescription)}}),await qn();const e=new Set;for(const t of z.sections){const n=Kn(t),a=t.id?await o(`/items/page_sections/${t.id}`,{method:"PATCH",data:n}):await o("/items/page_sections",{method:"POST",data:{...n,page:z.page.id,migration_key:Kb(t.migrationKey)}});t.id=a?.id||t.id;for(const n of Bn(t)){const a=Hn(t,n,t.id),l=n.id?await o(`/items/page_section_items/${n.id}`,{method:"PATCH",data:a}):await o("/items/page_section_items",{method:"POST",data:a});n.id=l?.id||n.id,"hero"===t.sectionType&&"product_slug"===n.referenceKind&&n.referenceKey===t.featuredProductKey&&(t.featuredProductItemId=n.id,t.featuredProductMigrationKey=n.migrationKey),n.id&&e.add(String(n.id))}}const t=N.originalItemIds.filter(t=>t&&!e.has(String(t)));for(const e of t)await o(`/items/page_section_items/${e}`,{method:"PATCH",data:{status:"archived",reference_kind:"none",reference_key:null,sort:999}});jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"page",slug:u}}),"главная");if(jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"site_settings"}}),"настройки сайта"),"published"===z.page.status){const e=await a("/admin/content/publish-check",{method:"POST",data:{slug:u,expectedReferences:$n()}});if(!0!==e?.successful)throw new Error(function(e){const t=Array.isArray(e?.issues)?e.issues[0]:null;return t?`Проверка публикации не пройдена: ${t.kind} «${t.key}» (${t.reason}).`:"Опубликованная версия главной не совпала с сохранённой."}(e))}await Gt(),It("published"===z.page.status?"Главная сохранена, опубликована и проверена на витрине.":"Черновик главной сохранён. На витрине он появится после публикации.")}catch(e){Pt(e)}finally{_.value=!1}}}function Qn(e){return n.request({url:"/users/me",method:"GET",params:{fields:e.join(",")}})}function Yn(e){const t=e?.role||"",n=t&&"object"==typeof t;F.userId=e?.id||"",F.email=e?.email||"",F.externalId=e?.external_identifier||e?.externalIdentifier||"",F.roleId=n?t.id||"":t||"",F.roleName=n&&t.name||"",F.roleKind=e?.roleKind||e?.role_kind||n&&t.kind||"",F.roleAdminAccess=Boolean(n&&(t.admin_access||t.adminAccess)),F.previewBaseUrl=e?.preview?.baseUrl||e?.preview?.base_url||e?.storefrontPreviewBaseUrl||""}async function Jn({reloadSelected:e=!0}={}){L.products=!0;try{const t=await a("/workspace/products");H.items=t.items||[],H.brandOptions=t.brandOptions||[],H.categoryOptions=t.categoryOptions||[],H.overlayReadFailed=Boolean(t.overlayReadFailed),H.loaded=!0,e&&H.selectedId&&await Xn(H.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.products=!1}}async function Xn(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!H.loaded;n&&(L.products=!0);try{const t=await a(`/workspace/products/${e}`);H.detail=t,H.selectedId=t.item.id,H.isCreating=!1,H.brandOptions=t.brandOptions||H.brandOptions,H.categoryOptions=t.categoryOptions||H.categoryOptions,H.overlayReadFailed=Boolean(t.overlayReadFailed),o=t.item,Object.assign(q,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||"",brandId:o.brand?.id||"",categoryIds:Array.isArray(o.categories)?o.categories.map(e=>e.id):[],isActive:!1!==o.isActive,specifications:Vb(o.specifications)}),G.value=Ra(),ba({silent:!0}),fa(),await Eo("PRODUCT",t.item.id)}catch(e){Pt(e)}finally{n&&(L.products=!1)}var o}async function Wn({reloadSelected:e=!0}={}){L.categories=!0;try{const t=await a("/workspace/categories");B.items=t.items||[],B.parentOptions=t.parentOptions||[],B.overlayReadFailed=Boolean(t.overlayReadFailed),B.loaded=!0,e&&B.selectedId&&await Zn(B.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.categories=!1}}async function Zn(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!B.loaded;n&&(L.categories=!0);try{const t=await a(`/workspace/categories/${e}`);B.detail=t,B.selectedId=t.item.id,B.isCreating=!1,B.parentOptions=t.parentOptions||B.parentOptions,B.overlayReadFailed=Boolean(t.overlayReadFailed),o=t.item,Object.assign(te,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||"",parentId:o.parentId||"",position:Number(o.position||0),isActive:!1!==o.isActive}),ne.value=Va(),ae.value=null,Vo(),await Eo("CATEGORY",t.item.id)}catch(e){Pt(e)}finally{n&&(L.categories=!1)}var o}async function ea({reloadSelected:e=!0}={}){L.brands=!0;try{const t=await a("/workspace/brands");$.items=t.items||[],$.loaded=!0,e&&$.selectedId&&await ta($.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.brands=!1}}async function ta(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!$.loaded;n&&(L.brands=!0);try{const t=await a(`/workspace/brands/${e}`);$.detail=t,$.selectedId=t.item.id,$.isCreating=!1,o=t.item,Object.assign(oe,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||""}),le.value=La()}catch(e){Pt(e)}finally{n&&(L.brands=!1)}var o}async function na(){L.inventory=!0;try{const e=await a("/workspace/inventory");if(j.items=e.items||[],j.loaded=!0,j.selectedVariantId){j.items.some(e=>e.variantId===j.selectedVariantId)||(j.selectedVariantId="",ha({silent:!0}))}}catch(e){Pt(e)}finally{L.inventory=!1}}async function aa(){try{const e=await a("/workspace/summary");V.products=Number(e?.productCount||0),V.categories=Number(e?.categoryCount||0),V.brands=Number(e?.brandCount||0),V.inventory=Number(e?.inventoryCount||0)}catch{}}async function oa({notify:e=!1}={}){L.orders=!0;try{const t=await a("/admin/orders",{params:Eb({status:re.status,manager:re.manager,archived:"admin"===ge.value?re.archived:"",from:Rb(re.from),to:Rb(re.to),q:re.query})});if(re.items=t.items||[],re.loaded=!0,V.orders=re.items.length,re.selectedId){re.items.some(e=>e.id===re.selectedId)?(re.selectedFilteredOut=!1,await la(re.selectedId,{silent:!0})):re.selectedFilteredOut=Boolean(re.detail)}e&&Tt("Заказы обновлены.")}catch(e){Pt(e)}finally{L.orders=!1}}async function la(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!re.loaded;n&&(L.orders=!0);try{const t=await a(`/admin/orders/${e}`);re.detail=t,re.selectedId=e,re.selectedFilteredOut=!1,re.nextStatus=(o=t?.order?.status||"","picker"===ge.value?d.includes(o)?o:d[0]:o||s[0]),re.note="",ka(t),Sa(t)}catch(e){Pt(e)}finally{n&&(L.orders=!1)}var o}async function ia(){L.imports=!0;try{se.jobs=await a("/admin/imports")||[],se.loaded=!0,V.imports=se.jobs.length}catch(e){Pt(e)}finally{L.imports=!1}}async function ra(){L.promotions=!0;try{const[e,t]=await Promise.all([a("/admin/promotions"),a("/admin/promo-codes")]);ce.items=e||[],ce.promoCodes=t||[],ce.loaded=!0,V.promotions=ce.items.length+ce.promoCodes.length,pe.id||me.id||mo({silent:!0})}catch(e){Pt(e)}finally{L.promotions=!1}}async function sa({notify:e=!1}={}){if(!ke.value)return ue.items=[],ue.loaded=!0,void(e&&Tt("Активные акции скрыты для вашей роли Directus."));L.activePromotions=!0;try{ue.items=await a("/admin/promotions/active")||[],ue.loaded=!0,e&&Tt("Активные акции обновлены.")}catch(e){Pt(e)}finally{L.activePromotions=!1}}async function da(){L.tax=!0;try{be.items=await a("/admin/tax-settings")||[],be.loaded=!0,V.tax=be.items.length,!fe.id&&be.items.length&&Io(be.items.find(e=>e.active)||be.items[0],{silent:!0})}catch(e){Pt(e)}finally{L.tax=!1}}async function ca({notify:e=!1}={}){L.analytics=!0;try{const t=Eb({from:Rb(ye.from),to:Rb(ye.to),manager:he.value?"":ye.manager}),[n,o,l]=await Promise.all([a("/admin/analytics/managers",{params:t}),a("/admin/analytics/payment-links",{params:t}),a("/admin/analytics/metrika",{params:t})]);ye.managerRows=n.rows||[],ye.paymentLinks=o||{sent:0,paid:0,conversionRate:0,rows:[]},ye.metrika=l||ye.metrika,ye.loaded=!0,V.analytics=ye.managerRows.length,e&&Tt("Аналитика обновлена.")}catch(e){Pt(e)}finally{L.analytics=!1}}async function ua(){L.alerts=!0;try{const e=await a("/admin/alerts/low-stock");ve.threshold=Number(e.threshold||0),ve.rows=e.rows||[],ve.loaded=!0,V.alerts=ve.rows.length}catch(e){Pt(e)}finally{L.alerts=!1}}async function pa(){if(Se.value.length){if(Ct(),"home"!==x.value||N.loaded)return"products"!==x.value||H.loaded?"categories"!==x.value||B.loaded?"brands"!==x.value||$.loaded?void("inventory"!==x.value||j.loaded?"orders"!==x.value||re.loaded?"imports"!==x.value||se.loaded?"promotions"!==x.value||ce.loaded?"tax"!==x.value||be.loaded?"analytics"!==x.value||ye.loaded?"alerts"!==x.value||ve.loaded||await ua():await ca():await da():await ra():await ia():await Promise.all([oa(),ue.loaded?Promise.resolve():sa()]):await na()):(await ea({reloadSelected:!1}),void($.selectedId&&await ta($.selectedId,{silent:!0}))):(await Wn({reloadSelected:!1}),void(B.selectedId&&await Zn(B.selectedId,{silent:!0}))):(await Jn({reloadSelected:!1}),void(H.selectedId&&await Xn(H.selectedId,{silent:!0})));await Gt()}}function ma({silent:e=!1}={}){H.detail=null,H.selectedId="",H.isCreating=!0,H.panel="main",Object.assign(q,{id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G.value=Ra(),ba({silent:!0}),fa(),e||Tt("Форма товара сброшена.")}function ba({silent:e=!1}={}){Object.assign(Y,{id:"",sku:"",name:"",amount:0,currency:"RUB",stock:0,weightGrossG:null,lengthMm:null,widthMm:null,heightMm:null}),J.value=Fa(),e||Tt("Форма варианта сброшена.")}function fa(){X.variantId="",W.value=[],Vo()}function ya({silent:e=!1}={}){B.detail=null,B.selectedId="",B.isCreating=!0,Object.assign(te,{id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne.value=Va(),ae.value=null,Vo(),e||Tt("Форма категории сброшена.")}function va(e){const t=Number(te.position||0)+Number(e||0);te.position=Math.max(0,Number.isFinite(t)?t:0),Ot()}function ga({silent:e=!1}={}){$.detail=null,$.selectedId="",$.isCreating=!0,Object.assign(oe,{id:"",name:"",slug:"",description:""}),le.value=La(),e||Tt("Форма бренда сброшена.")}function ha({silent:e=!1}={}){ie.variantId=j.selectedVariantId||"",ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),e||Tt("Форма корректировки остатков сброшена.")}function ka(e){const t={};for(const n of e?.rmaRequests||[]){const e=re.rmaDecisionForms[n.id]||{};t[n.id]={status:e.status||("REJECTED"===n.status?"REJECTED":"APPROVED"),comment:e.comment??n.managerComment??""}}re.rmaDecisionForms=t}function Sa(e){const t={};for(const n of e?.order?.items||[]){const e=re.refundForms[n.id]||{};t[n.id]={quantity:e.quantity??0,amount:e.amount??null}}re.refundForms=t}function wa(){Na()?(xt(),ma({silent:!0}),Tt("Открыта форма нового товара.")):Tt("Создание товара отменено: есть несохранённые изменения.")}function Ca(){Na()?(xt(),ya({silent:!0}),Tt("Открыта форма новой категории.")):Tt("Создание категории отменено: есть несохранённые изменения.")}function xa(){Na()?(xt(),ga({silent:!0}),Tt("Открыта форма нового бренда.")):Tt("Создание бренда отменено: есть несохранённые изменения.")}async function Ia(e){e!==H.selectedId||H.isCreating?Na()?(xt(),H.panel="main",await Xn(e)):Tt("Переход к товару отменён: есть несохранённые изменения."):Tt("Этот товар уже открыт.")}async function Ta(e){e!==B.selectedId||B.isCreating?Na()?(xt(),await Zn(e)):Tt("Переход к категории отменён: есть несохранённые изменения."):Tt("Эта категория уже открыта.")}async function Oa(e){e!==$.selectedId||$.isCreating?Na()?(xt(),await ta(e)):Tt("Переход к бренду отменён: есть несохранённые изменения."):Tt("Этот бренд уже открыт.")}function Pa(e){e!==j.selectedVariantId?(j.selectedVariantId=e,ie.variantId=e,ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),Tt("Вариант выбран для корректировки остатков.")):Tt("Этот вариант уже выбран для корректировки.")}function Aa(){if(Na()){if(xt(),"products"===x.value)return H.selectedId="",H.detail=null,H.isCreating=!1,H.panel="main",Object.assign(q,{id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G.value=Ra(),ba({silent:!0}),fa(),void Tt("Карточка товара закрыта.");if("categories"===x.value)return B.selectedId="",B.detail=null,B.isCreating=!1,Object.assign(te,{id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne.value=Va(),ae.value=null,void Tt("Карточка категории закрыта.");if("brands"===x.value)return $.selectedId="",$.detail=null,$.isCreating=!1,Object.assign(oe,{id:"",name:"",slug:"",description:""}),le.value=La(),void Tt("Карточка бренда закрыта.");if("orders"===x.value)return re.selectedId="",re.selectedFilteredOut=!1,re.detail=null,re.nextStatus="",re.note="",re.rmaReason="",re.rmaDesiredResolution="",re.rmaDecisionForms={},re.refundForms={},void Tt("Карточка заказа закрыта.");if("promotions"===x.value)return ce.selectedId="",ce.selectedPromoCodeId="",ce.isCreating=!1,ce.promoCodeCreating=!1,void Tt("Карточка акции закрыта.");if("tax"===x.value)return be.selectedId="",be.isCreating=!1,void Tt("Карточка налогового режима закрыта.");j.selectedVariantId="",ha({silent:!0}),Tt("Детальная панель закрыта.")}else Tt("Закрытие карточки отменено.")}function Ua(e){H.panel!==e?"variants"===e||!rt.value||window.confirm("Есть несохранённые изменения варианта. Отбросить их?")?(H.panel=e,Tt("Раздел товара открыт.")):Tt("Переход между разделами товара отменён."):Tt("Этот раздел товара уже открыт.")}function _a(e){e?.id?(Object.assign(Y,{id:e.id||"",sku:e.sku||"",name:e.name||"",amount:zb(e.price?.amount)??0,currency:e.price?.currency||"RUB",stock:Number(e.stock||0),weightGrossG:e.weightGrossG??null,lengthMm:e.lengthMm??null,widthMm:e.widthMm??null,heightMm:e.heightMm??null}),J.value=Fa(),Tt("Вариант открыт для редактирования.")):Tt("Вариант не выбран.")}function Ra(){return JSON.stringify({id:q.id||"",name:(q.name||"").trim(),slug:(q.slug||"").trim(),description:(q.description||"").trim(),brandId:q.brandId||"",categoryIds:[...q.categoryIds||[]].sort(),isActive:Boolean(q.isActive),specifications:Lb(q.specifications)})}function Da(){return JSON.stringify({page:{id:z.page.id||"",status:z.page.status||"draft",title:(z.page.title||"").trim(),summary:(z.page.summary||"").trim(),seoTitle:(z.page.seoTitle||"").trim(),seoDescription:(z.page.seoDescription||"").trim()},announcementBanner:{id:z.announcementBanner.id||"",status:z.announcementBanner.status||"draft",internalName:(z.announcementBanner.internalName||"").trim(),shortText:(z.announcementBanner.shortText||"").trim()},sections:(z.sections||[]).map(e=>({id:e.id||"",migrationKey:e.migrationKey||"",status:e.status||"draft",internalName:(e.internalName||"").trim(),sectionType:e.sectionType||"",sort:Number(e.sort||0),anchorId:(e.anchorId||"").trim(),eyebrow:(e.eyebrow||"").trim(),title:(e.title||"").trim(),accent:(e.accent||"").trim(),body:(e.body||"").trim(),primaryCtaLabel:(e.primaryCtaLabel||"").trim(),primaryCtaUrl:(e.primaryCtaUrl||"").trim(),secondaryCtaLabel:(e.secondaryCtaLabel||"").trim(),secondaryCtaUrl:(e.secondaryCtaUrl||"").trim(),styleVariant:e.styleVariant||"default",layoutVariant:e.layoutVariant||"contained",featuredProductKey:(e.featuredProductKey||"").trim(),featuredProductStatus:e.featuredProductStatus||e.status||"draft",items:(e.items||[]).map(t=>({id:t.id||"",migrationKey:t.migrationKey||"",status:t.status||e.status||"draft",title:(t.title||"").trim(),description:(t.description||"").trim(),label:(t.label||"").trim(),url:(t.url||"").trim(),referenceKind:At(t.referenceKind||"none"),referenceKey:(t.referenceKey||"").trim(),sort:Number(t.sort||0)}))}))})}function Ea(){const e=N.collectionDraft;return e?JSON.stringify({id:e.id||"",key:(e.key||"").trim(),status:e.status||"draft",title:(e.title||"").trim(),description:(e.description||"").trim(),mode:e.mode||"hybrid",ruleType:e.ruleType||"",categoryKey:e.categoryKey||"",brandKey:e.brandKey||"",limit:Number(e.limit||12),sortMode:e.sortMode||"default",primaryCtaLabel:(e.primaryCtaLabel||"").trim(),primaryCtaUrl:(e.primaryCtaUrl||"").trim(),rules:(e.rules||[]).map(t=>({id:t.id||"",status:t.status||e.status||"draft",entityKind:t.entityKind||"product",entityKey:(t.entityKey||"").trim(),behavior:t.behavior||"pin",sort:Number(t.sort||0)}))}):""}function Fa(){return JSON.stringify({id:Y.id||"",sku:(Y.sku||"").trim(),name:(Y.name||"").trim(),amount:Number(Y.amount||0),currency:(Y.currency||"").trim().toUpperCase(),stock:Number(Y.stock||0),weightGrossG:Nb(Y.weightGrossG),lengthMm:Nb(Y.lengthMm),widthMm:Nb(Y.widthMm),heightMm:Nb(Y.heightMm)})}function Va(){return JSON.stringify({id:te.id||"",name:(te.name||"").trim(),slug:(te.slug||"").trim(),description:(te.description||"").trim(),parentId:te.parentId||"",position:Number(te.position||0),isActive:Boolean(te.isActive)})}function La(){return JSON.stringify({id:oe.id||"",name:(oe.name||"").trim(),slug:(oe.slug||"").trim(),description:(oe.description||"").trim()})}function Na(){return!pt.value||window.confirm("Есть несохранённые изменения. Отбросить их и продолжить?")}async function za(){const e=q.name.trim()?q.slug.trim()?(q.specifications||[]).find(e=>(e.items||[]).some(e=>Boolean(String(e?.label||"").trim())!==Boolean(String(e?.value||"").trim())))?"У каждого параметра характеристики должны быть заполнены и название, и значение.":null:"Укажите слаг товара.":"Укажите название товара.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:q.name.trim(),slug:q.slug.trim(),description:Kb(q.description),brand:Ze.value.find(e=>e.id===q.brandId)?.slug||null,categories:et.value.filter(e=>(q.categoryIds||[]).includes(e.id)).map(e=>e.slug),isActive:Boolean(q.isActive),specifications:Lb(q.specifications)},t=q.id?`/products/${q.id}`:"/products",n=q.id?"PUT":"POST",o=await a(t,{method:n,data:e});await Jn({reloadSelected:!1}),await aa(),await Xn(o.id,{silent:!0}),It(q.id?"Товар сохранён.":"Товар создан.")}catch(e){Pt(e)}finally{_.value=!1}}}async function Ma(){if(q.id)if(window.confirm(`Удалить товар «${q.name||q.slug}»?`)){_.value=!0,xt();try{await a(`/products/${q.id}`,{method:"DELETE"}),await Jn({reloadSelected:!1}),await aa(),H.selectedId="",H.detail=null,H.isCreating=!1,ba({silent:!0}),fa(),It("Товар удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление товара отменено.");else Tt("Товар не выбран.")}async function Ka(){const e=Y.sku.trim()?Y.name.trim()?String(Y.currency||"").trim()?null:"Укажите валюту варианта.":"Укажите название варианта.":"Укажите SKU варианта.";if(e)A.value=e;else if(q.id){_.value=!0,xt();try{const e={name:Y.name.trim(),amount:Mb(Y.amount)??0,currency:String(Y.currency||"RUB").trim().toUpperCase(),stock:Number(Y.stock||0),weightGrossG:Nb(Y.weightGrossG),lengthMm:Nb(Y.lengthMm),widthMm:Nb(Y.widthMm),heightMm:Nb(Y.heightMm)};Y.id&&"admin"!==ge.value||(e.sku=Y.sku.trim());const t=Y.id?`/products/${q.id}/variants/${Y.id}`:`/products/${q.id}/variants`,n=Y.id?"PUT":"POST";await a(t,{method:n,data:e}),await Jn({reloadSelected:!1}),await aa(),await Xn(q.id,{silent:!0}),ba({silent:!0}),It(Y.id?"Вариант сохранён.":"Вариант добавлен.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Сначала сохраните товар."}async function Ha(e){if(q.id&&e?.id)if(window.confirm(`Удалить вариант «${e.name||e.sku}»?`)){_.value=!0,xt();try{await a(`/products/${q.id}/variants/${e.id}`,{method:"DELETE"}),await Jn({reloadSelected:!1}),await aa(),await Xn(q.id,{silent:!0}),ba({silent:!0}),It("Вариант удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление варианта отменено.");else Tt(q.id?"Вариант не выбран.":"Сначала сохраните товар.")}async function Ba(){const e=te.name.trim()?te.slug.trim()?te.parentId&&te.parentId===te.id?"Категория не может быть родителем самой себе.":null:"Укажите слаг категории.":"Укажите название категории.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:te.name.trim(),slug:te.slug.trim(),description:Kb(te.description),parentId:te.parentId||null,position:Number(te.position||0),isActive:Boolean(te.isActive)},t=te.id?`/categories/${te.id}`:"/categories",n=te.id?"PUT":"POST",o=await a(t,{method:n,data:e});await Wn({reloadSelected:!1}),await aa(),await Zn(o.id,{silent:!0}),It(te.id?"Категория сохранена.":"Категория создана.")}catch(e){Pt(e)}finally{_.value=!1}}}async function $a(){if(te.id)if(window.confirm(`Удалить категорию «${te.name||te.slug}»?`)){_.value=!0,xt();try{await a(`/categories/${te.id}`,{method:"DELETE"}),await Wn({reloadSelected:!1}),await aa(),B.selectedId="",B.detail=null,B.isCreating=!1,ae.value=null,It("Категория удалена.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление категории отменено.");else Tt("Категория не выбрана.")}async function ja(){const e=oe.name.trim()?oe.slug.trim()?null:"Укажите слаг бренда.":"Укажите название бренда.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:oe.name.trim(),slug:oe.slug.trim(),description:Kb(oe.description)},t=oe.id?`/brands/${oe.id}`:"/brands",n=oe.id?"PUT":"POST",o=await a(t,{method:n,data:e});await ea({reloadSelected:!1}),await aa(),await ta(o.id,{silent:!0}),It(oe.id?"Бренд сохранён.":"Бренд создан.")}catch(e){Pt(e)}finally{_.value=!1}}}async function qa(){if(oe.id)if(window.confirm(`Удалить бренд «${oe.name||oe.slug}»?`)){_.value=!0,xt();try{await a(`/brands/${oe.id}`,{method:"DELETE"}),await ea({reloadSelected:!1}),await aa(),$.selectedId="",$.detail=null,$.isCreating=!1,It("Бренд удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление бренда отменено.");else Tt("Бренд не выбран.")}async function Ga(){const e=ie.variantId?ie.idempotencyKey.trim()?null:"Укажите ключ идемпотентности.":"Сначала выберите вариант.";if(e)A.value=e;else{_.value=!0,xt();try{const e=await a("/inventory/adjust",{method:"POST",params:{idempotencyKey:ie.idempotencyKey.trim()},data:{variantId:ie.variantId,delta:Number(ie.delta||0),reason:Kb(ie.reason)}});await na(),H.selectedId&&await Xn(H.selectedId,{silent:!0}),ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),It(!1===e?.applied?"Повторный запрос распознан, остаток не изменён повторно.":"Корректировка применена.")}catch(e){Pt(e)}finally{_.value=!1}}}async function Qa(e){e===re.selectedId&&re.detail?Tt("Этот заказ уже открыт."):await la(e)}async function Ya({full:e=!1}={}){if(!re.selectedId||!Ve.value)return void(A.value="Возврат оплаты недоступен для этого заказа.");const t=e?[]:Ja();if(e||t.length){_.value=!0,xt();try{const n=await a(`/admin/orders/${re.selectedId}/refunds`,{method:"POST",data:{items:t}});re.detail=n,ka(n),Sa(n),await oa(),It(e?"Создан возврат оставшейся суммы.":"Создан частичный возврат.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите хотя бы одну строку и количество для частичного возврата."}function Ja(){return Object.entries(re.refundForms||{}).map(([e,t])=>{const n=Nb(t?.quantity),a=Mb(t?.amount);return!n||n<=0?null:{orderItemId:e,quantity:n,amount:a}}).filter(Boolean)}async function Xa(){if(re.selectedId&&Ee.value){_.value=!0,xt();try{await a("/admin/rma-requests",{method:"POST",data:{orderId:re.selectedId,reason:Kb(re.rmaReason),desiredResolution:Kb(re.rmaDesiredResolution)}}),re.rmaReason="",re.rmaDesiredResolution="",await la(re.selectedId,{silent:!0}),It("RMA запрос создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="RMA для этого заказа недоступен."}async function Wa(e){const t=re.rmaDecisionForms[e?.id];if(e?.id&&t?.status)if(Fe.value){_.value=!0,xt();try{await a(`/admin/rma-requests/${e.id}/decision`,{method:"POST",data:{status:t.status,comment:Kb(t.comment)}}),await la(re.selectedId,{silent:!0}),It("Решение по RMA сохранено.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Решение по RMA недоступно для текущей роли.";else A.value="Выберите решение по RMA."}async function Za(){if(re.selectedId&&re.nextStatus)if(De.value){_.value=!0,xt();try{const e=await a(`/admin/orders/${re.selectedId}/status`,{method:"POST",data:{status:re.nextStatus,note:Kb(re.note)}});re.detail=e,re.note="",ka(e),Sa(e),await oa(),It("Статус заказа обновлён.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Для текущей роли изменение статуса этого заказа недоступно.";else A.value="Выберите заказ и статус."}async function eo(){if(re.selectedId)if(Ae.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/claim`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ отмечен как взятый в работу.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Этот заказ уже взят в работу или недоступен для вашей роли.";else A.value="Выберите заказ."}async function to(){if(re.selectedId&&Ue.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/unclaim`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Менеджер снят с заказа.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value=re.selectedId?"Снять менеджера с этого заказа недоступно.":"Выберите заказ."}async function no(){const e=Te.value;if(!re.selectedId||!_e.value||!e)return void(A.value=re.selectedId?"Удаление этого заказа недоступно.":"Выберите заказ.");if(!window.confirm(`Удалить заказ «${e.receiptEmail||e.id}»? Заказ будет сохранён в архиве.`))return void Tt("Удаление заказа отменено.");const t=window.prompt("Причина удаления","Удалён администратором в Directus")||"Удалён администратором в Directus";_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}`,{method:"DELETE",data:{reason:Kb(t)}}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ перемещён в архив.")}catch(e){Pt(e)}finally{_.value=!1}}async function ao(){if(re.selectedId&&Re.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/restore`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ восстановлен из архива.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value=re.selectedId?"Восстановление этого заказа недоступно.":"Выберите заказ."}async function oo(){re.query="",re.status="",re.manager="",re.from="",re.to="",re.archived="all",await oa(),Tt("Фильтры заказов сброшены.")}function lo(e){if(se.selectedJobId===e)return void Tt("Этот импорт уже выбран.");se.selectedJobId=e;const t=se.jobs.find(t=>t.id===e);t&&se.dryRun?.job?.id!==e?Tt(`Выбран импорт ${t.fileName||t.id}. Повторное применение доступно из последнего dry-run.`):Tt(t?`Выбран импорт ${t.fileName||t.id}.`:"Импорт не найден в текущем списке.")}function io(e){se.file=e?.target?.files?.[0]||null,se.dryRun=null,se.notUpdatedModalOpen=!1}async function ro(){if(!se.file)return void(A.value="Выберите файл для импорта.");const e=new FormData;e.append("file",se.file),e.append("mapping",JSON.stringify(se.mapping)),_.value=!0,xt();try{se.dryRun=await a("/admin/imports/catalogue/dry-run",{method:"POST",data:e,headers:{"Content-Type":"multipart/form-data"}}),se.selectedJobId=se.dryRun?.job?.id||"",await ia(),It("Dry-run импорта завершён.")}catch(e){Pt(e)}finally{_.value=!1}}async function so(){const e=se.dryRun?.job?.id||se.selectedJobId;if(e){_.value=!0,xt();try{await a("/admin/imports/catalogue/commit",{method:"POST",data:{jobId:e}}),await Promise.allSettled([ia(),Jn({reloadSelected:!0}),na()]),It("Остатки обновлены.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Сначала выполните dry-run."}function co(){se.dryRun?.report?.notUpdatedRows?se.notUpdatedModalOpen=!0:Tt("Все варианты каталога найдены в последнем dry-run.")}function uo(){se.notUpdatedModalOpen=!1}function po(e){const t=se.dryRun?.job?.id||se.selectedJobId;if(!t)return void(A.value="Сначала выполните dry-run.");const n="xlsx"===e?"xlsx":"txt";window.open(`/storefront-ops-bridge/admin/imports/${t}/not-updated.${n}`,"_blank","noopener,noreferrer")}function mo({silent:e=!1}={}){ce.mode="promotion",ce.selectedId="",ce.selectedPromoCodeId="",ce.isCreating=!0,ce.promoCodeCreating=!1,Object.assign(pe,{id:"",name:"",type:"PRODUCT_SALE",status:"ACTIVE",startsAt:"",endsAt:"",discountPercent:null,discountAmount:null,salePriceAmount:null,currency:"RUB",thresholdAmount:null,description:"",targets:[]}),e||Tt("Открыта форма новой акции.")}function bo(e){"promotion"!==ce.mode||ce.selectedId!==e?.id||ce.isCreating?(ce.mode="promotion",ce.selectedId=e.id,ce.selectedPromoCodeId="",ce.isCreating=!1,ce.promoCodeCreating=!1,Object.assign(pe,{id:e.id||"",name:e.name||"",type:e.type||"PRODUCT_SALE",status:e.status||"ACTIVE",startsAt:Db(e.startsAt),endsAt:Db(e.endsAt),discountPercent:e.discountPercent??null,discountAmount:zb(e.discountAmount),salePriceAmount:zb(e.salePriceAmount),currency:e.currency||"RUB",thresholdAmount:null,description:e.description||"",targets:vo(e.targets)}),Tt("Акция открыта для редактирования.")):Tt("Эта акция уже открыта.")}function fo({silent:e=!1}={}){ce.mode="promoCode",ce.selectedPromoCodeId="",ce.selectedId="",ce.isCreating=!1,ce.promoCodeCreating=!0,Object.assign(me,{id:"",code:"",status:"ACTIVE",discountPercent:null,discountAmount:null,thresholdAmount:null,startsAt:"",endsAt:"",maxRedemptions:null,description:""}),e||Tt("Открыта форма нового промокода.")}function yo(e){"promoCode"!==ce.mode||ce.selectedPromoCodeId!==e?.id||ce.promoCodeCreating?(ce.mode="promoCode",ce.selectedPromoCodeId=e.id,ce.selectedId="",ce.isCreating=!1,ce.promoCodeCreating=!1,Object.assign(me,{id:e.id||"",code:e.code||"",status:e.status||"ACTIVE",discountPercent:e.discountPercent??null,discountAmount:zb(e.discountAmount),thresholdAmount:zb(e.thresholdAmount),startsAt:Db(e.startsAt),endsAt:Db(e.endsAt),maxRedemptions:e.maxRedemptions??null,description:e.description||""}),Tt("Промокод открыт для редактирования.")):Tt("Этот промокод уже открыт.")}function vo(e=[]){return(Array.isArray(e)?e:[]).map(e=>({targetKind:e?.targetKind||"VARIANT",targetKey:e?.targetKey||""})).filter(e=>e.targetKind&&e.targetKey)}function go(){pe.targets.push({targetKind:"VARIANT",targetKey:""}),Ot()}function ho(e){e<0||e>=pe.targets.length?Tt("Цель акции не выбрана."):(pe.targets.splice(e,1),Ot())}async function ko(){if(pe.name.trim()){_.value=!0,xt();try{const e=vo(pe.targets),t={name:pe.name.trim(),type:"PRODUCT_SALE",status:pe.status,startsAt:Rb(pe.startsAt),endsAt:Rb(pe.endsAt),discountPercent:Nb(pe.discountPercent),discountAmount:Mb(pe.discountAmount),salePriceAmount:Mb(pe.salePriceAmount),currency:pe.currency||"RUB",thresholdAmount:null,description:Kb(pe.description),targets:e},n=pe.id?`/admin/promotions/${pe.id}`:"/admin/promotions",o=pe.id?"PUT":"POST",l=await a(n,{method:o,data:t});await ra(),bo(l),It(pe.id?"Акция сохранена.":"Акция создана.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите название акции."}async function So(){if(pe.id&&window.confirm(`Удалить акцию «${pe.name}»?`)){_.value=!0,xt();try{await a(`/admin/promotions/${pe.id}`,{method:"DELETE"}),await ra(),mo({silent:!0}),It("Акция удалена.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(pe.id?"Удаление акции отменено.":"Акция не выбрана.")}async function wo(){if(me.code.trim()){_.value=!0,xt();try{const e={code:me.code.trim(),status:me.status,discountPercent:Nb(me.discountPercent),discountAmount:Mb(me.discountAmount),thresholdAmount:Mb(me.thresholdAmount),startsAt:Rb(me.startsAt),endsAt:Rb(me.endsAt),maxRedemptions:Nb(me.maxRedemptions),description:Kb(me.description)},t=me.id?`/admin/promo-codes/${me.id}`:"/admin/promo-codes",n=me.id?"PUT":"POST",o=await a(t,{method:n,data:e});await ra(),yo(o),It(me.id?"Промокод сохранён.":"Промокод создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите промокод."}async function Co(){if(me.id&&window.confirm(`Удалить промокод «${me.code}»?`)){_.value=!0,xt();try{await a(`/admin/promo-codes/${me.id}`,{method:"DELETE"}),await ra(),fo({silent:!0}),It("Промокод удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(me.id?"Удаление промокода отменено.":"Промокод не выбран.")}function xo({silent:e=!1}={}){be.selectedId="",be.isCreating=!0,Object.assign(fe,{id:"",name:"",status:"ACTIVE",taxSystemCode:1,vatCode:1,vatRatePercent:0,active:!1}),e||Tt("Открыта форма нового налогового режима.")}function Io(e,{silent:t=!1}={}){be.selectedId!==e?.id||be.isCreating?(be.selectedId=e.id,be.isCreating=!1,Object.assign(fe,{id:e.id||"",name:e.name||"",status:e.status||"ACTIVE",taxSystemCode:Number(e.taxSystemCode||1),vatCode:Number(e.vatCode||1),vatRatePercent:Number(e.vatRatePercent||0),active:Boolean(e.active)}),t||Tt("Налоговый режим открыт для редактирования.")):t||Tt("Этот налоговый режим уже открыт.")}async function To(){if(fe.name.trim()){_.value=!0,xt();try{const e={name:fe.name.trim(),status:fe.status,taxSystemCode:Number(fe.taxSystemCode||1),vatCode:Number(fe.vatCode||1),vatRatePercent:Number(fe.vatRatePercent||0),active:Boolean(fe.active)},t=fe.id?`/admin/tax-settings/${fe.id}`:"/admin/tax-settings",n=fe.id?"PUT":"POST",o=await a(t,{method:n,data:e});await da(),Io(o,{silent:!0}),It(fe.id?"Налоговый режим сохранён.":"Налоговый режим создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите название налогового режима."}async function Oo(){if(fe.id&&window.confirm(`Удалить налоговый режим «${fe.name}»?`)){_.value=!0,xt();try{await a(`/admin/tax-settings/${fe.id}`,{method:"DELETE"}),await da(),xo({silent:!0}),It("Налоговый режим удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(fe.id?"Удаление налогового режима отменено.":"Налоговый режим не выбран.")}async function Po(){_.value=!0,xt();try{const e=await a("/admin/alerts/low-stock/settings",{method:"PUT",data:{threshold:Number(ve.threshold||0)}});ve.threshold=Number(e.threshold||0),ve.rows=e.rows||[],ve.loaded=!0,V.alerts=ve.rows.length,It("Порог низких остатков сохранён.")}catch(e){Pt(e)}finally{_.value=!1}}function Ao(e){const t=Array.from(e?.target?.files||[]);try{bb(t),W.value=t,A.value=""}catch(t){W.value=[],Pt(t),e?.target&&(e.target.value="")}}function Uo(e){const t=e?.target?.files?.[0]||null;try{t&&bb([t]),ae.value=t,A.value=""}catch(t){ae.value=null,Pt(t),e?.target&&(e.target.value="")}}async function _o(){if(q.id)if(W.value.length){_.value=!0,Z.busy=!0,xt();try{const e=await l.uploadBatch({targetType:"PRODUCT",entityId:q.id,files:W.value.map(e=>({file:e,variantId:X.variantId||null})),onState:e=>Fo("PRODUCT",q.id,e)});await Xn(q.id,{silent:!0});const t=e.items.filter(e=>"READY"!==e.status);W.value=[],t.length?A.value=`Готово ${e.items.length-t.length} из ${e.items.length}. Не удалось обработать: ${t.map(e=>e.filename).join(", ")}.`:(X.variantId="",It("Изображения загружены и оптимизированы."))}catch(e){Pt(e)}finally{Z.busy=!1,_.value=!1}}else A.value="Выберите хотя бы один файл.";else A.value="Сначала сохраните товар."}async function Ro(e){if(q.id)if(window.confirm("Удалить это изображение?")){_.value=!0,xt();try{await a(`/products/${q.id}/images/${e}`,{method:"DELETE"}),await Xn(q.id,{silent:!0}),It("Изображение удалено.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление изображения отменено.");else A.value="Сначала сохраните товар."}async function Do(){if(te.id)if(ae.value){_.value=!0,Z.busy=!0,xt();try{const e=await l.uploadBatch({targetType:"CATEGORY",entityId:te.id,files:[{file:ae.value}],onState:e=>Fo("CATEGORY",te.id,e)});await Wn({reloadSelected:!1}),await Zn(te.id,{silent:!0}),ae.value=null,"READY"===e.items[0]?.status?It("Изображение категории загружено и оптимизировано."):A.value=e.items[0]?.error||"Изображение загружено, но оптимизация завершилась ошибкой."}catch(e){Pt(e)}finally{Z.busy=!1,_.value=!1}}else A.value="Выберите файл изображения.";else A.value="Сначала сохраните категорию."}async function Eo(e,t){if(t)try{Fo(e,t,await a("/media/uploads",{params:{targetType:e,entityId:t}})||[]),function(){ee&&(window.clearTimeout(ee),ee=null);if(!Z.items.some(e=>["QUEUED","PROCESSING"].includes(e.status)))return;ee=window.setTimeout(async()=>{const{targetType:e,entityId:t}=Z;e&&t&&(await Eo(e,t),Z.items.length||("PRODUCT"===e&&q.id===t?await Xn(t,{silent:!0}):"CATEGORY"===e&&te.id===t&&await Zn(t,{silent:!0})))},2e3)}()}catch(e){Vo(),Pt(e)}else Vo()}function Fo(e,t,n){Z.targetType=e,Z.entityId=t,Z.items=(n||[]).map(e=>({...e,progress:Number(e.progress||("READY"===e.status?1:0))})),Z.activeBatchId=Z.items[0]?.batchId||""}function Vo(){ee&&(window.clearTimeout(ee),ee=null),Z.items=[],Z.activeBatchId="",Z.targetType="",Z.entityId="",Z.busy=!1}async function Lo(e){xt();try{await a(`/media/uploads/${e}/retry`,{method:"POST"}),await Eo(Z.targetType,Z.entityId),Tt("Повторная оптимизация поставлена в очередь.")}catch(e){Pt(e)}}async function No(e){xt();try{await a(`/media/uploads/${e}`,{method:"DELETE"}),await Eo(Z.targetType,Z.entityId),Tt("Загрузка отменена.")}catch(e){Pt(e)}}function zo(e){return{UPLOADING:"Загружается",QUEUED:"Ожидает оптимизации",PROCESSING:"Оптимизируется",READY:"Готово",FAILED:"Ошибка",ABORTED:"Отменено",EXPIRED:"Истекло"}[e]||e}function Mo(e){return"UPLOADING"===e.status?`${Math.round(100*Number(e.progress||0))}%`:"PROCESSING"===e.status?"Создаём 27 оптимизированных копий":zo(e.status)}async function Ko(e){const t="product"===e?ot.value:lt.value,a="product"===e?q.slug.trim():te.slug.trim();if(!a)return void(A.value="Сначала сохраните сущность со слагом, затем можно открыть или создать оверлей.");const o=t?.collection||("product"===e?"product_overlay":"category_overlay"),l=t?.keyField||("product"===e?"product_key":"category_key");_.value=!0,xt();try{let i=t?.itemId||null;if(!i){const t=await n.post(`/items/${o}`,{[l]:a,status:"draft"});i=t?.data?.data?.id,"product"===e&&q.id&&await Xn(q.id,{silent:!0}),"category"===e&&te.id&&await Zn(te.id,{silent:!0})}i?(window.open(`/admin/content/${o}/${i}`,"_blank","noopener"),Tt("Оверлей открыт в новой вкладке.")):A.value="Оверлей не удалось открыть: Directus не вернул идентификатор записи."}catch(e){Pt(e)}finally{_.value=!1}}function Ho(e){const t={page:{key:u},product:{key:q.slug,id:q.id},category:{key:te.slug,id:te.id}}[e]||{},n=Jb({baseUrl:F.previewBaseUrl,kind:e,key:t.key,id:t.id});n?(window.open(n,"_blank","noopener"),Tt("Предпросмотр открыт в новой вкладке.")):A.value="Предпросмотр витрины не настроен для этой записи."}function Bo(){q.specifications.push({title:"",description:"",items:[]}),Ot()}function $o(e){e<0||e>=q.specifications.length?Tt("Секция характеристик не выбрана."):(q.specifications.splice(e,1),Ot())}function jo(e){const t=q.specifications[e];t?(t.items.push({label:"",value:""}),Ot()):Tt("Секция характеристик не выбрана.")}function qo(e,t){const n=q.specifications[e];n?t<0||t>=n.items.length?Tt("Параметр характеристики не выбран."):(n.items.splice(t,1),Ot()):Tt("Секция характеристик не выбрана.")}function Go(e,t,n){n?e.set(t,n):e.delete(t)}function Qo(e){pt.value&&(e.preventDefault(),e.returnValue="")}return T(()=>[x.value,H.selectedId,B.selectedId,$.selectedId,j.selectedVariantId,H.panel],()=>{!function(){if(!D.value)return;const e={activeTab:x.value,productId:H.selectedId||"",categoryId:B.selectedId||"",brandId:$.selectedId||"",inventoryVariantId:j.selectedVariantId||"",productPanel:H.panel};localStorage.setItem(c,JSON.stringify(e));const t=new URLSearchParams(window.location.search);t.set("tab",x.value),["product","category","brand","variant","panel"].forEach(e=>t.delete(e)),"products"===x.value?(Go(t,"product",H.selectedId),Go(t,"panel","main"!==H.panel?H.panel:"")):"categories"===x.value?Go(t,"category",B.selectedId):"brands"===x.value?Go(t,"brand",$.selectedId):"inventory"===x.value&&Go(t,"variant",j.selectedVariantId);const n=t.toString(),a=`${window.location.pathname}${n?`?${n}`:""}`;window.history.replaceState({},"",a)}()}),O(async()=>{document.documentElement.classList.add(Wb),document.body.classList.add(Xb),window.addEventListener("beforeunload",Qo),M.value=Da(),K.value=Ea(),G.value=Ra(),J.value=Fa(),ne.value=Va(),le.value=La(),await async function(){try{const e=await a("/access-profile");return void Yn(e?.data||e||{})}catch{}try{const e=await Qn(["id","email","external_identifier","role.id","role.name"]);Yn(e?.data?.data||e?.data||{})}catch{try{const e=await Qn(["id","email","external_identifier","role"]);Yn(e?.data?.data||e?.data||{})}catch{Yn({})}}finally{F.loaded=!0}}(),function(){let e={};try{e=JSON.parse(localStorage.getItem(c)||"{}")}catch{e={}}const t=new URLSearchParams(window.location.search);x.value=t.get("tab")||e.activeTab||"home",H.selectedId=t.get("product")||e.productId||"",B.selectedId=t.get("category")||e.categoryId||"",$.selectedId=t.get("brand")||e.brandId||"",j.selectedVariantId=t.get("variant")||e.inventoryVariantId||"",H.panel=t.get("panel")||e.productPanel||"main",Ct({notify:Boolean(t.get("tab"))})}(),await async function(){await C(),E.value=""}(),D.value=!0,await Promise.allSettled([aa(),pa()]),ha({silent:!0})}),P(()=>{ee&&(window.clearTimeout(ee),ee=null),E.value="",document.documentElement.classList.remove(Wb),document.body.classList.remove(Xb),window.removeEventListener("beforeunload",Qo)}),{copyCurrentLink:async function(){try{await navigator.clipboard.writeText(window.location.href),Tt("Ссылка на текущее рабочее состояние скопирована.")}catch(e){Pt(e)}},refreshCurrentTab:async function(){R.value=!0,xt();try{"home"===x.value?await Gt():"products"===x.value?await Jn({reloadSelected:!0}):"categories"===x.value?await Wn({reloadSelected:!0}):"brands"===x.value?await ea({reloadSelected:!0}):"inventory"===x.value?await na():"orders"===x.value?await Promise.all([oa(),sa()]):"imports"===x.value?await ia():"promotions"===x.value?await ra():"tax"===x.value?await da():"analytics"===x.value?await ca():"alerts"===x.value&&await ua(),await aa(),Tt("Раздел обновлён.")}finally{R.value=!1}},isRefreshing:R,navigationTarget:E,visibleTabs:Se,activeTab:x,setActiveTab:async function(e){e!==x.value?wt(e)?Na()?(xt(),x.value=e,await pa()):Tt("Переход в другой раздел отменён."):Tt("Раздел скрыт для вашей роли Directus."):Tt("Этот раздел уже открыт.")},tabCount:function(e){return"home"===e?N.loaded?z.sections.length:V.home:"products"===e?H.loaded?H.items.length:V.products:"categories"===e?B.loaded?B.items.length:V.categories:"brands"===e?$.loaded?$.items.length:V.brands:"inventory"===e?j.loaded?j.items.length:V.inventory:"orders"===e?re.loaded?re.items.length:V.orders:"imports"===e?se.loaded?se.jobs.length:V.imports:"promotions"===e?ce.loaded?ce.items.length+ce.promoCodes.length:V.promotions:"tax"===e?be.loaded?be.items.length:V.tax:"analytics"===e?ye.loaded?ye.managerRows.length:V.analytics:"alerts"===e?ve.loaded?ve.rows.length:V.alerts:0},accessState:F,accessRoleLabel:Le,managerAnalyticsNotice:Ne,pageError:A,pageNotice:U,clearMessages:xt,activeTabComponent:Ie,storefrontOpsViewProps:bt}}const ef=["disabled"],tf=["onClick"],nf=["disabled"],af={class:"workspace storefront-ops"},of=["disabled"],lf=["onClick"],rf=["disabled"],sf={key:1,class:"access-context"},df={key:2,class:"status-banner status-banner-error"},cf={class:"status-banner-copy"},uf={class:"status-banner-copy"},pf={key:4,class:"empty-state"};var mf=t({id:"storefront-ops",name:"Управление витриной",icon:"shop_2",routes:[{path:"",component:{__name:"module",setup(e){const t={home:rr,products:qp,categories:xn,brands:ht,inventory:fs,orders:Tc,imports:$r,promotions:Bm,tax:cb,analytics:Qe,alerts:le},{copyCurrentLink:n,refreshCurrentTab:r,isRefreshing:b,navigationTarget:f,visibleTabs:y,activeTab:v,setActiveTab:g,tabCount:h,accessState:I,accessRoleLabel:R,managerAnalyticsNotice:D,pageError:E,pageNotice:V,clearMessages:L,activeTabComponent:N,storefrontOpsViewProps:z}=Zb(t),M=S(null),K=S(!1),H=S(!1),B=S(!1);let $=null;const j=k(()=>({"is-scrollable":K.value,"can-scroll-left":H.value,"can-scroll-right":B.value}));function q(){const e=M.value;if(!e)return K.value=!1,H.value=!1,void(B.value=!1);const t=Math.max(0,e.scrollWidth-e.clientWidth),n=Math.max(0,e.scrollLeft);K.value=t>2,H.value=n>2,B.value=n<t-2}function G(){q()}function Q(e){const t=M.value;if(!t)return;const n=Math.max(.72*t.clientWidth,180);t.scrollBy({left:"left"===e?-n:n,behavior:"smooth"})}function Y(){$?.disconnect(),$=null}async function J(){await C(),Y();const e=M.value;e?("undefined"!=typeof window&&"ResizeObserver"in window&&($=new window.ResizeObserver(()=>{q()}),$.observe(e)),q()):q()}return O(()=>{J()}),T([y,f],()=>{J()}),P(()=>{Y()}),(e,t)=>{const k=A("v-button"),S=A("private-view");return a(),c(S,{class:"workspace-view",title:"Управление витриной"},{actions:u(()=>[w(k,{secondary:"",onClick:U(n),disabled:U(b)},{default:u(()=>[...t[6]||(t[6]=[x(" Копировать ссылку ",-1)])]),_:1},8,["onClick","disabled"]),w(k,{onClick:U(r),loading:U(b)},{default:u(()=>[...t[7]||(t[7]=[x(" Обновить ",-1)])]),_:1},8,["onClick","loading"])]),default:u(()=>[U(f)?(a(),c(_,{key:0,to:U(f)},[i("div",{class:l(["pane-tabs-carousel pane-tabs-carousel-navigation",j.value])},[i("button",{class:"pane-tabs-arrow pane-tabs-arrow-left",type:"button","aria-label":"Прокрутить разделы влево",disabled:!H.value,onClick:t[0]||(t[0]=e=>Q("left"))}," ‹ ",8,ef),i("nav",{ref_key:"tabRail",ref:M,class:"pane-tabs pane-tabs-navigation","aria-label":"Разделы управления витриной",onScrollPassive:G},[(a(!0),o(p,null,m(U(y),e=>(a(),o("button",{key:e.id,type:"button",class:l(["pane-tab",{active:U(v)===e.id}]),onClick:t=>U(g)(e.id)},[i("span",null,s(e.label),1),i("small",null,s(U(h)(e.id)),1)],10,tf))),128))],544),i("button",{class:"pane-tabs-arrow pane-tabs-arrow-right",type:"button","aria-label":"Прокрутить разделы вправо",disabled:!B.value,onClick:t[1]||(t[1]=e=>Q("right"))}," › ",8,nf)],2)],8,["to"])):d("v-if",!0),i("div",af,[U(f)?d("v-if",!0):(a(),o("div",{key:0,class:l(["pane-tabs-carousel pane-tabs-carousel-inline",j.value])},[i("button",{class:"pane-tabs-arrow pane-tabs-arrow-left",type:"button","aria-label":"Прокрутить разделы влево",disabled:!H.value,onClick:t[2]||(t[2]=e=>Q("left"))}," ‹ ",8,of),i("nav",{ref_key:"tabRail",ref:M,class:"pane-tabs pane-tabs-inline","aria-label":"Разделы управления витриной",onScrollPassive:G},[(a(!0),o(p,null,m(U(y),e=>(a(),o("button",{key:e.id,type:"button",class:l(["pane-tab",{active:U(v)===e.id}]),onClick:t=>U(g)(e.id)},[i("span",null,s(e.label),1),i("small",null,s(U(h)(e.id)),1)],10,lf))),128))],544),i("button",{class:"pane-tabs-arrow pane-tabs-arrow-right",type:"button","aria-label":"Прокрутить разделы вправо",disabled:!B.value,onClick:t[3]||(t[3]=e=>Q("right"))}," › ",8,rf)],2)),U(I).loaded?(a(),o("div",sf,[i("strong",null,s(U(R)),1),i("span",null,s(U(D)),1)])):d("v-if",!0),U(E)?(a(),o("div",df,[i("div",cf,[t[8]||(t[8]=i("strong",null,"Ошибка",-1)),i("span",null,s(U(E)),1)]),i("button",{class:"status-banner-close",type:"button","aria-label":"Закрыть уведомление",onClick:t[4]||(t[4]=(...e)=>U(L)&&U(L)(...e))}," × ")])):U(V).text?(a(),o("div",{key:3,class:l(["status-banner","success"===U(V).type?"status-banner-success":"status-banner-info"])},[i("div",uf,[i("strong",null,s("success"===U(V).type?"Готово":"Информация"),1),i("span",null,s(U(V).text),1)]),i("button",{class:"status-banner-close",type:"button","aria-label":"Закрыть уведомление",onClick:t[5]||(t[5]=(...e)=>U(L)&&U(L)(...e))}," × ")],2)):d("v-if",!0),U(I).loaded&&!U(y).length?(a(),o("div",pf,[...t[9]||(t[9]=[i("strong",null,"Нет доступных разделов",-1),i("span",null,"Проверьте роль пользователя в Directus и Keycloak.",-1)])])):(a(),c(U(F),{key:5,component:U(N),"view-props":U(z)},null,8,["component","view-props"]))])]),_:1})}}}}]});export{mf as default};
+import{useApi as e,defineModule as t}from"@directus/extensions-sdk";import{h as n,openBlock as a,createElementBlock as o,normalizeClass as l,createElementVNode as i,renderSlot as r,toDisplayString as s,createCommentVNode as d,createBlock as c,withCtx as u,Fragment as p,renderList as m,withDirectives as b,vModelText as f,withKeys as y,withModifiers as v,vModelSelect as g,vModelCheckbox as h,computed as k,ref as S,createVNode as w,nextTick as C,createTextVNode as x,reactive as I,watch as T,onMounted as O,onBeforeUnmount as P,resolveComponent as A,unref as U,Teleport as _}from"vue";var R=[],D=[];function E(e,t){if(e&&"undefined"!=typeof document){var n,a=!0===t.prepend?"prepend":"append",o=!0===t.singleTag,l="string"==typeof t.container?document.querySelector(t.container):document.getElementsByTagName("head")[0];if(o){var i=R.indexOf(l);-1===i&&(i=R.push(l)-1,D[i]={}),n=D[i]&&D[i][a]?D[i][a]:D[i][a]=r()}else n=r();65279===e.charCodeAt(0)&&(e=e.substring(1)),n.styleSheet?n.styleSheet.cssText+=e:n.appendChild(document.createTextNode(e))}function r(){var e=document.createElement("style");if(e.setAttribute("type","text/css"),t.attributes)for(var n=Object.keys(t.attributes),o=0;o<n.length;o++)e.setAttribute(n[o],t.attributes[n[o]]);var i="prepend"===a?"afterbegin":"beforeend";return l.insertAdjacentElement(i,e),e}}E(".storefront-ops,\n.storefront-ops *,\n.storefront-ops *::before,\n.storefront-ops *::after {\n  box-sizing: border-box;\n}\n\n.storefront-ops :where(\n  aside,\n  article,\n  button,\n  div,\n  fieldset,\n  form,\n  header,\n  input,\n  label,\n  main,\n  nav,\n  section,\n  select,\n  textarea,\n  dl,\n  dt,\n  dd,\n  p,\n  strong,\n  span\n) {\n  min-inline-size: 0;\n}\n\n.storefront-ops :where(input, select, textarea, button) {\n  max-inline-size: 100%;\n}\n\n.storefront-ops :where(img, video, svg) {\n  max-inline-size: 100%;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel,\nbody.storefront-ops-view .pane-tabs-carousel *,\nbody.storefront-ops-view .pane-tabs-carousel *::before,\nbody.storefront-ops-view .pane-tabs-carousel *::after {\n  box-sizing: border-box;\n}\n\n.storefront-ops.workspace {\n  block-size: 100%;\n  display: flex;\n  flex-direction: column;\n  gap: 14px;\n  inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n  overscroll-behavior: none;\n  padding: 0 12px;\n}\n\n.storefront-ops .status-banner {\n  align-items: flex-start;\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background-subdued));\n  border: 1px solid color-mix(in srgb, var(--theme--primary) 24%, var(--theme--border-color));\n  border-radius: 14px;\n  block-size: fit-content;\n  display: flex;\n  gap: 12px;\n  justify-content: space-between;\n  padding: 12px 14px;\n}\n\n.storefront-ops .status-banner-copy {\n  display: grid;\n  gap: 4px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .status-banner-close {\n  align-items: center;\n  appearance: none;\n  background: transparent;\n  border: 1px solid transparent;\n  border-radius: 10px;\n  color: inherit;\n  cursor: pointer;\n  display: inline-flex;\n  flex: 0 0 auto;\n  font-size: 22px;\n  font-weight: 700;\n  justify-content: center;\n  line-height: 1;\n  min-block-size: 32px;\n  min-inline-size: 32px;\n  opacity: 0.72;\n}\n\n.storefront-ops .status-banner-close:hover,\n.storefront-ops .status-banner-close:focus-visible {\n  background: color-mix(in srgb, currentColor 8%, transparent);\n  border-color: color-mix(in srgb, currentColor 16%, transparent);\n  opacity: 1;\n}\n\n.storefront-ops .status-banner-error {\n  background: color-mix(in srgb, var(--theme--danger) 9%, var(--theme--background-subdued));\n  border-color: color-mix(in srgb, var(--theme--danger) 30%, var(--theme--border-color));\n}\n\n.storefront-ops .status-banner-success {\n  background: color-mix(in srgb, var(--green) 12%, var(--theme--background-subdued));\n  border-color: color-mix(in srgb, var(--green) 28%, var(--theme--border-color));\n}\n\n.storefront-ops .surface-panel,\n.storefront-ops .detail-card,\n.storefront-ops .empty-detail {\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 16px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel,\n.storefront-ops .pane-tabs-carousel {\n  align-items: center;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: auto minmax(0, 1fr) auto;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 58px;\n  min-inline-size: 0;\n  overflow: hidden;\n  position: relative;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel-navigation,\n.storefront-ops .pane-tabs-carousel-navigation {\n  padding: 12px 10px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::before,\nbody.storefront-ops-view .pane-tabs-carousel::after,\n.storefront-ops .pane-tabs-carousel::before,\n.storefront-ops .pane-tabs-carousel::after {\n  block-size: calc(100% - 8px);\n  content: '';\n  inline-size: 24px;\n  opacity: 0;\n  pointer-events: none;\n  position: absolute;\n  inset-block-start: 4px;\n  transition: opacity 120ms ease;\n  z-index: 1;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::before,\n.storefront-ops .pane-tabs-carousel::before {\n  background: linear-gradient(90deg, var(--theme--background) 0%, transparent 100%);\n  inset-inline-start: 46px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel::after,\n.storefront-ops .pane-tabs-carousel::after {\n  background: linear-gradient(270deg, var(--theme--background) 0%, transparent 100%);\n  inset-inline-end: 46px;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel.can-scroll-left::before,\n.storefront-ops .pane-tabs-carousel.can-scroll-left::before,\nbody.storefront-ops-view .pane-tabs-carousel.can-scroll-right::after,\n.storefront-ops .pane-tabs-carousel.can-scroll-right::after {\n  opacity: 1;\n}\n\nbody.storefront-ops-view .pane-tabs,\n.storefront-ops .pane-tabs {\n  display: flex;\n  gap: 8px;\n  grid-column: 2;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 58px;\n  min-inline-size: 0;\n  overflow-x: auto;\n  overflow-y: hidden;\n  overscroll-behavior-x: contain;\n  padding-block: 4px;\n  scroll-padding-inline: 8px;\n  scroll-snap-type: x proximity;\n  scrollbar-width: thin;\n  touch-action: pan-x;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow,\n.storefront-ops .pane-tabs-arrow {\n  align-items: center;\n  appearance: none;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 14px;\n  color: var(--theme--foreground);\n  cursor: pointer;\n  display: inline-flex;\n  font-size: 28px;\n  font-weight: 700;\n  block-size: 50px;\n  inline-size: 38px;\n  justify-content: center;\n  line-height: 1;\n  padding: 0;\n  position: relative;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease,\n    opacity 120ms ease;\n  z-index: 2;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow-left,\n.storefront-ops .pane-tabs-arrow-left {\n  grid-column: 1;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow-right,\n.storefront-ops .pane-tabs-arrow-right {\n  grid-column: 3;\n}\n\nbody.storefront-ops-view .pane-tabs-carousel:not(.is-scrollable) .pane-tabs-arrow,\n.storefront-ops .pane-tabs-carousel:not(.is-scrollable) .pane-tabs-arrow {\n  display: none;\n}\n\nbody.storefront-ops-view .pane-tabs-arrow:not(:disabled):hover,\nbody.storefront-ops-view .pane-tabs-arrow:not(:disabled):focus-visible,\n.storefront-ops .pane-tabs-arrow:not(:disabled):hover,\n.storefront-ops .pane-tabs-arrow:not(:disabled):focus-visible {\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background));\n  border-color: color-mix(in srgb, var(--theme--primary) 44%, var(--theme--border-color));\n}\n\nbody.storefront-ops-view .pane-tabs-arrow:disabled,\n.storefront-ops .pane-tabs-arrow:disabled {\n  cursor: default;\n  opacity: 0.34;\n}\n\nbody.storefront-ops-view .pane-tab,\n.storefront-ops .pane-tab {\n  align-items: center;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 14px;\n  color: inherit;\n  display: flex;\n  flex: 0 0 clamp(132px, 9.5vw, 176px);\n  gap: 10px;\n  justify-content: space-between;\n  min-height: 50px;\n  min-inline-size: 132px;\n  padding: 10px 12px;\n  scroll-snap-align: start;\n  text-align: left;\n}\n\nbody.storefront-ops-view .pane-tab span,\n.storefront-ops .pane-tab span {\n  font-weight: 700;\n  overflow: hidden;\n  text-overflow: ellipsis;\n  white-space: nowrap;\n}\n\nbody.storefront-ops-view .pane-tab small,\n.storefront-ops .pane-tab small {\n  color: var(--theme--foreground-subdued);\n  flex: 0 0 auto;\n  font-size: 12px;\n}\n\nbody.storefront-ops-view .pane-tab.active,\n.storefront-ops .pane-tab.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .access-context {\n  align-items: center;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  color: var(--theme--foreground-subdued);\n  display: flex;\n  gap: 10px;\n  justify-content: space-between;\n  padding: 10px 12px;\n}\n\n.storefront-ops .access-context strong {\n  color: var(--theme--foreground);\n}\n\n.storefront-ops .home-add-section {\n  align-items: end;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: minmax(0, 1fr) auto;\n}\n\n.storefront-ops .home-outline .list-card {\n  cursor: pointer;\n}\n\n.storefront-ops .home-outline-actions {\n  margin-top: 4px;\n}\n\n.storefront-ops .workspace-shell {\n  align-items: start;\n  block-size: 100%;\n  display: grid;\n  flex: 1 1 auto;\n  gap: 14px;\n  inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n}\n\n.storefront-ops .workspace-list {\n  align-content: start;\n  block-size: 100%;\n  display: grid;\n  gap: 12px;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  padding: 14px;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .section-block-compact {\n  gap: 8px;\n}\n\n.storefront-ops .card-list-compact {\n  max-block-size: 220px;\n  overflow: auto;\n}\n\n.storefront-ops .workspace-detail {\n  align-content: start;\n  block-size: 100%;\n  display: grid;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  overflow: hidden;\n}\n\n.storefront-ops .mobile-detail-toolbar {\n  display: none;\n}\n\n.storefront-ops .detail-card {\n  inline-size: 100%;\n  max-inline-size: 100%;\n}\n\n.storefront-ops .pane-header,\n.storefront-ops .detail-header,\n.storefront-ops .section-head,\n.storefront-ops .selector-card-head,\n.storefront-ops .merch-card-head,\n.storefront-ops .spec-section-head,\n.storefront-ops .spec-items-head {\n  align-items: flex-start;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 12px;\n  justify-content: space-between;\n}\n\n.storefront-ops .pane-header > div,\n.storefront-ops .detail-header > div,\n.storefront-ops .section-head > div,\n.storefront-ops .selector-card-head > div,\n.storefront-ops .merch-card-head > div,\n.storefront-ops .spec-section-head > div,\n.storefront-ops .spec-items-head > div {\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .pane-header h2,\n.storefront-ops .detail-header h2,\n.storefront-ops .section-head h3,\n.storefront-ops .selector-card h3,\n.storefront-ops .merch-card h3 {\n  margin: 0;\n}\n\n.storefront-ops .pane-header p,\n.storefront-ops .detail-header p,\n.storefront-ops .section-head p,\n.storefront-ops .selector-card-head p,\n.storefront-ops .merch-card-head p,\n.storefront-ops .spec-section-head p,\n.storefront-ops .spec-items-head p {\n  color: var(--theme--foreground-subdued);\n  margin: 4px 0 0;\n}\n\n.storefront-ops .detail-header-actions {\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n}\n\n.storefront-ops .search-field,\n.storefront-ops .ops-field {\n  display: grid;\n  gap: 6px;\n}\n\n.storefront-ops .search-field span,\n.storefront-ops .ops-field > span {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.06em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .ops-field-required > span::after {\n  color: var(--theme--danger);\n  content: ' *';\n}\n\n.storefront-ops .search-field input,\n.storefront-ops .ops-field input,\n.storefront-ops .ops-field select,\n.storefront-ops .ops-field textarea {\n  appearance: none;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  color: inherit;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-height: 44px;\n  min-inline-size: 0;\n  padding: 10px 12px;\n}\n\n.storefront-ops .ops-field textarea {\n  min-height: 112px;\n  resize: vertical;\n}\n\n.storefront-ops .position-control {\n  align-items: center;\n  display: grid;\n  gap: 8px;\n  grid-template-columns: auto minmax(92px, 1fr) auto;\n}\n\n.storefront-ops .position-control input {\n  min-width: 0;\n}\n\n.storefront-ops .field-help {\n  color: var(--theme--foreground-subdued);\n  font-size: 12px;\n  line-height: 1.4;\n}\n\n.storefront-ops .ops-field-boolean {\n  align-content: start;\n}\n\n.storefront-ops .ops-toggle {\n  align-items: center;\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  cursor: pointer;\n  display: flex;\n  gap: 10px;\n  min-height: 44px;\n  padding: 10px 12px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease;\n}\n\n.storefront-ops .ops-toggle:has(input:checked) {\n  background: color-mix(in srgb, var(--green) 7%, var(--theme--background));\n  border-color: color-mix(in srgb, var(--green) 48%, var(--theme--border-color));\n}\n\n.storefront-ops .ops-toggle input[type='checkbox'] {\n  appearance: none;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 999px;\n  cursor: pointer;\n  flex: 0 0 auto;\n  inline-size: 38px;\n  min-block-size: 22px;\n  padding: 2px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease;\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']::before {\n  background: var(--theme--foreground-subdued);\n  border-radius: 50%;\n  content: '';\n  display: block;\n  block-size: 16px;\n  inline-size: 16px;\n  transition:\n    background-color 120ms ease,\n    transform 120ms ease;\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:checked {\n  background: var(--green);\n  border-color: var(--green);\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:checked::before {\n  background: var(--theme--background);\n  transform: translateX(16px);\n}\n\n.storefront-ops .ops-toggle input[type='checkbox']:focus-visible {\n  outline: 2px solid var(--theme--primary);\n  outline-offset: 2px;\n}\n\n.storefront-ops .ops-toggle span {\n  font-size: 14px;\n  font-weight: 500;\n  letter-spacing: 0;\n  text-transform: none;\n}\n\n.storefront-ops .card-list,\n.storefront-ops .variant-list,\n.storefront-ops .choice-list,\n.storefront-ops .media-grid {\n  display: grid;\n  gap: 8px;\n}\n\n.storefront-ops .list-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  color: inherit;\n  display: grid;\n  gap: 6px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 12px;\n  text-align: left;\n}\n\n.storefront-ops .list-card.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .list-card-head {\n  align-items: flex-start;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n  justify-content: space-between;\n}\n\n.storefront-ops .list-card-head strong {\n  line-height: 1.3;\n  min-inline-size: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .list-card-slug,\n.storefront-ops .detail-subtitle,\n.storefront-ops .media-card-url {\n  color: var(--theme--foreground-subdued);\n  font-family: ui-monospace, SFMono-Regular, Menlo, monospace;\n  font-size: 12px;\n  margin: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .media-upload-list {\n  display: grid;\n  gap: 10px;\n  margin-top: 12px;\n}\n\n.storefront-ops .media-upload-row {\n  align-items: center;\n  background: var(--theme--background-page);\n  border: var(--theme--border-width) solid var(--theme--border-color-subdued);\n  border-radius: var(--theme--border-radius);\n  display: flex;\n  gap: 10px;\n  padding: 12px;\n}\n\n.storefront-ops .media-upload-main {\n  display: grid;\n  flex: 1;\n  gap: 4px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .media-upload-main strong,\n.storefront-ops .media-upload-main span {\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .media-upload-main progress {\n  inline-size: 100%;\n}\n\n.storefront-ops .list-card-meta,\n.storefront-ops .list-card-footer,\n.storefront-ops .variant-card-meta,\n.storefront-ops .media-card-meta {\n  color: var(--theme--foreground-subdued);\n  display: flex;\n  flex-wrap: wrap;\n  gap: 6px 12px;\n  font-size: 12px;\n}\n\n.storefront-ops .pill,\n.storefront-ops .overlay-chip {\n  align-items: center;\n  border-radius: 999px;\n  display: inline-flex;\n  font-size: 11px;\n  font-weight: 700;\n  min-height: 24px;\n  padding: 3px 9px;\n}\n\n.storefront-ops .pill-positive {\n  background: color-mix(in srgb, var(--green) 15%, var(--theme--background));\n  color: var(--green);\n}\n\n.storefront-ops .pill-muted {\n  background: var(--theme--background-subdued);\n  color: var(--theme--foreground-subdued);\n}\n\n.storefront-ops .pill-neutral,\n.storefront-ops .overlay-chip {\n  background: color-mix(in srgb, var(--theme--primary) 10%, var(--theme--background));\n  color: var(--theme--primary);\n}\n\n.storefront-ops .detail-card,\n.storefront-ops .empty-detail {\n  block-size: 100%;\n  display: flex;\n  flex-direction: column;\n  gap: 14px;\n  inline-size: 100%;\n  max-block-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .detail-card {\n  overflow: hidden;\n}\n\n.storefront-ops .empty-detail {\n  overflow: auto;\n  overscroll-behavior: contain;\n}\n\n.storefront-ops .detail-card > .detail-content,\n.storefront-ops .detail-card > .editor-form {\n  flex: 1 1 auto;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-block-size: 0;\n  min-inline-size: 0;\n}\n\n.storefront-ops .detail-card > .detail-content {\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .detail-card > .editor-form {\n  display: flex;\n  flex-direction: column;\n  min-block-size: 0;\n  overflow-x: hidden;\n  overflow-y: auto;\n  overscroll-behavior: contain;\n  scrollbar-gutter: stable;\n}\n\n.storefront-ops .detail-content,\n.storefront-ops .editor-form,\n.storefront-ops .section-block,\n.storefront-ops .merch-card,\n.storefront-ops .selector-card,\n.storefront-ops .media-inline-panel,\n.storefront-ops .context-grid {\n  align-content: start;\n  display: grid;\n  gap: 14px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .detail-kicker {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.08em;\n  margin: 0 0 4px;\n  text-transform: uppercase;\n}\n\n.storefront-ops .subtabs {\n  display: grid;\n  gap: 8px;\n  grid-template-columns: repeat(auto-fit, minmax(140px, 1fr));\n  inline-size: 100%;\n  max-inline-size: min(100%, 980px);\n}\n\n.storefront-ops .subtab {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 12px;\n  min-height: 42px;\n  padding: 9px 12px;\n}\n\n.storefront-ops .subtab.active {\n  border-color: var(--theme--primary);\n  box-shadow: 0 0 0 1px var(--theme--primary);\n}\n\n.storefront-ops .form-grid {\n  display: grid;\n  gap: 12px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .form-grid-three {\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .form-grid-two {\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .full-span {\n  grid-column: 1 / -1;\n}\n\n.storefront-ops .selector-card,\n.storefront-ops .merch-card,\n.storefront-ops .media-inline-panel,\n.storefront-ops .section-block,\n.storefront-ops .variant-card,\n.storefront-ops .media-card,\n.storefront-ops .metric-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .section-block-active {\n  border-color: color-mix(in srgb, var(--theme--primary) 42%, var(--theme--border-color-subdued));\n}\n\n.storefront-ops .choice-item {\n  align-items: flex-start;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 12px;\n  display: flex;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-height: 48px;\n  min-inline-size: 0;\n  padding: 10px 12px;\n}\n\n.storefront-ops .choice-item > div {\n  min-inline-size: 0;\n}\n\n.storefront-ops .choice-item strong {\n  display: block;\n}\n\n.storefront-ops .choice-item small {\n  color: var(--theme--foreground-subdued);\n}\n\n.storefront-ops .metrics-row {\n  display: grid;\n  gap: 10px;\n  grid-template-columns: repeat(auto-fit, minmax(150px, 1fr));\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .compact-metrics .metric-card,\n.storefront-ops .metrics-row .metric-card {\n  gap: 4px;\n  min-height: auto;\n}\n\n.storefront-ops .metric-card span {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.05em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .metric-card strong {\n  font-size: 14px;\n  line-height: 1.35;\n  min-inline-size: 0;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .metric-code {\n  font-family: ui-monospace, SFMono-Regular, Menlo, monospace;\n  font-size: 12px;\n  overflow-wrap: anywhere;\n}\n\n.storefront-ops .ops-modal-backdrop {\n  align-items: center;\n  background: color-mix(in srgb, var(--theme--background) 70%, transparent);\n  display: flex;\n  inset: 0;\n  justify-content: center;\n  padding: 20px;\n  position: fixed;\n  z-index: 40;\n}\n\n.storefront-ops .ops-modal {\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color);\n  border-radius: 16px;\n  box-shadow: 0 18px 60px color-mix(in srgb, var(--theme--foreground) 16%, transparent);\n  display: grid;\n  gap: 14px;\n  inline-size: min(860px, 100%);\n  max-block-size: min(720px, calc(100vh - 40px));\n  overflow: hidden;\n  padding: 16px;\n}\n\n.storefront-ops .import-modal-list {\n  max-block-size: 480px;\n  overflow: auto;\n  overscroll-behavior: contain;\n}\n\n.storefront-ops .variant-card,\n.storefront-ops .media-card {\n  display: grid;\n  gap: 10px;\n}\n\n.storefront-ops .media-preview,\n.storefront-ops .home-reference-thumb,\n.storefront-ops .category-image-preview img {\n  background: var(--theme--background-subdued);\n  border-radius: 10px;\n  display: block;\n  height: auto;\n  object-fit: cover;\n  width: 100%;\n}\n\n.storefront-ops .media-preview {\n  aspect-ratio: 16 / 10;\n}\n\n.storefront-ops .home-reference-thumb {\n  aspect-ratio: 16 / 7;\n}\n\n.storefront-ops .media-card-body {\n  display: grid;\n  gap: 8px;\n}\n\n.storefront-ops .category-image-preview {\n  max-width: 320px;\n}\n\n.storefront-ops .definition-list {\n  display: grid;\n  gap: 10px;\n}\n\n.storefront-ops .definition-list-contact {\n  grid-template-columns: repeat(auto-fit, minmax(min(100%, 220px), 1fr));\n}\n\n.storefront-ops .definition-list div {\n  display: grid;\n  gap: 3px;\n  min-inline-size: 0;\n}\n\n.storefront-ops .definition-list dt {\n  color: var(--theme--foreground-subdued);\n  font-size: 11px;\n  font-weight: 700;\n  letter-spacing: 0.04em;\n  text-transform: uppercase;\n}\n\n.storefront-ops .definition-list dd {\n  margin: 0;\n  min-inline-size: 0;\n  overflow: visible;\n  overflow-wrap: anywhere;\n  text-overflow: clip;\n  white-space: normal;\n}\n\n.storefront-ops .definition-list-wide {\n  grid-column: 1 / -1;\n}\n\n.storefront-ops .rma-decision-form {\n  border-top: 1px solid var(--theme--border-color-subdued);\n  margin-top: 10px;\n  padding-top: 10px;\n}\n\n.storefront-ops .spec-section-list,\n.storefront-ops .spec-item-list,\n.storefront-ops .spec-items {\n  display: grid;\n  gap: 12px;\n}\n\n.storefront-ops .spec-section-card {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 14px;\n  display: grid;\n  gap: 12px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 14px;\n}\n\n.storefront-ops .spec-item-row {\n  align-items: end;\n  background: var(--theme--background-subdued);\n  border: 1px solid var(--theme--border-color-subdued);\n  border-radius: 12px;\n  display: grid;\n  gap: 10px;\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n  padding: 10px;\n}\n\n.storefront-ops .spec-item-remove {\n  width: 100%;\n}\n\n.storefront-ops .sticky-actions {\n  background: color-mix(in srgb, var(--theme--background-subdued) 88%, transparent);\n  border-top: 1px solid var(--theme--border-color-subdued);\n  bottom: 0;\n  display: flex;\n  flex-wrap: wrap;\n  gap: 10px;\n  inline-size: 100%;\n  margin: 8px -14px -14px;\n  padding: 12px 14px 14px;\n  position: static;\n}\n\n.storefront-ops .editor-form > .sticky-actions:last-child {\n  margin-block-start: 8px;\n}\n\n.storefront-ops .detail-card > .detail-footer-actions {\n  flex: 0 0 auto;\n  margin: 0 -14px -14px;\n  position: static;\n  z-index: 2;\n}\n\n.storefront-ops .home-action-dock {\n  display: none;\n}\n\n.storefront-ops .sticky-actions-inline {\n  background: transparent;\n  border-top: 0;\n  margin: 0;\n  padding: 0;\n  position: static;\n}\n\n.storefront-ops .button {\n  appearance: none;\n  border-radius: 12px;\n  cursor: pointer;\n  font-weight: 700;\n  min-height: 42px;\n  padding: 9px 14px;\n  transition:\n    background-color 120ms ease,\n    border-color 120ms ease,\n    color 120ms ease,\n    opacity 120ms ease,\n    transform 120ms ease;\n}\n\n.storefront-ops .button:not(:disabled):active {\n  transform: translateY(1px);\n}\n\n.storefront-ops .button:disabled,\n.storefront-ops .button[aria-disabled='true'] {\n  cursor: not-allowed;\n  opacity: 0.55;\n}\n\n.storefront-ops .button[aria-busy='true'] {\n  cursor: progress;\n  opacity: 0.72;\n}\n\n.storefront-ops .button-primary {\n  background: var(--theme--primary);\n  border: 1px solid var(--theme--primary);\n  color: var(--theme--primary-inverse);\n}\n\n.storefront-ops .button-secondary {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--border-color);\n  color: inherit;\n}\n\n.storefront-ops .button-danger {\n  background: var(--theme--background);\n  border: 1px solid var(--theme--danger);\n  color: var(--theme--danger);\n}\n\n.storefront-ops .button-small {\n  min-height: 36px;\n  padding: 7px 12px;\n}\n\n.storefront-ops .empty-state,\n.storefront-ops .empty-detail,\n.storefront-ops .empty-inline,\n.storefront-ops .inline-note {\n  background: var(--theme--background);\n  border: 1px dashed var(--theme--border-color);\n  border-radius: 14px;\n  color: var(--theme--foreground-subdued);\n  display: grid;\n  gap: 6px;\n  padding: 14px;\n}\n\n.storefront-ops .panel-variants,\n.storefront-ops .panel-media,\n.storefront-ops .context-grid {\n  align-items: start;\n  grid-template-columns: 1fr;\n}\n\n.storefront-ops .panel-variants > .section-block,\n.storefront-ops .panel-variants > .editor-form,\n.storefront-ops .panel-media > .section-block,\n.storefront-ops .panel-media > .editor-form,\n.storefront-ops .context-grid > * {\n  inline-size: 100%;\n  max-inline-size: 100%;\n  min-inline-size: 0;\n}\n\n.storefront-ops .inventory-editor {\n  max-width: none;\n}\n\n.storefront-ops .panel-main .editor-form,\n.storefront-ops .category-editor,\n.storefront-ops .brand-editor,\n.storefront-ops .inventory-editor,\n.storefront-ops .panel-variants .editor-form,\n  .storefront-ops .panel-media .editor-form {\n    inline-size: 100%;\n    max-inline-size: 100%;\n  }\n\n.storefront-ops .brand-editor .metrics-row {\n  grid-template-columns: minmax(0, 260px);\n}\n\n@media (min-width: 720px) {\n  .storefront-ops .subtabs {\n    grid-template-columns: repeat(auto-fit, minmax(150px, 1fr));\n  }\n\n  .storefront-ops .form-grid {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .form-grid-three {\n    grid-template-columns: repeat(3, minmax(0, 1fr));\n  }\n\n  .storefront-ops .form-grid-two {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .variant-list,\n  .storefront-ops .media-grid {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n  }\n\n  .storefront-ops .spec-item-row {\n    grid-template-columns: minmax(0, 1fr) minmax(0, 1fr) auto;\n  }\n\n  .storefront-ops .spec-item-remove {\n    width: auto;\n  }\n}\n\n@media (min-width: 1080px) {\n  .storefront-ops.workspace {\n    block-size: 100%;\n    min-block-size: 0;\n    overflow: hidden;\n  }\n\n  .storefront-ops .workspace-shell {\n    align-items: stretch;\n    grid-template-columns: minmax(304px, 348px) minmax(0, 1fr);\n  }\n\n  .storefront-ops .workspace-list {\n    max-height: none;\n    position: static;\n  }\n}\n\n@media (max-width: 719px) {\n  .storefront-ops.workspace {\n    block-size: auto;\n    min-block-size: 100dvh;\n    overflow: visible;\n    padding-inline: 8px;\n  }\n\n  .storefront-ops .pane-tabs-carousel {\n    gap: 6px;\n    min-block-size: 52px;\n  }\n\n  .storefront-ops .pane-tabs-carousel-inline {\n    background: var(--theme--background);\n    border-bottom: 1px solid var(--theme--border-color-subdued);\n    position: sticky;\n    top: 0;\n    z-index: 4;\n  }\n\n  .storefront-ops .pane-tabs {\n    min-block-size: 52px;\n    padding-block: 6px;\n  }\n\n  .storefront-ops .pane-tabs-arrow {\n    block-size: 44px;\n    border-radius: 12px;\n    font-size: 24px;\n    inline-size: 34px;\n  }\n\n  .storefront-ops .pane-tabs-carousel::before {\n    inset-inline-start: 40px;\n  }\n\n  .storefront-ops .pane-tabs-carousel::after {\n    inset-inline-end: 40px;\n  }\n\n  .storefront-ops .pane-tab {\n    flex-basis: 132px;\n    min-height: 44px;\n  }\n\n  .storefront-ops .workspace-shell {\n    display: block;\n  }\n\n  .storefront-ops .workspace-list,\n  .storefront-ops .workspace-detail,\n  .storefront-ops .detail-card,\n  .storefront-ops .empty-detail {\n    block-size: auto;\n    max-block-size: none;\n    min-block-size: 0;\n    overflow: visible;\n  }\n\n  .storefront-ops .workspace-list {\n    padding: 12px;\n  }\n\n  .storefront-ops .workspace-shell.mobile-master-detail.detail-open .workspace-list {\n    display: none;\n  }\n\n  .storefront-ops .workspace-shell.mobile-master-detail:not(.detail-open) .workspace-detail {\n    display: none;\n  }\n\n  .storefront-ops .mobile-detail-toolbar {\n    align-items: center;\n    background: var(--theme--background);\n    border: 1px solid var(--theme--border-color);\n    border-radius: 14px;\n    display: flex;\n    gap: 10px;\n    justify-content: space-between;\n    margin-bottom: 10px;\n    padding: 8px;\n    position: sticky;\n    top: 0;\n    z-index: 5;\n  }\n\n  .storefront-ops .mobile-detail-toolbar .button {\n    min-height: 44px;\n  }\n\n  .storefront-ops .mobile-detail-toolbar span {\n    color: var(--theme--foreground-subdued);\n    font-size: 12px;\n    font-weight: 700;\n    overflow: hidden;\n    text-overflow: ellipsis;\n    white-space: nowrap;\n  }\n\n  .storefront-ops .pane-header,\n  .storefront-ops .detail-header,\n  .storefront-ops .section-head,\n  .storefront-ops .selector-card-head,\n  .storefront-ops .merch-card-head,\n  .storefront-ops .spec-section-head,\n  .storefront-ops .spec-items-head {\n    align-items: stretch;\n    flex-direction: column;\n  }\n\n  .storefront-ops .pane-header .button,\n  .storefront-ops .detail-header-actions,\n  .storefront-ops .detail-header-actions .button,\n  .storefront-ops .sticky-actions .button {\n    inline-size: 100%;\n  }\n\n  .storefront-ops .home-add-section {\n    grid-template-columns: 1fr;\n  }\n\n  .storefront-ops .home-action-dock {\n    inline-size: 100%;\n  }\n}\n\nbody.storefront-ops-view #sidebar,\nbody.storefront-ops-view #sidebar-desktop-outlet,\nbody.storefront-ops-view #sidebar-mobile-outlet,\nbody.storefront-ops-view #module-navigation,\nbody.storefront-ops-view .ai-sidebar-detail,\nbody.storefront-ops-view .sidebar-toggle {\n  display: none !important;\n}\n\nbody.storefront-ops-view {\n  --storefront-ops-private-view-header-size: 70px;\n\n  overflow: hidden !important;\n}\n\n@media (min-width: 720px) {\n  html.storefront-ops-view-root,\n  body.storefront-ops-view {\n    block-size: 100%;\n    inline-size: 100%;\n    max-block-size: 100dvh;\n    overflow: hidden !important;\n    overscroll-behavior: none;\n  }\n\n  html.storefront-ops-view-root #app,\n  body.storefront-ops-view #app {\n    block-size: 100dvh !important;\n    overflow: hidden !important;\n  }\n}\n\nbody.storefront-ops-view #main-content {\n  block-size: 100% !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view {\n  block-size: 100dvh !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view > .root-split {\n  block-size: 100% !important;\n  grid-template-columns: 0 0 minmax(0, 1fr) !important;\n  min-block-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .private-view.workspace-view > .root-split > .sp-start,\nbody.storefront-ops-view .private-view.workspace-view > .root-split > .sp-divider {\n  inline-size: 0 !important;\n  max-inline-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n  pointer-events: none !important;\n  visibility: hidden !important;\n}\n\nbody.storefront-ops-view #main-content > .main-split {\n  block-size: 100% !important;\n  grid-template-columns: minmax(0, 1fr) 0px 0px !important;\n  min-block-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view #main-content .sp-start,\nbody.storefront-ops-view #main-content .main-content-container {\n  block-size: 100% !important;\n  inline-size: 100% !important;\n  max-inline-size: none !important;\n  min-block-size: 0 !important;\n  min-inline-size: 0 !important;\n  overflow: hidden !important;\n}\n\nbody.storefront-ops-view .storefront-ops.workspace {\n  block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n}\n\nbody.storefront-ops-view #main-content .sp-end {\n  inline-size: 0 !important;\n  max-inline-size: 0 !important;\n}\n\nbody.storefront-ops-view #dialog-outlet > .container.left,\nbody.storefront-ops-view #dialog-outlet > .container.right {\n  display: none !important;\n  pointer-events: none !important;\n  visibility: hidden !important;\n}\n\n@media (max-width: 719px) {\n  body.storefront-ops-view .storefront-ops.workspace {\n    block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n    min-block-size: 0 !important;\n    overflow-x: hidden !important;\n    overflow-y: auto !important;\n    overscroll-behavior-y: contain;\n    -webkit-overflow-scrolling: touch;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel {\n    max-block-size: max-content;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs {\n    max-block-size: max-content;\n    overflow-x: auto;\n    overflow-y: hidden;\n    overscroll-behavior-x: contain;\n    overscroll-behavior-y: none;\n    touch-action: pan-x;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel-inline {\n    flex: 0 0 auto;\n    inset-block-start: 0;\n    position: sticky;\n    top: 0;\n    z-index: 4;\n  }\n}\n\n@media (max-width: 719px), (hover: none) and (pointer: coarse) {\n  body.storefront-ops-view .storefront-ops.workspace {\n    block-size: calc(100dvh - var(--storefront-ops-private-view-header-size)) !important;\n    inline-size: 100% !important;\n    max-inline-size: 100% !important;\n    min-block-size: 0 !important;\n    min-inline-size: 0 !important;\n    overflow-x: hidden !important;\n    overflow-y: auto !important;\n    overscroll-behavior-x: none;\n    overscroll-behavior-y: contain;\n    -webkit-overflow-scrolling: touch;\n  }\n\n  body.storefront-ops-view #dialog-outlet > .container.left,\n  body.storefront-ops-view #dialog-outlet > .container.right {\n    display: none !important;\n    pointer-events: none !important;\n    visibility: hidden !important;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell {\n    display: block;\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n    overflow: visible;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-list,\n  body.storefront-ops-view .storefront-ops .workspace-detail,\n  body.storefront-ops-view .storefront-ops .detail-card,\n  body.storefront-ops-view .storefront-ops .empty-detail {\n    block-size: auto;\n    inline-size: 100%;\n    max-block-size: none;\n    max-inline-size: 100%;\n    min-block-size: 0;\n    min-inline-size: 0;\n    overflow: visible;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell.mobile-master-detail.detail-open .workspace-list {\n    display: none;\n  }\n\n  body.storefront-ops-view .storefront-ops .workspace-shell.mobile-master-detail:not(.detail-open) .workspace-detail {\n    display: none;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-card > .detail-content,\n  body.storefront-ops-view .storefront-ops .detail-card > .editor-form {\n    block-size: auto;\n    max-block-size: none;\n    min-block-size: 0;\n    overflow: visible;\n    overscroll-behavior: auto;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-content,\n  body.storefront-ops-view .storefront-ops .editor-form,\n  body.storefront-ops-view .storefront-ops .section-block,\n  body.storefront-ops-view .storefront-ops .selector-card,\n  body.storefront-ops-view .storefront-ops .merch-card,\n  body.storefront-ops-view .storefront-ops .media-inline-panel,\n  body.storefront-ops-view .storefront-ops .context-grid,\n  body.storefront-ops-view .storefront-ops .variant-card,\n  body.storefront-ops-view .storefront-ops .media-card,\n  body.storefront-ops-view .storefront-ops .metric-card,\n  body.storefront-ops-view .storefront-ops .list-card,\n  body.storefront-ops-view .storefront-ops .choice-item,\n  body.storefront-ops-view .storefront-ops .spec-section-card,\n  body.storefront-ops-view .storefront-ops .spec-item-row,\n  body.storefront-ops-view .storefront-ops .ops-field,\n  body.storefront-ops-view .storefront-ops .ops-toggle,\n  body.storefront-ops-view .storefront-ops .search-field {\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n  }\n\n  body.storefront-ops-view .storefront-ops .form-grid,\n  body.storefront-ops-view .storefront-ops .form-grid-two,\n  body.storefront-ops-view .storefront-ops .form-grid-three,\n  body.storefront-ops-view .storefront-ops .panel-variants,\n  body.storefront-ops-view .storefront-ops .panel-media,\n  body.storefront-ops-view .storefront-ops .context-grid,\n  body.storefront-ops-view .storefront-ops .variant-list,\n  body.storefront-ops-view .storefront-ops .media-grid,\n  body.storefront-ops-view .storefront-ops .metrics-row,\n  body.storefront-ops-view .storefront-ops .spec-item-row {\n    grid-template-columns: minmax(0, 1fr) !important;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs-carousel {\n    max-block-size: max-content;\n    max-inline-size: 100%;\n  }\n\n  body.storefront-ops-view .storefront-ops .pane-tabs {\n    max-block-size: max-content;\n    max-inline-size: 100%;\n    overflow-x: auto;\n    overflow-y: hidden;\n    overscroll-behavior-x: contain;\n    overscroll-behavior-y: none;\n    touch-action: pan-x;\n  }\n\n  body.storefront-ops-view .storefront-ops .subtabs {\n    grid-template-columns: repeat(2, minmax(0, 1fr));\n    max-inline-size: 100%;\n  }\n\n  body.storefront-ops-view .storefront-ops .search-field input,\n  body.storefront-ops-view .storefront-ops .ops-field input,\n  body.storefront-ops-view .storefront-ops .ops-field select,\n  body.storefront-ops-view .storefront-ops .ops-field textarea,\n  body.storefront-ops-view .storefront-ops .button {\n    inline-size: 100%;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n  }\n\n  body.storefront-ops-view .storefront-ops .button {\n    white-space: normal;\n  }\n\n  body.storefront-ops-view .storefront-ops .ops-toggle input[type='checkbox'] {\n    inline-size: 38px;\n    max-inline-size: 38px;\n    min-inline-size: 38px;\n  }\n\n  body.storefront-ops-view .storefront-ops .list-card-head,\n  body.storefront-ops-view .storefront-ops .variant-card > div,\n  body.storefront-ops-view .storefront-ops .variant-card strong,\n  body.storefront-ops-view .storefront-ops .variant-card p,\n  body.storefront-ops-view .storefront-ops .ops-toggle span {\n    flex: 1 1 auto;\n    max-inline-size: 100%;\n    min-inline-size: 0;\n    overflow-wrap: anywhere;\n  }\n\n  body.storefront-ops-view .storefront-ops .sticky-actions {\n    margin: 8px 0 0;\n    padding: 12px 0 0;\n    position: static;\n  }\n\n  body.storefront-ops-view .storefront-ops .detail-card > .detail-footer-actions {\n    margin: 8px 0 0;\n  }\n}\n",{});var F={name:"StorefrontOpsActiveTab",props:{component:{type:[Object,Function],required:!0},viewProps:{type:Object,required:!0}},setup:e=>()=>n(e.component,e.viewProps)};const V={class:"workspace-list surface-panel"},L={class:"workspace-detail"},N={key:0,class:"mobile-detail-toolbar"},z={__name:"StorefrontOpsTabShell",props:{activeDetailOpen:{type:Boolean,default:!1},activeTabHasMasterDetail:{type:Boolean,default:!1},activeTabLabel:{type:String,default:"Раздел"},closeActiveDetail:{type:Function,required:!0}},setup:e=>(t,n)=>(a(),o("section",{class:l(["workspace-shell",{"detail-open":e.activeDetailOpen,"mobile-master-detail":e.activeTabHasMasterDetail}])},[i("aside",V,[r(t.$slots,"list")]),i("main",L,[e.activeTabHasMasterDetail&&e.activeDetailOpen?(a(),o("div",N,[i("button",{class:"button button-secondary",type:"button",onClick:n[0]||(n[0]=(...t)=>e.closeActiveDetail&&e.closeActiveDetail(...t))}," ← К списку "),i("span",null,s(e.activeTabLabel),1)])):d("v-if",!0),r(t.$slots,"detail")])],2))},M=["HOME_SECTION_PRESETS","HOME_STATUS_OPTIONS","HOME_STYLE_OPTIONS","HOME_LAYOUT_OPTIONS","STOREFRONT_COLLECTION_MODES","STOREFRONT_COLLECTION_RULE_TYPES","STOREFRONT_COLLECTION_SORT_MODES","productDetailTabs","importMappingFields","orderStatusOptions","accessState","loading","homeState","homeForm","productState","categoryState","brandState","inventoryState","productForm","variantForm","productMediaForm","categoryForm","brandForm","inventoryForm","orderState","importState","promotionState","activePromotionState","promotionForm","promoCodeForm","taxState","taxForm","analyticsState","alertState","roleKind","isManagerRole","canViewActivePromotions","activeDetailOpen","activeTabHasMasterDetail","activeTabLabel","filteredProducts","filteredCategories","filteredBrands","filteredInventory","filteredProductCategoryOptions","productBrandOptions","productCategoryOptions","availableParentOptions","selectedInventoryRow","productOverlayInfo","categoryOverlayInfo","productDirty","variantDirty","categoryDirty","brandDirty","homeDirty","homeSaveLabel","selectedOrder","selectedOrderRmaRequests","canClaimSelectedOrder","canClearSelectedOrder","canArchiveSelectedOrder","canRestoreSelectedOrder","canSubmitSelectedOrderStatus","canManageSelectedOrderRma","canDecideSelectedOrderRma","canRefundSelectedOrder","selectedHomeSection","selectedHomeSectionList","selectedHomeSectionPosition","homeCategorySection","filteredHomeCategoryOptions","filteredHomeCollectionOptions","filteredCollectionProductOptions","filteredCollectionCategoryOptions","productCategoryFilter","productMediaFiles","categoryImageFile","mediaUploadState","isSubmitting","isTabLoading","homeStatusLabel","homeSectionLabel","homeSectionTypeLabel","saveHomeContent","openStorefrontPreview","addHomeSectionPreset","selectHomeSection","moveHomeSection","startCreateProduct","overlayStatusLabel","selectProduct","startCreateCategory","selectCategory","startCreateBrand","selectBrand","formatMoney","selectInventoryRow","loadOrders","loadActivePromotions","formatMinorMoney","orderManagerLabel","isOrderArchived","orderStatusLabel","formatDateTime","selectOrder","selectImportJob","startCreatePromotion","selectPromotion","startCreatePromoCode","selectPromoCode","formatPercent","loadAnalytics","saveLowStockThreshold","closeActiveDetail","saveHomeCollectionDraft","moveHomeItem","removeHomeItem","homeProductLabel","homeProductMeta","homeProductImage","searchHomeHeroProducts","filteredHomeFeaturedProductOptions","setHomeHeroFeaturedProduct","clearHomeHeroFeaturedProduct","homeCategoryLabel","homeCategoryMeta","homeCategoryImage","searchHomeCategories","addHomeCategory","filteredHomeProductOptions","ensureHomeProductOptions","searchHomeProducts","addHomeProduct","homeCollectionLabel","homeCollectionMeta","addHomeCollection","startCreateHomeCollection","editHomeCollection","cancelHomeCollectionDraft","searchHomeCollectionProducts","searchHomeCollectionCategories","addHomeCollectionProductRule","addHomeCollectionCategoryRule","removeHomeCollectionRule","moveHomeCollectionRule","removeHomeSection","archiveHomeSection","duplicateHomeSection","addHomeItem","resetProductEditor","submitProduct","deleteProduct","setProductPanel","addSpecificationSection","removeSpecificationSection","addSpecificationItem","removeSpecificationItem","loadVariantEditor","submitVariant","resetVariantEditor","deleteVariant","onProductFilesSelected","uploadProductImages","retryMediaUpload","abortMediaUpload","mediaUploadStatusLabel","mediaUploadProgressLabel","deleteProductImage","openOrCreateOverlay","formatCategoryLabel","adjustCategoryPosition","onCategoryFileSelected","uploadCategoryImage","submitCategory","resetCategoryEditor","deleteCategory","submitBrand","resetBrandEditor","deleteBrand","submitInventoryAdjustment","resetInventoryEditor","refundSelectedOrder","selectedRefundLines","createRmaRequest","rmaStatusLabel","decideRmaRequest","submitOrderStatus","claimOrder","clearOrderClaim","archiveOrder","restoreOrder","resetOrderFiltersForSelected","onImportFileSelected","dryRunImport","commitImport","openImportNotUpdatedModal","closeImportNotUpdatedModal","downloadImportNotUpdated","addPromotionTarget","removePromotionTarget","submitPromotion","deletePromotion","submitPromoCode","deletePromoCode","startCreateTax","selectTax","submitTax","deleteTax","setProductCategoryFilter"],K={class:"pane-header"},H={class:"ops-field"},B=["disabled"],$={key:0,class:"empty-state"},j={key:1,class:"empty-state"},q={key:2,class:"card-list"},G={class:"list-card-head"},Q={class:"pill pill-muted"},Y={class:"list-card-slug"},J={class:"detail-card"},X={class:"metrics-row"},W={class:"metric-card"},Z={class:"metric-card"},ee={key:0,class:"card-list"},te={class:"list-card-head"},ne={class:"pill pill-muted"},ae={class:"list-card-slug"},oe={key:1,class:"empty-inline"},le={__name:"AlertsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",K,[i("div",null,[t[2]||(t[2]=i("h2",null,"Алерты",-1)),i("p",null,s(e.alertState.rows.length)+" SKU ниже порога",1)])]),i("label",H,[t[3]||(t[3]=i("span",null,"Глобальный порог",-1)),b(i("input",{"onUpdate:modelValue":t[0]||(t[0]=t=>e.alertState.threshold=t),type:"number",min:"0",step:"1"},null,512),[[f,e.alertState.threshold,void 0,{number:!0}]])]),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[1]||(t[1]=(...t)=>e.saveLowStockThreshold&&e.saveLowStockThreshold(...t))}," Сохранить порог ",8,B),e.isTabLoading("alerts")?(a(),o("div",$,[...t[4]||(t[4]=[i("strong",null,"Проверяю остатки",-1)])])):e.alertState.rows.length?(a(),o("div",q,[(a(!0),o(p,null,m(e.alertState.rows,e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",G,[i("strong",null,s(e.productName),1),i("span",Q,s(e.stock)+" шт.",1)]),i("p",Y,s(e.variantName)+" · "+s(e.sku),1)]))),128))])):(a(),o("div",j,[...t[5]||(t[5]=[i("strong",null,"Алертов нет",-1),i("span",null,"Все SKU выше текущего порога.",-1)])]))]),detail:u(()=>[i("section",J,[t[8]||(t[8]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Алерты"),i("h2",null,"Низкие остатки"),i("p",{class:"detail-subtitle"},"Список виден администраторам и контент-менеджерам.")])],-1)),i("div",X,[i("article",W,[t[6]||(t[6]=i("span",null,"Порог",-1)),i("strong",null,s(e.alertState.threshold),1)]),i("article",Z,[t[7]||(t[7]=i("span",null,"SKU ниже порога",-1)),i("strong",null,s(e.alertState.rows.length),1)])]),e.alertState.rows.length?(a(),o("div",ee,[(a(!0),o(p,null,m(e.alertState.rows,e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",te,[i("strong",null,s(e.productName),1),i("span",ne,s(e.stock)+" шт.",1)]),i("p",ae,s(e.productSlug)+" · "+s(e.variantName)+" · "+s(e.sku),1)]))),128))])):(a(),o("div",oe,"Нет SKU ниже порога."))])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},ie={class:"pane-header"},re=["disabled"],se={key:0,class:"search-field"},de={key:1,class:"inline-note"},ce={key:2,class:"empty-state"},ue={key:3,class:"empty-state"},pe={key:4,class:"card-list"},me={class:"list-card-head"},be={class:"pill pill-neutral"},fe={class:"list-card-meta"},ye={class:"detail-card"},ve={class:"form-grid form-grid-three"},ge={class:"ops-field"},he={class:"ops-field"},ke={key:0,class:"ops-field"},Se={key:1,class:"ops-field ops-field-readonly"},we={class:"sticky-actions sticky-actions-inline"},Ce=["disabled"],xe={class:"metrics-row"},Ie={class:"metric-card"},Te={class:"metric-card"},Oe={class:"metric-card"},Pe={class:"section-block"},Ae={class:"section-head"},Ue={class:"metrics-row"},_e={class:"metric-card"},Re={class:"metric-card"},De={class:"metric-card"},Ee={class:"metric-card"},Fe={class:"metric-card"},Ve={class:"section-block"},Le={class:"section-head"},Ne={class:"card-list"},ze={class:"list-card-head"},Me={class:"pill pill-neutral"},Ke={class:"list-card-meta"},He={class:"section-block"},Be={class:"section-head"},$e={class:"card-list"},je={class:"list-card-head"},qe={class:"list-card-slug"},Ge={class:"list-card-meta"},Qe={__name:"AnalyticsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",ie,[i("div",null,[t[7]||(t[7]=i("h2",null,"Аналитика",-1)),i("p",null,s(e.analyticsState.managerRows.length)+" менеджеров",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isTabLoading("analytics"),onClick:t[0]||(t[0]=t=>e.loadAnalytics({notify:!0}))}," Рассчитать ",8,re)]),e.isManagerRole?(a(),o("p",de," Для роли менеджера показываются только ваши заказы, ссылки оплаты и комиссия. ")):(a(),o("label",se,[t[8]||(t[8]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.analyticsState.manager=t),type:"search",placeholder:"Фильтр",onKeyup:t[2]||(t[2]=y((...t)=>e.loadAnalytics&&e.loadAnalytics(...t),["enter"]))},null,544),[[f,e.analyticsState.manager,void 0,{trim:!0}]])])),e.isTabLoading("analytics")?(a(),o("div",ce,[...t[9]||(t[9]=[i("strong",null,"Считаю показатели",-1)])])):e.analyticsState.managerRows.length?(a(),o("div",pe,[(a(!0),o(p,null,m(e.analyticsState.managerRows,t=>(a(),o("article",{key:t.managerSubject,class:"list-card"},[i("div",me,[i("strong",null,s(t.managerSubject),1),i("span",be,s(t.paidOrders)+"/"+s(t.totalOrders),1)]),i("div",fe,[i("span",null,s(e.formatMoney(t.paidAmount)),1),i("span",null,"3% "+s(e.formatMoney(t.commission)),1)])]))),128))])):(a(),o("div",ue,[...t[10]||(t[10]=[i("strong",null,"Данных нет",-1),i("span",null,"За выбранный период не найдено заказов менеджера.",-1)])]))]),detail:u(()=>[i("section",ye,[t[26]||(t[26]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Аналитика"),i("h2",null,"Менеджеры и ссылки оплаты"),i("p",{class:"detail-subtitle"},"Комиссия менеджера фиксирована на уровне 3% от оплаченной суммы.")])],-1)),i("div",ve,[i("label",ge,[t[11]||(t[11]=i("span",null,"С",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.analyticsState.from=t),type:"datetime-local"},null,512),[[f,e.analyticsState.from]])]),i("label",he,[t[12]||(t[12]=i("span",null,"По",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.analyticsState.to=t),type:"datetime-local"},null,512),[[f,e.analyticsState.to]])]),e.isManagerRole?(a(),o("div",Se,[...t[14]||(t[14]=[i("span",null,"Менеджер",-1),i("strong",null,"Только ваши показатели",-1)])])):(a(),o("label",ke,[t[13]||(t[13]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.analyticsState.manager=t),type:"text"},null,512),[[f,e.analyticsState.manager,void 0,{trim:!0}]])]))]),i("div",we,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.isTabLoading("analytics"),onClick:t[6]||(t[6]=t=>e.loadAnalytics({notify:!0}))}," Обновить аналитику ",8,Ce)]),i("div",xe,[i("article",Ie,[t[15]||(t[15]=i("span",null,"Ссылок отправлено",-1)),i("strong",null,s(e.analyticsState.paymentLinks.sent||0),1)]),i("article",Te,[t[16]||(t[16]=i("span",null,"Оплачено",-1)),i("strong",null,s(e.analyticsState.paymentLinks.paid||0),1)]),i("article",Oe,[t[17]||(t[17]=i("span",null,"Конверсия",-1)),i("strong",null,s(e.formatPercent(e.analyticsState.paymentLinks.conversionRate)),1)])]),i("section",Pe,[i("div",Ae,[i("div",null,[t[18]||(t[18]=i("h3",null,"Yandex Metrica",-1)),i("p",null,s(e.analyticsState.metrika?.enabled?"Включена":"Выключена")+" · "+s(e.analyticsState.metrika?.offlineImportEnabled?"offline import on":"offline import off"),1)])]),i("div",Ue,[i("article",_e,[t[19]||(t[19]=i("span",null,"Counter",-1)),i("strong",null,s(e.analyticsState.metrika?.counterConfigured?"OK":"Нет"),1)]),i("article",Re,[t[20]||(t[20]=i("span",null,"Pending",-1)),i("strong",null,s(e.analyticsState.metrika?.pending||0),1)]),i("article",De,[t[21]||(t[21]=i("span",null,"Sent",-1)),i("strong",null,s(e.analyticsState.metrika?.sent||0),1)]),i("article",Ee,[t[22]||(t[22]=i("span",null,"Failed",-1)),i("strong",null,s(e.analyticsState.metrika?.failed||0),1)]),i("article",Fe,[t[23]||(t[23]=i("span",null,"Skipped",-1)),i("strong",null,s(e.analyticsState.metrika?.skipped||0),1)])])]),i("section",Ve,[i("div",Le,[i("div",null,[t[24]||(t[24]=i("h3",null,"Менеджеры",-1)),i("p",null,s(e.analyticsState.managerRows.length)+" строк",1)])]),i("div",Ne,[(a(!0),o(p,null,m(e.analyticsState.managerRows,t=>(a(),o("article",{key:t.managerSubject,class:"list-card"},[i("div",ze,[i("strong",null,s(t.managerSubject),1),i("span",Me,s(t.paidOrders)+" paid",1)]),i("div",Ke,[i("span",null,"Заказов "+s(t.totalOrders),1),i("span",null,s(e.formatMoney(t.paidAmount)),1),i("span",null,"Комиссия "+s(e.formatMoney(t.commission)),1)])]))),128))])]),i("section",He,[i("div",Be,[i("div",null,[t[25]||(t[25]=i("h3",null,"Ссылки оплаты",-1)),i("p",null,s(e.analyticsState.paymentLinks.rows?.length||0)+" строк",1)])]),i("div",$e,[(a(!0),o(p,null,m(e.analyticsState.paymentLinks.rows||[],t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",je,[i("strong",null,s(t.managerSubject||t.managerEmail||"Менеджер"),1),i("span",{class:l(["pill",t.paid?"pill-positive":"pill-muted"])},s(t.paid?"paid":t.status),3)]),i("p",qe,s(t.orderId),1),i("div",Ge,[i("span",null,s(e.formatDateTime(t.sentAt||t.createdAt)),1)])]))),128))])])])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Ye={class:"pane-header"},Je={class:"search-field"},Xe={key:0,class:"empty-state"},We={key:1,class:"empty-state"},Ze={key:2,class:"card-list"},et=["onClick"],tt={class:"list-card-head"},nt={class:"pill pill-neutral"},at={class:"list-card-slug"},ot={key:0,class:"empty-detail"},lt={key:1,class:"detail-card"},it={class:"detail-header"},rt={key:0,class:"detail-subtitle"},st={class:"detail-header-actions"},dt=["disabled"],ct={class:"metrics-row"},ut={class:"metric-card"},pt={class:"form-grid"},mt={class:"ops-field ops-field-required"},bt={class:"ops-field ops-field-required"},ft={class:"ops-field"},yt={class:"sticky-actions detail-footer-actions"},vt=["disabled"],gt=["disabled"],ht={__name:"BrandsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Ye,[i("div",null,[t[8]||(t[8]=i("h2",null,"Бренды",-1)),i("p",null,s(e.brandState.items.length)+" записей",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateBrand&&e.startCreateBrand(...t))}," Новый бренд ")]),i("label",Je,[t[9]||(t[9]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.brandState.query=t),type:"search",placeholder:"Название или слаг"},null,512),[[f,e.brandState.query,void 0,{trim:!0}]])]),e.isTabLoading("brands")?(a(),o("div",Xe,[...t[10]||(t[10]=[i("strong",null,"Загружаю бренды",-1)])])):e.filteredBrands.length?(a(),o("div",Ze,[(a(!0),o(p,null,m(e.filteredBrands,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.brandState.selectedId===t.id&&!e.brandState.isCreating}]),onClick:n=>e.selectBrand(t.id)},[i("div",tt,[i("strong",null,s(t.name),1),i("span",nt,s(t.productCount)+" товаров",1)]),i("p",at,s(t.slug),1)],10,et))),128))])):(a(),o("div",We,[...t[11]||(t[11]=[i("strong",null,"Бренды не найдены",-1),i("span",null,"Измените поиск или создайте новую запись.",-1)])]))]),detail:u(()=>[e.brandState.isCreating||e.brandState.detail?(a(),o("section",lt,[i("header",it,[i("div",null,[t[13]||(t[13]=i("p",{class:"detail-kicker"},"Бренды",-1)),i("h2",null,s(e.brandState.isCreating?"Новый бренд":e.brandState.detail?.item?.name),1),e.brandState.detail?.item?.slug?(a(),o("p",rt,s(e.brandState.detail.item.slug),1)):d("v-if",!0)]),i("div",st,[e.brandForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteBrand&&e.deleteBrand(...t))}," Удалить ",8,dt)):d("v-if",!0)])]),i("form",{id:"storefront-ops-brand-form",class:"editor-form brand-editor",onSubmit:t[6]||(t[6]=v((...t)=>e.submitBrand&&e.submitBrand(...t),["prevent"]))},[i("div",ct,[i("article",ut,[t[14]||(t[14]=i("span",null,"Товаров у бренда",-1)),i("strong",null,s(e.brandState.detail?.item?.productCount||0),1)])]),i("div",pt,[i("label",mt,[t[15]||(t[15]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.brandForm.name=t),type:"text"},null,512),[[f,e.brandForm.name,void 0,{trim:!0}]])]),i("label",bt,[t[16]||(t[16]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.brandForm.slug=t),type:"text"},null,512),[[f,e.brandForm.slug,void 0,{trim:!0}]])])]),i("label",ft,[t[17]||(t[17]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.brandForm.description=t),rows:"6"},null,512),[[f,e.brandForm.description]])])],32),i("div",yt,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-brand-form",disabled:e.isSubmitting},s(e.brandForm.id?"Сохранить бренд":"Создать бренд"),9,vt),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[7]||(t[7]=(...t)=>e.resetBrandEditor&&e.resetBrandEditor(...t))}," Сбросить ",8,gt)])])):(a(),o("div",ot,[...t[12]||(t[12]=[i("strong",null,"Выберите бренд",-1),i("span",null,"Откройте карточку слева или создайте новую запись.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},kt={class:"pane-header"},St={class:"search-field"},wt={key:0,class:"inline-note"},Ct={key:1,class:"empty-state"},xt={key:2,class:"empty-state"},It={key:3,class:"card-list"},Tt=["onClick"],Ot={class:"list-card-head"},Pt={class:"list-card-slug"},At={class:"list-card-meta"},Ut={key:0,class:"list-card-footer"},_t={class:"overlay-chip"},Rt={key:0,class:"empty-detail"},Dt={key:1,class:"detail-card"},Et={class:"detail-header"},Ft={key:0,class:"detail-subtitle"},Vt={class:"detail-header-actions"},Lt=["disabled"],Nt={key:0,class:"inline-note"},zt={key:0,class:"metrics-row compact-metrics"},Mt={class:"metric-card"},Kt={class:"metric-card"},Ht={class:"metric-card"},Bt={class:"form-grid"},$t={class:"ops-field ops-field-required"},jt={class:"ops-field ops-field-required"},qt={class:"form-grid"},Gt={class:"ops-field"},Qt=["value"],Yt={class:"ops-field"},Jt={class:"position-control"},Xt=["disabled"],Wt=["disabled"],Zt={class:"ops-field ops-field-boolean"},en={class:"ops-toggle"},tn={class:"ops-field"},nn={class:"context-grid"},an={class:"media-inline-panel"},on={key:0,class:"category-image-preview"},ln=["src","alt"],rn={class:"ops-field"},sn=["disabled"],dn={key:1,class:"media-upload-list"},cn={class:"media-upload-main"},un=["value"],pn={key:1,class:"field-error"},mn=["onClick"],bn=["onClick"],fn={class:"merch-card"},yn={class:"merch-card-head"},vn={class:"definition-list"},gn={class:"sticky-actions sticky-actions-inline"},hn=["disabled"],kn=["disabled"],Sn={class:"sticky-actions detail-footer-actions"},wn=["disabled"],Cn=["disabled"],xn={__name:"CategoriesTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",kt,[i("div",null,[t[17]||(t[17]=i("h2",null,"Категории",-1)),i("p",null,s(e.categoryState.items.length)+" узлов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateCategory&&e.startCreateCategory(...t))}," Новая категория ")]),i("label",St,[t[18]||(t[18]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.categoryState.query=t),type:"search",placeholder:"Название, слаг, путь"},null,512),[[f,e.categoryState.query,void 0,{trim:!0}]])]),e.categoryState.overlayReadFailed?(a(),o("p",wt," Оверлеи категорий сейчас не читаются, но дерево каталога можно править. ")):d("v-if",!0),e.isTabLoading("categories")?(a(),o("div",Ct,[...t[19]||(t[19]=[i("strong",null,"Загружаю категории",-1)])])):e.filteredCategories.length?(a(),o("div",It,[(a(!0),o(p,null,m(e.filteredCategories,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.categoryState.selectedId===t.id&&!e.categoryState.isCreating}]),onClick:n=>e.selectCategory(t.id)},[i("div",Ot,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.isActive?"pill-positive":"pill-muted"])},s(t.isActive?"Активна":"Скрыта"),3)]),i("p",Pt,s(t.fullPath||t.slug),1),i("div",At,[i("span",null,"Уровень "+s(t.depth+1),1),i("span",null,"Позиция "+s(t.position),1)]),t.overlay?(a(),o("div",Ut,[i("span",_t,s(e.overlayStatusLabel(t.overlay.status)),1)])):d("v-if",!0)],10,Tt))),128))])):(a(),o("div",xt,[...t[20]||(t[20]=[i("strong",null,"Категории не найдены",-1),i("span",null,"Попробуйте другой запрос или создайте новую категорию.",-1)])]))]),detail:u(()=>[e.categoryState.isCreating||e.categoryState.detail?(a(),o("section",Dt,[i("header",Et,[i("div",null,[t[22]||(t[22]=i("p",{class:"detail-kicker"},"Категории",-1)),i("h2",null,s(e.categoryState.isCreating?"Новая категория":e.categoryState.detail?.item?.name),1),e.categoryState.detail?.item?.fullPath?(a(),o("p",Ft,s(e.categoryState.detail.item.fullPath),1)):d("v-if",!0)]),i("div",Vt,[e.categoryForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteCategory&&e.deleteCategory(...t))}," Удалить ",8,Lt)):d("v-if",!0)])]),e.categoryState.overlayReadFailed?(a(),o("div",Nt," Оверлей категории сейчас не читается. Таксономию можно редактировать без ограничений. ")):d("v-if",!0),i("form",{id:"storefront-ops-category-form",class:"editor-form category-editor",onSubmit:t[15]||(t[15]=v((...t)=>e.submitCategory&&e.submitCategory(...t),["prevent"]))},[e.categoryForm.id||e.categoryState.detail?.item?.fullPath?(a(),o("div",zt,[i("article",Mt,[t[23]||(t[23]=i("span",null,"Путь",-1)),i("strong",null,s(e.categoryState.detail?.item?.fullPath||e.categoryForm.slug||"Не задан"),1)]),i("article",Kt,[t[24]||(t[24]=i("span",null,"Уровень",-1)),i("strong",null,s(Number(e.categoryState.detail?.item?.depth||0)+1),1)]),i("article",Ht,[t[25]||(t[25]=i("span",null,"Позиция",-1)),i("strong",null,s(e.categoryForm.position),1)])])):d("v-if",!0),i("div",Bt,[i("label",$t,[t[26]||(t[26]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.categoryForm.name=t),type:"text"},null,512),[[f,e.categoryForm.name,void 0,{trim:!0}]])]),i("label",jt,[t[27]||(t[27]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.categoryForm.slug=t),type:"text"},null,512),[[f,e.categoryForm.slug,void 0,{trim:!0}]])])]),i("div",qt,[i("label",Gt,[t[29]||(t[29]=i("span",null,"Родительская категория",-1)),b(i("select",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.categoryForm.parentId=t)},[t[28]||(t[28]=i("option",{value:""},"Без родителя",-1)),(a(!0),o(p,null,m(e.availableParentOptions,t=>(a(),o("option",{key:t.id,value:t.id},s(e.formatCategoryLabel(t)),9,Qt))),128))],512),[[g,e.categoryForm.parentId]])]),i("div",Yt,[t[30]||(t[30]=i("span",null,"Позиция",-1)),i("div",Jt,[i("button",{class:"button button-secondary button-small",type:"button",disabled:e.isSubmitting||Number(e.categoryForm.position||0)<=0,onClick:t[6]||(t[6]=t=>e.adjustCategoryPosition(-1))}," Раньше ",8,Xt),b(i("input",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.categoryForm.position=t),type:"number",min:"0",step:"1","aria-describedby":"category-position-help"},null,512),[[f,e.categoryForm.position,void 0,{number:!0}]]),i("button",{class:"button button-secondary button-small",type:"button",disabled:e.isSubmitting,onClick:t[8]||(t[8]=t=>e.adjustCategoryPosition(1))}," Позже ",8,Wt)]),t[31]||(t[31]=i("small",{id:"category-position-help",class:"field-help"}," Меньшее число поднимает категорию выше среди категорий того же родителя. ",-1))])]),i("label",Zt,[t[32]||(t[32]=i("span",null,"Витрина",-1)),i("label",en,[b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.categoryForm.isActive=t),type:"checkbox"},null,512),[[h,e.categoryForm.isActive]]),i("span",null,s(e.categoryForm.isActive?"Категория видна":"Категория скрыта"),1)])]),i("label",tn,[t[33]||(t[33]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.categoryForm.description=t),rows:"5"},null,512),[[f,e.categoryForm.description]])]),i("div",nn,[i("section",an,[t[35]||(t[35]=i("div",null,[i("h3",null,"Изображение категории"),i("p",null,"Файл хранится в каталожных медиа и не зависит от файловой библиотеки CMS.")],-1)),e.categoryState.detail?.item?.imageUrl?(a(),o("div",on,[i("img",{src:e.categoryState.detail.item.imageUrl,alt:e.categoryState.detail.item.name},null,8,ln)])):d("v-if",!0),i("label",rn,[t[34]||(t[34]=i("span",null,"Файл изображения",-1)),i("input",{type:"file",accept:"image/*",onChange:t[11]||(t[11]=(...t)=>e.onCategoryFileSelected&&e.onCategoryFileSelected(...t))},null,32)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting||!e.categoryImageFile,onClick:t[12]||(t[12]=(...t)=>e.uploadCategoryImage&&e.uploadCategoryImage(...t))}," Загрузить изображение ",8,sn),"CATEGORY"===e.mediaUploadState.targetType&&e.mediaUploadState.items.length?(a(),o("div",dn,[(a(!0),o(p,null,m(e.mediaUploadState.items,t=>(a(),o("article",{key:t.id,class:"media-upload-row"},[i("div",cn,[i("strong",null,s(t.filename),1),i("span",null,s(e.mediaUploadProgressLabel(t)),1),"UPLOADING"===t.status?(a(),o("progress",{key:0,value:Math.round(100*Number(t.progress||0)),max:"100"},null,8,un)):d("v-if",!0),t.error?(a(),o("small",pn,s(t.error),1)):d("v-if",!0)]),"FAILED"===t.status?(a(),o("button",{key:0,class:"button button-secondary button-small",type:"button",onClick:n=>e.retryMediaUpload(t.id)}," Повторить ",8,mn)):d("v-if",!0),["UPLOADING","QUEUED","FAILED"].includes(t.status)?(a(),o("button",{key:1,class:"button button-danger button-small",type:"button",onClick:n=>e.abortMediaUpload(t.id)}," Отменить ",8,bn)):d("v-if",!0)]))),128))])):d("v-if",!0)]),i("article",fn,[i("div",yn,[t[36]||(t[36]=i("div",null,[i("h3",null,"Витринный оверлей"),i("p",null,"Маркетинговый слой для hero, badge и редакционных блоков категории.")],-1)),e.categoryOverlayInfo?(a(),o("span",{key:0,class:l(["pill",e.categoryOverlayInfo.exists?"pill-positive":"pill-neutral"])},s(e.categoryOverlayInfo.exists?e.overlayStatusLabel(e.categoryOverlayInfo.status):"Не создан"),3)):d("v-if",!0)]),i("dl",vn,[i("div",null,[t[37]||(t[37]=i("dt",null,"Ключ",-1)),i("dd",null,s(e.categoryOverlayInfo?.key||e.categoryForm.slug||"Сначала сохраните слаг категории"),1)]),i("div",null,[t[38]||(t[38]=i("dt",null,"Маркетинговый заголовок",-1)),i("dd",null,s(e.categoryOverlayInfo?.marketingTitle||"Не задан"),1)]),i("div",null,[t[39]||(t[39]=i("dt",null,"Badge",-1)),i("dd",null,s(e.categoryOverlayInfo?.badgeText||"Не задан"),1)])]),i("div",gn,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[13]||(t[13]=t=>e.openOrCreateOverlay("category"))},s(e.categoryOverlayInfo?.exists?"Открыть оверлей":"Создать оверлей"),9,hn),i("button",{class:"button button-secondary",type:"button",disabled:!e.accessState.previewBaseUrl||!e.categoryForm.slug,onClick:t[14]||(t[14]=t=>e.openStorefrontPreview("category"))}," Предпросмотр витрины ",8,kn)])])])],32),i("div",Sn,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-category-form",disabled:e.isSubmitting},s(e.categoryForm.id?"Сохранить категорию":"Создать категорию"),9,wn),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[16]||(t[16]=(...t)=>e.resetCategoryEditor&&e.resetCategoryEditor(...t))}," Сбросить ",8,Cn)])])):(a(),o("div",Rt,[...t[21]||(t[21]=[i("strong",null,"Выберите категорию",-1),i("span",null,"Откройте узел дерева слева или создайте новую категорию.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))};E("\n.pane-header-actions[data-v-887be8ee] {\n  display: flex;\n  flex-wrap: wrap;\n  gap: 8px;\n  justify-content: flex-end;\n}\n",{});var In=(e,t)=>{const n=e.__vccOpts||e;for(const[e,a]of t)n[e]=a;return n};const Tn={class:"pane-header"},On={class:"pane-header-actions"},Pn=["disabled"],An=["disabled"],Un={class:"home-add-section"},_n={class:"ops-field"},Rn=["value"],Dn={key:0,class:"empty-state"},En={key:1,class:"empty-state"},Fn={key:2,class:"card-list home-outline"},Vn=["onClick","onKeydown"],Ln={class:"list-card-head"},Nn={class:"pill pill-neutral"},zn={class:"list-card-slug"},Mn={class:"list-card-meta"},Kn={class:"detail-header-actions home-outline-actions"},Hn=["disabled","onClick"],Bn=["disabled","onClick"],$n={__name:"HomeSectionOutline",props:{sections:{type:Array,default:()=>[]},selectedIndex:{type:Number,default:0},preset:{type:String,default:""},presets:{type:Array,default:()=>[]},loading:{type:Boolean,default:!1},isSubmitting:{type:Boolean,default:!1},dirty:{type:Boolean,default:!1},saveLabel:{type:String,default:"Сохранить"},canPreview:{type:Boolean,default:!1},statusLabel:{type:Function,required:!0},sectionLabel:{type:Function,required:!0},sectionTypeLabel:{type:Function,required:!0}},emits:["update:preset","save","preview","add","select","move"],setup(e,{emit:t}){const n=e,r=t,d=k({get:()=>n.preset,set:e=>r("update:preset",e)});return(t,n)=>(a(),o(p,null,[i("div",Tn,[i("div",null,[n[4]||(n[4]=i("h2",null,"Главная",-1)),i("p",null,s(e.sections.length)+" секций · "+s(e.dirty?"есть несохранённые изменения":"всё сохранено"),1)]),i("div",On,[i("button",{class:"button button-secondary",type:"button",disabled:!e.canPreview,onClick:n[0]||(n[0]=e=>t.$emit("preview"))}," Предпросмотр ",8,Pn),i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.loading||!e.dirty,onClick:n[1]||(n[1]=e=>t.$emit("save"))},s(e.saveLabel),9,An)])]),i("div",Un,[i("label",_n,[n[5]||(n[5]=i("span",null,"Добавить секцию",-1)),b(i("select",{"onUpdate:modelValue":n[2]||(n[2]=e=>d.value=e)},[(a(!0),o(p,null,m(e.presets,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Rn))),128))],512),[[g,d.value]])]),i("button",{class:"button button-secondary",type:"button",onClick:n[3]||(n[3]=e=>t.$emit("add"))}," Добавить ")]),e.loading?(a(),o("div",Dn,[...n[6]||(n[6]=[i("strong",null,"Загружаю главную",-1)])])):e.sections.length?(a(),o("div",Fn,[(a(!0),o(p,null,m(e.sections,(n,r)=>(a(),o("article",{key:n.clientId||n.id||n.migrationKey||n.sort,role:"button",tabindex:"0",class:l(["list-card",{active:e.selectedIndex===r}]),onClick:e=>t.$emit("select",r),onKeydown:[y(v(e=>t.$emit("select",r),["prevent"]),["enter"]),y(v(e=>t.$emit("select",r),["prevent"]),["space"])]},[i("div",Ln,[i("strong",null,s(e.sectionLabel(n)),1),i("span",Nn,s(e.sectionTypeLabel(n.sectionType)),1)]),i("p",zn,s(n.title||n.anchorId||"Без заголовка"),1),i("div",Mn,[i("span",null,s(e.statusLabel(n.status)),1),i("span",null,s(n.items.length)+" элементов",1),i("span",null,"Позиция "+s(r+1),1)]),i("div",Kn,[i("button",{class:"button button-secondary button-small",type:"button",disabled:0===r,onClick:v(e=>t.$emit("move",r,-1),["stop"])}," ↑ ",8,Hn),i("button",{class:"button button-secondary button-small",type:"button",disabled:r===e.sections.length-1,onClick:v(e=>t.$emit("move",r,1),["stop"])}," ↓ ",8,Bn)])],42,Vn))),128))])):(a(),o("div",En,[...n[7]||(n[7]=[i("strong",null,"Секции не найдены",-1),i("span",null,"Проверьте, что начальный контент Directus импортирован.",-1)])]))],64))}};var jn=In($n,[["__scopeId","data-v-887be8ee"]]);const qn={class:"detail-header"},Gn={class:"detail-header-actions"},Qn=["disabled"],Yn={key:0,class:"empty-state"},Jn={class:"section-block"},Xn={class:"form-grid"},Wn={class:"ops-field"},Zn=["value"],ea={class:"ops-field"},ta={class:"ops-field"},na={class:"ops-field"},aa={class:"ops-field full-span"},oa={class:"section-block"},la={class:"form-grid"},ia={class:"ops-field"},ra=["value"],sa={class:"ops-field"},da={class:"ops-field full-span"},ca={key:0,class:"empty-inline"},ua=["data-home-section-index"],pa={class:"section-head"},ma={class:"detail-header-actions"},ba=["disabled","onClick"],fa=["disabled","onClick"],ya=["onClick"],va=["onClick"],ga=["onClick"],ha={class:"form-grid"},ka={class:"ops-field"},Sa=["onUpdate:modelValue"],wa=["value"],Ca={class:"ops-field"},xa=["onUpdate:modelValue"],Ia={class:"ops-field"},Ta=["onUpdate:modelValue"],Oa={class:"ops-field"},Pa=["onUpdate:modelValue"],Aa={class:"ops-field"},Ua=["onUpdate:modelValue"],_a={class:"ops-field"},Ra=["onUpdate:modelValue"],Da={class:"ops-field"},Ea=["onUpdate:modelValue"],Fa={class:"ops-field"},Va=["onUpdate:modelValue"],La={class:"ops-field"},Na=["onUpdate:modelValue"],za={class:"ops-field"},Ma=["onUpdate:modelValue"],Ka={class:"ops-field"},Ha=["onUpdate:modelValue"],Ba={class:"ops-field"},$a=["onUpdate:modelValue"],ja=["value"],qa={class:"ops-field"},Ga=["onUpdate:modelValue"],Qa=["value"],Ya={class:"ops-field full-span"},Ja=["onUpdate:modelValue"],Xa={key:0,class:"selector-card"},Wa={key:0,class:"list-card"},Za={class:"list-card-head"},eo=["src","alt"],to={class:"list-card-slug"},no={key:1,class:"empty-inline"},ao={class:"form-grid"},oo={class:"ops-field"},lo=["onUpdate:modelValue","onKeyup"],io={class:"ops-field"},ro=["onUpdate:modelValue"],so=["value"],co={class:"ops-field"},uo=["onClick"],po={class:"ops-field"},mo=["disabled","onClick"],bo={class:"ops-field"},fo=["disabled","onClick"],yo={key:1,class:"selector-card"},vo={key:0,class:"card-list"},go={class:"list-card-head"},ho=["src","alt"],ko={class:"list-card-slug"},So={class:"form-grid"},wo={class:"ops-field"},Co=["onUpdate:modelValue"],xo=["value"],Io={class:"ops-field"},To=["onUpdate:modelValue"],Oo={class:"ops-field"},Po=["onUpdate:modelValue"],Ao={class:"ops-field"},Uo=["onUpdate:modelValue"],_o={class:"detail-header-actions"},Ro=["disabled","onClick"],Do=["disabled","onClick"],Eo=["onClick"],Fo={key:1,class:"empty-inline"},Vo={class:"form-grid"},Lo={class:"ops-field"},No={class:"ops-field"},zo=["value"],Mo={class:"ops-field"},Ko={class:"ops-field"},Ho=["disabled","onClick"],Bo={key:2,class:"selector-card"},$o={class:"selector-card-head"},jo={key:0,class:"card-list"},qo={class:"list-card-head"},Go=["src","alt"],Qo={class:"list-card-slug"},Yo={class:"form-grid"},Jo={class:"ops-field"},Xo=["onUpdate:modelValue"],Wo=["value"],Zo={class:"ops-field"},el=["onUpdate:modelValue"],tl={class:"ops-field"},nl=["onUpdate:modelValue"],al={class:"ops-field"},ol=["onUpdate:modelValue"],ll={class:"detail-header-actions"},il=["disabled","onClick"],rl=["disabled","onClick"],sl=["onClick"],dl={key:1,class:"empty-inline"},cl={class:"form-grid"},ul={class:"ops-field"},pl=["onUpdate:modelValue","onKeyup"],ml={class:"ops-field"},bl=["onUpdate:modelValue","onFocus"],fl=["value"],yl={class:"ops-field"},vl=["onClick"],gl={class:"ops-field"},hl=["onClick"],kl={key:3,class:"selector-card"},Sl={class:"selector-card-head"},wl={key:0,class:"card-list"},Cl={class:"list-card-head"},xl={class:"list-card-slug"},Il={class:"form-grid"},Tl={class:"ops-field"},Ol=["onUpdate:modelValue"],Pl=["value"],Al={class:"ops-field"},Ul=["onUpdate:modelValue"],_l={class:"detail-header-actions"},Rl=["disabled","onClick"],Dl=["disabled","onClick"],El=["onClick"],Fl=["onClick"],Vl={key:1,class:"empty-inline"},Ll={class:"form-grid"},Nl={class:"ops-field"},zl=["value"],Ml={class:"ops-field"},Kl=["disabled","onClick"],Hl={key:2,class:"section-block section-block-compact"},Bl={class:"section-head"},$l={class:"detail-header-actions"},jl=["disabled"],ql={class:"form-grid"},Gl={class:"ops-field"},Ql=["value"],Yl={class:"ops-field"},Jl={class:"ops-field"},Xl={class:"ops-field"},Wl=["value"],Zl={class:"ops-field"},ei=["value"],ti={class:"ops-field"},ni={class:"ops-field"},ai=["value"],oi={class:"ops-field"},li={class:"ops-field"},ii={class:"ops-field full-span"},ri={class:"form-grid"},si={class:"ops-field"},di={class:"ops-field"},ci=["value"],ui={class:"ops-field"},pi={class:"ops-field"},mi=["disabled"],bi={class:"form-grid"},fi={class:"ops-field"},yi={class:"ops-field"},vi=["value"],gi={class:"ops-field"},hi={class:"ops-field"},ki=["disabled"],Si={key:0,class:"card-list"},wi={class:"list-card-head"},Ci={class:"pill pill-neutral"},xi={class:"list-card-slug"},Ii={class:"form-grid"},Ti={class:"ops-field"},Oi=["onUpdate:modelValue"],Pi={class:"ops-field"},Ai=["onUpdate:modelValue"],Ui=["value"],_i={class:"detail-header-actions"},Ri=["disabled","onClick"],Di=["disabled","onClick"],Ei=["onClick"],Fi={key:1,class:"empty-inline"},Vi={key:4,class:"selector-card"},Li={class:"selector-card-head"},Ni=["onClick"],zi={key:0,class:"card-list"},Mi={class:"list-card-head"},Ki={class:"pill pill-neutral"},Hi={class:"form-grid"},Bi={class:"ops-field"},$i=["onUpdate:modelValue"],ji=["value"],qi={class:"ops-field"},Gi=["onUpdate:modelValue"],Qi={class:"ops-field"},Yi=["onUpdate:modelValue"],Ji={class:"ops-field"},Xi=["onUpdate:modelValue"],Wi={class:"ops-field full-span"},Zi=["onUpdate:modelValue"],er={class:"detail-header-actions"},tr=["disabled","onClick"],nr=["disabled","onClick"],ar=["onClick"],or={key:1,class:"empty-inline"},lr={key:2,class:"sticky-actions detail-footer-actions"},ir=["disabled"],rr={__name:"HomeTab",props:M,setup(e){const t=e,n=S(null),r=S(null);async function h(e){t.selectHomeSection(e),await C();const a=r.value||n.value;if(!a)return;const o=n.value?.querySelector(`[data-home-section-index="${e}"]`);if(!o)return;const l=a.getBoundingClientRect(),i=o.getBoundingClientRect().top-l.top+a.scrollTop-12;a.scrollTo({top:Math.max(0,i),behavior:"smooth"})}return(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[w(jn,{preset:e.homeState.presetToAdd,"onUpdate:preset":t[0]||(t[0]=t=>e.homeState.presetToAdd=t),sections:e.homeForm.sections,"selected-index":e.homeState.selectedSectionIndex,presets:e.HOME_SECTION_PRESETS,loading:e.isTabLoading("home"),"is-submitting":e.isSubmitting,dirty:e.homeDirty,"save-label":e.homeSaveLabel,"status-label":e.homeStatusLabel,"section-label":e.homeSectionLabel,"section-type-label":e.homeSectionTypeLabel,"can-preview":Boolean(e.accessState.previewBaseUrl),onSave:e.saveHomeContent,onPreview:t[1]||(t[1]=t=>e.openStorefrontPreview("page")),onAdd:e.addHomeSectionPreset,onSelect:h,onMove:e.moveHomeSection},null,8,["preset","sections","selected-index","presets","loading","is-submitting","dirty","save-label","status-label","section-label","section-type-label","can-preview","onSave","onAdd","onMove"])]),detail:u(()=>[i("section",{ref_key:"homeDetailCard",ref:n,class:"detail-card"},[i("header",qn,[t[40]||(t[40]=i("div",null,[i("p",{class:"detail-kicker"},"Главная"),i("h2",null,"Контент главной страницы"),i("p",{class:"detail-subtitle"},"Hero, категории, подборки и повторяемые карточки редактируются здесь без сырых ключей Directus.")],-1)),i("div",Gn,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting||e.loading.home||!e.homeDirty,onClick:t[2]||(t[2]=(...t)=>e.saveHomeContent&&e.saveHomeContent(...t))},s(e.homeSaveLabel),9,Qn)])]),e.isTabLoading("home")?(a(),o("div",Yn,[...t[41]||(t[41]=[i("strong",null,"Загружаю контент главной",-1)])])):(a(),o("form",{key:1,id:"storefront-ops-home-form",ref_key:"homeDetailScroller",ref:r,class:"editor-form",onSubmit:t[39]||(t[39]=v((...t)=>e.saveHomeContent&&e.saveHomeContent(...t),["prevent"]))},[i("section",Jn,[t[47]||(t[47]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Страница"),i("p",null,"Общие заголовки и SEO для маршрута /.")])],-1)),i("div",Xn,[i("label",Wn,[t[42]||(t[42]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.homeForm.page.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Zn))),128))],512),[[g,e.homeForm.page.status]])]),i("label",ea,[t[43]||(t[43]=i("span",null,"Заголовок страницы",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.homeForm.page.title=t),type:"text"},null,512),[[f,e.homeForm.page.title,void 0,{trim:!0}]])]),i("label",ta,[t[44]||(t[44]=i("span",null,"SEO title",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.homeForm.page.seoTitle=t),type:"text"},null,512),[[f,e.homeForm.page.seoTitle,void 0,{trim:!0}]])]),i("label",na,[t[45]||(t[45]=i("span",null,"SEO description",-1)),b(i("textarea",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.homeForm.page.seoDescription=t),rows:"3"},null,512),[[f,e.homeForm.page.seoDescription,void 0,{trim:!0}]])]),i("label",aa,[t[46]||(t[46]=i("span",null,"Краткое описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.homeForm.page.summary=t),rows:"3"},null,512),[[f,e.homeForm.page.summary,void 0,{trim:!0}]])])])]),i("section",oa,[t[51]||(t[51]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Баннер в шапке"),i("p",null,"Текст верхней плашки сайта. Если текст пустой или статус не опубликован, плашка не показывается.")])],-1)),i("div",la,[i("label",ia,[t[48]||(t[48]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[8]||(t[8]=t=>e.homeForm.announcementBanner.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ra))),128))],512),[[g,e.homeForm.announcementBanner.status]])]),i("label",sa,[t[49]||(t[49]=i("span",null,"Название для редактора",-1)),b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.homeForm.announcementBanner.internalName=t),type:"text"},null,512),[[f,e.homeForm.announcementBanner.internalName,void 0,{trim:!0}]])]),i("label",da,[t[50]||(t[50]=i("span",null,"Текст баннера",-1)),b(i("input",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.homeForm.announcementBanner.shortText=t),type:"text",placeholder:"Например: Новые условия доставки опубликованы"},null,512),[[f,e.homeForm.announcementBanner.shortText,void 0,{trim:!0}]])])])]),e.selectedHomeSection?d("v-if",!0):(a(),o("div",ca,"Выберите секцию или добавьте новый блок.")),(a(!0),o(p,null,m(e.selectedHomeSectionList,(n,r)=>(a(),o("section",{key:n.clientId||n.id||n.migrationKey||n.sort,class:l(["section-block",{"section-block-active":e.homeForm.sections[r]===e.selectedHomeSection}]),"data-home-section-index":r},[i("div",pa,[i("div",null,[i("h3",null,s(e.homeSectionLabel(n)),1),i("p",null,s(e.homeSectionTypeLabel(n.sectionType))+" · "+s(e.homeStatusLabel(n.status))+" · "+s(r+1)+" из "+s(e.homeForm.sections.length),1)]),i("div",ma,[i("button",{class:"button button-secondary button-small",type:"button",disabled:0===r,onClick:t=>e.moveHomeSection(r,-1)}," ↑ ",8,ba),i("button",{class:"button button-secondary button-small",type:"button",disabled:r===e.homeForm.sections.length-1,onClick:t=>e.moveHomeSection(r,1)}," ↓ ",8,fa),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>{e.selectHomeSection(r),e.duplicateHomeSection(n)}}," Дублировать ",8,ya),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>e.archiveHomeSection(n)},s("archived"===n.status?"Вернуть":"Архив"),9,va),n.id?d("v-if",!0):(a(),o("button",{key:0,class:"button button-danger button-small",type:"button",onClick:t=>e.removeHomeSection(r)}," Убрать ",8,ga))])]),i("div",ha,[i("label",ka,[t[52]||(t[52]=i("span",null,"Статус секции",-1)),b(i("select",{"onUpdate:modelValue":e=>n.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,wa))),128))],8,Sa),[[g,n.status]])]),i("label",Ca,[t[53]||(t[53]=i("span",null,"Название для редактора",-1)),b(i("input",{"onUpdate:modelValue":e=>n.internalName=e,type:"text"},null,8,xa),[[f,n.internalName,void 0,{trim:!0}]])]),i("label",Ia,[t[54]||(t[54]=i("span",null,"Малый заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.eyebrow=e,type:"text"},null,8,Ta),[[f,n.eyebrow,void 0,{trim:!0}]])]),i("label",Oa,[t[55]||(t[55]=i("span",null,"Заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.title=e,type:"text"},null,8,Pa),[[f,n.title,void 0,{trim:!0}]])]),i("label",Aa,[t[56]||(t[56]=i("span",null,"Акцент hero",-1)),b(i("input",{"onUpdate:modelValue":e=>n.accent=e,type:"text"},null,8,Ua),[[f,n.accent,void 0,{trim:!0}]])]),i("label",_a,[t[57]||(t[57]=i("span",null,"Порядок",-1)),b(i("input",{"onUpdate:modelValue":e=>n.sort=e,type:"number",min:"1"},null,8,Ra),[[f,n.sort,void 0,{number:!0}]])]),i("label",Da,[t[58]||(t[58]=i("span",null,"Якорь",-1)),b(i("input",{"onUpdate:modelValue":e=>n.anchorId=e,type:"text",placeholder:"home-products"},null,8,Ea),[[f,n.anchorId,void 0,{trim:!0}]])]),i("label",Fa,[t[59]||(t[59]=i("span",null,"Основная кнопка",-1)),b(i("input",{"onUpdate:modelValue":e=>n.primaryCtaLabel=e,type:"text"},null,8,Va),[[f,n.primaryCtaLabel,void 0,{trim:!0}]])]),i("label",La,[t[60]||(t[60]=i("span",null,"Ссылка основной кнопки",-1)),b(i("input",{"onUpdate:modelValue":e=>n.primaryCtaUrl=e,type:"text",placeholder:"/catalog"},null,8,Na),[[f,n.primaryCtaUrl,void 0,{trim:!0}]])]),i("label",za,[t[61]||(t[61]=i("span",null,"Вторичная кнопка",-1)),b(i("input",{"onUpdate:modelValue":e=>n.secondaryCtaLabel=e,type:"text"},null,8,Ma),[[f,n.secondaryCtaLabel,void 0,{trim:!0}]])]),i("label",Ka,[t[62]||(t[62]=i("span",null,"Ссылка вторичной кнопки",-1)),b(i("input",{"onUpdate:modelValue":e=>n.secondaryCtaUrl=e,type:"text"},null,8,Ha),[[f,n.secondaryCtaUrl,void 0,{trim:!0}]])]),i("label",Ba,[t[63]||(t[63]=i("span",null,"Вариант стиля",-1)),b(i("select",{"onUpdate:modelValue":e=>n.styleVariant=e},[(a(!0),o(p,null,m(e.HOME_STYLE_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ja))),128))],8,$a),[[g,n.styleVariant]])]),i("label",qa,[t[64]||(t[64]=i("span",null,"Вариант макета",-1)),b(i("select",{"onUpdate:modelValue":e=>n.layoutVariant=e},[(a(!0),o(p,null,m(e.HOME_LAYOUT_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Qa))),128))],8,Ga),[[g,n.layoutVariant]])]),i("label",Ya,[t[65]||(t[65]=i("span",null,"Текст блока",-1)),b(i("textarea",{"onUpdate:modelValue":e=>n.body=e,rows:"4"},null,8,Ja),[[f,n.body,void 0,{trim:!0}]])])]),"hero"===n.sectionType?(a(),o("section",Xa,[t[73]||(t[73]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Товар под фото"),i("p",null,"Выберите товар для кнопки «Выбор недели» под hero-фотографией.")])],-1)),n.featuredProductKey?(a(),o("article",Wa,[i("div",Za,[i("strong",null,s(e.homeProductLabel(n.featuredProductKey)),1),t[66]||(t[66]=i("span",{class:"pill pill-neutral"},"Выбор недели",-1))]),e.homeProductImage(n.featuredProductKey)?(a(),o("img",{key:0,src:e.homeProductImage(n.featuredProductKey),alt:e.homeProductLabel(n.featuredProductKey),class:"home-reference-thumb"},null,8,eo)):d("v-if",!0),i("p",to,s(e.homeProductMeta(n.featuredProductKey)),1)])):(a(),o("div",no,"Товар для hero пока не выбран.")),i("div",ao,[i("label",oo,[t[67]||(t[67]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":e=>n.featuredProductQuery=e,type:"search",placeholder:"Название, бренд, категория",onKeyup:y(t=>e.searchHomeHeroProducts(n),["enter"])},null,40,lo),[[f,n.featuredProductQuery,void 0,{trim:!0}]])]),i("label",io,[t[69]||(t[69]=i("span",null,"Выбрать товар",-1)),b(i("select",{"onUpdate:modelValue":e=>n.featuredProductToAdd=e},[t[68]||(t[68]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredHomeFeaturedProductOptions(n),e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,so))),128))],8,ro),[[g,n.featuredProductToAdd]])]),i("div",co,[t[70]||(t[70]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.searchHomeHeroProducts(n)}," Найти ",8,uo)]),i("div",po,[t[71]||(t[71]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!n.featuredProductToAdd,onClick:t=>e.setHomeHeroFeaturedProduct(n)}," Выбрать ",8,mo)]),i("div",bo,[t[72]||(t[72]=i("span",null," ",-1)),i("button",{class:"button button-danger",type:"button",disabled:!n.featuredProductKey,onClick:t=>e.clearHomeHeroFeaturedProduct(n)}," Убрать ",8,fo)])])])):d("v-if",!0),"category_reference_list"===n.sectionType?(a(),o("section",yo,[t[83]||(t[83]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Категории на главной"),i("p",null,"Выберите реальные категории backend-каталога. Публичное название берётся из категории, если поле «Название на карточке» пустое.")])],-1)),n.items.length?(a(),o("div",vo,[(a(!0),o(p,null,m(n.items,(r,c)=>(a(),o("article",{key:r.id||r.referenceKey,class:"list-card"},[i("div",go,[i("strong",null,s(e.homeCategoryLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),e.homeCategoryImage(r.referenceKey)?(a(),o("img",{key:0,src:e.homeCategoryImage(r.referenceKey),alt:e.homeCategoryLabel(r.referenceKey),class:"home-reference-thumb"},null,8,ho)):d("v-if",!0),i("p",ko,s(e.homeCategoryMeta(r.referenceKey)),1),i("div",So,[i("label",wo,[t[74]||(t[74]=i("span",null,"Статус карточки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,xo))),128))],8,Co),[[g,r.status]])]),i("label",Io,[t[75]||(t[75]=i("span",null,"Название на карточке",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из категории"},null,8,To),[[f,r.title,void 0,{trim:!0}]])]),i("label",Oo,[t[76]||(t[76]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>r.label=e,type:"text"},null,8,Po),[[f,r.label,void 0,{trim:!0}]])]),i("label",Ao,[t[77]||(t[77]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>r.description=e,rows:"2"},null,8,Uo),[[f,r.description,void 0,{trim:!0}]])])]),i("div",_o,[i("button",{class:"button button-secondary",type:"button",disabled:0===c,onClick:t=>e.moveHomeItem(n,c,-1)}," ↑ ",8,Ro),i("button",{class:"button button-secondary",type:"button",disabled:c===n.items.length-1,onClick:t=>e.moveHomeItem(n,c,1)}," ↓ ",8,Do),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,c)}," Убрать ",8,Eo)])]))),128))])):(a(),o("div",Fo,"Категории пока не выбраны.")),i("div",Vo,[i("label",Lo,[t[78]||(t[78]=i("span",null,"Поиск категории",-1)),b(i("input",{"onUpdate:modelValue":t[11]||(t[11]=t=>e.homeState.categoryQuery=t),type:"search",placeholder:"Название, slug или путь",onKeyup:t[12]||(t[12]=y((...t)=>e.searchHomeCategories&&e.searchHomeCategories(...t),["enter"]))},null,544),[[f,e.homeState.categoryQuery,void 0,{trim:!0}]])]),i("label",No,[t[80]||(t[80]=i("span",null,"Добавить категорию",-1)),b(i("select",{"onUpdate:modelValue":t[13]||(t[13]=t=>e.homeState.categoryToAdd=t)},[t[79]||(t[79]=i("option",{value:""},"Выберите категорию",-1)),(a(!0),o(p,null,m(e.filteredHomeCategoryOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.fullPath||e.slug),9,zo))),128))],512),[[g,e.homeState.categoryToAdd]])]),i("div",Mo,[t[81]||(t[81]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[14]||(t[14]=(...t)=>e.searchHomeCategories&&e.searchHomeCategories(...t))}," Найти ")]),i("div",Ko,[t[82]||(t[82]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.categoryToAdd,onClick:t=>e.addHomeCategory(n)}," Добавить ",8,Ho)])])])):"product_reference_list"===n.sectionType?(a(),o("section",Bo,[i("div",$o,[i("div",null,[i("h3",null,s("shop_the_look"===n.layoutVariant?"Shop the look":"Товары в секции"),1),t[84]||(t[84]=i("p",null,"Выберите реальные товары backend-каталога. На сайте используются название, цена и фото товара.",-1))])]),n.items.length?(a(),o("div",jo,[(a(!0),o(p,null,m(n.items,(r,c)=>(a(),o("article",{key:r.id||r.referenceKey||c,class:"list-card"},[i("div",qo,[i("strong",null,s(e.homeProductLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),e.homeProductImage(r.referenceKey)?(a(),o("img",{key:0,src:e.homeProductImage(r.referenceKey),alt:e.homeProductLabel(r.referenceKey),class:"home-reference-thumb"},null,8,Go)):d("v-if",!0),i("p",Qo,s(e.homeProductMeta(r.referenceKey)),1),i("div",Yo,[i("label",Jo,[t[85]||(t[85]=i("span",null,"Статус карточки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Wo))),128))],8,Xo),[[g,r.status]])]),i("label",Zo,[t[86]||(t[86]=i("span",null,"Название на карточке",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из товара"},null,8,el),[[f,r.title,void 0,{trim:!0}]])]),i("label",tl,[t[87]||(t[87]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>r.label=e,type:"text"},null,8,nl),[[f,r.label,void 0,{trim:!0}]])]),i("label",al,[t[88]||(t[88]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>r.description=e,rows:"2"},null,8,ol),[[f,r.description,void 0,{trim:!0}]])])]),i("div",ll,[i("button",{class:"button button-secondary",type:"button",disabled:0===c,onClick:t=>e.moveHomeItem(n,c,-1)}," ↑ ",8,il),i("button",{class:"button button-secondary",type:"button",disabled:c===n.items.length-1,onClick:t=>e.moveHomeItem(n,c,1)}," ↓ ",8,rl),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,c)}," Убрать ",8,sl)])]))),128))])):(a(),o("div",dl,"Товары пока не выбраны.")),i("div",cl,[i("label",ul,[t[89]||(t[89]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":e=>n.productQuery=e,type:"search",placeholder:"Название, бренд, категория",onKeyup:y(t=>e.searchHomeProducts(n),["enter"])},null,40,pl),[[f,n.productQuery,void 0,{trim:!0}]])]),i("label",ml,[t[91]||(t[91]=i("span",null,"Добавить товар",-1)),b(i("select",{"onUpdate:modelValue":e=>n.productToAdd=e,onFocus:t=>e.ensureHomeProductOptions(n)},[t[90]||(t[90]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredHomeProductOptions(n),e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,fl))),128))],40,bl),[[g,n.productToAdd]])]),i("div",yl,[t[92]||(t[92]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.searchHomeProducts(n)}," Найти ",8,vl)]),i("div",gl,[t[93]||(t[93]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.addHomeProduct(n)}," Добавить ",8,hl)])])])):"collection_teaser"===n.sectionType?(a(),o("section",kl,[i("div",Sl,[t[94]||(t[94]=i("div",null,[i("h3",null,"Витринные подборки"),i("p",null,"Подключите reusable-подборки или создайте гибридную подборку с ручными товарами и backend-правилом.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[15]||(t[15]=(...t)=>e.startCreateHomeCollection&&e.startCreateHomeCollection(...t))}," Новая подборка ")]),n.items.length?(a(),o("div",wl,[(a(!0),o(p,null,m(n.items,(r,d)=>(a(),o("article",{key:r.clientId||r.id||r.referenceKey||d,class:"list-card"},[i("div",Cl,[i("strong",null,s(e.homeCollectionLabel(r.referenceKey)),1),i("span",{class:l(["pill","published"===r.status?"pill-positive":"pill-muted"])},s(e.homeStatusLabel(r.status)),3)]),i("p",xl,s(e.homeCollectionMeta(r.referenceKey)),1),i("div",Il,[i("label",Tl,[t[95]||(t[95]=i("span",null,"Статус ссылки",-1)),b(i("select",{"onUpdate:modelValue":e=>r.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Pl))),128))],8,Ol),[[g,r.status]])]),i("label",Al,[t[96]||(t[96]=i("span",null,"Заголовок секции",-1)),b(i("input",{"onUpdate:modelValue":e=>r.title=e,type:"text",placeholder:"Оставьте пустым, чтобы взять из подборки"},null,8,Ul),[[f,r.title,void 0,{trim:!0}]])])]),i("div",_l,[i("button",{class:"button button-secondary",type:"button",disabled:0===d,onClick:t=>e.moveHomeItem(n,d,-1)}," ↑ ",8,Rl),i("button",{class:"button button-secondary",type:"button",disabled:d===n.items.length-1,onClick:t=>e.moveHomeItem(n,d,1)}," ↓ ",8,Dl),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.editHomeCollection(r.referenceKey)}," Редактировать подборку ",8,El),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,d)}," Убрать ",8,Fl)])]))),128))])):(a(),o("div",Vl,"Подборки пока не выбраны.")),i("div",Ll,[i("label",Nl,[t[98]||(t[98]=i("span",null,"Добавить подборку",-1)),b(i("select",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.homeState.collectionToAdd=t)},[t[97]||(t[97]=i("option",{value:""},"Выберите подборку",-1)),(a(!0),o(p,null,m(e.filteredHomeCollectionOptions,e=>(a(),o("option",{key:e.id||e.key,value:e.key},s(e.title||e.key)+" · "+s(e.key),9,zl))),128))],512),[[g,e.homeState.collectionToAdd]])]),i("div",Ml,[t[99]||(t[99]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionToAdd,onClick:t=>e.addHomeCollection(n)}," Добавить ",8,Kl)])]),e.homeState.collectionDraft?(a(),o("section",Hl,[i("div",Bl,[i("div",null,[i("h3",null,s(e.homeState.collectionDraft.id?"Редактирование подборки":"Новая подборка"),1),i("p",null,s(e.homeState.collectionDraft.key),1)]),i("div",$l,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[17]||(t[17]=(...t)=>e.saveHomeCollectionDraft&&e.saveHomeCollectionDraft(...t))}," Сохранить подборку ",8,jl),i("button",{class:"button button-secondary",type:"button",onClick:t[18]||(t[18]=(...t)=>e.cancelHomeCollectionDraft&&e.cancelHomeCollectionDraft(...t))}," Закрыть ")])]),i("div",ql,[i("label",Gl,[t[100]||(t[100]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.homeState.collectionDraft.status=t)},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Ql))),128))],512),[[g,e.homeState.collectionDraft.status]])]),i("label",Yl,[t[101]||(t[101]=i("span",null,"Ключ",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.homeState.collectionDraft.key=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.key,void 0,{trim:!0}]])]),i("label",Jl,[t[102]||(t[102]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.homeState.collectionDraft.title=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.title,void 0,{trim:!0}]])]),i("label",Xl,[t[103]||(t[103]=i("span",null,"Режим",-1)),b(i("select",{"onUpdate:modelValue":t[22]||(t[22]=t=>e.homeState.collectionDraft.mode=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_MODES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Wl))),128))],512),[[g,e.homeState.collectionDraft.mode]])]),i("label",Zl,[t[104]||(t[104]=i("span",null,"Правило",-1)),b(i("select",{"onUpdate:modelValue":t[23]||(t[23]=t=>e.homeState.collectionDraft.ruleType=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_RULE_TYPES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ei))),128))],512),[[g,e.homeState.collectionDraft.ruleType]])]),i("label",ti,[t[105]||(t[105]=i("span",null,"Лимит",-1)),b(i("input",{"onUpdate:modelValue":t[24]||(t[24]=t=>e.homeState.collectionDraft.limit=t),type:"number",min:"1",max:"48"},null,512),[[f,e.homeState.collectionDraft.limit,void 0,{number:!0}]])]),i("label",ni,[t[106]||(t[106]=i("span",null,"Сортировка",-1)),b(i("select",{"onUpdate:modelValue":t[25]||(t[25]=t=>e.homeState.collectionDraft.sortMode=t)},[(a(!0),o(p,null,m(e.STOREFRONT_COLLECTION_SORT_MODES,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ai))),128))],512),[[g,e.homeState.collectionDraft.sortMode]])]),i("label",oi,[t[107]||(t[107]=i("span",null,"CTA",-1)),b(i("input",{"onUpdate:modelValue":t[26]||(t[26]=t=>e.homeState.collectionDraft.primaryCtaLabel=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.primaryCtaLabel,void 0,{trim:!0}]])]),i("label",li,[t[108]||(t[108]=i("span",null,"CTA ссылка",-1)),b(i("input",{"onUpdate:modelValue":t[27]||(t[27]=t=>e.homeState.collectionDraft.primaryCtaUrl=t),type:"text"},null,512),[[f,e.homeState.collectionDraft.primaryCtaUrl,void 0,{trim:!0}]])]),i("label",ii,[t[109]||(t[109]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[28]||(t[28]=t=>e.homeState.collectionDraft.description=t),rows:"3"},null,512),[[f,e.homeState.collectionDraft.description,void 0,{trim:!0}]])])]),i("div",ri,[i("label",si,[t[110]||(t[110]=i("span",null,"Поиск товара",-1)),b(i("input",{"onUpdate:modelValue":t[29]||(t[29]=t=>e.homeState.collectionProductQuery=t),type:"search",onKeyup:t[30]||(t[30]=y((...t)=>e.searchHomeCollectionProducts&&e.searchHomeCollectionProducts(...t),["enter"]))},null,544),[[f,e.homeState.collectionProductQuery,void 0,{trim:!0}]])]),i("label",di,[t[112]||(t[112]=i("span",null,"Добавить товар",-1)),b(i("select",{"onUpdate:modelValue":t[31]||(t[31]=t=>e.homeState.collectionProductToAdd=t)},[t[111]||(t[111]=i("option",{value:""},"Выберите товар",-1)),(a(!0),o(p,null,m(e.filteredCollectionProductOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.slug),9,ci))),128))],512),[[g,e.homeState.collectionProductToAdd]])]),i("div",ui,[t[113]||(t[113]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[32]||(t[32]=(...t)=>e.searchHomeCollectionProducts&&e.searchHomeCollectionProducts(...t))},"Найти")]),i("div",pi,[t[114]||(t[114]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionProductToAdd,onClick:t[33]||(t[33]=(...t)=>e.addHomeCollectionProductRule&&e.addHomeCollectionProductRule(...t))},"Добавить",8,mi)])]),i("div",bi,[i("label",fi,[t[115]||(t[115]=i("span",null,"Поиск категории",-1)),b(i("input",{"onUpdate:modelValue":t[34]||(t[34]=t=>e.homeState.collectionCategoryQuery=t),type:"search",onKeyup:t[35]||(t[35]=y((...t)=>e.searchHomeCollectionCategories&&e.searchHomeCollectionCategories(...t),["enter"]))},null,544),[[f,e.homeState.collectionCategoryQuery,void 0,{trim:!0}]])]),i("label",yi,[t[117]||(t[117]=i("span",null,"Добавить категорию",-1)),b(i("select",{"onUpdate:modelValue":t[36]||(t[36]=t=>e.homeState.collectionCategoryToAdd=t)},[t[116]||(t[116]=i("option",{value:""},"Выберите категорию",-1)),(a(!0),o(p,null,m(e.filteredCollectionCategoryOptions,e=>(a(),o("option",{key:e.id,value:e.slug},s(e.name)+" · "+s(e.fullPath||e.slug),9,vi))),128))],512),[[g,e.homeState.collectionCategoryToAdd]])]),i("div",gi,[t[118]||(t[118]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[37]||(t[37]=(...t)=>e.searchHomeCollectionCategories&&e.searchHomeCollectionCategories(...t))},"Найти")]),i("div",hi,[t[119]||(t[119]=i("span",null," ",-1)),i("button",{class:"button button-secondary",type:"button",disabled:!e.homeState.collectionCategoryToAdd,onClick:t[38]||(t[38]=(...t)=>e.addHomeCollectionCategoryRule&&e.addHomeCollectionCategoryRule(...t))},"Добавить",8,ki)])]),e.homeState.collectionDraft.rules.length?(a(),o("div",Si,[(a(!0),o(p,null,m(e.homeState.collectionDraft.rules,(n,l)=>(a(),o("article",{key:n.clientId||n.id||l,class:"list-card"},[i("div",wi,[i("strong",null,s("category"===n.entityKind?e.homeCategoryLabel(n.entityKey):e.homeProductLabel(n.entityKey)),1),i("span",Ci,s("exclude"===n.behavior?"Исключить":"Закрепить"),1)]),i("p",xi,s(n.entityKind)+" · "+s(n.entityKey),1),i("div",Ii,[i("label",Ti,[t[121]||(t[121]=i("span",null,"Поведение",-1)),b(i("select",{"onUpdate:modelValue":e=>n.behavior=e},[...t[120]||(t[120]=[i("option",{value:"pin"},"Закрепить",-1),i("option",{value:"exclude"},"Исключить",-1)])],8,Oi),[[g,n.behavior]])]),i("label",Pi,[t[122]||(t[122]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":e=>n.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,Ui))),128))],8,Ai),[[g,n.status]])])]),i("div",_i,[i("button",{class:"button button-secondary",type:"button",disabled:0===l,onClick:t=>e.moveHomeCollectionRule(l,-1)},"↑",8,Ri),i("button",{class:"button button-secondary",type:"button",disabled:l===e.homeState.collectionDraft.rules.length-1,onClick:t=>e.moveHomeCollectionRule(l,1)},"↓",8,Di),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeCollectionRule(l)},"Убрать",8,Ei)])]))),128))])):(a(),o("div",Fi,"В подборке нет ручных правил."))])):d("v-if",!0)])):n.items.length||["hero","feature_list","collection_teaser","banner_group"].includes(n.sectionType)?(a(),o("section",Vi,[i("div",Li,[t[123]||(t[123]=i("div",null,[i("h3",null,"Элементы секции"),i("p",null,"Карточки, преимущества и ссылки для этого блока.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t=>e.addHomeItem(n)}," Добавить элемент ",8,Ni)]),n.items.length?(a(),o("div",zi,[(a(!0),o(p,null,m(n.items,(l,r)=>(a(),o("article",{key:l.id||l.migrationKey||r,class:"list-card"},[i("div",Mi,[i("strong",null,s(l.title||l.label||`Элемент ${r+1}`),1),i("span",Ki,s(e.homeStatusLabel(l.status)),1)]),i("div",Hi,[i("label",Bi,[t[124]||(t[124]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":e=>l.status=e},[(a(!0),o(p,null,m(e.HOME_STATUS_OPTIONS,e=>(a(),o("option",{key:e.value,value:e.value},s(e.label),9,ji))),128))],8,$i),[[g,l.status]])]),i("label",qi,[t[125]||(t[125]=i("span",null,"Метка",-1)),b(i("input",{"onUpdate:modelValue":e=>l.label=e,type:"text"},null,8,Gi),[[f,l.label,void 0,{trim:!0}]])]),i("label",Qi,[t[126]||(t[126]=i("span",null,"Заголовок",-1)),b(i("input",{"onUpdate:modelValue":e=>l.title=e,type:"text"},null,8,Yi),[[f,l.title,void 0,{trim:!0}]])]),i("label",Ji,[t[127]||(t[127]=i("span",null,"Ссылка",-1)),b(i("input",{"onUpdate:modelValue":e=>l.url=e,type:"text"},null,8,Xi),[[f,l.url,void 0,{trim:!0}]])]),i("label",Wi,[t[128]||(t[128]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":e=>l.description=e,rows:"3"},null,8,Zi),[[f,l.description,void 0,{trim:!0}]])])]),i("div",er,[i("button",{class:"button button-secondary",type:"button",disabled:0===r,onClick:t=>e.moveHomeItem(n,r,-1)}," ↑ ",8,tr),i("button",{class:"button button-secondary",type:"button",disabled:r===n.items.length-1,onClick:t=>e.moveHomeItem(n,r,1)}," ↓ ",8,nr),i("button",{class:"button button-danger",type:"button",onClick:t=>e.removeHomeItem(n,r)}," Убрать ",8,ar)])]))),128))])):(a(),o("div",or,"Элементы пока не добавлены."))])):d("v-if",!0)],10,ua))),128))],544)),e.isTabLoading("home")?d("v-if",!0):(a(),o("div",lr,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-home-form",disabled:e.isSubmitting||!e.homeDirty},s(e.homeSaveLabel),9,ir)]))],512)]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))}},sr={class:"pane-header"},dr={key:0,class:"empty-state"},cr={key:1,class:"empty-state"},ur={key:2,class:"card-list"},pr=["onClick"],mr={class:"list-card-head"},br={class:"list-card-meta"},fr={class:"detail-card"},yr={class:"ops-field ops-field-required"},vr={class:"selector-card"},gr={class:"form-grid form-grid-two"},hr=["onUpdate:modelValue"],kr={class:"sticky-actions"},Sr=["disabled"],wr=["disabled"],Cr={key:0,class:"section-block"},xr={class:"section-head"},Ir=["disabled"],Tr={class:"metrics-row compact-metrics"},Or={class:"metric-card"},Pr={class:"metric-card"},Ar={class:"metric-card"},Ur={class:"metric-card"},_r={class:"metric-card"},Rr={class:"card-list"},Dr={class:"list-card-head"},Er={class:"list-card-slug"},Fr={key:0,class:"list-card-meta"},Vr={key:1,class:"list-card-meta"},Lr={class:"ops-modal"},Nr={class:"section-head"},zr={class:"sticky-actions"},Mr={class:"card-list card-list-compact import-modal-list"},Kr={class:"list-card-head"},Hr={class:"list-card-slug"},Br={class:"list-card-meta"},$r={__name:"ImportsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",sr,[i("div",null,[t[8]||(t[8]=i("h2",null,"Импорт",-1)),i("p",null,s(e.importState.jobs.length)+" запусков",1)])]),e.isTabLoading("imports")?(a(),o("div",dr,[...t[9]||(t[9]=[i("strong",null,"Загружаю историю",-1)])])):e.importState.jobs.length?(a(),o("div",ur,[(a(!0),o(p,null,m(e.importState.jobs,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.importState.selectedJobId===t.id}]),onClick:n=>e.selectImportJob(t.id)},[i("div",mr,[i("strong",null,s(t.fileName||t.id),1),i("span",{class:l(["pill",t.invalidRows?"pill-muted":"pill-positive"])},s(t.status),3)]),i("div",br,[i("span",null,s(t.validRows)+" валидных",1),i("span",null,s(t.invalidRows)+" ошибок",1),i("span",null,s(e.formatDateTime(t.createdAt)),1)])],10,pr))),128))])):(a(),o("div",cr,[...t[10]||(t[10]=[i("strong",null,"История пуста",-1),i("span",null,"Запустите dry-run для Excel или CSV файла.",-1)])]))]),detail:u(()=>[i("section",fr,[t[20]||(t[20]=i("header",{class:"detail-header"},[i("div",null,[i("p",{class:"detail-kicker"},"Импорт"),i("h2",null,"Обновление остатков"),i("p",{class:"detail-subtitle"},"Файл сопоставляется по артикулу. Изменяется только остаток варианта.")])],-1)),i("form",{class:"editor-form",onSubmit:t[2]||(t[2]=v((...t)=>e.dryRunImport&&e.dryRunImport(...t),["prevent"]))},[i("label",yr,[t[11]||(t[11]=i("span",null,"Файл",-1)),i("input",{type:"file",accept:".xlsx,.xls,.csv",onChange:t[0]||(t[0]=(...t)=>e.onImportFileSelected&&e.onImportFileSelected(...t))},null,32)]),i("section",vr,[t[12]||(t[12]=i("div",{class:"selector-card-head"},[i("div",null,[i("h3",null,"Правила импорта"),i("p",null,"Артикул: Номенклатура.Артикул · остаток: Склад 21 Век АТРИУМ + Склад 21 Век ИП.")])],-1)),i("div",gr,[(a(!0),o(p,null,m(e.importMappingFields,t=>(a(),o("label",{key:t.key,class:"ops-field"},[i("span",null,s(t.label),1),b(i("input",{"onUpdate:modelValue":n=>e.importState.mapping[t.key]=n,type:"text"},null,8,hr),[[f,e.importState.mapping[t.key],void 0,{trim:!0}]])]))),128))])]),i("div",kr,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.importState.file}," Проверить файл ",8,Sr),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting||!e.importState.dryRun?.job||e.importState.dryRun.job.invalidRows,onClick:t[1]||(t[1]=(...t)=>e.commitImport&&e.commitImport(...t))}," Обновить остатки ",8,wr)])],32),e.importState.dryRun?(a(),o("section",Cr,[i("div",xr,[i("div",null,[t[13]||(t[13]=i("h3",null,"Результат проверки",-1)),i("p",null,s(e.importState.dryRun.job.validRows)+" валидных · "+s(e.importState.dryRun.job.invalidRows)+" ошибок",1)]),i("button",{class:"button button-secondary",type:"button",disabled:!e.importState.dryRun.report?.notUpdatedRows,onClick:t[3]||(t[3]=(...t)=>e.openImportNotUpdatedModal&&e.openImportNotUpdatedModal(...t))}," Не обновлены: "+s(e.importState.dryRun.report?.notUpdatedRows||0),9,Ir)]),i("div",Tr,[i("article",Or,[t[14]||(t[14]=i("span",null,"Найдены",-1)),i("strong",null,s(e.importState.dryRun.report?.matchedRows||0),1)]),i("article",Pr,[t[15]||(t[15]=i("span",null,"Изменятся",-1)),i("strong",null,s(e.importState.dryRun.report?.changedRows||0),1)]),i("article",Ar,[t[16]||(t[16]=i("span",null,"Без изменений",-1)),i("strong",null,s(e.importState.dryRun.report?.unchangedRows||0),1)]),i("article",Ur,[t[17]||(t[17]=i("span",null,"Пропущены",-1)),i("strong",null,s(e.importState.dryRun.report?.skippedRows||0),1)]),i("article",_r,[t[18]||(t[18]=i("span",null,"Ошибки",-1)),i("strong",null,s(e.importState.dryRun.report?.invalidRows||0),1)])]),i("div",Rr,[(a(!0),o(p,null,m(e.importState.dryRun.rows.slice(0,50),e=>(a(),o("article",{key:e.id,class:"list-card"},[i("div",Dr,[i("strong",null,"Строка "+s(e.rowNumber)+" · "+s(e.sku||"без SKU"),1),i("span",{class:l(["pill",e.valid?"pill-positive":"pill-muted"])},s(e.valid?"OK":"Ошибка"),3)]),i("p",Er,s(e.productName||e.errorMessage||`${e.stockQuantity??0} шт.`),1),e.errorMessage?(a(),o("div",Fr,[i("span",null,s(e.errorMessage),1)])):(a(),o("div",Vr,[i("span",null,s(e.stockQuantity??0)+" шт.",1)]))]))),128))])])):d("v-if",!0),e.importState.notUpdatedModalOpen?(a(),o("div",{key:1,class:"ops-modal-backdrop",onClick:t[7]||(t[7]=v((...t)=>e.closeImportNotUpdatedModal&&e.closeImportNotUpdatedModal(...t),["self"]))},[i("section",Lr,[i("header",Nr,[i("div",null,[t[19]||(t[19]=i("h3",null,"Не обновлены",-1)),i("p",null,s(e.importState.dryRun?.report?.notUpdatedRows||0)+" вариантов каталога не найдены в файле.",1)]),i("button",{class:"button button-secondary button-small",type:"button",onClick:t[4]||(t[4]=(...t)=>e.closeImportNotUpdatedModal&&e.closeImportNotUpdatedModal(...t))}," Закрыть ")]),i("div",zr,[i("button",{class:"button button-secondary",type:"button",onClick:t[5]||(t[5]=t=>e.downloadImportNotUpdated("txt"))}," Скачать TXT "),i("button",{class:"button button-primary",type:"button",onClick:t[6]||(t[6]=t=>e.downloadImportNotUpdated("xlsx"))}," Скачать Excel ")]),i("div",Mr,[(a(!0),o(p,null,m(e.importState.dryRun?.report?.notUpdatedVariants||[],e=>(a(),o("article",{key:e.variantId,class:"list-card"},[i("div",Kr,[i("strong",null,s(e.sku),1),i("span",{class:l(["pill",e.productActive?"pill-positive":"pill-muted"])},s(e.productActive?"Активен":"Неактивен"),3)]),i("p",Hr,s(e.productName||e.productSlug||e.variantName),1),i("div",Br,[i("span",null,s(e.variantName),1),i("span",null,s(e.currentStock)+" шт.",1)])]))),128))])])])):d("v-if",!0)])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},jr={class:"pane-header"},qr={class:"search-field"},Gr={key:0,class:"empty-state"},Qr={key:1,class:"empty-state"},Yr={key:2,class:"card-list"},Jr=["onClick"],Xr={class:"list-card-head"},Wr={class:"list-card-slug"},Zr={class:"list-card-meta"},es={key:0,class:"empty-detail"},ts={key:1,class:"detail-card"},ns={class:"detail-header"},as={class:"detail-subtitle"},os={class:"metrics-row"},ls={class:"metric-card"},is={class:"metric-card"},rs={class:"metric-card"},ss={class:"form-grid"},ds={class:"ops-field ops-field-required"},cs={class:"ops-field ops-field-required"},us={class:"ops-field"},ps={class:"sticky-actions detail-footer-actions"},ms=["disabled"],bs=["disabled"],fs={__name:"InventoryTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",jr,[i("div",null,[t[6]||(t[6]=i("h2",null,"Остатки",-1)),i("p",null,s(e.inventoryState.items.length)+" вариантов",1)])]),i("label",qr,[t[7]||(t[7]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[0]||(t[0]=t=>e.inventoryState.query=t),type:"search",placeholder:"SKU, товар, бренд"},null,512),[[f,e.inventoryState.query,void 0,{trim:!0}]])]),e.isTabLoading("inventory")?(a(),o("div",Gr,[...t[8]||(t[8]=[i("strong",null,"Загружаю остатки",-1)])])):e.filteredInventory.length?(a(),o("div",Yr,[(a(!0),o(p,null,m(e.filteredInventory,t=>(a(),o("button",{key:t.variantId,type:"button",class:l(["list-card",{active:e.inventoryState.selectedVariantId===t.variantId}]),onClick:n=>e.selectInventoryRow(t.variantId)},[i("div",Xr,[i("strong",null,s(t.variantName),1),i("span",{class:l(["pill",t.productIsActive?"pill-positive":"pill-muted"])},s(t.stock)+" шт. ",3)]),i("p",Wr,s(t.productName)+" · "+s(t.sku),1),i("div",Zr,[i("span",null,s(t.brand?.name||"Без бренда"),1),i("span",null,s(e.formatMoney(t.price)),1)])],10,Jr))),128))])):(a(),o("div",Qr,[...t[9]||(t[9]=[i("strong",null,"Ничего не найдено",-1),i("span",null,"Уточните SKU, товар или бренд.",-1)])]))]),detail:u(()=>[e.selectedInventoryRow?(a(),o("section",ts,[i("header",ns,[i("div",null,[t[11]||(t[11]=i("p",{class:"detail-kicker"},"Остатки",-1)),i("h2",null,s(e.selectedInventoryRow.variantName),1),i("p",as,s(e.selectedInventoryRow.productName)+" · "+s(e.selectedInventoryRow.sku),1)])]),i("div",os,[i("article",ls,[t[12]||(t[12]=i("span",null,"Текущий остаток",-1)),i("strong",null,s(e.selectedInventoryRow.stock),1)]),i("article",is,[t[13]||(t[13]=i("span",null,"Цена",-1)),i("strong",null,s(e.formatMoney(e.selectedInventoryRow.price)),1)]),i("article",rs,[t[14]||(t[14]=i("span",null,"Бренд",-1)),i("strong",null,s(e.selectedInventoryRow.brand?.name||"Без бренда"),1)])]),i("form",{id:"storefront-ops-inventory-form",class:"editor-form inventory-editor",onSubmit:t[4]||(t[4]=v((...t)=>e.submitInventoryAdjustment&&e.submitInventoryAdjustment(...t),["prevent"]))},[i("div",ss,[i("label",ds,[t[15]||(t[15]=i("span",null,"Изменение",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.inventoryForm.delta=t),type:"number",step:"1"},null,512),[[f,e.inventoryForm.delta,void 0,{number:!0}]])]),i("label",cs,[t[16]||(t[16]=i("span",null,"Ключ идемпотентности",-1)),b(i("input",{"onUpdate:modelValue":t[2]||(t[2]=t=>e.inventoryForm.idempotencyKey=t),type:"text"},null,512),[[f,e.inventoryForm.idempotencyKey,void 0,{trim:!0}]])])]),i("label",us,[t[17]||(t[17]=i("span",null,"Причина",-1)),b(i("textarea",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.inventoryForm.reason=t),rows:"4"},null,512),[[f,e.inventoryForm.reason]])])],32),i("div",ps,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-inventory-form",disabled:e.isSubmitting}," Применить корректировку ",8,ms),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[5]||(t[5]=(...t)=>e.resetInventoryEditor&&e.resetInventoryEditor(...t))}," Новый ключ ",8,bs)])])):(a(),o("div",es,[...t[10]||(t[10]=[i("strong",null,"Выберите вариант",-1),i("span",null,"Откройте SKU слева, чтобы скорректировать остаток.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},ys={class:"pane-header"},vs=["disabled"],gs={class:"search-field"},hs={class:"form-grid"},ks={class:"ops-field"},Ss={class:"ops-field"},ws={key:0,class:"ops-field"},Cs={class:"ops-field"},xs={class:"ops-field"},Is={key:0,class:"section-block section-block-compact"},Ts={class:"section-head"},Os=["disabled"],Ps={key:0,class:"empty-inline"},As={key:1,class:"empty-inline"},Us={key:2,class:"card-list card-list-compact"},_s={class:"list-card-head"},Rs={class:"pill pill-positive"},Ds={class:"list-card-meta"},Es={key:0},Fs={key:1},Vs={key:2},Ls={key:1,class:"empty-state"},Ns={key:2,class:"empty-state"},zs={key:3,class:"card-list"},Ms=["onClick"],Ks={class:"list-card-head"},Hs={class:"list-card-slug"},Bs={class:"list-card-meta"},$s={key:0},js={key:0,class:"empty-detail"},qs={key:1,class:"detail-card"},Gs={class:"detail-header"},Qs={class:"detail-subtitle"},Ys={class:"detail-header-actions"},Js=["disabled"],Xs=["disabled"],Ws=["disabled"],Zs=["disabled"],ed={class:"detail-content orders-detail-content"},td={key:0,class:"inline-note"},nd={key:1,class:"inline-note"},ad={class:"metrics-row"},od={class:"metric-card"},ld={class:"metric-card"},id={class:"metric-card"},rd={key:0,class:"metric-card"},sd={class:"section-block"},dd={class:"form-grid"},cd={class:"ops-field ops-field-required"},ud=["value"],pd={class:"ops-field"},md={class:"sticky-actions sticky-actions-inline"},bd=["disabled"],fd={key:0,class:"inline-note"},yd={class:"section-block"},vd={class:"section-head"},gd=["disabled"],hd={key:0,class:"definition-list"},kd={key:0},Sd=["href"],wd={key:1},Cd={key:1,class:"empty-inline"},xd={key:2,class:"card-list card-list-compact"},Id={class:"list-card-head"},Td={class:"pill pill-neutral"},Od={class:"list-card-slug"},Pd={class:"list-card-meta"},Ad={class:"card-list card-list-compact"},Ud={key:0,class:"list-card"},_d={class:"list-card-head"},Rd={class:"pill pill-neutral"},Dd={class:"form-grid"},Ed={class:"ops-field"},Fd=["onUpdate:modelValue","max"],Vd={class:"ops-field"},Ld=["onUpdate:modelValue"],Nd={class:"sticky-actions sticky-actions-inline"},zd=["disabled"],Md={class:"section-block"},Kd={class:"section-head"},Hd={class:"definition-list definition-list-contact"},Bd={class:"definition-list-wide"},$d={key:0},jd={key:1},qd={key:2,class:"section-block"},Gd={class:"section-head"},Qd={class:"form-grid"},Yd={class:"ops-field"},Jd={class:"ops-field"},Xd={class:"sticky-actions sticky-actions-inline"},Wd=["disabled"],Zd={key:0,class:"card-list card-list-compact"},ec={class:"list-card-head"},tc={class:"pill pill-neutral"},nc={class:"list-card-meta"},ac=["onSubmit"],oc={class:"form-grid"},lc={class:"ops-field ops-field-required"},ic=["onUpdate:modelValue"],rc={class:"ops-field"},sc=["onUpdate:modelValue"],dc={class:"sticky-actions sticky-actions-inline"},cc=["disabled"],uc={key:1,class:"empty-inline"},pc={class:"section-block"},mc={class:"section-head"},bc={key:0,class:"card-list"},fc={class:"list-card-head"},yc={class:"pill pill-neutral"},vc={class:"list-card-slug"},gc={class:"list-card-meta"},hc={class:"section-block"},kc={class:"section-head"},Sc={key:0,class:"card-list"},wc={class:"list-card-head"},Cc={class:"pill pill-neutral"},xc={class:"list-card-meta"},Ic={key:1,class:"empty-inline"},Tc={__name:"OrdersTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",ys,[i("div",null,[t[27]||(t[27]=i("h2",null,"Заказы",-1)),i("p",null,s(e.orderState.items.length)+" записей",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.isTabLoading("orders"),onClick:t[0]||(t[0]=t=>e.loadOrders({notify:!0}))}," Найти ",8,vs)]),i("label",gs,[t[28]||(t[28]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.orderState.query=t),type:"search",placeholder:"ID, email, токен",onKeyup:t[2]||(t[2]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.query,void 0,{trim:!0}]])]),i("div",hs,[i("label",ks,[t[29]||(t[29]=i("span",null,"Статус",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.orderState.status=t),type:"text",placeholder:"PENDING, PAID",onKeyup:t[4]||(t[4]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.status,void 0,{trim:!0}]])]),i("label",Ss,[t[30]||(t[30]=i("span",null,"Менеджер",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.orderState.manager=t),type:"text",onKeyup:t[6]||(t[6]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.manager,void 0,{trim:!0}]])]),"admin"===e.roleKind?(a(),o("label",ws,[t[32]||(t[32]=i("span",null,"Архив",-1)),b(i("select",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.orderState.archived=t),onChange:t[8]||(t[8]=(...t)=>e.loadOrders&&e.loadOrders(...t))},[...t[31]||(t[31]=[i("option",{value:"all"},"Все заказы",-1),i("option",{value:"active"},"Только активные",-1),i("option",{value:"archived"},"Только архив",-1)])],544),[[g,e.orderState.archived]])])):d("v-if",!0),i("label",Cs,[t[33]||(t[33]=i("span",null,"С",-1)),b(i("input",{"onUpdate:modelValue":t[9]||(t[9]=t=>e.orderState.from=t),type:"datetime-local",onKeyup:t[10]||(t[10]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.from]])]),i("label",xs,[t[34]||(t[34]=i("span",null,"По",-1)),b(i("input",{"onUpdate:modelValue":t[11]||(t[11]=t=>e.orderState.to=t),type:"datetime-local",onKeyup:t[12]||(t[12]=y((...t)=>e.loadOrders&&e.loadOrders(...t),["enter"]))},null,544),[[f,e.orderState.to]])])]),e.canViewActivePromotions?(a(),o("section",Is,[i("div",Ts,[i("div",null,[t[35]||(t[35]=i("h3",null,"Активные акции",-1)),i("p",null,s(e.activePromotionState.items.length)+" доступно для менеджера",1)]),i("button",{class:"button button-secondary",type:"button",disabled:e.loading.activePromotions,onClick:t[13]||(t[13]=t=>e.loadActivePromotions({notify:!0}))}," Обновить ",8,Os)]),e.loading.activePromotions?(a(),o("div",Ps,"Загружаю акции.")):e.activePromotionState.items.length?(a(),o("div",Us,[(a(!0),o(p,null,m(e.activePromotionState.items,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",_s,[i("strong",null,s(t.name),1),i("span",Rs,s(t.type),1)]),i("div",Ds,[t.salePriceAmount?(a(),o("span",Es,"Цена "+s(e.formatMinorMoney(t.salePriceAmount,t.currency)),1)):d("v-if",!0),t.discountPercent?(a(),o("span",Fs,s(t.discountPercent)+"%",1)):d("v-if",!0),t.thresholdAmount?(a(),o("span",Vs,"от "+s(e.formatMinorMoney(t.thresholdAmount,t.currency)),1)):d("v-if",!0)])]))),128))])):(a(),o("div",As,"Активных акций сейчас нет."))])):d("v-if",!0),e.isTabLoading("orders")?(a(),o("div",Ls,[...t[36]||(t[36]=[i("strong",null,"Загружаю заказы",-1)])])):e.orderState.items.length?(a(),o("div",zs,[(a(!0),o(p,null,m(e.orderState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.orderState.selectedId===t.id}]),onClick:n=>e.selectOrder(t.id)},[i("div",Ks,[i("strong",null,s(t.receiptEmail||t.id),1),i("span",{class:l(["pill",e.isOrderArchived(t)?"pill-muted":"pill-neutral"])},s(e.isOrderArchived(t)?"В архиве":e.orderStatusLabel(t.status)),3)]),i("p",Hs,s(t.id),1),i("div",Bs,[i("span",null,s(e.formatMoney(t.totalAmount)),1),i("span",null,s(e.orderManagerLabel(t)),1),i("span",null,s(e.formatDateTime(t.orderDate)),1),e.isOrderArchived(t)?(a(),o("span",$s,"Архив "+s(e.formatDateTime(t.archivedAt)),1)):d("v-if",!0)])],10,Ms))),128))])):(a(),o("div",Ns,[...t[37]||(t[37]=[i("strong",null,"Заказы не найдены",-1),i("span",null,"Измените фильтр или период.",-1)])]))]),detail:u(()=>[e.orderState.detail?(a(),o("section",qs,[i("header",Gs,[i("div",null,[t[39]||(t[39]=i("p",{class:"detail-kicker"},"Заказы",-1)),i("h2",null,s(e.orderState.detail.order.receiptEmail||e.orderState.detail.order.id),1),i("p",Qs,s(e.orderState.detail.order.id),1)]),i("div",Ys,[e.canClaimSelectedOrder?(a(),o("button",{key:0,class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[14]||(t[14]=(...t)=>e.claimOrder&&e.claimOrder(...t))}," Взять в работу ",8,Js)):d("v-if",!0),e.canClearSelectedOrder?(a(),o("button",{key:1,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[15]||(t[15]=(...t)=>e.clearOrderClaim&&e.clearOrderClaim(...t))}," Снять менеджера ",8,Xs)):d("v-if",!0),e.canArchiveSelectedOrder?(a(),o("button",{key:2,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[16]||(t[16]=(...t)=>e.archiveOrder&&e.archiveOrder(...t))}," Удалить заказ ",8,Ws)):d("v-if",!0),e.canRestoreSelectedOrder?(a(),o("button",{key:3,class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[17]||(t[17]=(...t)=>e.restoreOrder&&e.restoreOrder(...t))}," Восстановить ",8,Zs)):d("v-if",!0)])]),i("div",ed,[e.orderState.selectedFilteredOut?(a(),o("p",td,[t[40]||(t[40]=x(" Выбранный заказ не попадает в текущий список из-за фильтров. ",-1)),i("button",{class:"button button-secondary button-small",type:"button",onClick:t[18]||(t[18]=(...t)=>e.resetOrderFiltersForSelected&&e.resetOrderFiltersForSelected(...t))}," Сбросить фильтры ")])):d("v-if",!0),e.isOrderArchived(e.orderState.detail.order)?(a(),o("p",nd," Заказ в архиве: "+s(e.orderState.detail.order.archiveReason||"причина не указана")+". Операции по заказу доступны после восстановления. ",1)):d("v-if",!0),i("div",ad,[i("article",od,[t[41]||(t[41]=i("span",null,"Статус",-1)),i("strong",null,s(e.isOrderArchived(e.orderState.detail.order)?"В архиве":e.orderStatusLabel(e.orderState.detail.order.status)),1)]),i("article",ld,[t[42]||(t[42]=i("span",null,"Сумма",-1)),i("strong",null,s(e.formatMoney(e.orderState.detail.order.totalAmount)),1)]),i("article",id,[t[43]||(t[43]=i("span",null,"Менеджер",-1)),i("strong",null,s(e.orderManagerLabel(e.orderState.detail.order)),1)]),e.isOrderArchived(e.orderState.detail.order)?(a(),o("article",rd,[t[44]||(t[44]=i("span",null,"Архивировал",-1)),i("strong",null,s(e.orderState.detail.order.archivedBy||"Не указано"),1)])):d("v-if",!0)]),i("section",sd,[t[47]||(t[47]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Статус"),i("p",null,"Переход будет записан в аудит истории заказа.")])],-1)),i("form",{class:"editor-form",onSubmit:t[21]||(t[21]=v((...t)=>e.submitOrderStatus&&e.submitOrderStatus(...t),["prevent"]))},[i("div",dd,[i("label",cd,[t[45]||(t[45]=i("span",null,"Новый статус",-1)),b(i("select",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.orderState.nextStatus=t)},[(a(!0),o(p,null,m(e.orderStatusOptions,t=>(a(),o("option",{key:t,value:t},s(e.orderStatusLabel(t)),9,ud))),128))],512),[[g,e.orderState.nextStatus]])]),i("label",pd,[t[46]||(t[46]=i("span",null,"Комментарий",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.orderState.note=t),type:"text"},null,512),[[f,e.orderState.note,void 0,{trim:!0}]])])]),i("div",md,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.canSubmitSelectedOrderStatus}," Сохранить статус ",8,bd)]),e.canSubmitSelectedOrderStatus?d("v-if",!0):(a(),o("p",fd," Для текущей роли изменение статуса этого заказа недоступно. "))],32)]),i("section",yd,[i("div",vd,[i("div",null,[t[48]||(t[48]=i("h3",null,"Оплата и возвраты",-1)),i("p",null,s(e.orderState.detail.order.paymentSummary?"YooKassa · полная предоплата":"Платёж ещё не создан"),1)]),e.canRefundSelectedOrder?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[22]||(t[22]=t=>e.refundSelectedOrder({full:!0}))}," Вернуть остаток ",8,gd)):d("v-if",!0)]),e.orderState.detail.order.paymentSummary?(a(),o("dl",hd,[i("div",null,[t[49]||(t[49]=i("dt",null,"Статус",-1)),i("dd",null,s(e.orderState.detail.order.paymentSummary.status),1)]),i("div",null,[t[50]||(t[50]=i("dt",null,"ID платежа",-1)),i("dd",null,s(e.orderState.detail.order.paymentSummary.providerPaymentId||"Не указан"),1)]),i("div",null,[t[51]||(t[51]=i("dt",null,"Сумма платежа",-1)),i("dd",null,s(e.formatMinorMoney(e.orderState.detail.order.paymentSummary.amount?.amount,e.orderState.detail.order.paymentSummary.amount?.currency)),1)]),i("div",null,[t[52]||(t[52]=i("dt",null,"Доступно к возврату",-1)),i("dd",null,s(e.formatMinorMoney(e.orderState.detail.order.paymentSummary.refundableAmount?.amount,e.orderState.detail.order.paymentSummary.refundableAmount?.currency)),1)]),i("div",null,[t[53]||(t[53]=i("dt",null,"Чек 54-ФЗ",-1)),e.orderState.detail.order.paymentSummary.receiptUrl?(a(),o("dd",kd,[i("a",{href:e.orderState.detail.order.paymentSummary.receiptUrl,target:"_blank",rel:"noreferrer"},"Открыть чек",8,Sd)])):(a(),o("dd",wd,s(e.orderState.detail.order.paymentSummary.receiptRegistration||"Формируется в YooKassa"),1))])])):(a(),o("div",Cd,"Заказ ожидает создания платёжной сессии.")),e.orderState.detail.order.paymentSummary?.refunds?.length?(a(),o("div",xd,[(a(!0),o(p,null,m(e.orderState.detail.order.paymentSummary.refunds,t=>(a(),o("article",{key:t.id||t.refundId,class:"list-card"},[i("div",Id,[i("strong",null,s(e.formatMinorMoney(t.amount?.amount,t.amount?.currency)),1),i("span",Td,s(t.status),1)]),i("p",Od,s(t.refundId),1),i("div",Pd,[i("span",null,s(e.formatDateTime(t.refundDate)),1),i("span",null,s(t.items?.length||0)+" строк",1)])]))),128))])):d("v-if",!0),e.canRefundSelectedOrder?(a(),o("form",{key:3,class:"editor-form",onSubmit:t[23]||(t[23]=v(t=>e.refundSelectedOrder({full:!1}),["prevent"]))},[t[56]||(t[56]=i("div",{class:"section-head section-head-compact"},[i("div",null,[i("h3",null,"Частичный возврат"),i("p",null,"Укажите количество по строкам заказа. Сумма необязательна: если оставить пустой, API рассчитает её по оплаченной цене строки.")])],-1)),i("div",Ad,[(a(!0),o(p,null,m(e.orderState.detail.order.items||[],n=>(a(),o(p,{key:`refund-${n.id}`},[n.id&&e.orderState.refundForms[n.id]?(a(),o("article",Ud,[i("div",_d,[i("strong",null,s(n.productName||n.variantName||n.variantId),1),i("span",Rd,s(n.quantity)+" шт.",1)]),i("div",Dd,[i("label",Ed,[t[54]||(t[54]=i("span",null,"Количество к возврату",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.refundForms[n.id].quantity=t,type:"number",min:"0",max:n.quantity,step:"1"},null,8,Fd),[[f,e.orderState.refundForms[n.id].quantity,void 0,{number:!0}]])]),i("label",Vd,[t[55]||(t[55]=i("span",null,"Сумма, ₽",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.refundForms[n.id].amount=t,type:"number",min:"0",step:"0.01"},null,8,Ld),[[f,e.orderState.refundForms[n.id].amount,void 0,{number:!0}]])])])])):d("v-if",!0)],64))),128))]),i("div",Nd,[i("button",{class:"button button-danger",type:"submit",disabled:e.isSubmitting}," Создать частичный возврат ",8,zd)])],32)):d("v-if",!0)]),i("section",Md,[i("div",Kd,[i("div",null,[t[57]||(t[57]=i("h3",null,"Уведомления",-1)),i("p",null,s(e.orderState.detail.order.receiptEmail||"Email не указан"),1)])]),i("dl",Hd,[i("div",null,[t[58]||(t[58]=i("dt",null,"Имя",-1)),i("dd",null,s(e.orderState.detail.order.contactName||"Не указано"),1)]),i("div",null,[t[59]||(t[59]=i("dt",null,"Email",-1)),i("dd",null,s(e.orderState.detail.order.receiptEmail||"Не указан"),1)]),i("div",null,[t[60]||(t[60]=i("dt",null,"Телефон",-1)),i("dd",null,s(e.orderState.detail.order.contactPhone||"Не указан"),1)]),i("div",Bd,[t[61]||(t[61]=i("dt",null,"Адрес",-1)),i("dd",null,s(e.orderState.detail.order.homeAddress||e.orderState.detail.order.deliveryAddress||"Не указан"),1)]),i("div",null,[t[62]||(t[62]=i("dt",null,"Отправление",-1)),e.orderState.detail.shipment?(a(),o("dd",$d,s(e.orderState.detail.shipment.carrier)+" · "+s(e.orderState.detail.shipment.trackingNumber),1)):(a(),o("dd",jd,"Не создано"))])])]),e.canManageSelectedOrderRma?(a(),o("section",qd,[i("div",Gd,[i("div",null,[t[63]||(t[63]=i("h3",null,"RMA",-1)),i("p",null,s(e.selectedOrderRmaRequests.length)+" запросов",1)])]),i("form",{class:"editor-form",onSubmit:t[26]||(t[26]=v((...t)=>e.createRmaRequest&&e.createRmaRequest(...t),["prevent"]))},[i("div",Qd,[i("label",Yd,[t[64]||(t[64]=i("span",null,"Причина",-1)),b(i("input",{"onUpdate:modelValue":t[24]||(t[24]=t=>e.orderState.rmaReason=t),type:"text"},null,512),[[f,e.orderState.rmaReason,void 0,{trim:!0}]])]),i("label",Jd,[t[65]||(t[65]=i("span",null,"Решение клиента",-1)),b(i("input",{"onUpdate:modelValue":t[25]||(t[25]=t=>e.orderState.rmaDesiredResolution=t),type:"text"},null,512),[[f,e.orderState.rmaDesiredResolution,void 0,{trim:!0}]])])]),i("div",Xd,[i("button",{class:"button button-secondary",type:"submit",disabled:e.isSubmitting}," Создать RMA ",8,Wd)])],32),e.selectedOrderRmaRequests.length?(a(),o("div",Zd,[(a(!0),o(p,null,m(e.selectedOrderRmaRequests,n=>(a(),o("article",{key:n.id,class:"list-card"},[i("div",ec,[i("strong",null,s(n.rmaNumber),1),i("span",tc,s(e.rmaStatusLabel(n.status)),1)]),i("div",nc,[i("span",null,s(n.reason||"Причина не указана"),1),i("span",null,s(n.managerComment||"Комментарий менеджера не указан"),1)]),e.canDecideSelectedOrderRma?(a(),o("form",{key:0,class:"editor-form rma-decision-form",onSubmit:v(t=>e.decideRmaRequest(n),["prevent"])},[i("div",oc,[i("label",lc,[t[67]||(t[67]=i("span",null,"Решение",-1)),b(i("select",{"onUpdate:modelValue":t=>e.orderState.rmaDecisionForms[n.id].status=t},[...t[66]||(t[66]=[i("option",{value:"APPROVED"},"Одобрить",-1),i("option",{value:"REJECTED"},"Отклонить",-1)])],8,ic),[[g,e.orderState.rmaDecisionForms[n.id].status]])]),i("label",rc,[t[68]||(t[68]=i("span",null,"Комментарий",-1)),b(i("input",{"onUpdate:modelValue":t=>e.orderState.rmaDecisionForms[n.id].comment=t,type:"text"},null,8,sc),[[f,e.orderState.rmaDecisionForms[n.id].comment,void 0,{trim:!0}]])])]),i("div",dc,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting}," Записать решение ",8,cc)])],40,ac)):d("v-if",!0)]))),128))])):(a(),o("div",uc,"RMA запросов по заказу нет."))])):d("v-if",!0),i("section",pc,[i("div",mc,[i("div",null,[t[69]||(t[69]=i("h3",null,"Состав",-1)),i("p",null,s(e.orderState.detail.order.items?.length||0)+" строк",1)])]),e.orderState.detail.order.items?.length?(a(),o("div",bc,[(a(!0),o(p,null,m(e.orderState.detail.order.items,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",fc,[i("strong",null,s(t.productName||t.variantName||t.variantId),1),i("span",yc,s(t.quantity)+" шт.",1)]),i("p",vc,s(t.sku||t.variantId),1),i("div",gc,[i("span",null,s(e.formatMoney(t.unitPrice)),1)])]))),128))])):d("v-if",!0)]),i("section",hc,[i("div",kc,[i("div",null,[t[70]||(t[70]=i("h3",null,"История статусов",-1)),i("p",null,s(e.orderState.detail.history?.length||0)+" событий",1)])]),e.orderState.detail.history?.length?(a(),o("div",Sc,[(a(!0),o(p,null,m(e.orderState.detail.history,t=>(a(),o("article",{key:t.id,class:"list-card"},[i("div",wc,[i("strong",null,s(e.orderStatusLabel(t.previousStatus)||"Создан")+" → "+s(e.orderStatusLabel(t.nextStatus)),1),i("span",Cc,s(e.formatDateTime(t.createdAt)),1)]),i("div",xc,[i("span",null,s(t.actor||"system"),1),i("span",null,s(t.note||"Без комментария"),1)])]))),128))])):(a(),o("div",Ic,"История пока пуста."))])])])):(a(),o("div",js,[...t[38]||(t[38]=[i("strong",null,"Выберите заказ",-1),i("span",null,"Откройте заказ из списка, чтобы увидеть состав, историю и действия.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Oc={class:"pane-header"},Pc={class:"search-field"},Ac={key:0,class:"inline-note"},Uc={key:1,class:"empty-state"},_c={key:2,class:"empty-state"},Rc={key:3,class:"card-list"},Dc=["onClick"],Ec={class:"list-card-head"},Fc={class:"list-card-slug"},Vc={class:"list-card-meta"},Lc={key:0,class:"list-card-footer"},Nc={class:"overlay-chip"},zc={key:0,class:"empty-detail"},Mc={key:1,class:"detail-card"},Kc={class:"detail-header"},Hc={key:0,class:"detail-subtitle"},Bc={class:"detail-header-actions"},$c=["disabled"],jc={class:"subtabs","aria-label":"Разделы товара"},qc=["onClick"],Gc={class:"detail-content panel-main"},Qc={key:0,class:"metrics-row"},Yc={class:"metric-card"},Jc={class:"metric-code"},Xc={class:"metric-card"},Wc={class:"metric-card"},Zc={class:"form-grid"},eu={class:"ops-field ops-field-required"},tu={class:"ops-field ops-field-required"},nu={class:"form-grid"},au={class:"ops-field"},ou=["value"],lu={class:"ops-field ops-field-boolean"},iu={class:"ops-toggle"},ru={class:"ops-field"},su={class:"selector-card"},du={class:"selector-card-head"},cu={key:0,class:"spec-section-list"},uu={class:"spec-section-head"},pu=["onClick"],mu={class:"form-grid"},bu={class:"ops-field"},fu=["onUpdate:modelValue"],yu={class:"ops-field"},vu=["onUpdate:modelValue"],gu={class:"spec-items"},hu={class:"spec-items-head"},ku=["onClick"],Su={key:0,class:"spec-item-list"},wu={class:"ops-field ops-field-required"},Cu=["onUpdate:modelValue"],xu={class:"ops-field ops-field-required"},Iu=["onUpdate:modelValue"],Tu=["onClick"],Ou={key:1,class:"empty-inline"},Pu={key:1,class:"empty-inline"},Au={class:"selector-card"},Uu={class:"selector-card-head"},_u={class:"pill pill-neutral"},Ru={class:"ops-field"},Du=["value"],Eu={key:0,class:"choice-list"},Fu=["value"],Vu={key:1,class:"empty-inline"},Lu={class:"sticky-actions detail-footer-actions"},Nu=["disabled"],zu=["disabled"],Mu={key:1,class:"detail-content panel-variants"},Ku={key:0,class:"empty-inline"},Hu={class:"section-block"},Bu={class:"section-head"},$u={key:0,class:"variant-list"},ju={class:"variant-card-meta"},qu=["onClick"],Gu=["disabled","onClick"],Qu={key:1,class:"empty-inline"},Yu={class:"form-grid"},Ju={class:"ops-field ops-field-required"},Xu=["disabled"],Wu={class:"ops-field ops-field-required"},Zu={class:"form-grid"},ep={class:"ops-field ops-field-required"},tp={class:"ops-field ops-field-required"},np={class:"form-grid"},ap={class:"ops-field ops-field-required"},op={class:"ops-field"},lp={class:"form-grid form-grid-three"},ip={class:"ops-field"},rp={class:"ops-field"},sp={class:"ops-field"},dp={class:"sticky-actions"},cp=["disabled"],up=["disabled"],pp={key:2,class:"detail-content panel-media"},mp={key:0,class:"empty-inline"},bp={class:"section-block"},fp={class:"section-head"},yp={key:0,class:"media-grid"},vp=["src","alt"],gp={class:"media-card-body"},hp={class:"media-card-meta"},kp={key:0},Sp={key:1},wp={class:"media-card-url"},Cp=["disabled","onClick"],xp={key:1,class:"empty-inline"},Ip={class:"form-grid"},Tp={class:"ops-field ops-field-required"},Op={class:"ops-field"},Pp=["value"],Ap={class:"sticky-actions"},Up=["disabled"],_p={key:0,class:"section-block"},Rp={class:"media-upload-list"},Dp={class:"media-upload-main"},Ep=["value"],Fp={key:1,class:"field-error"},Vp=["onClick"],Lp=["onClick"],Np={key:3,class:"detail-content panel-merch"},zp={key:0,class:"inline-note"},Mp={class:"merch-card"},Kp={class:"merch-card-head"},Hp={class:"definition-list"},Bp={class:"sticky-actions"},$p=["disabled"],jp=["disabled"],qp={__name:"ProductsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Oc,[i("div",null,[t[30]||(t[30]=i("h2",null,"Товары",-1)),i("p",null,s(e.productState.items.length)+" позиций",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateProduct&&e.startCreateProduct(...t))}," Новый товар ")]),i("label",Pc,[t[31]||(t[31]=i("span",null,"Поиск",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.productState.query=t),type:"search",placeholder:"Название, слаг, бренд"},null,512),[[f,e.productState.query,void 0,{trim:!0}]])]),e.productState.overlayReadFailed?(a(),o("p",Ac," Статусы витринных оверлеев временно недоступны. Каталогом всё ещё можно управлять. ")):d("v-if",!0),e.isTabLoading("products")?(a(),o("div",Uc,[...t[32]||(t[32]=[i("strong",null,"Загружаю товары",-1)])])):e.filteredProducts.length?(a(),o("div",Rc,[(a(!0),o(p,null,m(e.filteredProducts,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.productState.selectedId===t.id&&!e.productState.isCreating}]),onClick:n=>e.selectProduct(t.id)},[i("div",Ec,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.isActive?"pill-positive":"pill-muted"])},s(t.isActive?"Активен":"Скрыт"),3)]),i("p",Fc,s(t.slug),1),i("div",Vc,[i("span",null,s(t.brand?.name||"Без бренда"),1),i("span",null,s(t.variantCount)+" вариантов",1),i("span",null,s(t.totalStock)+" шт.",1)]),t.overlay?(a(),o("div",Lc,[i("span",Nc,s(e.overlayStatusLabel(t.overlay.status)),1)])):d("v-if",!0)],10,Dc))),128))])):(a(),o("div",_c,[...t[33]||(t[33]=[i("strong",null,"Товары не найдены",-1),i("span",null,"Измените поиск или создайте новую позицию.",-1)])]))]),detail:u(()=>[e.productState.isCreating||e.productState.detail?(a(),o("section",Mc,[i("header",Kc,[i("div",null,[t[35]||(t[35]=i("p",{class:"detail-kicker"},"Товары",-1)),i("h2",null,s(e.productState.isCreating?"Новый товар":e.productState.detail?.item?.name),1),e.productState.detail?.item?.slug?(a(),o("p",Hc,s(e.productState.detail.item.slug),1)):d("v-if",!0)]),i("div",Bc,[e.productForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[2]||(t[2]=(...t)=>e.deleteProduct&&e.deleteProduct(...t))}," Удалить ",8,$c)):d("v-if",!0)])]),i("nav",jc,[(a(!0),o(p,null,m(e.productDetailTabs,t=>(a(),o("button",{key:t.id,type:"button",class:l(["subtab",{active:e.productState.panel===t.id}]),onClick:n=>e.setProductPanel(t.id)},s(t.label),11,qc))),128))]),"main"===e.productState.panel?(a(),o(p,{key:0},[i("div",Gc,[i("form",{id:"storefront-ops-product-form",class:"editor-form",onSubmit:t[11]||(t[11]=v((...t)=>e.submitProduct&&e.submitProduct(...t),["prevent"]))},[e.productForm.id?(a(),o("div",Qc,[i("article",Yc,[t[36]||(t[36]=i("span",null,"ID товара",-1)),i("strong",Jc,s(e.productForm.id),1)]),i("article",Xc,[t[37]||(t[37]=i("span",null,"Создан",-1)),i("strong",null,s(e.formatDateTime(e.productState.detail?.item?.createdAt)),1)]),i("article",Wc,[t[38]||(t[38]=i("span",null,"Обновлён",-1)),i("strong",null,s(e.formatDateTime(e.productState.detail?.item?.updatedAt)),1)])])):d("v-if",!0),i("div",Zc,[i("label",eu,[t[39]||(t[39]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.productForm.name=t),type:"text"},null,512),[[f,e.productForm.name,void 0,{trim:!0}]])]),i("label",tu,[t[40]||(t[40]=i("span",null,"Слаг",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.productForm.slug=t),type:"text"},null,512),[[f,e.productForm.slug,void 0,{trim:!0}]])])]),i("div",nu,[i("label",au,[t[42]||(t[42]=i("span",null,"Бренд",-1)),b(i("select",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.productForm.brandId=t)},[t[41]||(t[41]=i("option",{value:""},"Без бренда",-1)),(a(!0),o(p,null,m(e.productBrandOptions,e=>(a(),o("option",{key:e.id,value:e.id},s(e.name),9,ou))),128))],512),[[g,e.productForm.brandId]])]),i("label",lu,[t[43]||(t[43]=i("span",null,"Витрина",-1)),i("label",iu,[b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.productForm.isActive=t),type:"checkbox"},null,512),[[h,e.productForm.isActive]]),i("span",null,s(e.productForm.isActive?"Товар виден на витрине":"Товар скрыт с витрины"),1)])])]),i("label",ru,[t[44]||(t[44]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.productForm.description=t),rows:"6"},null,512),[[f,e.productForm.description]])]),i("section",su,[i("div",du,[t[45]||(t[45]=i("div",null,[i("h3",null,"Технические характеристики"),i("p",null,"Секции и параметры товара, которые хранятся в backend product.specifications.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[8]||(t[8]=(...t)=>e.addSpecificationSection&&e.addSpecificationSection(...t))}," Добавить секцию ")]),e.productForm.specifications.length?(a(),o("div",cu,[(a(!0),o(p,null,m(e.productForm.specifications,(n,l)=>(a(),o("article",{key:`spec-section-${l}`,class:"spec-section-card"},[i("div",uu,[i("div",null,[i("strong",null,"Секция "+s(l+1),1),i("p",null,s(n.items.length)+" параметров",1)]),i("button",{class:"button button-danger button-small",type:"button",onClick:t=>e.removeSpecificationSection(l)}," Удалить секцию ",8,pu)]),i("div",mu,[i("label",bu,[t[46]||(t[46]=i("span",null,"Заголовок секции",-1)),b(i("input",{"onUpdate:modelValue":e=>n.title=e,type:"text"},null,8,fu),[[f,n.title,void 0,{trim:!0}]])]),i("label",yu,[t[47]||(t[47]=i("span",null,"Описание секции",-1)),b(i("input",{"onUpdate:modelValue":e=>n.description=e,type:"text"},null,8,vu),[[f,n.description,void 0,{trim:!0}]])])]),i("div",gu,[i("div",hu,[t[48]||(t[48]=i("strong",null,"Параметры",-1)),i("button",{class:"button button-secondary button-small",type:"button",onClick:t=>e.addSpecificationItem(l)}," Добавить параметр ",8,ku)]),n.items.length?(a(),o("div",Su,[(a(!0),o(p,null,m(n.items,(n,r)=>(a(),o("div",{key:`spec-item-${l}-${r}`,class:"spec-item-row"},[i("label",wu,[t[49]||(t[49]=i("span",null,"Параметр",-1)),b(i("input",{"onUpdate:modelValue":e=>n.label=e,type:"text"},null,8,Cu),[[f,n.label,void 0,{trim:!0}]])]),i("label",xu,[t[50]||(t[50]=i("span",null,"Значение",-1)),b(i("input",{"onUpdate:modelValue":e=>n.value=e,type:"text"},null,8,Iu),[[f,n.value,void 0,{trim:!0}]])]),i("button",{class:"button button-danger button-small spec-item-remove",type:"button",onClick:t=>e.removeSpecificationItem(l,r)}," Удалить ",8,Tu)]))),128))])):(a(),o("div",Ou,"В секции пока нет параметров."))])]))),128))])):(a(),o("div",Pu," Характеристики ещё не заданы. Добавьте секцию, если товару нужны технические параметры. "))]),i("section",Au,[i("div",Uu,[t[51]||(t[51]=i("div",null,[i("h3",null,"Категории"),i("p",null,"Выберите разделы, в которых товар должен отображаться.")],-1)),i("span",_u,s(e.productForm.categoryIds.length),1)]),i("label",Ru,[t[52]||(t[52]=i("span",null,"Фильтр категорий",-1)),i("input",{value:e.productCategoryFilter,onInput:t[9]||(t[9]=t=>e.setProductCategoryFilter(t.target.value.trim())),type:"search",placeholder:"Поиск по дереву"},null,40,Du)]),e.filteredProductCategoryOptions.length?(a(),o("div",Eu,[(a(!0),o(p,null,m(e.filteredProductCategoryOptions,n=>(a(),o("label",{key:n.id,class:"choice-item"},[b(i("input",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.productForm.categoryIds=t),type:"checkbox",value:n.id},null,8,Fu),[[h,e.productForm.categoryIds]]),i("div",null,[i("strong",null,s(e.formatCategoryLabel(n)),1),i("small",null,s(n.fullPath||n.slug),1)])]))),128))])):(a(),o("div",Vu,"Нет категорий под текущий фильтр."))])],32)]),i("div",Lu,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-product-form",disabled:e.isSubmitting},s(e.productForm.id?"Сохранить товар":"Создать товар"),9,Nu),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[12]||(t[12]=(...t)=>e.resetProductEditor&&e.resetProductEditor(...t))}," Сбросить ",8,zu)])],64)):"variants"===e.productState.panel?(a(),o("div",Mu,[e.productForm.id?(a(),o(p,{key:1},[i("div",Hu,[i("div",Bu,[i("div",null,[t[53]||(t[53]=i("h3",null,"Варианты",-1)),i("p",null,s(e.productState.detail?.item?.variants?.length||0)+" записей",1)]),i("button",{class:"button button-secondary",type:"button",onClick:t[13]||(t[13]=(...t)=>e.resetVariantEditor&&e.resetVariantEditor(...t))}," Новый вариант ")]),e.productState.detail?.item?.variants?.length?(a(),o("div",$u,[(a(!0),o(p,null,m(e.productState.detail.item.variants,t=>(a(),o("article",{key:t.id,class:"variant-card"},[i("div",null,[i("strong",null,s(t.name),1),i("p",null,s(t.sku),1)]),i("div",ju,[i("span",null,s(e.formatMoney(t.price)),1),i("span",null,s(t.stock)+" шт.",1)]),i("button",{class:"button button-secondary",type:"button",onClick:n=>e.loadVariantEditor(t)}," Изменить ",8,qu),i("button",{class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:n=>e.deleteVariant(t)}," Удалить ",8,Gu)]))),128))])):(a(),o("div",Qu,"У товара пока нет вариантов."))]),i("form",{class:"editor-form",onSubmit:t[24]||(t[24]=v((...t)=>e.submitVariant&&e.submitVariant(...t),["prevent"]))},[i("div",Yu,[i("label",Ju,[t[54]||(t[54]=i("span",null,"SKU",-1)),b(i("input",{"onUpdate:modelValue":t[14]||(t[14]=t=>e.variantForm.sku=t),type:"text",disabled:Boolean(e.variantForm.id)&&"admin"!==e.roleKind},null,8,Xu),[[f,e.variantForm.sku,void 0,{trim:!0}]])]),i("label",Wu,[t[55]||(t[55]=i("span",null,"Название варианта",-1)),b(i("input",{"onUpdate:modelValue":t[15]||(t[15]=t=>e.variantForm.name=t),type:"text"},null,512),[[f,e.variantForm.name,void 0,{trim:!0}]])])]),i("div",Zu,[i("label",ep,[t[56]||(t[56]=i("span",null,"Цена",-1)),b(i("input",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.variantForm.amount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.variantForm.amount,void 0,{number:!0}]])]),i("label",tp,[t[57]||(t[57]=i("span",null,"Валюта",-1)),b(i("input",{"onUpdate:modelValue":t[17]||(t[17]=t=>e.variantForm.currency=t),type:"text",maxlength:"3"},null,512),[[f,e.variantForm.currency,void 0,{trim:!0}]])])]),i("div",np,[i("label",ap,[t[58]||(t[58]=i("span",null,"Остаток",-1)),b(i("input",{"onUpdate:modelValue":t[18]||(t[18]=t=>e.variantForm.stock=t),type:"number",step:"1"},null,512),[[f,e.variantForm.stock,void 0,{number:!0}]])]),i("label",op,[t[59]||(t[59]=i("span",null,"Вес, г",-1)),b(i("input",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.variantForm.weightGrossG=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.weightGrossG,void 0,{number:!0}]])])]),i("div",lp,[i("label",ip,[t[60]||(t[60]=i("span",null,"Длина, мм",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.variantForm.lengthMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.lengthMm,void 0,{number:!0}]])]),i("label",rp,[t[61]||(t[61]=i("span",null,"Ширина, мм",-1)),b(i("input",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.variantForm.widthMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.widthMm,void 0,{number:!0}]])]),i("label",sp,[t[62]||(t[62]=i("span",null,"Высота, мм",-1)),b(i("input",{"onUpdate:modelValue":t[22]||(t[22]=t=>e.variantForm.heightMm=t),type:"number",min:"0",step:"1"},null,512),[[f,e.variantForm.heightMm,void 0,{number:!0}]])])]),i("div",dp,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.variantForm.id?"Сохранить вариант":"Добавить вариант"),9,cp),i("button",{class:"button button-secondary",type:"button",disabled:e.isSubmitting,onClick:t[23]||(t[23]=(...t)=>e.resetVariantEditor&&e.resetVariantEditor(...t))}," Сбросить ",8,up)])],32)],64)):(a(),o("div",Ku," Сначала сохраните товар, затем добавляйте варианты. "))])):"media"===e.productState.panel?(a(),o("div",pp,[e.productForm.id?(a(),o(p,{key:1},[i("div",bp,[i("div",fp,[i("div",null,[t[63]||(t[63]=i("h3",null,"Текущие изображения",-1)),i("p",null,s(e.productState.detail?.item?.images?.length||0)+" файлов",1)])]),e.productState.detail?.item?.images?.length?(a(),o("div",yp,[(a(!0),o(p,null,m(e.productState.detail.item.images,t=>(a(),o("article",{key:t.id,class:"media-card"},[i("img",{class:"media-preview",src:t.url,alt:`Изображение ${t.id}`},null,8,vp),i("div",gp,[i("div",hp,[i("span",null,"Позиция "+s(t.position),1),t.variantId?(a(),o("span",kp,"Вариант")):(a(),o("span",Sp,"Общий актив"))]),i("p",wp,s(t.url),1)]),i("button",{class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:n=>e.deleteProductImage(t.id)}," Удалить ",8,Cp)]))),128))])):(a(),o("div",xp,"Изображения ещё не загружены."))]),i("form",{class:"editor-form",onSubmit:t[27]||(t[27]=v((...t)=>e.uploadProductImages&&e.uploadProductImages(...t),["prevent"]))},[i("div",Ip,[i("label",Tp,[t[64]||(t[64]=i("span",null,"Файлы",-1)),i("input",{type:"file",multiple:"",accept:"image/*",onChange:t[25]||(t[25]=(...t)=>e.onProductFilesSelected&&e.onProductFilesSelected(...t))},null,32)]),i("label",Op,[t[66]||(t[66]=i("span",null,"Привязать к варианту",-1)),b(i("select",{"onUpdate:modelValue":t[26]||(t[26]=t=>e.productMediaForm.variantId=t)},[t[65]||(t[65]=i("option",{value:""},"Без привязки",-1)),(a(!0),o(p,null,m(e.productState.detail?.item?.variants||[],e=>(a(),o("option",{key:e.id,value:e.id},s(e.name)+" · "+s(e.sku),9,Pp))),128))],512),[[g,e.productMediaForm.variantId]])])]),i("div",Ap,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting||!e.productMediaFiles.length}," Загрузить изображения ",8,Up)])],32),"PRODUCT"===e.mediaUploadState.targetType&&e.mediaUploadState.items.length?(a(),o("div",_p,[t[67]||(t[67]=i("div",{class:"section-head"},[i("div",null,[i("h3",null,"Загрузка и оптимизация"),i("p",null,"Изображение появится в товаре после подготовки всех форматов витрины.")])],-1)),i("div",Rp,[(a(!0),o(p,null,m(e.mediaUploadState.items,t=>(a(),o("article",{key:t.id,class:"media-upload-row"},[i("div",Dp,[i("strong",null,s(t.filename),1),i("span",null,s(e.mediaUploadProgressLabel(t)),1),"UPLOADING"===t.status?(a(),o("progress",{key:0,value:Math.round(100*Number(t.progress||0)),max:"100"},null,8,Ep)):d("v-if",!0),t.error?(a(),o("small",Fp,s(t.error),1)):d("v-if",!0)]),i("span",{class:l(["pill","FAILED"===t.status?"pill-muted":"pill-neutral"])},s(e.mediaUploadStatusLabel(t.status)),3),"FAILED"===t.status?(a(),o("button",{key:0,class:"button button-secondary button-small",type:"button",onClick:n=>e.retryMediaUpload(t.id)}," Повторить ",8,Vp)):d("v-if",!0),["UPLOADING","QUEUED","FAILED"].includes(t.status)?(a(),o("button",{key:1,class:"button button-danger button-small",type:"button",onClick:n=>e.abortMediaUpload(t.id)}," Отменить ",8,Lp)):d("v-if",!0)]))),128))])])):d("v-if",!0)],64)):(a(),o("div",mp," Сначала сохраните товар, затем загружайте медиа. "))])):(a(),o("div",Np,[e.productState.overlayReadFailed?(a(),o("div",zp," Статус оверлея сейчас не читается из CMS. Попробуйте обновить раздел позже. ")):d("v-if",!0),i("article",Mp,[i("div",Kp,[t[68]||(t[68]=i("div",null,[i("h3",null,"Витринный оверлей"),i("p",null,"Редакционный слой для маркетинговых заголовков, badge и контентных блоков.")],-1)),e.productOverlayInfo?(a(),o("span",{key:0,class:l(["pill",e.productOverlayInfo.exists?"pill-positive":"pill-neutral"])},s(e.productOverlayInfo.exists?e.overlayStatusLabel(e.productOverlayInfo.status):"Не создан"),3)):d("v-if",!0)]),i("dl",Hp,[i("div",null,[t[69]||(t[69]=i("dt",null,"Ключ",-1)),i("dd",null,s(e.productOverlayInfo?.key||e.productForm.slug||"Сначала сохраните слаг товара"),1)]),i("div",null,[t[70]||(t[70]=i("dt",null,"Маркетинговый заголовок",-1)),i("dd",null,s(e.productOverlayInfo?.marketingTitle||"Не задан"),1)]),i("div",null,[t[71]||(t[71]=i("dt",null,"Badge",-1)),i("dd",null,s(e.productOverlayInfo?.badgeText||"Не задан"),1)]),i("div",null,[t[72]||(t[72]=i("dt",null,"Подборки",-1)),i("dd",null,s(e.productOverlayInfo?.linkedCollectionKeys?.length?e.productOverlayInfo.linkedCollectionKeys.join(", "):"Нет связей"),1)])]),i("div",Bp,[i("button",{class:"button button-primary",type:"button",disabled:e.isSubmitting,onClick:t[28]||(t[28]=t=>e.openOrCreateOverlay("product"))},s(e.productOverlayInfo?.exists?"Открыть оверлей":"Создать оверлей"),9,$p),i("button",{class:"button button-secondary",type:"button",disabled:!e.accessState.previewBaseUrl||!e.productForm.slug,onClick:t[29]||(t[29]=t=>e.openStorefrontPreview("product"))}," Предпросмотр витрины ",8,jp)])])]))])):(a(),o("div",zc,[...t[34]||(t[34]=[i("strong",null,"Выберите товар",-1),i("span",null,"Откройте карточку из списка или создайте новую позицию.",-1)])]))]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},Gp={class:"pane-header"},Qp={key:0,class:"empty-state"},Yp={key:1,class:"card-list"},Jp=["onClick"],Xp={class:"list-card-head"},Wp={class:"list-card-slug"},Zp={class:"list-card-meta"},em=["onClick"],tm={class:"list-card-head"},nm={class:"list-card-meta"},am={class:"detail-card"},om={class:"detail-header"},lm={class:"detail-header-actions"},im={class:"form-grid"},rm={class:"ops-field ops-field-required"},sm={class:"form-grid form-grid-three"},dm={class:"ops-field"},cm={class:"ops-field"},um={class:"ops-field"},pm={class:"form-grid"},mm={class:"ops-field"},bm={class:"ops-field"},fm={class:"selector-card"},ym={class:"selector-card-head"},vm={key:0,class:"spec-item-list"},gm={class:"ops-field"},hm=["onUpdate:modelValue"],km={class:"ops-field"},Sm=["onUpdate:modelValue"],wm=["onClick"],Cm={key:1,class:"empty-inline"},xm={class:"ops-field"},Im={class:"sticky-actions"},Tm=["disabled"],Om=["disabled"],Pm={class:"form-grid"},Am={class:"ops-field ops-field-required"},Um={class:"ops-field"},_m={class:"form-grid form-grid-three"},Rm={class:"ops-field"},Dm={class:"ops-field"},Em={class:"ops-field"},Fm={class:"form-grid form-grid-three"},Vm={class:"ops-field"},Lm={class:"ops-field"},Nm={class:"ops-field"},zm={class:"ops-field"},Mm={class:"sticky-actions"},Km=["disabled"],Hm=["disabled"],Bm={__name:"PromotionsTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",Gp,[i("div",null,[t[24]||(t[24]=i("h2",null,"Акции",-1)),i("p",null,s(e.promotionState.items.length)+" акций · "+s(e.promotionState.promoCodes.length)+" кодов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreatePromotion&&e.startCreatePromotion(...t))}," Новая акция ")]),e.isTabLoading("promotions")?(a(),o("div",Qp,[...t[25]||(t[25]=[i("strong",null,"Загружаю акции",-1)])])):(a(),o("div",Yp,[(a(!0),o(p,null,m(e.promotionState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.promotionState.selectedId===t.id&&"promotion"===e.promotionState.mode}]),onClick:n=>e.selectPromotion(t)},[i("div",Xp,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.activeNow?"pill-positive":"pill-muted"])},s(t.status),3)]),i("p",Wp,s(t.type),1),i("div",Zp,[i("span",null,s(t.startsAt?e.formatDateTime(t.startsAt):"Без начала"),1),i("span",null,s(t.endsAt?e.formatDateTime(t.endsAt):"Без окончания"),1)])],10,Jp))),128)),(a(!0),o(p,null,m(e.promotionState.promoCodes,n=>(a(),o("button",{key:n.id,type:"button",class:l(["list-card",{active:e.promotionState.selectedPromoCodeId===n.id&&"promoCode"===e.promotionState.mode}]),onClick:t=>e.selectPromoCode(n)},[i("div",tm,[i("strong",null,s(n.code),1),i("span",{class:l(["pill",n.activeNow?"pill-positive":"pill-muted"])},s(n.status),3)]),t[26]||(t[26]=i("p",{class:"list-card-slug"},"Промокод",-1)),i("div",nm,[i("span",null,s(n.redemptionCount)+" использований",1),i("span",null,s(n.maxRedemptions||"Без лимита"),1)])],10,em))),128))]))]),detail:u(()=>[i("section",am,[i("header",om,[i("div",null,[t[27]||(t[27]=i("p",{class:"detail-kicker"},"Акции",-1)),i("h2",null,s("promoCode"===e.promotionState.mode?"Промокод":"Акция"),1),t[28]||(t[28]=i("p",{class:"detail-subtitle"},"Directus редактирует только backend-акции. Пороговые скидки DSC-01 фиксированы в API.",-1))]),i("div",lm,[i("button",{class:"button button-secondary",type:"button",onClick:t[1]||(t[1]=(...t)=>e.startCreatePromotion&&e.startCreatePromotion(...t))}," Акция "),i("button",{class:"button button-secondary",type:"button",onClick:t[2]||(t[2]=(...t)=>e.startCreatePromoCode&&e.startCreatePromoCode(...t))}," Промокод ")])]),"promoCode"!==e.promotionState.mode?(a(),o("form",{key:0,class:"editor-form",onSubmit:t[12]||(t[12]=v((...t)=>e.submitPromotion&&e.submitPromotion(...t),["prevent"]))},[i("div",im,[i("label",rm,[t[29]||(t[29]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.promotionForm.name=t),type:"text"},null,512),[[f,e.promotionForm.name,void 0,{trim:!0}]])]),t[30]||(t[30]=i("div",{class:"inline-note"}," Тип акции: PRODUCT_SALE. Скидки по сумме корзины: 50 000 ₽ → 5%, 65 000 ₽ → 7%, 100 000 ₽ → 10%. ",-1))]),i("div",sm,[i("label",dm,[t[32]||(t[32]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.promotionForm.status=t)},[...t[31]||(t[31]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"DRAFT"},"DRAFT",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.promotionForm.status]])]),i("label",cm,[t[33]||(t[33]=i("span",null,"Начало",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.promotionForm.startsAt=t),type:"datetime-local"},null,512),[[f,e.promotionForm.startsAt]])]),i("label",um,[t[34]||(t[34]=i("span",null,"Окончание",-1)),b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.promotionForm.endsAt=t),type:"datetime-local"},null,512),[[f,e.promotionForm.endsAt]])])]),i("div",pm,[i("label",mm,[t[35]||(t[35]=i("span",null,"Цена распродажи, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[7]||(t[7]=t=>e.promotionForm.salePriceAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promotionForm.salePriceAmount,void 0,{number:!0}]])]),i("label",bm,[t[36]||(t[36]=i("span",null,"Скидка, %",-1)),b(i("input",{"onUpdate:modelValue":t[8]||(t[8]=t=>e.promotionForm.discountPercent=t),type:"number",min:"0",max:"100",step:"1"},null,512),[[f,e.promotionForm.discountPercent,void 0,{number:!0}]])])]),i("section",fm,[i("div",ym,[t[37]||(t[37]=i("div",null,[i("h3",null,"Цели распродажи"),i("p",null,"Можно указать несколько товаров, вариантов, категорий или брендов.")],-1)),i("button",{class:"button button-secondary",type:"button",onClick:t[9]||(t[9]=(...t)=>e.addPromotionTarget&&e.addPromotionTarget(...t))}," Добавить цель ")]),e.promotionForm.targets.length?(a(),o("div",vm,[(a(!0),o(p,null,m(e.promotionForm.targets,(n,l)=>(a(),o("div",{key:`promotion-target-${l}`,class:"spec-item-row"},[i("label",gm,[t[39]||(t[39]=i("span",null,"Тип цели",-1)),b(i("select",{"onUpdate:modelValue":e=>n.targetKind=e},[...t[38]||(t[38]=[i("option",{value:"VARIANT"},"VARIANT",-1),i("option",{value:"PRODUCT"},"PRODUCT",-1),i("option",{value:"BRAND"},"BRAND",-1),i("option",{value:"CATEGORY"},"CATEGORY",-1)])],8,hm),[[g,n.targetKind]])]),i("label",km,[t[40]||(t[40]=i("span",null,"Ключ цели",-1)),b(i("input",{"onUpdate:modelValue":e=>n.targetKey=e,type:"text",placeholder:"sku, slug или UUID"},null,8,Sm),[[f,n.targetKey,void 0,{trim:!0}]])]),i("button",{class:"button button-danger button-small spec-item-remove",type:"button",onClick:t=>e.removePromotionTarget(l)}," Удалить ",8,wm)]))),128))])):(a(),o("div",Cm,"Без целей акция применяется ко всем товарам."))]),i("label",xm,[t[41]||(t[41]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[10]||(t[10]=t=>e.promotionForm.description=t),rows:"4"},null,512),[[f,e.promotionForm.description]])]),i("div",Im,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.promotionForm.id?"Сохранить акцию":"Создать акцию"),9,Tm),e.promotionForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[11]||(t[11]=(...t)=>e.deletePromotion&&e.deletePromotion(...t))}," Удалить ",8,Om)):d("v-if",!0)])],32)):(a(),o("form",{key:1,class:"editor-form",onSubmit:t[23]||(t[23]=v((...t)=>e.submitPromoCode&&e.submitPromoCode(...t),["prevent"]))},[i("div",Pm,[i("label",Am,[t[42]||(t[42]=i("span",null,"Код",-1)),b(i("input",{"onUpdate:modelValue":t[13]||(t[13]=t=>e.promoCodeForm.code=t),type:"text"},null,512),[[f,e.promoCodeForm.code,void 0,{trim:!0}]])]),i("label",Um,[t[44]||(t[44]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[14]||(t[14]=t=>e.promoCodeForm.status=t)},[...t[43]||(t[43]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.promoCodeForm.status]])])]),i("div",_m,[i("label",Rm,[t[45]||(t[45]=i("span",null,"Скидка, %",-1)),b(i("input",{"onUpdate:modelValue":t[15]||(t[15]=t=>e.promoCodeForm.discountPercent=t),type:"number",min:"0",max:"100",step:"1"},null,512),[[f,e.promoCodeForm.discountPercent,void 0,{number:!0}]])]),i("label",Dm,[t[46]||(t[46]=i("span",null,"Скидка суммой, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[16]||(t[16]=t=>e.promoCodeForm.discountAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promoCodeForm.discountAmount,void 0,{number:!0}]])]),i("label",Em,[t[47]||(t[47]=i("span",null,"Порог, ₽",-1)),b(i("input",{"onUpdate:modelValue":t[17]||(t[17]=t=>e.promoCodeForm.thresholdAmount=t),type:"number",min:"0",step:"0.01"},null,512),[[f,e.promoCodeForm.thresholdAmount,void 0,{number:!0}]])])]),i("div",Fm,[i("label",Vm,[t[48]||(t[48]=i("span",null,"Начало",-1)),b(i("input",{"onUpdate:modelValue":t[18]||(t[18]=t=>e.promoCodeForm.startsAt=t),type:"datetime-local"},null,512),[[f,e.promoCodeForm.startsAt]])]),i("label",Lm,[t[49]||(t[49]=i("span",null,"Окончание",-1)),b(i("input",{"onUpdate:modelValue":t[19]||(t[19]=t=>e.promoCodeForm.endsAt=t),type:"datetime-local"},null,512),[[f,e.promoCodeForm.endsAt]])]),i("label",Nm,[t[50]||(t[50]=i("span",null,"Лимит",-1)),b(i("input",{"onUpdate:modelValue":t[20]||(t[20]=t=>e.promoCodeForm.maxRedemptions=t),type:"number",min:"0",step:"1"},null,512),[[f,e.promoCodeForm.maxRedemptions,void 0,{number:!0}]])])]),i("label",zm,[t[51]||(t[51]=i("span",null,"Описание",-1)),b(i("textarea",{"onUpdate:modelValue":t[21]||(t[21]=t=>e.promoCodeForm.description=t),rows:"4"},null,512),[[f,e.promoCodeForm.description]])]),i("div",Mm,[i("button",{class:"button button-primary",type:"submit",disabled:e.isSubmitting},s(e.promoCodeForm.id?"Сохранить промокод":"Создать промокод"),9,Km),e.promoCodeForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[22]||(t[22]=(...t)=>e.deletePromoCode&&e.deletePromoCode(...t))}," Удалить ",8,Hm)):d("v-if",!0)])],32))])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))},$m={class:"pane-header"},jm={key:0,class:"empty-state"},qm={key:1,class:"card-list"},Gm=["onClick"],Qm={class:"list-card-head"},Ym={class:"list-card-meta"},Jm={class:"detail-card"},Xm={class:"detail-header"},Wm={class:"form-grid"},Zm={class:"ops-field ops-field-required"},eb={class:"ops-field"},tb={class:"form-grid form-grid-three"},nb={class:"ops-field"},ab={class:"ops-field"},ob={class:"ops-field"},lb={class:"ops-field ops-field-boolean"},ib={class:"ops-toggle"},rb={class:"sticky-actions detail-footer-actions"},sb=["disabled"],db=["disabled"],cb={__name:"TaxTab",props:M,setup:e=>(e,t)=>(a(),c(z,{"active-detail-open":e.activeDetailOpen,"active-tab-has-master-detail":e.activeTabHasMasterDetail,"active-tab-label":e.activeTabLabel,"close-active-detail":e.closeActiveDetail},{list:u(()=>[i("div",$m,[i("div",null,[t[9]||(t[9]=i("h2",null,"Налоги",-1)),i("p",null,s(e.taxState.items.length)+" режимов",1)]),i("button",{class:"button button-primary",type:"button",onClick:t[0]||(t[0]=(...t)=>e.startCreateTax&&e.startCreateTax(...t))}," Новый режим ")]),e.isTabLoading("tax")?(a(),o("div",jm,[...t[10]||(t[10]=[i("strong",null,"Загружаю настройки",-1)])])):(a(),o("div",qm,[(a(!0),o(p,null,m(e.taxState.items,t=>(a(),o("button",{key:t.id,type:"button",class:l(["list-card",{active:e.taxState.selectedId===t.id}]),onClick:n=>e.selectTax(t)},[i("div",Qm,[i("strong",null,s(t.name),1),i("span",{class:l(["pill",t.active?"pill-positive":"pill-muted"])},s(t.active?"Активен":t.status),3)]),i("div",Ym,[i("span",null,"СНО "+s(t.taxSystemCode),1),i("span",null,"НДС "+s(t.vatCode),1),i("span",null,s(t.vatRatePercent??0)+"%",1)])],10,Gm))),128))]))]),detail:u(()=>[i("section",Jm,[i("header",Xm,[i("div",null,[t[11]||(t[11]=i("p",{class:"detail-kicker"},"Налоги",-1)),i("h2",null,s(e.taxForm.id?e.taxForm.name:"Новый налоговый режим"),1),t[12]||(t[12]=i("p",{class:"detail-subtitle"},"Активный режим используется при создании чеков YooKassa.",-1))])]),i("form",{id:"storefront-ops-tax-form",class:"editor-form",onSubmit:t[7]||(t[7]=v((...t)=>e.submitTax&&e.submitTax(...t),["prevent"]))},[i("div",Wm,[i("label",Zm,[t[13]||(t[13]=i("span",null,"Название",-1)),b(i("input",{"onUpdate:modelValue":t[1]||(t[1]=t=>e.taxForm.name=t),type:"text"},null,512),[[f,e.taxForm.name,void 0,{trim:!0}]])]),i("label",eb,[t[15]||(t[15]=i("span",null,"Статус",-1)),b(i("select",{"onUpdate:modelValue":t[2]||(t[2]=t=>e.taxForm.status=t)},[...t[14]||(t[14]=[i("option",{value:"ACTIVE"},"ACTIVE",-1),i("option",{value:"INACTIVE"},"INACTIVE",-1)])],512),[[g,e.taxForm.status]])])]),i("div",tb,[i("label",nb,[t[16]||(t[16]=i("span",null,"Код СНО YooKassa",-1)),b(i("input",{"onUpdate:modelValue":t[3]||(t[3]=t=>e.taxForm.taxSystemCode=t),type:"number",min:"1",step:"1"},null,512),[[f,e.taxForm.taxSystemCode,void 0,{number:!0}]])]),i("label",ab,[t[17]||(t[17]=i("span",null,"Код НДС YooKassa",-1)),b(i("input",{"onUpdate:modelValue":t[4]||(t[4]=t=>e.taxForm.vatCode=t),type:"number",min:"1",step:"1"},null,512),[[f,e.taxForm.vatCode,void 0,{number:!0}]])]),i("label",ob,[t[18]||(t[18]=i("span",null,"Ставка НДС, %",-1)),b(i("input",{"onUpdate:modelValue":t[5]||(t[5]=t=>e.taxForm.vatRatePercent=t),type:"number",min:"0",step:"0.001"},null,512),[[f,e.taxForm.vatRatePercent,void 0,{number:!0}]])])]),i("label",lb,[t[19]||(t[19]=i("span",null,"Активность",-1)),i("label",ib,[b(i("input",{"onUpdate:modelValue":t[6]||(t[6]=t=>e.taxForm.active=t),type:"checkbox"},null,512),[[h,e.taxForm.active]]),i("span",null,s(e.taxForm.active?"Использовать в чеках":"Не использовать"),1)])])],32),i("div",rb,[i("button",{class:"button button-primary",type:"submit",form:"storefront-ops-tax-form",disabled:e.isSubmitting},s(e.taxForm.id?"Сохранить режим":"Создать режим"),9,sb),e.taxForm.id?(a(),o("button",{key:0,class:"button button-danger",type:"button",disabled:e.isSubmitting,onClick:t[8]||(t[8]=(...t)=>e.deleteTax&&e.deleteTax(...t))}," Удалить ",8,db)):d("v-if",!0)])])]),_:1},8,["active-detail-open","active-tab-has-master-detail","active-tab-label","close-active-detail"]))};const ub=new Set(["READY","FAILED","ABORTED","EXPIRED"]),pb=new Set(["image/jpeg","image/png","image/webp"]);function mb({bridgeRequest:e,xhrFactory:t=()=>new XMLHttpRequest}){function n(e,n,a,o){return new Promise((l,i)=>{const r=t();r.open("PUT",e,!0),Object.entries(a||{}).forEach(([e,t])=>r.setRequestHeader(e,t)),r.upload.onprogress=e=>{e.lengthComputable&&o(e.loaded)},r.onerror=()=>i(new Error("Соединение с хранилищем прервано.")),r.onabort=()=>i(new Error("Загрузка отменена.")),r.onload=()=>{r.status<200||r.status>=300?i(new Error(`Хранилище вернуло HTTP ${r.status}.`)):l(r.getResponseHeader("ETag")||"")},r.send(n)})}return{uploadBatch:async function({targetType:t,entityId:a,files:o,onState:l=()=>{}}){const i=await async function(e){return Promise.all(e.map(async e=>({...e,contentType:await yb(e.file)})))}(o);fb(i);const r=await e("/media/uploads",{method:"POST",data:{targetType:t,entityId:a,files:i.map(({file:e,contentType:t,variantId:n,position:a})=>({filename:e.name,contentType:t,size:e.size,variantId:n||null,position:Number.isInteger(a)?a:null}))}}),s=new Map(r.items.map(e=>[e.id,0]));hb(r.items,s,l),await gb(r.items,2,async(t,a)=>{const o=i[a];try{"MULTIPART"===t.uploadMethod?await async function(t,a,o){const l=Array.from({length:t.totalParts},(e,n)=>{const o=n+1,l=n*t.partSize,i=Math.min(a.size,l+t.partSize);return{partNumber:o,blob:a.slice(l,i),size:i-l,loaded:0}}),i=[];await gb(l,3,async a=>{let r;for(let s=0;s<3;s+=1)try{const r=(await e(`/media/uploads/${t.id}/parts`,{method:"POST",data:{partNumbers:[a.partNumber]}})).parts[0],s=await n(r.url,a.blob,r.headers,e=>{a.loaded=e,o(l.reduce((e,t)=>e+t.loaded,0))});return void i.push({partNumber:a.partNumber,eTag:s})}catch(e){a.loaded=0,r=e}throw r}),i.sort((e,t)=>e.partNumber-t.partNumber),await e(`/media/uploads/${t.id}/complete`,{method:"POST",data:{parts:i}})}(t,o.file,e=>{s.set(t.id,e/o.file.size),hb(r.items,s,l)}):await async function(t,a,o){let l,i={url:t.putUrl,headers:t.putHeaders||{}};for(let r=0;r<3;r+=1){r>0&&(i=await e(`/media/uploads/${t.id}/url`,{method:"POST"}));try{return await n(i.url,a,i.headers,o),void await e(`/media/uploads/${t.id}/complete`,{method:"POST",data:{}})}catch(e){l=e}}throw l}(t,o.file,e=>{s.set(t.id,e/o.file.size),hb(r.items,s,l)}),s.set(t.id,1),t.status="QUEUED",hb(r.items,s,l)}catch(n){try{await e(`/media/uploads/${t.id}`,{method:"DELETE"})}catch{}t.status="ABORTED",t.error=n?.message||"Не удалось загрузить файл.",hb(r.items,s,l)}});let d=await e(`/media/uploads/batches/${r.batchId}`);for(hb(d.items,s,l);!d.items.every(e=>ub.has(e.status));)await kb(2e3),d=await e(`/media/uploads/batches/${r.batchId}`),hb(d.items,s,l);return d}}}function bb(e){fb(e.map(e=>({file:e})))}function fb(e){if(!e.length)throw new Error("Выберите хотя бы один файл.");for(const{file:t,contentType:n}of e){const e=n||vb(t.type,t.name);if(!pb.has(e))throw new Error(`${t.name}: поддерживаются только JPEG, PNG и WebP.`);if(t.size>104857600)throw new Error(`${t.name}: размер превышает 100 МБ.`)}}async function yb(e){const t=await async function(e){if(!e?.slice||"function"!=typeof e.slice(0,16).arrayBuffer)return"";const t=new Uint8Array(await e.slice(0,16).arrayBuffer());if(255===t[0]&&216===t[1]&&255===t[2])return"image/jpeg";if(137===t[0]&&80===t[1]&&78===t[2]&&71===t[3]&&13===t[4]&&10===t[5]&&26===t[6]&&10===t[7])return"image/png";if(82===t[0]&&73===t[1]&&70===t[2]&&70===t[3]&&87===t[8]&&69===t[9]&&66===t[10]&&80===t[11])return"image/webp";return""}(e);return t||vb(e.type,e.name)}function vb(e,t=""){const n=String(e||"").toLowerCase();if("image/jpg"===n)return"image/jpeg";if(n)return n;const a=String(t||"").split(".").pop()?.toLowerCase();return"jpg"===a||"jpeg"===a?"image/jpeg":"png"===a?"image/png":"webp"===a?"image/webp":""}async function gb(e,t,n){let a=0;const o=Array.from({length:Math.min(t,e.length)},async()=>{for(;a<e.length;){const t=a;a+=1,await n(e[t],t)}});await Promise.all(o)}function hb(e,t,n){n(e.map(e=>({...e,progress:Math.max(0,Math.min(1,t.get(e.id)||("READY"===e.status?1:0)))})))}function kb(e){return new Promise(t=>setTimeout(t,e))}const Sb=[{id:"home",label:"Главная"},{id:"products",label:"Товары"},{id:"categories",label:"Категории"},{id:"brands",label:"Бренды"},{id:"inventory",label:"Остатки"},{id:"orders",label:"Заказы"},{id:"imports",label:"Импорт"},{id:"promotions",label:"Акции"},{id:"tax",label:"Налоги"},{id:"analytics",label:"Аналитика"},{id:"alerts",label:"Алерты"}],wb=[{id:"main",label:"Основное"},{id:"variants",label:"Варианты"},{id:"media",label:"Медиа"},{id:"merch",label:"Мерчандайзинг"}],Cb=["products","categories","brands","inventory","orders","promotions","tax"],xb=["home","products","categories","brands","inventory","orders","imports","promotions","tax","analytics","alerts"],Ib=[...xb,"activePromotions"];function Tb(e,t,n){if(!t)return e||[];const a=t.toLowerCase();return(e||[]).filter(e=>n.some(t=>{const n=t(e);return n&&String(n).toLowerCase().includes(a)}))}function Ob(e){const t=Number(e.depth||0);return`${t>0?`${"· ".repeat(t)}`:""}${e.name}`}function Pb(e){const t=String(e||"").toLowerCase();return"published"===t?"Опубликован":"in_review"===t?"На проверке":"archived"===t?"В архиве":"draft"===t?"Черновик":"Без статуса"}function Ab(e){if(!e?.amount&&0!==e?.amount)return"Цена не задана";const t=e.currency||"RUB";return Ub(e.amount,t)}function Ub(e,t="RUB"){if(null==e||""===e)return"Не задано";const n=Number(e);return Number.isFinite(n)?`${(n/100).toLocaleString("ru-RU")} ${t}`:"Не задано"}function _b(e){if(!e)return"Не задано";const t=new Date(e);return Number.isNaN(t.getTime())?"Не задано":new Intl.DateTimeFormat("ru-RU",{dateStyle:"short",timeStyle:"short"}).format(t)}function Rb(e){if(!e)return null;const t=new Date(e);return Number.isNaN(t.getTime())?null:t.toISOString()}function Db(e){if(!e)return"";const t=new Date(e);if(Number.isNaN(t.getTime()))return"";const n=t.getTimezoneOffset();return new Date(t.getTime()-60*n*1e3).toISOString().slice(0,16)}function Eb(e){return Object.fromEntries(Object.entries(e||{}).filter(([,e])=>null!=e&&""!==String(e).trim()))}function Fb(e){return`${(100*Number(e||0)).toFixed(1)}%`}function Vb(e){return(Array.isArray(e)?e:[]).map(e=>({title:String(e?.title||""),description:String(e?.description||""),items:(Array.isArray(e?.items)?e.items:[]).map(e=>({label:String(e?.label||""),value:String(e?.value||"")}))}))}function Lb(e){return(Array.isArray(e)?e:[]).map(e=>({title:Kb(e?.title),description:Kb(e?.description),items:(Array.isArray(e?.items)?e.items:[]).map(e=>({label:Kb(e?.label),value:Kb(e?.value)})).filter(e=>e.label&&e.value)})).filter(e=>e.title||e.description||e.items.length)}function Nb(e){if(""===e||null==e)return null;const t=Number(e);return Number.isFinite(t)?t:null}function zb(e){const t=Nb(e);return null===t?null:t/100}function Mb(e){const t=Nb(e);return null===t?null:Math.round(100*t)}function Kb(e){const t=String(e||"").trim();return t||null}function Hb(){return crypto.randomUUID()}const Bb={admin:["admin","administrator","администратор","администратор cms","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001"],catalogue:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004"],inventory:["4c4cc8d0-9b7f-4d56-84d2-1d64f5f10001","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"],manager:["manager","менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10006"],picker:["picker","сборщик","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10007"],content:["content_manager","content-manager","контент-менеджер","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10008","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10002","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10004","4c4cc8d0-9b7f-4d56-84d2-1d64f5f10005"]},$b={home:["admin","content"],products:["admin","content"],categories:["admin","content"],brands:["admin","content"],inventory:["admin","content"],orders:["admin","manager","picker"],imports:["admin","content"],promotions:["admin","content"],tax:["admin"],analytics:["admin","manager"],alerts:["admin","content"]};function jb(e){return String(e||"").trim().toLowerCase()}function qb(e,t,n){const a=(o=e?.[t],String(o||"").split(",").map(e=>e.trim()).filter(Boolean));var o;return a.length?a:Bb[n]||[]}function Gb(e,...t){if(!e||0===e.size)return!1;const n=new Set([...e].map(e=>jb(e)));return t.map(e=>jb(e)).filter(Boolean).some(e=>n.has(e))}function Qb(e={},t=null){if(["admin","manager","picker","content"].includes(e.roleKind))return e.roleKind;const n=t||function(e={}){return{admin:new Set(qb(e,"STOREFRONT_OPS_ADMIN_ROLE_IDS","admin")),catalogue:new Set(qb(e,"STOREFRONT_OPS_CATALOGUE_ROLE_IDS","catalogue")),inventory:new Set(qb(e,"STOREFRONT_OPS_INVENTORY_ROLE_IDS","inventory")),manager:new Set(qb(e,"STOREFRONT_OPS_MANAGER_ROLE_IDS","manager")),picker:new Set(qb(e,"STOREFRONT_OPS_PICKER_ROLE_IDS","picker")),content:new Set(qb(e,"STOREFRONT_OPS_CONTENT_ROLE_IDS","content"))}}(),a=[e.roleId,e.roleName,e.primaryRole,e.roles];return e.roleAdminAccess||Gb(n.admin,...a)?"admin":Gb(n.manager,...a)?"manager":Gb(n.picker,...a)?"picker":Gb(n.content,...a)?"content":"unknown"}const Yb={home:"/",about:"/about",delivery:"/info/delivery",payment:"/info/payment",production:"/info/production",legal:"/info/legal"};function Jb({baseUrl:e,kind:t,key:n,id:a}={}){const o=String(e||"").trim().replace(/\/+$/,"");const l=String(t||"").trim().toLowerCase(),i=String(n||"").trim(),r=String(a||"").trim();if(!o||!l)return"";let s="";if("page"===l)s=Yb[i]||`/info/${encodeURIComponent(i)}`;else if("product"===l){const e=encodeURIComponent(r||i);s=i?`/product/${e}/${encodeURIComponent(i)}`:`/product/${e}`}else"category"===l&&(s=`/category/${encodeURIComponent(i)}`);if(!s)return"";const d=new URL(s,`${o}/`);return d.searchParams.set("cmsPreview","1"),d.toString()}const Xb="storefront-ops-view",Wb="storefront-ops-view-root";function Zb(t){const n=e(),{bridgePage:$invPage,bridgeRequest:a,directusRequest:o}=function(e){function t(t,n={}){return e.request({url:`/storefront-ops-bridge${t}`,method:n.method||"GET",params:n.params,data:n.data,headers:n.headers})}return{bridgePage:async function(e,n={}){const a=await t(e,n),o=Number.parseInt(a.headers?.["x-total-count"]??"",10);return{data:a.data,total:Number.isFinite(o)?o:null}},bridgeRequest:async function(e,n={}){return(await t(e,n)).data},directusRequest:async function(t,n={}){const a=await e.request({url:t,method:n.method||"GET",params:n.params,data:n.data});return a?.data?.data??a?.data??null}}}(n),l=mb({bridgeRequest:a}),i=Sb,r=wb,s=["PENDING","PAID","PROCESSING","READY_FOR_PICKUP","SHIPPED","DELIVERED","RECEIVED","CANCELLED","REFUNDED"],d=["PROCESSING","READY_FOR_PICKUP","SHIPPED"],c="storefront-ops.workspace-state",u="home",p=new Set(["этот раздел уже открыт.","этот товар уже открыт.","эта категория уже открыта.","этот бренд уже открыт.","этот раздел товара уже открыт.","этот вариант уже выбран для корректировки.","этот заказ уже открыт.","этот импорт уже выбран.","эта акция уже открыта.","этот промокод уже открыт.","этот налоговый режим уже открыт.","раздел товара открыт.","вариант открыт для редактирования.","акция открыта для редактирования.","промокод открыт для редактирования.","налоговый режим открыт для редактирования.","открыта форма нового товара.","открыта форма новой категории.","открыта форма нового бренда.","открыта форма новой акции.","открыта форма нового промокода.","открыта форма нового налогового режима.","вариант выбран для корректировки остатков.","оверлей открыт в новой вкладке.","предпросмотр открыт в новой вкладке."]),m=[{value:"draft",label:"Черновик"},{value:"in_review",label:"На проверке"},{value:"published",label:"Опубликовано"},{value:"archived",label:"В архиве"}],b=[{value:"default",label:"Обычный"},{value:"warm",label:"Тёплый"},{value:"sage",label:"Шалфейный"},{value:"quiet",label:"Спокойный"},{value:"legal",label:"Юридический"},{value:"accent",label:"Акцентный"}],f=[{value:"contained",label:"Обычный блок"},{value:"full",label:"На всю ширину"},{value:"media_right",label:"Медиа справа"},{value:"media_left",label:"Медиа слева"},{value:"cards",label:"Карточки"},{value:"rail",label:"Горизонтальная лента"},{value:"shop_the_look",label:"Shop the look"}],y=[{value:"hero",label:"Первый экран"},{value:"category_reference_list",label:"Категории"},{value:"product_reference_list",label:"Товары"},{value:"collection_teaser",label:"Подборка"},{value:"feature_list",label:"Преимущества"},{value:"banner_group",label:"Баннер"},{value:"newsletter_cta",label:"Подписка"},{value:"rich_text",label:"Текст"}],v=[{value:"manual",label:"Ручная"},{value:"backend_rule",label:"Правило backend"},{value:"hybrid",label:"Гибрид"}],g=[{value:"",label:"Без правила"},{value:"new",label:"Новинки"},{value:"bestsellers",label:"Бестселлеры"},{value:"category",label:"Категория"},{value:"brand",label:"Бренд"},{value:"sale",label:"Распродажа"}],h=[{value:"default",label:"По умолчанию"},{value:"newest",label:"Сначала новые"},{value:"oldest",label:"Сначала старые"},{value:"alphabetical",label:"По алфавиту"},{value:"price_asc",label:"Цена ↑"},{value:"price_desc",label:"Цена ↓"}],w={hero:"Первый экран",category_reference_list:"Категории",collection_teaser:"Подборка",product_reference_list:"Товары",feature_list:"Список преимуществ",banner_group:"Баннеры",newsletter_cta:"Подписка",rich_text:"Текст"},x=S("home"),A=S(""),U=I({type:"",text:""}),_=S(!1),R=S(!1),D=S(!1),E=S(""),F=I({loaded:!1,userId:"",email:"",externalId:"",roleKind:"",roleId:"",roleName:"",roleAdminAccess:!1,previewBaseUrl:""}),V=I(Object.fromEntries(xb.map(e=>[e,0]))),L=I(Object.fromEntries(Ib.map(e=>[e,!1]))),N=I({loaded:!1,page:null,sections:[],selectedSectionIndex:0,presetToAdd:"product_reference_list",categoryOptions:[],productOptions:[],collectionOptions:[],collectionItemsById:{},categoryQuery:"",categoryToAdd:"",collectionToAdd:"",collectionDraft:null,collectionProductQuery:"",collectionProductToAdd:"",collectionCategoryQuery:"",collectionCategoryToAdd:"",originalItemIds:[],originalCollectionRuleIds:[]}),z=I({page:{id:"",status:"draft",title:"",summary:"",seoTitle:"",seoDescription:""},announcementBanner:{id:"",status:"draft",internalName:"Баннер в шапке",shortText:""},sections:[]}),M=S(""),K=S(""),H=I({loaded:!1,query:"",items:[],brandOptions:[],categoryOptions:[],overlayReadFailed:!1,selectedId:"",detail:null,isCreating:!1,panel:"main"}),B=I({loaded:!1,query:"",items:[],parentOptions:[],overlayReadFailed:!1,selectedId:"",detail:null,isCreating:!1}),$=I({loaded:!1,query:"",items:[],selectedId:"",detail:null,isCreating:!1}),j=I({loaded:!1,query:"",items:[],selectedVariantId:""}),q=I({id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G=S(""),Q=S(""),Y=I({id:"",sku:"",name:"",amount:0,currency:"RUB",stock:0,weightGrossG:null,lengthMm:null,widthMm:null,heightMm:null}),J=S(""),X=I({variantId:""}),W=S([]),Z=I({items:[],activeBatchId:"",targetType:"",entityId:"",busy:!1});let ee=null,$invTimer=null,$invToken=0;const te=I({id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne=S(""),ae=S(null),oe=I({id:"",name:"",slug:"",description:""}),le=S(""),ie=I({variantId:"",delta:0,reason:"",idempotencyKey:Hb()}),re=I({loaded:!1,query:"",status:"",manager:"",archived:"all",from:"",to:"",items:[],selectedId:"",selectedFilteredOut:!1,detail:null,nextStatus:"",note:"",rmaReason:"",rmaDesiredResolution:"",rmaDecisionForms:{},refundForms:{}}),se=I({loaded:!1,jobs:[],selectedJobId:"",file:null,dryRun:null,notUpdatedModalOpen:!1,mapping:{sku:"Номенклатура.Артикул",productName:"Номенклатура",productSlug:"product_slug",variantName:"variant_name",brandSlug:"brand_slug",categorySlug:"category_slug",priceAmount:"price",stockQuantity:"stock",currency:"currency"}}),de=[{key:"sku",label:"Артикул"},{key:"productName",label:"Название"}],ce=I({loaded:!1,items:[],promoCodes:[],selectedId:"",selectedPromoCodeId:"",mode:"promotion",isCreating:!1,promoCodeCreating:!1}),ue=I({loaded:!1,items:[]}),pe=I({id:"",name:"",type:"PRODUCT_SALE",status:"ACTIVE",startsAt:"",endsAt:"",discountPercent:null,discountAmount:null,salePriceAmount:null,currency:"RUB",thresholdAmount:null,description:"",targets:[]}),me=I({id:"",code:"",status:"ACTIVE",discountPercent:null,discountAmount:null,thresholdAmount:null,startsAt:"",endsAt:"",maxRedemptions:null,description:""}),be=I({loaded:!1,items:[],selectedId:"",isCreating:!1}),fe=I({id:"",name:"",status:"ACTIVE",taxSystemCode:1,vatCode:1,vatRatePercent:0,active:!1}),ye=I({loaded:!1,from:"",to:"",manager:"",managerRows:[],paymentLinks:{sent:0,paid:0,conversionRate:0,rows:[]},metrika:{enabled:!1,offlineImportEnabled:!1,counterConfigured:!1,pending:0,sent:0,failed:0,skipped:0}}),ve=I({loaded:!1,threshold:5,rows:[]}),ge=k(()=>Qb(F)),he=k(()=>"manager"===ge.value),ke=k(()=>["admin","manager","picker","content"].includes(ge.value)),Se=k(()=>i.filter(e=>wt(e.id))),we=k(()=>Se.value[0]?.id||"products"),Ce=k(()=>Se.value.find(e=>e.id===x.value)?.label||"Раздел"),xe=k(()=>{return e=x.value,Cb.includes(e);var e}),Ie=k(()=>t[x.value]||t.home),Te=k(()=>re.detail?.order||null),Oe=k(()=>re.detail?.rmaRequests||[]),Pe=k(()=>"picker"===ge.value?d:s),Ae=k(()=>{const e=Te.value;return Boolean(e&&!vt(e)&&["admin","manager"].includes(ge.value)&&!kt(e))}),Ue=k(()=>Boolean(Te.value&&!vt(Te.value)&&"admin"===ge.value&&kt(Te.value))),_e=k(()=>Boolean(Te.value&&!vt(Te.value)&&"admin"===ge.value)),Re=k(()=>Boolean(Te.value&&vt(Te.value)&&"admin"===ge.value)),De=k(()=>{const e=Te.value;return!(!e||vt(e)||!re.nextStatus)&&("admin"===ge.value||("manager"===ge.value?St(e):"picker"===ge.value&&d.includes(re.nextStatus)))}),Ee=k(()=>{const e=Te.value;return!(!e||vt(e))&&("admin"===ge.value||"manager"===ge.value&&(!kt(e)||St(e)))}),Fe=k(()=>{const e=Te.value;return!(!e||vt(e))&&("admin"===ge.value||"manager"===ge.value&&St(e))}),Ve=k(()=>{const e=Te.value?.paymentSummary,t=!!Array.isArray(e?.refunds)&&e.refunds.some(e=>"PENDING"===e?.status);return Boolean("admin"===ge.value&&!vt(Te.value)&&e&&"COMPLETED"===e.status&&!t&&function(e){const t=Number(e?.amount??0);return Number.isFinite(t)?t:0}(e.refundableAmount)>0)}),Le=k(()=>F.roleName?F.roleName:"admin"===ge.value?"Администратор":"manager"===ge.value?"Менеджер":"picker"===ge.value?"Сборщик":"content"===ge.value?"Контент-менеджер":"Роль Directus"),Ne=k(()=>he.value?"Доступны заказы, активные акции и только собственная аналитика.":"Доступ разделов ограничен ролью пользователя."),ze=k(()=>Tb(H.items,H.query,[e=>e.name,e=>e.slug,e=>e.brand?.name,e=>e.brand?.slug])),Me=k(()=>Tb(B.items,B.query,[e=>e.name,e=>e.slug,e=>e.fullPath])),Ke=k(()=>{if(!z.sections.length)return null;const e=Math.max(0,Math.min(N.selectedSectionIndex,z.sections.length-1));return z.sections[e]||null}),He=k(()=>z.sections),Be=k(()=>Ke.value?`${N.selectedSectionIndex+1} из ${z.sections.length}`:""),$e=k(()=>z.sections.find(e=>"category_reference_list"===e.sectionType)||null),je=k(()=>new Set(z.sections.filter(e=>"category_reference_list"===e.sectionType).flatMap(e=>e.items||[]).filter(e=>"category_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)))),qe=k(()=>{const e=N.categoryQuery.trim().toLowerCase();return(N.categoryOptions||[]).filter(e=>!1!==e.isActive).filter(e=>!je.value.has(Ut(e.slug))).filter(t=>!e||[t.name,t.slug,t.fullPath].filter(Boolean).some(t=>String(t).toLowerCase().includes(e)))}),Ge=k(()=>{const e=new Set((Ke.value?.items||[]).filter(e=>"storefront_collection"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)));return(N.collectionOptions||[]).filter(e=>"published"!==z.page.status||"published"===e.status).filter(t=>!e.has(Ut(t.key)))}),Qe=k(()=>{const e=new Set((N.collectionDraft?.rules||[]).filter(e=>"product"===e.entityKind).map(e=>Ut(e.entityKey))),t=N.collectionProductQuery.trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(t=>!e.has(Ut(t.slug))).filter(e=>!t||[e.name,e.slug,e.brand?.name,e.brand?.slug].filter(Boolean).some(e=>String(e).toLowerCase().includes(t)))}),Ye=k(()=>{const e=new Set((N.collectionDraft?.rules||[]).filter(e=>"category"===e.entityKind).map(e=>Ut(e.entityKey))),t=N.collectionCategoryQuery.trim().toLowerCase();return(N.categoryOptions||[]).filter(e=>!1!==e.isActive).filter(t=>!e.has(Ut(t.slug))).filter(e=>!t||[e.name,e.slug,e.fullPath].filter(Boolean).some(e=>String(e).toLowerCase().includes(t)))}),Je=k(()=>Tb($.items,$.query,[e=>e.name,e=>e.slug])),Xe=k(()=>j.items),We=k(()=>{if(!Q.value)return et.value;const e=Q.value.toLowerCase();return et.value.filter(t=>[t.name,t.slug,t.fullPath].filter(Boolean).some(t=>String(t).toLowerCase().includes(e)))}),Ze=k(()=>H.brandOptions||[]),et=k(()=>H.categoryOptions||[]),tt=k(()=>{const e=te.id;return(B.parentOptions||[]).filter(t=>t.id!==e)});function nt(e){Q.value=String(e||"")}const at=k(()=>j.items.find(e=>e.variantId===j.selectedVariantId)||null),ot=k(()=>H.detail?.item?.overlay||null),lt=k(()=>B.detail?.item?.overlay||null),it=k(()=>G.value!==Ra()),rt=k(()=>J.value!==Fa()),st=k(()=>ne.value!==Va()),dt=k(()=>le.value!==La()),ct=k(()=>M.value!==Da()||K.value!==Ea()),ut=k(()=>"published"===z.page.status?"Сохранить и опубликовать":"Сохранить черновик"),pt=k(()=>"home"===x.value?ct.value:"products"===x.value?it.value||rt.value:"categories"===x.value?st.value:"brands"===x.value&&dt.value),mt=k(()=>"products"===x.value?H.isCreating||Boolean(H.detail):"categories"===x.value?B.isCreating||Boolean(B.detail):"brands"===x.value?$.isCreating||Boolean($.detail):"inventory"===x.value?Boolean(at.value):"orders"===x.value?Boolean(re.detail):"promotions"===x.value?Boolean(ce.selectedId||ce.selectedPromoCodeId||ce.isCreating||ce.promoCodeCreating):"tax"!==x.value||(be.isCreating||Boolean(be.selectedId))),bt=k(()=>({HOME_SECTION_PRESETS:y,HOME_STATUS_OPTIONS:m,HOME_STYLE_OPTIONS:b,HOME_LAYOUT_OPTIONS:f,STOREFRONT_COLLECTION_MODES:v,STOREFRONT_COLLECTION_RULE_TYPES:g,STOREFRONT_COLLECTION_SORT_MODES:h,productDetailTabs:r,importMappingFields:de,orderStatusOptions:Pe.value,accessState:F,loading:L,homeState:N,homeForm:z,productState:H,categoryState:B,brandState:$,inventoryState:j,productForm:q,variantForm:Y,productMediaForm:X,mediaUploadState:Z,categoryForm:te,brandForm:oe,inventoryForm:ie,orderState:re,importState:se,promotionState:ce,activePromotionState:ue,promotionForm:pe,promoCodeForm:me,taxState:be,taxForm:fe,analyticsState:ye,alertState:ve,roleKind:ge.value,isManagerRole:he.value,canViewActivePromotions:ke.value,activeDetailOpen:mt.value,activeTabHasMasterDetail:xe.value,activeTabLabel:Ce.value,filteredProducts:ze.value,filteredCategories:Me.value,filteredBrands:Je.value,filteredInventory:Xe.value,filteredProductCategoryOptions:We.value,productBrandOptions:Ze.value,productCategoryOptions:et.value,availableParentOptions:tt.value,selectedInventoryRow:at.value,productOverlayInfo:ot.value,categoryOverlayInfo:lt.value,productDirty:it.value,variantDirty:rt.value,categoryDirty:st.value,brandDirty:dt.value,homeDirty:ct.value,homeSaveLabel:ut.value,selectedOrder:Te.value,selectedOrderRmaRequests:Oe.value,canClaimSelectedOrder:Ae.value,canClearSelectedOrder:Ue.value,canArchiveSelectedOrder:_e.value,canRestoreSelectedOrder:Re.value,canSubmitSelectedOrderStatus:De.value,canManageSelectedOrderRma:Ee.value,canDecideSelectedOrderRma:Fe.value,canRefundSelectedOrder:Ve.value,selectedHomeSection:Ke.value,selectedHomeSectionList:He.value,selectedHomeSectionPosition:Be.value,homeCategorySection:$e.value,filteredHomeCategoryOptions:qe.value,filteredHomeCollectionOptions:Ge.value,filteredCollectionProductOptions:Qe.value,filteredCollectionCategoryOptions:Ye.value,productCategoryFilter:Q.value,productMediaFiles:W.value,categoryImageFile:ae.value,isSubmitting:_.value,isTabLoading:ft,homeStatusLabel:Lt,homeSectionLabel:Qt,homeSectionTypeLabel:Et,saveHomeContent:Gn,openStorefrontPreview:Ho,addHomeSectionPreset:Sn,selectHomeSection:fn,moveHomeSection:vn,startCreateProduct:wa,overlayStatusLabel:Pb,selectProduct:Ia,startCreateCategory:Ca,selectCategory:Ta,startCreateBrand:xa,selectBrand:Oa,formatMoney:Ab,selectInventoryRow:Pa,loadOrders:oa,loadActivePromotions:sa,formatMinorMoney:Ub,orderManagerLabel:yt,isOrderArchived:vt,orderStatusLabel:gt,formatDateTime:_b,selectOrder:Qa,selectImportJob:lo,startCreatePromotion:mo,selectPromotion:bo,startCreatePromoCode:fo,selectPromoCode:yo,formatPercent:Fb,loadAnalytics:ca,saveLowStockThreshold:Po,closeActiveDetail:Aa,saveHomeCollectionDraft:Ln,moveHomeItem:zn,removeHomeItem:Nn,homeProductLabel:Zt,homeProductMeta:en,homeProductImage:tn,searchHomeHeroProducts:un,filteredHomeFeaturedProductOptions:sn,setHomeHeroFeaturedProduct:mn,clearHomeHeroFeaturedProduct:bn,homeCategoryLabel:Yt,homeCategoryMeta:Jt,homeCategoryImage:Xt,searchHomeCategories:dn,addHomeCategory:wn,filteredHomeProductOptions:ln,ensureHomeProductOptions:rn,searchHomeProducts:cn,addHomeProduct:Cn,homeCollectionLabel:an,homeCollectionMeta:on,addHomeCollection:In,startCreateHomeCollection:Tn,editHomeCollection:On,cancelHomeCollectionDraft:Pn,searchHomeCollectionProducts:An,searchHomeCollectionCategories:Un,addHomeCollectionProductRule:_n,addHomeCollectionCategoryRule:Rn,removeHomeCollectionRule:Dn,moveHomeCollectionRule:En,removeHomeSection:gn,archiveHomeSection:hn,duplicateHomeSection:kn,addHomeItem:xn,resetProductEditor:ma,submitProduct:za,deleteProduct:Ma,setProductPanel:Ua,addSpecificationSection:Bo,removeSpecificationSection:$o,addSpecificationItem:jo,removeSpecificationItem:qo,loadVariantEditor:_a,submitVariant:Ka,resetVariantEditor:ba,deleteVariant:Ha,onProductFilesSelected:Ao,uploadProductImages:_o,retryMediaUpload:Lo,abortMediaUpload:No,mediaUploadStatusLabel:zo,mediaUploadProgressLabel:Mo,deleteProductImage:Ro,openOrCreateOverlay:Ko,formatCategoryLabel:Ob,adjustCategoryPosition:va,onCategoryFileSelected:Uo,uploadCategoryImage:Do,submitCategory:Ba,resetCategoryEditor:ya,deleteCategory:$a,submitBrand:ja,resetBrandEditor:ga,deleteBrand:qa,submitInventoryAdjustment:Ga,resetInventoryEditor:ha,refundSelectedOrder:Ya,selectedRefundLines:Ja,createRmaRequest:Xa,rmaStatusLabel:ht,decideRmaRequest:Wa,submitOrderStatus:Za,claimOrder:eo,clearOrderClaim:to,archiveOrder:no,restoreOrder:ao,resetOrderFiltersForSelected:oo,onImportFileSelected:io,dryRunImport:ro,commitImport:so,openImportNotUpdatedModal:co,closeImportNotUpdatedModal:uo,downloadImportNotUpdated:po,addPromotionTarget:go,removePromotionTarget:ho,submitPromotion:ko,deletePromotion:So,submitPromoCode:wo,deletePromoCode:Co,startCreateTax:xo,selectTax:Io,submitTax:To,deleteTax:Oo,setProductCategoryFilter:nt}));function ft(e){return L[e]}function yt(e){return e?.managerEmail||e?.managerSubject||"Не назначен"}function vt(e){return Boolean(e?.archivedAt)}function gt(e){const t=String(e||"").trim().toUpperCase();if(!t)return"";return{PENDING:"Ожидает оплаты",PAID:"Оплачен",PROCESSING:"В обработке",READY_FOR_PICKUP:"Готов к выдаче",SHIPPED:"Отгружен",DELIVERED:"Доставлен",RECEIVED:"Получен",COMPLETED:"Получен",CANCELLED:"Отменен",REFUNDED:"Возвращен"}[t]||t}function ht(e){const t=String(e||"").trim().toUpperCase();return"REQUESTED"===t?"Запрошен":"APPROVED"===t?"Одобрен":"REJECTED"===t?"Отклонен":t||"Не указан"}function kt(e){return Boolean(e?.managerEmail||e?.managerSubject||e?.managerDirectusUserId)}function St(e){if(!e)return!1;const t=jb(F.userId),n=jb(F.email),a=jb(e.managerDirectusUserId),o=jb(e.managerEmail),l=jb(e.managerSubject);return!(!t||!a||t!==a)||Boolean(n&&(n===o||n===l))}function wt(e){return function(e,t,n=[]){return!(Array.isArray(n)&&n.length&&!n.some(t=>t.id===e))&&($b[e]||["admin"]).includes(t)}(e,ge.value,i)}function Ct({notify:e=!1}={}){if(wt(x.value))return;const t=x.value;x.value=we.value,e&&t&&Tt("Раздел скрыт для вашей роли Directus. Открыт доступный раздел.")}function xt(){A.value="",U.type="",U.text=""}function It(e){A.value="",U.type="success",U.text=e}function Tt(e){if(function(e){return p.has(String(e||"").trim().toLowerCase())}(e))return A.value="",U.type="",void(U.text="");A.value="",U.type="info",U.text=e}function Ot(e="Изменено. Нажмите «Сохранить», чтобы применить."){Tt(e)}function Pt(e){U.type="",U.text="",A.value=e?.response?.data?.errors?.[0]?.message||e?.response?.data?.error||e?.response?.data?.message||e?.message||"Произошла непредвиденная ошибка."}function At(e){return String(e||"").trim().toLowerCase().replace(/[-\s]+/g,"_")}function Ut(e){return String(e||"").trim().toLowerCase()}function _t(e){const t=At(e);return"split_media"===t||"two_column"===t?"media_right":"grid"===t?"cards":f.some(e=>e.value===t)?t:"contained"}function Rt(e){const t=At(e);return"highlight"===t?"accent":b.some(e=>e.value===t)?t:"default"}function Dt(e="home"){return`${e}:${Date.now()}:${Math.random().toString(36).slice(2,8)}`}function Et(e){return w[e]||e||"Секция"}function Ft(e){return Array.isArray(e)?e:[]}function Vt(e){return e?.id||""}function Lt(e){return m.find(t=>t.value===e)?.label||Pb(e)}function Nt(e={},t=0){return{clientId:Dt("item"),id:Vt(e),migrationKey:e.migration_key||"",status:e.status||"draft",title:e.title||"",description:e.description||"",label:e.label||"",url:e.url||"",referenceKind:e.reference_kind||e.referenceKind||"none",referenceKey:e.reference_key||e.referenceKey||"",sort:Number(e.sort??t+1)}}function zt(e={}){return Boolean("product_slug"===At(e.reference_kind||e.referenceKind)&&(e.reference_key||e.referenceKey))}function Mt(e,t,n,a=null){Object.assign(z.page,{id:Vt(e),status:e?.status||"draft",title:e?.title||"",summary:e?.summary||"",seoTitle:e?.seo_title||e?.seoTitle||"",seoDescription:e?.seo_description||e?.seoDescription||""}),Object.assign(z.announcementBanner,function(e={}){const t=e?.announcement_banner||e?.announcementBanner||null,n=t&&"object"==typeof t?t:null;return{id:n?.id||("string"==typeof t?t:""),status:n?.status||"draft",internalName:n?.internal_name||n?.internalName||"Баннер в шапке",shortText:n?.short_text||n?.shortText||""}}(a)),z.sections.splice(0,z.sections.length,...Ft(t).map((e,t)=>function(e={},t=[],n=0){const a=function(e){return e?.section_type||e?.sectionType||""}(e),o="hero"===a?Ft(t).find(zt):null,l="category_reference_list"===a?Ft(t).filter(e=>"category_slug"===At(e.reference_kind||e.referenceKind)&&(e.reference_key||e.referenceKey)):"hero"===a?Ft(t).filter(e=>!zt(e)):Ft(t);return{clientId:Dt("section"),id:Vt(e),migrationKey:e.migration_key||"",status:e.status||"draft",internalName:e.internal_name||e.internalName||e.title||Et(a),sectionType:a,sort:Number(e.sort??n+1),anchorId:e.anchor_id||e.anchorId||"",eyebrow:e.eyebrow||"",title:e.title||"",accent:e.accent||"",body:e.body||"",primaryCtaLabel:e.primary_cta_label||e.primaryCtaLabel||"",primaryCtaUrl:e.primary_cta_url||e.primaryCtaUrl||"",secondaryCtaLabel:e.secondary_cta_label||e.secondaryCtaLabel||"",secondaryCtaUrl:e.secondary_cta_url||e.secondaryCtaUrl||"",styleVariant:Rt(e.style_variant||e.styleVariant||"default"),layoutVariant:_t(e.layout_variant||e.layoutVariant||"contained"),productQuery:"",productToAdd:"",featuredProductKey:o?.reference_key||o?.referenceKey||"",featuredProductToAdd:"",featuredProductQuery:"",featuredProductItemId:Vt(o),featuredProductMigrationKey:o?.migration_key||"",featuredProductStatus:o?.status||e.status||"draft",items:l.map(Nt)}}(e,n.get(e.id)||[],t))),N.originalItemIds=z.sections.flatMap(e=>[e.featuredProductItemId,...e.items.map(e=>e.id)].filter(Boolean)),N.selectedSectionIndex=Math.max(0,Math.min(N.selectedSectionIndex,z.sections.length-1))}function Kt(e){return encodeURIComponent(String(e))}function Ht(e,t){return Array.from(new Set(Ft(e).filter(e=>At(e.reference_kind||e.referenceKind)===t).map(e=>e.reference_key||e.referenceKey).filter(Boolean).map(e=>String(e).trim())))}function Bt(e={}){return{id:Vt(e),key:e.key||"",status:e.status||"draft",title:e.title||"",description:e.description||"",mode:e.mode||"hybrid",ruleType:e.rule_type||e.ruleType||"",categoryKey:e.category_key||e.categoryKey||"",brandKey:e.brand_key||e.brandKey||"",limit:Number(e.limit??12),sortMode:e.sort_mode||e.sortMode||"default",primaryCtaLabel:e.primary_cta_label||e.primaryCtaLabel||"",primaryCtaUrl:e.primary_cta_url||e.primaryCtaUrl||""}}function $t(e={},t=0){return{clientId:Dt("collection-rule"),id:Vt(e),status:e.status||"draft",storefrontCollection:e.storefront_collection||e.storefrontCollection||"",entityKind:e.entity_kind||e.entityKind||"product",entityKey:e.entity_key||e.entityKey||"",behavior:e.behavior||"pin",sort:Number(e.sort??t+1)}}async function jt({categoryKeys:e=[],productKeys:t=[],categoryQuery:n="",productQuery:o=""}={}){const[l,i]=await Promise.all([a("/workspace/categories",{params:{q:n||void 0,keys:e.join(",")||void 0,limit:120}}),a("/workspace/products",{params:{q:o||void 0,keys:t.join(",")||void 0,limit:120}})]);N.categoryOptions=l.items||[],N.productOptions=i.items||[]}async function qt(){const e=Ft(await o("/items/storefront_collection?sort=title,key&limit=-1&fields=*")),t=e.map(e=>e.id).filter(Boolean),n=t.length?Ft(await o(`/items/storefront_collection_item?filter[storefront_collection][_in]=${Kt(t.join(","))}&sort=sort,id&limit=-1&fields=*`)):[],a=n.reduce((e,t)=>{const n=t.storefront_collection;return e[n]||(e[n]=[]),e[n].push($t(t)),e},{});N.collectionOptions=e.map(Bt),N.collectionItemsById=a,N.originalCollectionRuleIds=n.map(e=>e.id).filter(Boolean)}async function Gt(){L.home=!0;try{const e=Ft(await o(`/items/page?filter[slug][_eq]=${Kt(u)}&limit=1&fields=*`))[0]||null;if(!e?.id)return N.loaded=!0,N.page=null,N.sections=[],z.sections.splice(0,z.sections.length),void(A.value="Страница home не найдена в Directus. Запустите импорт начального контента.");const t=Ft(await o(`/items/page_sections?filter[page][_eq]=${Kt(e.id)}&sort=sort,id&limit=-1&fields=*`)),n=t.map(e=>e.id).filter(Boolean),a=n.length?Ft(await o(`/items/page_section_items?filter[page_section][_in]=${Kt(n.join(","))}&sort=sort,id&limit=-1&fields=*`)):[],l=a.reduce((e,t)=>{const n=t.page_section;return e.has(n)||e.set(n,[]),e.get(n).push(t),e},new Map),i=Ht(a,"category_slug"),r=Ht(a,"product_slug");await Promise.all([jt({categoryKeys:i,productKeys:r}),qt()]);const s=await o("/items/site_settings?fields=*,announcement_banner.*");N.page=e,N.sections=t,N.loaded=!0,Mt(e,t,l,s),M.value=Da(),K.value=Ea(),V.home=z.sections.length}catch(e){Pt(e)}finally{L.home=!1}}function Qt(e){return e.internalName||e.title||Et(e.sectionType)}function Yt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?.name||e||"Категория"}function Jt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?n.fullPath||n.slug:"Категория не найдена в backend-каталоге"}function Xt(e){const t=Ut(e),n=(N.categoryOptions||[]).find(e=>Ut(e.slug)===t);return n?.imageUrl||""}function Wt(e){const t=Ut(e);return(N.productOptions||[]).find(e=>Ut(e.slug)===t)||null}function Zt(e){const t=Wt(e);return t?.name||e||"Товар"}function en(e){const t=Wt(e);if(!t)return"Товар не найден в backend-каталоге";const n=t.categories?.[0]?.fullPath||t.categories?.[0]?.slug||"";return[t.slug,n,t.isActive?"активен":"скрыт"].filter(Boolean).join(" · ")}function tn(e){return Wt(e)?.primaryImageUrl||""}function nn(e){const t=Ut(e);return(N.collectionOptions||[]).find(e=>Ut(e.key)===t)||null}function an(e){const t=nn(e);return t?.title||e||"Подборка"}function on(e){const t=nn(e);return t?[t.key,t.mode,t.status].filter(Boolean).join(" · "):"Подборка не найдена в Directus"}function ln(e){const t=function(e){return new Set((e?.items||[]).filter(e=>"product_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)))}(e),n=String(e?.productQuery||"").trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(e=>!t.has(Ut(e.slug))).filter(e=>{if(!n)return!0;const t=(e.categories||[]).map(e=>e.fullPath||e.slug||e.name).filter(Boolean).join(" ");return[e.name,e.slug,e.brand?.name,e.brand?.slug,t].filter(Boolean).some(e=>String(e).toLowerCase().includes(n))})}async function rn(e){e&&!ln(e).length&&await cn(e)}function sn(e){const t=Ut(e?.featuredProductKey),n=String(e?.featuredProductQuery||"").trim().toLowerCase();return(N.productOptions||[]).filter(e=>!1!==e.isActive).filter(e=>Ut(e.slug)!==t).filter(e=>{if(!n)return!0;const t=(e.categories||[]).map(e=>e.fullPath||e.slug||e.name).filter(Boolean).join(" ");return[e.name,e.slug,e.brand?.name,e.brand?.slug,t].filter(Boolean).some(e=>String(e).toLowerCase().includes(n))})}async function dn(){Tt("Обновляю список категорий.");try{const e=Array.from(je.value);await jt({categoryKeys:e,productKeys:Array.from(pn()),categoryQuery:N.categoryQuery}),Tt("Список категорий обновлён.")}catch(e){Pt(e)}}async function cn(e){Tt("Обновляю список товаров.");try{const t=Array.from(pn(e));await jt({categoryKeys:Array.from(je.value),productKeys:t,productQuery:e?.productQuery||""}),Tt(ln(e).length?"Список товаров обновлён.":"Товары для добавления не найдены. Измените поиск или проверьте каталог.")}catch(e){Pt(e)}}async function un(e){Tt("Обновляю список товаров для hero.");try{const t=Array.from(pn(e));await jt({categoryKeys:Array.from(je.value),productKeys:t,productQuery:e?.featuredProductQuery||""}),Tt("Список товаров для hero обновлён.")}catch(e){Pt(e)}}function pn(e=null){const t=e?[...z.sections,e]:z.sections,n=new Set(t.flatMap(e=>e?.items||[]).filter(e=>"product_slug"===At(e.referenceKind)&&e.referenceKey).map(e=>Ut(e.referenceKey)));return t.map(e=>Ut(e?.featuredProductKey)).filter(Boolean).forEach(e=>n.add(e)),n}function mn(e){e&&e.featuredProductToAdd?(e.featuredProductKey=e.featuredProductToAdd,e.featuredProductStatus=e.status||z.page.status||"draft",e.featuredProductToAdd="",e.featuredProductQuery="",Ot()):Tt("Выберите товар для hero.")}function bn(e){e?e.featuredProductKey?(e.featuredProductKey="",e.featuredProductToAdd="",e.featuredProductQuery="",Ot()):Tt("Товар для hero уже не выбран."):Tt("Секция не выбрана.")}function fn(e){if(!z.sections.length)return void Tt("Секции главной пока не загружены.");const t=Math.max(0,Math.min(e,z.sections.length-1));t!==N.selectedSectionIndex&&(N.selectedSectionIndex=t)}function yn(){z.sections.forEach((e,t)=>{e.sort=t+1})}function vn(e,t){const n=e+t;if(e<0||n<0||n>=z.sections.length)return void Tt("Секция уже находится на границе списка.");const[a]=z.sections.splice(e,1);z.sections.splice(n,0,a),N.selectedSectionIndex=n,yn(),Ot()}function gn(e){const t=z.sections[e];t&&!t.id?(z.sections.splice(e,1),N.selectedSectionIndex=Math.max(0,Math.min(e,z.sections.length-1)),yn(),Ot()):Tt(t?.id?"Сохранённую секцию можно архивировать, но нельзя удалить из формы.":"Секция не выбрана.")}function hn(e){e?(e.status="archived"===e.status?"draft":"archived",Ot("archived"===e.status?"Секция будет архивирована после сохранения.":"Секция будет возвращена после сохранения.")):Tt("Секция не выбрана.")}function kn(e){if(!e)return void Tt("Секция не выбрана.");const t=JSON.parse(JSON.stringify(e));t.clientId=Dt("section"),t.id="",t.migrationKey=`home:${e.sectionType||"section"}:${Date.now()}`,t.internalName=`${Qt(e)} — копия`,t.status=e.status||z.page.status||"draft",t.items=(t.items||[]).map((e,n)=>({...e,clientId:Dt("item"),id:"",migrationKey:`${t.migrationKey}:item:${n+1}`,status:e.status||t.status})),z.sections.splice(N.selectedSectionIndex+1,0,t),N.selectedSectionIndex+=1,yn(),Ot("Секция продублирована. Нажмите «Сохранить», чтобы применить.")}function Sn(){const e=function(e){const t=Et(e),n={clientId:Dt("section"),id:"",migrationKey:`home:${e}:${Date.now()}`,status:z.page.status||"draft",internalName:`Главная — ${t.toLowerCase()}`,sectionType:e,sort:z.sections.length+1,anchorId:"",eyebrow:"",title:"",accent:"",body:"",primaryCtaLabel:"",primaryCtaUrl:"",secondaryCtaLabel:"",secondaryCtaUrl:"",styleVariant:"default",layoutVariant:"contained",productQuery:"",productToAdd:"",featuredProductKey:"",featuredProductToAdd:"",featuredProductQuery:"",featuredProductItemId:"",featuredProductMigrationKey:"",featuredProductStatus:z.page.status||"draft",items:[]};return"hero"===e?{...n,styleVariant:"warm",layoutVariant:"media_right",title:"Новый первый экран"}:"product_reference_list"===e?{...n,layoutVariant:"cards",title:"Товарная секция"}:"collection_teaser"===e?{...n,layoutVariant:"rail",title:"Витринная подборка"}:"category_reference_list"===e||"feature_list"===e||"banner_group"===e?{...n,layoutVariant:"cards"}:n}(N.presetToAdd||"product_reference_list");z.sections.push(e),N.selectedSectionIndex=z.sections.length-1,yn(),Ot("Секция добавлена. Нажмите «Сохранить», чтобы применить.")}function wn(e){if(!e||!N.categoryToAdd)return void Tt("Выберите категорию для добавления.");const t=(N.categoryOptions||[]).find(e=>e.slug===N.categoryToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:category:${t.slug}`,status:e.status||z.page.status||"draft",title:"",description:t.description||"",label:"",url:"",referenceKind:"category_slug",referenceKey:t.slug,sort:e.items.length+1}),N.categoryToAdd="",N.categoryQuery="",Mn(e),Ot()):Tt("Выбранная категория недоступна. Обновите список категорий.")}function Cn(e){if(!e||!e.productToAdd)return void Tt("Выберите товар для добавления.");const t=Wt(e.productToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:product:${t.slug}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"product_slug",referenceKey:t.slug,sort:e.items.length+1}),e.productToAdd="",e.productQuery="",Mn(e),Ot()):Tt("Выбранный товар недоступен. Обновите список товаров.")}function xn(e){e?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:${e.sectionType||"section"}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"product_reference_list"===e.sectionType?"product_slug":"none",referenceKey:"",sort:e.items.length+1}),Ot()):Tt("Секция не выбрана.")}function In(e){if(!e||!N.collectionToAdd)return void Tt("Выберите подборку для добавления.");const t=nn(N.collectionToAdd);t?(e.items.push({clientId:Dt("item"),id:"",migrationKey:`home:collection:${t.key}:${Date.now()}`,status:e.status||z.page.status||"draft",title:"",description:"",label:"",url:"",referenceKind:"storefront_collection",referenceKey:t.key,sort:e.items.length+1}),N.collectionToAdd="",Mn(e),Ot()):Tt("Выбранная подборка недоступна. Обновите список подборок.")}function Tn(){N.collectionDraft={...Bt({key:`home-${Date.now()}`,title:"Новая подборка",status:z.page.status||"draft",mode:"hybrid",limit:12,sort_mode:"default"}),rules:[],originalRuleIds:[]},K.value="",Tt("Создан черновик подборки. Заполните поля и сохраните подборку.")}function On(e){const t=nn(e);if(!t)return void Tt("Подборка не найдена. Обновите список подборок.");const n=(N.collectionItemsById[t.id]||[]).map(e=>({...e}));N.collectionDraft={...t,rules:n,originalRuleIds:n.map(e=>e.id).filter(Boolean)},K.value=Ea(),Tt(`Открыта подборка «${t.title||t.key}».`)}function Pn(){N.collectionDraft?K.value===Ea()||window.confirm("Есть несохранённые изменения подборки. Закрыть без сохранения?")?(N.collectionDraft=null,K.value="",N.collectionProductToAdd="",N.collectionCategoryToAdd="",Tt("Редактирование подборки закрыто.")):Tt("Редактирование подборки продолжается."):Tt("Черновик подборки уже закрыт.")}async function An(){Tt("Обновляю список товаров для подборки.");try{await jt({categoryKeys:Array.from(je.value),productKeys:Array.from(pn()),productQuery:N.collectionProductQuery}),Tt("Список товаров для подборки обновлён.")}catch(e){Pt(e)}}async function Un(){Tt("Обновляю список категорий для подборки.");try{await jt({categoryKeys:Array.from(je.value),productKeys:Array.from(pn()),categoryQuery:N.collectionCategoryQuery}),Tt("Список категорий для подборки обновлён.")}catch(e){Pt(e)}}function _n(){N.collectionDraft&&N.collectionProductToAdd?(N.collectionDraft.rules.push($t({entity_kind:"product",entity_key:N.collectionProductToAdd,behavior:"pin",sort:N.collectionDraft.rules.length+1,status:N.collectionDraft.status||"draft"})),N.collectionProductToAdd="",Fn(),Ot("Правило подборки добавлено. Сохраните подборку, чтобы применить.")):Tt(N.collectionDraft?"Выберите товар для правила подборки.":"Откройте или создайте подборку.")}function Rn(){N.collectionDraft&&N.collectionCategoryToAdd?(N.collectionDraft.rules.push($t({entity_kind:"category",entity_key:N.collectionCategoryToAdd,behavior:"pin",sort:N.collectionDraft.rules.length+1,status:N.collectionDraft.status||"draft"})),N.collectionCategoryToAdd="",Fn(),Ot("Правило подборки добавлено. Сохраните подборку, чтобы применить.")):Tt(N.collectionDraft?"Выберите категорию для правила подборки.":"Откройте или создайте подборку.")}function Dn(e){!N.collectionDraft||e<0?Tt(N.collectionDraft?"Правило подборки не выбрано.":"Откройте или создайте подборку."):(N.collectionDraft.rules.splice(e,1),Fn(),Ot("Правило подборки убрано. Сохраните подборку, чтобы применить."))}function En(e,t){const n=N.collectionDraft?.rules||[],a=e+t;if(e<0||a<0||a>=n.length)return void Tt("Правило уже находится на границе списка.");const[o]=n.splice(e,1);n.splice(a,0,o),Fn(),Ot("Порядок правил изменён. Сохраните подборку, чтобы применить.")}function Fn(){(N.collectionDraft?.rules||[]).forEach((e,t)=>{e.sort=t+1})}function Vn(e,t){return{status:e.status||N.collectionDraft?.status||"draft",storefront_collection:t,entity_kind:e.entityKind||"product",entity_key:Kb(e.entityKey),behavior:e.behavior||"pin",sort:Number(e.sort||0)}}async function Ln(){const e=N.collectionDraft;if(e?.key){_.value=!0,xt();try{Fn();const t=function(e){return{status:e.status||"draft",key:Kb(e.key),title:Kb(e.title)||e.key,description:Kb(e.description),mode:e.mode||"hybrid",rule_type:Kb(e.ruleType),category_key:Kb(e.categoryKey),brand_key:Kb(e.brandKey),limit:Number(e.limit||12),sort_mode:e.sortMode||"default",primary_cta_label:Kb(e.primaryCtaLabel),primary_cta_url:Kb(e.primaryCtaUrl)}}(e),n=e.id?await o(`/items/storefront_collection/${e.id}`,{method:"PATCH",data:t}):await o("/items/storefront_collection",{method:"POST",data:{...t,migration_key:`home:collection:${e.key}`}});e.id=n?.id||e.id;const l=new Set;for(const t of e.rules||[]){if(!t.entityKey)continue;const n=Vn(t,e.id),a=t.id?await o(`/items/storefront_collection_item/${t.id}`,{method:"PATCH",data:n}):await o("/items/storefront_collection_item",{method:"POST",data:n});t.id=a?.id||t.id,t.id&&l.add(String(t.id))}const i=(e.originalRuleIds||[]).filter(e=>e&&!l.has(String(e)));for(const e of i)await o(`/items/storefront_collection_item/${e}`,{method:"PATCH",data:{status:"archived",sort:999}});jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"collection",key:e.key}}),`подборка ${e.key}`),await qt(),On(e.key),It("Подборка сохранена.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите ключ подборки."}function Nn(e,t){!e||t<0?Tt("Элемент секции не выбран."):(e.items.splice(t,1),Mn(e),Ot())}function zn(e,t,n){if(!e)return void Tt("Секция не выбрана.");const a=t+n;if(a<0||a>=e.items.length)return void Tt("Элемент уже находится на границе списка.");const[o]=e.items.splice(t,1);e.items.splice(a,0,o),Mn(e),Ot()}function Mn(e){(e?.items||[]).forEach((e,t)=>{e.sort=t+1})}function Kn(e){return{status:e.status||z.page.status||"draft",internal_name:e.internalName||Et(e.sectionType),section_type:e.sectionType,sort:Number(e.sort||0),anchor_id:Kb(e.anchorId),eyebrow:Kb(e.eyebrow),title:Kb(e.title),accent:Kb(e.accent),body:Kb(e.body),primary_cta_label:Kb(e.primaryCtaLabel),primary_cta_url:Kb(e.primaryCtaUrl),secondary_cta_label:Kb(e.secondaryCtaLabel),secondary_cta_url:Kb(e.secondaryCtaUrl),style_variant:Rt(e.styleVariant),layout_variant:_t(e.layoutVariant)}}function Hn(e,t,n){return{status:t.status||e.status||z.page.status||"draft",page_section:n,migration_key:Kb(t.migrationKey),title:Kb(t.title),description:Kb(t.description),label:Kb(t.label),url:Kb(t.url),reference_kind:t.referenceKind||"none",reference_key:Kb(t.referenceKey),sort:Number(t.sort||0)}}function Bn(e){const t=function(e){return"hero"===e.sectionType&&e.featuredProductKey?{id:e.featuredProductItemId||"",migrationKey:e.featuredProductMigrationKey||`home:hero:featured-product:${e.id||e.clientId}`,status:e.featuredProductStatus||e.status||z.page.status||"draft",title:"",description:"",label:"Выбор недели",url:"",referenceKind:"product_slug",referenceKey:e.featuredProductKey,sort:0}:null}(e);return t?[t,...e.items||[]]:e.items||[]}function $n(){if("published"!==z.page.status)return[];const e=new Map;for(const t of z.sections||[])if("published"===t.status)for(const n of Bn(t)){if("published"!==(n.status||t.status))continue;const a=At(n.referenceKind),o="product"===a?"product_slug":"category"===a?"category_slug":["collection","cms_collection","collection_key"].includes(a)?"storefront_collection":a;if(!["product_slug","product_id","category_slug","category_id","storefront_collection"].includes(o))continue;const l=String(n.referenceKey||"").trim();e.set(`${o}:${Ut(l)}`,{kind:o,key:l})}return Array.from(e.values())}function jn(e,t){if(!0!==e?.successful)throw new Error(e?.error||`Не удалось очистить кеш: ${t}.`)}async function qn(){const e={status:z.announcementBanner.status||"draft",banner_type:"announcement",internal_name:Kb(z.announcementBanner.internalName)||"Баннер в шапке",short_text:Kb(z.announcementBanner.shortText)};if(!Boolean(z.announcementBanner.id||e.short_text))return;const t=z.announcementBanner.id?await o(`/items/banner/${z.announcementBanner.id}`,{method:"PATCH",data:e}):await o("/items/banner",{method:"POST",data:{...e,migration_key:`site:announcement:${Date.now()}`,sort:1}});z.announcementBanner.id=t?.id||z.announcementBanner.id,z.announcementBanner.id&&await o("/items/site_settings",{method:"PATCH",data:{announcement_banner:z.announcementBanner.id}})}async function Gn(){if(!z.page.id)return void(A.value="Страница home не загружена.");const e=function(){if(K.value!==Ea())return"Сначала сохраните или закройте изменения подборки.";if("published"!==z.page.status)return null;for(const e of $n()){if(!e.key)return"В опубликованной секции есть карточка без выбранной ссылки.";if("product_slug"===e.kind){const t=Wt(e.key);if(!t)return`Товар «${e.key}» не найден в backend-каталоге.`;if(!1===t.isActive)return`Товар «${t.name||e.key}» скрыт с витрины.`}if("category_slug"===e.kind){const t=(N.categoryOptions||[]).find(t=>Ut(t.slug)===Ut(e.key));if(!t)return`Категория «${e.key}» не найдена в backend-каталоге.`;if(!1===t.isActive)return`Категория «${t.name||e.key}» скрыта с витрины.`}if("storefront_collection"===e.kind){const t=nn(e.key);if(!t)return`Подборка «${e.key}» не найдена в Directus.`;if("published"!==t.status)return`Подборка «${t.title||e.key}» не опубликована.`}}return null}();if(e)A.value=e;else{_.value=!0,xt();try{yn(),await o(`/items/page/${z.page.id}`,{method:"PATCH",data:{status:z.page.status||"draft",title:Kb(z.page.title),summary:Kb(z.page.summary),seo_title:Kb(z.page.seoTitle),seo_description:Kb(z.page.seoDescription)}}),await qn();const e=new Set;for(const t of z.sections){const n=Kn(t),a=t.id?await o(`/items/page_sections/${t.id}`,{method:"PATCH",data:n}):await o("/items/page_sections",{method:"POST",data:{...n,page:z.page.id,migration_key:Kb(t.migrationKey)}});t.id=a?.id||t.id;for(const n of Bn(t)){const a=Hn(t,n,t.id),l=n.id?await o(`/items/page_section_items/${n.id}`,{method:"PATCH",data:a}):await o("/items/page_section_items",{method:"POST",data:a});n.id=l?.id||n.id,"hero"===t.sectionType&&"product_slug"===n.referenceKind&&n.referenceKey===t.featuredProductKey&&(t.featuredProductItemId=n.id,t.featuredProductMigrationKey=n.migrationKey),n.id&&e.add(String(n.id))}}const t=N.originalItemIds.filter(t=>t&&!e.has(String(t)));for(const e of t)await o(`/items/page_section_items/${e}`,{method:"PATCH",data:{status:"archived",reference_kind:"none",reference_key:null,sort:999}});jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"page",slug:u}}),"главная");if(jn(await a("/admin/content/cache/invalidate",{method:"POST",data:{scope:"site_settings"}}),"настройки сайта"),"published"===z.page.status){const e=await a("/admin/content/publish-check",{method:"POST",data:{slug:u,expectedReferences:$n()}});if(!0!==e?.successful)throw new Error(function(e){const t=Array.isArray(e?.issues)?e.issues[0]:null;return t?`Проверка публикации не пройдена: ${t.kind} «${t.key}» (${t.reason}).`:"Опубликованная версия главной не совпала с сохранённой."}(e))}await Gt(),It("published"===z.page.status?"Главная сохранена, опубликована и проверена на витрине.":"Черновик главной сохранён. На витрине он появится после публикации.")}catch(e){Pt(e)}finally{_.value=!1}}}function Qn(e){return n.request({url:"/users/me",method:"GET",params:{fields:e.join(",")}})}function Yn(e){const t=e?.role||"",n=t&&"object"==typeof t;F.userId=e?.id||"",F.email=e?.email||"",F.externalId=e?.external_identifier||e?.externalIdentifier||"",F.roleId=n?t.id||"":t||"",F.roleName=n&&t.name||"",F.roleKind=e?.roleKind||e?.role_kind||n&&t.kind||"",F.roleAdminAccess=Boolean(n&&(t.admin_access||t.adminAccess)),F.previewBaseUrl=e?.preview?.baseUrl||e?.preview?.base_url||e?.storefrontPreviewBaseUrl||""}async function Jn({reloadSelected:e=!0}={}){L.products=!0;try{const t=await a("/workspace/products");H.items=t.items||[],H.brandOptions=t.brandOptions||[],H.categoryOptions=t.categoryOptions||[],H.overlayReadFailed=Boolean(t.overlayReadFailed),H.loaded=!0,e&&H.selectedId&&await Xn(H.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.products=!1}}async function Xn(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!H.loaded;n&&(L.products=!0);try{const t=await a(`/workspace/products/${e}`);H.detail=t,H.selectedId=t.item.id,H.isCreating=!1,H.brandOptions=t.brandOptions||H.brandOptions,H.categoryOptions=t.categoryOptions||H.categoryOptions,H.overlayReadFailed=Boolean(t.overlayReadFailed),o=t.item,Object.assign(q,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||"",brandId:o.brand?.id||"",categoryIds:Array.isArray(o.categories)?o.categories.map(e=>e.id):[],isActive:!1!==o.isActive,specifications:Vb(o.specifications)}),G.value=Ra(),ba({silent:!0}),fa(),await Eo("PRODUCT",t.item.id)}catch(e){Pt(e)}finally{n&&(L.products=!1)}var o}async function Wn({reloadSelected:e=!0}={}){L.categories=!0;try{const t=await a("/workspace/categories");B.items=t.items||[],B.parentOptions=t.parentOptions||[],B.overlayReadFailed=Boolean(t.overlayReadFailed),B.loaded=!0,e&&B.selectedId&&await Zn(B.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.categories=!1}}async function Zn(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!B.loaded;n&&(L.categories=!0);try{const t=await a(`/workspace/categories/${e}`);B.detail=t,B.selectedId=t.item.id,B.isCreating=!1,B.parentOptions=t.parentOptions||B.parentOptions,B.overlayReadFailed=Boolean(t.overlayReadFailed),o=t.item,Object.assign(te,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||"",parentId:o.parentId||"",position:Number(o.position||0),isActive:!1!==o.isActive}),ne.value=Va(),ae.value=null,Vo(),await Eo("CATEGORY",t.item.id)}catch(e){Pt(e)}finally{n&&(L.categories=!1)}var o}async function ea({reloadSelected:e=!0}={}){L.brands=!0;try{const t=await a("/workspace/brands");$.items=t.items||[],$.loaded=!0,e&&$.selectedId&&await ta($.selectedId,{silent:!0})}catch(e){Pt(e)}finally{L.brands=!1}}async function ta(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!$.loaded;n&&(L.brands=!0);try{const t=await a(`/workspace/brands/${e}`);$.detail=t,$.selectedId=t.item.id,$.isCreating=!1,o=t.item,Object.assign(oe,{id:o.id||"",name:o.name||"",slug:o.slug||"",description:o.description||""}),le.value=La()}catch(e){Pt(e)}finally{n&&(L.brands=!1)}var o}async function na(){const e=++$invToken,t=j.query;L.inventory=!0;try{const n=[];let a=null;do{const e=await $invPage("/workspace/inventory",{params:{q:t||void 0,limit:500,offset:n.length}}),o=e.data?.items||[];n.push(...o),a=o.length?e.total:n.length}while(e===$invToken&&null!==a&&n.length<a);if(e!==$invToken)return;if(j.items=n,j.loaded=!0,j.selectedVariantId&&!t){n.some(e=>e.variantId===j.selectedVariantId)||(j.selectedVariantId="",ha({silent:!0}))}}catch(t){e===$invToken&&Pt(t)}finally{e===$invToken&&(L.inventory=!1)}}function $invSchedule(){$invTimer&&window.clearTimeout($invTimer),$invTimer=window.setTimeout(()=>{$invTimer=null,na()},300)}async function aa(){try{const e=await a("/workspace/summary");V.products=Number(e?.productCount||0),V.categories=Number(e?.categoryCount||0),V.brands=Number(e?.brandCount||0),V.inventory=Number(e?.inventoryCount||0)}catch{}}async function oa({notify:e=!1}={}){L.orders=!0;try{const t=await a("/admin/orders",{params:Eb({status:re.status,manager:re.manager,archived:"admin"===ge.value?re.archived:"",from:Rb(re.from),to:Rb(re.to),q:re.query})});if(re.items=t.items||[],re.loaded=!0,V.orders=re.items.length,re.selectedId){re.items.some(e=>e.id===re.selectedId)?(re.selectedFilteredOut=!1,await la(re.selectedId,{silent:!0})):re.selectedFilteredOut=Boolean(re.detail)}e&&Tt("Заказы обновлены.")}catch(e){Pt(e)}finally{L.orders=!1}}async function la(e,{silent:t=!1}={}){if(!e)return;t||xt();const n=!re.loaded;n&&(L.orders=!0);try{const t=await a(`/admin/orders/${e}`);re.detail=t,re.selectedId=e,re.selectedFilteredOut=!1,re.nextStatus=(o=t?.order?.status||"","picker"===ge.value?d.includes(o)?o:d[0]:o||s[0]),re.note="",ka(t),Sa(t)}catch(e){Pt(e)}finally{n&&(L.orders=!1)}var o}async function ia(){L.imports=!0;try{se.jobs=await a("/admin/imports")||[],se.loaded=!0,V.imports=se.jobs.length}catch(e){Pt(e)}finally{L.imports=!1}}async function ra(){L.promotions=!0;try{const[e,t]=await Promise.all([a("/admin/promotions"),a("/admin/promo-codes")]);ce.items=e||[],ce.promoCodes=t||[],ce.loaded=!0,V.promotions=ce.items.length+ce.promoCodes.length,pe.id||me.id||mo({silent:!0})}catch(e){Pt(e)}finally{L.promotions=!1}}async function sa({notify:e=!1}={}){if(!ke.value)return ue.items=[],ue.loaded=!0,void(e&&Tt("Активные акции скрыты для вашей роли Directus."));L.activePromotions=!0;try{ue.items=await a("/admin/promotions/active")||[],ue.loaded=!0,e&&Tt("Активные акции обновлены.")}catch(e){Pt(e)}finally{L.activePromotions=!1}}async function da(){L.tax=!0;try{be.items=await a("/admin/tax-settings")||[],be.loaded=!0,V.tax=be.items.length,!fe.id&&be.items.length&&Io(be.items.find(e=>e.active)||be.items[0],{silent:!0})}catch(e){Pt(e)}finally{L.tax=!1}}async function ca({notify:e=!1}={}){L.analytics=!0;try{const t=Eb({from:Rb(ye.from),to:Rb(ye.to),manager:he.value?"":ye.manager}),[n,o,l]=await Promise.all([a("/admin/analytics/managers",{params:t}),a("/admin/analytics/payment-links",{params:t}),a("/admin/analytics/metrika",{params:t})]);ye.managerRows=n.rows||[],ye.paymentLinks=o||{sent:0,paid:0,conversionRate:0,rows:[]},ye.metrika=l||ye.metrika,ye.loaded=!0,V.analytics=ye.managerRows.length,e&&Tt("Аналитика обновлена.")}catch(e){Pt(e)}finally{L.analytics=!1}}async function ua(){L.alerts=!0;try{const e=await a("/admin/alerts/low-stock");ve.threshold=Number(e.threshold||0),ve.rows=e.rows||[],ve.loaded=!0,V.alerts=ve.rows.length}catch(e){Pt(e)}finally{L.alerts=!1}}async function pa(){if(Se.value.length){if(Ct(),"home"!==x.value||N.loaded)return"products"!==x.value||H.loaded?"categories"!==x.value||B.loaded?"brands"!==x.value||$.loaded?void("inventory"!==x.value||j.loaded?"orders"!==x.value||re.loaded?"imports"!==x.value||se.loaded?"promotions"!==x.value||ce.loaded?"tax"!==x.value||be.loaded?"analytics"!==x.value||ye.loaded?"alerts"!==x.value||ve.loaded||await ua():await ca():await da():await ra():await ia():await Promise.all([oa(),ue.loaded?Promise.resolve():sa()]):await na()):(await ea({reloadSelected:!1}),void($.selectedId&&await ta($.selectedId,{silent:!0}))):(await Wn({reloadSelected:!1}),void(B.selectedId&&await Zn(B.selectedId,{silent:!0}))):(await Jn({reloadSelected:!1}),void(H.selectedId&&await Xn(H.selectedId,{silent:!0})));await Gt()}}function ma({silent:e=!1}={}){H.detail=null,H.selectedId="",H.isCreating=!0,H.panel="main",Object.assign(q,{id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G.value=Ra(),ba({silent:!0}),fa(),e||Tt("Форма товара сброшена.")}function ba({silent:e=!1}={}){Object.assign(Y,{id:"",sku:"",name:"",amount:0,currency:"RUB",stock:0,weightGrossG:null,lengthMm:null,widthMm:null,heightMm:null}),J.value=Fa(),e||Tt("Форма варианта сброшена.")}function fa(){X.variantId="",W.value=[],Vo()}function ya({silent:e=!1}={}){B.detail=null,B.selectedId="",B.isCreating=!0,Object.assign(te,{id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne.value=Va(),ae.value=null,Vo(),e||Tt("Форма категории сброшена.")}function va(e){const t=Number(te.position||0)+Number(e||0);te.position=Math.max(0,Number.isFinite(t)?t:0),Ot()}function ga({silent:e=!1}={}){$.detail=null,$.selectedId="",$.isCreating=!0,Object.assign(oe,{id:"",name:"",slug:"",description:""}),le.value=La(),e||Tt("Форма бренда сброшена.")}function ha({silent:e=!1}={}){ie.variantId=j.selectedVariantId||"",ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),e||Tt("Форма корректировки остатков сброшена.")}function ka(e){const t={};for(const n of e?.rmaRequests||[]){const e=re.rmaDecisionForms[n.id]||{};t[n.id]={status:e.status||("REJECTED"===n.status?"REJECTED":"APPROVED"),comment:e.comment??n.managerComment??""}}re.rmaDecisionForms=t}function Sa(e){const t={};for(const n of e?.order?.items||[]){const e=re.refundForms[n.id]||{};t[n.id]={quantity:e.quantity??0,amount:e.amount??null}}re.refundForms=t}function wa(){Na()?(xt(),ma({silent:!0}),Tt("Открыта форма нового товара.")):Tt("Создание товара отменено: есть несохранённые изменения.")}function Ca(){Na()?(xt(),ya({silent:!0}),Tt("Открыта форма новой категории.")):Tt("Создание категории отменено: есть несохранённые изменения.")}function xa(){Na()?(xt(),ga({silent:!0}),Tt("Открыта форма нового бренда.")):Tt("Создание бренда отменено: есть несохранённые изменения.")}async function Ia(e){e!==H.selectedId||H.isCreating?Na()?(xt(),H.panel="main",await Xn(e)):Tt("Переход к товару отменён: есть несохранённые изменения."):Tt("Этот товар уже открыт.")}async function Ta(e){e!==B.selectedId||B.isCreating?Na()?(xt(),await Zn(e)):Tt("Переход к категории отменён: есть несохранённые изменения."):Tt("Эта категория уже открыта.")}async function Oa(e){e!==$.selectedId||$.isCreating?Na()?(xt(),await ta(e)):Tt("Переход к бренду отменён: есть несохранённые изменения."):Tt("Этот бренд уже открыт.")}function Pa(e){e!==j.selectedVariantId?(j.selectedVariantId=e,ie.variantId=e,ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),Tt("Вариант выбран для корректировки остатков.")):Tt("Этот вариант уже выбран для корректировки.")}function Aa(){if(Na()){if(xt(),"products"===x.value)return H.selectedId="",H.detail=null,H.isCreating=!1,H.panel="main",Object.assign(q,{id:"",name:"",slug:"",description:"",brandId:"",categoryIds:[],isActive:!0,specifications:[]}),G.value=Ra(),ba({silent:!0}),fa(),void Tt("Карточка товара закрыта.");if("categories"===x.value)return B.selectedId="",B.detail=null,B.isCreating=!1,Object.assign(te,{id:"",name:"",slug:"",description:"",parentId:"",position:0,isActive:!0}),ne.value=Va(),ae.value=null,void Tt("Карточка категории закрыта.");if("brands"===x.value)return $.selectedId="",$.detail=null,$.isCreating=!1,Object.assign(oe,{id:"",name:"",slug:"",description:""}),le.value=La(),void Tt("Карточка бренда закрыта.");if("orders"===x.value)return re.selectedId="",re.selectedFilteredOut=!1,re.detail=null,re.nextStatus="",re.note="",re.rmaReason="",re.rmaDesiredResolution="",re.rmaDecisionForms={},re.refundForms={},void Tt("Карточка заказа закрыта.");if("promotions"===x.value)return ce.selectedId="",ce.selectedPromoCodeId="",ce.isCreating=!1,ce.promoCodeCreating=!1,void Tt("Карточка акции закрыта.");if("tax"===x.value)return be.selectedId="",be.isCreating=!1,void Tt("Карточка налогового режима закрыта.");j.selectedVariantId="",ha({silent:!0}),Tt("Детальная панель закрыта.")}else Tt("Закрытие карточки отменено.")}function Ua(e){H.panel!==e?"variants"===e||!rt.value||window.confirm("Есть несохранённые изменения варианта. Отбросить их?")?(H.panel=e,Tt("Раздел товара открыт.")):Tt("Переход между разделами товара отменён."):Tt("Этот раздел товара уже открыт.")}function _a(e){e?.id?(Object.assign(Y,{id:e.id||"",sku:e.sku||"",name:e.name||"",amount:zb(e.price?.amount)??0,currency:e.price?.currency||"RUB",stock:Number(e.stock||0),weightGrossG:e.weightGrossG??null,lengthMm:e.lengthMm??null,widthMm:e.widthMm??null,heightMm:e.heightMm??null}),J.value=Fa(),Tt("Вариант открыт для редактирования.")):Tt("Вариант не выбран.")}function Ra(){return JSON.stringify({id:q.id||"",name:(q.name||"").trim(),slug:(q.slug||"").trim(),description:(q.description||"").trim(),brandId:q.brandId||"",categoryIds:[...q.categoryIds||[]].sort(),isActive:Boolean(q.isActive),specifications:Lb(q.specifications)})}function Da(){return JSON.stringify({page:{id:z.page.id||"",status:z.page.status||"draft",title:(z.page.title||"").trim(),summary:(z.page.summary||"").trim(),seoTitle:(z.page.seoTitle||"").trim(),seoDescription:(z.page.seoDescription||"").trim()},announcementBanner:{id:z.announcementBanner.id||"",status:z.announcementBanner.status||"draft",internalName:(z.announcementBanner.internalName||"").trim(),shortText:(z.announcementBanner.shortText||"").trim()},sections:(z.sections||[]).map(e=>({id:e.id||"",migrationKey:e.migrationKey||"",status:e.status||"draft",internalName:(e.internalName||"").trim(),sectionType:e.sectionType||"",sort:Number(e.sort||0),anchorId:(e.anchorId||"").trim(),eyebrow:(e.eyebrow||"").trim(),title:(e.title||"").trim(),accent:(e.accent||"").trim(),body:(e.body||"").trim(),primaryCtaLabel:(e.primaryCtaLabel||"").trim(),primaryCtaUrl:(e.primaryCtaUrl||"").trim(),secondaryCtaLabel:(e.secondaryCtaLabel||"").trim(),secondaryCtaUrl:(e.secondaryCtaUrl||"").trim(),styleVariant:e.styleVariant||"default",layoutVariant:e.layoutVariant||"contained",featuredProductKey:(e.featuredProductKey||"").trim(),featuredProductStatus:e.featuredProductStatus||e.status||"draft",items:(e.items||[]).map(t=>({id:t.id||"",migrationKey:t.migrationKey||"",status:t.status||e.status||"draft",title:(t.title||"").trim(),description:(t.description||"").trim(),label:(t.label||"").trim(),url:(t.url||"").trim(),referenceKind:At(t.referenceKind||"none"),referenceKey:(t.referenceKey||"").trim(),sort:Number(t.sort||0)}))}))})}function Ea(){const e=N.collectionDraft;return e?JSON.stringify({id:e.id||"",key:(e.key||"").trim(),status:e.status||"draft",title:(e.title||"").trim(),description:(e.description||"").trim(),mode:e.mode||"hybrid",ruleType:e.ruleType||"",categoryKey:e.categoryKey||"",brandKey:e.brandKey||"",limit:Number(e.limit||12),sortMode:e.sortMode||"default",primaryCtaLabel:(e.primaryCtaLabel||"").trim(),primaryCtaUrl:(e.primaryCtaUrl||"").trim(),rules:(e.rules||[]).map(t=>({id:t.id||"",status:t.status||e.status||"draft",entityKind:t.entityKind||"product",entityKey:(t.entityKey||"").trim(),behavior:t.behavior||"pin",sort:Number(t.sort||0)}))}):""}function Fa(){return JSON.stringify({id:Y.id||"",sku:(Y.sku||"").trim(),name:(Y.name||"").trim(),amount:Number(Y.amount||0),currency:(Y.currency||"").trim().toUpperCase(),stock:Number(Y.stock||0),weightGrossG:Nb(Y.weightGrossG),lengthMm:Nb(Y.lengthMm),widthMm:Nb(Y.widthMm),heightMm:Nb(Y.heightMm)})}function Va(){return JSON.stringify({id:te.id||"",name:(te.name||"").trim(),slug:(te.slug||"").trim(),description:(te.description||"").trim(),parentId:te.parentId||"",position:Number(te.position||0),isActive:Boolean(te.isActive)})}function La(){return JSON.stringify({id:oe.id||"",name:(oe.name||"").trim(),slug:(oe.slug||"").trim(),description:(oe.description||"").trim()})}function Na(){return!pt.value||window.confirm("Есть несохранённые изменения. Отбросить их и продолжить?")}async function za(){const e=q.name.trim()?q.slug.trim()?(q.specifications||[]).find(e=>(e.items||[]).some(e=>Boolean(String(e?.label||"").trim())!==Boolean(String(e?.value||"").trim())))?"У каждого параметра характеристики должны быть заполнены и название, и значение.":null:"Укажите слаг товара.":"Укажите название товара.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:q.name.trim(),slug:q.slug.trim(),description:Kb(q.description),brand:Ze.value.find(e=>e.id===q.brandId)?.slug||null,categories:et.value.filter(e=>(q.categoryIds||[]).includes(e.id)).map(e=>e.slug),isActive:Boolean(q.isActive),specifications:Lb(q.specifications)},t=q.id?`/products/${q.id}`:"/products",n=q.id?"PUT":"POST",o=await a(t,{method:n,data:e});await Jn({reloadSelected:!1}),await aa(),await Xn(o.id,{silent:!0}),It(q.id?"Товар сохранён.":"Товар создан.")}catch(e){Pt(e)}finally{_.value=!1}}}async function Ma(){if(q.id)if(window.confirm(`Удалить товар «${q.name||q.slug}»?`)){_.value=!0,xt();try{await a(`/products/${q.id}`,{method:"DELETE"}),await Jn({reloadSelected:!1}),await aa(),H.selectedId="",H.detail=null,H.isCreating=!1,ba({silent:!0}),fa(),It("Товар удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление товара отменено.");else Tt("Товар не выбран.")}async function Ka(){const e=Y.sku.trim()?Y.name.trim()?String(Y.currency||"").trim()?null:"Укажите валюту варианта.":"Укажите название варианта.":"Укажите SKU варианта.";if(e)A.value=e;else if(q.id){_.value=!0,xt();try{const e={name:Y.name.trim(),amount:Mb(Y.amount)??0,currency:String(Y.currency||"RUB").trim().toUpperCase(),stock:Number(Y.stock||0),weightGrossG:Nb(Y.weightGrossG),lengthMm:Nb(Y.lengthMm),widthMm:Nb(Y.widthMm),heightMm:Nb(Y.heightMm)};Y.id&&"admin"!==ge.value||(e.sku=Y.sku.trim());const t=Y.id?`/products/${q.id}/variants/${Y.id}`:`/products/${q.id}/variants`,n=Y.id?"PUT":"POST";await a(t,{method:n,data:e}),await Jn({reloadSelected:!1}),await aa(),await Xn(q.id,{silent:!0}),ba({silent:!0}),It(Y.id?"Вариант сохранён.":"Вариант добавлен.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Сначала сохраните товар."}async function Ha(e){if(q.id&&e?.id)if(window.confirm(`Удалить вариант «${e.name||e.sku}»?`)){_.value=!0,xt();try{await a(`/products/${q.id}/variants/${e.id}`,{method:"DELETE"}),await Jn({reloadSelected:!1}),await aa(),await Xn(q.id,{silent:!0}),ba({silent:!0}),It("Вариант удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление варианта отменено.");else Tt(q.id?"Вариант не выбран.":"Сначала сохраните товар.")}async function Ba(){const e=te.name.trim()?te.slug.trim()?te.parentId&&te.parentId===te.id?"Категория не может быть родителем самой себе.":null:"Укажите слаг категории.":"Укажите название категории.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:te.name.trim(),slug:te.slug.trim(),description:Kb(te.description),parentId:te.parentId||null,position:Number(te.position||0),isActive:Boolean(te.isActive)},t=te.id?`/categories/${te.id}`:"/categories",n=te.id?"PUT":"POST",o=await a(t,{method:n,data:e});await Wn({reloadSelected:!1}),await aa(),await Zn(o.id,{silent:!0}),It(te.id?"Категория сохранена.":"Категория создана.")}catch(e){Pt(e)}finally{_.value=!1}}}async function $a(){if(te.id)if(window.confirm(`Удалить категорию «${te.name||te.slug}»?`)){_.value=!0,xt();try{await a(`/categories/${te.id}`,{method:"DELETE"}),await Wn({reloadSelected:!1}),await aa(),B.selectedId="",B.detail=null,B.isCreating=!1,ae.value=null,It("Категория удалена.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление категории отменено.");else Tt("Категория не выбрана.")}async function ja(){const e=oe.name.trim()?oe.slug.trim()?null:"Укажите слаг бренда.":"Укажите название бренда.";if(e)A.value=e;else{_.value=!0,xt();try{const e={name:oe.name.trim(),slug:oe.slug.trim(),description:Kb(oe.description)},t=oe.id?`/brands/${oe.id}`:"/brands",n=oe.id?"PUT":"POST",o=await a(t,{method:n,data:e});await ea({reloadSelected:!1}),await aa(),await ta(o.id,{silent:!0}),It(oe.id?"Бренд сохранён.":"Бренд создан.")}catch(e){Pt(e)}finally{_.value=!1}}}async function qa(){if(oe.id)if(window.confirm(`Удалить бренд «${oe.name||oe.slug}»?`)){_.value=!0,xt();try{await a(`/brands/${oe.id}`,{method:"DELETE"}),await ea({reloadSelected:!1}),await aa(),$.selectedId="",$.detail=null,$.isCreating=!1,It("Бренд удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление бренда отменено.");else Tt("Бренд не выбран.")}async function Ga(){const e=ie.variantId?ie.idempotencyKey.trim()?null:"Укажите ключ идемпотентности.":"Сначала выберите вариант.";if(e)A.value=e;else{_.value=!0,xt();try{const e=await a("/inventory/adjust",{method:"POST",params:{idempotencyKey:ie.idempotencyKey.trim()},data:{variantId:ie.variantId,delta:Number(ie.delta||0),reason:Kb(ie.reason)}});await na(),H.selectedId&&await Xn(H.selectedId,{silent:!0}),ie.delta=0,ie.reason="",ie.idempotencyKey=Hb(),It(!1===e?.applied?"Повторный запрос распознан, остаток не изменён повторно.":"Корректировка применена.")}catch(e){Pt(e)}finally{_.value=!1}}}async function Qa(e){e===re.selectedId&&re.detail?Tt("Этот заказ уже открыт."):await la(e)}async function Ya({full:e=!1}={}){if(!re.selectedId||!Ve.value)return void(A.value="Возврат оплаты недоступен для этого заказа.");const t=e?[]:Ja();if(e||t.length){_.value=!0,xt();try{const n=await a(`/admin/orders/${re.selectedId}/refunds`,{method:"POST",data:{items:t}});re.detail=n,ka(n),Sa(n),await oa(),It(e?"Создан возврат оставшейся суммы.":"Создан частичный возврат.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите хотя бы одну строку и количество для частичного возврата."}function Ja(){return Object.entries(re.refundForms||{}).map(([e,t])=>{const n=Nb(t?.quantity),a=Mb(t?.amount);return!n||n<=0?null:{orderItemId:e,quantity:n,amount:a}}).filter(Boolean)}async function Xa(){if(re.selectedId&&Ee.value){_.value=!0,xt();try{await a("/admin/rma-requests",{method:"POST",data:{orderId:re.selectedId,reason:Kb(re.rmaReason),desiredResolution:Kb(re.rmaDesiredResolution)}}),re.rmaReason="",re.rmaDesiredResolution="",await la(re.selectedId,{silent:!0}),It("RMA запрос создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="RMA для этого заказа недоступен."}async function Wa(e){const t=re.rmaDecisionForms[e?.id];if(e?.id&&t?.status)if(Fe.value){_.value=!0,xt();try{await a(`/admin/rma-requests/${e.id}/decision`,{method:"POST",data:{status:t.status,comment:Kb(t.comment)}}),await la(re.selectedId,{silent:!0}),It("Решение по RMA сохранено.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Решение по RMA недоступно для текущей роли.";else A.value="Выберите решение по RMA."}async function Za(){if(re.selectedId&&re.nextStatus)if(De.value){_.value=!0,xt();try{const e=await a(`/admin/orders/${re.selectedId}/status`,{method:"POST",data:{status:re.nextStatus,note:Kb(re.note)}});re.detail=e,re.note="",ka(e),Sa(e),await oa(),It("Статус заказа обновлён.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Для текущей роли изменение статуса этого заказа недоступно.";else A.value="Выберите заказ и статус."}async function eo(){if(re.selectedId)if(Ae.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/claim`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ отмечен как взятый в работу.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Этот заказ уже взят в работу или недоступен для вашей роли.";else A.value="Выберите заказ."}async function to(){if(re.selectedId&&Ue.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/unclaim`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Менеджер снят с заказа.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value=re.selectedId?"Снять менеджера с этого заказа недоступно.":"Выберите заказ."}async function no(){const e=Te.value;if(!re.selectedId||!_e.value||!e)return void(A.value=re.selectedId?"Удаление этого заказа недоступно.":"Выберите заказ.");if(!window.confirm(`Удалить заказ «${e.receiptEmail||e.id}»? Заказ будет сохранён в архиве.`))return void Tt("Удаление заказа отменено.");const t=window.prompt("Причина удаления","Удалён администратором в Directus")||"Удалён администратором в Directus";_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}`,{method:"DELETE",data:{reason:Kb(t)}}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ перемещён в архив.")}catch(e){Pt(e)}finally{_.value=!1}}async function ao(){if(re.selectedId&&Re.value){_.value=!0,xt();try{re.detail=await a(`/admin/orders/${re.selectedId}/restore`,{method:"POST"}),ka(re.detail),Sa(re.detail),await oa(),It("Заказ восстановлен из архива.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value=re.selectedId?"Восстановление этого заказа недоступно.":"Выберите заказ."}async function oo(){re.query="",re.status="",re.manager="",re.from="",re.to="",re.archived="all",await oa(),Tt("Фильтры заказов сброшены.")}function lo(e){if(se.selectedJobId===e)return void Tt("Этот импорт уже выбран.");se.selectedJobId=e;const t=se.jobs.find(t=>t.id===e);t&&se.dryRun?.job?.id!==e?Tt(`Выбран импорт ${t.fileName||t.id}. Повторное применение доступно из последнего dry-run.`):Tt(t?`Выбран импорт ${t.fileName||t.id}.`:"Импорт не найден в текущем списке.")}function io(e){se.file=e?.target?.files?.[0]||null,se.dryRun=null,se.notUpdatedModalOpen=!1}async function ro(){if(!se.file)return void(A.value="Выберите файл для импорта.");const e=new FormData;e.append("file",se.file),e.append("mapping",JSON.stringify(se.mapping)),_.value=!0,xt();try{se.dryRun=await a("/admin/imports/catalogue/dry-run",{method:"POST",data:e,headers:{"Content-Type":"multipart/form-data"}}),se.selectedJobId=se.dryRun?.job?.id||"",await ia(),It("Dry-run импорта завершён.")}catch(e){Pt(e)}finally{_.value=!1}}async function so(){const e=se.dryRun?.job?.id||se.selectedJobId;if(e){_.value=!0,xt();try{await a("/admin/imports/catalogue/commit",{method:"POST",data:{jobId:e}}),await Promise.allSettled([ia(),Jn({reloadSelected:!0}),na()]),It("Остатки обновлены.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Сначала выполните dry-run."}function co(){se.dryRun?.report?.notUpdatedRows?se.notUpdatedModalOpen=!0:Tt("Все варианты каталога найдены в последнем dry-run.")}function uo(){se.notUpdatedModalOpen=!1}function po(e){const t=se.dryRun?.job?.id||se.selectedJobId;if(!t)return void(A.value="Сначала выполните dry-run.");const n="xlsx"===e?"xlsx":"txt";window.open(`/storefront-ops-bridge/admin/imports/${t}/not-updated.${n}`,"_blank","noopener,noreferrer")}function mo({silent:e=!1}={}){ce.mode="promotion",ce.selectedId="",ce.selectedPromoCodeId="",ce.isCreating=!0,ce.promoCodeCreating=!1,Object.assign(pe,{id:"",name:"",type:"PRODUCT_SALE",status:"ACTIVE",startsAt:"",endsAt:"",discountPercent:null,discountAmount:null,salePriceAmount:null,currency:"RUB",thresholdAmount:null,description:"",targets:[]}),e||Tt("Открыта форма новой акции.")}function bo(e){"promotion"!==ce.mode||ce.selectedId!==e?.id||ce.isCreating?(ce.mode="promotion",ce.selectedId=e.id,ce.selectedPromoCodeId="",ce.isCreating=!1,ce.promoCodeCreating=!1,Object.assign(pe,{id:e.id||"",name:e.name||"",type:e.type||"PRODUCT_SALE",status:e.status||"ACTIVE",startsAt:Db(e.startsAt),endsAt:Db(e.endsAt),discountPercent:e.discountPercent??null,discountAmount:zb(e.discountAmount),salePriceAmount:zb(e.salePriceAmount),currency:e.currency||"RUB",thresholdAmount:null,description:e.description||"",targets:vo(e.targets)}),Tt("Акция открыта для редактирования.")):Tt("Эта акция уже открыта.")}function fo({silent:e=!1}={}){ce.mode="promoCode",ce.selectedPromoCodeId="",ce.selectedId="",ce.isCreating=!1,ce.promoCodeCreating=!0,Object.assign(me,{id:"",code:"",status:"ACTIVE",discountPercent:null,discountAmount:null,thresholdAmount:null,startsAt:"",endsAt:"",maxRedemptions:null,description:""}),e||Tt("Открыта форма нового промокода.")}function yo(e){"promoCode"!==ce.mode||ce.selectedPromoCodeId!==e?.id||ce.promoCodeCreating?(ce.mode="promoCode",ce.selectedPromoCodeId=e.id,ce.selectedId="",ce.isCreating=!1,ce.promoCodeCreating=!1,Object.assign(me,{id:e.id||"",code:e.code||"",status:e.status||"ACTIVE",discountPercent:e.discountPercent??null,discountAmount:zb(e.discountAmount),thresholdAmount:zb(e.thresholdAmount),startsAt:Db(e.startsAt),endsAt:Db(e.endsAt),maxRedemptions:e.maxRedemptions??null,description:e.description||""}),Tt("Промокод открыт для редактирования.")):Tt("Этот промокод уже открыт.")}function vo(e=[]){return(Array.isArray(e)?e:[]).map(e=>({targetKind:e?.targetKind||"VARIANT",targetKey:e?.targetKey||""})).filter(e=>e.targetKind&&e.targetKey)}function go(){pe.targets.push({targetKind:"VARIANT",targetKey:""}),Ot()}function ho(e){e<0||e>=pe.targets.length?Tt("Цель акции не выбрана."):(pe.targets.splice(e,1),Ot())}async function ko(){if(pe.name.trim()){_.value=!0,xt();try{const e=vo(pe.targets),t={name:pe.name.trim(),type:"PRODUCT_SALE",status:pe.status,startsAt:Rb(pe.startsAt),endsAt:Rb(pe.endsAt),discountPercent:Nb(pe.discountPercent),discountAmount:Mb(pe.discountAmount),salePriceAmount:Mb(pe.salePriceAmount),currency:pe.currency||"RUB",thresholdAmount:null,description:Kb(pe.description),targets:e},n=pe.id?`/admin/promotions/${pe.id}`:"/admin/promotions",o=pe.id?"PUT":"POST",l=await a(n,{method:o,data:t});await ra(),bo(l),It(pe.id?"Акция сохранена.":"Акция создана.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите название акции."}async function So(){if(pe.id&&window.confirm(`Удалить акцию «${pe.name}»?`)){_.value=!0,xt();try{await a(`/admin/promotions/${pe.id}`,{method:"DELETE"}),await ra(),mo({silent:!0}),It("Акция удалена.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(pe.id?"Удаление акции отменено.":"Акция не выбрана.")}async function wo(){if(me.code.trim()){_.value=!0,xt();try{const e={code:me.code.trim(),status:me.status,discountPercent:Nb(me.discountPercent),discountAmount:Mb(me.discountAmount),thresholdAmount:Mb(me.thresholdAmount),startsAt:Rb(me.startsAt),endsAt:Rb(me.endsAt),maxRedemptions:Nb(me.maxRedemptions),description:Kb(me.description)},t=me.id?`/admin/promo-codes/${me.id}`:"/admin/promo-codes",n=me.id?"PUT":"POST",o=await a(t,{method:n,data:e});await ra(),yo(o),It(me.id?"Промокод сохранён.":"Промокод создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите промокод."}async function Co(){if(me.id&&window.confirm(`Удалить промокод «${me.code}»?`)){_.value=!0,xt();try{await a(`/admin/promo-codes/${me.id}`,{method:"DELETE"}),await ra(),fo({silent:!0}),It("Промокод удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(me.id?"Удаление промокода отменено.":"Промокод не выбран.")}function xo({silent:e=!1}={}){be.selectedId="",be.isCreating=!0,Object.assign(fe,{id:"",name:"",status:"ACTIVE",taxSystemCode:1,vatCode:1,vatRatePercent:0,active:!1}),e||Tt("Открыта форма нового налогового режима.")}function Io(e,{silent:t=!1}={}){be.selectedId!==e?.id||be.isCreating?(be.selectedId=e.id,be.isCreating=!1,Object.assign(fe,{id:e.id||"",name:e.name||"",status:e.status||"ACTIVE",taxSystemCode:Number(e.taxSystemCode||1),vatCode:Number(e.vatCode||1),vatRatePercent:Number(e.vatRatePercent||0),active:Boolean(e.active)}),t||Tt("Налоговый режим открыт для редактирования.")):t||Tt("Этот налоговый режим уже открыт.")}async function To(){if(fe.name.trim()){_.value=!0,xt();try{const e={name:fe.name.trim(),status:fe.status,taxSystemCode:Number(fe.taxSystemCode||1),vatCode:Number(fe.vatCode||1),vatRatePercent:Number(fe.vatRatePercent||0),active:Boolean(fe.active)},t=fe.id?`/admin/tax-settings/${fe.id}`:"/admin/tax-settings",n=fe.id?"PUT":"POST",o=await a(t,{method:n,data:e});await da(),Io(o,{silent:!0}),It(fe.id?"Налоговый режим сохранён.":"Налоговый режим создан.")}catch(e){Pt(e)}finally{_.value=!1}}else A.value="Укажите название налогового режима."}async function Oo(){if(fe.id&&window.confirm(`Удалить налоговый режим «${fe.name}»?`)){_.value=!0,xt();try{await a(`/admin/tax-settings/${fe.id}`,{method:"DELETE"}),await da(),xo({silent:!0}),It("Налоговый режим удалён.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt(fe.id?"Удаление налогового режима отменено.":"Налоговый режим не выбран.")}async function Po(){_.value=!0,xt();try{const e=await a("/admin/alerts/low-stock/settings",{method:"PUT",data:{threshold:Number(ve.threshold||0)}});ve.threshold=Number(e.threshold||0),ve.rows=e.rows||[],ve.loaded=!0,V.alerts=ve.rows.length,It("Порог низких остатков сохранён.")}catch(e){Pt(e)}finally{_.value=!1}}function Ao(e){const t=Array.from(e?.target?.files||[]);try{bb(t),W.value=t,A.value=""}catch(t){W.value=[],Pt(t),e?.target&&(e.target.value="")}}function Uo(e){const t=e?.target?.files?.[0]||null;try{t&&bb([t]),ae.value=t,A.value=""}catch(t){ae.value=null,Pt(t),e?.target&&(e.target.value="")}}async function _o(){if(q.id)if(W.value.length){_.value=!0,Z.busy=!0,xt();try{const e=await l.uploadBatch({targetType:"PRODUCT",entityId:q.id,files:W.value.map(e=>({file:e,variantId:X.variantId||null})),onState:e=>Fo("PRODUCT",q.id,e)});await Xn(q.id,{silent:!0});const t=e.items.filter(e=>"READY"!==e.status);W.value=[],t.length?A.value=`Готово ${e.items.length-t.length} из ${e.items.length}. Не удалось обработать: ${t.map(e=>e.filename).join(", ")}.`:(X.variantId="",It("Изображения загружены и оптимизированы."))}catch(e){Pt(e)}finally{Z.busy=!1,_.value=!1}}else A.value="Выберите хотя бы один файл.";else A.value="Сначала сохраните товар."}async function Ro(e){if(q.id)if(window.confirm("Удалить это изображение?")){_.value=!0,xt();try{await a(`/products/${q.id}/images/${e}`,{method:"DELETE"}),await Xn(q.id,{silent:!0}),It("Изображение удалено.")}catch(e){Pt(e)}finally{_.value=!1}}else Tt("Удаление изображения отменено.");else A.value="Сначала сохраните товар."}async function Do(){if(te.id)if(ae.value){_.value=!0,Z.busy=!0,xt();try{const e=await l.uploadBatch({targetType:"CATEGORY",entityId:te.id,files:[{file:ae.value}],onState:e=>Fo("CATEGORY",te.id,e)});await Wn({reloadSelected:!1}),await Zn(te.id,{silent:!0}),ae.value=null,"READY"===e.items[0]?.status?It("Изображение категории загружено и оптимизировано."):A.value=e.items[0]?.error||"Изображение загружено, но оптимизация завершилась ошибкой."}catch(e){Pt(e)}finally{Z.busy=!1,_.value=!1}}else A.value="Выберите файл изображения.";else A.value="Сначала сохраните категорию."}async function Eo(e,t){if(t)try{Fo(e,t,await a("/media/uploads",{params:{targetType:e,entityId:t}})||[]),function(){ee&&(window.clearTimeout(ee),ee=null);if(!Z.items.some(e=>["QUEUED","PROCESSING"].includes(e.status)))return;ee=window.setTimeout(async()=>{const{targetType:e,entityId:t}=Z;e&&t&&(await Eo(e,t),Z.items.length||("PRODUCT"===e&&q.id===t?await Xn(t,{silent:!0}):"CATEGORY"===e&&te.id===t&&await Zn(t,{silent:!0})))},2e3)}()}catch(e){Vo(),Pt(e)}else Vo()}function Fo(e,t,n){Z.targetType=e,Z.entityId=t,Z.items=(n||[]).map(e=>({...e,progress:Number(e.progress||("READY"===e.status?1:0))})),Z.activeBatchId=Z.items[0]?.batchId||""}function Vo(){ee&&(window.clearTimeout(ee),ee=null),Z.items=[],Z.activeBatchId="",Z.targetType="",Z.entityId="",Z.busy=!1}async function Lo(e){xt();try{await a(`/media/uploads/${e}/retry`,{method:"POST"}),await Eo(Z.targetType,Z.entityId),Tt("Повторная оптимизация поставлена в очередь.")}catch(e){Pt(e)}}async function No(e){xt();try{await a(`/media/uploads/${e}`,{method:"DELETE"}),await Eo(Z.targetType,Z.entityId),Tt("Загрузка отменена.")}catch(e){Pt(e)}}function zo(e){return{UPLOADING:"Загружается",QUEUED:"Ожидает оптимизации",PROCESSING:"Оптимизируется",READY:"Готово",FAILED:"Ошибка",ABORTED:"Отменено",EXPIRED:"Истекло"}[e]||e}function Mo(e){return"UPLOADING"===e.status?`${Math.round(100*Number(e.progress||0))}%`:"PROCESSING"===e.status?"Создаём 27 оптимизированных копий":zo(e.status)}async function Ko(e){const t="product"===e?ot.value:lt.value,a="product"===e?q.slug.trim():te.slug.trim();if(!a)return void(A.value="Сначала сохраните сущность со слагом, затем можно открыть или создать оверлей.");const o=t?.collection||("product"===e?"product_overlay":"category_overlay"),l=t?.keyField||("product"===e?"product_key":"category_key");_.value=!0,xt();try{let i=t?.itemId||null;if(!i){const t=await n.post(`/items/${o}`,{[l]:a,status:"draft"});i=t?.data?.data?.id,"product"===e&&q.id&&await Xn(q.id,{silent:!0}),"category"===e&&te.id&&await Zn(te.id,{silent:!0})}i?(window.open(`/admin/content/${o}/${i}`,"_blank","noopener"),Tt("Оверлей открыт в новой вкладке.")):A.value="Оверлей не удалось открыть: Directus не вернул идентификатор записи."}catch(e){Pt(e)}finally{_.value=!1}}function Ho(e){const t={page:{key:u},product:{key:q.slug,id:q.id},category:{key:te.slug,id:te.id}}[e]||{},n=Jb({baseUrl:F.previewBaseUrl,kind:e,key:t.key,id:t.id});n?(window.open(n,"_blank","noopener"),Tt("Предпросмотр открыт в новой вкладке.")):A.value="Предпросмотр витрины не настроен для этой записи."}function Bo(){q.specifications.push({title:"",description:"",items:[]}),Ot()}function $o(e){e<0||e>=q.specifications.length?Tt("Секция характеристик не выбрана."):(q.specifications.splice(e,1),Ot())}function jo(e){const t=q.specifications[e];t?(t.items.push({label:"",value:""}),Ot()):Tt("Секция характеристик не выбрана.")}function qo(e,t){const n=q.specifications[e];n?t<0||t>=n.items.length?Tt("Параметр характеристики не выбран."):(n.items.splice(t,1),Ot()):Tt("Секция характеристик не выбрана.")}function Go(e,t,n){n?e.set(t,n):e.delete(t)}function Qo(e){pt.value&&(e.preventDefault(),e.returnValue="")}return T(()=>j.query,()=>{(j.loaded||L.inventory)&&$invSchedule()}),T(()=>[x.value,H.selectedId,B.selectedId,$.selectedId,j.selectedVariantId,H.panel],()=>{!function(){if(!D.value)return;const e={activeTab:x.value,productId:H.selectedId||"",categoryId:B.selectedId||"",brandId:$.selectedId||"",inventoryVariantId:j.selectedVariantId||"",productPanel:H.panel};localStorage.setItem(c,JSON.stringify(e));const t=new URLSearchParams(window.location.search);t.set("tab",x.value),["product","category","brand","variant","panel"].forEach(e=>t.delete(e)),"products"===x.value?(Go(t,"product",H.selectedId),Go(t,"panel","main"!==H.panel?H.panel:"")):"categories"===x.value?Go(t,"category",B.selectedId):"brands"===x.value?Go(t,"brand",$.selectedId):"inventory"===x.value&&Go(t,"variant",j.selectedVariantId);const n=t.toString(),a=`${window.location.pathname}${n?`?${n}`:""}`;window.history.replaceState({},"",a)}()}),O(async()=>{document.documentElement.classList.add(Wb),document.body.classList.add(Xb),window.addEventListener("beforeunload",Qo),M.value=Da(),K.value=Ea(),G.value=Ra(),J.value=Fa(),ne.value=Va(),le.value=La(),await async function(){try{const e=await a("/access-profile");return void Yn(e?.data||e||{})}catch{}try{const e=await Qn(["id","email","external_identifier","role.id","role.name"]);Yn(e?.data?.data||e?.data||{})}catch{try{const e=await Qn(["id","email","external_identifier","role"]);Yn(e?.data?.data||e?.data||{})}catch{Yn({})}}finally{F.loaded=!0}}(),function(){let e={};try{e=JSON.parse(localStorage.getItem(c)||"{}")}catch{e={}}const t=new URLSearchParams(window.location.search);x.value=t.get("tab")||e.activeTab||"home",H.selectedId=t.get("product")||e.productId||"",B.selectedId=t.get("category")||e.categoryId||"",$.selectedId=t.get("brand")||e.brandId||"",j.selectedVariantId=t.get("variant")||e.inventoryVariantId||"",H.panel=t.get("panel")||e.productPanel||"main",Ct({notify:Boolean(t.get("tab"))})}(),await async function(){await C(),E.value=""}(),D.value=!0,await Promise.allSettled([aa(),pa()]),ha({silent:!0})}),P(()=>{ee&&(window.clearTimeout(ee),ee=null),$invTimer&&(window.clearTimeout($invTimer),$invTimer=null),E.value="",document.documentElement.classList.remove(Wb),document.body.classList.remove(Xb),window.removeEventListener("beforeunload",Qo)}),{copyCurrentLink:async function(){try{await navigator.clipboard.writeText(window.location.href),Tt("Ссылка на текущее рабочее состояние скопирована.")}catch(e){Pt(e)}},refreshCurrentTab:async function(){R.value=!0,xt();try{"home"===x.value?await Gt():"products"===x.value?await Jn({reloadSelected:!0}):"categories"===x.value?await Wn({reloadSelected:!0}):"brands"===x.value?await ea({reloadSelected:!0}):"inventory"===x.value?await na():"orders"===x.value?await Promise.all([oa(),sa()]):"imports"===x.value?await ia():"promotions"===x.value?await ra():"tax"===x.value?await da():"analytics"===x.value?await ca():"alerts"===x.value&&await ua(),await aa(),Tt("Раздел обновлён.")}finally{R.value=!1}},isRefreshing:R,navigationTarget:E,visibleTabs:Se,activeTab:x,setActiveTab:async function(e){e!==x.value?wt(e)?Na()?(xt(),x.value=e,await pa()):Tt("Переход в другой раздел отменён."):Tt("Раздел скрыт для вашей роли Directus."):Tt("Этот раздел уже открыт.")},tabCount:function(e){return"home"===e?N.loaded?z.sections.length:V.home:"products"===e?H.loaded?H.items.length:V.products:"categories"===e?B.loaded?B.items.length:V.categories:"brands"===e?$.loaded?$.items.length:V.brands:"inventory"===e?j.loaded?j.items.length:V.inventory:"orders"===e?re.loaded?re.items.length:V.orders:"imports"===e?se.loaded?se.jobs.length:V.imports:"promotions"===e?ce.loaded?ce.items.length+ce.promoCodes.length:V.promotions:"tax"===e?be.loaded?be.items.length:V.tax:"analytics"===e?ye.loaded?ye.managerRows.length:V.analytics:"alerts"===e?ve.loaded?ve.rows.length:V.alerts:0},accessState:F,accessRoleLabel:Le,managerAnalyticsNotice:Ne,pageError:A,pageNotice:U,clearMessages:xt,activeTabComponent:Ie,storefrontOpsViewProps:bt}}const ef=["disabled"],tf=["onClick"],nf=["disabled"],af={class:"workspace storefront-ops"},of=["disabled"],lf=["onClick"],rf=["disabled"],sf={key:1,class:"access-context"},df={key:2,class:"status-banner status-banner-error"},cf={class:"status-banner-copy"},uf={class:"status-banner-copy"},pf={key:4,class:"empty-state"};var mf=t({id:"storefront-ops",name:"Управление витриной",icon:"shop_2",routes:[{path:"",component:{__name:"module",setup(e){const t={home:rr,products:qp,categories:xn,brands:ht,inventory:fs,orders:Tc,imports:$r,promotions:Bm,tax:cb,analytics:Qe,alerts:le},{copyCurrentLink:n,refreshCurrentTab:r,isRefreshing:b,navigationTarget:f,visibleTabs:y,activeTab:v,setActiveTab:g,tabCount:h,accessState:I,accessRoleLabel:R,managerAnalyticsNotice:D,pageError:E,pageNotice:V,clearMessages:L,activeTabComponent:N,storefrontOpsViewProps:z}=Zb(t),M=S(null),K=S(!1),H=S(!1),B=S(!1);let $=null;const j=k(()=>({"is-scrollable":K.value,"can-scroll-left":H.value,"can-scroll-right":B.value}));function q(){const e=M.value;if(!e)return K.value=!1,H.value=!1,void(B.value=!1);const t=Math.max(0,e.scrollWidth-e.clientWidth),n=Math.max(0,e.scrollLeft);K.value=t>2,H.value=n>2,B.value=n<t-2}function G(){q()}function Q(e){const t=M.value;if(!t)return;const n=Math.max(.72*t.clientWidth,180);t.scrollBy({left:"left"===e?-n:n,behavior:"smooth"})}function Y(){$?.disconnect(),$=null}async function J(){await C(),Y();const e=M.value;e?("undefined"!=typeof window&&"ResizeObserver"in window&&($=new window.ResizeObserver(()=>{q()}),$.observe(e)),q()):q()}return O(()=>{J()}),T([y,f],()=>{J()}),P(()=>{Y()}),(e,t)=>{const k=A("v-button"),S=A("private-view");return a(),c(S,{class:"workspace-view",title:"Управление витриной"},{actions:u(()=>[w(k,{secondary:"",onClick:U(n),disabled:U(b)},{default:u(()=>[...t[6]||(t[6]=[x(" Копировать ссылку ",-1)])]),_:1},8,["onClick","disabled"]),w(k,{onClick:U(r),loading:U(b)},{default:u(()=>[...t[7]||(t[7]=[x(" Обновить ",-1)])]),_:1},8,["onClick","loading"])]),default:u(()=>[U(f)?(a(),c(_,{key:0,to:U(f)},[i("div",{class:l(["pane-tabs-carousel pane-tabs-carousel-navigation",j.value])},[i("button",{class:"pane-tabs-arrow pane-tabs-arrow-left",type:"button","aria-label":"Прокрутить разделы влево",disabled:!H.value,onClick:t[0]||(t[0]=e=>Q("left"))}," ‹ ",8,ef),i("nav",{ref_key:"tabRail",ref:M,class:"pane-tabs pane-tabs-navigation","aria-label":"Разделы управления витриной",onScrollPassive:G},[(a(!0),o(p,null,m(U(y),e=>(a(),o("button",{key:e.id,type:"button",class:l(["pane-tab",{active:U(v)===e.id}]),onClick:t=>U(g)(e.id)},[i("span",null,s(e.label),1),i("small",null,s(U(h)(e.id)),1)],10,tf))),128))],544),i("button",{class:"pane-tabs-arrow pane-tabs-arrow-right",type:"button","aria-label":"Прокрутить разделы вправо",disabled:!B.value,onClick:t[1]||(t[1]=e=>Q("right"))}," › ",8,nf)],2)],8,["to"])):d("v-if",!0),i("div",af,[U(f)?d("v-if",!0):(a(),o("div",{key:0,class:l(["pane-tabs-carousel pane-tabs-carousel-inline",j.value])},[i("button",{class:"pane-tabs-arrow pane-tabs-arrow-left",type:"button","aria-label":"Прокрутить разделы влево",disabled:!H.value,onClick:t[2]||(t[2]=e=>Q("left"))}," ‹ ",8,of),i("nav",{ref_key:"tabRail",ref:M,class:"pane-tabs pane-tabs-inline","aria-label":"Разделы управления витриной",onScrollPassive:G},[(a(!0),o(p,null,m(U(y),e=>(a(),o("button",{key:e.id,type:"button",class:l(["pane-tab",{active:U(v)===e.id}]),onClick:t=>U(g)(e.id)},[i("span",null,s(e.label),1),i("small",null,s(U(h)(e.id)),1)],10,lf))),128))],544),i("button",{class:"pane-tabs-arrow pane-tabs-arrow-right",type:"button","aria-label":"Прокрутить разделы вправо",disabled:!B.value,onClick:t[3]||(t[3]=e=>Q("right"))}," › ",8,rf)],2)),U(I).loaded?(a(),o("div",sf,[i("strong",null,s(U(R)),1),i("span",null,s(U(D)),1)])):d("v-if",!0),U(E)?(a(),o("div",df,[i("div",cf,[t[8]||(t[8]=i("strong",null,"Ошибка",-1)),i("span",null,s(U(E)),1)]),i("button",{class:"status-banner-close",type:"button","aria-label":"Закрыть уведомление",onClick:t[4]||(t[4]=(...e)=>U(L)&&U(L)(...e))}," × ")])):U(V).text?(a(),o("div",{key:3,class:l(["status-banner","success"===U(V).type?"status-banner-success":"status-banner-info"])},[i("div",uf,[i("strong",null,s("success"===U(V).type?"Готово":"Информация"),1),i("span",null,s(U(V).text),1)]),i("button",{class:"status-banner-close",type:"button","aria-label":"Закрыть уведомление",onClick:t[5]||(t[5]=(...e)=>U(L)&&U(L)(...e))}," × ")],2)):d("v-if",!0),U(I).loaded&&!U(y).length?(a(),o("div",pf,[...t[9]||(t[9]=[i("strong",null,"Нет доступных разделов",-1),i("span",null,"Проверьте роль пользователя в Directus и Keycloak.",-1)])])):(a(),c(U(F),{key:5,component:U(N),"view-props":U(z)},null,8,["component","view-props"]))])]),_:1})}}}}]});export{mf as default};
@@ -1,28 +1,110 @@
 package com.example.order.repository;
 
 import com.example.order.domain.OrderItem;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface OrderItemRepository extends JpaRepository<OrderItem, UUID> {
 
-    @Query("""
-            select oi.variantId as variantId, sum(oi.quantity) as totalQuantity
-            from OrderItem oi
-            group by oi.variantId
-            order by sum(oi.quantity) desc
-            """)
-    List<VariantSalesView> findTopVariantSales(Pageable pageable);
+    /**
+     * Adds the order's items to {@code product_sales_daily} under {@code salesDate}, unless the order is
+     * already in the sales ledger.
+     */
+    @Modifying
+    @Query(value = """
+            WITH recorded AS (
+                INSERT INTO order_sales_ledger (order_id, sales_date)
+                VALUES (:orderId, :salesDate)
+                ON CONFLICT (order_id) DO NOTHING
+                RETURNING sales_date
+            )
+            INSERT INTO product_sales_daily (sales_date, variant_id, product_id, quantity)
+            SELECT r.sales_date, oi.variant_id, v.product_id, oi.quantity
+            FROM recorded r
+            JOIN order_item oi ON oi.order_id = :orderId
+            JOIN product_variant v ON v.id = oi.variant_id
+            ON CONFLICT (sales_date, variant_id)
+                DO UPDATE SET quantity = product_sales_daily.quantity + EXCLUDED.quantity
+            """, nativeQuery = true)
+    int recordOrderSales(@Param("orderId") UUID orderId, @Param("salesDate") LocalDate salesDate);
 
-    interface VariantSalesView {
-        UUID getVariantId();
+    /**
+     * Takes the order out of the sales ledger and subtracts its items from the day they were counted under.
+     */
+    @Modifying
+    @Query(value = """
+            WITH removed AS (
+                DELETE FROM order_sales_ledger
+                WHERE order_id = :orderId
+                RETURNING sales_date
+            )
+            INSERT INTO product_sales_daily (sales_date, variant_id, product_id, quantity)
+            SELECT r.sales_date, oi.variant_id, v.product_id, -oi.quantity
+            FROM removed r
+            JOIN order_item oi ON oi.order_id = :orderId
+            JOIN product_variant v ON v.id = oi.variant_id
+            ON CONFLICT (sales_date, variant_id)
+                DO UPDATE SET quantity = product_sales_daily.quantity + EXCLUDED.quantity
+            """, nativeQuery = true)
+    int reverseOrderSales(@Param("orderId") UUID orderId);
+
+    @Query(value = """
+            SELECT s.product_id AS "productId", sum(s.quantity) AS "totalQuantity"
+            FROM product_sales_daily s
+            JOIN product p ON p.id = s.product_id
+            WHERE s.sales_date >= :since
+              AND p.is_active
+            GROUP BY s.product_id
+            HAVING sum(s.quantity) > 0
+            ORDER BY sum(s.quantity) DESC, s.product_id
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<ProductSalesView> findTopProductSales(@Param("since") LocalDate since, @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT DISTINCT v.product_id
+            FROM order_item oi
+            JOIN product_variant v ON v.id = oi.variant_id
+            WHERE oi.order_id = :orderId
+            """, nativeQuery = true)
+    List<UUID> findOrderProductIds(@Param("orderId") UUID orderId);
+
+    /**
+     * The distinct products of every order currently counted as sold, grouped by order. Read through a
+     * cursor, so callers must hold a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(value = """
+            SELECT l.order_id AS "orderId", v.product_id AS "productId"
+            FROM order_sales_ledger l
+            JOIN order_item oi ON oi.order_id = l.order_id
+            JOIN product_variant v ON v.id = oi.variant_id
+            GROUP BY l.order_id, v.product_id
+            ORDER BY l.order_id
+            """, nativeQuery = true)
+    Stream<OrderProductView> streamSoldOrderProducts();
+
+    interface ProductSalesView {
+        UUID getProductId();
 
         Long getTotalQuantity();
     }
+
+    interface OrderProductView {
+        UUID getOrderId();
+
+        UUID getProductId();
+    }
 }
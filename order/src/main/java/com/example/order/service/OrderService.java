@@ -25,18 +25,22 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class OrderService {
+    private static final Set<String> SOLD_STATUSES = Set.of("PAID", "PROCESSING", "READY_FOR_PICKUP", "SHIPPED", "DELIVERED", "RECEIVED");
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final CartService cartService;
     private final InventoryService inventoryService;
     private final ProductVariantRepository variantRepository;
     private final OrderCheckoutAttemptRepository checkoutAttemptRepository;
+    private final ProductSalesService productSalesService;
 
     @Autowired
     public OrderService(OrderRepository orderRepository,
@@ -44,13 +48,15 @@ public class OrderService {
                         CartService cartService,
                         InventoryService inventoryService,
                         ProductVariantRepository variantRepository,
-                        OrderCheckoutAttemptRepository checkoutAttemptRepository) {
+                        OrderCheckoutAttemptRepository checkoutAttemptRepository,
+                        ProductSalesService productSalesService) {
         this.orderRepository = orderRepository;
         this.orderItemRepository = orderItemRepository;
         this.cartService = cartService;
         this.inventoryService = inventoryService;
         this.variantRepository = variantRepository;
         this.checkoutAttemptRepository = checkoutAttemptRepository;
+        this.productSalesService = productSalesService;
     }
 
     public Order createOrderFromCart(UUID cartId) {
@@ -232,6 +238,7 @@ public class OrderService {
         if (shouldRestock(previousStatus, normalizedStatus)) {
             restockOrderItems(order, "ORDER_STATUS_" + normalizedStatus, "restock-" + orderId + "-" + normalizedStatus.toLowerCase(Locale.ROOT));
         }
+        syncSales(order, normalizedStatus);
         return order;
     }
 
@@ -257,6 +264,17 @@ public class OrderService {
         }
     }
 
+    private void syncSales(Order order, String status) {
+        if (status == null) {
+            return;
+        }
+        if (SOLD_STATUSES.contains(status)) {
+            productSalesService.recordPaid(order);
+        } else if ("CANCELLED".equals(status) || "REFUNDED".equals(status)) {
+            productSalesService.reverse(order);
+        }
+    }
+
     private boolean shouldRestock(String previousStatus, String nextStatus) {
         if (nextStatus == null) {
             return false;
@@ -0,0 +1,279 @@
+package com.example.order.service;
+
+import com.example.order.repository.OrderItemRepository;
+import jakarta.transaction.Transactional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Stream;
+
+/**
+ * "Frequently bought together" counts: for each product, the number of sold orders that also contained
+ * each other product. Rows are sparse and held in memory sorted by count, so reads never query the
+ * database. Orders are added after the commit that counts them as sold and removed after the one that
+ * reverses them; a nightly job recounts the order history on a fork-join pool. Changes that land while
+ * a recount runs are applied to the live rows and also buffered, then replayed onto the recounted rows
+ * before they replace the live ones, skipping any the recount has already read.
+ */
+@Service
+public class ProductAffinityService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProductAffinityService.class);
+    private static final int SPLIT_THRESHOLD = 512;
+
+    private final OrderItemRepository orderItemRepository;
+    private final int maxBasketSize;
+    private final int minOrders;
+    private final Object lock = new Object();
+    private volatile Map<UUID, Row> rows = new ConcurrentHashMap<>();
+    private List<Delta> pending;
+
+    public ProductAffinityService(OrderItemRepository orderItemRepository,
+                                  @Value("${catalogue.recommendations.max-basket-size:50}") int maxBasketSize,
+                                  @Value("${catalogue.recommendations.min-orders:2}") int minOrders) {
+        this.orderItemRepository = orderItemRepository;
+        this.maxBasketSize = maxBasketSize;
+        this.minOrders = Math.max(1, minOrders);
+    }
+
+    /**
+     * Products most often sold together with {@code productId}, best first.
+     */
+    public List<UUID> frequentlyBoughtWith(UUID productId, int limit) {
+        Row row = productId != null ? rows.get(productId) : null;
+        if (row == null || limit <= 0) {
+            return List.of();
+        }
+        List<UUID> ids = new ArrayList<>(Math.min(limit, row.productIds().length));
+        for (int i = 0; i < row.productIds().length && ids.size() < limit && row.counts()[i] >= minOrders; i++) {
+            ids.add(row.productIds()[i]);
+        }
+        return ids;
+    }
+
+    void orderSold(UUID orderId) {
+        applyAfterCommit(orderId, 1);
+    }
+
+    void orderReversed(UUID orderId) {
+        applyAfterCommit(orderId, -1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void loadOnStartup() {
+        try {
+            recompute();
+        } catch (RuntimeException ex) {
+            log.warn("Failed to load frequently bought together counts", ex);
+        }
+    }
+
+    /**
+     * Recounts every sold order. The order history is read through a cursor, so this runs in a transaction.
+     */
+    @Scheduled(cron = "${catalogue.recommendations.recompute-cron:0 30 3 * * *}")
+    @Transactional
+    public void recompute() {
+        synchronized (lock) {
+            if (pending != null) {
+                log.info("Frequently bought together recount already running, skipping");
+                return;
+            }
+            pending = new ArrayList<>();
+        }
+        try {
+            List<UUID[]> baskets = new ArrayList<>();
+            Set<UUID> counted = new HashSet<>();
+            try (Stream<OrderItemRepository.OrderProductView> views = orderItemRepository.streamSoldOrderProducts()) {
+                UUID currentOrder = null;
+                List<UUID> basket = new ArrayList<>();
+                var iterator = views.iterator();
+                while (iterator.hasNext()) {
+                    OrderItemRepository.OrderProductView view = iterator.next();
+                    if (!view.getOrderId().equals(currentOrder)) {
+                        addBasket(baskets, basket);
+                        basket.clear();
+                        currentOrder = view.getOrderId();
+                        counted.add(currentOrder);
+                    }
+                    basket.add(view.getProductId());
+                }
+                addBasket(baskets, basket);
+            }
+
+            Map<UUID, Map<UUID, Integer>> counts = ForkJoinPool.commonPool().invoke(new PairCountTask(baskets, 0, baskets.size()));
+            Map<UUID, Row> next = new ConcurrentHashMap<>(counts.size());
+            counts.forEach((productId, neighbours) -> next.put(productId, Row.of(neighbours)));
+            int replayed = 0;
+            synchronized (lock) {
+                for (Delta delta : pending) {
+                    // A sale the recount already read, or a reversal of an order it never saw, is already
+                    // reflected in the recounted rows.
+                    boolean applies = delta.delta() > 0 ? counted.add(delta.orderId()) : counted.remove(delta.orderId());
+                    if (applies) {
+                        apply(next, delta.productIds(), delta.delta());
+                        replayed++;
+                    }
+                }
+                rows = next;
+            }
+            log.info("Recounted frequently bought together pairs for {} products from {} orders, replayed {} concurrent changes",
+                    next.size(), baskets.size(), replayed);
+        } finally {
+            synchronized (lock) {
+                pending = null;
+            }
+        }
+    }
+
+    private void applyAfterCommit(UUID orderId, int delta) {
+        List<UUID> productIds = orderItemRepository.findOrderProductIds(orderId);
+        if (productIds.size() < 2 || productIds.size() > maxBasketSize) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(orderId, productIds, delta);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(orderId, productIds, delta);
+            }
+        });
+    }
+
+    private void apply(UUID orderId, List<UUID> productIds, int delta) {
+        synchronized (lock) {
+            if (pending != null) {
+                pending.add(new Delta(orderId, productIds, delta));
+            }
+            apply(rows, productIds, delta);
+        }
+    }
+
+    private static void apply(Map<UUID, Row> target, List<UUID> productIds, int delta) {
+        for (UUID productId : productIds) {
+            Row row = target.get(productId);
+            Map<UUID, Integer> neighbours = row != null ? row.toMap() : new HashMap<>();
+            for (UUID other : productIds) {
+                if (!other.equals(productId)) {
+                    neighbours.merge(other, delta, Integer::sum);
+                }
+            }
+            neighbours.values().removeIf(count -> count <= 0);
+            if (neighbours.isEmpty()) {
+                target.remove(productId);
+            } else {
+                target.put(productId, Row.of(neighbours));
+            }
+        }
+    }
+
+    private void addBasket(List<UUID[]> baskets, List<UUID> basket) {
+        if (basket.size() >= 2 && basket.size() <= maxBasketSize) {
+            baskets.add(basket.toArray(UUID[]::new));
+        }
+    }
+
+    /**
+     * Counts product pairs over a range of baskets, splitting the range until it is small enough to count
+     * directly and merging the halves on the way back.
+     */
+    private static final class PairCountTask extends RecursiveTask<Map<UUID, Map<UUID, Integer>>> {
+
+        private final List<UUID[]> baskets;
+        private final int from;
+        private final int to;
+
+        PairCountTask(List<UUID[]> baskets, int from, int to) {
+            this.baskets = baskets;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<UUID, Map<UUID, Integer>> compute() {
+            if (to - from <= SPLIT_THRESHOLD) {
+                Map<UUID, Map<UUID, Integer>> counts = new HashMap<>();
+                for (int index = from; index < to; index++) {
+                    UUID[] basket = baskets.get(index);
+                    for (UUID productId : basket) {
+                        Map<UUID, Integer> neighbours = counts.computeIfAbsent(productId, ignored -> new HashMap<>());
+                        for (UUID other : basket) {
+                            if (!other.equals(productId)) {
+                                neighbours.merge(other, 1, Integer::sum);
+                            }
+                        }
+                    }
+                }
+                return counts;
+            }
+            int middle = (from + to) >>> 1;
+            PairCountTask left = new PairCountTask(baskets, from, middle);
+            left.fork();
+            Map<UUID, Map<UUID, Integer>> right = new PairCountTask(baskets, middle, to).compute();
+            Map<UUID, Map<UUID, Integer>> merged = left.join();
+            right.forEach((productId, neighbours) -> {
+                Map<UUID, Integer> target = merged.computeIfAbsent(productId, ignored -> new HashMap<>());
+                neighbours.forEach((other, count) -> target.merge(other, count, Integer::sum));
+            });
+            return merged;
+        }
+    }
+
+    /**
+     * A sale ({@code +1}) or reversal ({@code -1}) that committed while a recount was running.
+     */
+    private record Delta(UUID orderId, List<UUID> productIds, int delta) {
+    }
+
+    /**
+     * One sparse row: neighbour ids and their counts, highest count first.
+     */
+    private record Row(UUID[] productIds, int[] counts) {
+
+        static Row of(Map<UUID, Integer> neighbours) {
+            List<Map.Entry<UUID, Integer>> entries = neighbours.entrySet().stream()
+                    .filter(entry -> Objects.nonNull(entry.getValue()) && entry.getValue() > 0)
+                    .sorted(Map.Entry.<UUID, Integer>comparingByValue(Comparator.reverseOrder())
+                            .thenComparing(entry -> entry.getKey().toString()))
+                    .toList();
+            UUID[] productIds = new UUID[entries.size()];
+            int[] counts = new int[entries.size()];
+            for (int i = 0; i < productIds.length; i++) {
+                productIds[i] = entries.get(i).getKey();
+                counts[i] = entries.get(i).getValue();
+            }
+            return new Row(productIds, counts);
+        }
+
+        Map<UUID, Integer> toMap() {
+            Map<UUID, Integer> neighbours = new HashMap<>(productIds.length * 2);
+            for (int i = 0; i < productIds.length; i++) {
+                neighbours.put(productIds[i], counts[i]);
+            }
+            return neighbours;
+        }
+    }
+}
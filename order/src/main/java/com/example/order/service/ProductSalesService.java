@@ -0,0 +1,118 @@
+package com.example.order.service;
+
+import com.example.order.domain.Order;
+import com.example.order.repository.OrderItemRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Per-day paid unit counts behind the bestseller rankings. Orders are added when they become paid and
+ * subtracted when they are refunded or cancelled afterwards; a ledger keyed by order keeps both steps
+ * idempotent, so repeated webhooks or status edits never double count.
+ */
+@Service
+@Transactional
+public class ProductSalesService {
+
+    private final OrderItemRepository orderItemRepository;
+    private final ProductAffinityService affinityService;
+
+    public ProductSalesService(OrderItemRepository orderItemRepository, ProductAffinityService affinityService) {
+        this.orderItemRepository = orderItemRepository;
+        this.affinityService = affinityService;
+    }
+
+    public void recordPaid(Order order) {
+        if (order == null || order.getId() == null) {
+            return;
+        }
+        if (orderItemRepository.recordOrderSales(order.getId(), LocalDate.now(ZoneOffset.UTC)) > 0) {
+            affinityService.orderSold(order.getId());
+        }
+    }
+
+    public void reverse(Order order) {
+        if (order == null || order.getId() == null) {
+            return;
+        }
+        if (orderItemRepository.reverseOrderSales(order.getId()) > 0) {
+            affinityService.orderReversed(order.getId());
+        }
+    }
+
+    /**
+     * Active products ordered by units sold within {@code window}, best first.
+     */
+    public List<UUID> topProductIds(SalesWindow window, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        SalesWindow effectiveWindow = window != null ? window : SalesWindow.LAST_30_DAYS;
+        LocalDate since = LocalDate.now(ZoneOffset.UTC).minusDays(effectiveWindow.days() - 1L);
+        return orderItemRepository.findTopProductSales(since, limit).stream()
+                .map(OrderItemRepository.ProductSalesView::getProductId)
+                .toList();
+    }
+
+    /**
+     * Units sold within {@code window} per active product, best first.
+     */
+    public Map<UUID, Long> unitsSold(SalesWindow window, int limit) {
+        if (limit <= 0) {
+            return Map.of();
+        }
+        SalesWindow effectiveWindow = window != null ? window : SalesWindow.LAST_30_DAYS;
+        LocalDate since = LocalDate.now(ZoneOffset.UTC).minusDays(effectiveWindow.days() - 1L);
+        Map<UUID, Long> units = new LinkedHashMap<>();
+        orderItemRepository.findTopProductSales(since, limit)
+                .forEach(view -> units.put(view.getProductId(), view.getTotalQuantity()));
+        return units;
+    }
+
+    public enum SalesWindow {
+        LAST_7_DAYS(7),
+        LAST_30_DAYS(30),
+        LAST_90_DAYS(90);
+
+        private final int days;
+
+        SalesWindow(int days) {
+            this.days = days;
+        }
+
+        public int days() {
+            return days;
+        }
+
+        /**
+         * Accepts {@code 7d}, {@code 30d}, {@code 90d}, an optional {@code bestsellers_} prefix or a bare day
+         * count; anything else yields {@code null}.
+         */
+        public static SalesWindow parse(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            String normalized = value.trim().toLowerCase(Locale.ROOT);
+            if (normalized.startsWith("bestsellers_")) {
+                normalized = normalized.substring("bestsellers_".length());
+            }
+            if (normalized.endsWith("d")) {
+                normalized = normalized.substring(0, normalized.length() - 1);
+            }
+            for (SalesWindow window : values()) {
+                if (String.valueOf(window.days).equals(normalized)) {
+                    return window;
+                }
+            }
+            return null;
+        }
+    }
+}
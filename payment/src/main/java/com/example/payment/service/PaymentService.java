@@ -7,6 +7,7 @@ import com.example.order.domain.Order;
 import com.example.order.domain.OrderItem;
 import com.example.order.repository.OrderRepository;
 import com.example.order.service.OrderService;
+import com.example.order.service.ProductSalesService;
 import com.example.payment.domain.Payment;
 import com.example.payment.domain.PaymentRefund;
 import com.example.payment.domain.PaymentRefundItem;
@@ -49,6 +50,7 @@ public class PaymentService {
     private final OrderService orderService;
     private final FiscalConfigurationProvider fiscalConfigurationProvider;
     private final PromoCodeRedemptionRecorder promoCodeRedemptionRecorder;
+    private final ProductSalesService productSalesService;
 
     @Autowired
     public PaymentService(PaymentRepository paymentRepository,
@@ -60,7 +62,8 @@ public class PaymentService {
                           ObjectProvider<YooKassaClient> yooKassaClientProvider,
                           ObjectProvider<OrderService> orderServiceProvider,
                           ObjectProvider<FiscalConfigurationProvider> fiscalConfigurationProviderProvider,
-                          ObjectProvider<PromoCodeRedemptionRecorder> promoCodeRedemptionRecorderProvider) {
+                          ObjectProvider<PromoCodeRedemptionRecorder> promoCodeRedemptionRecorderProvider,
+                          ObjectProvider<ProductSalesService> productSalesServiceProvider) {
         this.paymentRepository = paymentRepository;
         this.paymentRefundRepository = paymentRefundRepository;
         this.paymentRefundItemRepository = paymentRefundItemRepositoryProvider.getIfAvailable();
@@ -71,6 +74,7 @@ public class PaymentService {
         this.orderService = orderServiceProvider.getIfAvailable();
         this.fiscalConfigurationProvider = fiscalConfigurationProviderProvider.getIfAvailable();
         this.promoCodeRedemptionRecorder = promoCodeRedemptionRecorderProvider.getIfAvailable();
+        this.productSalesService = productSalesServiceProvider.getIfAvailable();
     }
 
     public Payment createYooKassaPayment(UUID orderId,
@@ -473,6 +477,9 @@ public class PaymentService {
             order.setStatus("REFUNDED");
             orderRepository.save(order);
             restockOrder(order.getId(), "PAYMENT_REFUNDED", "restock-refund-" + order.getId());
+            if (productSalesService != null) {
+                productSalesService.reverse(order);
+            }
         }
         return payment;
     }
@@ -910,6 +917,9 @@ public class PaymentService {
         if (completedNow && promoCodeRedemptionRecorder != null) {
             promoCodeRedemptionRecorder.recordPaidOrder(order);
         }
+        if (completedNow && productSalesService != null) {
+            productSalesService.recordPaid(order);
+        }
     }
 
     private boolean isOrderPaid(Order order) {
@@ -79,6 +79,7 @@ mkdir -p "$RUNTIME_DIR"
 build_extension "$SOURCE_DIR/directus-endpoint-storefront-ops" "directus-endpoint-storefront-ops"
 build_extension "$SOURCE_DIR/directus-module-storefront-ops" "directus-module-storefront-ops"
 build_extension "$SOURCE_DIR/directus-panel-storefront-ops-launcher" "directus-panel-storefront-ops-launcher"
+build_extension "$SOURCE_DIR/directus-hook-storefront-content-cache" "directus-hook-storefront-content-cache"
 
 if [[ "$CHECK_MODE" == "true" ]]; then
   diff_file="$(mktemp)"
@@ -376,6 +376,9 @@ const choiceTranslations = {
     alphabetical: 'По алфавиту',
     price_asc: 'Цена: по возрастанию',
     price_desc: 'Цена: по убыванию',
+    bestsellers_7d: 'Хиты за 7 дней',
+    bestsellers_30d: 'Хиты за 30 дней',
+    bestsellers_90d: 'Хиты за 90 дней',
   },
   entity_kind: {
     product: 'Товар',